@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package benchmarks.environment;
+
+import memory.Environments;
+import memory.IEnvironment;
+import memory.IStateInt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the basic operations on a backtrackable int: modifications within a world,
+ * and modification followed by a world pop (the former value is trailed, then restored).
+ * <br/>
+ * Run with: <code>java -jar choco-benchmarks/target/benchmarks.jar StoredIntBenchmark</code>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StoredIntBenchmark {
+
+    @Param({"TRAIL", "UNIFIED", "BUFFER"})
+    public String environment;
+
+    @Param({"1", "64"})
+    public int nbInts;
+
+    IEnvironment env;
+    IStateInt[] ints;
+    int value;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        env = Environments.valueOf(environment).make();
+        ints = new IStateInt[nbInts];
+        for (int i = 0; i < nbInts; i++) {
+            ints[i] = env.makeInt(0);
+        }
+        env.worldPush();
+    }
+
+    /**
+     * Modifies each int within the same world: only the first modification, if any, is trailed.
+     */
+    @Benchmark
+    public int set() {
+        value++;
+        for (int i = 0; i < nbInts; i++) {
+            ints[i].set(value);
+        }
+        return ints[0].get();
+    }
+
+    /**
+     * Opens a world, modifies each int, then backtracks.
+     */
+    @Benchmark
+    public int setAndWorldPop() {
+        env.worldPush();
+        value++;
+        for (int i = 0; i < nbInts; i++) {
+            ints[i].set(value);
+        }
+        env.worldPop();
+        return ints[0].get();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package benchmarks.environment;
+
+import memory.Environments;
+import memory.IEnvironment;
+import memory.IStateBool;
+import memory.IStateInt;
+import memory.IStateLong;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the backtracking environments on a simulated search: a dive of <code>depth</code> worlds,
+ * each of them modifying a fraction of backtrackable ints, booleans and longs, followed by a complete backtrack.
+ * <br/>
+ * Run with: <code>java -jar choco-benchmarks/target/benchmarks.jar TrailBenchmark</code>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TrailBenchmark {
+
+    @Param({"TRAIL", "UNIFIED", "BUFFER", "BUFFER_UNSAFE"})
+    public String environment;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"50"})
+    public int depth;
+
+    IEnvironment env;
+    IStateInt[] ints;
+    IStateBool[] bools;
+    IStateLong[] longs;
+
+    // indices of the objects modified in each world, precomputed to keep randomness out of the measure
+    int[][] modified;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        env = Environments.valueOf(environment).make();
+        ints = new IStateInt[size];
+        bools = new IStateBool[size];
+        longs = new IStateLong[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = env.makeInt(i);
+            bools[i] = env.makeBool(false);
+            longs[i] = env.makeLong(i);
+        }
+        Random rnd = new Random(0);
+        modified = new int[depth][];
+        for (int d = 0; d < depth; d++) {
+            modified[d] = new int[size / 10 + 1];
+            for (int j = 0; j < modified[d].length; j++) {
+                modified[d][j] = rnd.nextInt(size);
+            }
+        }
+        // the root world is backed up, as a search loop does before the initial propagation
+        env.worldPush();
+    }
+
+    @Benchmark
+    public int diveAndBacktrack() {
+        int root = env.getWorldIndex();
+        for (int d = 0; d < depth; d++) {
+            env.worldPush();
+            int[] idx = modified[d];
+            for (int j = 0; j < idx.length; j++) {
+                int i = idx[j];
+                ints[i].add(1);
+                bools[i].set(!bools[i].get());
+                longs[i].set(longs[i].get() + d);
+            }
+        }
+        env.worldPopUntil(root);
+        return ints[0].get();
+    }
+
+    @Benchmark
+    public int pushAndPop() {
+        int sum = 0;
+        for (int d = 0; d < depth; d++) {
+            env.worldPush();
+            int[] idx = modified[d];
+            for (int j = 0; j < idx.length; j++) {
+                ints[idx[j]].set(d);
+            }
+            env.worldPop();
+            sum += ints[idx[0]].get();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package benchmarks.propagation;
+
+import org.openjdk.jmh.annotations.*;
+import samples.AbstractProblem;
+import samples.integer.AirPlaneLanding;
+import samples.integer.CarSequencing;
+import samples.nqueen.NQueenBinary;
+import samples.nqueen.NQueenGlobal;
+import solver.propagation.PropagationEngineFactory;
+import solver.search.loop.monitors.SearchMonitorFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the propagation engines on the resolution of some models of choco-samples.
+ * The tree search is bounded by a node limit, so that every engine explores the same amount of nodes
+ * (the strategies are deterministic).
+ * <br/>
+ * Run with: <code>java -jar choco-benchmarks/target/benchmarks.jar EngineBenchmark</code>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EngineBenchmark {
+
+    public enum Model {
+        NQUEEN_BINARY {
+            @Override
+            AbstractProblem make() {
+                NQueenBinary pb = new NQueenBinary();
+                pb.readArgs("-q", "12");
+                return pb;
+            }
+        },
+        NQUEEN_GLOBAL {
+            @Override
+            AbstractProblem make() {
+                NQueenGlobal pb = new NQueenGlobal();
+                pb.readArgs("-q", "12");
+                return pb;
+            }
+        },
+        CAR_SEQUENCING {
+            @Override
+            AbstractProblem make() {
+                return new CarSequencing();
+            }
+        },
+        AIRPLANE_LANDING {
+            @Override
+            AbstractProblem make() {
+                return new AirPlaneLanding();
+            }
+        };
+
+        abstract AbstractProblem make();
+    }
+
+    @Param({"NQUEEN_BINARY", "NQUEEN_GLOBAL", "CAR_SEQUENCING", "AIRPLANE_LANDING"})
+    public Model model;
+
+    @Param({"PROPAGATORDRIVEN", "PROPAGATORDRIVEN_7QD", "DSLDRIVEN"})
+    public PropagationEngineFactory engine;
+
+    @Param({"20000"})
+    public long nodes;
+
+    AbstractProblem problem;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        problem = model.make();
+        problem.createSolver();
+        problem.buildModel();
+        problem.configureSearch();
+        problem.getSolver().set(engine.make(problem.getSolver()));
+        SearchMonitorFactory.limitNode(problem.getSolver(), nodes);
+    }
+
+    @Benchmark
+    public long solve() {
+        problem.solve();
+        return problem.getSolver().getMeasures().getNodeCount();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package benchmarks.variables;
+
+import org.openjdk.jmh.annotations.*;
+import solver.Cause;
+import solver.Solver;
+import solver.exception.ContradictionException;
+import solver.variables.IntVar;
+import solver.variables.VariableFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bitset-based ({@link solver.variables.fast.BitsetIntVarImpl})
+ * and the interval-based ({@link solver.variables.fast.IntervalIntVarImpl}) integer domains
+ * on value removals and bound updates.
+ * Each benchmark opens a world, reduces the domain down to a few values, then backtracks.
+ * <br/>
+ * Run with: <code>java -jar choco-benchmarks/target/benchmarks.jar IntDomainBenchmark</code>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IntDomainBenchmark {
+
+    @Param({"BITSET", "INTERVAL"})
+    public String domain;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    Solver solver;
+    IntVar var;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        solver = new Solver("IntDomainBenchmark");
+        if (domain.equals("BITSET")) {
+            var = VariableFactory.enumerated("x", 0, size - 1, solver);
+        } else {
+            var = VariableFactory.bounded("x", 0, size - 1, solver);
+        }
+        solver.getEnvironment().worldPush();
+    }
+
+    /**
+     * Removes values one by one, from the lower bound upward, so that both domains are reduced.
+     */
+    @Benchmark
+    public int removeValue() throws ContradictionException {
+        solver.getEnvironment().worldPush();
+        for (int v = 0; v < size - 1; v++) {
+            var.removeValue(v, Cause.Null);
+        }
+        int lb = var.getLB();
+        solver.getEnvironment().worldPop();
+        return lb;
+    }
+
+    /**
+     * Narrows the domain from both sides, one unit at a time.
+     */
+    @Benchmark
+    public int updateBounds() throws ContradictionException {
+        solver.getEnvironment().worldPush();
+        int lb = 0, ub = size - 1;
+        while (lb < ub - 1) {
+            var.updateLowerBound(++lb, Cause.Null);
+            var.updateUpperBound(--ub, Cause.Null);
+        }
+        int s = var.getDomainSize();
+        solver.getEnvironment().worldPop();
+        return s;
+    }
+
+    /**
+     * Narrows the domain in one step.
+     */
+    @Benchmark
+    public int updateBoundsAtOnce() throws ContradictionException {
+        solver.getEnvironment().worldPush();
+        var.updateLowerBound(size / 3, Cause.Null);
+        var.updateUpperBound(2 * size / 3, Cause.Null);
+        int s = var.getDomainSize();
+        solver.getEnvironment().worldPop();
+        return s;
+    }
+}
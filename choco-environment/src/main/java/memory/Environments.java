@@ -29,6 +29,7 @@ package memory;
 import memory.buffer.EnvironmentBuffering;
 import memory.copy.EnvironmentCopying;
 import memory.trailing.EnvironmentTrailing;
+import memory.unified.EnvironmentUnifiedTrailing;
 
 /**
  * <br/>
@@ -45,6 +46,13 @@ public enum Environments {
                     new EnvironmentTrailing();
         }
     },
+    UNIFIED() {
+        @Override
+        public IEnvironment make() {
+            return
+                    new EnvironmentUnifiedTrailing();
+        }
+    },
     COPY() {
         @Override
         public IEnvironment make() {
@@ -74,4 +82,24 @@ public enum Environments {
     };
 
     public abstract IEnvironment make();
+
+    /**
+     * Return the kind of <code>environment</code>, to make a new environment of the same kind.
+     *
+     * @param environment an environment
+     * @return the kind of <code>environment</code>
+     * @throws EnvironmentException if <code>environment</code> is not of a known kind
+     */
+    public static Environments of(IEnvironment environment) {
+        if (environment instanceof EnvironmentTrailing) {
+            return TRAIL;
+        } else if (environment instanceof EnvironmentUnifiedTrailing) {
+            return UNIFIED;
+        } else if (environment instanceof EnvironmentCopying) {
+            return COPY;
+        } else if (environment instanceof EnvironmentBuffering) {
+            return ((EnvironmentBuffering) environment).isUnsafe() ? BUFFER_UNSAFE : BUFFER;
+        }
+        throw new EnvironmentException("Unknown environment: " + environment.getClass().getSimpleName());
+    }
 }
@@ -67,6 +67,13 @@ public class EnvironmentBuffering extends AbstractEnvironment {
         this.unsafe = unsafe;
     }
 
+    /**
+     * @return <code>true</code> if the buffers rely on unsafe memory accesses
+     */
+    public boolean isUnsafe() {
+        return unsafe;
+    }
+
     @Override
     public void worldPush() {
         final int wi = currentWorld + 1;
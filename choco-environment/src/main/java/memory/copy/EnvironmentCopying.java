@@ -46,23 +46,28 @@ public class EnvironmentCopying extends AbstractEnvironment {
 
     private boolean newEl = false;
 
-    protected final static TIntStack clonedWorldIdxStack;
+    protected final TIntStack clonedWorldIdxStack;
 
-    public static RcInt[] elementsI;
-    public static RcVector[] elementsV;
-    public static RcIntVector[] elementsIV;
-    public static RcBool[] elementsB;
-    public static RcLong[] elementsL;
-    public static RcDouble[] elementsD;
-    public static RcObject[] elementsO;
+    RcInt[] elementsI;
+    RcVector[] elementsV;
+    RcIntVector[] elementsIV;
+    RcBool[] elementsB;
+    RcLong[] elementsL;
+    RcDouble[] elementsD;
+    RcObject[] elementsO;
 
-    public static int[] indices;
-    private static RcSave save;
+    final int[] indices;
+    private final RcSave save;
 
     public int nbCopy = 0;
 
 
-    static {
+    /**
+     * Create a copying environment.
+     * Every recomputable element and every snapshot is owned by the instance,
+     * so that several copying environments can live, and be used concurrently, in the same JVM.
+     */
+    public EnvironmentCopying() {
         elementsI = new RcInt[64];
         elementsV = new RcVector[64];
         elementsIV = new RcIntVector[64];
@@ -72,12 +77,6 @@ public class EnvironmentCopying extends AbstractEnvironment {
         elementsO = new RcObject[64];
         indices = new int[NB_TYPE];
         clonedWorldIdxStack = new TIntArrayStack();
-    }
-
-
-    public EnvironmentCopying() {
-        for (int i = NB_TYPE; --i >= 0; ) indices[i] = 0;
-        clonedWorldIdxStack.clear();
         save = new RcSave(this);
     }
 
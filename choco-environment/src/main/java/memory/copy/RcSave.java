@@ -27,8 +27,6 @@
 
 package memory.copy;
 
-import gnu.trove.map.hash.TIntObjectHashMap;
-
 /*
  * Created by IntelliJ IDEA.
  * User: Julien
@@ -48,126 +46,140 @@ public final class RcSave implements RecomputableElement {
 
     private int lastSavedWorldIndex;
 
-
-    private static final TIntObjectHashMap<int[]> saveInt;
-    private static final TIntObjectHashMap<Object[][]> saveVector;
-    private static final TIntObjectHashMap<int[][]> saveIntVector;
-    private static final TIntObjectHashMap<boolean[]> saveBool;
-    private static final TIntObjectHashMap<long[]> saveLong;
-    private static final TIntObjectHashMap<double[]> saveDouble;
-    private static final TIntObjectHashMap<Object[]> saveObject;
-
-
-    static {
-        saveInt = new TIntObjectHashMap<int[]>();
-        saveVector = new TIntObjectHashMap<Object[][]>();
-        saveIntVector = new TIntObjectHashMap<int[][]>();
-        saveBool = new TIntObjectHashMap<boolean[]>();
-        saveLong = new TIntObjectHashMap<long[]>();
-        saveDouble = new TIntObjectHashMap<double[]>();
-        saveObject = new TIntObjectHashMap<Object[]>();
-    }
+    // snapshots, indexed by world: each world stores one packed primitive array per type
+    private int[][] saveInt;
+    private Object[][][] saveVector;
+    private int[][][] saveIntVector;
+    private boolean[][] saveBool;
+    private long[][] saveLong;
+    private double[][] saveDouble;
+    private Object[][] saveObject;
 
 
     public RcSave(EnvironmentCopying env) {
         lastSavedWorldIndex = env.getWorldIndex();
+        saveInt = new int[16][];
+        saveVector = new Object[16][][];
+        saveIntVector = new int[16][][];
+        saveBool = new boolean[16][];
+        saveLong = new long[16][];
+        saveDouble = new double[16][];
+        saveObject = new Object[16][];
+    }
 
-        saveInt.clear();
-        saveVector.clear();
-        saveIntVector.clear();
-        saveBool.clear();
-        saveLong.clear();
-        saveDouble.clear();
-        saveObject.clear();
+    private void ensureCapacity(int worldIndex) {
+        if (worldIndex >= saveInt.length) {
+            int newSize = saveInt.length * 3 / 2 + 1;
+            while (worldIndex >= newSize) {
+                newSize = (3 * newSize) / 2 + 1;
+            }
+            int[][] tmpint = saveInt;
+            saveInt = new int[newSize][];
+            System.arraycopy(tmpint, 0, saveInt, 0, tmpint.length);
+            Object[][][] tmpvec = saveVector;
+            saveVector = new Object[newSize][][];
+            System.arraycopy(tmpvec, 0, saveVector, 0, tmpvec.length);
+            int[][][] tmpintvec = saveIntVector;
+            saveIntVector = new int[newSize][][];
+            System.arraycopy(tmpintvec, 0, saveIntVector, 0, tmpintvec.length);
+            boolean[][] tmpbool = saveBool;
+            saveBool = new boolean[newSize][];
+            System.arraycopy(tmpbool, 0, saveBool, 0, tmpbool.length);
+            long[][] tmplong = saveLong;
+            saveLong = new long[newSize][];
+            System.arraycopy(tmplong, 0, saveLong, 0, tmplong.length);
+            double[][] tmpdouble = saveDouble;
+            saveDouble = new double[newSize][];
+            System.arraycopy(tmpdouble, 0, saveDouble, 0, tmpdouble.length);
+            Object[][] tmpobject = saveObject;
+            saveObject = new Object[newSize][];
+            System.arraycopy(tmpobject, 0, saveObject, 0, tmpobject.length);
+        }
     }
 
 
     public void save(int worldIndex) {
         if (lastSavedWorldIndex >= worldIndex)
             lastSavedWorldIndex = 0;
+        ensureCapacity(worldIndex);
 
-        boolean[] tmpbool = new boolean[currentElementB.length];
+        // arrays of a previously explored world are reused when the number of elements did not change
+        boolean[] tmpbool = saveBool[worldIndex];
+        if (tmpbool == null || tmpbool.length != currentElementB.length) {
+            tmpbool = saveBool[worldIndex] = new boolean[currentElementB.length];
+        }
         for (int i = currentElementB.length; --i >= 0; ) {
             tmpbool[i] = currentElementB[i].deepCopy();
         }
-        saveBool.put(worldIndex, tmpbool);
 
-        int[] tmpint = new int[currentElementI.length];
+        int[] tmpint = saveInt[worldIndex];
+        if (tmpint == null || tmpint.length != currentElementI.length) {
+            tmpint = saveInt[worldIndex] = new int[currentElementI.length];
+        }
         for (int i = currentElementI.length; --i >= 0; ) {
             tmpint[i] = currentElementI[i].deepCopy();
         }
-        saveInt.put(worldIndex, tmpint);
-
-        if (currentElementV.length > 0) {
-            Object[][] tmpvec = new Object[currentElementV.length][];
-            for (int i = currentElementV.length; --i >= 0; ) {
-                if (worldIndex != 0 && lastSavedWorldIndex >= (currentElementV[i]).getTimeStamp())
-                    tmpvec[i] = saveVector.get(lastSavedWorldIndex)[i];
-                else
-                    tmpvec[i] = currentElementV[i].deepCopy();
-            }
-            saveVector.put(worldIndex, tmpvec);
-        } else {
-            saveVector.put(worldIndex, new Object[0][0]);
+
+        Object[][] tmpvec = saveVector[worldIndex];
+        if (tmpvec == null || tmpvec.length != currentElementV.length) {
+            tmpvec = saveVector[worldIndex] = new Object[currentElementV.length][];
+        }
+        for (int i = currentElementV.length; --i >= 0; ) {
+            if (worldIndex != 0 && lastSavedWorldIndex >= (currentElementV[i]).getTimeStamp())
+                tmpvec[i] = saveVector[lastSavedWorldIndex][i];
+            else
+                tmpvec[i] = currentElementV[i].deepCopy();
         }
 
-        if (currentElementIV.length > 0) {
-            int[][] tmpintvec = new int[currentElementIV.length][];
-            for (int i = currentElementIV.length; --i >= 0; ) {
-                if (worldIndex != 0 && lastSavedWorldIndex >= (currentElementIV[i]).getTimeStamp())
-                    tmpintvec[i] = saveIntVector.get(lastSavedWorldIndex)[i];
-                else
-                    tmpintvec[i] = currentElementIV[i].deepCopy();
-            }
-            saveIntVector.put(worldIndex, tmpintvec);
-        } else {
-            saveIntVector.put(worldIndex, new int[0][0]);
+        int[][] tmpintvec = saveIntVector[worldIndex];
+        if (tmpintvec == null || tmpintvec.length != currentElementIV.length) {
+            tmpintvec = saveIntVector[worldIndex] = new int[currentElementIV.length][];
+        }
+        for (int i = currentElementIV.length; --i >= 0; ) {
+            if (worldIndex != 0 && lastSavedWorldIndex >= (currentElementIV[i]).getTimeStamp())
+                tmpintvec[i] = saveIntVector[lastSavedWorldIndex][i];
+            else
+                tmpintvec[i] = currentElementIV[i].deepCopy();
         }
 
-        long[] tmplong = new long[currentElementL.length];
+        long[] tmplong = saveLong[worldIndex];
+        if (tmplong == null || tmplong.length != currentElementL.length) {
+            tmplong = saveLong[worldIndex] = new long[currentElementL.length];
+        }
         for (int i = currentElementL.length; --i >= 0; ) {
             tmplong[i] = currentElementL[i].deepCopy();
         }
-        saveLong.put(worldIndex, tmplong);
 
-        if (currentElementD.length > 0) {
-            double[] tmpdouble = new double[currentElementD.length];
-            for (int i = currentElementD.length; --i >= 0; ) {
-                tmpdouble[i] = currentElementD[i].deepCopy();
-            }
-            saveDouble.put(worldIndex, tmpdouble);
-        } else {
-            saveDouble.put(worldIndex, new double[0]);
+        double[] tmpdouble = saveDouble[worldIndex];
+        if (tmpdouble == null || tmpdouble.length != currentElementD.length) {
+            tmpdouble = saveDouble[worldIndex] = new double[currentElementD.length];
         }
-
-        if (currentElementO.length > 0) {
-            Object[] tmpobject = new Object[currentElementO.length];
-            for (int i = currentElementO.length; --i >= 0; ) {
-                if (worldIndex != 0 && lastSavedWorldIndex >= (currentElementO[i]).getTimeStamp())
-                    tmpobject[i] = saveObject.get(lastSavedWorldIndex)[i];
-                else
-                    tmpobject[i] = currentElementO[i].deepCopy();
-            }
-            saveObject.put(worldIndex, tmpobject);
-        } else {
-            saveObject.put(worldIndex, new Object[0]);
+        for (int i = currentElementD.length; --i >= 0; ) {
+            tmpdouble[i] = currentElementD[i].deepCopy();
         }
 
+        Object[] tmpobject = saveObject[worldIndex];
+        if (tmpobject == null || tmpobject.length != currentElementO.length) {
+            tmpobject = saveObject[worldIndex] = new Object[currentElementO.length];
+        }
+        for (int i = currentElementO.length; --i >= 0; ) {
+            if (worldIndex != 0 && lastSavedWorldIndex >= (currentElementO[i]).getTimeStamp())
+                tmpobject[i] = saveObject[lastSavedWorldIndex][i];
+            else
+                tmpobject[i] = currentElementO[i].deepCopy();
+        }
 
         lastSavedWorldIndex = worldIndex;
-
-
     }
 
     public void restore(int worldIndex) {
-        boolean[] tmpbool = saveBool.get(worldIndex);
-        int[] tmpint = saveInt.get(worldIndex);
-        Object[][] tmpvec = saveVector.get(worldIndex);
-        int[][] tmpintvec = saveIntVector.get(worldIndex);
-        long[] tmplong = saveLong.get(worldIndex);
-        double[] tmpdouble = saveDouble.get(worldIndex);
-        Object[] tmpobject = saveObject.get(worldIndex);
-        //saveVector.remove(worldIndex);
+        boolean[] tmpbool = saveBool[worldIndex];
+        int[] tmpint = saveInt[worldIndex];
+        Object[][] tmpvec = saveVector[worldIndex];
+        int[][] tmpintvec = saveIntVector[worldIndex];
+        long[] tmplong = saveLong[worldIndex];
+        double[] tmpdouble = saveDouble[worldIndex];
+        Object[] tmpobject = saveObject[worldIndex];
 
         for (int i = tmpbool.length; --i >= 0; )
             currentElementB[i]._set(tmpbool[i], worldIndex);
@@ -183,35 +195,6 @@ public final class RcSave implements RecomputableElement {
             currentElementD[i]._set(tmpdouble[i], worldIndex);
         for (int i = tmpobject.length; --i >= 0; )
             currentElementO[i]._set(tmpobject[i], worldIndex);
-
-//        if (worldIndex == 0)
-//            clearMaps();
-//        else
-//            remove(worldIndex+1);
-        //          removeLast();
-
-
-    }
-
-    public static void remove(int worldIndex) {
-//        saveInt.remove(worldIndex);
-//        saveVector.remove(worldIndex);
-//        saveIntVector.remove(worldIndex);
-//        saveBool.remove(worldIndex);
-//        saveLong.remove(worldIndex);
-//        saveDouble.remove(worldIndex);
-//        saveObject.remove(worldIndex);
-    }
-
-
-    private static void clearMaps() {
-        saveInt.clear();
-        saveVector.clear();
-        saveIntVector.clear();
-        saveBool.clear();
-        saveLong.clear();
-        saveDouble.clear();
-        saveObject.clear();
     }
 
 
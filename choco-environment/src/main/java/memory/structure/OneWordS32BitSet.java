@@ -370,7 +370,7 @@ public class OneWordS32BitSet implements IStateBitSet {
             fromIndex = 0;
         }
 
-        if (fromIndex >= 64)
+        if (fromIndex >= BITS_PER_WORD)
             return fromIndex;
 
         int word = ~this.word.get() & (WORD_MASK << fromIndex);
@@ -378,7 +378,7 @@ public class OneWordS32BitSet implements IStateBitSet {
         if (word != 0)
             return Integer.numberOfTrailingZeros(word);
         else
-            return 0;
+            return BITS_PER_WORD;
     }
 
     /**
@@ -91,7 +91,7 @@ public class S64BitSet implements IStateBitSet {
      * set.  WARNING:This method assumes that the number of words actually
      * in use is less than or equal to the current value of wordsInUse!
      */
-    private void recalculateWordsInUse() {
+    protected void recalculateWordsInUse() {
         // Traverse the bitset until a used word is found
         int i;
         int n = wordsInUse.get();
@@ -187,7 +187,7 @@ public class S64BitSet implements IStateBitSet {
      *
      * @param wordIndex the index to be accommodated.
      */
-    private void expandTo(int wordIndex) {
+    protected void expandTo(int wordIndex) {
         int wordsRequired = wordIndex + 1;
         if (wordsInUse.get() < wordsRequired) {
             ensureCapacity(wordsRequired);
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package memory.unified;
+
+import java.io.Serializable;
+
+/**
+ * Super class of every backtrackable object managed by a {@link EnvironmentUnifiedTrailing}.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public abstract class AbstractUnifiedObject implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The current {@link EnvironmentUnifiedTrailing}.
+     */
+    protected final EnvironmentUnifiedTrailing environment;
+
+    /**
+     * The last world the object was modified in.
+     */
+    public int worldStamp;
+
+    protected AbstractUnifiedObject(EnvironmentUnifiedTrailing environment) {
+        this.environment = environment;
+        this.worldStamp = environment.getWorldIndex();
+    }
+
+    public final EnvironmentUnifiedTrailing getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Restores a former value, without storing the current one on the trail.
+     *
+     * @param value  the former value, encoded as a long
+     * @param index  index of the value within the object (for vectors), 0 otherwise
+     * @param wstamp the stamp of the world in which the former value was written
+     */
+    public abstract void _restore(long value, int index, int wstamp);
+
+    /**
+     * The world in which the value at <code>index</code> was modified is committed: move its stamp to <code>world</code>.
+     *
+     * @param index index of the value within the object (for vectors), 0 otherwise
+     * @param world the world the committed one is merged into
+     */
+    public void _commit(int index, int world) {
+        worldStamp = world;
+    }
+}
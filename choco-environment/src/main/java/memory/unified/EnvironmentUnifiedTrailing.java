@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package memory.unified;
+
+import memory.*;
+import memory.structure.Operation;
+
+/**
+ * A trailing environment based on one single trail, shared by every type of backtrackable objects.
+ * <p/>
+ * Unlike {@link memory.trailing.EnvironmentTrailing}, which maintains one trail per type of data,
+ * each update is stored in the same stack: the modified object, and two interleaved longs,
+ * the former value (encoded as a long) and the former world stamp (with, for vectors, the index of the entry).
+ * Only one world-start table is maintained, so a backtrack is a single linear scan of the trail.
+ * <br/>
+ * Former values which cannot be encoded as a long (objects, operations) are pushed on a side stack of references,
+ * the trail then records their position in that stack.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class EnvironmentUnifiedTrailing extends AbstractEnvironment {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The initial numbers of updates the trail can handle.
+     */
+    private static final int MaxHist = 5000;
+
+    /**
+     * The initial numbers of worlds the trail can handle.
+     */
+    private static final int MaxWorld = 100;
+
+    /**
+     * Stack of modified objects.
+     */
+    private AbstractUnifiedObject[] objectStack;
+
+    /**
+     * Stack of former values and stamps: for the i<sup>th</sup> update,
+     * the former value is stored at 2*i, the former stamp and the index of the entry at 2*i+1.
+     */
+    private long[] valueStack;
+
+    /**
+     * Points the level of the last entry.
+     */
+    private int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Stack of former references, for objects and operations.
+     */
+    private Object[] referenceStack;
+
+    /**
+     * Number of references in use.
+     */
+    private int nbReferences;
+
+    /**
+     * Undoes the operations, shared by all of them.
+     */
+    private final UnifiedOperation operations;
+
+    public EnvironmentUnifiedTrailing() {
+        objectStack = new AbstractUnifiedObject[MaxHist];
+        valueStack = new long[MaxHist << 1];
+        worldStartLevels = new int[MaxWorld];
+        referenceStack = new Object[16];
+        currentLevel = 0;
+        operations = new UnifiedOperation(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPush() {
+        final int wi = currentWorld + 1;
+        if (wi == worldStartLevels.length) {
+            int[] tmp = worldStartLevels;
+            worldStartLevels = new int[tmp.length * 3 / 2];
+            System.arraycopy(tmp, 0, worldStartLevels, 0, tmp.length);
+        }
+        worldStartLevels[wi] = currentLevel;
+        currentWorld++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPop() {
+        final int wsl = worldStartLevels[currentWorld];
+        while (currentLevel > wsl) {
+            currentLevel--;
+            final int e = currentLevel << 1;
+            final long meta = valueStack[e + 1];
+            objectStack[currentLevel]._restore(valueStack[e], (int) (meta >>> 32), (int) meta);
+        }
+        currentWorld--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldCommit() {
+        // principle, as in the trailing environment:
+        //   the updates of the committed world are scanned:
+        //     if their stamp is the previous world, a former update of that world is already on the trail: discard it
+        //     otherwise keep it (shifting it if needed) and move the stamp of the object to the previous world
+        if (currentWorld == 0) {
+            throw new IllegalStateException("Commit in world 0?");
+        }
+        final int startLevel = worldStartLevels[currentWorld];
+        final int prevWorld = currentWorld - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            final int e = level << 1;
+            final long meta = valueStack[e + 1];
+            final AbstractUnifiedObject object = objectStack[level];
+            object._commit((int) (meta >>> 32), prevWorld);
+            if ((int) meta != prevWorld) {
+                if (writeIdx != level) {
+                    final int w = writeIdx << 1;
+                    objectStack[writeIdx] = object;
+                    valueStack[w] = valueStack[e];
+                    valueStack[w + 1] = meta;
+                }
+                writeIdx++;
+            }
+        }
+        for (int level = writeIdx; level < currentLevel; level++) {
+            objectStack[level] = null;
+        }
+        currentLevel = writeIdx;
+        currentWorld--;
+    }
+
+    /**
+     * Reacts when a backtrackable object is modified: push the former value, the index of the entry
+     * and timestamp on the trail.
+     *
+     * @param object   the modified object
+     * @param oldValue the former value, encoded as a long
+     * @param index    index of the modified entry (for vectors), 0 otherwise
+     * @param oldStamp the former world stamp
+     */
+    public void savePreviousState(AbstractUnifiedObject object, long oldValue, int index, int oldStamp) {
+        if (currentLevel == objectStack.length) {
+            resizeUpdateCapacity();
+        }
+        final int e = currentLevel << 1;
+        objectStack[currentLevel] = object;
+        valueStack[e] = oldValue;
+        valueStack[e + 1] = ((long) index << 32) | (oldStamp & 0xFFFFFFFFL);
+        currentLevel++;
+    }
+
+    /**
+     * Push a former reference on the side stack.
+     *
+     * @param reference the former reference
+     * @return its position, to be recorded on the trail
+     */
+    int pushReference(Object reference) {
+        if (nbReferences == referenceStack.length) {
+            Object[] tmp = referenceStack;
+            referenceStack = new Object[tmp.length * 3 / 2 + 1];
+            System.arraycopy(tmp, 0, referenceStack, 0, tmp.length);
+        }
+        referenceStack[nbReferences] = reference;
+        return nbReferences++;
+    }
+
+    /**
+     * Pop the former reference at <code>position</code>, and the ones above it
+     * (discarded on a world commit).
+     *
+     * @param position position of the reference, as returned by {@link #pushReference(Object)}
+     * @return the former reference
+     */
+    Object popReference(int position) {
+        final Object reference = referenceStack[position];
+        for (int i = position; i < nbReferences; i++) {
+            referenceStack[i] = null;
+        }
+        nbReferences = position;
+        return reference;
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (objectStack.length * 3) / 2;
+        final AbstractUnifiedObject[] tmp1 = new AbstractUnifiedObject[newCapacity];
+        System.arraycopy(objectStack, 0, tmp1, 0, objectStack.length);
+        objectStack = tmp1;
+        final long[] tmp2 = new long[newCapacity << 1];
+        System.arraycopy(valueStack, 0, tmp2, 0, valueStack.length);
+        valueStack = tmp2;
+    }
+
+    /**
+     * Returns the current size of the trail.
+     */
+    public int getSize() {
+        return currentLevel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt() {
+        return makeInt(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt(int initialValue) {
+        return new UnifiedInt(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeIntProcedure(IStateIntProcedure procedure, int initialValue) {
+        return new UnifiedIntProcedure(this, procedure, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateBool makeBool(boolean initialValue) {
+        return new UnifiedBool(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector() {
+        return new UnifiedIntVector(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector(int size, int initialValue) {
+        return new UnifiedIntVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector(int[] entries) {
+        return new UnifiedIntVector(this, entries);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector() {
+        return new UnifiedDoubleVector(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector(int size, double initialValue) {
+        return new UnifiedDoubleVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector(double[] entries) {
+        return new UnifiedDoubleVector(this, entries);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> IStateVector<T> makeVector() {
+        return new UnifiedVector<T>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat() {
+        return makeFloat(Double.NaN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat(double initialValue) {
+        return new UnifiedDouble(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong() {
+        return makeLong(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong(long init) {
+        return new UnifiedLong(this, init);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateObject makeObject(Object obj) {
+        return new UnifiedObject(this, obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(Operation operation) {
+        // an operation has no stamp: -1 ensures it is never discarded on a world commit
+        savePreviousState(operations, pushReference(operation), 0, -1);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package memory.unified;
+
+import memory.IStateInt;
+
+/**
+ * A backtrackable integer stored on the unified trail.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class UnifiedInt extends AbstractUnifiedObject implements IStateInt {
+
+    private static final long serialVersionUID = 1L;
+
+    private int currentValue;
+
+    public UnifiedInt(EnvironmentUnifiedTrailing env, int i) {
+        super(env);
+        currentValue = i;
+    }
+
+    @Override
+    public final int add(int delta) {
+        int res = currentValue + delta;
+        set(res);
+        return res;
+    }
+
+    @Override
+    public final int get() {
+        return currentValue;
+    }
+
+    @Override
+    public final void set(int y) {
+        if (y != currentValue) {
+            final int wi = environment.getWorldIndex();
+            if (this.worldStamp < wi) {
+                environment.savePreviousState(this, currentValue, 0, worldStamp);
+                worldStamp = wi;
+            }
+            currentValue = y;
+        }
+    }
+
+    @Override
+    public void _restore(long value, int index, int wstamp) {
+        currentValue = (int) value;
+        worldStamp = wstamp;
+    }
+
+    @Override
+    public final String toString() {
+        return String.valueOf(currentValue);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package memory.unified;
+
+import memory.IStateIntVector;
+
+/**
+ * A backtrackable vector of ints, stored on the unified trail.
+ * Each entry has its own world stamp, the index of a modified entry is recorded with its former value.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class UnifiedIntVector extends AbstractUnifiedObject implements IStateIntVector {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Contains the elements of the vector.
+     */
+    private int[] elementData;
+
+    /**
+     * Contains time stamps for all entries (the world index of the last update for each entry)
+     */
+    private int[] worldStamps;
+
+    /**
+     * A backtrackable int with the size of the vector.
+     */
+    private final UnifiedInt size;
+
+    public UnifiedIntVector(EnvironmentUnifiedTrailing env, int initialSize, int initialValue) {
+        super(env);
+        int initialCapacity = Math.max(MIN_CAPACITY, initialSize);
+        int w = env.getWorldIndex();
+        this.elementData = new int[initialCapacity];
+        this.worldStamps = new int[initialCapacity];
+        for (int i = 0; i < initialSize; i++) {
+            this.elementData[i] = initialValue;
+            this.worldStamps[i] = w;
+        }
+        this.size = new UnifiedInt(env, initialSize);
+    }
+
+    public UnifiedIntVector(EnvironmentUnifiedTrailing env, int[] entries) {
+        super(env);
+        int initialSize = entries.length;
+        int initialCapacity = Math.max(MIN_CAPACITY, initialSize);
+        int w = env.getWorldIndex();
+        this.elementData = new int[initialCapacity];
+        this.worldStamps = new int[initialCapacity];
+        System.arraycopy(entries, 0, elementData, 0, initialSize);
+        for (int i = 0; i < initialSize; i++) {
+            this.worldStamps[i] = w;
+        }
+        this.size = new UnifiedInt(env, initialSize);
+    }
+
+    public UnifiedIntVector(EnvironmentUnifiedTrailing env) {
+        this(env, 0, 0);
+    }
+
+    private boolean rangeCheck(int index) {
+        return index < size.get() && index >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (size.get() == 0);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (minCapacity > oldCapacity) {
+            int newCapacity = Math.max((oldCapacity * 3) / 2 + 1, minCapacity);
+            int[] oldData = elementData;
+            int[] oldStamps = worldStamps;
+            elementData = new int[newCapacity];
+            worldStamps = new int[newCapacity];
+            System.arraycopy(oldData, 0, elementData, 0, size.get());
+            System.arraycopy(oldStamps, 0, worldStamps, 0, size.get());
+        }
+    }
+
+    @Override
+    public void add(int i) {
+        int newsize = size.get() + 1;
+        ensureCapacity(newsize);
+        size.set(newsize);
+        elementData[newsize - 1] = i;
+        worldStamps[newsize - 1] = environment.getWorldIndex();
+    }
+
+    @Override
+    public void remove(int i) {
+        int newsize = size.get() - 1;
+        if (newsize >= 0) {
+            System.arraycopy(elementData, i + 1, elementData, i, newsize - i);
+            System.arraycopy(worldStamps, i + 1, worldStamps, i, newsize - i);
+            size.set(newsize);
+        }
+    }
+
+    @Override
+    public void removeLast() {
+        int newsize = size.get() - 1;
+        if (newsize >= 0) {
+            size.set(newsize);
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        if (rangeCheck(index)) {
+            return elementData[index];
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    public int quickGet(int index) {
+        assert (rangeCheck(index));
+        return elementData[index];
+    }
+
+    @Override
+    public int set(int index, int val) {
+        if (rangeCheck(index)) {
+            return quickSet(index, val);
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    public int quickSet(int index, int val) {
+        assert (rangeCheck(index));
+        final int oldValue = elementData[index];
+        if (val != oldValue) {
+            final int wi = environment.getWorldIndex();
+            if (worldStamps[index] < wi) {
+                environment.savePreviousState(this, oldValue, index, worldStamps[index]);
+                worldStamps[index] = wi;
+            }
+            elementData[index] = val;
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void _restore(long value, int index, int wstamp) {
+        elementData[index] = (int) value;
+        worldStamps[index] = wstamp;
+    }
+
+    @Override
+    public void _commit(int index, int world) {
+        worldStamps[index] = world;
+    }
+
+    @Override
+    public boolean contains(int val) {
+        int ssize = size.get();
+        for (int i = 0; i < ssize; i++) {
+            if (val == elementData[i]) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package memory.unified;
+
+import memory.IStateVector;
+
+/**
+ * A backtrackable vector of objects, stored on the unified trail.
+ * Each entry has its own world stamp; a former element is kept on the reference stack of the environment,
+ * the trail records its position and the index of the entry.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class UnifiedVector<E> extends AbstractUnifiedObject implements IStateVector<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Contains the elements of the vector.
+     */
+    private Object[] elementData;
+
+    /**
+     * Contains time stamps for all entries (the world index of the last update for each entry)
+     */
+    private int[] worldStamps;
+
+    /**
+     * A backtrackable int with the size of the vector.
+     */
+    private final UnifiedInt size;
+
+    public UnifiedVector(EnvironmentUnifiedTrailing env) {
+        super(env);
+        this.elementData = new Object[MIN_CAPACITY];
+        this.worldStamps = new int[MIN_CAPACITY];
+        this.size = new UnifiedInt(env, 0);
+    }
+
+    private boolean rangeCheck(int index) {
+        return index < size.get() && index >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (size.get() == 0);
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (minCapacity > oldCapacity) {
+            int newCapacity = Math.max((oldCapacity * 3) / 2 + 1, minCapacity);
+            Object[] oldData = elementData;
+            int[] oldStamps = worldStamps;
+            elementData = new Object[newCapacity];
+            worldStamps = new int[newCapacity];
+            System.arraycopy(oldData, 0, elementData, 0, size.get());
+            System.arraycopy(oldStamps, 0, worldStamps, 0, size.get());
+        }
+    }
+
+    @Override
+    public boolean add(E i) {
+        int newsize = size.get() + 1;
+        ensureCapacity(newsize);
+        size.set(newsize);
+        elementData[newsize - 1] = i;
+        worldStamps[newsize - 1] = environment.getWorldIndex();
+        return true;
+    }
+
+    @Override
+    public void removeLast() {
+        int newsize = size.get() - 1;
+        if (newsize >= 0) {
+            size.set(newsize);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (rangeCheck(index)) {
+            return (E) elementData[index];
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E val) {
+        if (rangeCheck(index)) {
+            final E oldValue = (E) elementData[index];
+            if (val != oldValue) {
+                final int wi = environment.getWorldIndex();
+                if (worldStamps[index] < wi) {
+                    environment.savePreviousState(this, environment.pushReference(oldValue), index, worldStamps[index]);
+                    worldStamps[index] = wi;
+                }
+                elementData[index] = val;
+            }
+            return oldValue;
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    public void _restore(long value, int index, int wstamp) {
+        elementData[index] = environment.popReference((int) value);
+        worldStamps[index] = wstamp;
+    }
+
+    @Override
+    public void _commit(int index, int world) {
+        worldStamps[index] = world;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package memory.unified;
+
+import memory.*;
+import memory.structure.Operation;
+import memory.trailing.EnvironmentTrailing;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class EnvironmentUnifiedTrailingTest {
+
+    @Test(groups = "1s")
+    public void testSaveRestore() {
+        EnvironmentUnifiedTrailing env = new EnvironmentUnifiedTrailing();
+        IStateInt i = env.makeInt(1);
+        IStateLong l = env.makeLong(1L);
+        IStateBool b = env.makeBool(false);
+        IStateDouble d = env.makeFloat(1.5);
+        env.worldPush();
+        i.set(2);
+        l.set(Long.MAX_VALUE);
+        b.set(true);
+        d.set(-2.5);
+        env.worldPush();
+        i.set(3);
+        i.set(4);
+        l.set(Long.MIN_VALUE);
+        Assert.assertEquals(i.get(), 4);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 2);
+        Assert.assertEquals(l.get(), Long.MAX_VALUE);
+        Assert.assertTrue(b.get());
+        Assert.assertEquals(d.get(), -2.5);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 1);
+        Assert.assertEquals(l.get(), 1L);
+        Assert.assertFalse(b.get());
+        Assert.assertEquals(d.get(), 1.5);
+        Assert.assertEquals(env.getSize(), 0);
+    }
+
+    @Test(groups = "1s")
+    public void testVectors() {
+        EnvironmentUnifiedTrailing env = new EnvironmentUnifiedTrailing();
+        IStateIntVector iv = env.makeIntVector(3, 0);
+        IStateVector<String> ov = env.makeVector();
+        ov.add("a");
+        env.worldPush();
+        iv.set(1, 5);
+        iv.add(7);
+        ov.set(0, "b");
+        ov.add("c");
+        env.worldPush();
+        iv.set(1, 6);
+        ov.set(0, "d");
+        env.worldPop();
+        Assert.assertEquals(iv.get(1), 5);
+        Assert.assertEquals(iv.size(), 4);
+        Assert.assertEquals(ov.get(0), "b");
+        Assert.assertEquals(ov.size(), 2);
+        env.worldPop();
+        Assert.assertEquals(iv.get(1), 0);
+        Assert.assertEquals(iv.size(), 3);
+        Assert.assertEquals(ov.get(0), "a");
+        Assert.assertEquals(ov.size(), 1);
+    }
+
+    @Test(groups = "1s")
+    public void testObjectAndProcedure() {
+        EnvironmentUnifiedTrailing env = new EnvironmentUnifiedTrailing();
+        UnifiedObject o = (UnifiedObject) env.makeObject("a");
+        final int[] applied = new int[2];
+        IStateInt p = env.makeIntProcedure(new IStateIntProcedure() {
+            @Override
+            public void apply(int oldVal, int newVal) {
+                applied[0] = oldVal;
+                applied[1] = newVal;
+            }
+        }, 1);
+        env.worldPush();
+        o.set("b");
+        p.set(2);
+        env.worldPush();
+        o.set("c");
+        env.worldPop();
+        Assert.assertEquals(o.get(), "b");
+        env.worldPop();
+        Assert.assertEquals(o.get(), "a");
+        Assert.assertEquals(p.get(), 1);
+        Assert.assertEquals(applied, new int[]{2, 1});
+    }
+
+    @Test(groups = "1s")
+    public void testOperation() {
+        EnvironmentUnifiedTrailing env = new EnvironmentUnifiedTrailing();
+        final int[] undone = new int[1];
+        Operation op = new Operation() {
+            @Override
+            public void undo() {
+                undone[0]++;
+            }
+        };
+        env.worldPush();
+        for (int k = 0; k < 100; k++) {
+            env.save(op);
+        }
+        env.worldPush();
+        env.save(op);
+        env.worldPop();
+        Assert.assertEquals(undone[0], 1);
+        env.worldPop();
+        Assert.assertEquals(undone[0], 101);
+    }
+
+    @Test(groups = "1s")
+    public void testCommit() {
+        EnvironmentUnifiedTrailing env = new EnvironmentUnifiedTrailing();
+        IStateInt i = env.makeInt(0);
+        IStateInt j = env.makeInt(0);
+        IStateIntVector v = env.makeIntVector(2, 0);
+        final int[] undone = new int[1];
+        env.worldPush();
+        i.set(1);
+        env.worldPush();
+        i.set(2);
+        j.set(2);
+        v.set(0, 2);
+        env.save(new Operation() {
+            @Override
+            public void undo() {
+                undone[0]++;
+            }
+        });
+        env.worldCommit();
+        Assert.assertEquals(env.getWorldIndex(), 1);
+        // the update of i in the committed world is discarded, the one of world 1 holds the former value
+        Assert.assertEquals(env.getSize(), 4);
+        i.set(3);
+        j.set(3);
+        env.worldPush();
+        i.set(4);
+        v.set(0, 4);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 3);
+        Assert.assertEquals(v.get(0), 2);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 0);
+        Assert.assertEquals(j.get(), 0);
+        Assert.assertEquals(v.get(0), 0);
+        Assert.assertEquals(undone[0], 1);
+    }
+
+    @Test(groups = "1s")
+    public void testRandomAgainstTrailing() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            IEnvironment[] envs = {new EnvironmentTrailing(), new EnvironmentUnifiedTrailing()};
+            IStateInt[][] ints = new IStateInt[2][10];
+            IStateIntVector[] vecs = new IStateIntVector[2];
+            for (int e = 0; e < 2; e++) {
+                for (int k = 0; k < 10; k++) {
+                    ints[e][k] = envs[e].makeInt(k);
+                }
+                vecs[e] = envs[e].makeIntVector(10, 0);
+            }
+            for (int step = 0; step < 2000; step++) {
+                int action = rnd.nextInt(10);
+                int k = rnd.nextInt(10);
+                int val = rnd.nextInt(100);
+                for (int e = 0; e < 2; e++) {
+                    if (action == 0) {
+                        envs[e].worldPush();
+                    } else if (action == 1) {
+                        if (envs[e].getWorldIndex() > 0) {
+                            envs[e].worldPop();
+                        }
+                    } else if (action < 6) {
+                        ints[e][k].set(val);
+                    } else {
+                        vecs[e].set(k, val);
+                    }
+                }
+                for (int m = 0; m < 10; m++) {
+                    Assert.assertEquals(ints[1][m].get(), ints[0][m].get(), "seed " + seed);
+                    Assert.assertEquals(vecs[1].get(m), vecs[0].get(m), "seed " + seed);
+                }
+            }
+        }
+    }
+}
@@ -186,5 +186,9 @@ public class Explore {
         @Override
         public void dynamicAddition(Constraint c, boolean cut) {
         }
+
+        @Override
+        public void dynamicDeletion(Constraint c) {
+        }
     }
 }
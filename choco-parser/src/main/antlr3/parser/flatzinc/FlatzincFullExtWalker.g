@@ -48,6 +48,7 @@ import parser.flatzinc.FZNException;
 import parser.flatzinc.FZNLayout;
 import parser.flatzinc.ast.FConstraint;
 import parser.flatzinc.ast.FGoal;
+import parser.flatzinc.ast.FPresolver;
 import parser.flatzinc.ast.FParameter;
 import parser.flatzinc.ast.FVariable;
 import parser.flatzinc.ast.GoalConf;
@@ -94,6 +95,7 @@ public GoalConf gc;
 
 // the layout dedicated to pretty print message wrt to fzn recommendations
 public final FZNLayout mLayout = new FZNLayout();
+public final FPresolver mPresolver = new FPresolver();
 }
 
 
@@ -120,6 +122,8 @@ flatzinc_model [Solver aSolver, THashMap<String, Object> map, GoalConf gc]
 ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 engine
 @init{
+    // the engine is defined over the propagators: the constraints are posted first, without presolve
+    mPresolver.post_constraints(mSolver, map);
 	ArrayList<Arc> arcs= Arc.populate(mSolver);
 	DSLEngine propagationEngine = new DSLEngine(mSolver);
 	}
@@ -714,7 +718,7 @@ param_decl
 var_decl
 	:   ^(VAR IDENTIFIER vt=var_type anns=annotations e=expr?)
 	{
-	FVariable.make_variable(map, vt, $IDENTIFIER.text, anns, e, mSolver, mLayout);
+	FVariable.make_variable(map, vt, $IDENTIFIER.text, anns, e, mSolver, mLayout, mPresolver);
 	}
 	;
 
@@ -727,7 +731,7 @@ constraint
 	    ^(CONSTRAINT IDENTIFIER (e=expr{exps.add(e);})+ anns=annotations)
 	{
 	String id = $IDENTIFIER.text;
-	FConstraint.make_constraint(mSolver, map, id, exps, anns);
+	mPresolver.add_constraint(id, exps, anns);
 	}
 	;
 
@@ -735,6 +739,7 @@ solve_goal
 	:
 	^(SOLVE anns=annotations res=resolution)
 	{
+    mPresolver.post_constraints(gc, mSolver, map, anns, res.expr);
     FGoal.define_goal(gc, mSolver,anns,res.type,res.expr);
 	}
 	;
@@ -47,13 +47,14 @@ import parser.flatzinc.FZNException;
 import parser.flatzinc.FZNLayout;
 import parser.flatzinc.ast.FConstraint;
 import parser.flatzinc.ast.FGoal;
+import parser.flatzinc.ast.FPresolver;
 import parser.flatzinc.ast.FParameter;
 import parser.flatzinc.ast.FVariable;
 import parser.flatzinc.ast.GoalConf;
 
 import solver.Solver;
 import solver.constraints.Constraint;
-import choco.kernel.ResolutionPolicy;
+import solver.ResolutionPolicy;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -74,6 +75,7 @@ public GoalConf gc;
 
 // the layout dedicated to pretty print message wrt to fzn recommendations
 public final FZNLayout mLayout = new FZNLayout();
+public final FPresolver mPresolver = new FPresolver();
 }
 
 flatzinc_model [Solver aSolver, THashMap<String, Object> map, GoalConf gc]
@@ -290,7 +292,7 @@ param_decl
 var_decl
 	:   ^(VAR IDENTIFIER vt=var_type anns=annotations e=expr?)
 	{
-	FVariable.make_variable(map, vt, $IDENTIFIER.text, anns, e, mSolver, mLayout);
+	FVariable.make_variable(map, vt, $IDENTIFIER.text, anns, e, mSolver, mLayout, mPresolver);
 	}
 	;
 
@@ -303,7 +305,7 @@ constraint
 	    ^(CONSTRAINT IDENTIFIER (e=expr{exps.add(e);})+ anns=annotations)
 	{
 	String id = $IDENTIFIER.text;
-	FConstraint.make_constraint(mSolver, map, id, exps, anns);
+	mPresolver.add_constraint(id, exps, anns);
 	}
 	;
 
@@ -311,6 +313,7 @@ solve_goal
 	:
 	^(SOLVE anns=annotations res=resolution)
 	{
+    mPresolver.post_constraints(gc, mSolver, map, anns, res.expr);
     FGoal.define_goal(gc, mSolver,anns,res.type,res.expr);
 	}
 	;
@@ -36,7 +36,9 @@ import parser.flatzinc.ast.expression.EArray;
 import parser.flatzinc.ast.expression.ESetBounds;
 import parser.flatzinc.ast.expression.ESetList;
 import parser.flatzinc.ast.expression.Expression;
+import solver.ResolutionPolicy;
 import solver.constraints.Constraint;
+import solver.objective.ObjectiveManager;
 import solver.search.loop.AbstractSearchLoop;
 import solver.search.loop.monitors.IMonitorClose;
 import solver.search.loop.monitors.IMonitorSolution;
@@ -72,6 +74,9 @@ public final class FZNLayout implements IMonitorSolution, IMonitorClose {
     int nbSolution;
     boolean userinterruption = true;
 
+    // shared by the layouts of the workers of a parallel resolution, null for a sequential one
+    SharedOutput sharedOutput;
+
     public FZNLayout() {
         super();
         output_vars = new ArrayList<IntVar>();
@@ -97,26 +102,16 @@ public final class FZNLayout implements IMonitorSolution, IMonitorClose {
             wrongSolution = false;
             nbSolution++;
             if (LOGGER.isInfoEnabled()) {
-                for (int i = 0; i < output_names.size(); i++) {
-                    LOGGER.info("{} = {};", output_names.get(i), value(output_vars.get(i), output_types.get(i)));
-
-                }
-                for (int i = 0; i < output_arrays_names.size(); i++) {
-                    String name = output_arrays_names.get(i);
-                    IntVar[] ivars = output_arrays_vars.get(i);
-                    if (ivars.length > 0) {
-                        Declaration.DType type = output_arrays_types.get(i);
-                        stringBuilder.append(value(ivars[0], type));
-                        for (int j = 1; j < ivars.length; j++) {
-                            stringBuilder.append(", ").append(value(ivars[j], type));
+                if (sharedOutput == null) {
+                    print();
+                } else {
+                    // workers print one at a time, and only solutions better than the last printed one
+                    synchronized (sharedOutput) {
+                        if (sharedOutput.improves(searchLoop)) {
+                            print();
                         }
-                        LOGGER.info(name, stringBuilder.toString());
-                        stringBuilder.setLength(0);
-                    } else {
-                        LOGGER.info(name);
                     }
                 }
-                LOGGER.info("----------");
             }
         } else {
             LOGGER.error("%\n% /!\\ ERROR >>>>>>>   Find a solution that does not seem to be correct!!  <<<<<<<<\n%");
@@ -124,6 +119,29 @@ public final class FZNLayout implements IMonitorSolution, IMonitorClose {
         }
     }
 
+    private void print() {
+        for (int i = 0; i < output_names.size(); i++) {
+            LOGGER.info("{} = {};", output_names.get(i), value(output_vars.get(i), output_types.get(i)));
+
+        }
+        for (int i = 0; i < output_arrays_names.size(); i++) {
+            String name = output_arrays_names.get(i);
+            IntVar[] ivars = output_arrays_vars.get(i);
+            if (ivars.length > 0) {
+                Declaration.DType type = output_arrays_types.get(i);
+                stringBuilder.append(value(ivars[0], type));
+                for (int j = 1; j < ivars.length; j++) {
+                    stringBuilder.append(", ").append(value(ivars[j], type));
+                }
+                LOGGER.info(name, stringBuilder.toString());
+                stringBuilder.setLength(0);
+            } else {
+                LOGGER.info(name);
+            }
+        }
+        LOGGER.info("----------");
+    }
+
     private boolean check() {
         Constraint[] cstrs = searchLoop.getSolver().getCstrs();
         for (int c = 0; c < cstrs.length; c++) {
@@ -152,16 +170,32 @@ public final class FZNLayout implements IMonitorSolution, IMonitorClose {
 
     @Override
     public void beforeClose() {
+        // in a parallel resolution, only the best worker reports, once every worker has stopped
+        if (sharedOutput == null) {
+            printStatus(!searchLoop.getLimits().isReached());
+        }
+        userinterruption = false;
+    }
+
+    /**
+     * Print the status and the statistics of a parallel resolution, from the point of view of this worker.
+     *
+     * @param complete set to <code>true</code> if a worker has completed the resolution
+     */
+    public void afterParallelResolution(boolean complete) {
+        printStatus(complete);
+    }
+
+    private void printStatus(boolean complete) {
         if (LOGGER.isInfoEnabled()) {
             if (searchLoop.getMeasures().getSolutionCount() == 0) {
-                if ((wrongSolution && nbSolution == 0) || searchLoop.getLimits().isReached()) {
+                if ((wrongSolution && nbSolution == 0) || !complete) {
                     LOGGER.info("=====UNKNOWN=====");
                 } else {
                     LOGGER.info("=====UNSATISFIABLE=====");
                 }
             } else {
-                if (searchLoop.getLimits().isReached()
-                        && (searchLoop.getObjectivemanager().isOptimization())) {
+                if (!complete && (searchLoop.getObjectivemanager().isOptimization())) {
                     LOGGER.info("=====UNBOUNDED=====");
                 } else {
                     LOGGER.info("==========");
@@ -187,7 +221,6 @@ public final class FZNLayout implements IMonitorSolution, IMonitorClose {
                         searchLoop.getMeasures().getPropagationsCount());
             }
         }
-        userinterruption = false;
     }
 
     public boolean isUserinterruption() {
@@ -253,4 +286,42 @@ public final class FZNLayout implements IMonitorSolution, IMonitorClose {
         searchLoop.plugSearchMonitor(this);
         this.searchLoop = searchLoop;
     }
+
+    /**
+     * Declare this layout as the one of a worker of a parallel resolution.
+     *
+     * @param sharedOutput output shared by all the workers
+     */
+    public void setSharedOutput(SharedOutput sharedOutput) {
+        this.sharedOutput = sharedOutput;
+    }
+
+    /**
+     * The output shared by the layouts of the workers of a parallel resolution.
+     * It keeps track of the last printed solution, so that only improving ones are printed.
+     */
+    public static final class SharedOutput {
+
+        boolean printed;
+        int bestObjective;
+
+        boolean improves(AbstractSearchLoop searchLoop) {
+            ObjectiveManager om = searchLoop.getObjectivemanager();
+            if (!om.isOptimization()) {
+                // the first solution only, the resolution stops with it
+                if (printed) {
+                    return false;
+                }
+                printed = true;
+                return true;
+            }
+            int value = searchLoop.getMeasures().getObjectiveValue();
+            if (printed && (om.getPolicy() == ResolutionPolicy.MINIMIZE ? value >= bestObjective : value <= bestObjective)) {
+                return false;
+            }
+            printed = true;
+            bestObjective = value;
+            return true;
+        }
+    }
 }
@@ -1,4 +1,4 @@
-// $ANTLR 3.4 parser/flatzinc/FlatzincFullExtWalker.g 2013-02-08 14:40:31
+// $ANTLR 3.4 parser/flatzinc/FlatzincFullExtWalker.g 2026-10-17 19:24:18
 
 /*
  * Copyright (c) 1999-2012, Ecole des Mines de Nantes
@@ -29,135 +29,162 @@
 
 package parser.flatzinc;
 
-import gnu.trove.map.hash.THashMap;
-import gnu.trove.map.hash.TIntObjectHashMap;
-import org.antlr.runtime.*;
-import org.antlr.runtime.tree.CommonTree;
-import org.antlr.runtime.tree.TreeNodeStream;
-import org.antlr.runtime.tree.TreeParser;
-import org.antlr.runtime.tree.TreeRuleReturnScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import parser.flatzinc.ast.*;
+
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntObjectHashMap;
+
 import parser.flatzinc.ast.declaration.*;
 import parser.flatzinc.ast.expression.*;
+import parser.flatzinc.FZNException;
+import parser.flatzinc.FZNLayout;
+import parser.flatzinc.ast.FConstraint;
+import parser.flatzinc.ast.FGoal;
+import parser.flatzinc.ast.FPresolver;
+import parser.flatzinc.ast.FParameter;
+import parser.flatzinc.ast.FVariable;
+import parser.flatzinc.ast.GoalConf;
+
+
 import parser.flatzinc.ast.ext.*;
-import solver.ResolutionPolicy;
-import solver.Solver;
+
 import solver.propagation.DSLEngine;
-import solver.propagation.ISchedulable;
+import solver.propagation.generator.Generator;
+import solver.propagation.generator.PropagationStrategy;
+import solver.propagation.generator.Sort;
+import solver.propagation.generator.Queue;
+import solver.propagation.generator.SortDyn;
 import solver.propagation.generator.*;
 
-import java.util.ArrayList;
+import solver.propagation.ISchedulable;
+import solver.propagation.generator.Arc;
+
+import solver.Solver;
+import solver.constraints.Constraint;
+import solver.ResolutionPolicy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Arrays;
+
+
+import org.antlr.runtime.*;
+import org.antlr.runtime.tree.*;
+import java.util.Stack;
 import java.util.List;
+import java.util.ArrayList;
 
 @SuppressWarnings({"all", "warnings", "unchecked"})
 public class FlatzincFullExtWalker extends TreeParser {
-    public static final String[] tokenNames = new String[]{
-            "<invalid>", "<EOR>", "<DOWN>", "<UP>", "AND", "ANNOTATIONS", "ANY", "APAR", "ARRAY", "ARRPAR", "ARRVAR", "AS", "AVAR", "BOOL", "CA1", "CA2", "CARITY", "CHAR", "CL", "CM", "CNAME", "COMMENT", "CONSTRAINT", "CSTR", "DC", "DD", "DO", "EACH", "ENGINE", "EQ", "ESC_SEQ", "EXPONENT", "EXPR", "FALSE", "FLOAT", "FOR", "HEAP", "HEX_DIGIT", "IDENTIFIER", "IN", "INDEX", "INT", "INT_CONST", "KEY", "LB", "LIST", "LP", "LS", "MANY1", "MANY2", "MANY3", "MANY4", "MAX", "MAXIMIZE", "MIN", "MINIMIZE", "MN", "NOT", "OCTAL_ESC", "OEQ", "OF", "OGQ", "OGT", "OLQ", "OLT", "ONE", "ONQ", "OR", "ORDERBY", "PAR", "PARITY", "PL", "PPRIO", "PPRIOD", "PREDICATE", "PROP", "QUEUE", "RB", "REV", "RP", "RS", "SATISFY", "SC", "SET", "SIZE", "SOLVE", "STREG", "STRING", "STRUC1", "STRUC2", "SUM", "TRUE", "UNICODE_ESC", "VAR", "VCARD", "VNAME", "WFOR", "WONE", "WS"
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "AND", "ANNOTATIONS", "ANY", "APAR", "ARRAY", "ARRPAR", "ARRVAR", "AS", "AVAR", "BOOL", "CA1", "CA2", "CARITY", "CHAR", "CL", "CM", "CNAME", "COMMENT", "CONSTRAINT", "CSTR", "DC", "DD", "DO", "EACH", "ENGINE", "EQ", "ESC_SEQ", "EXPONENT", "EXPR", "FALSE", "FLOAT", "FOR", "HEAP", "HEX_DIGIT", "IDENTIFIER", "IN", "INDEX", "INT", "INT_CONST", "KEY", "LB", "LIST", "LP", "LS", "MANY1", "MANY2", "MANY3", "MANY4", "MAX", "MAXIMIZE", "MIN", "MINIMIZE", "MN", "NOT", "OCTAL_ESC", "OEQ", "OF", "OGQ", "OGT", "OLQ", "OLT", "ONE", "ONQ", "OR", "ORDERBY", "PAR", "PARITY", "PL", "PPRIO", "PPRIOD", "PREDICATE", "PROP", "QUEUE", "RB", "REV", "RP", "RS", "SATISFY", "SC", "SET", "SIZE", "SOLVE", "STREG", "STRING", "STRUC1", "STRUC2", "SUM", "TRUE", "UNICODE_ESC", "VAR", "VCARD", "VNAME", "WFOR", "WONE", "WS"
     };
 
-    public static final int EOF = -1;
-    public static final int AND = 4;
-    public static final int ANNOTATIONS = 5;
-    public static final int ANY = 6;
-    public static final int APAR = 7;
-    public static final int ARRAY = 8;
-    public static final int ARRPAR = 9;
-    public static final int ARRVAR = 10;
-    public static final int AS = 11;
-    public static final int AVAR = 12;
-    public static final int BOOL = 13;
-    public static final int CA1 = 14;
-    public static final int CA2 = 15;
-    public static final int CARITY = 16;
-    public static final int CHAR = 17;
-    public static final int CL = 18;
-    public static final int CM = 19;
-    public static final int CNAME = 20;
-    public static final int COMMENT = 21;
-    public static final int CONSTRAINT = 22;
-    public static final int CSTR = 23;
-    public static final int DC = 24;
-    public static final int DD = 25;
-    public static final int DO = 26;
-    public static final int EACH = 27;
-    public static final int ENGINE = 28;
-    public static final int EQ = 29;
-    public static final int ESC_SEQ = 30;
-    public static final int EXPONENT = 31;
-    public static final int EXPR = 32;
-    public static final int FALSE = 33;
-    public static final int FLOAT = 34;
-    public static final int FOR = 35;
-    public static final int HEAP = 36;
-    public static final int HEX_DIGIT = 37;
-    public static final int IDENTIFIER = 38;
-    public static final int IN = 39;
-    public static final int INDEX = 40;
-    public static final int INT = 41;
-    public static final int INT_CONST = 42;
-    public static final int KEY = 43;
-    public static final int LB = 44;
-    public static final int LIST = 45;
-    public static final int LP = 46;
-    public static final int LS = 47;
-    public static final int MANY1 = 48;
-    public static final int MANY2 = 49;
-    public static final int MANY3 = 50;
-    public static final int MANY4 = 51;
-    public static final int MAX = 52;
-    public static final int MAXIMIZE = 53;
-    public static final int MIN = 54;
-    public static final int MINIMIZE = 55;
-    public static final int MN = 56;
-    public static final int NOT = 57;
-    public static final int OCTAL_ESC = 58;
-    public static final int OEQ = 59;
-    public static final int OF = 60;
-    public static final int OGQ = 61;
-    public static final int OGT = 62;
-    public static final int OLQ = 63;
-    public static final int OLT = 64;
-    public static final int ONE = 65;
-    public static final int ONQ = 66;
-    public static final int OR = 67;
-    public static final int ORDERBY = 68;
-    public static final int PAR = 69;
-    public static final int PARITY = 70;
-    public static final int PL = 71;
-    public static final int PPRIO = 72;
-    public static final int PPRIOD = 73;
-    public static final int PREDICATE = 74;
-    public static final int PROP = 75;
-    public static final int QUEUE = 76;
-    public static final int RB = 77;
-    public static final int REV = 78;
-    public static final int RP = 79;
-    public static final int RS = 80;
-    public static final int SATISFY = 81;
-    public static final int SC = 82;
-    public static final int SET = 83;
-    public static final int SIZE = 84;
-    public static final int SOLVE = 85;
-    public static final int STREG = 86;
-    public static final int STRING = 87;
-    public static final int STRUC1 = 88;
-    public static final int STRUC2 = 89;
-    public static final int SUM = 90;
-    public static final int TRUE = 91;
-    public static final int UNICODE_ESC = 92;
-    public static final int VAR = 93;
-    public static final int VCARD = 94;
-    public static final int VNAME = 95;
-    public static final int WFOR = 96;
-    public static final int WONE = 97;
-    public static final int WS = 98;
+    public static final int EOF=-1;
+    public static final int AND=4;
+    public static final int ANNOTATIONS=5;
+    public static final int ANY=6;
+    public static final int APAR=7;
+    public static final int ARRAY=8;
+    public static final int ARRPAR=9;
+    public static final int ARRVAR=10;
+    public static final int AS=11;
+    public static final int AVAR=12;
+    public static final int BOOL=13;
+    public static final int CA1=14;
+    public static final int CA2=15;
+    public static final int CARITY=16;
+    public static final int CHAR=17;
+    public static final int CL=18;
+    public static final int CM=19;
+    public static final int CNAME=20;
+    public static final int COMMENT=21;
+    public static final int CONSTRAINT=22;
+    public static final int CSTR=23;
+    public static final int DC=24;
+    public static final int DD=25;
+    public static final int DO=26;
+    public static final int EACH=27;
+    public static final int ENGINE=28;
+    public static final int EQ=29;
+    public static final int ESC_SEQ=30;
+    public static final int EXPONENT=31;
+    public static final int EXPR=32;
+    public static final int FALSE=33;
+    public static final int FLOAT=34;
+    public static final int FOR=35;
+    public static final int HEAP=36;
+    public static final int HEX_DIGIT=37;
+    public static final int IDENTIFIER=38;
+    public static final int IN=39;
+    public static final int INDEX=40;
+    public static final int INT=41;
+    public static final int INT_CONST=42;
+    public static final int KEY=43;
+    public static final int LB=44;
+    public static final int LIST=45;
+    public static final int LP=46;
+    public static final int LS=47;
+    public static final int MANY1=48;
+    public static final int MANY2=49;
+    public static final int MANY3=50;
+    public static final int MANY4=51;
+    public static final int MAX=52;
+    public static final int MAXIMIZE=53;
+    public static final int MIN=54;
+    public static final int MINIMIZE=55;
+    public static final int MN=56;
+    public static final int NOT=57;
+    public static final int OCTAL_ESC=58;
+    public static final int OEQ=59;
+    public static final int OF=60;
+    public static final int OGQ=61;
+    public static final int OGT=62;
+    public static final int OLQ=63;
+    public static final int OLT=64;
+    public static final int ONE=65;
+    public static final int ONQ=66;
+    public static final int OR=67;
+    public static final int ORDERBY=68;
+    public static final int PAR=69;
+    public static final int PARITY=70;
+    public static final int PL=71;
+    public static final int PPRIO=72;
+    public static final int PPRIOD=73;
+    public static final int PREDICATE=74;
+    public static final int PROP=75;
+    public static final int QUEUE=76;
+    public static final int RB=77;
+    public static final int REV=78;
+    public static final int RP=79;
+    public static final int RS=80;
+    public static final int SATISFY=81;
+    public static final int SC=82;
+    public static final int SET=83;
+    public static final int SIZE=84;
+    public static final int SOLVE=85;
+    public static final int STREG=86;
+    public static final int STRING=87;
+    public static final int STRUC1=88;
+    public static final int STRUC2=89;
+    public static final int SUM=90;
+    public static final int TRUE=91;
+    public static final int UNICODE_ESC=92;
+    public static final int VAR=93;
+    public static final int VCARD=94;
+    public static final int VNAME=95;
+    public static final int WFOR=96;
+    public static final int WONE=97;
+    public static final int WS=98;
 
     // delegates
     public TreeParser[] getDelegates() {
-        return new TreeParser[]{};
+        return new TreeParser[] {};
     }
 
     // delegators
@@ -166,18 +193,12 @@ public class FlatzincFullExtWalker extends TreeParser {
     public FlatzincFullExtWalker(TreeNodeStream input) {
         this(input, new RecognizerSharedState());
     }
-
     public FlatzincFullExtWalker(TreeNodeStream input, RecognizerSharedState state) {
         super(input, state);
     }
 
-    public String[] getTokenNames() {
-        return FlatzincFullExtWalker.tokenNames;
-    }
-
-    public String getGrammarFileName() {
-        return "parser/flatzinc/FlatzincFullExtWalker.g";
-    }
+    public String[] getTokenNames() { return FlatzincFullExtWalker.tokenNames; }
+    public String getGrammarFileName() { return "parser/flatzinc/FlatzincFullExtWalker.g"; }
 
 
     // The flatzinc logger -- 'System.out/err' is fobidden!
@@ -195,1122 +216,1145 @@ public class FlatzincFullExtWalker extends TreeParser {
 
     // the layout dedicated to pretty print message wrt to fzn recommendations
     public final FZNLayout mLayout = new FZNLayout();
+    public final FPresolver mPresolver = new FPresolver();
+
 
 
     // $ANTLR start "flatzinc_model"
-    // parser/flatzinc/FlatzincFullExtWalker.g:100:1: flatzinc_model[Solver aSolver, THashMap<String, Object> map, GoalConf gc] : ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* ( engine )? solve_goal ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:102:1: flatzinc_model[Solver aSolver, THashMap<String, Object> map, GoalConf gc] : ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* ( engine )? solve_goal ;
     public final void flatzinc_model(Solver aSolver, THashMap<String, Object> map, GoalConf gc) throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:101:2: ( ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* ( engine )? solve_goal )
-            // parser/flatzinc/FlatzincFullExtWalker.g:102:2: ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* ( engine )? solve_goal
+            // parser/flatzinc/FlatzincFullExtWalker.g:103:2: ( ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* ( engine )? solve_goal )
+            // parser/flatzinc/FlatzincFullExtWalker.g:104:2: ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* ( engine )? solve_goal
             {
 
-                this.mSolver = aSolver;
-                this.gc = gc;
-                this.map = map;
-                this.groups = new THashMap();
+            	this.mSolver = aSolver;
+            	this.gc = gc;
+            	this.map = map;
+            	this.groups = new THashMap();
+                
 
+            // parser/flatzinc/FlatzincFullExtWalker.g:110:5: ( pred_decl )*
+            loop1:
+            do {
+                int alt1=2;
+                int LA1_0 = input.LA(1);
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:108:5: ( pred_decl )*
-                loop1:
-                do {
-                    int alt1 = 2;
-                    switch (input.LA(1)) {
-                        case PREDICATE: {
-                            alt1 = 1;
-                        }
-                        break;
+                if ( (LA1_0==PREDICATE) ) {
+                    alt1=1;
+                }
 
-                    }
 
-                    switch (alt1) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:108:6: pred_decl
-                        {
-                            pushFollow(FOLLOW_pred_decl_in_flatzinc_model53);
-                            pred_decl();
+                switch (alt1) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincFullExtWalker.g:110:6: pred_decl
+            	    {
+            	    pushFollow(FOLLOW_pred_decl_in_flatzinc_model53);
+            	    pred_decl();
 
-                            state._fsp--;
+            	    state._fsp--;
 
 
-                        }
-                        break;
+            	    }
+            	    break;
 
-                        default:
-                            break loop1;
-                    }
-                } while (true);
+            	default :
+            	    break loop1;
+                }
+            } while (true);
 
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:108:18: ( param_decl )*
-                loop2:
-                do {
-                    int alt2 = 2;
-                    switch (input.LA(1)) {
-                        case PAR: {
-                            alt2 = 1;
-                        }
-                        break;
+            // parser/flatzinc/FlatzincFullExtWalker.g:110:18: ( param_decl )*
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
 
-                    }
+                if ( (LA2_0==PAR) ) {
+                    alt2=1;
+                }
 
-                    switch (alt2) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:108:19: param_decl
-                        {
-                            pushFollow(FOLLOW_param_decl_in_flatzinc_model58);
-                            param_decl();
 
-                            state._fsp--;
+                switch (alt2) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincFullExtWalker.g:110:19: param_decl
+            	    {
+            	    pushFollow(FOLLOW_param_decl_in_flatzinc_model58);
+            	    param_decl();
 
+            	    state._fsp--;
 
-                        }
-                        break;
 
-                        default:
-                            break loop2;
-                    }
-                } while (true);
+            	    }
+            	    break;
 
+            	default :
+            	    break loop2;
+                }
+            } while (true);
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:108:32: ( var_decl )*
-                loop3:
-                do {
-                    int alt3 = 2;
-                    switch (input.LA(1)) {
-                        case VAR: {
-                            alt3 = 1;
-                        }
-                        break;
 
-                    }
+            // parser/flatzinc/FlatzincFullExtWalker.g:110:32: ( var_decl )*
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
 
-                    switch (alt3) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:108:33: var_decl
-                        {
-                            pushFollow(FOLLOW_var_decl_in_flatzinc_model63);
-                            var_decl();
+                if ( (LA3_0==VAR) ) {
+                    alt3=1;
+                }
 
-                            state._fsp--;
 
+                switch (alt3) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincFullExtWalker.g:110:33: var_decl
+            	    {
+            	    pushFollow(FOLLOW_var_decl_in_flatzinc_model63);
+            	    var_decl();
 
-                        }
-                        break;
+            	    state._fsp--;
 
-                        default:
-                            break loop3;
-                    }
-                } while (true);
 
+            	    }
+            	    break;
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:108:44: ( constraint )*
-                loop4:
-                do {
-                    int alt4 = 2;
-                    switch (input.LA(1)) {
-                        case CONSTRAINT: {
-                            alt4 = 1;
-                        }
-                        break;
+            	default :
+            	    break loop3;
+                }
+            } while (true);
 
-                    }
 
-                    switch (alt4) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:108:45: constraint
-                        {
-                            pushFollow(FOLLOW_constraint_in_flatzinc_model68);
-                            constraint();
+            // parser/flatzinc/FlatzincFullExtWalker.g:110:44: ( constraint )*
+            loop4:
+            do {
+                int alt4=2;
+                int LA4_0 = input.LA(1);
 
-                            state._fsp--;
+                if ( (LA4_0==CONSTRAINT) ) {
+                    alt4=1;
+                }
 
 
-                        }
-                        break;
+                switch (alt4) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincFullExtWalker.g:110:45: constraint
+            	    {
+            	    pushFollow(FOLLOW_constraint_in_flatzinc_model68);
+            	    constraint();
 
-                        default:
-                            break loop4;
-                    }
-                } while (true);
+            	    state._fsp--;
 
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:108:58: ( engine )?
-                int alt5 = 2;
-                switch (input.LA(1)) {
-                    case IDENTIFIER: {
-                        alt5 = 1;
-                    }
-                    break;
+            	    }
+            	    break;
+
+            	default :
+            	    break loop4;
                 }
+            } while (true);
+
+
+            // parser/flatzinc/FlatzincFullExtWalker.g:110:58: ( engine )?
+            int alt5=2;
+            int LA5_0 = input.LA(1);
 
-                switch (alt5) {
-                    case 1:
-                        // parser/flatzinc/FlatzincFullExtWalker.g:108:58: engine
+            if ( (LA5_0==IDENTIFIER) ) {
+                alt5=1;
+            }
+            switch (alt5) {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:110:58: engine
                     {
-                        pushFollow(FOLLOW_engine_in_flatzinc_model72);
-                        engine();
+                    pushFollow(FOLLOW_engine_in_flatzinc_model72);
+                    engine();
 
-                        state._fsp--;
+                    state._fsp--;
 
 
                     }
                     break;
 
-                }
+            }
 
 
-                pushFollow(FOLLOW_solve_goal_in_flatzinc_model75);
-                solve_goal();
+            pushFollow(FOLLOW_solve_goal_in_flatzinc_model75);
+            solve_goal();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                if (LoggerFactory.getLogger("fzn").isInfoEnabled()) {
+
+            	if (LoggerFactory.getLogger("fzn").isInfoEnabled()) {
                     mLayout.setSearchLoop(mSolver.getSearchLoop());
                 }
-
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "flatzinc_model"
 
 
+
     // $ANTLR start "engine"
-    // parser/flatzinc/FlatzincFullExtWalker.g:121:1: engine : ( group_decl[arcs] )+ ps= structure[propagationEngine] ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:123:1: engine : ( group_decl[arcs] )+ ps= structure[propagationEngine] ;
     public final void engine() throws RecognitionException {
-        PropagationStrategy ps = null;
+        PropagationStrategy ps =null;
 
 
-        ArrayList<Arc> arcs = Arc.populate(mSolver);
-        DSLEngine propagationEngine = new DSLEngine(mSolver);
 
+            // the engine is defined over the propagators: the constraints are posted first, without presolve
+            mPresolver.post_constraints(mSolver, map);
+        	ArrayList<Arc> arcs= Arc.populate(mSolver);
+        	DSLEngine propagationEngine = new DSLEngine(mSolver);
+        	
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:137:5: ( ( group_decl[arcs] )+ ps= structure[propagationEngine] )
-            // parser/flatzinc/FlatzincFullExtWalker.g:137:9: ( group_decl[arcs] )+ ps= structure[propagationEngine]
+            // parser/flatzinc/FlatzincFullExtWalker.g:141:5: ( ( group_decl[arcs] )+ ps= structure[propagationEngine] )
+            // parser/flatzinc/FlatzincFullExtWalker.g:141:9: ( group_decl[arcs] )+ ps= structure[propagationEngine]
             {
-                // parser/flatzinc/FlatzincFullExtWalker.g:137:9: ( group_decl[arcs] )+
-                int cnt6 = 0;
-                loop6:
-                do {
-                    int alt6 = 2;
-                    switch (input.LA(1)) {
-                        case IDENTIFIER: {
-                            alt6 = 1;
-                        }
-                        break;
+            // parser/flatzinc/FlatzincFullExtWalker.g:141:9: ( group_decl[arcs] )+
+            int cnt6=0;
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
 
-                    }
+                if ( (LA6_0==IDENTIFIER) ) {
+                    alt6=1;
+                }
 
-                    switch (alt6) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:137:10: group_decl[arcs]
-                        {
-                            pushFollow(FOLLOW_group_decl_in_engine108);
-                            group_decl(arcs);
 
-                            state._fsp--;
+                switch (alt6) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincFullExtWalker.g:141:10: group_decl[arcs]
+            	    {
+            	    pushFollow(FOLLOW_group_decl_in_engine108);
+            	    group_decl(arcs);
 
+            	    state._fsp--;
 
-                        }
-                        break;
 
-                        default:
-                            if (cnt6 >= 1) break loop6;
-                            EarlyExitException eee =
-                                    new EarlyExitException(6, input);
-                            throw eee;
-                    }
-                    cnt6++;
-                } while (true);
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt6 >= 1 ) break loop6;
+                        EarlyExitException eee =
+                            new EarlyExitException(6, input);
+                        throw eee;
+                }
+                cnt6++;
+            } while (true);
 
 
-                pushFollow(FOLLOW_structure_in_engine117);
-                ps = structure(propagationEngine);
+            pushFollow(FOLLOW_structure_in_engine117);
+            ps=structure(propagationEngine);
 
-                state._fsp--;
+            state._fsp--;
 
 
             }
 
 
-            if (!arcs.isEmpty()) {
-                LOGGER.warn("% Remaining arcs after group declarations");
-                throw new FZNException("Remaining arcs after group declarations");
-            }
-            if (arcs.isEmpty() && ps == null) {
-                LOGGER.warn("% no engine defined");
-                throw new FZNException("no engine defined");
-            }
-            mSolver.set(propagationEngine.set(ps));
+                if(!arcs.isEmpty()){
+                    LOGGER.warn("% Remaining arcs after group declarations");
+                    throw new FZNException("Remaining arcs after group declarations");
+                }
+                if (arcs.isEmpty() && ps == null) {
+                    LOGGER.warn("% no engine defined");
+                    throw new FZNException("no engine defined");
+                }
+                mSolver.set(propagationEngine.set(ps));
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "engine"
 
 
+
     // $ANTLR start "group_decl"
-    // parser/flatzinc/FlatzincFullExtWalker.g:140:1: group_decl[ArrayList<Arc> arcs] : ^( IDENTIFIER p= predicates ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:144:1: group_decl[ArrayList<Arc> arcs] : ^( IDENTIFIER p= predicates ) ;
     public final void group_decl(ArrayList<Arc> arcs) throws RecognitionException {
-        CommonTree IDENTIFIER1 = null;
-        Predicate p = null;
+        CommonTree IDENTIFIER1=null;
+        Predicate p =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:141:5: ( ^( IDENTIFIER p= predicates ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:142:5: ^( IDENTIFIER p= predicates )
+            // parser/flatzinc/FlatzincFullExtWalker.g:145:5: ( ^( IDENTIFIER p= predicates ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:146:5: ^( IDENTIFIER p= predicates )
             {
-                IDENTIFIER1 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_group_decl139);
+            IDENTIFIER1=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_group_decl139); 
 
-                match(input, Token.DOWN, null);
-                pushFollow(FOLLOW_predicates_in_group_decl143);
-                p = predicates();
+            match(input, Token.DOWN, null); 
+            pushFollow(FOLLOW_predicates_in_group_decl143);
+            p=predicates();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                ArrayList<Arc> aGroup = Filter.execute(p, arcs);
-                if (aGroup.isEmpty()) {
-                    LOGGER.error("% Empty predicate declaration :" + (IDENTIFIER1 != null ? IDENTIFIER1.getLine() : 0) + ":" + (IDENTIFIER1 != null ? IDENTIFIER1.getCharPositionInLine() : 0));
+
+                ArrayList<Arc> aGroup = Filter.execute(p,arcs);
+                if(aGroup.isEmpty()){
+                    LOGGER.error("% Empty predicate declaration :"+ (IDENTIFIER1!=null?IDENTIFIER1.getLine():0)+":"+(IDENTIFIER1!=null?IDENTIFIER1.getCharPositionInLine():0));
                     throw new FZNException("Empty predicate declaration");
                 }
                 Arc.remove(arcs, aGroup);
-                groups.put((IDENTIFIER1 != null ? IDENTIFIER1.getText() : null), aGroup);
-
+                groups.put((IDENTIFIER1!=null?IDENTIFIER1.getText():null),aGroup);
+                
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "group_decl"
 
 
+
     // $ANTLR start "predicates"
-    // parser/flatzinc/FlatzincFullExtWalker.g:156:1: predicates returns [Predicate pred] : (p= predicate | ^( AND (p= predicates )+ ) | ^( OR (p= predicates )+ ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:160:1: predicates returns [Predicate pred] : (p= predicate | ^( AND (p= predicates )+ ) | ^( OR (p= predicates )+ ) );
     public final Predicate predicates() throws RecognitionException {
         Predicate pred = null;
 
 
-        Predicate p = null;
+        Predicate p =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:157:5: (p= predicate | ^( AND (p= predicates )+ ) | ^( OR (p= predicates )+ ) )
-            int alt9 = 3;
-            switch (input.LA(1)) {
-                case CARITY:
-                case CNAME:
-                case CSTR:
-                case IN:
-                case NOT:
-                case PARITY:
-                case PPRIO:
-                case PPRIOD:
-                case PROP:
-                case TRUE:
-                case VAR:
-                case VCARD:
-                case VNAME: {
-                    alt9 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:161:5: (p= predicate | ^( AND (p= predicates )+ ) | ^( OR (p= predicates )+ ) )
+            int alt9=3;
+            switch ( input.LA(1) ) {
+            case CARITY:
+            case CNAME:
+            case CSTR:
+            case IN:
+            case NOT:
+            case PARITY:
+            case PPRIO:
+            case PPRIOD:
+            case PROP:
+            case TRUE:
+            case VAR:
+            case VCARD:
+            case VNAME:
+                {
+                alt9=1;
                 }
                 break;
-                case AND: {
-                    alt9 = 2;
+            case AND:
+                {
+                alt9=2;
                 }
                 break;
-                case OR: {
-                    alt9 = 3;
+            case OR:
+                {
+                alt9=3;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 9, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 9, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt9) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:157:9: p= predicate
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:161:9: p= predicate
+                    {
                     pushFollow(FOLLOW_predicate_in_predicates178);
-                    p = predicate();
+                    p=predicate();
 
                     state._fsp--;
 
 
-                    pred = p;
-
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:162:5: ^( AND (p= predicates )+ )
-                {
+                        pred = p;
+                        
 
-                    ArrayList<Predicate> preds = new ArrayList();
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:166:5: ^( AND (p= predicates )+ )
+                    {
 
+                        ArrayList<Predicate> preds = new ArrayList();
+                        
 
-                    match(input, AND, FOLLOW_AND_in_predicates203);
+                    match(input,AND,FOLLOW_AND_in_predicates203); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:165:11: (p= predicates )+
-                    int cnt7 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:169:11: (p= predicates )+
+                    int cnt7=0;
                     loop7:
                     do {
-                        int alt7 = 2;
-                        switch (input.LA(1)) {
-                            case AND:
-                            case CARITY:
-                            case CNAME:
-                            case CSTR:
-                            case IN:
-                            case NOT:
-                            case OR:
-                            case PARITY:
-                            case PPRIO:
-                            case PPRIOD:
-                            case PROP:
-                            case TRUE:
-                            case VAR:
-                            case VCARD:
-                            case VNAME: {
-                                alt7 = 1;
-                            }
-                            break;
+                        int alt7=2;
+                        int LA7_0 = input.LA(1);
 
+                        if ( (LA7_0==AND||LA7_0==CARITY||LA7_0==CNAME||LA7_0==CSTR||LA7_0==IN||LA7_0==NOT||LA7_0==OR||LA7_0==PARITY||(LA7_0 >= PPRIO && LA7_0 <= PPRIOD)||LA7_0==PROP||LA7_0==TRUE||(LA7_0 >= VAR && LA7_0 <= VNAME)) ) {
+                            alt7=1;
                         }
 
+
                         switch (alt7) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:165:12: p= predicates
-                            {
-                                pushFollow(FOLLOW_predicates_in_predicates208);
-                                p = predicates();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:169:12: p= predicates
+                    	    {
+                    	    pushFollow(FOLLOW_predicates_in_predicates208);
+                    	    p=predicates();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                preds.add(p);
+                    	    preds.add(p);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt7 >= 1) break loop7;
+                    	default :
+                    	    if ( cnt7 >= 1 ) break loop7;
                                 EarlyExitException eee =
-                                        new EarlyExitException(7, input);
+                                    new EarlyExitException(7, input);
                                 throw eee;
                         }
                         cnt7++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
-
+                    match(input, Token.UP, null); 
 
-                    pred = new BoolPredicate(preds, BoolPredicate.TYPE.AND);
 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:170:5: ^( OR (p= predicates )+ )
-                {
+                        pred = new BoolPredicate(preds, BoolPredicate.TYPE.AND);
+                        
 
-                    ArrayList<Predicate> preds = new ArrayList();
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:174:5: ^( OR (p= predicates )+ )
+                    {
 
+                        ArrayList<Predicate> preds = new ArrayList();
+                        
 
-                    match(input, OR, FOLLOW_OR_in_predicates237);
+                    match(input,OR,FOLLOW_OR_in_predicates237); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:173:10: (p= predicates )+
-                    int cnt8 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:177:10: (p= predicates )+
+                    int cnt8=0;
                     loop8:
                     do {
-                        int alt8 = 2;
-                        switch (input.LA(1)) {
-                            case AND:
-                            case CARITY:
-                            case CNAME:
-                            case CSTR:
-                            case IN:
-                            case NOT:
-                            case OR:
-                            case PARITY:
-                            case PPRIO:
-                            case PPRIOD:
-                            case PROP:
-                            case TRUE:
-                            case VAR:
-                            case VCARD:
-                            case VNAME: {
-                                alt8 = 1;
-                            }
-                            break;
+                        int alt8=2;
+                        int LA8_0 = input.LA(1);
 
+                        if ( (LA8_0==AND||LA8_0==CARITY||LA8_0==CNAME||LA8_0==CSTR||LA8_0==IN||LA8_0==NOT||LA8_0==OR||LA8_0==PARITY||(LA8_0 >= PPRIO && LA8_0 <= PPRIOD)||LA8_0==PROP||LA8_0==TRUE||(LA8_0 >= VAR && LA8_0 <= VNAME)) ) {
+                            alt8=1;
                         }
 
+
                         switch (alt8) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:173:11: p= predicates
-                            {
-                                pushFollow(FOLLOW_predicates_in_predicates242);
-                                p = predicates();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:177:11: p= predicates
+                    	    {
+                    	    pushFollow(FOLLOW_predicates_in_predicates242);
+                    	    p=predicates();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                preds.add(p);
+                    	    preds.add(p);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt8 >= 1) break loop8;
+                    	default :
+                    	    if ( cnt8 >= 1 ) break loop8;
                                 EarlyExitException eee =
-                                        new EarlyExitException(8, input);
+                                    new EarlyExitException(8, input);
                                 throw eee;
                         }
                         cnt8++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    pred = new BoolPredicate(preds, BoolPredicate.TYPE.OR);
 
+                        pred = new BoolPredicate(preds, BoolPredicate.TYPE.OR);
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return pred;
     }
     // $ANTLR end "predicates"
 
 
+
     // $ANTLR start "predicate"
-    // parser/flatzinc/FlatzincFullExtWalker.g:180:1: predicate returns [Predicate pred] : ( TRUE |a= attribute o= op i= INT_CONST | ^( IN (i= IDENTIFIER )+ ) | NOT p= predicate );
+    // parser/flatzinc/FlatzincFullExtWalker.g:184:1: predicate returns [Predicate pred] : ( TRUE |a= attribute o= op i= INT_CONST | ^( IN (i= IDENTIFIER )+ ) | NOT p= predicate );
     public final Predicate predicate() throws RecognitionException {
         Predicate pred = null;
 
 
-        CommonTree i = null;
-        Attribute a = null;
+        CommonTree i=null;
+        Attribute a =null;
 
-        Operator o = null;
+        Operator o =null;
 
-        Predicate p = null;
+        Predicate p =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:181:2: ( TRUE |a= attribute o= op i= INT_CONST | ^( IN (i= IDENTIFIER )+ ) | NOT p= predicate )
-            int alt11 = 4;
-            switch (input.LA(1)) {
-                case TRUE: {
-                    alt11 = 1;
-                }
-                break;
-                case CARITY:
-                case CNAME:
-                case CSTR:
-                case PARITY:
-                case PPRIO:
-                case PPRIOD:
-                case PROP:
-                case VAR:
-                case VCARD:
-                case VNAME: {
-                    alt11 = 2;
+            // parser/flatzinc/FlatzincFullExtWalker.g:185:2: ( TRUE |a= attribute o= op i= INT_CONST | ^( IN (i= IDENTIFIER )+ ) | NOT p= predicate )
+            int alt11=4;
+            switch ( input.LA(1) ) {
+            case TRUE:
+                {
+                alt11=1;
+                }
+                break;
+            case CARITY:
+            case CNAME:
+            case CSTR:
+            case PARITY:
+            case PPRIO:
+            case PPRIOD:
+            case PROP:
+            case VAR:
+            case VCARD:
+            case VNAME:
+                {
+                alt11=2;
                 }
                 break;
-                case IN: {
-                    alt11 = 3;
+            case IN:
+                {
+                alt11=3;
                 }
                 break;
-                case NOT: {
-                    alt11 = 4;
+            case NOT:
+                {
+                alt11=4;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 11, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt11) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:181:4: TRUE
-                {
-                    match(input, TRUE, FOLLOW_TRUE_in_predicate273);
-
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:185:4: TRUE
+                    {
+                    match(input,TRUE,FOLLOW_TRUE_in_predicate273); 
 
-                    pred = TruePredicate.singleton;
 
+                    	pred = TruePredicate.singleton;
+                    	
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:185:4: a= attribute o= op i= INT_CONST
-                {
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:189:4: a= attribute o= op i= INT_CONST
+                    {
                     pushFollow(FOLLOW_attribute_in_predicate283);
-                    a = attribute();
+                    a=attribute();
 
                     state._fsp--;
 
 
                     pushFollow(FOLLOW_op_in_predicate287);
-                    o = op();
+                    o=op();
 
                     state._fsp--;
 
 
-                    i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_predicate291);
+                    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_predicate291); 
 
 
-                    pred = new IntPredicate(a, o, Integer.valueOf((i != null ? i.getText() : null)));
-
-
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:190:2: ^( IN (i= IDENTIFIER )+ )
-                {
+                        pred = new IntPredicate(a,o,Integer.valueOf((i!=null?i.getText():null)));
+                        
 
-                    ArrayList<String> ids = new ArrayList();
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:194:2: ^( IN (i= IDENTIFIER )+ )
+                    {
 
+                    	ArrayList<String> ids = new ArrayList();
+                    	
 
-                    match(input, IN, FOLLOW_IN_in_predicate308);
+                    match(input,IN,FOLLOW_IN_in_predicate308); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:193:11: (i= IDENTIFIER )+
-                    int cnt10 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:197:11: (i= IDENTIFIER )+
+                    int cnt10=0;
                     loop10:
                     do {
-                        int alt10 = 2;
-                        switch (input.LA(1)) {
-                            case IDENTIFIER: {
-                                alt10 = 1;
-                            }
-                            break;
+                        int alt10=2;
+                        int LA10_0 = input.LA(1);
 
+                        if ( (LA10_0==IDENTIFIER) ) {
+                            alt10=1;
                         }
 
+
                         switch (alt10) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:193:12: i= IDENTIFIER
-                            {
-                                i = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_predicate313);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:197:12: i= IDENTIFIER
+                    	    {
+                    	    i=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_predicate313); 
 
-                                ids.add((i != null ? i.getText() : null));
+                    	    ids.add((i!=null?i.getText():null));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt10 >= 1) break loop10;
+                    	default :
+                    	    if ( cnt10 >= 1 ) break loop10;
                                 EarlyExitException eee =
-                                        new EarlyExitException(10, input);
+                                    new EarlyExitException(10, input);
                                 throw eee;
                         }
                         cnt10++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    pred = new ExtPredicate(ids, map);
 
+                    	pred = new ExtPredicate(ids, map);
+                    	
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:197:4: NOT p= predicate
-                {
-                    match(input, NOT, FOLLOW_NOT_in_predicate325);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:201:4: NOT p= predicate
+                    {
+                    match(input,NOT,FOLLOW_NOT_in_predicate325); 
 
                     pushFollow(FOLLOW_predicate_in_predicate329);
-                    p = predicate();
+                    p=predicate();
 
                     state._fsp--;
 
 
-                    pred = new NotPredicate(p);
 
+                        pred = new NotPredicate(p);
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return pred;
     }
     // $ANTLR end "predicate"
 
 
+
     // $ANTLR start "attribute"
-    // parser/flatzinc/FlatzincFullExtWalker.g:205:1: attribute returns [Attribute attr] : ( VAR | CSTR | PROP | VNAME | VCARD | CNAME | CARITY | PPRIO | PARITY | PPRIOD );
+    // parser/flatzinc/FlatzincFullExtWalker.g:209:1: attribute returns [Attribute attr] : ( VAR | CSTR | PROP | VNAME | VCARD | CNAME | CARITY | PPRIO | PARITY | PPRIOD );
     public final Attribute attribute() throws RecognitionException {
         Attribute attr = null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:206:5: ( VAR | CSTR | PROP | VNAME | VCARD | CNAME | CARITY | PPRIO | PARITY | PPRIOD )
-            int alt12 = 10;
-            switch (input.LA(1)) {
-                case VAR: {
-                    alt12 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:210:5: ( VAR | CSTR | PROP | VNAME | VCARD | CNAME | CARITY | PPRIO | PARITY | PPRIOD )
+            int alt12=10;
+            switch ( input.LA(1) ) {
+            case VAR:
+                {
+                alt12=1;
                 }
                 break;
-                case CSTR: {
-                    alt12 = 2;
+            case CSTR:
+                {
+                alt12=2;
                 }
                 break;
-                case PROP: {
-                    alt12 = 3;
+            case PROP:
+                {
+                alt12=3;
                 }
                 break;
-                case VNAME: {
-                    alt12 = 4;
+            case VNAME:
+                {
+                alt12=4;
                 }
                 break;
-                case VCARD: {
-                    alt12 = 5;
+            case VCARD:
+                {
+                alt12=5;
                 }
                 break;
-                case CNAME: {
-                    alt12 = 6;
+            case CNAME:
+                {
+                alt12=6;
                 }
                 break;
-                case CARITY: {
-                    alt12 = 7;
+            case CARITY:
+                {
+                alt12=7;
                 }
                 break;
-                case PPRIO: {
-                    alt12 = 8;
+            case PPRIO:
+                {
+                alt12=8;
                 }
                 break;
-                case PARITY: {
-                    alt12 = 9;
+            case PARITY:
+                {
+                alt12=9;
                 }
                 break;
-                case PPRIOD: {
-                    alt12 = 10;
+            case PPRIOD:
+                {
+                alt12=10;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 12, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 12, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt12) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:206:9: VAR
-                {
-                    match(input, VAR, FOLLOW_VAR_in_attribute356);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:210:9: VAR
+                    {
+                    match(input,VAR,FOLLOW_VAR_in_attribute356); 
 
                     attr = Attribute.VAR;
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:207:9: CSTR
-                {
-                    match(input, CSTR, FOLLOW_CSTR_in_attribute372);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:211:9: CSTR
+                    {
+                    match(input,CSTR,FOLLOW_CSTR_in_attribute372); 
 
                     attr = Attribute.CSTR;
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:208:9: PROP
-                {
-                    match(input, PROP, FOLLOW_PROP_in_attribute387);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:212:9: PROP
+                    {
+                    match(input,PROP,FOLLOW_PROP_in_attribute387); 
 
                     attr = Attribute.PROP;
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:209:9: VNAME
-                {
-                    match(input, VNAME, FOLLOW_VNAME_in_attribute402);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:213:9: VNAME
+                    {
+                    match(input,VNAME,FOLLOW_VNAME_in_attribute402); 
 
                     attr = Attribute.VNAME;
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:210:9: VCARD
-                {
-                    match(input, VCARD, FOLLOW_VCARD_in_attribute417);
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:214:9: VCARD
+                    {
+                    match(input,VCARD,FOLLOW_VCARD_in_attribute417); 
 
                     attr = Attribute.VCARD;
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:211:9: CNAME
-                {
-                    match(input, CNAME, FOLLOW_CNAME_in_attribute431);
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:215:9: CNAME
+                    {
+                    match(input,CNAME,FOLLOW_CNAME_in_attribute431); 
 
                     attr = Attribute.CNAME;
 
-                }
-                break;
-                case 7:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:212:9: CARITY
-                {
-                    match(input, CARITY, FOLLOW_CARITY_in_attribute446);
+                    }
+                    break;
+                case 7 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:216:9: CARITY
+                    {
+                    match(input,CARITY,FOLLOW_CARITY_in_attribute446); 
 
                     attr = Attribute.CARITY;
 
-                }
-                break;
-                case 8:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:213:9: PPRIO
-                {
-                    match(input, PPRIO, FOLLOW_PPRIO_in_attribute459);
+                    }
+                    break;
+                case 8 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:217:9: PPRIO
+                    {
+                    match(input,PPRIO,FOLLOW_PPRIO_in_attribute459); 
 
                     attr = Attribute.PPRIO;
 
-                }
-                break;
-                case 9:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:214:9: PARITY
-                {
-                    match(input, PARITY, FOLLOW_PARITY_in_attribute473);
+                    }
+                    break;
+                case 9 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:218:9: PARITY
+                    {
+                    match(input,PARITY,FOLLOW_PARITY_in_attribute473); 
 
                     attr = Attribute.PARITY;
 
-                }
-                break;
-                case 10:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:215:9: PPRIOD
-                {
-                    match(input, PPRIOD, FOLLOW_PPRIOD_in_attribute486);
+                    }
+                    break;
+                case 10 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:219:9: PPRIOD
+                    {
+                    match(input,PPRIOD,FOLLOW_PPRIOD_in_attribute486); 
 
                     attr = Attribute.PPRIOD;
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return attr;
     }
     // $ANTLR end "attribute"
 
 
+
     // $ANTLR start "op"
-    // parser/flatzinc/FlatzincFullExtWalker.g:219:1: op returns [Operator value] : ( OEQ | ONQ | OLT | OGT | OLQ | OGQ );
+    // parser/flatzinc/FlatzincFullExtWalker.g:223:1: op returns [Operator value] : ( OEQ | ONQ | OLT | OGT | OLQ | OGQ );
     public final Operator op() throws RecognitionException {
         Operator value = null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:220:5: ( OEQ | ONQ | OLT | OGT | OLQ | OGQ )
-            int alt13 = 6;
-            switch (input.LA(1)) {
-                case OEQ: {
-                    alt13 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:224:5: ( OEQ | ONQ | OLT | OGT | OLQ | OGQ )
+            int alt13=6;
+            switch ( input.LA(1) ) {
+            case OEQ:
+                {
+                alt13=1;
                 }
                 break;
-                case ONQ: {
-                    alt13 = 2;
+            case ONQ:
+                {
+                alt13=2;
                 }
                 break;
-                case OLT: {
-                    alt13 = 3;
+            case OLT:
+                {
+                alt13=3;
                 }
                 break;
-                case OGT: {
-                    alt13 = 4;
+            case OGT:
+                {
+                alt13=4;
                 }
                 break;
-                case OLQ: {
-                    alt13 = 5;
+            case OLQ:
+                {
+                alt13=5;
                 }
                 break;
-                case OGQ: {
-                    alt13 = 6;
+            case OGQ:
+                {
+                alt13=6;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 13, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 13, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt13) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:220:9: OEQ
-                {
-                    match(input, OEQ, FOLLOW_OEQ_in_op514);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:224:9: OEQ
+                    {
+                    match(input,OEQ,FOLLOW_OEQ_in_op514); 
 
                     value = Operator.EQ;
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:221:9: ONQ
-                {
-                    match(input, ONQ, FOLLOW_ONQ_in_op526);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:225:9: ONQ
+                    {
+                    match(input,ONQ,FOLLOW_ONQ_in_op526); 
 
                     value = Operator.NQ;
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:222:9: OLT
-                {
-                    match(input, OLT, FOLLOW_OLT_in_op538);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:226:9: OLT
+                    {
+                    match(input,OLT,FOLLOW_OLT_in_op538); 
 
                     value = Operator.LT;
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:223:9: OGT
-                {
-                    match(input, OGT, FOLLOW_OGT_in_op550);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:227:9: OGT
+                    {
+                    match(input,OGT,FOLLOW_OGT_in_op550); 
 
                     value = Operator.GT;
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:224:9: OLQ
-                {
-                    match(input, OLQ, FOLLOW_OLQ_in_op562);
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:228:9: OLQ
+                    {
+                    match(input,OLQ,FOLLOW_OLQ_in_op562); 
 
                     value = Operator.LQ;
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:225:9: OGQ
-                {
-                    match(input, OGQ, FOLLOW_OGQ_in_op574);
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:229:9: OGQ
+                    {
+                    match(input,OGQ,FOLLOW_OGQ_in_op574); 
 
                     value = Operator.GQ;
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return value;
     }
     // $ANTLR end "op"
 
 
+
     // $ANTLR start "structure"
-    // parser/flatzinc/FlatzincFullExtWalker.g:231:1: structure[DSLEngine pe] returns [PropagationStrategy ps] : (s= struct[pe] |sr= struct_reg[pe] );
+    // parser/flatzinc/FlatzincFullExtWalker.g:235:1: structure[DSLEngine pe] returns [PropagationStrategy ps] : (s= struct[pe] |sr= struct_reg[pe] );
     public final PropagationStrategy structure(DSLEngine pe) throws RecognitionException {
         PropagationStrategy ps = null;
 
 
-        PropagationStrategy s = null;
+        PropagationStrategy s =null;
 
-        PropagationStrategy sr = null;
+        PropagationStrategy sr =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:232:2: (s= struct[pe] |sr= struct_reg[pe] )
-            int alt14 = 2;
-            switch (input.LA(1)) {
-                case STRUC1:
-                case STRUC2: {
-                    alt14 = 1;
-                }
-                break;
-                case STREG: {
-                    alt14 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 14, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincFullExtWalker.g:236:2: (s= struct[pe] |sr= struct_reg[pe] )
+            int alt14=2;
+            int LA14_0 = input.LA(1);
 
+            if ( ((LA14_0 >= STRUC1 && LA14_0 <= STRUC2)) ) {
+                alt14=1;
+            }
+            else if ( (LA14_0==STREG) ) {
+                alt14=2;
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 14, 0, input);
 
+                throw nvae;
+
+            }
             switch (alt14) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:232:4: s= struct[pe]
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:236:4: s= struct[pe]
+                    {
                     pushFollow(FOLLOW_struct_in_structure603);
-                    s = struct(pe);
+                    s=struct(pe);
 
                     state._fsp--;
 
 
-                    ps = s;
 
+                    	ps = s;
+                    	
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:236:6: sr= struct_reg[pe]
-                {
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:240:6: sr= struct_reg[pe]
+                    {
                     pushFollow(FOLLOW_struct_reg_in_structure616);
-                    sr = struct_reg(pe);
+                    sr=struct_reg(pe);
 
                     state._fsp--;
 
 
-                    ps = sr;
 
+                    	ps = sr;
+                    	
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return ps;
     }
     // $ANTLR end "structure"
 
 
+
     // $ANTLR start "struct"
-    // parser/flatzinc/FlatzincFullExtWalker.g:242:1: struct[DSLEngine pe] returns [PropagationStrategy item] : ( ^( STRUC1 (element= elt[pe] )+ c= coll[elements, ca] ) | ^( STRUC2 (element= elt[pe] )+ ca= comb_attr c= coll[elements, ca] ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:246:1: struct[DSLEngine pe] returns [PropagationStrategy item] : ( ^( STRUC1 (element= elt[pe] )+ c= coll[elements, ca] ) | ^( STRUC2 (element= elt[pe] )+ ca= comb_attr c= coll[elements, ca] ) );
     public final PropagationStrategy struct(DSLEngine pe) throws RecognitionException {
         PropagationStrategy item = null;
 
 
-        ISchedulable[] element = null;
+        ISchedulable[] element =null;
 
-        PropagationStrategy c = null;
+        PropagationStrategy c =null;
 
-        CombinedAttribute ca = null;
+        CombinedAttribute ca =null;
 
 
-        ArrayList<ISchedulable> elements = new ArrayList<ISchedulable>();
 
-        try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:249:5: ( ^( STRUC1 (element= elt[pe] )+ c= coll[elements, ca] ) | ^( STRUC2 (element= elt[pe] )+ ca= comb_attr c= coll[elements, ca] ) )
-            int alt17 = 2;
-            switch (input.LA(1)) {
-                case STRUC1: {
-                    alt17 = 1;
-                }
-                break;
-                case STRUC2: {
-                    alt17 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 17, 0, input);
+             ArrayList<ISchedulable> elements = new ArrayList<ISchedulable>();
 
-                    throw nvae;
+        try {
+            // parser/flatzinc/FlatzincFullExtWalker.g:253:5: ( ^( STRUC1 (element= elt[pe] )+ c= coll[elements, ca] ) | ^( STRUC2 (element= elt[pe] )+ ca= comb_attr c= coll[elements, ca] ) )
+            int alt17=2;
+            int LA17_0 = input.LA(1);
 
+            if ( (LA17_0==STRUC1) ) {
+                alt17=1;
+            }
+            else if ( (LA17_0==STRUC2) ) {
+                alt17=2;
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 17, 0, input);
 
+                throw nvae;
+
+            }
             switch (alt17) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:249:7: ^( STRUC1 (element= elt[pe] )+ c= coll[elements, ca] )
-                {
-                    match(input, STRUC1, FOLLOW_STRUC1_in_struct649);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:253:7: ^( STRUC1 (element= elt[pe] )+ c= coll[elements, ca] )
+                    {
+                    match(input,STRUC1,FOLLOW_STRUC1_in_struct649); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:249:16: (element= elt[pe] )+
-                    int cnt15 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:253:16: (element= elt[pe] )+
+                    int cnt15=0;
                     loop15:
                     do {
-                        int alt15 = 2;
-                        switch (input.LA(1)) {
-                            case IDENTIFIER:
-                            case STREG:
-                            case STRUC1:
-                            case STRUC2: {
-                                alt15 = 1;
-                            }
-                            break;
+                        int alt15=2;
+                        int LA15_0 = input.LA(1);
 
+                        if ( (LA15_0==IDENTIFIER||LA15_0==STREG||(LA15_0 >= STRUC1 && LA15_0 <= STRUC2)) ) {
+                            alt15=1;
                         }
 
+
                         switch (alt15) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:249:17: element= elt[pe]
-                            {
-                                pushFollow(FOLLOW_elt_in_struct656);
-                                element = elt(pe);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:253:17: element= elt[pe]
+                    	    {
+                    	    pushFollow(FOLLOW_elt_in_struct656);
+                    	    element=elt(pe);
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                elements.addAll(Arrays.asList(element));
+                    	    elements.addAll(Arrays.asList(element));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt15 >= 1) break loop15;
+                    	default :
+                    	    if ( cnt15 >= 1 ) break loop15;
                                 EarlyExitException eee =
-                                        new EarlyExitException(15, input);
+                                    new EarlyExitException(15, input);
                                 throw eee;
                         }
                         cnt15++;
@@ -1318,57 +1362,53 @@ public class FlatzincFullExtWalker extends TreeParser {
 
 
                     pushFollow(FOLLOW_coll_in_struct664);
-                    c = coll(elements, ca);
+                    c=coll(elements, ca);
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:250:6: ^( STRUC2 (element= elt[pe] )+ ca= comb_attr c= coll[elements, ca] )
-                {
-                    match(input, STRUC2, FOLLOW_STRUC2_in_struct674);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:254:6: ^( STRUC2 (element= elt[pe] )+ ca= comb_attr c= coll[elements, ca] )
+                    {
+                    match(input,STRUC2,FOLLOW_STRUC2_in_struct674); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:250:15: (element= elt[pe] )+
-                    int cnt16 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:254:15: (element= elt[pe] )+
+                    int cnt16=0;
                     loop16:
                     do {
-                        int alt16 = 2;
-                        switch (input.LA(1)) {
-                            case IDENTIFIER:
-                            case STREG:
-                            case STRUC1:
-                            case STRUC2: {
-                                alt16 = 1;
-                            }
-                            break;
+                        int alt16=2;
+                        int LA16_0 = input.LA(1);
 
+                        if ( (LA16_0==IDENTIFIER||LA16_0==STREG||(LA16_0 >= STRUC1 && LA16_0 <= STRUC2)) ) {
+                            alt16=1;
                         }
 
+
                         switch (alt16) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:250:16: element= elt[pe]
-                            {
-                                pushFollow(FOLLOW_elt_in_struct681);
-                                element = elt(pe);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:254:16: element= elt[pe]
+                    	    {
+                    	    pushFollow(FOLLOW_elt_in_struct681);
+                    	    element=elt(pe);
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                elements.addAll(Arrays.asList(element));
+                    	    elements.addAll(Arrays.asList(element));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt16 >= 1) break loop16;
+                    	default :
+                    	    if ( cnt16 >= 1 ) break loop16;
                                 EarlyExitException eee =
-                                        new EarlyExitException(16, input);
+                                    new EarlyExitException(16, input);
                                 throw eee;
                         }
                         cnt16++;
@@ -1376,256 +1416,272 @@ public class FlatzincFullExtWalker extends TreeParser {
 
 
                     pushFollow(FOLLOW_comb_attr_in_struct689);
-                    ca = comb_attr();
+                    ca=comb_attr();
 
                     state._fsp--;
 
 
                     pushFollow(FOLLOW_coll_in_struct693);
-                    c = coll(elements, ca);
+                    c=coll(elements, ca);
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
 
-            item = c;
+                 item = c;
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return item;
     }
     // $ANTLR end "struct"
 
 
+
     // $ANTLR start "struct_reg"
-    // parser/flatzinc/FlatzincFullExtWalker.g:253:1: struct_reg[DSLEngine pe] returns [PropagationStrategy item] : ( ^( STREG id= IDENTIFIER . . ) | ^( STREG id= IDENTIFIER ca= comb_attr . . ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:257:1: struct_reg[DSLEngine pe] returns [PropagationStrategy item] : ( ^( STREG id= IDENTIFIER . . ) | ^( STREG id= IDENTIFIER ca= comb_attr . . ) );
     public final PropagationStrategy struct_reg(DSLEngine pe) throws RecognitionException {
         PropagationStrategy item = null;
 
 
-        CommonTree id = null;
-        CombinedAttribute ca = null;
+        CommonTree id=null;
+        CombinedAttribute ca =null;
+
 
 
-        int m_idx = -1, c_idx = -1;
+            int m_idx = -1,c_idx = -1;
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:276:2: ( ^( STREG id= IDENTIFIER . . ) | ^( STREG id= IDENTIFIER ca= comb_attr . . ) )
-            int alt18 = 2;
+            // parser/flatzinc/FlatzincFullExtWalker.g:280:2: ( ^( STREG id= IDENTIFIER . . ) | ^( STREG id= IDENTIFIER ca= comb_attr . . ) )
+            int alt18=2;
             alt18 = dfa18.predict(input);
             switch (alt18) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:276:4: ^( STREG id= IDENTIFIER . . )
-                {
-                    match(input, STREG, FOLLOW_STREG_in_struct_reg721);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:280:4: ^( STREG id= IDENTIFIER . . )
+                    {
+                    match(input,STREG,FOLLOW_STREG_in_struct_reg721); 
 
-                    match(input, Token.DOWN, null);
-                    id = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_struct_reg725);
+                    match(input, Token.DOWN, null); 
+                    id=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_struct_reg725); 
 
                     m_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
                     c_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:277:9: ^( STREG id= IDENTIFIER ca= comb_attr . . )
-                {
-                    match(input, STREG, FOLLOW_STREG_in_struct_reg746);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:281:9: ^( STREG id= IDENTIFIER ca= comb_attr . . )
+                    {
+                    match(input,STREG,FOLLOW_STREG_in_struct_reg746); 
 
-                    match(input, Token.DOWN, null);
-                    id = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_struct_reg750);
+                    match(input, Token.DOWN, null); 
+                    id=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_struct_reg750); 
 
                     pushFollow(FOLLOW_comb_attr_in_struct_reg754);
-                    ca = comb_attr();
+                    ca=comb_attr();
 
                     state._fsp--;
 
 
                     m_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
                     c_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
 
             //    String id = $IDENTIFIER.text;
-            ArrayList<Arc> arcs = groups.get((id != null ? id.getText() : null));
-            if (arcs == null) {
-                LOGGER.error("% Unknown group_decl :" + id);
-                throw new FZNException("Unknown group_decl :" + id);
-            }
-            for (int k = 0; k < arcs.size(); k++) {
-                pe.declareArc(arcs.get(k));
-            }
-            input.seek(m_idx);
-            ArrayList<PropagationStrategy> pss = many(arcs).pss;
-            input.release(m_idx);
-            input.seek(c_idx);
-            item = coll(pss, ca);
-            input.release(c_idx);
-            //BEWARE: kind of ugly patch...
-            match(input, Token.UP, null);
-
-        } catch (RecognitionException re) {
+                ArrayList<Arc> arcs = groups.get((id!=null?id.getText():null));
+                if(arcs == null){
+                    LOGGER.error("% Unknown group_decl :"+id);
+                    throw new FZNException("Unknown group_decl :"+id);
+                }
+                for(int k = 0; k < arcs.size(); k++){
+                    pe.declareArc(arcs.get(k));
+                }
+                input.seek(m_idx);
+                ArrayList<PropagationStrategy> pss = many(arcs).pss;
+                input.release(m_idx);
+                input.seek(c_idx);
+                item = coll(pss, ca);
+                input.release(c_idx);
+                //BEWARE: kind of ugly patch...
+                match(input, Token.UP, null);
+
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return item;
     }
     // $ANTLR end "struct_reg"
 
 
+
     // $ANTLR start "elt"
-    // parser/flatzinc/FlatzincFullExtWalker.g:280:1: elt[DSLEngine pe] returns [ISchedulable[] items] : (s= struct[pe] |sr= struct_reg[pe] | IDENTIFIER ( KEY a= attribute )? );
+    // parser/flatzinc/FlatzincFullExtWalker.g:284:1: elt[DSLEngine pe] returns [ISchedulable[] items] : (s= struct[pe] |sr= struct_reg[pe] | IDENTIFIER ( KEY a= attribute )? );
     public final ISchedulable[] elt(DSLEngine pe) throws RecognitionException {
         ISchedulable[] items = null;
 
 
-        CommonTree IDENTIFIER2 = null;
-        PropagationStrategy s = null;
+        CommonTree IDENTIFIER2=null;
+        PropagationStrategy s =null;
 
-        PropagationStrategy sr = null;
+        PropagationStrategy sr =null;
 
-        Attribute a = null;
+        Attribute a =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:281:5: (s= struct[pe] |sr= struct_reg[pe] | IDENTIFIER ( KEY a= attribute )? )
-            int alt20 = 3;
-            switch (input.LA(1)) {
-                case STRUC1:
-                case STRUC2: {
-                    alt20 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:285:5: (s= struct[pe] |sr= struct_reg[pe] | IDENTIFIER ( KEY a= attribute )? )
+            int alt20=3;
+            switch ( input.LA(1) ) {
+            case STRUC1:
+            case STRUC2:
+                {
+                alt20=1;
                 }
                 break;
-                case STREG: {
-                    alt20 = 2;
+            case STREG:
+                {
+                alt20=2;
                 }
                 break;
-                case IDENTIFIER: {
-                    alt20 = 3;
+            case IDENTIFIER:
+                {
+                alt20=3;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 20, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 20, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt20) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:281:7: s= struct[pe]
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:285:7: s= struct[pe]
+                    {
                     pushFollow(FOLLOW_struct_in_elt786);
-                    s = struct(pe);
+                    s=struct(pe);
 
                     state._fsp--;
 
 
-                    items = new ISchedulable[]{s};
 
+                        items = new ISchedulable[]{s};
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:285:4: sr= struct_reg[pe]
-                {
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:289:4: sr= struct_reg[pe]
+                    {
                     pushFollow(FOLLOW_struct_reg_in_elt800);
-                    sr = struct_reg(pe);
+                    sr=struct_reg(pe);
 
                     state._fsp--;
 
 
-                    items = new ISchedulable[]{sr};
-
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:289:4: IDENTIFIER ( KEY a= attribute )?
-                {
-                    IDENTIFIER2 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_elt809);
+                    	items = new ISchedulable[]{sr};
+                    	
 
-                    // parser/flatzinc/FlatzincFullExtWalker.g:289:15: ( KEY a= attribute )?
-                    int alt19 = 2;
-                    switch (input.LA(1)) {
-                        case KEY: {
-                            alt19 = 1;
-                        }
-                        break;
                     }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:293:4: IDENTIFIER ( KEY a= attribute )?
+                    {
+                    IDENTIFIER2=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_elt809); 
 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:293:15: ( KEY a= attribute )?
+                    int alt19=2;
+                    int LA19_0 = input.LA(1);
+
+                    if ( (LA19_0==KEY) ) {
+                        alt19=1;
+                    }
                     switch (alt19) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:289:16: KEY a= attribute
-                        {
-                            match(input, KEY, FOLLOW_KEY_in_elt812);
+                        case 1 :
+                            // parser/flatzinc/FlatzincFullExtWalker.g:293:16: KEY a= attribute
+                            {
+                            match(input,KEY,FOLLOW_KEY_in_elt812); 
 
                             pushFollow(FOLLOW_attribute_in_elt816);
-                            a = attribute();
+                            a=attribute();
 
                             state._fsp--;
 
 
-                        }
-                        break;
+                            }
+                            break;
 
                     }
 
 
-                    String id = (IDENTIFIER2 != null ? IDENTIFIER2.getText() : null);
-                    ArrayList<Arc> scope = groups.get(id);
-                    // iterate over in to create arcs
-                    Arc[] arcs = scope.toArray(new Arc[scope.size()]);
-                    for (int i = 0; i < scope.size(); i++) {
-                        Arc arc = scope.get(i);
-                        pe.declareArc(arc);
-                        arc.attachEvaluator(a);
-                    }
-                    items = arcs;
 
+                    	String id = (IDENTIFIER2!=null?IDENTIFIER2.getText():null);
+                    	ArrayList<Arc> scope = groups.get(id);
+                    	// iterate over in to create arcs
+                        Arc[] arcs = scope.toArray(new Arc[scope.size()]);
+                        for(int i = 0 ; i < scope.size(); i++){
+                            Arc arc = scope.get(i);
+                            pe.declareArc(arc);
+                            arc.attachEvaluator(a);
+                        }
+                        items = arcs;
+                    	
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return items;
     }
@@ -1635,762 +1691,763 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static class many_return extends TreeRuleReturnScope {
         public ArrayList<PropagationStrategy> pss;
         public int depth;
-    }
-
-    ;
+    };
 
 
     // $ANTLR start "many"
-    // parser/flatzinc/FlatzincFullExtWalker.g:304:1: many[ArrayList<Arc> in] returns [ArrayList<PropagationStrategy> pss, int depth] : ( ^( MANY1 a= attribute . ) | ^( MANY2 a= attribute ca= comb_attr . ) | ^( MANY3 a= attribute . . ) | ^( MANY4 a= attribute ca= comb_attr . . ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:308:1: many[ArrayList<Arc> in] returns [ArrayList<PropagationStrategy> pss, int depth] : ( ^( MANY1 a= attribute . ) | ^( MANY2 a= attribute ca= comb_attr . ) | ^( MANY3 a= attribute . . ) | ^( MANY4 a= attribute ca= comb_attr . . ) );
     public final FlatzincFullExtWalker.many_return many(ArrayList<Arc> in) throws RecognitionException {
         FlatzincFullExtWalker.many_return retval = new FlatzincFullExtWalker.many_return();
         retval.start = input.LT(1);
 
 
-        Attribute a = null;
+        Attribute a =null;
+
+        CombinedAttribute ca =null;
 
-        CombinedAttribute ca = null;
 
 
-        retval.pss = new ArrayList<PropagationStrategy>();
-        int c_idx = -1, m_idx = -1;
+            retval.pss = new ArrayList<PropagationStrategy>();
+            int c_idx = -1, m_idx = -1;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:415:5: ( ^( MANY1 a= attribute . ) | ^( MANY2 a= attribute ca= comb_attr . ) | ^( MANY3 a= attribute . . ) | ^( MANY4 a= attribute ca= comb_attr . . ) )
-            int alt21 = 4;
-            switch (input.LA(1)) {
-                case MANY1: {
-                    alt21 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:419:5: ( ^( MANY1 a= attribute . ) | ^( MANY2 a= attribute ca= comb_attr . ) | ^( MANY3 a= attribute . . ) | ^( MANY4 a= attribute ca= comb_attr . . ) )
+            int alt21=4;
+            switch ( input.LA(1) ) {
+            case MANY1:
+                {
+                alt21=1;
                 }
                 break;
-                case MANY2: {
-                    alt21 = 2;
+            case MANY2:
+                {
+                alt21=2;
                 }
                 break;
-                case MANY3: {
-                    alt21 = 3;
+            case MANY3:
+                {
+                alt21=3;
                 }
                 break;
-                case MANY4: {
-                    alt21 = 4;
+            case MANY4:
+                {
+                alt21=4;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 21, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 21, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt21) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:415:9: ^( MANY1 a= attribute . )
-                {
-                    match(input, MANY1, FOLLOW_MANY1_in_many856);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:419:9: ^( MANY1 a= attribute . )
+                    {
+                    match(input,MANY1,FOLLOW_MANY1_in_many856); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_attribute_in_many860);
-                    a = attribute();
+                    a=attribute();
 
                     state._fsp--;
 
 
                     c_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:416:9: ^( MANY2 a= attribute ca= comb_attr . )
-                {
-                    match(input, MANY2, FOLLOW_MANY2_in_many877);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:420:9: ^( MANY2 a= attribute ca= comb_attr . )
+                    {
+                    match(input,MANY2,FOLLOW_MANY2_in_many877); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_attribute_in_many881);
-                    a = attribute();
+                    a=attribute();
 
                     state._fsp--;
 
 
                     pushFollow(FOLLOW_comb_attr_in_many885);
-                    ca = comb_attr();
+                    ca=comb_attr();
 
                     state._fsp--;
 
 
                     c_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:417:9: ^( MANY3 a= attribute . . )
-                {
-                    match(input, MANY3, FOLLOW_MANY3_in_many902);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:421:9: ^( MANY3 a= attribute . . )
+                    {
+                    match(input,MANY3,FOLLOW_MANY3_in_many902); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_attribute_in_many906);
-                    a = attribute();
+                    a=attribute();
 
                     state._fsp--;
 
 
                     m_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
                     c_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:418:9: ^( MANY4 a= attribute ca= comb_attr . . )
-                {
-                    match(input, MANY4, FOLLOW_MANY4_in_many927);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:422:9: ^( MANY4 a= attribute ca= comb_attr . . )
+                    {
+                    match(input,MANY4,FOLLOW_MANY4_in_many927); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_attribute_in_many931);
-                    a = attribute();
+                    a=attribute();
 
                     state._fsp--;
 
 
                     pushFollow(FOLLOW_comb_attr_in_many935);
-                    ca = comb_attr();
+                    ca=comb_attr();
 
                     state._fsp--;
 
 
                     m_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
                     c_idx = input.mark();
 
-                    matchAny(input);
+                    matchAny(input); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
 
-            if (m_idx == -1) { // we are in a "last many" case
-                // Build as many list as different values of "attribute" in "in"
-                // if "attribute" is dynamic, the overall range of values must be created
-                if (a.isDynamic()) {
-                    int max = 0;
-                    for (int i = 0; i < in.size(); i++) {
-                        Arc arc = in.get(i);
-                        int ev = a.eval(arc);
-                        if (ev > max) max = ev;
-                    }
-
-                    input.seek(c_idx);
-                    PropagationStrategy _ps = coll(in, ca);
-                    input.release(c_idx);
-
-                    Switcher sw = new Switcher(a, 0, max, _ps, in.toArray(new Arc[in.size()]));
-                    retval.pss.addAll(Arrays.asList(sw.getPS()));
-                } else {
-                    // otherwise, create as many "coll" as value of attribute
-                    TIntObjectHashMap<ArrayList<Arc>> sublists = new TIntObjectHashMap<ArrayList<Arc>>();
-                    for (int i = 0; i < in.size(); i++) {
-                        Arc arc = in.get(i);
-                        int ev = a.eval(arc);
-                        if (!sublists.contains(ev)) {
-                            ArrayList<Arc> evlist = new ArrayList<Arc>();
-                            sublists.put(ev, evlist);
+                if(m_idx == -1){ // we are in a "last many" case
+                    // Build as many list as different values of "attribute" in "in"
+                    // if "attribute" is dynamic, the overall range of values must be created
+                    if(a.isDynamic()){
+                         int max = 0;
+                         for(int i = 0; i< in.size(); i++){
+                             Arc arc = in.get(i);
+                             int ev = a.eval(arc);
+                             if(ev > max)max = ev;
+                         }
+
+                         input.seek(c_idx);
+                         PropagationStrategy _ps = coll(in, ca);
+                         input.release(c_idx);
+
+                        Switcher sw = new Switcher(a, 0,max, _ps, in.toArray(new Arc[in.size()]));
+                        retval.pss.addAll(Arrays.asList(sw.getPS()));
+                    }else{
+                        // otherwise, create as many "coll" as value of attribute
+                        TIntObjectHashMap<ArrayList<Arc>> sublists = new TIntObjectHashMap<ArrayList<Arc>>();
+                        for(int i = 0; i< in.size(); i++){
+                            Arc arc = in.get(i);
+                            int ev = a.eval(arc);
+                            if(!sublists.contains(ev)){
+                                ArrayList<Arc> evlist = new ArrayList<Arc>();
+                                sublists.put(ev, evlist);
+                            }
+                            sublists.get(ev).add(arc);
                         }
-                        sublists.get(ev).add(arc);
-                    }
 
-                    int[] evs = sublists.keys();
-                    for (int k = 0; k < evs.length; k++) {
-                        int ev = evs[k];
-                        input.seek(c_idx);
-                        retval.pss.add(coll(sublists.get(ev), ca));
-                    }
-                    input.release(c_idx);
-                    retval.depth = 0;
-                }
-            } else { // we are in a recursive many
-                if (a.isDynamic()) {
-                    // Build as many list as different values of "attribute" in "in"
-                    int max = 0;
-                    for (int i = 0; i < in.size(); i++) {
-                        Arc arc = in.get(i);
-                        int ev = a.eval(arc);
-                        if (max < ev) {
-                            max = ev;
+                        int[] evs = sublists.keys();
+                        for (int k = 0; k < evs.length; k++) {
+                            int ev = evs[k];
+                            input.seek(c_idx);
+                            retval.pss.add(coll(sublists.get(ev), ca));
                         }
+                        input.release(c_idx);
+                        retval.depth = 0;
                     }
-                    int _d = 0;
-                    input.seek(m_idx);
-                    FlatzincFullExtWalker.many_return manyret = many(in);
-                    // 1. get depth
-                    _d = manyret.depth;
-                    // 2. build correct attribute (including depth
-                    ArrayList<AttributeOperator> aos = new ArrayList<AttributeOperator>();
-                    aos.add(AttributeOperator.ANY);
-                    for (int i = 1; i < _d; i++) {
-                        aos.add(AttributeOperator.ANY);
-                    }
-                    CombinedAttribute _ca = new CombinedAttribute(aos, a);
-                    // 3. build on coll
-                    input.seek(c_idx);
-                    PropagationStrategy _ps = coll(manyret.pss, ca);
-                    input.release(c_idx);
-
-                    Switcher sw = new Switcher(_ca, 0, max, _ps, manyret.pss.toArray(new PropagationStrategy[manyret.pss.size()]));
-                    retval.pss.addAll(Arrays.asList(sw.getPS()));
-                    retval.depth = _d + 1;
-                } else {
-                    // Build as many list as different values of "attribute" in "in"
-                    TIntObjectHashMap<ArrayList<Arc>> sublists = new TIntObjectHashMap<ArrayList<Arc>>();
-                    for (int i = 0; i < in.size(); i++) {
-                        Arc arc = in.get(i);
-                        int ev = a.eval(arc);
-                        if (!sublists.contains(ev)) {
-                            ArrayList<Arc> evlist = new ArrayList<Arc>();
-                            sublists.put(ev, evlist);
+                }else{ // we are in a recursive many
+                    if(a.isDynamic()){
+                        // Build as many list as different values of "attribute" in "in"
+                        int max = 0;
+                        for(int i = 0; i< in.size(); i++){
+                            Arc arc = in.get(i);
+                            int ev = a.eval(arc);
+                            if (max < ev) {
+                                max = ev;
+                            }
                         }
-                        sublists.get(ev).add(arc);
-                    }
-                    int[] evs = sublists.keys();
-                    ArrayList<ArrayList<PropagationStrategy>> _pss = new ArrayList<ArrayList<PropagationStrategy>>(evs.length);
-                    int _d = 0;
-                    for (int k = 0; k < evs.length; k++) {
-                        int ev = evs[k];
+                        int _d = 0;
                         input.seek(m_idx);
-                        FlatzincFullExtWalker.many_return manyret = many(sublists.get(ev));
-                        _pss.add(manyret.pss);
-                        assert (k == 0 || _d == manyret.depth);
+                        FlatzincFullExtWalker.many_return manyret = many(in);
+                        // 1. get depth
                         _d = manyret.depth;
-                    }
-                    retval.depth = _d + 1;
-                    input.release(m_idx);
-                    for (int p = 0; p < _pss.size(); p++) {
-                        ArrayList<PropagationStrategy> _ps = _pss.get(p);
+                        // 2. build correct attribute (including depth
+                        ArrayList<AttributeOperator> aos = new ArrayList<AttributeOperator>();
+                        aos.add(AttributeOperator.ANY);
+                        for(int i = 1 ; i < _d; i++){
+                            aos.add(AttributeOperator.ANY);
+                        }
+                        CombinedAttribute _ca = new CombinedAttribute(aos, a);
+                        // 3. build on coll
                         input.seek(c_idx);
-                        retval.pss.add(coll(_ps, ca));
+                        PropagationStrategy _ps = coll(manyret.pss, ca);
+                        input.release(c_idx);
+
+                        Switcher sw = new Switcher(_ca, 0,max, _ps, manyret.pss.toArray(new PropagationStrategy[manyret.pss.size()]));
+                        retval.pss.addAll(Arrays.asList(sw.getPS()));
+                        retval.depth = _d +1;
+                    }else{
+                        // Build as many list as different values of "attribute" in "in"
+                        TIntObjectHashMap<ArrayList<Arc>> sublists = new TIntObjectHashMap<ArrayList<Arc>>();
+                        for(int i = 0; i< in.size(); i++){
+                            Arc arc = in.get(i);
+                            int ev = a.eval(arc);
+                            if(!sublists.contains(ev)){
+                                ArrayList<Arc> evlist = new ArrayList<Arc>();
+                                sublists.put(ev, evlist);
+                            }
+                            sublists.get(ev).add(arc);
+                        }
+                        int[] evs = sublists.keys();
+                        ArrayList<ArrayList<PropagationStrategy>> _pss = new ArrayList<ArrayList<PropagationStrategy>>(evs.length);
+                        int _d = 0;
+                        for (int k = 0; k < evs.length; k++) {
+                            int ev = evs[k];
+                            input.seek(m_idx);
+                            FlatzincFullExtWalker.many_return manyret = many(sublists.get(ev));
+                            _pss.add(manyret.pss);
+                            assert (k == 0 || _d == manyret.depth);
+                            _d = manyret.depth;
+                        }
+                        retval.depth = _d +1;
+                        input.release(m_idx);
+                        for (int p = 0; p < _pss.size(); p++) {
+                            ArrayList<PropagationStrategy> _ps = _pss.get(p);
+                            input.seek(c_idx);
+                            retval.pss.add(coll(_ps, ca));
+                        }
+                        input.release(c_idx);
                     }
-                    input.release(c_idx);
                 }
-            }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return retval;
     }
     // $ANTLR end "many"
 
 
+
     // $ANTLR start "coll"
-    // parser/flatzinc/FlatzincFullExtWalker.g:425:1: coll[ArrayList<? extends ISchedulable> elements, CombinedAttribute ca] returns [PropagationStrategy ps] : ( ^( QUEUE it= qiter ) | ^( LIST (r= REV )? it= liter ) | ^( HEAP (m= MAX )? it= qiter ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:429:1: coll[ArrayList<? extends ISchedulable> elements, CombinedAttribute ca] returns [PropagationStrategy ps] : ( ^( QUEUE it= qiter ) | ^( LIST (r= REV )? it= liter ) | ^( HEAP (m= MAX )? it= qiter ) );
     public final PropagationStrategy coll(ArrayList<? extends ISchedulable> elements, CombinedAttribute ca) throws RecognitionException {
         PropagationStrategy ps = null;
 
 
-        CommonTree r = null;
-        CommonTree m = null;
-        Iterator it = null;
+        CommonTree r=null;
+        CommonTree m=null;
+        Iterator it =null;
 
 
-        if (elements.isEmpty()) {
-            LOGGER.error("% Create a empty collection");
-            throw new FZNException("Create a empty collection");
-        } else if (elements.size() == 1) {
-            LOGGER.warn("% Create a collection with a single element");
-        }
+
+            if(elements.isEmpty()){
+                LOGGER.error("% Create a empty collection");
+                throw new FZNException("Create a empty collection");
+            }else if(elements.size() == 1){
+                LOGGER.warn("% Create a collection with a single element");
+            }
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:435:5: ( ^( QUEUE it= qiter ) | ^( LIST (r= REV )? it= liter ) | ^( HEAP (m= MAX )? it= qiter ) )
-            int alt24 = 3;
-            switch (input.LA(1)) {
-                case QUEUE: {
-                    alt24 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:439:5: ( ^( QUEUE it= qiter ) | ^( LIST (r= REV )? it= liter ) | ^( HEAP (m= MAX )? it= qiter ) )
+            int alt24=3;
+            switch ( input.LA(1) ) {
+            case QUEUE:
+                {
+                alt24=1;
                 }
                 break;
-                case LIST: {
-                    alt24 = 2;
+            case LIST:
+                {
+                alt24=2;
                 }
                 break;
-                case HEAP: {
-                    alt24 = 3;
+            case HEAP:
+                {
+                alt24=3;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 24, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 24, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt24) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:435:7: ^( QUEUE it= qiter )
-                {
-                    match(input, QUEUE, FOLLOW_QUEUE_in_coll978);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:439:7: ^( QUEUE it= qiter )
+                    {
+                    match(input,QUEUE,FOLLOW_QUEUE_in_coll978); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_qiter_in_coll982);
-                    it = qiter();
+                    it=qiter();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    ps = new Queue(elements.toArray(new ISchedulable[elements.size()]));
-                    ps = it.set(ps);
-                    ps.attachEvaluator(ca);
 
+                        ps = new Queue(elements.toArray(new ISchedulable[elements.size()]));
+                        ps = it.set(ps);
+                        ps.attachEvaluator(ca);
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:441:7: ^( LIST (r= REV )? it= liter )
-                {
-                    match(input, LIST, FOLLOW_LIST_in_coll998);
-
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:441:15: (r= REV )?
-                    int alt22 = 2;
-                    switch (input.LA(1)) {
-                        case REV: {
-                            alt22 = 1;
-                        }
-                        break;
                     }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:445:7: ^( LIST (r= REV )? it= liter )
+                    {
+                    match(input,LIST,FOLLOW_LIST_in_coll998); 
+
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:445:15: (r= REV )?
+                    int alt22=2;
+                    int LA22_0 = input.LA(1);
 
+                    if ( (LA22_0==REV) ) {
+                        alt22=1;
+                    }
                     switch (alt22) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:441:15: r= REV
-                        {
-                            r = (CommonTree) match(input, REV, FOLLOW_REV_in_coll1002);
+                        case 1 :
+                            // parser/flatzinc/FlatzincFullExtWalker.g:445:15: r= REV
+                            {
+                            r=(CommonTree)match(input,REV,FOLLOW_REV_in_coll1002); 
 
-                        }
-                        break;
+                            }
+                            break;
 
                     }
 
 
                     pushFollow(FOLLOW_liter_in_coll1007);
-                    it = liter();
+                    it=liter();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
+
 
 
-                    ISchedulable[] elts = elements.toArray(new ISchedulable[elements.size()]);
-                    // check if an order is required
-                    boolean order = false;
-                    for (int i = 0; i < elts.length; i++) {
-                        try {
-                            elts[i].evaluate();
-                            order = true;
-                        } catch (NullPointerException npe) {
-                            if (order) {
-                                LOGGER.error("% Cannot sort the collection, keys are missing");
-                                throw new FZNException("Cannot sort the collection, keys are missing");
+                        ISchedulable[] elts = elements.toArray(new ISchedulable[elements.size()]);
+                        // check if an order is required
+                        boolean order = false;
+                        for (int i = 0; i < elts.length; i++) {
+                            try {
+                                elts[i].evaluate();
+                                order = true;
+                            } catch (NullPointerException npe) {
+                                if (order) {
+                                    LOGGER.error("% Cannot sort the collection, keys are missing");
+                                    throw new FZNException("Cannot sort the collection, keys are missing");
+                                }
                             }
                         }
+                        ps = new Sort(order, r != null, elts);
+                        ps = it.set(ps);
+                        ps.attachEvaluator(ca);
+                        
+
                     }
-                    ps = new Sort(order, r != null, elts);
-                    ps = it.set(ps);
-                    ps.attachEvaluator(ca);
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:465:7: ^( HEAP (m= MAX )? it= qiter )
+                    {
+                    match(input,HEAP,FOLLOW_HEAP_in_coll1023); 
 
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:465:15: (m= MAX )?
+                    int alt23=2;
+                    int LA23_0 = input.LA(1);
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:461:7: ^( HEAP (m= MAX )? it= qiter )
-                {
-                    match(input, HEAP, FOLLOW_HEAP_in_coll1023);
-
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:461:15: (m= MAX )?
-                    int alt23 = 2;
-                    switch (input.LA(1)) {
-                        case MAX: {
-                            alt23 = 1;
-                        }
-                        break;
+                    if ( (LA23_0==MAX) ) {
+                        alt23=1;
                     }
-
                     switch (alt23) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:461:15: m= MAX
-                        {
-                            m = (CommonTree) match(input, MAX, FOLLOW_MAX_in_coll1027);
+                        case 1 :
+                            // parser/flatzinc/FlatzincFullExtWalker.g:465:15: m= MAX
+                            {
+                            m=(CommonTree)match(input,MAX,FOLLOW_MAX_in_coll1027); 
 
-                        }
-                        break;
+                            }
+                            break;
 
                     }
 
 
                     pushFollow(FOLLOW_qiter_in_coll1032);
-                    it = qiter();
+                    it=qiter();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    ISchedulable[] elts = elements.toArray(new ISchedulable[elements.size()]);
-                    for (int i = 0; i < elts.length; i++) {
-                        try {
-                            elts[i].evaluate();
-                        } catch (NullPointerException npe) {
-                            LOGGER.error("% Cannot sort the collection, keys are missing");
-                            throw new FZNException("Cannot sort the collection, keys are missing");
-                        }
-                    }
-                    ps = new SortDyn(m != null, elts);
-                    ps = it.set(ps);
-                    ps.attachEvaluator(ca);
 
+                    	ISchedulable[] elts = elements.toArray(new ISchedulable[elements.size()]);
+                        for (int i = 0; i < elts.length; i++) {
+                            try {
+                                elts[i].evaluate();
+                            } catch (NullPointerException npe) {
+                                    LOGGER.error("% Cannot sort the collection, keys are missing");
+                                    throw new FZNException("Cannot sort the collection, keys are missing");
+                            }
+                        }
+                        ps = new SortDyn(m != null, elts);
+                        ps = it.set(ps);
+                        ps.attachEvaluator(ca);
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return ps;
     }
     // $ANTLR end "coll"
 
 
+
     // $ANTLR start "qiter"
-    // parser/flatzinc/FlatzincFullExtWalker.g:479:1: qiter returns [Iterator it] : ( ONE | WONE );
+    // parser/flatzinc/FlatzincFullExtWalker.g:483:1: qiter returns [Iterator it] : ( ONE | WONE );
     public final Iterator qiter() throws RecognitionException {
         Iterator it = null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:480:5: ( ONE | WONE )
-            int alt25 = 2;
-            switch (input.LA(1)) {
-                case ONE: {
-                    alt25 = 1;
-                }
-                break;
-                case WONE: {
-                    alt25 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 25, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincFullExtWalker.g:484:5: ( ONE | WONE )
+            int alt25=2;
+            int LA25_0 = input.LA(1);
 
+            if ( (LA25_0==ONE) ) {
+                alt25=1;
+            }
+            else if ( (LA25_0==WONE) ) {
+                alt25=2;
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 25, 0, input);
+
+                throw nvae;
 
+            }
             switch (alt25) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:480:9: ONE
-                {
-                    match(input, ONE, FOLLOW_ONE_in_qiter1059);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:484:9: ONE
+                    {
+                    match(input,ONE,FOLLOW_ONE_in_qiter1059); 
 
                     it = Iterator.ONE;
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:481:9: WONE
-                {
-                    match(input, WONE, FOLLOW_WONE_in_qiter1071);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:485:9: WONE
+                    {
+                    match(input,WONE,FOLLOW_WONE_in_qiter1071); 
 
                     it = Iterator.WONE;
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return it;
     }
     // $ANTLR end "qiter"
 
 
+
     // $ANTLR start "liter"
-    // parser/flatzinc/FlatzincFullExtWalker.g:484:1: liter returns [Iterator it] : (q= qiter | FOR | WFOR );
+    // parser/flatzinc/FlatzincFullExtWalker.g:488:1: liter returns [Iterator it] : (q= qiter | FOR | WFOR );
     public final Iterator liter() throws RecognitionException {
         Iterator it = null;
 
 
-        Iterator q = null;
+        Iterator q =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:485:5: (q= qiter | FOR | WFOR )
-            int alt26 = 3;
-            switch (input.LA(1)) {
-                case ONE:
-                case WONE: {
-                    alt26 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:489:5: (q= qiter | FOR | WFOR )
+            int alt26=3;
+            switch ( input.LA(1) ) {
+            case ONE:
+            case WONE:
+                {
+                alt26=1;
                 }
                 break;
-                case FOR: {
-                    alt26 = 2;
+            case FOR:
+                {
+                alt26=2;
                 }
                 break;
-                case WFOR: {
-                    alt26 = 3;
+            case WFOR:
+                {
+                alt26=3;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 26, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 26, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt26) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:485:9: q= qiter
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:489:9: q= qiter
+                    {
                     pushFollow(FOLLOW_qiter_in_liter1103);
-                    q = qiter();
+                    q=qiter();
 
                     state._fsp--;
 
 
                     it = q;
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:486:9: FOR
-                {
-                    match(input, FOR, FOLLOW_FOR_in_liter1115);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:490:9: FOR
+                    {
+                    match(input,FOR,FOLLOW_FOR_in_liter1115); 
 
                     it = Iterator.FOR;
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:487:9: WFOR
-                {
-                    match(input, WFOR, FOLLOW_WFOR_in_liter1127);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:491:9: WFOR
+                    {
+                    match(input,WFOR,FOLLOW_WFOR_in_liter1127); 
 
                     it = Iterator.WFOR;
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return it;
     }
     // $ANTLR end "liter"
 
 
+
     // $ANTLR start "comb_attr"
-    // parser/flatzinc/FlatzincFullExtWalker.g:492:1: comb_attr returns [CombinedAttribute ca] : ( ^( CA1 (ao= attr_op )* (ea= attribute )? ) | ^( CA2 (ao= attr_op )+ ea= attribute ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:496:1: comb_attr returns [CombinedAttribute ca] : ( ^( CA1 (ao= attr_op )* (ea= attribute )? ) | ^( CA2 (ao= attr_op )+ ea= attribute ) );
     public final CombinedAttribute comb_attr() throws RecognitionException {
         CombinedAttribute ca = null;
 
 
-        AttributeOperator ao = null;
+        AttributeOperator ao =null;
 
-        Attribute ea = null;
+        Attribute ea =null;
 
 
-        ArrayList<AttributeOperator> aos = new ArrayList<AttributeOperator>();
 
-        try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:499:5: ( ^( CA1 (ao= attr_op )* (ea= attribute )? ) | ^( CA2 (ao= attr_op )+ ea= attribute ) )
-            int alt30 = 2;
-            switch (input.LA(1)) {
-                case CA1: {
-                    alt30 = 1;
-                }
-                break;
-                case CA2: {
-                    alt30 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 30, 0, input);
+            ArrayList<AttributeOperator> aos = new ArrayList<AttributeOperator>();
 
-                    throw nvae;
+        try {
+            // parser/flatzinc/FlatzincFullExtWalker.g:503:5: ( ^( CA1 (ao= attr_op )* (ea= attribute )? ) | ^( CA2 (ao= attr_op )+ ea= attribute ) )
+            int alt30=2;
+            int LA30_0 = input.LA(1);
 
+            if ( (LA30_0==CA1) ) {
+                alt30=1;
+            }
+            else if ( (LA30_0==CA2) ) {
+                alt30=2;
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 30, 0, input);
+
+                throw nvae;
 
+            }
             switch (alt30) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:499:7: ^( CA1 (ao= attr_op )* (ea= attribute )? )
-                {
-                    match(input, CA1, FOLLOW_CA1_in_comb_attr1161);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:503:7: ^( CA1 (ao= attr_op )* (ea= attribute )? )
+                    {
+                    match(input,CA1,FOLLOW_CA1_in_comb_attr1161); 
 
-                    if (input.LA(1) == Token.DOWN) {
-                        match(input, Token.DOWN, null);
-                        // parser/flatzinc/FlatzincFullExtWalker.g:499:13: (ao= attr_op )*
+                    if ( input.LA(1)==Token.DOWN ) {
+                        match(input, Token.DOWN, null); 
+                        // parser/flatzinc/FlatzincFullExtWalker.g:503:13: (ao= attr_op )*
                         loop27:
                         do {
-                            int alt27 = 2;
-                            switch (input.LA(1)) {
-                                case ANY:
-                                case MAX:
-                                case MIN:
-                                case SIZE:
-                                case SUM: {
-                                    alt27 = 1;
-                                }
-                                break;
+                            int alt27=2;
+                            int LA27_0 = input.LA(1);
 
+                            if ( (LA27_0==ANY||LA27_0==MAX||LA27_0==MIN||LA27_0==SIZE||LA27_0==SUM) ) {
+                                alt27=1;
                             }
 
+
                             switch (alt27) {
-                                case 1:
-                                    // parser/flatzinc/FlatzincFullExtWalker.g:499:14: ao= attr_op
-                                {
-                                    pushFollow(FOLLOW_attr_op_in_comb_attr1168);
-                                    ao = attr_op();
+                        	case 1 :
+                        	    // parser/flatzinc/FlatzincFullExtWalker.g:503:14: ao= attr_op
+                        	    {
+                        	    pushFollow(FOLLOW_attr_op_in_comb_attr1168);
+                        	    ao=attr_op();
 
-                                    state._fsp--;
+                        	    state._fsp--;
 
 
-                                    aos.add(ao);
+                        	    aos.add(ao);
 
-                                }
-                                break;
+                        	    }
+                        	    break;
 
-                                default:
-                                    break loop27;
+                        	default :
+                        	    break loop27;
                             }
                         } while (true);
 
 
-                        // parser/flatzinc/FlatzincFullExtWalker.g:499:45: (ea= attribute )?
-                        int alt28 = 2;
-                        switch (input.LA(1)) {
-                            case CARITY:
-                            case CNAME:
-                            case CSTR:
-                            case PARITY:
-                            case PPRIO:
-                            case PPRIOD:
-                            case PROP:
-                            case VAR:
-                            case VCARD:
-                            case VNAME: {
-                                alt28 = 1;
-                            }
-                            break;
-                        }
+                        // parser/flatzinc/FlatzincFullExtWalker.g:503:45: (ea= attribute )?
+                        int alt28=2;
+                        int LA28_0 = input.LA(1);
 
+                        if ( (LA28_0==CARITY||LA28_0==CNAME||LA28_0==CSTR||LA28_0==PARITY||(LA28_0 >= PPRIO && LA28_0 <= PPRIOD)||LA28_0==PROP||(LA28_0 >= VAR && LA28_0 <= VNAME)) ) {
+                            alt28=1;
+                        }
                         switch (alt28) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:499:45: ea= attribute
-                            {
+                            case 1 :
+                                // parser/flatzinc/FlatzincFullExtWalker.g:503:45: ea= attribute
+                                {
                                 pushFollow(FOLLOW_attribute_in_comb_attr1175);
-                                ea = attribute();
+                                ea=attribute();
 
                                 state._fsp--;
 
 
-                            }
-                            break;
+                                }
+                                break;
 
                         }
 
 
-                        match(input, Token.UP, null);
+                        match(input, Token.UP, null); 
                     }
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:500:9: ^( CA2 (ao= attr_op )+ ea= attribute )
-                {
-                    match(input, CA2, FOLLOW_CA2_in_comb_attr1188);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:504:9: ^( CA2 (ao= attr_op )+ ea= attribute )
+                    {
+                    match(input,CA2,FOLLOW_CA2_in_comb_attr1188); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:500:15: (ao= attr_op )+
-                    int cnt29 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:504:15: (ao= attr_op )+
+                    int cnt29=0;
                     loop29:
                     do {
-                        int alt29 = 2;
-                        switch (input.LA(1)) {
-                            case ANY:
-                            case MAX:
-                            case MIN:
-                            case SIZE:
-                            case SUM: {
-                                alt29 = 1;
-                            }
-                            break;
+                        int alt29=2;
+                        int LA29_0 = input.LA(1);
 
+                        if ( (LA29_0==ANY||LA29_0==MAX||LA29_0==MIN||LA29_0==SIZE||LA29_0==SUM) ) {
+                            alt29=1;
                         }
 
+
                         switch (alt29) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:500:16: ao= attr_op
-                            {
-                                pushFollow(FOLLOW_attr_op_in_comb_attr1195);
-                                ao = attr_op();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:504:16: ao= attr_op
+                    	    {
+                    	    pushFollow(FOLLOW_attr_op_in_comb_attr1195);
+                    	    ao=attr_op();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                aos.add(ao);
+                    	    aos.add(ao);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt29 >= 1) break loop29;
+                    	default :
+                    	    if ( cnt29 >= 1 ) break loop29;
                                 EarlyExitException eee =
-                                        new EarlyExitException(29, input);
+                                    new EarlyExitException(29, input);
                                 throw eee;
                         }
                         cnt29++;
@@ -2398,203 +2455,213 @@ public class FlatzincFullExtWalker extends TreeParser {
 
 
                     pushFollow(FOLLOW_attribute_in_comb_attr1202);
-                    ea = attribute();
+                    ea=attribute();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
 
-            ca = new CombinedAttribute(aos, ea);
+                ca = new CombinedAttribute(aos, ea);
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return ca;
     }
     // $ANTLR end "comb_attr"
 
 
+
     // $ANTLR start "attr_op"
-    // parser/flatzinc/FlatzincFullExtWalker.g:503:1: attr_op returns [AttributeOperator ao] : ( ANY | MIN | MAX | SUM | SIZE );
+    // parser/flatzinc/FlatzincFullExtWalker.g:507:1: attr_op returns [AttributeOperator ao] : ( ANY | MIN | MAX | SUM | SIZE );
     public final AttributeOperator attr_op() throws RecognitionException {
         AttributeOperator ao = null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:504:5: ( ANY | MIN | MAX | SUM | SIZE )
-            int alt31 = 5;
-            switch (input.LA(1)) {
-                case ANY: {
-                    alt31 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:508:5: ( ANY | MIN | MAX | SUM | SIZE )
+            int alt31=5;
+            switch ( input.LA(1) ) {
+            case ANY:
+                {
+                alt31=1;
                 }
                 break;
-                case MIN: {
-                    alt31 = 2;
+            case MIN:
+                {
+                alt31=2;
                 }
                 break;
-                case MAX: {
-                    alt31 = 3;
+            case MAX:
+                {
+                alt31=3;
                 }
                 break;
-                case SUM: {
-                    alt31 = 4;
+            case SUM:
+                {
+                alt31=4;
                 }
                 break;
-                case SIZE: {
-                    alt31 = 5;
+            case SIZE:
+                {
+                alt31=5;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 31, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 31, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt31) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:504:7: ANY
-                {
-                    match(input, ANY, FOLLOW_ANY_in_attr_op1220);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:508:7: ANY
+                    {
+                    match(input,ANY,FOLLOW_ANY_in_attr_op1220); 
 
                     ao = AttributeOperator.ANY;
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:505:9: MIN
-                {
-                    match(input, MIN, FOLLOW_MIN_in_attr_op1232);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:509:9: MIN
+                    {
+                    match(input,MIN,FOLLOW_MIN_in_attr_op1232); 
 
                     ao = AttributeOperator.MIN;
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:506:9: MAX
-                {
-                    match(input, MAX, FOLLOW_MAX_in_attr_op1244);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:510:9: MAX
+                    {
+                    match(input,MAX,FOLLOW_MAX_in_attr_op1244); 
 
                     ao = AttributeOperator.MAX;
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:507:9: SUM
-                {
-                    match(input, SUM, FOLLOW_SUM_in_attr_op1256);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:511:9: SUM
+                    {
+                    match(input,SUM,FOLLOW_SUM_in_attr_op1256); 
 
                     ao = AttributeOperator.SUM;
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:508:9: SIZE
-                {
-                    match(input, SIZE, FOLLOW_SIZE_in_attr_op1268);
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:512:9: SIZE
+                    {
+                    match(input,SIZE,FOLLOW_SIZE_in_attr_op1268); 
 
                     ao = AttributeOperator.SIZE;
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return ao;
     }
     // $ANTLR end "attr_op"
 
 
+
     // $ANTLR start "par_type"
-    // parser/flatzinc/FlatzincFullExtWalker.g:518:1: par_type returns [Declaration decl] : ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:522:1: par_type returns [Declaration decl] : ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) );
     public final Declaration par_type() throws RecognitionException {
         Declaration decl = null;
 
 
-        Declaration d = null;
+        Declaration d =null;
 
-        Declaration p = null;
+        Declaration p =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:519:5: ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) )
-            int alt33 = 2;
-            switch (input.LA(1)) {
-                case ARRPAR: {
-                    alt33 = 1;
-                }
-                break;
-                case APAR: {
-                    alt33 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 33, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincFullExtWalker.g:523:5: ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) )
+            int alt33=2;
+            int LA33_0 = input.LA(1);
 
+            if ( (LA33_0==ARRPAR) ) {
+                alt33=1;
+            }
+            else if ( (LA33_0==APAR) ) {
+                alt33=2;
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 33, 0, input);
 
-            switch (alt33) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:520:5: ^( ARRPAR (d= index_set )+ p= par_type_u )
-                {
+                throw nvae;
 
-                    List<Declaration> decls = new ArrayList();
+            }
+            switch (alt33) {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:524:5: ^( ARRPAR (d= index_set )+ p= par_type_u )
+                    {
 
+                            List<Declaration> decls = new ArrayList();
+                        
 
-                    match(input, ARRPAR, FOLLOW_ARRPAR_in_par_type1312);
+                    match(input,ARRPAR,FOLLOW_ARRPAR_in_par_type1312); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:523:18: (d= index_set )+
-                    int cnt32 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:527:18: (d= index_set )+
+                    int cnt32=0;
                     loop32:
                     do {
-                        int alt32 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt32 = 1;
-                            }
-                            break;
+                        int alt32=2;
+                        int LA32_0 = input.LA(1);
 
+                        if ( (LA32_0==INDEX) ) {
+                            alt32=1;
                         }
 
+
                         switch (alt32) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:523:19: d= index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_type1317);
-                                d = index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:527:19: d= index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_type1317);
+                    	    d=index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                decls.add(d);
+                    	    decls.add(d);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt32 >= 1) break loop32;
+                    	default :
+                    	    if ( cnt32 >= 1 ) break loop32;
                                 EarlyExitException eee =
-                                        new EarlyExitException(32, input);
+                                    new EarlyExitException(32, input);
                                 throw eee;
                         }
                         cnt32++;
@@ -2602,220 +2669,231 @@ public class FlatzincFullExtWalker extends TreeParser {
 
 
                     pushFollow(FOLLOW_par_type_u_in_par_type1324);
-                    p = par_type_u();
+                    p=par_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DArray(decls, p);
 
+                        decl = new DArray(decls,p);
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:527:9: ^( APAR p= par_type_u )
-                {
-                    match(input, APAR, FOLLOW_APAR_in_par_type1342);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:531:9: ^( APAR p= par_type_u )
+                    {
+                    match(input,APAR,FOLLOW_APAR_in_par_type1342); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_par_type_u_in_par_type1346);
-                    p = par_type_u();
+                    p=par_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = p;
 
+                        decl = p;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "par_type"
 
 
+
     // $ANTLR start "par_type_u"
-    // parser/flatzinc/FlatzincFullExtWalker.g:533:1: par_type_u returns [Declaration decl] : ( BOOL | FLOAT | SET OF INT | INT );
+    // parser/flatzinc/FlatzincFullExtWalker.g:537:1: par_type_u returns [Declaration decl] : ( BOOL | FLOAT | SET OF INT | INT );
     public final Declaration par_type_u() throws RecognitionException {
         Declaration decl = null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:534:5: ( BOOL | FLOAT | SET OF INT | INT )
-            int alt34 = 4;
-            switch (input.LA(1)) {
-                case BOOL: {
-                    alt34 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:538:5: ( BOOL | FLOAT | SET OF INT | INT )
+            int alt34=4;
+            switch ( input.LA(1) ) {
+            case BOOL:
+                {
+                alt34=1;
                 }
                 break;
-                case FLOAT: {
-                    alt34 = 2;
+            case FLOAT:
+                {
+                alt34=2;
                 }
                 break;
-                case SET: {
-                    alt34 = 3;
+            case SET:
+                {
+                alt34=3;
                 }
                 break;
-                case INT: {
-                    alt34 = 4;
+            case INT:
+                {
+                alt34=4;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 34, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 34, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt34) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:534:9: BOOL
-                {
-                    match(input, BOOL, FOLLOW_BOOL_in_par_type_u1376);
-
-
-                    decl = DBool.me;
-
-
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:538:9: FLOAT
-                {
-                    match(input, FLOAT, FOLLOW_FLOAT_in_par_type_u1392);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:538:9: BOOL
+                    {
+                    match(input,BOOL,FOLLOW_BOOL_in_par_type_u1376); 
 
 
-                    decl = DFloat.me;
+                        decl =DBool.me;
+                        
 
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:542:9: FLOAT
+                    {
+                    match(input,FLOAT,FOLLOW_FLOAT_in_par_type_u1392); 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:542:9: SET OF INT
-                {
-                    match(input, SET, FOLLOW_SET_in_par_type_u1408);
 
-                    match(input, OF, FOLLOW_OF_in_par_type_u1410);
+                        decl =DFloat.me;
+                        
 
-                    match(input, INT, FOLLOW_INT_in_par_type_u1412);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:546:9: SET OF INT
+                    {
+                    match(input,SET,FOLLOW_SET_in_par_type_u1408); 
 
+                    match(input,OF,FOLLOW_OF_in_par_type_u1410); 
 
-                    decl = DSetOfInt.me;
+                    match(input,INT,FOLLOW_INT_in_par_type_u1412); 
 
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:546:9: INT
-                {
-                    match(input, INT, FOLLOW_INT_in_par_type_u1428);
+                        decl =DSetOfInt.me;
+                        
 
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:550:9: INT
+                    {
+                    match(input,INT,FOLLOW_INT_in_par_type_u1428); 
 
-                    decl = DInt.me;
 
+                        decl =DInt.me;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "par_type_u"
 
 
+
     // $ANTLR start "var_type"
-    // parser/flatzinc/FlatzincFullExtWalker.g:552:1: var_type returns [Declaration decl] : ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:556:1: var_type returns [Declaration decl] : ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) );
     public final Declaration var_type() throws RecognitionException {
         Declaration decl = null;
 
 
-        Declaration d = null;
+        Declaration d =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:553:5: ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) )
-            int alt36 = 2;
-            switch (input.LA(1)) {
-                case ARRVAR: {
-                    alt36 = 1;
-                }
-                break;
-                case AVAR: {
-                    alt36 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 36, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincFullExtWalker.g:557:5: ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) )
+            int alt36=2;
+            int LA36_0 = input.LA(1);
 
+            if ( (LA36_0==ARRVAR) ) {
+                alt36=1;
+            }
+            else if ( (LA36_0==AVAR) ) {
+                alt36=2;
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 36, 0, input);
 
-            switch (alt36) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:554:5: ^( ARRVAR (d= index_set )+ d= var_type_u )
-                {
+                throw nvae;
 
-                    List<Declaration> decls = new ArrayList();
+            }
+            switch (alt36) {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:558:5: ^( ARRVAR (d= index_set )+ d= var_type_u )
+                    {
 
+                        List<Declaration> decls = new ArrayList();
+                        
 
-                    match(input, ARRVAR, FOLLOW_ARRVAR_in_var_type1469);
+                    match(input,ARRVAR,FOLLOW_ARRVAR_in_var_type1469); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:557:14: (d= index_set )+
-                    int cnt35 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:561:14: (d= index_set )+
+                    int cnt35=0;
                     loop35:
                     do {
-                        int alt35 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt35 = 1;
-                            }
-                            break;
+                        int alt35=2;
+                        int LA35_0 = input.LA(1);
 
+                        if ( (LA35_0==INDEX) ) {
+                            alt35=1;
                         }
 
+
                         switch (alt35) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:557:15: d= index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_var_type1474);
-                                d = index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:561:15: d= index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_var_type1474);
+                    	    d=index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                decls.add(d);
+                    	    decls.add(d);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt35 >= 1) break loop35;
+                    	default :
+                    	    if ( cnt35 >= 1 ) break loop35;
                                 EarlyExitException eee =
-                                        new EarlyExitException(35, input);
+                                    new EarlyExitException(35, input);
                                 throw eee;
                         }
                         cnt35++;
@@ -2823,1122 +2901,1147 @@ public class FlatzincFullExtWalker extends TreeParser {
 
 
                     pushFollow(FOLLOW_var_type_u_in_var_type1481);
-                    d = var_type_u();
+                    d=var_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DArray(decls, d);
 
+                        decl = new DArray(decls, d);
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:561:9: ^( AVAR d= var_type_u )
-                {
-                    match(input, AVAR, FOLLOW_AVAR_in_var_type1499);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:565:9: ^( AVAR d= var_type_u )
+                    {
+                    match(input,AVAR,FOLLOW_AVAR_in_var_type1499); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_var_type_u_in_var_type1503);
-                    d = var_type_u();
+                    d=var_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = d;
 
+                        decl =d;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "var_type"
 
 
+
     // $ANTLR start "var_type_u"
-    // parser/flatzinc/FlatzincFullExtWalker.g:567:1: var_type_u returns [Declaration decl] : ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:571:1: var_type_u returns [Declaration decl] : ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) );
     public final Declaration var_type_u() throws RecognitionException {
         Declaration decl = null;
 
 
-        CommonTree i1 = null;
-        CommonTree i2 = null;
-        CommonTree i = null;
+        CommonTree i1=null;
+        CommonTree i2=null;
+        CommonTree i=null;
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:568:5: ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) )
-            int alt39 = 7;
-            switch (input.LA(1)) {
-                case BOOL: {
-                    alt39 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:572:5: ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) )
+            int alt39=7;
+            switch ( input.LA(1) ) {
+            case BOOL:
+                {
+                alt39=1;
                 }
                 break;
-                case FLOAT: {
-                    alt39 = 2;
+            case FLOAT:
+                {
+                alt39=2;
                 }
                 break;
-                case INT: {
-                    alt39 = 3;
+            case INT:
+                {
+                alt39=3;
                 }
                 break;
-                case DD: {
-                    alt39 = 4;
+            case DD:
+                {
+                alt39=4;
                 }
                 break;
-                case CM: {
-                    alt39 = 5;
+            case CM:
+                {
+                alt39=5;
                 }
                 break;
-                case SET: {
-                    switch (input.LA(2)) {
-                        case DOWN: {
-                            switch (input.LA(3)) {
-                                case DD: {
-                                    alt39 = 6;
-                                }
-                                break;
-                                case CM: {
-                                    alt39 = 7;
-                                }
-                                break;
-                                default:
-                                    NoViableAltException nvae =
-                                            new NoViableAltException("", 39, 7, input);
-
-                                    throw nvae;
+            case SET:
+                {
+                int LA39_6 = input.LA(2);
 
-                            }
+                if ( (LA39_6==DOWN) ) {
+                    int LA39_7 = input.LA(3);
 
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 39, 6, input);
+                    if ( (LA39_7==DD) ) {
+                        alt39=6;
+                    }
+                    else if ( (LA39_7==CM) ) {
+                        alt39=7;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 39, 7, input);
 
-                            throw nvae;
+                        throw nvae;
 
                     }
-
                 }
-                break;
-                default:
+                else {
                     NoViableAltException nvae =
-                            new NoViableAltException("", 39, 0, input);
+                        new NoViableAltException("", 39, 6, input);
 
                     throw nvae;
 
-            }
-
-            switch (alt39) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:568:9: BOOL
-                {
-                    match(input, BOOL, FOLLOW_BOOL_in_var_type_u1534);
-
+                }
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 39, 0, input);
 
-                    decl = DBool.me;
+                throw nvae;
 
+            }
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:572:9: FLOAT
-                {
-                    match(input, FLOAT, FOLLOW_FLOAT_in_var_type_u1550);
+            switch (alt39) {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:572:9: BOOL
+                    {
+                    match(input,BOOL,FOLLOW_BOOL_in_var_type_u1534); 
 
 
-                    decl = DFloat.me;
+                        decl = DBool.me;
+                        
 
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:576:9: FLOAT
+                    {
+                    match(input,FLOAT,FOLLOW_FLOAT_in_var_type_u1550); 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:576:9: INT
-                {
-                    match(input, INT, FOLLOW_INT_in_var_type_u1566);
 
+                        decl = DFloat.me;
+                        
 
-                    decl = DInt.me;
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:580:9: INT
+                    {
+                    match(input,INT,FOLLOW_INT_in_var_type_u1566); 
 
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:580:9: ^( DD i1= INT_CONST i2= INT_CONST )
-                {
-                    match(input, DD, FOLLOW_DD_in_var_type_u1583);
+                        decl = DInt.me;
+                        
 
-                    match(input, Token.DOWN, null);
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u1587);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:584:9: ^( DD i1= INT_CONST i2= INT_CONST )
+                    {
+                    match(input,DD,FOLLOW_DD_in_var_type_u1583); 
 
-                    i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u1591);
+                    match(input, Token.DOWN, null); 
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u1587); 
 
-                    match(input, Token.UP, null);
+                    i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u1591); 
 
+                    match(input, Token.UP, null); 
 
-                    decl = new DInt2(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null)));
 
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:590:5: ^( CM (i= INT_CONST )+ )
-                {
+                        decl = new DInt2(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null)));
+                        
 
-                    ArrayList<EInt> values = new ArrayList();
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:594:5: ^( CM (i= INT_CONST )+ )
+                    {
 
+                        ArrayList<EInt> values = new ArrayList();
+                        
 
-                    match(input, CM, FOLLOW_CM_in_var_type_u1626);
+                    match(input,CM,FOLLOW_CM_in_var_type_u1626); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:593:14: (i= INT_CONST )+
-                    int cnt37 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:597:14: (i= INT_CONST )+
+                    int cnt37=0;
                     loop37:
                     do {
-                        int alt37 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt37 = 1;
-                            }
-                            break;
+                        int alt37=2;
+                        int LA37_0 = input.LA(1);
 
+                        if ( (LA37_0==INT_CONST) ) {
+                            alt37=1;
                         }
 
+
                         switch (alt37) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:593:15: i= INT_CONST
-                            {
-                                i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u1631);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:597:15: i= INT_CONST
+                    	    {
+                    	    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u1631); 
 
-                                values.add(EInt.make((i != null ? i.getText() : null)));
+                    	    values.add(EInt.make((i!=null?i.getText():null)));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt37 >= 1) break loop37;
+                    	default :
+                    	    if ( cnt37 >= 1 ) break loop37;
                                 EarlyExitException eee =
-                                        new EarlyExitException(37, input);
+                                    new EarlyExitException(37, input);
                                 throw eee;
                         }
                         cnt37++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DManyInt(values);
 
+                        decl = new DManyInt(values);
+                        
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:597:9: ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) )
-                {
-                    match(input, SET, FOLLOW_SET_in_var_type_u1652);
-
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_var_type_u1655);
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:601:9: ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) )
+                    {
+                    match(input,SET,FOLLOW_SET_in_var_type_u1652); 
 
-                    match(input, Token.DOWN, null);
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u1659);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_var_type_u1655); 
 
-                    i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u1663);
+                    match(input, Token.DOWN, null); 
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u1659); 
 
-                    match(input, Token.UP, null);
+                    i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u1663); 
 
+                    match(input, Token.UP, null); 
 
-                    match(input, Token.UP, null);
 
+                    match(input, Token.UP, null); 
 
-                    decl = new DSet(new DInt2(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null))));
 
 
-                }
-                break;
-                case 7:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:602:5: ^( SET ^( CM (i= INT_CONST )+ ) )
-                {
+                        decl = new DSet(new DInt2(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null))));
+                        
 
-                    ArrayList<EInt> values = new ArrayList();
+                    }
+                    break;
+                case 7 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:606:5: ^( SET ^( CM (i= INT_CONST )+ ) )
+                    {
 
+                        ArrayList<EInt> values = new ArrayList();
+                        
 
-                    match(input, SET, FOLLOW_SET_in_var_type_u1693);
+                    match(input,SET,FOLLOW_SET_in_var_type_u1693); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, CM, FOLLOW_CM_in_var_type_u1696);
+                    match(input, Token.DOWN, null); 
+                    match(input,CM,FOLLOW_CM_in_var_type_u1696); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:605:19: (i= INT_CONST )+
-                    int cnt38 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:609:19: (i= INT_CONST )+
+                    int cnt38=0;
                     loop38:
                     do {
-                        int alt38 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt38 = 1;
-                            }
-                            break;
+                        int alt38=2;
+                        int LA38_0 = input.LA(1);
 
+                        if ( (LA38_0==INT_CONST) ) {
+                            alt38=1;
                         }
 
+
                         switch (alt38) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:605:20: i= INT_CONST
-                            {
-                                i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u1701);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:609:20: i= INT_CONST
+                    	    {
+                    	    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u1701); 
 
-                                values.add(EInt.make((i != null ? i.getText() : null)));
+                    	    values.add(EInt.make((i!=null?i.getText():null)));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt38 >= 1) break loop38;
+                    	default :
+                    	    if ( cnt38 >= 1 ) break loop38;
                                 EarlyExitException eee =
-                                        new EarlyExitException(38, input);
+                                    new EarlyExitException(38, input);
                                 throw eee;
                         }
                         cnt38++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DSet(new DManyInt(values));
 
+                        decl = new DSet(new DManyInt(values));
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "var_type_u"
 
 
+
     // $ANTLR start "index_set"
-    // parser/flatzinc/FlatzincFullExtWalker.g:611:1: index_set returns [Declaration decl] : ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:615:1: index_set returns [Declaration decl] : ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) );
     public final Declaration index_set() throws RecognitionException {
         Declaration decl = null;
 
 
-        CommonTree i1 = null;
-        CommonTree i2 = null;
+        CommonTree i1=null;
+        CommonTree i2=null;
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:612:5: ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) )
-            int alt40 = 2;
-            switch (input.LA(1)) {
-                case INDEX: {
-                    switch (input.LA(2)) {
-                        case DOWN: {
-                            switch (input.LA(3)) {
-                                case DD: {
-                                    alt40 = 1;
-                                }
-                                break;
-                                case INT: {
-                                    alt40 = 2;
-                                }
-                                break;
-                                default:
-                                    NoViableAltException nvae =
-                                            new NoViableAltException("", 40, 2, input);
+            // parser/flatzinc/FlatzincFullExtWalker.g:616:5: ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) )
+            int alt40=2;
+            int LA40_0 = input.LA(1);
 
-                                    throw nvae;
+            if ( (LA40_0==INDEX) ) {
+                int LA40_1 = input.LA(2);
 
-                            }
+                if ( (LA40_1==DOWN) ) {
+                    int LA40_2 = input.LA(3);
 
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 40, 1, input);
+                    if ( (LA40_2==DD) ) {
+                        alt40=1;
+                    }
+                    else if ( (LA40_2==INT) ) {
+                        alt40=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 40, 2, input);
 
-                            throw nvae;
+                        throw nvae;
 
                     }
-
                 }
-                break;
-                default:
+                else {
                     NoViableAltException nvae =
-                            new NoViableAltException("", 40, 0, input);
+                        new NoViableAltException("", 40, 1, input);
 
                     throw nvae;
 
+                }
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 40, 0, input);
 
+                throw nvae;
+
+            }
             switch (alt40) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:612:9: ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) )
-                {
-                    match(input, INDEX, FOLLOW_INDEX_in_index_set1736);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:616:9: ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) )
+                    {
+                    match(input,INDEX,FOLLOW_INDEX_in_index_set1736); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_index_set1739);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_index_set1739); 
 
-                    match(input, Token.DOWN, null);
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_index_set1743);
+                    match(input, Token.DOWN, null); 
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_index_set1743); 
 
-                    i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_index_set1747);
+                    i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_index_set1747); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DInt2(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null)));
 
+                        decl = new DInt2(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null)));
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:616:9: ^( INDEX INT )
-                {
-                    match(input, INDEX, FOLLOW_INDEX_in_index_set1766);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:620:9: ^( INDEX INT )
+                    {
+                    match(input,INDEX,FOLLOW_INDEX_in_index_set1766); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT, FOLLOW_INT_in_index_set1768);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT,FOLLOW_INT_in_index_set1768); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = DInt.me;
 
+                        decl = DInt.me;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "index_set"
 
 
+
     // $ANTLR start "expr"
-    // parser/flatzinc/FlatzincFullExtWalker.g:622:1: expr returns [Expression exp] : ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING );
+    // parser/flatzinc/FlatzincFullExtWalker.g:626:1: expr returns [Expression exp] : ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING );
     public final Expression expr() throws RecognitionException {
         Expression exp = null;
 
 
-        CommonTree i = null;
-        CommonTree i1 = null;
-        CommonTree i2 = null;
-        CommonTree STRING3 = null;
-        boolean b = false;
+        CommonTree i=null;
+        CommonTree i1=null;
+        CommonTree i2=null;
+        CommonTree STRING3=null;
+        boolean b =false;
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:623:5: ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING )
-            int alt44 = 7;
-            switch (input.LA(1)) {
-                case LB: {
-                    switch (input.LA(2)) {
-                        case RB: {
-                            alt44 = 1;
-                        }
-                        break;
-                        case INT_CONST: {
-                            alt44 = 2;
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 44, 1, input);
+            // parser/flatzinc/FlatzincFullExtWalker.g:627:5: ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING )
+            int alt44=7;
+            switch ( input.LA(1) ) {
+            case LB:
+                {
+                int LA44_1 = input.LA(2);
 
-                            throw nvae;
+                if ( (LA44_1==RB) ) {
+                    alt44=1;
+                }
+                else if ( (LA44_1==INT_CONST) ) {
+                    alt44=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 44, 1, input);
 
-                    }
+                    throw nvae;
 
+                }
                 }
                 break;
-                case FALSE:
-                case TRUE: {
-                    alt44 = 3;
+            case FALSE:
+            case TRUE:
+                {
+                alt44=3;
                 }
                 break;
-                case INT_CONST: {
-                    alt44 = 4;
+            case INT_CONST:
+                {
+                alt44=4;
                 }
                 break;
-                case EXPR: {
-                    alt44 = 5;
+            case EXPR:
+                {
+                alt44=5;
                 }
                 break;
-                case IDENTIFIER: {
-                    alt44 = 6;
+            case IDENTIFIER:
+                {
+                alt44=6;
                 }
                 break;
-                case STRING: {
-                    alt44 = 7;
+            case STRING:
+                {
+                alt44=7;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 44, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 44, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt44) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:623:9: LB RB
-                {
-                    match(input, LB, FOLLOW_LB_in_expr1800);
-
-                    match(input, RB, FOLLOW_RB_in_expr1802);
-
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:627:9: LB RB
+                    {
+                    match(input,LB,FOLLOW_LB_in_expr1800); 
 
-                    exp = new ESetList(new ArrayList());
+                    match(input,RB,FOLLOW_RB_in_expr1802); 
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:628:5: LB (i= INT_CONST )+ RB
-                {
+                        exp = new ESetList(new ArrayList());
+                        
 
-                    ArrayList<EInt> values = new ArrayList();
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:632:5: LB (i= INT_CONST )+ RB
+                    {
 
+                        ArrayList<EInt> values = new ArrayList();
+                        
 
-                    match(input, LB, FOLLOW_LB_in_expr1830);
+                    match(input,LB,FOLLOW_LB_in_expr1830); 
 
-                    // parser/flatzinc/FlatzincFullExtWalker.g:631:12: (i= INT_CONST )+
-                    int cnt41 = 0;
+                    // parser/flatzinc/FlatzincFullExtWalker.g:635:12: (i= INT_CONST )+
+                    int cnt41=0;
                     loop41:
                     do {
-                        int alt41 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt41 = 1;
-                            }
-                            break;
+                        int alt41=2;
+                        int LA41_0 = input.LA(1);
 
+                        if ( (LA41_0==INT_CONST) ) {
+                            alt41=1;
                         }
 
+
                         switch (alt41) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:631:13: i= INT_CONST
-                            {
-                                i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_expr1835);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:635:13: i= INT_CONST
+                    	    {
+                    	    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_expr1835); 
 
-                                values.add(EInt.make((i != null ? i.getText() : null)));
+                    	    values.add(EInt.make((i!=null?i.getText():null)));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt41 >= 1) break loop41;
+                    	default :
+                    	    if ( cnt41 >= 1 ) break loop41;
                                 EarlyExitException eee =
-                                        new EarlyExitException(41, input);
+                                    new EarlyExitException(41, input);
                                 throw eee;
                         }
                         cnt41++;
                     } while (true);
 
 
-                    match(input, RB, FOLLOW_RB_in_expr1840);
+                    match(input,RB,FOLLOW_RB_in_expr1840); 
 
 
-                    exp = new ESetList(values);
+                        exp = new ESetList(values);
+                        
 
-
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:635:9: b= bool_const
-                {
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:639:9: b= bool_const
+                    {
                     pushFollow(FOLLOW_bool_const_in_expr1858);
-                    b = bool_const();
+                    b=bool_const();
 
                     state._fsp--;
 
 
-                    exp = EBool.make(b);
-
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:639:9: i1= INT_CONST ( DD i2= INT_CONST )?
-                {
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_expr1876);
+                        exp =EBool.make(b);
+                        
 
-                    // parser/flatzinc/FlatzincFullExtWalker.g:639:22: ( DD i2= INT_CONST )?
-                    int alt42 = 2;
-                    switch (input.LA(1)) {
-                        case DD: {
-                            alt42 = 1;
-                        }
-                        break;
                     }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:643:9: i1= INT_CONST ( DD i2= INT_CONST )?
+                    {
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_expr1876); 
 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:643:22: ( DD i2= INT_CONST )?
+                    int alt42=2;
+                    int LA42_0 = input.LA(1);
+
+                    if ( (LA42_0==DD) ) {
+                        alt42=1;
+                    }
                     switch (alt42) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:639:23: DD i2= INT_CONST
-                        {
-                            match(input, DD, FOLLOW_DD_in_expr1879);
+                        case 1 :
+                            // parser/flatzinc/FlatzincFullExtWalker.g:643:23: DD i2= INT_CONST
+                            {
+                            match(input,DD,FOLLOW_DD_in_expr1879); 
 
-                            i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_expr1883);
+                            i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_expr1883); 
 
-                        }
-                        break;
+                            }
+                            break;
 
                     }
 
 
-                    if (i2 == null) {
-                        exp = EInt.make((i1 != null ? i1.getText() : null));
-                    } else {
-                        exp = new ESetBounds(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null)));
-                    }
-
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:648:5: ^( EXPR LS (e= expr )* RS )
-                {
+                        if(i2==null){
+                            exp =EInt.make((i1!=null?i1.getText():null));
+                        }else{
+                            exp = new ESetBounds(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null)));
+                        }
+                        
 
-                    ArrayList<Expression> exps = new ArrayList();
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:652:5: ^( EXPR LS (e= expr )* RS )
+                    {
 
+                        ArrayList<Expression> exps = new ArrayList();
+                        
 
-                    match(input, EXPR, FOLLOW_EXPR_in_expr1913);
+                    match(input,EXPR,FOLLOW_EXPR_in_expr1913); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, LS, FOLLOW_LS_in_expr1915);
+                    match(input, Token.DOWN, null); 
+                    match(input,LS,FOLLOW_LS_in_expr1915); 
 
-                    // parser/flatzinc/FlatzincFullExtWalker.g:651:18: (e= expr )*
+                    // parser/flatzinc/FlatzincFullExtWalker.g:655:18: (e= expr )*
                     loop43:
                     do {
-                        int alt43 = 2;
-                        switch (input.LA(1)) {
-                            case EXPR:
-                            case FALSE:
-                            case IDENTIFIER:
-                            case INT_CONST:
-                            case LB:
-                            case STRING:
-                            case TRUE: {
-                                alt43 = 1;
-                            }
-                            break;
+                        int alt43=2;
+                        int LA43_0 = input.LA(1);
 
+                        if ( ((LA43_0 >= EXPR && LA43_0 <= FALSE)||LA43_0==IDENTIFIER||LA43_0==INT_CONST||LA43_0==LB||LA43_0==STRING||LA43_0==TRUE) ) {
+                            alt43=1;
                         }
 
+
                         switch (alt43) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:651:19: e= expr
-                            {
-                                pushFollow(FOLLOW_expr_in_expr1920);
-                                e = expr();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:655:19: e= expr
+                    	    {
+                    	    pushFollow(FOLLOW_expr_in_expr1920);
+                    	    e=expr();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                exps.add(e);
+                    	    exps.add(e);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                break loop43;
+                    	default :
+                    	    break loop43;
                         }
                     } while (true);
 
 
-                    match(input, RS, FOLLOW_RS_in_expr1925);
+                    match(input,RS,FOLLOW_RS_in_expr1925); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    if (exps.size() > 0) {
-                        exp = new EArray(exps);
-                    } else {
-                        exp = new EArray();
-                    }
 
+                        if(exps.size()>0){
+                            exp = new EArray(exps);
+                        }else{
+                            exp = new EArray();
+                        }
+                        
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:659:9: e= id_expr
-                {
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:663:9: e= id_expr
+                    {
                     pushFollow(FOLLOW_id_expr_in_expr1944);
-                    e = id_expr();
+                    e=id_expr();
 
                     state._fsp--;
 
 
-                    exp = e;
 
+                        exp = e;
+                        
 
-                }
-                break;
-                case 7:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:663:9: STRING
-                {
-                    STRING3 = (CommonTree) match(input, STRING, FOLLOW_STRING_in_expr1960);
-
+                    }
+                    break;
+                case 7 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:667:9: STRING
+                    {
+                    STRING3=(CommonTree)match(input,STRING,FOLLOW_STRING_in_expr1960); 
 
-                    exp = new EString((STRING3 != null ? STRING3.getText() : null));
 
+                        exp = new EString((STRING3!=null?STRING3.getText():null));
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return exp;
     }
     // $ANTLR end "expr"
 
 
+
     // $ANTLR start "id_expr"
-    // parser/flatzinc/FlatzincFullExtWalker.g:687:1: id_expr returns [Expression exp] : IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:691:1: id_expr returns [Expression exp] : IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? ;
     public final Expression id_expr() throws RecognitionException {
         Expression exp = null;
 
 
-        CommonTree i = null;
-        CommonTree IDENTIFIER4 = null;
-        Expression e = null;
+        CommonTree i=null;
+        CommonTree IDENTIFIER4=null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:688:5: ( IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? )
-            // parser/flatzinc/FlatzincFullExtWalker.g:689:5: IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
+            // parser/flatzinc/FlatzincFullExtWalker.g:692:5: ( IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? )
+            // parser/flatzinc/FlatzincFullExtWalker.g:693:5: IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
             {
 
                 ArrayList<Expression> exps = new ArrayList();
+                
 
+            IDENTIFIER4=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_id_expr2018); 
 
-                IDENTIFIER4 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_id_expr2018);
-
-                // parser/flatzinc/FlatzincFullExtWalker.g:692:19: ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
-                int alt46 = 3;
-                switch (input.LA(1)) {
-                    case LP: {
-                        alt46 = 1;
-                    }
-                    break;
-                    case LS: {
-                        alt46 = 2;
-                    }
-                    break;
-                }
+            // parser/flatzinc/FlatzincFullExtWalker.g:696:19: ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
+            int alt46=3;
+            int LA46_0 = input.LA(1);
 
-                switch (alt46) {
-                    case 1:
-                        // parser/flatzinc/FlatzincFullExtWalker.g:692:20: ( LP e= expr ( CM e= expr )* RP )
+            if ( (LA46_0==LP) ) {
+                alt46=1;
+            }
+            else if ( (LA46_0==LS) ) {
+                alt46=2;
+            }
+            switch (alt46) {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:696:20: ( LP e= expr ( CM e= expr )* RP )
+                    {
+                    // parser/flatzinc/FlatzincFullExtWalker.g:696:20: ( LP e= expr ( CM e= expr )* RP )
+                    // parser/flatzinc/FlatzincFullExtWalker.g:696:21: LP e= expr ( CM e= expr )* RP
                     {
-                        // parser/flatzinc/FlatzincFullExtWalker.g:692:20: ( LP e= expr ( CM e= expr )* RP )
-                        // parser/flatzinc/FlatzincFullExtWalker.g:692:21: LP e= expr ( CM e= expr )* RP
-                        {
-                            match(input, LP, FOLLOW_LP_in_id_expr2022);
+                    match(input,LP,FOLLOW_LP_in_id_expr2022); 
 
-                            pushFollow(FOLLOW_expr_in_id_expr2026);
-                            e = expr();
+                    pushFollow(FOLLOW_expr_in_id_expr2026);
+                    e=expr();
 
-                            state._fsp--;
+                    state._fsp--;
 
 
-                            exps.add(e);
+                    exps.add(e);
 
-                            // parser/flatzinc/FlatzincFullExtWalker.g:692:45: ( CM e= expr )*
-                            loop45:
-                            do {
-                                int alt45 = 2;
-                                switch (input.LA(1)) {
-                                    case CM: {
-                                        alt45 = 1;
-                                    }
-                                    break;
+                    // parser/flatzinc/FlatzincFullExtWalker.g:696:45: ( CM e= expr )*
+                    loop45:
+                    do {
+                        int alt45=2;
+                        int LA45_0 = input.LA(1);
 
-                                }
+                        if ( (LA45_0==CM) ) {
+                            alt45=1;
+                        }
 
-                                switch (alt45) {
-                                    case 1:
-                                        // parser/flatzinc/FlatzincFullExtWalker.g:692:46: CM e= expr
-                                    {
-                                        match(input, CM, FOLLOW_CM_in_id_expr2030);
 
-                                        pushFollow(FOLLOW_expr_in_id_expr2034);
-                                        e = expr();
+                        switch (alt45) {
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:696:46: CM e= expr
+                    	    {
+                    	    match(input,CM,FOLLOW_CM_in_id_expr2030); 
 
-                                        state._fsp--;
+                    	    pushFollow(FOLLOW_expr_in_id_expr2034);
+                    	    e=expr();
 
+                    	    state._fsp--;
 
-                                        exps.add(e);
 
-                                    }
-                                    break;
+                    	    exps.add(e);
 
-                                    default:
-                                        break loop45;
-                                }
-                            } while (true);
+                    	    }
+                    	    break;
 
+                    	default :
+                    	    break loop45;
+                        }
+                    } while (true);
 
-                            match(input, RP, FOLLOW_RP_in_id_expr2039);
 
-                        }
+                    match(input,RP,FOLLOW_RP_in_id_expr2039); 
+
+                    }
 
 
                     }
                     break;
-                    case 2:
-                        // parser/flatzinc/FlatzincFullExtWalker.g:692:76: ( LS i= INT_CONST RS )
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:696:76: ( LS i= INT_CONST RS )
+                    {
+                    // parser/flatzinc/FlatzincFullExtWalker.g:696:76: ( LS i= INT_CONST RS )
+                    // parser/flatzinc/FlatzincFullExtWalker.g:696:77: LS i= INT_CONST RS
                     {
-                        // parser/flatzinc/FlatzincFullExtWalker.g:692:76: ( LS i= INT_CONST RS )
-                        // parser/flatzinc/FlatzincFullExtWalker.g:692:77: LS i= INT_CONST RS
-                        {
-                            match(input, LS, FOLLOW_LS_in_id_expr2043);
+                    match(input,LS,FOLLOW_LS_in_id_expr2043); 
 
-                            i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_id_expr2047);
+                    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_id_expr2047); 
 
-                            match(input, RS, FOLLOW_RS_in_id_expr2049);
+                    match(input,RS,FOLLOW_RS_in_id_expr2049); 
 
-                        }
+                    }
 
 
                     }
                     break;
 
-                }
+            }
 
 
-                if (exps.size() > 0) {
-                    exp = new EAnnotation(new EIdentifier(map, (IDENTIFIER4 != null ? IDENTIFIER4.getText() : null)), exps);
-                } else if (i != null) {
-                    exp = new EIdArray(map, (IDENTIFIER4 != null ? IDENTIFIER4.getText() : null), Integer.parseInt((i != null ? i.getText() : null)));
-                } else {
-                    exp = new EIdentifier(map, (IDENTIFIER4 != null ? IDENTIFIER4.getText() : null));
-                }
 
+                if(exps.size()>0){
+                    exp = new EAnnotation(new EIdentifier(map, (IDENTIFIER4!=null?IDENTIFIER4.getText():null)), exps);
+                }else if(i!=null) {
+                    exp = new EIdArray(map, (IDENTIFIER4!=null?IDENTIFIER4.getText():null), Integer.parseInt((i!=null?i.getText():null)));
+                }else{
+                    exp = new EIdentifier(map, (IDENTIFIER4!=null?IDENTIFIER4.getText():null));
+                }
+                
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return exp;
     }
     // $ANTLR end "id_expr"
 
 
+
     // $ANTLR start "param_decl"
-    // parser/flatzinc/FlatzincFullExtWalker.g:705:1: param_decl : ^( PAR IDENTIFIER pt= par_type e= expr ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:709:1: param_decl : ^( PAR IDENTIFIER pt= par_type e= expr ) ;
     public final void param_decl() throws RecognitionException {
-        CommonTree IDENTIFIER5 = null;
-        Declaration pt = null;
+        CommonTree IDENTIFIER5=null;
+        Declaration pt =null;
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:706:2: ( ^( PAR IDENTIFIER pt= par_type e= expr ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:706:6: ^( PAR IDENTIFIER pt= par_type e= expr )
+            // parser/flatzinc/FlatzincFullExtWalker.g:710:2: ( ^( PAR IDENTIFIER pt= par_type e= expr ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:710:6: ^( PAR IDENTIFIER pt= par_type e= expr )
             {
-                match(input, PAR, FOLLOW_PAR_in_param_decl2076);
+            match(input,PAR,FOLLOW_PAR_in_param_decl2076); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER5 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_param_decl2078);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER5=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_param_decl2078); 
 
-                pushFollow(FOLLOW_par_type_in_param_decl2082);
-                pt = par_type();
+            pushFollow(FOLLOW_par_type_in_param_decl2082);
+            pt=par_type();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                pushFollow(FOLLOW_expr_in_param_decl2086);
-                e = expr();
+            pushFollow(FOLLOW_expr_in_param_decl2086);
+            e=expr();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                // Parameter(THashMap<String, Object> map, Declaration type, String identifier, Expression expression)
-                FParameter.make_parameter(map, pt, (IDENTIFIER5 != null ? IDENTIFIER5.getText() : null), e);
 
+            	// Parameter(THashMap<String, Object> map, Declaration type, String identifier, Expression expression)
+                FParameter.make_parameter(map, pt, (IDENTIFIER5!=null?IDENTIFIER5.getText():null), e);
+                
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "param_decl"
 
 
+
     // $ANTLR start "var_decl"
-    // parser/flatzinc/FlatzincFullExtWalker.g:714:1: var_decl : ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:718:1: var_decl : ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) ;
     public final void var_decl() throws RecognitionException {
-        CommonTree IDENTIFIER6 = null;
-        Declaration vt = null;
+        CommonTree IDENTIFIER6=null;
+        Declaration vt =null;
 
-        List<EAnnotation> anns = null;
+        List<EAnnotation> anns =null;
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:715:2: ( ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:715:6: ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? )
+            // parser/flatzinc/FlatzincFullExtWalker.g:719:2: ( ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:719:6: ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? )
             {
-                match(input, VAR, FOLLOW_VAR_in_var_decl2105);
+            match(input,VAR,FOLLOW_VAR_in_var_decl2105); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER6 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_var_decl2107);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER6=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_var_decl2107); 
 
-                pushFollow(FOLLOW_var_type_in_var_decl2111);
-                vt = var_type();
+            pushFollow(FOLLOW_var_type_in_var_decl2111);
+            vt=var_type();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                pushFollow(FOLLOW_annotations_in_var_decl2115);
-                anns = annotations();
+            pushFollow(FOLLOW_annotations_in_var_decl2115);
+            anns=annotations();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:715:53: (e= expr )?
-                int alt47 = 2;
-                switch (input.LA(1)) {
-                    case EXPR:
-                    case FALSE:
-                    case IDENTIFIER:
-                    case INT_CONST:
-                    case LB:
-                    case STRING:
-                    case TRUE: {
-                        alt47 = 1;
-                    }
-                    break;
-                }
+            // parser/flatzinc/FlatzincFullExtWalker.g:719:53: (e= expr )?
+            int alt47=2;
+            int LA47_0 = input.LA(1);
 
-                switch (alt47) {
-                    case 1:
-                        // parser/flatzinc/FlatzincFullExtWalker.g:715:53: e= expr
+            if ( ((LA47_0 >= EXPR && LA47_0 <= FALSE)||LA47_0==IDENTIFIER||LA47_0==INT_CONST||LA47_0==LB||LA47_0==STRING||LA47_0==TRUE) ) {
+                alt47=1;
+            }
+            switch (alt47) {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:719:53: e= expr
                     {
-                        pushFollow(FOLLOW_expr_in_var_decl2119);
-                        e = expr();
+                    pushFollow(FOLLOW_expr_in_var_decl2119);
+                    e=expr();
 
-                        state._fsp--;
+                    state._fsp--;
 
 
                     }
                     break;
 
-                }
+            }
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                FVariable.make_variable(map, vt, (IDENTIFIER6 != null ? IDENTIFIER6.getText() : null), anns, e, mSolver, mLayout);
 
+            	FVariable.make_variable(map, vt, (IDENTIFIER6!=null?IDENTIFIER6.getText():null), anns, e, mSolver, mLayout, mPresolver);
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "var_decl"
 
 
+
     // $ANTLR start "constraint"
-    // parser/flatzinc/FlatzincFullExtWalker.g:721:1: constraint : ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:725:1: constraint : ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) ;
     public final void constraint() throws RecognitionException {
-        CommonTree IDENTIFIER7 = null;
-        Expression e = null;
+        CommonTree IDENTIFIER7=null;
+        Expression e =null;
 
-        List<EAnnotation> anns = null;
+        List<EAnnotation> anns =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:722:2: ( ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:723:2: ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations )
+            // parser/flatzinc/FlatzincFullExtWalker.g:726:2: ( ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:727:2: ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations )
             {
 
-                //  Solver aSolver, String id, List<Expression> exps, List<EAnnotation> annotations
-                ArrayList<Expression> exps = new ArrayList();
+            	//  Solver aSolver, String id, List<Expression> exps, List<EAnnotation> annotations
+            	ArrayList<Expression> exps = new ArrayList();
+            	
 
+            match(input,CONSTRAINT,FOLLOW_CONSTRAINT_in_constraint2144); 
 
-                match(input, CONSTRAINT, FOLLOW_CONSTRAINT_in_constraint2144);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER7=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_constraint2146); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER7 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_constraint2146);
+            // parser/flatzinc/FlatzincFullExtWalker.g:731:30: (e= expr )+
+            int cnt48=0;
+            loop48:
+            do {
+                int alt48=2;
+                int LA48_0 = input.LA(1);
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:727:30: (e= expr )+
-                int cnt48 = 0;
-                loop48:
-                do {
-                    int alt48 = 2;
-                    switch (input.LA(1)) {
-                        case EXPR:
-                        case FALSE:
-                        case IDENTIFIER:
-                        case INT_CONST:
-                        case LB:
-                        case STRING:
-                        case TRUE: {
-                            alt48 = 1;
-                        }
-                        break;
+                if ( ((LA48_0 >= EXPR && LA48_0 <= FALSE)||LA48_0==IDENTIFIER||LA48_0==INT_CONST||LA48_0==LB||LA48_0==STRING||LA48_0==TRUE) ) {
+                    alt48=1;
+                }
 
-                    }
 
-                    switch (alt48) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:727:31: e= expr
-                        {
-                            pushFollow(FOLLOW_expr_in_constraint2151);
-                            e = expr();
+                switch (alt48) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincFullExtWalker.g:731:31: e= expr
+            	    {
+            	    pushFollow(FOLLOW_expr_in_constraint2151);
+            	    e=expr();
 
-                            state._fsp--;
+            	    state._fsp--;
 
 
-                            exps.add(e);
+            	    exps.add(e);
 
-                        }
-                        break;
+            	    }
+            	    break;
 
-                        default:
-                            if (cnt48 >= 1) break loop48;
-                            EarlyExitException eee =
-                                    new EarlyExitException(48, input);
-                            throw eee;
-                    }
-                    cnt48++;
-                } while (true);
+            	default :
+            	    if ( cnt48 >= 1 ) break loop48;
+                        EarlyExitException eee =
+                            new EarlyExitException(48, input);
+                        throw eee;
+                }
+                cnt48++;
+            } while (true);
 
 
-                pushFollow(FOLLOW_annotations_in_constraint2158);
-                anns = annotations();
+            pushFollow(FOLLOW_annotations_in_constraint2158);
+            anns=annotations();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                String id = (IDENTIFIER7 != null ? IDENTIFIER7.getText() : null);
-                FConstraint.make_constraint(mSolver, map, id, exps, anns);
 
+            	String id = (IDENTIFIER7!=null?IDENTIFIER7.getText():null);
+            	mPresolver.add_constraint(id, exps, anns);
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "constraint"
 
 
+
     // $ANTLR start "solve_goal"
-    // parser/flatzinc/FlatzincFullExtWalker.g:734:1: solve_goal : ^( SOLVE anns= annotations res= resolution ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:738:1: solve_goal : ^( SOLVE anns= annotations res= resolution ) ;
     public final void solve_goal() throws RecognitionException {
-        List<EAnnotation> anns = null;
+        List<EAnnotation> anns =null;
 
-        FlatzincFullExtWalker.resolution_return res = null;
+        FlatzincFullExtWalker.resolution_return res =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:735:2: ( ^( SOLVE anns= annotations res= resolution ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:736:2: ^( SOLVE anns= annotations res= resolution )
+            // parser/flatzinc/FlatzincFullExtWalker.g:739:2: ( ^( SOLVE anns= annotations res= resolution ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:740:2: ^( SOLVE anns= annotations res= resolution )
             {
-                match(input, SOLVE, FOLLOW_SOLVE_in_solve_goal2175);
+            match(input,SOLVE,FOLLOW_SOLVE_in_solve_goal2175); 
 
-                match(input, Token.DOWN, null);
-                pushFollow(FOLLOW_annotations_in_solve_goal2179);
-                anns = annotations();
+            match(input, Token.DOWN, null); 
+            pushFollow(FOLLOW_annotations_in_solve_goal2179);
+            anns=annotations();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                pushFollow(FOLLOW_resolution_in_solve_goal2183);
-                res = resolution();
+            pushFollow(FOLLOW_resolution_in_solve_goal2183);
+            res=resolution();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                FGoal.define_goal(gc, mSolver, anns, res.type, res.expr);
 
+                mPresolver.post_constraints(gc, mSolver, map, anns, res.expr);
+                FGoal.define_goal(gc, mSolver,anns,res.type,res.expr);
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "solve_goal"
 
@@ -3946,1094 +4049,1106 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static class resolution_return extends TreeRuleReturnScope {
         public ResolutionPolicy type;
         public Expression expr;
-    }
-
-    ;
+    };
 
 
     // $ANTLR start "resolution"
-    // parser/flatzinc/FlatzincFullExtWalker.g:742:1: resolution returns [ResolutionPolicy type, Expression expr] : ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:747:1: resolution returns [ResolutionPolicy type, Expression expr] : ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) );
     public final FlatzincFullExtWalker.resolution_return resolution() throws RecognitionException {
         FlatzincFullExtWalker.resolution_return retval = new FlatzincFullExtWalker.resolution_return();
         retval.start = input.LT(1);
 
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:743:5: ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) )
-            int alt49 = 3;
-            switch (input.LA(1)) {
-                case SATISFY: {
-                    alt49 = 1;
+            // parser/flatzinc/FlatzincFullExtWalker.g:748:5: ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) )
+            int alt49=3;
+            switch ( input.LA(1) ) {
+            case SATISFY:
+                {
+                alt49=1;
                 }
                 break;
-                case MINIMIZE: {
-                    alt49 = 2;
+            case MINIMIZE:
+                {
+                alt49=2;
                 }
                 break;
-                case MAXIMIZE: {
-                    alt49 = 3;
+            case MAXIMIZE:
+                {
+                alt49=3;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 49, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 49, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt49) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:743:9: SATISFY
-                {
-                    match(input, SATISFY, FOLLOW_SATISFY_in_resolution2207);
-
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:748:9: SATISFY
+                    {
+                    match(input,SATISFY,FOLLOW_SATISFY_in_resolution2207); 
 
-                    retval.type = ResolutionPolicy.SATISFACTION;
-                    retval.expr = null;
 
+                        retval.type =ResolutionPolicy.SATISFACTION;
+                        retval.expr =null;
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:748:9: ^( MINIMIZE e= expr )
-                {
-                    match(input, MINIMIZE, FOLLOW_MINIMIZE_in_resolution2224);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:753:9: ^( MINIMIZE e= expr )
+                    {
+                    match(input,MINIMIZE,FOLLOW_MINIMIZE_in_resolution2224); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_expr_in_resolution2228);
-                    e = expr();
+                    e=expr();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    retval.type = ResolutionPolicy.MINIMIZE;
-                    retval.expr = e;
 
+                        retval.type =ResolutionPolicy.MINIMIZE;
+                        retval.expr =e;
+                        
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:753:9: ^( MAXIMIZE e= expr )
-                {
-                    match(input, MAXIMIZE, FOLLOW_MAXIMIZE_in_resolution2246);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:758:9: ^( MAXIMIZE e= expr )
+                    {
+                    match(input,MAXIMIZE,FOLLOW_MAXIMIZE_in_resolution2246); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_expr_in_resolution2250);
-                    e = expr();
+                    e=expr();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    retval.type = ResolutionPolicy.MAXIMIZE;
-                    retval.expr = e;
 
+                        retval.type =ResolutionPolicy.MAXIMIZE;
+                        retval.expr =e;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return retval;
     }
     // $ANTLR end "resolution"
 
 
+
     // $ANTLR start "annotations"
-    // parser/flatzinc/FlatzincFullExtWalker.g:760:1: annotations returns [List<EAnnotation> anns] : ^( ANNOTATIONS (e= annotation )* ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:765:1: annotations returns [List<EAnnotation> anns] : ^( ANNOTATIONS (e= annotation )* ) ;
     public final List<EAnnotation> annotations() throws RecognitionException {
         List<EAnnotation> anns = null;
 
 
-        EAnnotation e = null;
+        EAnnotation e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:761:5: ( ^( ANNOTATIONS (e= annotation )* ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:762:5: ^( ANNOTATIONS (e= annotation )* )
+            // parser/flatzinc/FlatzincFullExtWalker.g:766:5: ( ^( ANNOTATIONS (e= annotation )* ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:767:5: ^( ANNOTATIONS (e= annotation )* )
             {
 
                 anns = new ArrayList();
+                
 
+            match(input,ANNOTATIONS,FOLLOW_ANNOTATIONS_in_annotations2293); 
 
-                match(input, ANNOTATIONS, FOLLOW_ANNOTATIONS_in_annotations2293);
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); 
+                // parser/flatzinc/FlatzincFullExtWalker.g:770:23: (e= annotation )*
+                loop50:
+                do {
+                    int alt50=2;
+                    int LA50_0 = input.LA(1);
 
-                if (input.LA(1) == Token.DOWN) {
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:765:23: (e= annotation )*
-                    loop50:
-                    do {
-                        int alt50 = 2;
-                        switch (input.LA(1)) {
-                            case IDENTIFIER: {
-                                alt50 = 1;
-                            }
-                            break;
+                    if ( (LA50_0==IDENTIFIER) ) {
+                        alt50=1;
+                    }
 
-                        }
 
-                        switch (alt50) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:765:24: e= annotation
-                            {
-                                pushFollow(FOLLOW_annotation_in_annotations2298);
-                                e = annotation();
+                    switch (alt50) {
+                	case 1 :
+                	    // parser/flatzinc/FlatzincFullExtWalker.g:770:24: e= annotation
+                	    {
+                	    pushFollow(FOLLOW_annotation_in_annotations2298);
+                	    e=annotation();
 
-                                state._fsp--;
+                	    state._fsp--;
 
 
-                                anns.add(e);
+                	    anns.add(e);
 
-                            }
-                            break;
+                	    }
+                	    break;
 
-                            default:
-                                break loop50;
-                        }
-                    } while (true);
+                	default :
+                	    break loop50;
+                    }
+                } while (true);
 
 
-                    match(input, Token.UP, null);
-                }
+                match(input, Token.UP, null); 
+            }
 
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return anns;
     }
     // $ANTLR end "annotations"
 
 
+
     // $ANTLR start "annotation"
-    // parser/flatzinc/FlatzincFullExtWalker.g:768:1: annotation returns [EAnnotation ann] : IDENTIFIER ( LP (e= expr )+ RP )? ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:773:1: annotation returns [EAnnotation ann] : IDENTIFIER ( LP (e= expr )+ RP )? ;
     public final EAnnotation annotation() throws RecognitionException {
         EAnnotation ann = null;
 
 
-        CommonTree IDENTIFIER8 = null;
-        Expression e = null;
+        CommonTree IDENTIFIER8=null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:769:5: ( IDENTIFIER ( LP (e= expr )+ RP )? )
-            // parser/flatzinc/FlatzincFullExtWalker.g:770:5: IDENTIFIER ( LP (e= expr )+ RP )?
+            // parser/flatzinc/FlatzincFullExtWalker.g:774:5: ( IDENTIFIER ( LP (e= expr )+ RP )? )
+            // parser/flatzinc/FlatzincFullExtWalker.g:775:5: IDENTIFIER ( LP (e= expr )+ RP )?
             {
 
                 ArrayList<Expression> exps = new ArrayList();
+                
 
+            IDENTIFIER8=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_annotation2335); 
 
-                IDENTIFIER8 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_annotation2335);
-
-                // parser/flatzinc/FlatzincFullExtWalker.g:773:16: ( LP (e= expr )+ RP )?
-                int alt52 = 2;
-                switch (input.LA(1)) {
-                    case LP: {
-                        alt52 = 1;
-                    }
-                    break;
-                }
+            // parser/flatzinc/FlatzincFullExtWalker.g:778:16: ( LP (e= expr )+ RP )?
+            int alt52=2;
+            int LA52_0 = input.LA(1);
 
-                switch (alt52) {
-                    case 1:
-                        // parser/flatzinc/FlatzincFullExtWalker.g:773:17: LP (e= expr )+ RP
+            if ( (LA52_0==LP) ) {
+                alt52=1;
+            }
+            switch (alt52) {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:778:17: LP (e= expr )+ RP
                     {
-                        match(input, LP, FOLLOW_LP_in_annotation2338);
+                    match(input,LP,FOLLOW_LP_in_annotation2338); 
 
-                        // parser/flatzinc/FlatzincFullExtWalker.g:773:20: (e= expr )+
-                        int cnt51 = 0;
-                        loop51:
-                        do {
-                            int alt51 = 2;
-                            switch (input.LA(1)) {
-                                case EXPR:
-                                case FALSE:
-                                case IDENTIFIER:
-                                case INT_CONST:
-                                case LB:
-                                case STRING:
-                                case TRUE: {
-                                    alt51 = 1;
-                                }
-                                break;
+                    // parser/flatzinc/FlatzincFullExtWalker.g:778:20: (e= expr )+
+                    int cnt51=0;
+                    loop51:
+                    do {
+                        int alt51=2;
+                        int LA51_0 = input.LA(1);
 
-                            }
+                        if ( ((LA51_0 >= EXPR && LA51_0 <= FALSE)||LA51_0==IDENTIFIER||LA51_0==INT_CONST||LA51_0==LB||LA51_0==STRING||LA51_0==TRUE) ) {
+                            alt51=1;
+                        }
 
-                            switch (alt51) {
-                                case 1:
-                                    // parser/flatzinc/FlatzincFullExtWalker.g:773:21: e= expr
-                                {
-                                    pushFollow(FOLLOW_expr_in_annotation2343);
-                                    e = expr();
 
-                                    state._fsp--;
+                        switch (alt51) {
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:778:21: e= expr
+                    	    {
+                    	    pushFollow(FOLLOW_expr_in_annotation2343);
+                    	    e=expr();
 
+                    	    state._fsp--;
 
-                                    exps.add(e);
 
-                                }
-                                break;
+                    	    exps.add(e);
 
-                                default:
-                                    if (cnt51 >= 1) break loop51;
-                                    EarlyExitException eee =
-                                            new EarlyExitException(51, input);
-                                    throw eee;
-                            }
-                            cnt51++;
-                        } while (true);
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt51 >= 1 ) break loop51;
+                                EarlyExitException eee =
+                                    new EarlyExitException(51, input);
+                                throw eee;
+                        }
+                        cnt51++;
+                    } while (true);
 
 
-                        match(input, RP, FOLLOW_RP_in_annotation2348);
+                    match(input,RP,FOLLOW_RP_in_annotation2348); 
 
                     }
                     break;
 
-                }
+            }
 
 
-                ann = new EAnnotation(new EIdentifier(map, (IDENTIFIER8 != null ? IDENTIFIER8.getText() : null)), exps);
 
+                ann = new EAnnotation(new EIdentifier(map,(IDENTIFIER8!=null?IDENTIFIER8.getText():null)), exps);
+                
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return ann;
     }
     // $ANTLR end "annotation"
 
 
+
     // $ANTLR start "bool_const"
-    // parser/flatzinc/FlatzincFullExtWalker.g:779:1: bool_const returns [boolean value] : ( TRUE | FALSE );
+    // parser/flatzinc/FlatzincFullExtWalker.g:784:1: bool_const returns [boolean value] : ( TRUE | FALSE );
     public final boolean bool_const() throws RecognitionException {
         boolean value = false;
 
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:780:5: ( TRUE | FALSE )
-            int alt53 = 2;
-            switch (input.LA(1)) {
-                case TRUE: {
-                    alt53 = 1;
-                }
-                break;
-                case FALSE: {
-                    alt53 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 53, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincFullExtWalker.g:785:5: ( TRUE | FALSE )
+            int alt53=2;
+            int LA53_0 = input.LA(1);
 
+            if ( (LA53_0==TRUE) ) {
+                alt53=1;
             }
+            else if ( (LA53_0==FALSE) ) {
+                alt53=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 53, 0, input);
+
+                throw nvae;
 
+            }
             switch (alt53) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:780:9: TRUE
-                {
-                    match(input, TRUE, FOLLOW_TRUE_in_bool_const2380);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:785:9: TRUE
+                    {
+                    match(input,TRUE,FOLLOW_TRUE_in_bool_const2380); 
 
                     value = true;
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:781:9: FALSE
-                {
-                    match(input, FALSE, FOLLOW_FALSE_in_bool_const2392);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:786:9: FALSE
+                    {
+                    match(input,FALSE,FOLLOW_FALSE_in_bool_const2392); 
 
                     value = false;
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return value;
     }
     // $ANTLR end "bool_const"
 
 
+
     // $ANTLR start "pred_decl"
-    // parser/flatzinc/FlatzincFullExtWalker.g:785:1: pred_decl : ^( PREDICATE IDENTIFIER ( pred_param )+ ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:790:1: pred_decl : ^( PREDICATE IDENTIFIER ( pred_param )+ ) ;
     public final void pred_decl() throws RecognitionException {
-        CommonTree IDENTIFIER9 = null;
+        CommonTree IDENTIFIER9=null;
 
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:786:2: ( ^( PREDICATE IDENTIFIER ( pred_param )+ ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:786:6: ^( PREDICATE IDENTIFIER ( pred_param )+ )
+            // parser/flatzinc/FlatzincFullExtWalker.g:791:2: ( ^( PREDICATE IDENTIFIER ( pred_param )+ ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:791:6: ^( PREDICATE IDENTIFIER ( pred_param )+ )
             {
-                match(input, PREDICATE, FOLLOW_PREDICATE_in_pred_decl2411);
+            match(input,PREDICATE,FOLLOW_PREDICATE_in_pred_decl2411); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER9 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_pred_decl2413);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER9=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_pred_decl2413); 
 
-                // parser/flatzinc/FlatzincFullExtWalker.g:786:29: ( pred_param )+
-                int cnt54 = 0;
-                loop54:
-                do {
-                    int alt54 = 2;
-                    switch (input.LA(1)) {
-                        case CL: {
-                            alt54 = 1;
-                        }
-                        break;
+            // parser/flatzinc/FlatzincFullExtWalker.g:791:29: ( pred_param )+
+            int cnt54=0;
+            loop54:
+            do {
+                int alt54=2;
+                int LA54_0 = input.LA(1);
 
-                    }
+                if ( (LA54_0==CL) ) {
+                    alt54=1;
+                }
 
-                    switch (alt54) {
-                        case 1:
-                            // parser/flatzinc/FlatzincFullExtWalker.g:786:29: pred_param
-                        {
-                            pushFollow(FOLLOW_pred_param_in_pred_decl2415);
-                            pred_param();
 
-                            state._fsp--;
+                switch (alt54) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincFullExtWalker.g:791:29: pred_param
+            	    {
+            	    pushFollow(FOLLOW_pred_param_in_pred_decl2415);
+            	    pred_param();
 
+            	    state._fsp--;
 
-                        }
-                        break;
 
-                        default:
-                            if (cnt54 >= 1) break loop54;
-                            EarlyExitException eee =
-                                    new EarlyExitException(54, input);
-                            throw eee;
-                    }
-                    cnt54++;
-                } while (true);
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt54 >= 1 ) break loop54;
+                        EarlyExitException eee =
+                            new EarlyExitException(54, input);
+                        throw eee;
+                }
+                cnt54++;
+            } while (true);
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                //        LOGGER.info("% skip predicate : "+ (IDENTIFIER9!=null?IDENTIFIER9.getText():null));
 
+            //        LOGGER.info("% skip predicate : "+ (IDENTIFIER9!=null?IDENTIFIER9.getText():null));
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "pred_decl"
 
 
+
     // $ANTLR start "pred_param"
-    // parser/flatzinc/FlatzincFullExtWalker.g:793:1: pred_param : ^( CL pred_param_type IDENTIFIER ) ;
+    // parser/flatzinc/FlatzincFullExtWalker.g:798:1: pred_param : ^( CL pred_param_type IDENTIFIER ) ;
     public final void pred_param() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:794:5: ( ^( CL pred_param_type IDENTIFIER ) )
-            // parser/flatzinc/FlatzincFullExtWalker.g:794:9: ^( CL pred_param_type IDENTIFIER )
+            // parser/flatzinc/FlatzincFullExtWalker.g:799:5: ( ^( CL pred_param_type IDENTIFIER ) )
+            // parser/flatzinc/FlatzincFullExtWalker.g:799:9: ^( CL pred_param_type IDENTIFIER )
             {
-                match(input, CL, FOLLOW_CL_in_pred_param2438);
+            match(input,CL,FOLLOW_CL_in_pred_param2438); 
 
-                match(input, Token.DOWN, null);
-                pushFollow(FOLLOW_pred_param_type_in_pred_param2440);
-                pred_param_type();
+            match(input, Token.DOWN, null); 
+            pushFollow(FOLLOW_pred_param_type_in_pred_param2440);
+            pred_param_type();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_pred_param2442);
+            match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_pred_param2442); 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
         }
-        return;
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
     }
     // $ANTLR end "pred_param"
 
 
+
     // $ANTLR start "pred_param_type"
-    // parser/flatzinc/FlatzincFullExtWalker.g:798:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );
+    // parser/flatzinc/FlatzincFullExtWalker.g:803:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );
     public final void pred_param_type() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:799:5: ( par_pred_param_type | var_pred_param_type )
-            int alt55 = 2;
+            // parser/flatzinc/FlatzincFullExtWalker.g:804:5: ( par_pred_param_type | var_pred_param_type )
+            int alt55=2;
             alt55 = dfa55.predict(input);
             switch (alt55) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:799:9: par_pred_param_type
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:804:9: par_pred_param_type
+                    {
                     pushFollow(FOLLOW_par_pred_param_type_in_pred_param_type2463);
                     par_pred_param_type();
 
                     state._fsp--;
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:800:9: var_pred_param_type
-                {
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:805:9: var_pred_param_type
+                    {
                     pushFollow(FOLLOW_var_pred_param_type_in_pred_param_type2473);
                     var_pred_param_type();
 
                     state._fsp--;
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
         }
-        return;
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
     }
     // $ANTLR end "pred_param_type"
 
 
+
     // $ANTLR start "par_pred_param_type"
-    // parser/flatzinc/FlatzincFullExtWalker.g:804:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:809:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );
     public final void par_pred_param_type() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:805:5: ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) )
-            int alt64 = 9;
+            // parser/flatzinc/FlatzincFullExtWalker.g:810:5: ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) )
+            int alt64=9;
             alt64 = dfa64.predict(input);
             switch (alt64) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:805:9: par_type
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:810:9: par_type
+                    {
                     pushFollow(FOLLOW_par_type_in_par_pred_param_type2493);
                     par_type();
 
                     state._fsp--;
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:807:9: ^( DD INT_CONST INT_CONST )
-                {
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type2505);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:812:9: ^( DD INT_CONST INT_CONST )
+                    {
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type2505); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2507);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2507); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2509);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2509); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:808:9: ^( CM ( INT_CONST )+ )
-                {
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type2521);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:813:9: ^( CM ( INT_CONST )+ )
+                    {
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type2521); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:808:14: ( INT_CONST )+
-                    int cnt56 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:813:14: ( INT_CONST )+
+                    int cnt56=0;
                     loop56:
                     do {
-                        int alt56 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt56 = 1;
-                            }
-                            break;
+                        int alt56=2;
+                        int LA56_0 = input.LA(1);
 
+                        if ( (LA56_0==INT_CONST) ) {
+                            alt56=1;
                         }
 
+
                         switch (alt56) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:808:14: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2523);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:813:14: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2523); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt56 >= 1) break loop56;
+                    	default :
+                    	    if ( cnt56 >= 1 ) break loop56;
                                 EarlyExitException eee =
-                                        new EarlyExitException(56, input);
+                                    new EarlyExitException(56, input);
                                 throw eee;
                         }
                         cnt56++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:809:9: ^( SET ^( DD INT_CONST INT_CONST ) )
-                {
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type2536);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:814:9: ^( SET ^( DD INT_CONST INT_CONST ) )
+                    {
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type2536); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type2539);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type2539); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2541);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2541); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2543);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2543); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:810:9: ^( SET ^( CM ( INT_CONST )+ ) )
-                {
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type2556);
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:815:9: ^( SET ^( CM ( INT_CONST )+ ) )
+                    {
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type2556); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type2559);
+                    match(input, Token.DOWN, null); 
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type2559); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:810:20: ( INT_CONST )+
-                    int cnt57 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:815:20: ( INT_CONST )+
+                    int cnt57=0;
                     loop57:
                     do {
-                        int alt57 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt57 = 1;
-                            }
-                            break;
+                        int alt57=2;
+                        int LA57_0 = input.LA(1);
 
+                        if ( (LA57_0==INT_CONST) ) {
+                            alt57=1;
                         }
 
+
                         switch (alt57) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:810:20: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2561);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:815:20: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2561); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt57 >= 1) break loop57;
+                    	default :
+                    	    if ( cnt57 >= 1 ) break loop57;
                                 EarlyExitException eee =
-                                        new EarlyExitException(57, input);
+                                    new EarlyExitException(57, input);
                                 throw eee;
                         }
                         cnt57++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:812:9: ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type2576);
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:817:9: ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type2576); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:812:17: ( index_set )+
-                    int cnt58 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:817:17: ( index_set )+
+                    int cnt58=0;
                     loop58:
                     do {
-                        int alt58 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt58 = 1;
-                            }
-                            break;
+                        int alt58=2;
+                        int LA58_0 = input.LA(1);
 
+                        if ( (LA58_0==INDEX) ) {
+                            alt58=1;
                         }
 
+
                         switch (alt58) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:812:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type2578);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:817:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type2578);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt58 >= 1) break loop58;
+                    	default :
+                    	    if ( cnt58 >= 1 ) break loop58;
                                 EarlyExitException eee =
-                                        new EarlyExitException(58, input);
+                                    new EarlyExitException(58, input);
                                 throw eee;
                         }
                         cnt58++;
                     } while (true);
 
 
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type2582);
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type2582); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2584);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2584); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2586);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2586); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 7:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:813:9: ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type2599);
+                    }
+                    break;
+                case 7 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:818:9: ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type2599); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:813:17: ( index_set )+
-                    int cnt59 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:818:17: ( index_set )+
+                    int cnt59=0;
                     loop59:
                     do {
-                        int alt59 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt59 = 1;
-                            }
-                            break;
+                        int alt59=2;
+                        int LA59_0 = input.LA(1);
 
+                        if ( (LA59_0==INDEX) ) {
+                            alt59=1;
                         }
 
+
                         switch (alt59) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:813:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type2601);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:818:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type2601);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt59 >= 1) break loop59;
+                    	default :
+                    	    if ( cnt59 >= 1 ) break loop59;
                                 EarlyExitException eee =
-                                        new EarlyExitException(59, input);
+                                    new EarlyExitException(59, input);
                                 throw eee;
                         }
                         cnt59++;
                     } while (true);
 
 
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type2605);
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type2605); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:813:33: ( INT_CONST )+
-                    int cnt60 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:818:33: ( INT_CONST )+
+                    int cnt60=0;
                     loop60:
                     do {
-                        int alt60 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt60 = 1;
-                            }
-                            break;
+                        int alt60=2;
+                        int LA60_0 = input.LA(1);
 
+                        if ( (LA60_0==INT_CONST) ) {
+                            alt60=1;
                         }
 
+
                         switch (alt60) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:813:33: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2607);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:818:33: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2607); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt60 >= 1) break loop60;
+                    	default :
+                    	    if ( cnt60 >= 1 ) break loop60;
                                 EarlyExitException eee =
-                                        new EarlyExitException(60, input);
+                                    new EarlyExitException(60, input);
                                 throw eee;
                         }
                         cnt60++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 8:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:814:9: ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type2621);
+                    }
+                    break;
+                case 8 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:819:9: ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type2621); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:814:17: ( index_set )+
-                    int cnt61 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:819:17: ( index_set )+
+                    int cnt61=0;
                     loop61:
                     do {
-                        int alt61 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt61 = 1;
-                            }
-                            break;
+                        int alt61=2;
+                        int LA61_0 = input.LA(1);
 
+                        if ( (LA61_0==INDEX) ) {
+                            alt61=1;
                         }
 
+
                         switch (alt61) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:814:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type2623);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:819:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type2623);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt61 >= 1) break loop61;
+                    	default :
+                    	    if ( cnt61 >= 1 ) break loop61;
                                 EarlyExitException eee =
-                                        new EarlyExitException(61, input);
+                                    new EarlyExitException(61, input);
                                 throw eee;
                         }
                         cnt61++;
                     } while (true);
 
 
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type2627);
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type2627); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type2630);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type2630); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2632);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2632); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2634);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2634); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 9:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:815:9: ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type2648);
+                    }
+                    break;
+                case 9 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:820:9: ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type2648); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:815:17: ( index_set )+
-                    int cnt62 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:820:17: ( index_set )+
+                    int cnt62=0;
                     loop62:
                     do {
-                        int alt62 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt62 = 1;
-                            }
-                            break;
+                        int alt62=2;
+                        int LA62_0 = input.LA(1);
 
+                        if ( (LA62_0==INDEX) ) {
+                            alt62=1;
                         }
 
+
                         switch (alt62) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:815:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type2650);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:820:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type2650);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt62 >= 1) break loop62;
+                    	default :
+                    	    if ( cnt62 >= 1 ) break loop62;
                                 EarlyExitException eee =
-                                        new EarlyExitException(62, input);
+                                    new EarlyExitException(62, input);
                                 throw eee;
                         }
                         cnt62++;
                     } while (true);
 
 
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type2654);
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type2654); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type2657);
+                    match(input, Token.DOWN, null); 
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type2657); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:815:39: ( INT_CONST )+
-                    int cnt63 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:820:39: ( INT_CONST )+
+                    int cnt63=0;
                     loop63:
                     do {
-                        int alt63 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt63 = 1;
-                            }
-                            break;
+                        int alt63=2;
+                        int LA63_0 = input.LA(1);
 
+                        if ( (LA63_0==INT_CONST) ) {
+                            alt63=1;
                         }
 
+
                         switch (alt63) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:815:39: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type2659);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:820:39: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type2659); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt63 >= 1) break loop63;
+                    	default :
+                    	    if ( cnt63 >= 1 ) break loop63;
                                 EarlyExitException eee =
-                                        new EarlyExitException(63, input);
+                                    new EarlyExitException(63, input);
                                 throw eee;
                         }
                         cnt63++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "par_pred_param_type"
 
 
+
     // $ANTLR start "var_pred_param_type"
-    // parser/flatzinc/FlatzincFullExtWalker.g:819:1: var_pred_param_type : ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) );
+    // parser/flatzinc/FlatzincFullExtWalker.g:824:1: var_pred_param_type : ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) );
     public final void var_pred_param_type() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincFullExtWalker.g:820:5: ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) )
-            int alt66 = 3;
-            switch (input.LA(1)) {
-                case VAR: {
-                    switch (input.LA(2)) {
-                        case DOWN: {
-                            switch (input.LA(3)) {
-                                case SET: {
-                                    alt66 = 2;
-                                }
-                                break;
-                                case ARRVAR:
-                                case AVAR: {
-                                    alt66 = 1;
-                                }
-                                break;
-                                default:
-                                    NoViableAltException nvae =
-                                            new NoViableAltException("", 66, 3, input);
+            // parser/flatzinc/FlatzincFullExtWalker.g:825:5: ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) )
+            int alt66=3;
+            int LA66_0 = input.LA(1);
 
-                                    throw nvae;
+            if ( (LA66_0==VAR) ) {
+                int LA66_1 = input.LA(2);
 
-                            }
+                if ( (LA66_1==DOWN) ) {
+                    int LA66_3 = input.LA(3);
 
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 66, 1, input);
+                    if ( (LA66_3==SET) ) {
+                        alt66=2;
+                    }
+                    else if ( (LA66_3==ARRVAR||LA66_3==AVAR) ) {
+                        alt66=1;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 66, 3, input);
 
-                            throw nvae;
+                        throw nvae;
 
                     }
-
-                }
-                break;
-                case ARRAY: {
-                    alt66 = 3;
                 }
-                break;
-                default:
+                else {
                     NoViableAltException nvae =
-                            new NoViableAltException("", 66, 0, input);
+                        new NoViableAltException("", 66, 1, input);
 
                     throw nvae;
 
+                }
             }
+            else if ( (LA66_0==ARRAY) ) {
+                alt66=3;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 66, 0, input);
+
+                throw nvae;
 
+            }
             switch (alt66) {
-                case 1:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:820:9: ^( VAR var_type )
-                {
-                    match(input, VAR, FOLLOW_VAR_in_var_pred_param_type2684);
+                case 1 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:825:9: ^( VAR var_type )
+                    {
+                    match(input,VAR,FOLLOW_VAR_in_var_pred_param_type2684); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_var_type_in_var_pred_param_type2686);
                     var_type();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:821:9: ^( VAR SET )
-                {
-                    match(input, VAR, FOLLOW_VAR_in_var_pred_param_type2698);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:826:9: ^( VAR SET )
+                    {
+                    match(input,VAR,FOLLOW_VAR_in_var_pred_param_type2698); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, SET, FOLLOW_SET_in_var_pred_param_type2700);
+                    match(input, Token.DOWN, null); 
+                    match(input,SET,FOLLOW_SET_in_var_pred_param_type2700); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincFullExtWalker.g:822:9: ^( ARRAY ( index_set )+ ^( VAR SET ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_var_pred_param_type2712);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincFullExtWalker.g:827:9: ^( ARRAY ( index_set )+ ^( VAR SET ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_var_pred_param_type2712); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincFullExtWalker.g:822:17: ( index_set )+
-                    int cnt65 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincFullExtWalker.g:827:17: ( index_set )+
+                    int cnt65=0;
                     loop65:
                     do {
-                        int alt65 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt65 = 1;
-                            }
-                            break;
+                        int alt65=2;
+                        int LA65_0 = input.LA(1);
 
+                        if ( (LA65_0==INDEX) ) {
+                            alt65=1;
                         }
 
+
                         switch (alt65) {
-                            case 1:
-                                // parser/flatzinc/FlatzincFullExtWalker.g:822:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_var_pred_param_type2714);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincFullExtWalker.g:827:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_var_pred_param_type2714);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt65 >= 1) break loop65;
+                    	default :
+                    	    if ( cnt65 >= 1 ) break loop65;
                                 EarlyExitException eee =
-                                        new EarlyExitException(65, input);
+                                    new EarlyExitException(65, input);
                                 throw eee;
                         }
                         cnt65++;
                     } while (true);
 
 
-                    match(input, VAR, FOLLOW_VAR_in_var_pred_param_type2718);
+                    match(input,VAR,FOLLOW_VAR_in_var_pred_param_type2718); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, SET, FOLLOW_SET_in_var_pred_param_type2720);
+                    match(input, Token.DOWN, null); 
+                    match(input,SET,FOLLOW_SET_in_var_pred_param_type2720); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "var_pred_param_type"
 
@@ -5044,18 +5159,18 @@ public class FlatzincFullExtWalker extends TreeParser {
     protected DFA55 dfa55 = new DFA55(this);
     protected DFA64 dfa64 = new DFA64(this);
     static final String DFA18_eotS =
-            "\56\uffff";
+        "\56\uffff";
     static final String DFA18_eofS =
-            "\56\uffff";
+        "\56\uffff";
     static final String DFA18_minS =
-            "\1\126\1\2\1\46\1\4\2\2\1\uffff\1\3\1\4\17\3\1\uffff\5\3\1\4\12" +
-                    "\3\1\2\2\4\2\3";
+        "\1\126\1\2\1\46\1\4\2\2\1\uffff\1\3\1\4\17\3\1\uffff\5\3\1\4\12"+
+        "\3\1\2\2\4\2\3";
     static final String DFA18_maxS =
-            "\1\126\1\2\1\46\3\142\1\uffff\21\142\1\uffff\25\142";
+        "\1\126\1\2\1\46\3\142\1\uffff\21\142\1\uffff\25\142";
     static final String DFA18_acceptS =
-            "\6\uffff\1\1\21\uffff\1\2\25\uffff";
+        "\6\uffff\1\1\21\uffff\1\2\25\uffff";
     static final String DFA18_specialS =
-            "\56\uffff}>";
+        "\56\uffff}>";
     static final String[] DFA18_transitionS = {
             "\1\1",
             "\1\2",
@@ -5064,25 +5179,25 @@ public class FlatzincFullExtWalker extends TreeParser {
             "\1\7\1\uffff\137\6",
             "\1\10\1\uffff\137\6",
             "",
-            "\1\30\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1" +
-                    "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6" +
-                    "\1\16\1\22\1\21\3\6",
+            "\1\30\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1"+
+            "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6"+
+            "\1\16\1\22\1\21\3\6",
             "\2\6\1\31\55\6\1\33\1\6\1\32\35\6\1\35\5\6\1\34\10\6",
-            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1" +
-                    "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6" +
-                    "\1\16\1\22\1\21\3\6",
-            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1" +
-                    "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6" +
-                    "\1\16\1\22\1\21\3\6",
-            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1" +
-                    "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6" +
-                    "\1\16\1\22\1\21\3\6",
-            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1" +
-                    "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6" +
-                    "\1\16\1\22\1\21\3\6",
-            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1" +
-                    "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6" +
-                    "\1\16\1\22\1\21\3\6",
+            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1"+
+            "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6"+
+            "\1\16\1\22\1\21\3\6",
+            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1"+
+            "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6"+
+            "\1\16\1\22\1\21\3\6",
+            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1"+
+            "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6"+
+            "\1\16\1\22\1\21\3\6",
+            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1"+
+            "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6"+
+            "\1\16\1\22\1\21\3\6",
+            "\1\36\2\6\1\11\11\6\1\24\3\6\1\23\2\6\1\17\34\6\1\13\1\6\1"+
+            "\12\17\6\1\26\1\6\1\25\1\27\1\6\1\20\10\6\1\15\5\6\1\14\2\6"+
+            "\1\16\1\22\1\21\3\6",
             "\1\36\137\6",
             "\1\36\137\6",
             "\1\36\137\6",
@@ -5094,21 +5209,21 @@ public class FlatzincFullExtWalker extends TreeParser {
             "\1\36\137\6",
             "\1\36\137\6",
             "",
-            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17" +
-                    "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1" +
-                    "\43\1\42\3\6",
-            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17" +
-                    "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1" +
-                    "\43\1\42\3\6",
-            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17" +
-                    "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1" +
-                    "\43\1\42\3\6",
-            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17" +
-                    "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1" +
-                    "\43\1\42\3\6",
-            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17" +
-                    "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1" +
-                    "\43\1\42\3\6",
+            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17"+
+            "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1"+
+            "\43\1\42\3\6",
+            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17"+
+            "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1"+
+            "\43\1\42\3\6",
+            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17"+
+            "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1"+
+            "\43\1\42\3\6",
+            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17"+
+            "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1"+
+            "\43\1\42\3\6",
+            "\3\6\1\31\11\6\1\45\3\6\1\44\2\6\1\40\34\6\1\33\1\6\1\32\17"+
+            "\6\1\47\1\6\1\46\1\50\1\6\1\41\10\6\1\35\5\6\1\34\2\6\1\37\1"+
+            "\43\1\42\3\6",
             "\137\51",
             "\1\52\137\6",
             "\1\52\137\6",
@@ -5138,7 +5253,7 @@ public class FlatzincFullExtWalker extends TreeParser {
     static {
         int numStates = DFA18_transitionS.length;
         DFA18_transition = new short[numStates][];
-        for (int i = 0; i < numStates; i++) {
+        for (int i=0; i<numStates; i++) {
             DFA18_transition[i] = DFA.unpackEncodedString(DFA18_transitionS[i]);
         }
     }
@@ -5156,29 +5271,27 @@ public class FlatzincFullExtWalker extends TreeParser {
             this.special = DFA18_special;
             this.transition = DFA18_transition;
         }
-
         public String getDescription() {
-            return "253:1: struct_reg[DSLEngine pe] returns [PropagationStrategy item] : ( ^( STREG id= IDENTIFIER . . ) | ^( STREG id= IDENTIFIER ca= comb_attr . . ) );";
+            return "257:1: struct_reg[DSLEngine pe] returns [PropagationStrategy item] : ( ^( STREG id= IDENTIFIER . . ) | ^( STREG id= IDENTIFIER ca= comb_attr . . ) );";
         }
     }
-
     static final String DFA55_eotS =
-            "\17\uffff";
+        "\17\uffff";
     static final String DFA55_eofS =
-            "\17\uffff";
+        "\17\uffff";
     static final String DFA55_minS =
-            "\1\7\1\uffff\1\2\1\uffff\1\50\1\2\1\31\1\2\1\3\1\52\1\23\1\52\2" +
-                    "\3\1\23";
+        "\1\7\1\uffff\1\2\1\uffff\1\50\1\2\1\31\1\2\1\3\1\52\1\23\1\52\2"+
+        "\3\1\23";
     static final String DFA55_maxS =
-            "\1\135\1\uffff\1\2\1\uffff\1\50\1\2\1\51\1\2\1\3\1\52\1\135\1\52" +
-                    "\2\3\1\135";
+        "\1\135\1\uffff\1\2\1\uffff\1\50\1\2\1\51\1\2\1\3\1\52\1\135\1\52"+
+        "\2\3\1\135";
     static final String DFA55_acceptS =
-            "\1\uffff\1\1\1\uffff\1\2\13\uffff";
+        "\1\uffff\1\1\1\uffff\1\2\13\uffff";
     static final String DFA55_specialS =
-            "\17\uffff}>";
+        "\17\uffff}>";
     static final String[] DFA55_transitionS = {
-            "\1\1\1\2\1\1\11\uffff\1\1\5\uffff\1\1\71\uffff\1\1\11\uffff" +
-                    "\1\3",
+            "\1\1\1\2\1\1\11\uffff\1\1\5\uffff\1\1\71\uffff\1\1\11\uffff"+
+            "\1\3",
             "",
             "\1\4",
             "",
@@ -5206,7 +5319,7 @@ public class FlatzincFullExtWalker extends TreeParser {
     static {
         int numStates = DFA55_transitionS.length;
         DFA55_transition = new short[numStates][];
-        for (int i = 0; i < numStates; i++) {
+        for (int i=0; i<numStates; i++) {
             DFA55_transition[i] = DFA.unpackEncodedString(DFA55_transitionS[i]);
         }
     }
@@ -5224,27 +5337,25 @@ public class FlatzincFullExtWalker extends TreeParser {
             this.special = DFA55_special;
             this.transition = DFA55_transition;
         }
-
         public String getDescription() {
-            return "798:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );";
+            return "803:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );";
         }
     }
-
     static final String DFA64_eotS =
-            "\32\uffff";
+        "\32\uffff";
     static final String DFA64_eofS =
-            "\32\uffff";
+        "\32\uffff";
     static final String DFA64_minS =
-            "\1\7\3\uffff\2\2\1\23\1\50\2\uffff\1\2\1\31\1\2\1\3\1\52\1\23\1" +
-                    "\52\2\uffff\1\2\1\3\1\23\1\3\2\uffff\1\23";
+        "\1\7\3\uffff\2\2\1\23\1\50\2\uffff\1\2\1\31\1\2\1\3\1\52\1\23\1"+
+        "\52\2\uffff\1\2\1\3\1\23\1\3\2\uffff\1\23";
     static final String DFA64_maxS =
-            "\1\123\3\uffff\2\2\1\31\1\50\2\uffff\1\2\1\51\1\2\1\3\1\52\1\123" +
-                    "\1\52\2\uffff\1\2\1\3\1\31\1\3\2\uffff\1\123";
+        "\1\123\3\uffff\2\2\1\31\1\50\2\uffff\1\2\1\51\1\2\1\3\1\52\1\123"+
+        "\1\52\2\uffff\1\2\1\3\1\31\1\3\2\uffff\1\123";
     static final String DFA64_acceptS =
-            "\1\uffff\1\1\1\2\1\3\4\uffff\1\4\1\5\7\uffff\1\6\1\7\4\uffff\1\10" +
-                    "\1\11\1\uffff";
+        "\1\uffff\1\1\1\2\1\3\4\uffff\1\4\1\5\7\uffff\1\6\1\7\4\uffff\1\10"+
+        "\1\11\1\uffff";
     static final String DFA64_specialS =
-            "\32\uffff}>";
+        "\32\uffff}>";
     static final String[] DFA64_transitionS = {
             "\1\1\1\5\1\1\11\uffff\1\3\5\uffff\1\2\71\uffff\1\4",
             "",
@@ -5285,7 +5396,7 @@ public class FlatzincFullExtWalker extends TreeParser {
     static {
         int numStates = DFA64_transitionS.length;
         DFA64_transition = new short[numStates][];
-        for (int i = 0; i < numStates; i++) {
+        for (int i=0; i<numStates; i++) {
             DFA64_transition[i] = DFA.unpackEncodedString(DFA64_transitionS[i]);
         }
     }
@@ -5303,35 +5414,34 @@ public class FlatzincFullExtWalker extends TreeParser {
             this.special = DFA64_special;
             this.transition = DFA64_transition;
         }
-
         public String getDescription() {
-            return "804:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );";
+            return "809:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );";
         }
     }
+ 
 
-
-    public static final BitSet FOLLOW_pred_decl_in_flatzinc_model53 = new BitSet(new long[]{0x0000004000400000L, 0x0000000020200420L});
-    public static final BitSet FOLLOW_param_decl_in_flatzinc_model58 = new BitSet(new long[]{0x0000004000400000L, 0x0000000020200020L});
-    public static final BitSet FOLLOW_var_decl_in_flatzinc_model63 = new BitSet(new long[]{0x0000004000400000L, 0x0000000020200000L});
-    public static final BitSet FOLLOW_constraint_in_flatzinc_model68 = new BitSet(new long[]{0x0000004000400000L, 0x0000000000200000L});
-    public static final BitSet FOLLOW_engine_in_flatzinc_model72 = new BitSet(new long[]{0x0000000000000000L, 0x0000000000200000L});
+    public static final BitSet FOLLOW_pred_decl_in_flatzinc_model53 = new BitSet(new long[]{0x0000004000400000L,0x0000000020200420L});
+    public static final BitSet FOLLOW_param_decl_in_flatzinc_model58 = new BitSet(new long[]{0x0000004000400000L,0x0000000020200020L});
+    public static final BitSet FOLLOW_var_decl_in_flatzinc_model63 = new BitSet(new long[]{0x0000004000400000L,0x0000000020200000L});
+    public static final BitSet FOLLOW_constraint_in_flatzinc_model68 = new BitSet(new long[]{0x0000004000400000L,0x0000000000200000L});
+    public static final BitSet FOLLOW_engine_in_flatzinc_model72 = new BitSet(new long[]{0x0000000000000000L,0x0000000000200000L});
     public static final BitSet FOLLOW_solve_goal_in_flatzinc_model75 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_group_decl_in_engine108 = new BitSet(new long[]{0x0000004000000000L, 0x0000000003400000L});
+    public static final BitSet FOLLOW_group_decl_in_engine108 = new BitSet(new long[]{0x0000004000000000L,0x0000000003400000L});
     public static final BitSet FOLLOW_structure_in_engine117 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_IDENTIFIER_in_group_decl139 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_predicates_in_group_decl143 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_predicate_in_predicates178 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_AND_in_predicates203 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_predicates_in_predicates208 = new BitSet(new long[]{0x0200008000910018L, 0x00000000E8000B48L});
+    public static final BitSet FOLLOW_predicates_in_predicates208 = new BitSet(new long[]{0x0200008000910018L,0x00000000E8000B48L});
     public static final BitSet FOLLOW_OR_in_predicates237 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_predicates_in_predicates242 = new BitSet(new long[]{0x0200008000910018L, 0x00000000E8000B48L});
+    public static final BitSet FOLLOW_predicates_in_predicates242 = new BitSet(new long[]{0x0200008000910018L,0x00000000E8000B48L});
     public static final BitSet FOLLOW_TRUE_in_predicate273 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_attribute_in_predicate283 = new BitSet(new long[]{0xE800000000000000L, 0x0000000000000005L});
+    public static final BitSet FOLLOW_attribute_in_predicate283 = new BitSet(new long[]{0xE800000000000000L,0x0000000000000005L});
     public static final BitSet FOLLOW_op_in_predicate287 = new BitSet(new long[]{0x0000040000000000L});
     public static final BitSet FOLLOW_INT_CONST_in_predicate291 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_IN_in_predicate308 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_IDENTIFIER_in_predicate313 = new BitSet(new long[]{0x0000004000000008L});
-    public static final BitSet FOLLOW_NOT_in_predicate325 = new BitSet(new long[]{0x0200008000910000L, 0x00000000E8000B40L});
+    public static final BitSet FOLLOW_NOT_in_predicate325 = new BitSet(new long[]{0x0200008000910000L,0x00000000E8000B40L});
     public static final BitSet FOLLOW_predicate_in_predicate329 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_VAR_in_attribute356 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_CSTR_in_attribute372 = new BitSet(new long[]{0x0000000000000002L});
@@ -5352,39 +5462,39 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_struct_in_structure603 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_struct_reg_in_structure616 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_STRUC1_in_struct649 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_elt_in_struct656 = new BitSet(new long[]{0x0000205000000000L, 0x0000000003401000L});
+    public static final BitSet FOLLOW_elt_in_struct656 = new BitSet(new long[]{0x0000205000000000L,0x0000000003401000L});
     public static final BitSet FOLLOW_coll_in_struct664 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_STRUC2_in_struct674 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_elt_in_struct681 = new BitSet(new long[]{0x000000400000C000L, 0x0000000003400000L});
-    public static final BitSet FOLLOW_comb_attr_in_struct689 = new BitSet(new long[]{0x0000201000000000L, 0x0000000000001000L});
+    public static final BitSet FOLLOW_elt_in_struct681 = new BitSet(new long[]{0x000000400000C000L,0x0000000003400000L});
+    public static final BitSet FOLLOW_comb_attr_in_struct689 = new BitSet(new long[]{0x0000201000000000L,0x0000000000001000L});
     public static final BitSet FOLLOW_coll_in_struct693 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_STREG_in_struct_reg721 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_IDENTIFIER_in_struct_reg725 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L, 0x00000007FFFFFFFFL});
+    public static final BitSet FOLLOW_IDENTIFIER_in_struct_reg725 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L,0x00000007FFFFFFFFL});
     public static final BitSet FOLLOW_STREG_in_struct_reg746 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_IDENTIFIER_in_struct_reg750 = new BitSet(new long[]{0x000000000000C000L});
-    public static final BitSet FOLLOW_comb_attr_in_struct_reg754 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L, 0x00000007FFFFFFFFL});
+    public static final BitSet FOLLOW_comb_attr_in_struct_reg754 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L,0x00000007FFFFFFFFL});
     public static final BitSet FOLLOW_struct_in_elt786 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_struct_reg_in_elt800 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_IDENTIFIER_in_elt809 = new BitSet(new long[]{0x0000080000000002L});
-    public static final BitSet FOLLOW_KEY_in_elt812 = new BitSet(new long[]{0x0000000000910000L, 0x00000000E0000B40L});
+    public static final BitSet FOLLOW_KEY_in_elt812 = new BitSet(new long[]{0x0000000000910000L,0x00000000E0000B40L});
     public static final BitSet FOLLOW_attribute_in_elt816 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_MANY1_in_many856 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_attribute_in_many860 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L, 0x00000007FFFFFFFFL});
+    public static final BitSet FOLLOW_attribute_in_many860 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L,0x00000007FFFFFFFFL});
     public static final BitSet FOLLOW_MANY2_in_many877 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_attribute_in_many881 = new BitSet(new long[]{0x000000000000C000L});
-    public static final BitSet FOLLOW_comb_attr_in_many885 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L, 0x00000007FFFFFFFFL});
+    public static final BitSet FOLLOW_comb_attr_in_many885 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L,0x00000007FFFFFFFFL});
     public static final BitSet FOLLOW_MANY3_in_many902 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_attribute_in_many906 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L, 0x00000007FFFFFFFFL});
+    public static final BitSet FOLLOW_attribute_in_many906 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L,0x00000007FFFFFFFFL});
     public static final BitSet FOLLOW_MANY4_in_many927 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_attribute_in_many931 = new BitSet(new long[]{0x000000000000C000L});
-    public static final BitSet FOLLOW_comb_attr_in_many935 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L, 0x00000007FFFFFFFFL});
+    public static final BitSet FOLLOW_comb_attr_in_many935 = new BitSet(new long[]{0xFFFFFFFFFFFFFFF0L,0x00000007FFFFFFFFL});
     public static final BitSet FOLLOW_QUEUE_in_coll978 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_qiter_in_coll982 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_LIST_in_coll998 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_REV_in_coll1002 = new BitSet(new long[]{0x0000000800000000L, 0x0000000300000002L});
+    public static final BitSet FOLLOW_REV_in_coll1002 = new BitSet(new long[]{0x0000000800000000L,0x0000000300000002L});
     public static final BitSet FOLLOW_liter_in_coll1007 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_HEAP_in_coll1023 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_MAX_in_coll1027 = new BitSet(new long[]{0x0000000000000000L, 0x0000000200000002L});
+    public static final BitSet FOLLOW_MAX_in_coll1027 = new BitSet(new long[]{0x0000000000000000L,0x0000000200000002L});
     public static final BitSet FOLLOW_qiter_in_coll1032 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_ONE_in_qiter1059 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_WONE_in_qiter1071 = new BitSet(new long[]{0x0000000000000002L});
@@ -5392,10 +5502,10 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_FOR_in_liter1115 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_WFOR_in_liter1127 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_CA1_in_comb_attr1161 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_attr_op_in_comb_attr1168 = new BitSet(new long[]{0x0050000000910048L, 0x00000000E4100B40L});
+    public static final BitSet FOLLOW_attr_op_in_comb_attr1168 = new BitSet(new long[]{0x0050000000910048L,0x00000000E4100B40L});
     public static final BitSet FOLLOW_attribute_in_comb_attr1175 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_CA2_in_comb_attr1188 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_attr_op_in_comb_attr1195 = new BitSet(new long[]{0x0050000000910040L, 0x00000000E4100B40L});
+    public static final BitSet FOLLOW_attr_op_in_comb_attr1195 = new BitSet(new long[]{0x0050000000910040L,0x00000000E4100B40L});
     public static final BitSet FOLLOW_attribute_in_comb_attr1202 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_ANY_in_attr_op1220 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_MIN_in_attr_op1232 = new BitSet(new long[]{0x0000000000000002L});
@@ -5403,7 +5513,7 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_SUM_in_attr_op1256 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_SIZE_in_attr_op1268 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_ARRPAR_in_par_type1312 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_index_set_in_par_type1317 = new BitSet(new long[]{0x0000030400002000L, 0x0000000000080000L});
+    public static final BitSet FOLLOW_index_set_in_par_type1317 = new BitSet(new long[]{0x0000030400002000L,0x0000000000080000L});
     public static final BitSet FOLLOW_par_type_u_in_par_type1324 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_APAR_in_par_type1342 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_par_type_u_in_par_type1346 = new BitSet(new long[]{0x0000000000000008L});
@@ -5414,7 +5524,7 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_INT_in_par_type_u1412 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_INT_in_par_type_u1428 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_ARRVAR_in_var_type1469 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_index_set_in_var_type1474 = new BitSet(new long[]{0x0000030402082000L, 0x0000000000080000L});
+    public static final BitSet FOLLOW_index_set_in_var_type1474 = new BitSet(new long[]{0x0000030402082000L,0x0000000000080000L});
     public static final BitSet FOLLOW_var_type_u_in_var_type1481 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_AVAR_in_var_type1499 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_var_type_u_in_var_type1503 = new BitSet(new long[]{0x0000000000000008L});
@@ -5439,45 +5549,45 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_INT_CONST_in_index_set1747 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_INDEX_in_index_set1766 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_INT_in_index_set1768 = new BitSet(new long[]{0x0000000000000008L});
-    public static final BitSet FOLLOW_LB_in_expr1800 = new BitSet(new long[]{0x0000000000000000L, 0x0000000000002000L});
+    public static final BitSet FOLLOW_LB_in_expr1800 = new BitSet(new long[]{0x0000000000000000L,0x0000000000002000L});
     public static final BitSet FOLLOW_RB_in_expr1802 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_LB_in_expr1830 = new BitSet(new long[]{0x0000040000000000L});
-    public static final BitSet FOLLOW_INT_CONST_in_expr1835 = new BitSet(new long[]{0x0000040000000000L, 0x0000000000002000L});
+    public static final BitSet FOLLOW_INT_CONST_in_expr1835 = new BitSet(new long[]{0x0000040000000000L,0x0000000000002000L});
     public static final BitSet FOLLOW_RB_in_expr1840 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_bool_const_in_expr1858 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_INT_CONST_in_expr1876 = new BitSet(new long[]{0x0000000002000002L});
     public static final BitSet FOLLOW_DD_in_expr1879 = new BitSet(new long[]{0x0000040000000000L});
     public static final BitSet FOLLOW_INT_CONST_in_expr1883 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_EXPR_in_expr1913 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_LS_in_expr1915 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008810000L});
-    public static final BitSet FOLLOW_expr_in_expr1920 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008810000L});
+    public static final BitSet FOLLOW_LS_in_expr1915 = new BitSet(new long[]{0x0000144300000000L,0x0000000008810000L});
+    public static final BitSet FOLLOW_expr_in_expr1920 = new BitSet(new long[]{0x0000144300000000L,0x0000000008810000L});
     public static final BitSet FOLLOW_RS_in_expr1925 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_id_expr_in_expr1944 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_STRING_in_expr1960 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_IDENTIFIER_in_id_expr2018 = new BitSet(new long[]{0x0000C00000000002L});
-    public static final BitSet FOLLOW_LP_in_id_expr2022 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008800000L});
-    public static final BitSet FOLLOW_expr_in_id_expr2026 = new BitSet(new long[]{0x0000000000080000L, 0x0000000000008000L});
-    public static final BitSet FOLLOW_CM_in_id_expr2030 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008800000L});
-    public static final BitSet FOLLOW_expr_in_id_expr2034 = new BitSet(new long[]{0x0000000000080000L, 0x0000000000008000L});
+    public static final BitSet FOLLOW_LP_in_id_expr2022 = new BitSet(new long[]{0x0000144300000000L,0x0000000008800000L});
+    public static final BitSet FOLLOW_expr_in_id_expr2026 = new BitSet(new long[]{0x0000000000080000L,0x0000000000008000L});
+    public static final BitSet FOLLOW_CM_in_id_expr2030 = new BitSet(new long[]{0x0000144300000000L,0x0000000008800000L});
+    public static final BitSet FOLLOW_expr_in_id_expr2034 = new BitSet(new long[]{0x0000000000080000L,0x0000000000008000L});
     public static final BitSet FOLLOW_RP_in_id_expr2039 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_LS_in_id_expr2043 = new BitSet(new long[]{0x0000040000000000L});
-    public static final BitSet FOLLOW_INT_CONST_in_id_expr2047 = new BitSet(new long[]{0x0000000000000000L, 0x0000000000010000L});
+    public static final BitSet FOLLOW_INT_CONST_in_id_expr2047 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
     public static final BitSet FOLLOW_RS_in_id_expr2049 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_PAR_in_param_decl2076 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_IDENTIFIER_in_param_decl2078 = new BitSet(new long[]{0x0000000000000280L});
-    public static final BitSet FOLLOW_par_type_in_param_decl2082 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008800000L});
+    public static final BitSet FOLLOW_par_type_in_param_decl2082 = new BitSet(new long[]{0x0000144300000000L,0x0000000008800000L});
     public static final BitSet FOLLOW_expr_in_param_decl2086 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_VAR_in_var_decl2105 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_IDENTIFIER_in_var_decl2107 = new BitSet(new long[]{0x0000000000001400L});
     public static final BitSet FOLLOW_var_type_in_var_decl2111 = new BitSet(new long[]{0x0000000000000020L});
-    public static final BitSet FOLLOW_annotations_in_var_decl2115 = new BitSet(new long[]{0x0000144300000008L, 0x0000000008800000L});
+    public static final BitSet FOLLOW_annotations_in_var_decl2115 = new BitSet(new long[]{0x0000144300000008L,0x0000000008800000L});
     public static final BitSet FOLLOW_expr_in_var_decl2119 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_CONSTRAINT_in_constraint2144 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_IDENTIFIER_in_constraint2146 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008800000L});
-    public static final BitSet FOLLOW_expr_in_constraint2151 = new BitSet(new long[]{0x0000144300000020L, 0x0000000008800000L});
+    public static final BitSet FOLLOW_IDENTIFIER_in_constraint2146 = new BitSet(new long[]{0x0000144300000000L,0x0000000008800000L});
+    public static final BitSet FOLLOW_expr_in_constraint2151 = new BitSet(new long[]{0x0000144300000020L,0x0000000008800000L});
     public static final BitSet FOLLOW_annotations_in_constraint2158 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_SOLVE_in_solve_goal2175 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_annotations_in_solve_goal2179 = new BitSet(new long[]{0x00A0000000000000L, 0x0000000000020000L});
+    public static final BitSet FOLLOW_annotations_in_solve_goal2179 = new BitSet(new long[]{0x00A0000000000000L,0x0000000000020000L});
     public static final BitSet FOLLOW_resolution_in_solve_goal2183 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_SATISFY_in_resolution2207 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_MINIMIZE_in_resolution2224 = new BitSet(new long[]{0x0000000000000004L});
@@ -5487,8 +5597,8 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_ANNOTATIONS_in_annotations2293 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_annotation_in_annotations2298 = new BitSet(new long[]{0x0000004000000008L});
     public static final BitSet FOLLOW_IDENTIFIER_in_annotation2335 = new BitSet(new long[]{0x0000400000000002L});
-    public static final BitSet FOLLOW_LP_in_annotation2338 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008800000L});
-    public static final BitSet FOLLOW_expr_in_annotation2343 = new BitSet(new long[]{0x0000144300000000L, 0x0000000008808000L});
+    public static final BitSet FOLLOW_LP_in_annotation2338 = new BitSet(new long[]{0x0000144300000000L,0x0000000008800000L});
+    public static final BitSet FOLLOW_expr_in_annotation2343 = new BitSet(new long[]{0x0000144300000000L,0x0000000008808000L});
     public static final BitSet FOLLOW_RP_in_annotation2348 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_TRUE_in_bool_const2380 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_FALSE_in_bool_const2392 = new BitSet(new long[]{0x0000000000000002L});
@@ -5523,13 +5633,13 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_CM_in_par_pred_param_type2605 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_INT_CONST_in_par_pred_param_type2607 = new BitSet(new long[]{0x0000040000000008L});
     public static final BitSet FOLLOW_ARRAY_in_par_pred_param_type2621 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_index_set_in_par_pred_param_type2623 = new BitSet(new long[]{0x0000010000000000L, 0x0000000000080000L});
+    public static final BitSet FOLLOW_index_set_in_par_pred_param_type2623 = new BitSet(new long[]{0x0000010000000000L,0x0000000000080000L});
     public static final BitSet FOLLOW_SET_in_par_pred_param_type2627 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_DD_in_par_pred_param_type2630 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_INT_CONST_in_par_pred_param_type2632 = new BitSet(new long[]{0x0000040000000000L});
     public static final BitSet FOLLOW_INT_CONST_in_par_pred_param_type2634 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_ARRAY_in_par_pred_param_type2648 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_index_set_in_par_pred_param_type2650 = new BitSet(new long[]{0x0000010000000000L, 0x0000000000080000L});
+    public static final BitSet FOLLOW_index_set_in_par_pred_param_type2650 = new BitSet(new long[]{0x0000010000000000L,0x0000000000080000L});
     public static final BitSet FOLLOW_SET_in_par_pred_param_type2654 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_CM_in_par_pred_param_type2657 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_INT_CONST_in_par_pred_param_type2659 = new BitSet(new long[]{0x0000040000000008L});
@@ -5538,7 +5648,7 @@ public class FlatzincFullExtWalker extends TreeParser {
     public static final BitSet FOLLOW_VAR_in_var_pred_param_type2698 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_SET_in_var_pred_param_type2700 = new BitSet(new long[]{0x0000000000000008L});
     public static final BitSet FOLLOW_ARRAY_in_var_pred_param_type2712 = new BitSet(new long[]{0x0000000000000004L});
-    public static final BitSet FOLLOW_index_set_in_var_pred_param_type2714 = new BitSet(new long[]{0x0000010000000000L, 0x0000000020000000L});
+    public static final BitSet FOLLOW_index_set_in_var_pred_param_type2714 = new BitSet(new long[]{0x0000010000000000L,0x0000000020000000L});
     public static final BitSet FOLLOW_VAR_in_var_pred_param_type2718 = new BitSet(new long[]{0x0000000000000004L});
     public static final BitSet FOLLOW_SET_in_var_pred_param_type2720 = new BitSet(new long[]{0x0000000000000008L});
 
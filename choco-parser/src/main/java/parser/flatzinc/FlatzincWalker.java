@@ -1,4 +1,4 @@
-// $ANTLR 3.4 parser/flatzinc/FlatzincWalker.g 2012-11-29 14:33:19
+// $ANTLR 3.4 parser/flatzinc/FlatzincWalker.g 2026-10-17 19:24:19
 
 /*
  * Copyright (c) 1999-2012, Ecole des Mines de Nantes
@@ -29,83 +29,98 @@
 
 package parser.flatzinc;
 
-import gnu.trove.map.hash.THashMap;
-import org.antlr.runtime.*;
-import org.antlr.runtime.tree.CommonTree;
-import org.antlr.runtime.tree.TreeNodeStream;
-import org.antlr.runtime.tree.TreeParser;
-import org.antlr.runtime.tree.TreeRuleReturnScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import parser.flatzinc.ast.*;
+
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.list.array.TIntArrayList;
+
 import parser.flatzinc.ast.declaration.*;
 import parser.flatzinc.ast.expression.*;
-import solver.ResolutionPolicy;
+import parser.flatzinc.FZNException;
+import parser.flatzinc.FZNLayout;
+import parser.flatzinc.ast.FConstraint;
+import parser.flatzinc.ast.FGoal;
+import parser.flatzinc.ast.FPresolver;
+import parser.flatzinc.ast.FParameter;
+import parser.flatzinc.ast.FVariable;
+import parser.flatzinc.ast.GoalConf;
+
 import solver.Solver;
+import solver.constraints.Constraint;
+import solver.ResolutionPolicy;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+
+import org.antlr.runtime.*;
+import org.antlr.runtime.tree.*;
+import java.util.Stack;
 import java.util.List;
+import java.util.ArrayList;
 
 @SuppressWarnings({"all", "warnings", "unchecked"})
 public class FlatzincWalker extends TreeParser {
-    public static final String[] tokenNames = new String[]{
-            "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ANNOTATIONS", "APAR", "ARRAY", "ARRPAR", "ARRVAR", "AVAR", "BOOL", "CHAR", "CL", "CM", "COMMENT", "CONSTRAINT", "DC", "DD", "DO", "EQ", "ESC_SEQ", "EXPONENT", "EXPR", "FALSE", "FLOAT", "HEX_DIGIT", "IDENTIFIER", "INDEX", "INT", "INT_CONST", "LB", "LP", "LS", "MAXIMIZE", "MINIMIZE", "MN", "OCTAL_ESC", "OF", "PAR", "PL", "PREDICATE", "RB", "RP", "RS", "SATISFY", "SC", "SET", "SOLVE", "STRING", "TRUE", "UNICODE_ESC", "VAR", "WS"
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ANNOTATIONS", "APAR", "ARRAY", "ARRPAR", "ARRVAR", "AVAR", "BOOL", "CHAR", "CL", "CM", "COMMENT", "CONSTRAINT", "DC", "DD", "DO", "EQ", "ESC_SEQ", "EXPONENT", "EXPR", "FALSE", "FLOAT", "HEX_DIGIT", "IDENTIFIER", "INDEX", "INT", "INT_CONST", "LB", "LP", "LS", "MAXIMIZE", "MINIMIZE", "MN", "OCTAL_ESC", "OF", "PAR", "PL", "PREDICATE", "RB", "RP", "RS", "SATISFY", "SC", "SET", "SOLVE", "STRING", "TRUE", "UNICODE_ESC", "VAR", "WS"
     };
 
-    public static final int EOF = -1;
-    public static final int ANNOTATIONS = 4;
-    public static final int APAR = 5;
-    public static final int ARRAY = 6;
-    public static final int ARRPAR = 7;
-    public static final int ARRVAR = 8;
-    public static final int AVAR = 9;
-    public static final int BOOL = 10;
-    public static final int CHAR = 11;
-    public static final int CL = 12;
-    public static final int CM = 13;
-    public static final int COMMENT = 14;
-    public static final int CONSTRAINT = 15;
-    public static final int DC = 16;
-    public static final int DD = 17;
-    public static final int DO = 18;
-    public static final int EQ = 19;
-    public static final int ESC_SEQ = 20;
-    public static final int EXPONENT = 21;
-    public static final int EXPR = 22;
-    public static final int FALSE = 23;
-    public static final int FLOAT = 24;
-    public static final int HEX_DIGIT = 25;
-    public static final int IDENTIFIER = 26;
-    public static final int INDEX = 27;
-    public static final int INT = 28;
-    public static final int INT_CONST = 29;
-    public static final int LB = 30;
-    public static final int LP = 31;
-    public static final int LS = 32;
-    public static final int MAXIMIZE = 33;
-    public static final int MINIMIZE = 34;
-    public static final int MN = 35;
-    public static final int OCTAL_ESC = 36;
-    public static final int OF = 37;
-    public static final int PAR = 38;
-    public static final int PL = 39;
-    public static final int PREDICATE = 40;
-    public static final int RB = 41;
-    public static final int RP = 42;
-    public static final int RS = 43;
-    public static final int SATISFY = 44;
-    public static final int SC = 45;
-    public static final int SET = 46;
-    public static final int SOLVE = 47;
-    public static final int STRING = 48;
-    public static final int TRUE = 49;
-    public static final int UNICODE_ESC = 50;
-    public static final int VAR = 51;
-    public static final int WS = 52;
+    public static final int EOF=-1;
+    public static final int ANNOTATIONS=4;
+    public static final int APAR=5;
+    public static final int ARRAY=6;
+    public static final int ARRPAR=7;
+    public static final int ARRVAR=8;
+    public static final int AVAR=9;
+    public static final int BOOL=10;
+    public static final int CHAR=11;
+    public static final int CL=12;
+    public static final int CM=13;
+    public static final int COMMENT=14;
+    public static final int CONSTRAINT=15;
+    public static final int DC=16;
+    public static final int DD=17;
+    public static final int DO=18;
+    public static final int EQ=19;
+    public static final int ESC_SEQ=20;
+    public static final int EXPONENT=21;
+    public static final int EXPR=22;
+    public static final int FALSE=23;
+    public static final int FLOAT=24;
+    public static final int HEX_DIGIT=25;
+    public static final int IDENTIFIER=26;
+    public static final int INDEX=27;
+    public static final int INT=28;
+    public static final int INT_CONST=29;
+    public static final int LB=30;
+    public static final int LP=31;
+    public static final int LS=32;
+    public static final int MAXIMIZE=33;
+    public static final int MINIMIZE=34;
+    public static final int MN=35;
+    public static final int OCTAL_ESC=36;
+    public static final int OF=37;
+    public static final int PAR=38;
+    public static final int PL=39;
+    public static final int PREDICATE=40;
+    public static final int RB=41;
+    public static final int RP=42;
+    public static final int RS=43;
+    public static final int SATISFY=44;
+    public static final int SC=45;
+    public static final int SET=46;
+    public static final int SOLVE=47;
+    public static final int STRING=48;
+    public static final int TRUE=49;
+    public static final int UNICODE_ESC=50;
+    public static final int VAR=51;
+    public static final int WS=52;
 
     // delegates
     public TreeParser[] getDelegates() {
-        return new TreeParser[]{};
+        return new TreeParser[] {};
     }
 
     // delegators
@@ -114,18 +129,12 @@ public class FlatzincWalker extends TreeParser {
     public FlatzincWalker(TreeNodeStream input) {
         this(input, new RecognizerSharedState());
     }
-
     public FlatzincWalker(TreeNodeStream input, RecognizerSharedState state) {
         super(input, state);
     }
 
-    public String[] getTokenNames() {
-        return FlatzincWalker.tokenNames;
-    }
-
-    public String getGrammarFileName() {
-        return "parser/flatzinc/FlatzincWalker.g";
-    }
+    public String[] getTokenNames() { return FlatzincWalker.tokenNames; }
+    public String getGrammarFileName() { return "parser/flatzinc/FlatzincWalker.g"; }
 
 
     // The flatzinc logger -- 'System.out/err' is fobidden!
@@ -141,243 +150,243 @@ public class FlatzincWalker extends TreeParser {
 
     // the layout dedicated to pretty print message wrt to fzn recommendations
     public final FZNLayout mLayout = new FZNLayout();
+    public final FPresolver mPresolver = new FPresolver();
+
 
 
     // $ANTLR start "flatzinc_model"
-    // parser/flatzinc/FlatzincWalker.g:79:1: flatzinc_model[Solver aSolver, THashMap<String, Object> map, GoalConf gc] : ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* solve_goal ;
+    // parser/flatzinc/FlatzincWalker.g:81:1: flatzinc_model[Solver aSolver, THashMap<String, Object> map, GoalConf gc] : ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* solve_goal ;
     public final void flatzinc_model(Solver aSolver, THashMap<String, Object> map, GoalConf gc) throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincWalker.g:80:2: ( ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* solve_goal )
-            // parser/flatzinc/FlatzincWalker.g:81:2: ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* solve_goal
+            // parser/flatzinc/FlatzincWalker.g:82:2: ( ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* solve_goal )
+            // parser/flatzinc/FlatzincWalker.g:83:2: ( pred_decl )* ( param_decl )* ( var_decl )* ( constraint )* solve_goal
             {
 
-                this.mSolver = aSolver;
-                this.map = map;
-                this.gc = gc;
+            	this.mSolver = aSolver;
+            	this.map = map;
+            	this.gc = gc;
+                
 
+            // parser/flatzinc/FlatzincWalker.g:88:5: ( pred_decl )*
+            loop1:
+            do {
+                int alt1=2;
+                int LA1_0 = input.LA(1);
 
-                // parser/flatzinc/FlatzincWalker.g:86:5: ( pred_decl )*
-                loop1:
-                do {
-                    int alt1 = 2;
-                    switch (input.LA(1)) {
-                        case PREDICATE: {
-                            alt1 = 1;
-                        }
-                        break;
+                if ( (LA1_0==PREDICATE) ) {
+                    alt1=1;
+                }
 
-                    }
 
-                    switch (alt1) {
-                        case 1:
-                            // parser/flatzinc/FlatzincWalker.g:86:6: pred_decl
-                        {
-                            pushFollow(FOLLOW_pred_decl_in_flatzinc_model52);
-                            pred_decl();
+                switch (alt1) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincWalker.g:88:6: pred_decl
+            	    {
+            	    pushFollow(FOLLOW_pred_decl_in_flatzinc_model52);
+            	    pred_decl();
 
-                            state._fsp--;
+            	    state._fsp--;
 
 
-                        }
-                        break;
+            	    }
+            	    break;
 
-                        default:
-                            break loop1;
-                    }
-                } while (true);
+            	default :
+            	    break loop1;
+                }
+            } while (true);
 
 
-                // parser/flatzinc/FlatzincWalker.g:86:18: ( param_decl )*
-                loop2:
-                do {
-                    int alt2 = 2;
-                    switch (input.LA(1)) {
-                        case PAR: {
-                            alt2 = 1;
-                        }
-                        break;
+            // parser/flatzinc/FlatzincWalker.g:88:18: ( param_decl )*
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
 
-                    }
+                if ( (LA2_0==PAR) ) {
+                    alt2=1;
+                }
 
-                    switch (alt2) {
-                        case 1:
-                            // parser/flatzinc/FlatzincWalker.g:86:19: param_decl
-                        {
-                            pushFollow(FOLLOW_param_decl_in_flatzinc_model57);
-                            param_decl();
 
-                            state._fsp--;
+                switch (alt2) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincWalker.g:88:19: param_decl
+            	    {
+            	    pushFollow(FOLLOW_param_decl_in_flatzinc_model57);
+            	    param_decl();
 
+            	    state._fsp--;
 
-                        }
-                        break;
 
-                        default:
-                            break loop2;
-                    }
-                } while (true);
+            	    }
+            	    break;
 
+            	default :
+            	    break loop2;
+                }
+            } while (true);
 
-                // parser/flatzinc/FlatzincWalker.g:86:32: ( var_decl )*
-                loop3:
-                do {
-                    int alt3 = 2;
-                    switch (input.LA(1)) {
-                        case VAR: {
-                            alt3 = 1;
-                        }
-                        break;
 
-                    }
+            // parser/flatzinc/FlatzincWalker.g:88:32: ( var_decl )*
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
 
-                    switch (alt3) {
-                        case 1:
-                            // parser/flatzinc/FlatzincWalker.g:86:33: var_decl
-                        {
-                            pushFollow(FOLLOW_var_decl_in_flatzinc_model62);
-                            var_decl();
+                if ( (LA3_0==VAR) ) {
+                    alt3=1;
+                }
 
-                            state._fsp--;
 
+                switch (alt3) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincWalker.g:88:33: var_decl
+            	    {
+            	    pushFollow(FOLLOW_var_decl_in_flatzinc_model62);
+            	    var_decl();
 
-                        }
-                        break;
+            	    state._fsp--;
 
-                        default:
-                            break loop3;
-                    }
-                } while (true);
 
+            	    }
+            	    break;
 
-                // parser/flatzinc/FlatzincWalker.g:86:44: ( constraint )*
-                loop4:
-                do {
-                    int alt4 = 2;
-                    switch (input.LA(1)) {
-                        case CONSTRAINT: {
-                            alt4 = 1;
-                        }
-                        break;
+            	default :
+            	    break loop3;
+                }
+            } while (true);
 
-                    }
 
-                    switch (alt4) {
-                        case 1:
-                            // parser/flatzinc/FlatzincWalker.g:86:45: constraint
-                        {
-                            pushFollow(FOLLOW_constraint_in_flatzinc_model67);
-                            constraint();
+            // parser/flatzinc/FlatzincWalker.g:88:44: ( constraint )*
+            loop4:
+            do {
+                int alt4=2;
+                int LA4_0 = input.LA(1);
 
-                            state._fsp--;
+                if ( (LA4_0==CONSTRAINT) ) {
+                    alt4=1;
+                }
 
 
-                        }
-                        break;
+                switch (alt4) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincWalker.g:88:45: constraint
+            	    {
+            	    pushFollow(FOLLOW_constraint_in_flatzinc_model67);
+            	    constraint();
 
-                        default:
-                            break loop4;
-                    }
-                } while (true);
+            	    state._fsp--;
 
 
-                pushFollow(FOLLOW_solve_goal_in_flatzinc_model71);
-                solve_goal();
+            	    }
+            	    break;
 
-                state._fsp--;
+            	default :
+            	    break loop4;
+                }
+            } while (true);
+
+
+            pushFollow(FOLLOW_solve_goal_in_flatzinc_model71);
+            solve_goal();
+
+            state._fsp--;
 
 
-                if (LoggerFactory.getLogger("fzn").isInfoEnabled()) {
+
+            	if (LoggerFactory.getLogger("fzn").isInfoEnabled()) {
                     mLayout.setSearchLoop(mSolver.getSearchLoop());
                 }
-
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
         }
-        return;
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
     }
     // $ANTLR end "flatzinc_model"
 
 
+
     // $ANTLR start "par_type"
-    // parser/flatzinc/FlatzincWalker.g:94:1: par_type returns [Declaration decl] : ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) );
+    // parser/flatzinc/FlatzincWalker.g:96:1: par_type returns [Declaration decl] : ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) );
     public final Declaration par_type() throws RecognitionException {
         Declaration decl = null;
 
 
-        Declaration d = null;
+        Declaration d =null;
 
-        Declaration p = null;
+        Declaration p =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:95:5: ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) )
-            int alt6 = 2;
-            switch (input.LA(1)) {
-                case ARRPAR: {
-                    alt6 = 1;
-                }
-                break;
-                case APAR: {
-                    alt6 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 6, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincWalker.g:97:5: ( ^( ARRPAR (d= index_set )+ p= par_type_u ) | ^( APAR p= par_type_u ) )
+            int alt6=2;
+            int LA6_0 = input.LA(1);
 
+            if ( (LA6_0==ARRPAR) ) {
+                alt6=1;
+            }
+            else if ( (LA6_0==APAR) ) {
+                alt6=2;
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 6, 0, input);
 
-            switch (alt6) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:96:5: ^( ARRPAR (d= index_set )+ p= par_type_u )
-                {
+                throw nvae;
 
-                    List<Declaration> decls = new ArrayList();
+            }
+            switch (alt6) {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:98:5: ^( ARRPAR (d= index_set )+ p= par_type_u )
+                    {
 
+                            List<Declaration> decls = new ArrayList();
+                        
 
-                    match(input, ARRPAR, FOLLOW_ARRPAR_in_par_type110);
+                    match(input,ARRPAR,FOLLOW_ARRPAR_in_par_type110); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:99:18: (d= index_set )+
-                    int cnt5 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:101:18: (d= index_set )+
+                    int cnt5=0;
                     loop5:
                     do {
-                        int alt5 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt5 = 1;
-                            }
-                            break;
+                        int alt5=2;
+                        int LA5_0 = input.LA(1);
 
+                        if ( (LA5_0==INDEX) ) {
+                            alt5=1;
                         }
 
+
                         switch (alt5) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:99:19: d= index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_type115);
-                                d = index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:101:19: d= index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_type115);
+                    	    d=index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                decls.add(d);
+                    	    decls.add(d);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt5 >= 1) break loop5;
+                    	default :
+                    	    if ( cnt5 >= 1 ) break loop5;
                                 EarlyExitException eee =
-                                        new EarlyExitException(5, input);
+                                    new EarlyExitException(5, input);
                                 throw eee;
                         }
                         cnt5++;
@@ -385,220 +394,231 @@ public class FlatzincWalker extends TreeParser {
 
 
                     pushFollow(FOLLOW_par_type_u_in_par_type122);
-                    p = par_type_u();
+                    p=par_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DArray(decls, p);
 
+                        decl = new DArray(decls,p);
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:103:9: ^( APAR p= par_type_u )
-                {
-                    match(input, APAR, FOLLOW_APAR_in_par_type140);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:105:9: ^( APAR p= par_type_u )
+                    {
+                    match(input,APAR,FOLLOW_APAR_in_par_type140); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_par_type_u_in_par_type144);
-                    p = par_type_u();
+                    p=par_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = p;
 
+                        decl = p;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "par_type"
 
 
+
     // $ANTLR start "par_type_u"
-    // parser/flatzinc/FlatzincWalker.g:109:1: par_type_u returns [Declaration decl] : ( BOOL | FLOAT | SET OF INT | INT );
+    // parser/flatzinc/FlatzincWalker.g:111:1: par_type_u returns [Declaration decl] : ( BOOL | FLOAT | SET OF INT | INT );
     public final Declaration par_type_u() throws RecognitionException {
         Declaration decl = null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:110:5: ( BOOL | FLOAT | SET OF INT | INT )
-            int alt7 = 4;
-            switch (input.LA(1)) {
-                case BOOL: {
-                    alt7 = 1;
+            // parser/flatzinc/FlatzincWalker.g:112:5: ( BOOL | FLOAT | SET OF INT | INT )
+            int alt7=4;
+            switch ( input.LA(1) ) {
+            case BOOL:
+                {
+                alt7=1;
                 }
                 break;
-                case FLOAT: {
-                    alt7 = 2;
+            case FLOAT:
+                {
+                alt7=2;
                 }
                 break;
-                case SET: {
-                    alt7 = 3;
+            case SET:
+                {
+                alt7=3;
                 }
                 break;
-                case INT: {
-                    alt7 = 4;
+            case INT:
+                {
+                alt7=4;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 7, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 7, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt7) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:110:9: BOOL
-                {
-                    match(input, BOOL, FOLLOW_BOOL_in_par_type_u174);
-
-
-                    decl = DBool.me;
-
-
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:114:9: FLOAT
-                {
-                    match(input, FLOAT, FOLLOW_FLOAT_in_par_type_u190);
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:112:9: BOOL
+                    {
+                    match(input,BOOL,FOLLOW_BOOL_in_par_type_u174); 
 
 
-                    decl = DFloat.me;
+                        decl =DBool.me;
+                        
 
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:116:9: FLOAT
+                    {
+                    match(input,FLOAT,FOLLOW_FLOAT_in_par_type_u190); 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincWalker.g:118:9: SET OF INT
-                {
-                    match(input, SET, FOLLOW_SET_in_par_type_u206);
 
-                    match(input, OF, FOLLOW_OF_in_par_type_u208);
+                        decl =DFloat.me;
+                        
 
-                    match(input, INT, FOLLOW_INT_in_par_type_u210);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincWalker.g:120:9: SET OF INT
+                    {
+                    match(input,SET,FOLLOW_SET_in_par_type_u206); 
 
+                    match(input,OF,FOLLOW_OF_in_par_type_u208); 
 
-                    decl = DSetOfInt.me;
+                    match(input,INT,FOLLOW_INT_in_par_type_u210); 
 
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincWalker.g:122:9: INT
-                {
-                    match(input, INT, FOLLOW_INT_in_par_type_u226);
+                        decl =DSetOfInt.me;
+                        
 
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincWalker.g:124:9: INT
+                    {
+                    match(input,INT,FOLLOW_INT_in_par_type_u226); 
 
-                    decl = DInt.me;
 
+                        decl =DInt.me;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "par_type_u"
 
 
+
     // $ANTLR start "var_type"
-    // parser/flatzinc/FlatzincWalker.g:128:1: var_type returns [Declaration decl] : ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) );
+    // parser/flatzinc/FlatzincWalker.g:130:1: var_type returns [Declaration decl] : ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) );
     public final Declaration var_type() throws RecognitionException {
         Declaration decl = null;
 
 
-        Declaration d = null;
+        Declaration d =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:129:5: ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) )
-            int alt9 = 2;
-            switch (input.LA(1)) {
-                case ARRVAR: {
-                    alt9 = 1;
-                }
-                break;
-                case AVAR: {
-                    alt9 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 9, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincWalker.g:131:5: ( ^( ARRVAR (d= index_set )+ d= var_type_u ) | ^( AVAR d= var_type_u ) )
+            int alt9=2;
+            int LA9_0 = input.LA(1);
 
+            if ( (LA9_0==ARRVAR) ) {
+                alt9=1;
             }
+            else if ( (LA9_0==AVAR) ) {
+                alt9=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 9, 0, input);
 
-            switch (alt9) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:130:5: ^( ARRVAR (d= index_set )+ d= var_type_u )
-                {
+                throw nvae;
 
-                    List<Declaration> decls = new ArrayList();
+            }
+            switch (alt9) {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:132:5: ^( ARRVAR (d= index_set )+ d= var_type_u )
+                    {
 
+                        List<Declaration> decls = new ArrayList();
+                        
 
-                    match(input, ARRVAR, FOLLOW_ARRVAR_in_var_type267);
+                    match(input,ARRVAR,FOLLOW_ARRVAR_in_var_type267); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:133:14: (d= index_set )+
-                    int cnt8 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:135:14: (d= index_set )+
+                    int cnt8=0;
                     loop8:
                     do {
-                        int alt8 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt8 = 1;
-                            }
-                            break;
+                        int alt8=2;
+                        int LA8_0 = input.LA(1);
 
+                        if ( (LA8_0==INDEX) ) {
+                            alt8=1;
                         }
 
+
                         switch (alt8) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:133:15: d= index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_var_type272);
-                                d = index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:135:15: d= index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_var_type272);
+                    	    d=index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                decls.add(d);
+                    	    decls.add(d);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt8 >= 1) break loop8;
+                    	default :
+                    	    if ( cnt8 >= 1 ) break loop8;
                                 EarlyExitException eee =
-                                        new EarlyExitException(8, input);
+                                    new EarlyExitException(8, input);
                                 throw eee;
                         }
                         cnt8++;
@@ -606,1122 +626,1147 @@ public class FlatzincWalker extends TreeParser {
 
 
                     pushFollow(FOLLOW_var_type_u_in_var_type279);
-                    d = var_type_u();
+                    d=var_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DArray(decls, d);
 
+                        decl = new DArray(decls, d);
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:137:9: ^( AVAR d= var_type_u )
-                {
-                    match(input, AVAR, FOLLOW_AVAR_in_var_type297);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:139:9: ^( AVAR d= var_type_u )
+                    {
+                    match(input,AVAR,FOLLOW_AVAR_in_var_type297); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_var_type_u_in_var_type301);
-                    d = var_type_u();
+                    d=var_type_u();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = d;
 
+                        decl =d;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "var_type"
 
 
+
     // $ANTLR start "var_type_u"
-    // parser/flatzinc/FlatzincWalker.g:143:1: var_type_u returns [Declaration decl] : ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) );
+    // parser/flatzinc/FlatzincWalker.g:145:1: var_type_u returns [Declaration decl] : ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) );
     public final Declaration var_type_u() throws RecognitionException {
         Declaration decl = null;
 
 
-        CommonTree i1 = null;
-        CommonTree i2 = null;
-        CommonTree i = null;
+        CommonTree i1=null;
+        CommonTree i2=null;
+        CommonTree i=null;
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:144:5: ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) )
-            int alt12 = 7;
-            switch (input.LA(1)) {
-                case BOOL: {
-                    alt12 = 1;
+            // parser/flatzinc/FlatzincWalker.g:146:5: ( BOOL | FLOAT | INT | ^( DD i1= INT_CONST i2= INT_CONST ) | ^( CM (i= INT_CONST )+ ) | ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( SET ^( CM (i= INT_CONST )+ ) ) )
+            int alt12=7;
+            switch ( input.LA(1) ) {
+            case BOOL:
+                {
+                alt12=1;
                 }
                 break;
-                case FLOAT: {
-                    alt12 = 2;
+            case FLOAT:
+                {
+                alt12=2;
                 }
                 break;
-                case INT: {
-                    alt12 = 3;
+            case INT:
+                {
+                alt12=3;
                 }
                 break;
-                case DD: {
-                    alt12 = 4;
+            case DD:
+                {
+                alt12=4;
                 }
                 break;
-                case CM: {
-                    alt12 = 5;
+            case CM:
+                {
+                alt12=5;
                 }
                 break;
-                case SET: {
-                    switch (input.LA(2)) {
-                        case DOWN: {
-                            switch (input.LA(3)) {
-                                case DD: {
-                                    alt12 = 6;
-                                }
-                                break;
-                                case CM: {
-                                    alt12 = 7;
-                                }
-                                break;
-                                default:
-                                    NoViableAltException nvae =
-                                            new NoViableAltException("", 12, 7, input);
-
-                                    throw nvae;
+            case SET:
+                {
+                int LA12_6 = input.LA(2);
 
-                            }
+                if ( (LA12_6==DOWN) ) {
+                    int LA12_7 = input.LA(3);
 
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 12, 6, input);
+                    if ( (LA12_7==DD) ) {
+                        alt12=6;
+                    }
+                    else if ( (LA12_7==CM) ) {
+                        alt12=7;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 12, 7, input);
 
-                            throw nvae;
+                        throw nvae;
 
                     }
-
                 }
-                break;
-                default:
+                else {
                     NoViableAltException nvae =
-                            new NoViableAltException("", 12, 0, input);
+                        new NoViableAltException("", 12, 6, input);
 
                     throw nvae;
 
-            }
-
-            switch (alt12) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:144:9: BOOL
-                {
-                    match(input, BOOL, FOLLOW_BOOL_in_var_type_u332);
-
+                }
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 12, 0, input);
 
-                    decl = DBool.me;
+                throw nvae;
 
+            }
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:148:9: FLOAT
-                {
-                    match(input, FLOAT, FOLLOW_FLOAT_in_var_type_u348);
+            switch (alt12) {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:146:9: BOOL
+                    {
+                    match(input,BOOL,FOLLOW_BOOL_in_var_type_u332); 
 
 
-                    decl = DFloat.me;
+                        decl = DBool.me;
+                        
 
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:150:9: FLOAT
+                    {
+                    match(input,FLOAT,FOLLOW_FLOAT_in_var_type_u348); 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincWalker.g:152:9: INT
-                {
-                    match(input, INT, FOLLOW_INT_in_var_type_u364);
 
+                        decl = DFloat.me;
+                        
 
-                    decl = DInt.me;
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincWalker.g:154:9: INT
+                    {
+                    match(input,INT,FOLLOW_INT_in_var_type_u364); 
 
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincWalker.g:156:9: ^( DD i1= INT_CONST i2= INT_CONST )
-                {
-                    match(input, DD, FOLLOW_DD_in_var_type_u381);
+                        decl = DInt.me;
+                        
 
-                    match(input, Token.DOWN, null);
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u385);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincWalker.g:158:9: ^( DD i1= INT_CONST i2= INT_CONST )
+                    {
+                    match(input,DD,FOLLOW_DD_in_var_type_u381); 
 
-                    i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u389);
+                    match(input, Token.DOWN, null); 
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u385); 
 
-                    match(input, Token.UP, null);
+                    i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u389); 
 
+                    match(input, Token.UP, null); 
 
-                    decl = new DInt2(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null)));
 
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincWalker.g:166:5: ^( CM (i= INT_CONST )+ )
-                {
+                        decl = new DInt2(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null)));
+                        
 
-                    ArrayList<EInt> values = new ArrayList();
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincWalker.g:168:5: ^( CM (i= INT_CONST )+ )
+                    {
 
+                        ArrayList<EInt> values = new ArrayList();
+                        
 
-                    match(input, CM, FOLLOW_CM_in_var_type_u424);
+                    match(input,CM,FOLLOW_CM_in_var_type_u424); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:169:14: (i= INT_CONST )+
-                    int cnt10 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:171:14: (i= INT_CONST )+
+                    int cnt10=0;
                     loop10:
                     do {
-                        int alt10 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt10 = 1;
-                            }
-                            break;
+                        int alt10=2;
+                        int LA10_0 = input.LA(1);
 
+                        if ( (LA10_0==INT_CONST) ) {
+                            alt10=1;
                         }
 
+
                         switch (alt10) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:169:15: i= INT_CONST
-                            {
-                                i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u429);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:171:15: i= INT_CONST
+                    	    {
+                    	    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u429); 
 
-                                values.add(EInt.make((i != null ? i.getText() : null)));
+                    	    values.add(EInt.make((i!=null?i.getText():null)));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt10 >= 1) break loop10;
+                    	default :
+                    	    if ( cnt10 >= 1 ) break loop10;
                                 EarlyExitException eee =
-                                        new EarlyExitException(10, input);
+                                    new EarlyExitException(10, input);
                                 throw eee;
                         }
                         cnt10++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DManyInt(values);
 
+                        decl = new DManyInt(values);
+                        
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincWalker.g:173:9: ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) )
-                {
-                    match(input, SET, FOLLOW_SET_in_var_type_u450);
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincWalker.g:175:9: ^( SET ^( DD i1= INT_CONST i2= INT_CONST ) )
+                    {
+                    match(input,SET,FOLLOW_SET_in_var_type_u450); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_var_type_u453);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_var_type_u453); 
 
-                    match(input, Token.DOWN, null);
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u457);
+                    match(input, Token.DOWN, null); 
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u457); 
 
-                    i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u461);
+                    i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u461); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DSet(new DInt2(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null))));
 
+                        decl = new DSet(new DInt2(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null))));
+                        
 
-                }
-                break;
-                case 7:
-                    // parser/flatzinc/FlatzincWalker.g:178:5: ^( SET ^( CM (i= INT_CONST )+ ) )
-                {
-
-                    ArrayList<EInt> values = new ArrayList();
+                    }
+                    break;
+                case 7 :
+                    // parser/flatzinc/FlatzincWalker.g:180:5: ^( SET ^( CM (i= INT_CONST )+ ) )
+                    {
 
+                        ArrayList<EInt> values = new ArrayList();
+                        
 
-                    match(input, SET, FOLLOW_SET_in_var_type_u491);
+                    match(input,SET,FOLLOW_SET_in_var_type_u491); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, CM, FOLLOW_CM_in_var_type_u494);
+                    match(input, Token.DOWN, null); 
+                    match(input,CM,FOLLOW_CM_in_var_type_u494); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:181:19: (i= INT_CONST )+
-                    int cnt11 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:183:19: (i= INT_CONST )+
+                    int cnt11=0;
                     loop11:
                     do {
-                        int alt11 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt11 = 1;
-                            }
-                            break;
+                        int alt11=2;
+                        int LA11_0 = input.LA(1);
 
+                        if ( (LA11_0==INT_CONST) ) {
+                            alt11=1;
                         }
 
+
                         switch (alt11) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:181:20: i= INT_CONST
-                            {
-                                i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_var_type_u499);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:183:20: i= INT_CONST
+                    	    {
+                    	    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_var_type_u499); 
 
-                                values.add(EInt.make((i != null ? i.getText() : null)));
+                    	    values.add(EInt.make((i!=null?i.getText():null)));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt11 >= 1) break loop11;
+                    	default :
+                    	    if ( cnt11 >= 1 ) break loop11;
                                 EarlyExitException eee =
-                                        new EarlyExitException(11, input);
+                                    new EarlyExitException(11, input);
                                 throw eee;
                         }
                         cnt11++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DSet(new DManyInt(values));
 
+                        decl = new DSet(new DManyInt(values));
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "var_type_u"
 
 
+
     // $ANTLR start "index_set"
-    // parser/flatzinc/FlatzincWalker.g:187:1: index_set returns [Declaration decl] : ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) );
+    // parser/flatzinc/FlatzincWalker.g:189:1: index_set returns [Declaration decl] : ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) );
     public final Declaration index_set() throws RecognitionException {
         Declaration decl = null;
 
 
-        CommonTree i1 = null;
-        CommonTree i2 = null;
+        CommonTree i1=null;
+        CommonTree i2=null;
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:188:5: ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) )
-            int alt13 = 2;
-            switch (input.LA(1)) {
-                case INDEX: {
-                    switch (input.LA(2)) {
-                        case DOWN: {
-                            switch (input.LA(3)) {
-                                case DD: {
-                                    alt13 = 1;
-                                }
-                                break;
-                                case INT: {
-                                    alt13 = 2;
-                                }
-                                break;
-                                default:
-                                    NoViableAltException nvae =
-                                            new NoViableAltException("", 13, 2, input);
-
-                                    throw nvae;
-
-                            }
+            // parser/flatzinc/FlatzincWalker.g:190:5: ( ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) ) | ^( INDEX INT ) )
+            int alt13=2;
+            int LA13_0 = input.LA(1);
 
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 13, 1, input);
+            if ( (LA13_0==INDEX) ) {
+                int LA13_1 = input.LA(2);
 
-                            throw nvae;
+                if ( (LA13_1==DOWN) ) {
+                    int LA13_2 = input.LA(3);
 
+                    if ( (LA13_2==DD) ) {
+                        alt13=1;
+                    }
+                    else if ( (LA13_2==INT) ) {
+                        alt13=2;
                     }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 13, 2, input);
 
+                        throw nvae;
+
+                    }
                 }
-                break;
-                default:
+                else {
                     NoViableAltException nvae =
-                            new NoViableAltException("", 13, 0, input);
+                        new NoViableAltException("", 13, 1, input);
 
                     throw nvae;
 
+                }
             }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 13, 0, input);
+
+                throw nvae;
 
+            }
             switch (alt13) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:188:9: ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) )
-                {
-                    match(input, INDEX, FOLLOW_INDEX_in_index_set534);
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:190:9: ^( INDEX ^( DD i1= INT_CONST i2= INT_CONST ) )
+                    {
+                    match(input,INDEX,FOLLOW_INDEX_in_index_set534); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_index_set537);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_index_set537); 
 
-                    match(input, Token.DOWN, null);
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_index_set541);
+                    match(input, Token.DOWN, null); 
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_index_set541); 
 
-                    i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_index_set545);
+                    i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_index_set545); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = new DInt2(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null)));
 
+                        decl = new DInt2(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null)));
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:192:9: ^( INDEX INT )
-                {
-                    match(input, INDEX, FOLLOW_INDEX_in_index_set564);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:194:9: ^( INDEX INT )
+                    {
+                    match(input,INDEX,FOLLOW_INDEX_in_index_set564); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT, FOLLOW_INT_in_index_set566);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT,FOLLOW_INT_in_index_set566); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    decl = DInt.me;
 
+                        decl = DInt.me;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return decl;
     }
     // $ANTLR end "index_set"
 
 
+
     // $ANTLR start "expr"
-    // parser/flatzinc/FlatzincWalker.g:198:1: expr returns [Expression exp] : ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING );
+    // parser/flatzinc/FlatzincWalker.g:200:1: expr returns [Expression exp] : ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING );
     public final Expression expr() throws RecognitionException {
         Expression exp = null;
 
 
-        CommonTree i = null;
-        CommonTree i1 = null;
-        CommonTree i2 = null;
-        CommonTree STRING1 = null;
-        boolean b = false;
+        CommonTree i=null;
+        CommonTree i1=null;
+        CommonTree i2=null;
+        CommonTree STRING1=null;
+        boolean b =false;
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:199:5: ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING )
-            int alt17 = 7;
-            switch (input.LA(1)) {
-                case LB: {
-                    switch (input.LA(2)) {
-                        case RB: {
-                            alt17 = 1;
-                        }
-                        break;
-                        case INT_CONST: {
-                            alt17 = 2;
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 17, 1, input);
+            // parser/flatzinc/FlatzincWalker.g:201:5: ( LB RB | LB (i= INT_CONST )+ RB |b= bool_const |i1= INT_CONST ( DD i2= INT_CONST )? | ^( EXPR LS (e= expr )* RS ) |e= id_expr | STRING )
+            int alt17=7;
+            switch ( input.LA(1) ) {
+            case LB:
+                {
+                int LA17_1 = input.LA(2);
 
-                            throw nvae;
+                if ( (LA17_1==RB) ) {
+                    alt17=1;
+                }
+                else if ( (LA17_1==INT_CONST) ) {
+                    alt17=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 17, 1, input);
 
-                    }
+                    throw nvae;
 
+                }
                 }
                 break;
-                case FALSE:
-                case TRUE: {
-                    alt17 = 3;
+            case FALSE:
+            case TRUE:
+                {
+                alt17=3;
                 }
                 break;
-                case INT_CONST: {
-                    alt17 = 4;
+            case INT_CONST:
+                {
+                alt17=4;
                 }
                 break;
-                case EXPR: {
-                    alt17 = 5;
+            case EXPR:
+                {
+                alt17=5;
                 }
                 break;
-                case IDENTIFIER: {
-                    alt17 = 6;
+            case IDENTIFIER:
+                {
+                alt17=6;
                 }
                 break;
-                case STRING: {
-                    alt17 = 7;
+            case STRING:
+                {
+                alt17=7;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 17, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 17, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt17) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:199:9: LB RB
-                {
-                    match(input, LB, FOLLOW_LB_in_expr598);
-
-                    match(input, RB, FOLLOW_RB_in_expr600);
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:201:9: LB RB
+                    {
+                    match(input,LB,FOLLOW_LB_in_expr598); 
 
+                    match(input,RB,FOLLOW_RB_in_expr600); 
 
-                    exp = new ESetList(new ArrayList());
 
+                        exp = new ESetList(new ArrayList());
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:204:5: LB (i= INT_CONST )+ RB
-                {
-
-                    ArrayList<EInt> values = new ArrayList();
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:206:5: LB (i= INT_CONST )+ RB
+                    {
 
+                        ArrayList<EInt> values = new ArrayList();
+                        
 
-                    match(input, LB, FOLLOW_LB_in_expr628);
+                    match(input,LB,FOLLOW_LB_in_expr628); 
 
-                    // parser/flatzinc/FlatzincWalker.g:207:12: (i= INT_CONST )+
-                    int cnt14 = 0;
+                    // parser/flatzinc/FlatzincWalker.g:209:12: (i= INT_CONST )+
+                    int cnt14=0;
                     loop14:
                     do {
-                        int alt14 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt14 = 1;
-                            }
-                            break;
+                        int alt14=2;
+                        int LA14_0 = input.LA(1);
 
+                        if ( (LA14_0==INT_CONST) ) {
+                            alt14=1;
                         }
 
+
                         switch (alt14) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:207:13: i= INT_CONST
-                            {
-                                i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_expr633);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:209:13: i= INT_CONST
+                    	    {
+                    	    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_expr633); 
 
-                                values.add(EInt.make((i != null ? i.getText() : null)));
+                    	    values.add(EInt.make((i!=null?i.getText():null)));
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt14 >= 1) break loop14;
+                    	default :
+                    	    if ( cnt14 >= 1 ) break loop14;
                                 EarlyExitException eee =
-                                        new EarlyExitException(14, input);
+                                    new EarlyExitException(14, input);
                                 throw eee;
                         }
                         cnt14++;
                     } while (true);
 
 
-                    match(input, RB, FOLLOW_RB_in_expr638);
+                    match(input,RB,FOLLOW_RB_in_expr638); 
 
 
-                    exp = new ESetList(values);
+                        exp = new ESetList(values);
+                        
 
-
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincWalker.g:211:9: b= bool_const
-                {
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincWalker.g:213:9: b= bool_const
+                    {
                     pushFollow(FOLLOW_bool_const_in_expr656);
-                    b = bool_const();
+                    b=bool_const();
 
                     state._fsp--;
 
 
-                    exp = EBool.make(b);
 
+                        exp =EBool.make(b);
+                        
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincWalker.g:215:9: i1= INT_CONST ( DD i2= INT_CONST )?
-                {
-                    i1 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_expr674);
-
-                    // parser/flatzinc/FlatzincWalker.g:215:22: ( DD i2= INT_CONST )?
-                    int alt15 = 2;
-                    switch (input.LA(1)) {
-                        case DD: {
-                            alt15 = 1;
-                        }
-                        break;
                     }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincWalker.g:217:9: i1= INT_CONST ( DD i2= INT_CONST )?
+                    {
+                    i1=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_expr674); 
 
+                    // parser/flatzinc/FlatzincWalker.g:217:22: ( DD i2= INT_CONST )?
+                    int alt15=2;
+                    int LA15_0 = input.LA(1);
+
+                    if ( (LA15_0==DD) ) {
+                        alt15=1;
+                    }
                     switch (alt15) {
-                        case 1:
-                            // parser/flatzinc/FlatzincWalker.g:215:23: DD i2= INT_CONST
-                        {
-                            match(input, DD, FOLLOW_DD_in_expr677);
+                        case 1 :
+                            // parser/flatzinc/FlatzincWalker.g:217:23: DD i2= INT_CONST
+                            {
+                            match(input,DD,FOLLOW_DD_in_expr677); 
 
-                            i2 = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_expr681);
+                            i2=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_expr681); 
 
-                        }
-                        break;
+                            }
+                            break;
 
                     }
 
 
-                    if (i2 == null) {
-                        exp = EInt.make((i1 != null ? i1.getText() : null));
-                    } else {
-                        exp = new ESetBounds(EInt.make((i1 != null ? i1.getText() : null)), EInt.make((i2 != null ? i2.getText() : null)));
-                    }
-
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincWalker.g:224:5: ^( EXPR LS (e= expr )* RS )
-                {
+                        if(i2==null){
+                            exp =EInt.make((i1!=null?i1.getText():null));
+                        }else{
+                            exp = new ESetBounds(EInt.make((i1!=null?i1.getText():null)), EInt.make((i2!=null?i2.getText():null)));
+                        }
+                        
 
-                    ArrayList<Expression> exps = new ArrayList();
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincWalker.g:226:5: ^( EXPR LS (e= expr )* RS )
+                    {
 
+                        ArrayList<Expression> exps = new ArrayList();
+                        
 
-                    match(input, EXPR, FOLLOW_EXPR_in_expr711);
+                    match(input,EXPR,FOLLOW_EXPR_in_expr711); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, LS, FOLLOW_LS_in_expr713);
+                    match(input, Token.DOWN, null); 
+                    match(input,LS,FOLLOW_LS_in_expr713); 
 
-                    // parser/flatzinc/FlatzincWalker.g:227:18: (e= expr )*
+                    // parser/flatzinc/FlatzincWalker.g:229:18: (e= expr )*
                     loop16:
                     do {
-                        int alt16 = 2;
-                        switch (input.LA(1)) {
-                            case EXPR:
-                            case FALSE:
-                            case IDENTIFIER:
-                            case INT_CONST:
-                            case LB:
-                            case STRING:
-                            case TRUE: {
-                                alt16 = 1;
-                            }
-                            break;
+                        int alt16=2;
+                        int LA16_0 = input.LA(1);
 
+                        if ( ((LA16_0 >= EXPR && LA16_0 <= FALSE)||LA16_0==IDENTIFIER||(LA16_0 >= INT_CONST && LA16_0 <= LB)||(LA16_0 >= STRING && LA16_0 <= TRUE)) ) {
+                            alt16=1;
                         }
 
+
                         switch (alt16) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:227:19: e= expr
-                            {
-                                pushFollow(FOLLOW_expr_in_expr718);
-                                e = expr();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:229:19: e= expr
+                    	    {
+                    	    pushFollow(FOLLOW_expr_in_expr718);
+                    	    e=expr();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                                exps.add(e);
+                    	    exps.add(e);
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                break loop16;
+                    	default :
+                    	    break loop16;
                         }
                     } while (true);
 
 
-                    match(input, RS, FOLLOW_RS_in_expr723);
+                    match(input,RS,FOLLOW_RS_in_expr723); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    if (exps.size() > 0) {
-                        exp = new EArray(exps);
-                    } else {
-                        exp = new EArray();
-                    }
 
+                        if(exps.size()>0){
+                            exp = new EArray(exps);
+                        }else{
+                            exp = new EArray();
+                        }
+                        
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincWalker.g:235:9: e= id_expr
-                {
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincWalker.g:237:9: e= id_expr
+                    {
                     pushFollow(FOLLOW_id_expr_in_expr742);
-                    e = id_expr();
+                    e=id_expr();
 
                     state._fsp--;
 
 
-                    exp = e;
 
+                        exp = e;
+                        
 
-                }
-                break;
-                case 7:
-                    // parser/flatzinc/FlatzincWalker.g:239:9: STRING
-                {
-                    STRING1 = (CommonTree) match(input, STRING, FOLLOW_STRING_in_expr758);
-
+                    }
+                    break;
+                case 7 :
+                    // parser/flatzinc/FlatzincWalker.g:241:9: STRING
+                    {
+                    STRING1=(CommonTree)match(input,STRING,FOLLOW_STRING_in_expr758); 
 
-                    exp = new EString((STRING1 != null ? STRING1.getText() : null));
 
+                        exp = new EString((STRING1!=null?STRING1.getText():null));
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return exp;
     }
     // $ANTLR end "expr"
 
 
+
     // $ANTLR start "id_expr"
-    // parser/flatzinc/FlatzincWalker.g:263:1: id_expr returns [Expression exp] : IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? ;
+    // parser/flatzinc/FlatzincWalker.g:265:1: id_expr returns [Expression exp] : IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? ;
     public final Expression id_expr() throws RecognitionException {
         Expression exp = null;
 
 
-        CommonTree i = null;
-        CommonTree IDENTIFIER2 = null;
-        Expression e = null;
+        CommonTree i=null;
+        CommonTree IDENTIFIER2=null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:264:5: ( IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? )
-            // parser/flatzinc/FlatzincWalker.g:265:5: IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
+            // parser/flatzinc/FlatzincWalker.g:266:5: ( IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )? )
+            // parser/flatzinc/FlatzincWalker.g:267:5: IDENTIFIER ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
             {
 
                 ArrayList<Expression> exps = new ArrayList();
+                
 
+            IDENTIFIER2=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_id_expr816); 
 
-                IDENTIFIER2 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_id_expr816);
-
-                // parser/flatzinc/FlatzincWalker.g:268:19: ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
-                int alt19 = 3;
-                switch (input.LA(1)) {
-                    case LP: {
-                        alt19 = 1;
-                    }
-                    break;
-                    case LS: {
-                        alt19 = 2;
-                    }
-                    break;
-                }
+            // parser/flatzinc/FlatzincWalker.g:270:19: ( ( LP e= expr ( CM e= expr )* RP ) | ( LS i= INT_CONST RS ) )?
+            int alt19=3;
+            int LA19_0 = input.LA(1);
 
-                switch (alt19) {
-                    case 1:
-                        // parser/flatzinc/FlatzincWalker.g:268:20: ( LP e= expr ( CM e= expr )* RP )
+            if ( (LA19_0==LP) ) {
+                alt19=1;
+            }
+            else if ( (LA19_0==LS) ) {
+                alt19=2;
+            }
+            switch (alt19) {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:270:20: ( LP e= expr ( CM e= expr )* RP )
+                    {
+                    // parser/flatzinc/FlatzincWalker.g:270:20: ( LP e= expr ( CM e= expr )* RP )
+                    // parser/flatzinc/FlatzincWalker.g:270:21: LP e= expr ( CM e= expr )* RP
                     {
-                        // parser/flatzinc/FlatzincWalker.g:268:20: ( LP e= expr ( CM e= expr )* RP )
-                        // parser/flatzinc/FlatzincWalker.g:268:21: LP e= expr ( CM e= expr )* RP
-                        {
-                            match(input, LP, FOLLOW_LP_in_id_expr820);
+                    match(input,LP,FOLLOW_LP_in_id_expr820); 
 
-                            pushFollow(FOLLOW_expr_in_id_expr824);
-                            e = expr();
+                    pushFollow(FOLLOW_expr_in_id_expr824);
+                    e=expr();
+
+                    state._fsp--;
 
-                            state._fsp--;
 
+                    exps.add(e);
 
-                            exps.add(e);
+                    // parser/flatzinc/FlatzincWalker.g:270:45: ( CM e= expr )*
+                    loop18:
+                    do {
+                        int alt18=2;
+                        int LA18_0 = input.LA(1);
 
-                            // parser/flatzinc/FlatzincWalker.g:268:45: ( CM e= expr )*
-                            loop18:
-                            do {
-                                int alt18 = 2;
-                                switch (input.LA(1)) {
-                                    case CM: {
-                                        alt18 = 1;
-                                    }
-                                    break;
+                        if ( (LA18_0==CM) ) {
+                            alt18=1;
+                        }
 
-                                }
 
-                                switch (alt18) {
-                                    case 1:
-                                        // parser/flatzinc/FlatzincWalker.g:268:46: CM e= expr
-                                    {
-                                        match(input, CM, FOLLOW_CM_in_id_expr828);
+                        switch (alt18) {
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:270:46: CM e= expr
+                    	    {
+                    	    match(input,CM,FOLLOW_CM_in_id_expr828); 
 
-                                        pushFollow(FOLLOW_expr_in_id_expr832);
-                                        e = expr();
+                    	    pushFollow(FOLLOW_expr_in_id_expr832);
+                    	    e=expr();
 
-                                        state._fsp--;
+                    	    state._fsp--;
 
 
-                                        exps.add(e);
+                    	    exps.add(e);
 
-                                    }
-                                    break;
+                    	    }
+                    	    break;
 
-                                    default:
-                                        break loop18;
-                                }
-                            } while (true);
+                    	default :
+                    	    break loop18;
+                        }
+                    } while (true);
 
 
-                            match(input, RP, FOLLOW_RP_in_id_expr837);
+                    match(input,RP,FOLLOW_RP_in_id_expr837); 
 
-                        }
+                    }
 
 
                     }
                     break;
-                    case 2:
-                        // parser/flatzinc/FlatzincWalker.g:268:76: ( LS i= INT_CONST RS )
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:270:76: ( LS i= INT_CONST RS )
+                    {
+                    // parser/flatzinc/FlatzincWalker.g:270:76: ( LS i= INT_CONST RS )
+                    // parser/flatzinc/FlatzincWalker.g:270:77: LS i= INT_CONST RS
                     {
-                        // parser/flatzinc/FlatzincWalker.g:268:76: ( LS i= INT_CONST RS )
-                        // parser/flatzinc/FlatzincWalker.g:268:77: LS i= INT_CONST RS
-                        {
-                            match(input, LS, FOLLOW_LS_in_id_expr841);
+                    match(input,LS,FOLLOW_LS_in_id_expr841); 
 
-                            i = (CommonTree) match(input, INT_CONST, FOLLOW_INT_CONST_in_id_expr845);
+                    i=(CommonTree)match(input,INT_CONST,FOLLOW_INT_CONST_in_id_expr845); 
 
-                            match(input, RS, FOLLOW_RS_in_id_expr847);
+                    match(input,RS,FOLLOW_RS_in_id_expr847); 
 
-                        }
+                    }
 
 
                     }
                     break;
 
-                }
+            }
 
 
-                if (exps.size() > 0) {
-                    exp = new EAnnotation(new EIdentifier(map, (IDENTIFIER2 != null ? IDENTIFIER2.getText() : null)), exps);
-                } else if (i != null) {
-                    exp = new EIdArray(map, (IDENTIFIER2 != null ? IDENTIFIER2.getText() : null), Integer.parseInt((i != null ? i.getText() : null)));
-                } else {
-                    exp = new EIdentifier(map, (IDENTIFIER2 != null ? IDENTIFIER2.getText() : null));
-                }
 
+                if(exps.size()>0){
+                    exp = new EAnnotation(new EIdentifier(map, (IDENTIFIER2!=null?IDENTIFIER2.getText():null)), exps);
+                }else if(i!=null) {
+                    exp = new EIdArray(map, (IDENTIFIER2!=null?IDENTIFIER2.getText():null), Integer.parseInt((i!=null?i.getText():null)));
+                }else{
+                    exp = new EIdentifier(map, (IDENTIFIER2!=null?IDENTIFIER2.getText():null));
+                }
+                
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return exp;
     }
     // $ANTLR end "id_expr"
 
 
+
     // $ANTLR start "param_decl"
-    // parser/flatzinc/FlatzincWalker.g:281:1: param_decl : ^( PAR IDENTIFIER pt= par_type e= expr ) ;
+    // parser/flatzinc/FlatzincWalker.g:283:1: param_decl : ^( PAR IDENTIFIER pt= par_type e= expr ) ;
     public final void param_decl() throws RecognitionException {
-        CommonTree IDENTIFIER3 = null;
-        Declaration pt = null;
+        CommonTree IDENTIFIER3=null;
+        Declaration pt =null;
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:282:2: ( ^( PAR IDENTIFIER pt= par_type e= expr ) )
-            // parser/flatzinc/FlatzincWalker.g:282:6: ^( PAR IDENTIFIER pt= par_type e= expr )
+            // parser/flatzinc/FlatzincWalker.g:284:2: ( ^( PAR IDENTIFIER pt= par_type e= expr ) )
+            // parser/flatzinc/FlatzincWalker.g:284:6: ^( PAR IDENTIFIER pt= par_type e= expr )
             {
-                match(input, PAR, FOLLOW_PAR_in_param_decl874);
+            match(input,PAR,FOLLOW_PAR_in_param_decl874); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER3 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_param_decl876);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER3=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_param_decl876); 
 
-                pushFollow(FOLLOW_par_type_in_param_decl880);
-                pt = par_type();
+            pushFollow(FOLLOW_par_type_in_param_decl880);
+            pt=par_type();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                pushFollow(FOLLOW_expr_in_param_decl884);
-                e = expr();
+            pushFollow(FOLLOW_expr_in_param_decl884);
+            e=expr();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                // Parameter(THashMap<String, Object> map, Declaration type, String identifier, Expression expression)
-                FParameter.make_parameter(map, pt, (IDENTIFIER3 != null ? IDENTIFIER3.getText() : null), e);
 
+            	// Parameter(THashMap<String, Object> map, Declaration type, String identifier, Expression expression)
+                FParameter.make_parameter(map, pt, (IDENTIFIER3!=null?IDENTIFIER3.getText():null), e);
+                
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
         }
-        return;
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
     }
     // $ANTLR end "param_decl"
 
 
+
     // $ANTLR start "var_decl"
-    // parser/flatzinc/FlatzincWalker.g:290:1: var_decl : ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) ;
+    // parser/flatzinc/FlatzincWalker.g:292:1: var_decl : ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) ;
     public final void var_decl() throws RecognitionException {
-        CommonTree IDENTIFIER4 = null;
-        Declaration vt = null;
+        CommonTree IDENTIFIER4=null;
+        Declaration vt =null;
 
-        List<EAnnotation> anns = null;
+        List<EAnnotation> anns =null;
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:291:2: ( ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) )
-            // parser/flatzinc/FlatzincWalker.g:291:6: ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? )
+            // parser/flatzinc/FlatzincWalker.g:293:2: ( ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? ) )
+            // parser/flatzinc/FlatzincWalker.g:293:6: ^( VAR IDENTIFIER vt= var_type anns= annotations (e= expr )? )
             {
-                match(input, VAR, FOLLOW_VAR_in_var_decl903);
+            match(input,VAR,FOLLOW_VAR_in_var_decl903); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER4 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_var_decl905);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER4=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_var_decl905); 
 
-                pushFollow(FOLLOW_var_type_in_var_decl909);
-                vt = var_type();
+            pushFollow(FOLLOW_var_type_in_var_decl909);
+            vt=var_type();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                pushFollow(FOLLOW_annotations_in_var_decl913);
-                anns = annotations();
+            pushFollow(FOLLOW_annotations_in_var_decl913);
+            anns=annotations();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                // parser/flatzinc/FlatzincWalker.g:291:53: (e= expr )?
-                int alt20 = 2;
-                switch (input.LA(1)) {
-                    case EXPR:
-                    case FALSE:
-                    case IDENTIFIER:
-                    case INT_CONST:
-                    case LB:
-                    case STRING:
-                    case TRUE: {
-                        alt20 = 1;
-                    }
-                    break;
-                }
+            // parser/flatzinc/FlatzincWalker.g:293:53: (e= expr )?
+            int alt20=2;
+            int LA20_0 = input.LA(1);
 
-                switch (alt20) {
-                    case 1:
-                        // parser/flatzinc/FlatzincWalker.g:291:53: e= expr
+            if ( ((LA20_0 >= EXPR && LA20_0 <= FALSE)||LA20_0==IDENTIFIER||(LA20_0 >= INT_CONST && LA20_0 <= LB)||(LA20_0 >= STRING && LA20_0 <= TRUE)) ) {
+                alt20=1;
+            }
+            switch (alt20) {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:293:53: e= expr
                     {
-                        pushFollow(FOLLOW_expr_in_var_decl917);
-                        e = expr();
+                    pushFollow(FOLLOW_expr_in_var_decl917);
+                    e=expr();
 
-                        state._fsp--;
+                    state._fsp--;
 
 
                     }
                     break;
 
-                }
+            }
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                FVariable.make_variable(map, vt, (IDENTIFIER4 != null ? IDENTIFIER4.getText() : null), anns, e, mSolver, mLayout);
 
+            	FVariable.make_variable(map, vt, (IDENTIFIER4!=null?IDENTIFIER4.getText():null), anns, e, mSolver, mLayout, mPresolver);
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "var_decl"
 
 
+
     // $ANTLR start "constraint"
-    // parser/flatzinc/FlatzincWalker.g:297:1: constraint : ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) ;
+    // parser/flatzinc/FlatzincWalker.g:299:1: constraint : ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) ;
     public final void constraint() throws RecognitionException {
-        CommonTree IDENTIFIER5 = null;
-        Expression e = null;
+        CommonTree IDENTIFIER5=null;
+        Expression e =null;
 
-        List<EAnnotation> anns = null;
+        List<EAnnotation> anns =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:298:2: ( ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) )
-            // parser/flatzinc/FlatzincWalker.g:299:2: ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations )
+            // parser/flatzinc/FlatzincWalker.g:300:2: ( ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations ) )
+            // parser/flatzinc/FlatzincWalker.g:301:2: ^( CONSTRAINT IDENTIFIER (e= expr )+ anns= annotations )
             {
 
-                //  Solver aSolver, String id, List<Expression> exps, List<EAnnotation> annotations
-                ArrayList<Expression> exps = new ArrayList();
+            	//  Solver aSolver, String id, List<Expression> exps, List<EAnnotation> annotations
+            	ArrayList<Expression> exps = new ArrayList();
+            	
 
+            match(input,CONSTRAINT,FOLLOW_CONSTRAINT_in_constraint942); 
 
-                match(input, CONSTRAINT, FOLLOW_CONSTRAINT_in_constraint942);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER5=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_constraint944); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER5 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_constraint944);
+            // parser/flatzinc/FlatzincWalker.g:305:30: (e= expr )+
+            int cnt21=0;
+            loop21:
+            do {
+                int alt21=2;
+                int LA21_0 = input.LA(1);
 
-                // parser/flatzinc/FlatzincWalker.g:303:30: (e= expr )+
-                int cnt21 = 0;
-                loop21:
-                do {
-                    int alt21 = 2;
-                    switch (input.LA(1)) {
-                        case EXPR:
-                        case FALSE:
-                        case IDENTIFIER:
-                        case INT_CONST:
-                        case LB:
-                        case STRING:
-                        case TRUE: {
-                            alt21 = 1;
-                        }
-                        break;
+                if ( ((LA21_0 >= EXPR && LA21_0 <= FALSE)||LA21_0==IDENTIFIER||(LA21_0 >= INT_CONST && LA21_0 <= LB)||(LA21_0 >= STRING && LA21_0 <= TRUE)) ) {
+                    alt21=1;
+                }
 
-                    }
 
-                    switch (alt21) {
-                        case 1:
-                            // parser/flatzinc/FlatzincWalker.g:303:31: e= expr
-                        {
-                            pushFollow(FOLLOW_expr_in_constraint949);
-                            e = expr();
+                switch (alt21) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincWalker.g:305:31: e= expr
+            	    {
+            	    pushFollow(FOLLOW_expr_in_constraint949);
+            	    e=expr();
 
-                            state._fsp--;
+            	    state._fsp--;
 
 
-                            exps.add(e);
+            	    exps.add(e);
 
-                        }
-                        break;
+            	    }
+            	    break;
 
-                        default:
-                            if (cnt21 >= 1) break loop21;
-                            EarlyExitException eee =
-                                    new EarlyExitException(21, input);
-                            throw eee;
-                    }
-                    cnt21++;
-                } while (true);
+            	default :
+            	    if ( cnt21 >= 1 ) break loop21;
+                        EarlyExitException eee =
+                            new EarlyExitException(21, input);
+                        throw eee;
+                }
+                cnt21++;
+            } while (true);
 
 
-                pushFollow(FOLLOW_annotations_in_constraint956);
-                anns = annotations();
+            pushFollow(FOLLOW_annotations_in_constraint956);
+            anns=annotations();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                String id = (IDENTIFIER5 != null ? IDENTIFIER5.getText() : null);
-                FConstraint.make_constraint(mSolver, map, id, exps, anns);
 
+            	String id = (IDENTIFIER5!=null?IDENTIFIER5.getText():null);
+            	mPresolver.add_constraint(id, exps, anns);
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "constraint"
 
 
+
     // $ANTLR start "solve_goal"
-    // parser/flatzinc/FlatzincWalker.g:310:1: solve_goal : ^( SOLVE anns= annotations res= resolution ) ;
+    // parser/flatzinc/FlatzincWalker.g:312:1: solve_goal : ^( SOLVE anns= annotations res= resolution ) ;
     public final void solve_goal() throws RecognitionException {
-        List<EAnnotation> anns = null;
+        List<EAnnotation> anns =null;
 
-        FlatzincWalker.resolution_return res = null;
+        FlatzincWalker.resolution_return res =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:311:2: ( ^( SOLVE anns= annotations res= resolution ) )
-            // parser/flatzinc/FlatzincWalker.g:312:2: ^( SOLVE anns= annotations res= resolution )
+            // parser/flatzinc/FlatzincWalker.g:313:2: ( ^( SOLVE anns= annotations res= resolution ) )
+            // parser/flatzinc/FlatzincWalker.g:314:2: ^( SOLVE anns= annotations res= resolution )
             {
-                match(input, SOLVE, FOLLOW_SOLVE_in_solve_goal973);
+            match(input,SOLVE,FOLLOW_SOLVE_in_solve_goal973); 
 
-                match(input, Token.DOWN, null);
-                pushFollow(FOLLOW_annotations_in_solve_goal977);
-                anns = annotations();
+            match(input, Token.DOWN, null); 
+            pushFollow(FOLLOW_annotations_in_solve_goal977);
+            anns=annotations();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                pushFollow(FOLLOW_resolution_in_solve_goal981);
-                res = resolution();
+            pushFollow(FOLLOW_resolution_in_solve_goal981);
+            res=resolution();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                FGoal.define_goal(gc, mSolver, anns, res.type, res.expr);
 
+                mPresolver.post_constraints(gc, mSolver, map, anns, res.expr);
+                FGoal.define_goal(gc, mSolver,anns,res.type,res.expr);
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
         }
-        return;
+
+        finally {
+        	// do for sure before leaving
+        }
+        return ;
     }
     // $ANTLR end "solve_goal"
 
@@ -1729,1094 +1774,1106 @@ public class FlatzincWalker extends TreeParser {
     public static class resolution_return extends TreeRuleReturnScope {
         public ResolutionPolicy type;
         public Expression expr;
-    }
-
-    ;
+    };
 
 
     // $ANTLR start "resolution"
-    // parser/flatzinc/FlatzincWalker.g:318:1: resolution returns [ResolutionPolicy type, Expression expr] : ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) );
+    // parser/flatzinc/FlatzincWalker.g:321:1: resolution returns [ResolutionPolicy type, Expression expr] : ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) );
     public final FlatzincWalker.resolution_return resolution() throws RecognitionException {
         FlatzincWalker.resolution_return retval = new FlatzincWalker.resolution_return();
         retval.start = input.LT(1);
 
 
-        Expression e = null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:319:5: ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) )
-            int alt22 = 3;
-            switch (input.LA(1)) {
-                case SATISFY: {
-                    alt22 = 1;
+            // parser/flatzinc/FlatzincWalker.g:322:5: ( SATISFY | ^( MINIMIZE e= expr ) | ^( MAXIMIZE e= expr ) )
+            int alt22=3;
+            switch ( input.LA(1) ) {
+            case SATISFY:
+                {
+                alt22=1;
                 }
                 break;
-                case MINIMIZE: {
-                    alt22 = 2;
+            case MINIMIZE:
+                {
+                alt22=2;
                 }
                 break;
-                case MAXIMIZE: {
-                    alt22 = 3;
+            case MAXIMIZE:
+                {
+                alt22=3;
                 }
                 break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 22, 0, input);
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 22, 0, input);
 
-                    throw nvae;
+                throw nvae;
 
             }
 
             switch (alt22) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:319:9: SATISFY
-                {
-                    match(input, SATISFY, FOLLOW_SATISFY_in_resolution1005);
-
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:322:9: SATISFY
+                    {
+                    match(input,SATISFY,FOLLOW_SATISFY_in_resolution1005); 
 
-                    retval.type = ResolutionPolicy.SATISFACTION;
-                    retval.expr = null;
 
+                        retval.type =ResolutionPolicy.SATISFACTION;
+                        retval.expr =null;
+                        
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:324:9: ^( MINIMIZE e= expr )
-                {
-                    match(input, MINIMIZE, FOLLOW_MINIMIZE_in_resolution1022);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:327:9: ^( MINIMIZE e= expr )
+                    {
+                    match(input,MINIMIZE,FOLLOW_MINIMIZE_in_resolution1022); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_expr_in_resolution1026);
-                    e = expr();
+                    e=expr();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    retval.type = ResolutionPolicy.MINIMIZE;
-                    retval.expr = e;
 
+                        retval.type =ResolutionPolicy.MINIMIZE;
+                        retval.expr =e;
+                        
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincWalker.g:329:9: ^( MAXIMIZE e= expr )
-                {
-                    match(input, MAXIMIZE, FOLLOW_MAXIMIZE_in_resolution1044);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincWalker.g:332:9: ^( MAXIMIZE e= expr )
+                    {
+                    match(input,MAXIMIZE,FOLLOW_MAXIMIZE_in_resolution1044); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_expr_in_resolution1048);
-                    e = expr();
+                    e=expr();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    retval.type = ResolutionPolicy.MAXIMIZE;
-                    retval.expr = e;
 
+                        retval.type =ResolutionPolicy.MAXIMIZE;
+                        retval.expr =e;
+                        
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return retval;
     }
     // $ANTLR end "resolution"
 
 
+
     // $ANTLR start "annotations"
-    // parser/flatzinc/FlatzincWalker.g:336:1: annotations returns [List<EAnnotation> anns] : ^( ANNOTATIONS (e= annotation )* ) ;
+    // parser/flatzinc/FlatzincWalker.g:339:1: annotations returns [List<EAnnotation> anns] : ^( ANNOTATIONS (e= annotation )* ) ;
     public final List<EAnnotation> annotations() throws RecognitionException {
         List<EAnnotation> anns = null;
 
 
-        EAnnotation e = null;
+        EAnnotation e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:337:5: ( ^( ANNOTATIONS (e= annotation )* ) )
-            // parser/flatzinc/FlatzincWalker.g:338:5: ^( ANNOTATIONS (e= annotation )* )
+            // parser/flatzinc/FlatzincWalker.g:340:5: ( ^( ANNOTATIONS (e= annotation )* ) )
+            // parser/flatzinc/FlatzincWalker.g:341:5: ^( ANNOTATIONS (e= annotation )* )
             {
 
                 anns = new ArrayList();
+                
 
+            match(input,ANNOTATIONS,FOLLOW_ANNOTATIONS_in_annotations1091); 
 
-                match(input, ANNOTATIONS, FOLLOW_ANNOTATIONS_in_annotations1091);
+            if ( input.LA(1)==Token.DOWN ) {
+                match(input, Token.DOWN, null); 
+                // parser/flatzinc/FlatzincWalker.g:344:23: (e= annotation )*
+                loop23:
+                do {
+                    int alt23=2;
+                    int LA23_0 = input.LA(1);
 
-                if (input.LA(1) == Token.DOWN) {
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:341:23: (e= annotation )*
-                    loop23:
-                    do {
-                        int alt23 = 2;
-                        switch (input.LA(1)) {
-                            case IDENTIFIER: {
-                                alt23 = 1;
-                            }
-                            break;
+                    if ( (LA23_0==IDENTIFIER) ) {
+                        alt23=1;
+                    }
 
-                        }
 
-                        switch (alt23) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:341:24: e= annotation
-                            {
-                                pushFollow(FOLLOW_annotation_in_annotations1096);
-                                e = annotation();
+                    switch (alt23) {
+                	case 1 :
+                	    // parser/flatzinc/FlatzincWalker.g:344:24: e= annotation
+                	    {
+                	    pushFollow(FOLLOW_annotation_in_annotations1096);
+                	    e=annotation();
 
-                                state._fsp--;
+                	    state._fsp--;
 
 
-                                anns.add(e);
+                	    anns.add(e);
 
-                            }
-                            break;
+                	    }
+                	    break;
 
-                            default:
-                                break loop23;
-                        }
-                    } while (true);
+                	default :
+                	    break loop23;
+                    }
+                } while (true);
 
 
-                    match(input, Token.UP, null);
-                }
+                match(input, Token.UP, null); 
+            }
 
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return anns;
     }
     // $ANTLR end "annotations"
 
 
+
     // $ANTLR start "annotation"
-    // parser/flatzinc/FlatzincWalker.g:344:1: annotation returns [EAnnotation ann] : IDENTIFIER ( LP (e= expr )+ RP )? ;
+    // parser/flatzinc/FlatzincWalker.g:347:1: annotation returns [EAnnotation ann] : IDENTIFIER ( LP (e= expr )+ RP )? ;
     public final EAnnotation annotation() throws RecognitionException {
         EAnnotation ann = null;
 
 
-        CommonTree IDENTIFIER6 = null;
-        Expression e = null;
+        CommonTree IDENTIFIER6=null;
+        Expression e =null;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:345:5: ( IDENTIFIER ( LP (e= expr )+ RP )? )
-            // parser/flatzinc/FlatzincWalker.g:346:5: IDENTIFIER ( LP (e= expr )+ RP )?
+            // parser/flatzinc/FlatzincWalker.g:348:5: ( IDENTIFIER ( LP (e= expr )+ RP )? )
+            // parser/flatzinc/FlatzincWalker.g:349:5: IDENTIFIER ( LP (e= expr )+ RP )?
             {
 
                 ArrayList<Expression> exps = new ArrayList();
+                
 
+            IDENTIFIER6=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_annotation1133); 
 
-                IDENTIFIER6 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_annotation1133);
+            // parser/flatzinc/FlatzincWalker.g:352:16: ( LP (e= expr )+ RP )?
+            int alt25=2;
+            int LA25_0 = input.LA(1);
 
-                // parser/flatzinc/FlatzincWalker.g:349:16: ( LP (e= expr )+ RP )?
-                int alt25 = 2;
-                switch (input.LA(1)) {
-                    case LP: {
-                        alt25 = 1;
-                    }
-                    break;
-                }
-
-                switch (alt25) {
-                    case 1:
-                        // parser/flatzinc/FlatzincWalker.g:349:17: LP (e= expr )+ RP
+            if ( (LA25_0==LP) ) {
+                alt25=1;
+            }
+            switch (alt25) {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:352:17: LP (e= expr )+ RP
                     {
-                        match(input, LP, FOLLOW_LP_in_annotation1136);
-
-                        // parser/flatzinc/FlatzincWalker.g:349:20: (e= expr )+
-                        int cnt24 = 0;
-                        loop24:
-                        do {
-                            int alt24 = 2;
-                            switch (input.LA(1)) {
-                                case EXPR:
-                                case FALSE:
-                                case IDENTIFIER:
-                                case INT_CONST:
-                                case LB:
-                                case STRING:
-                                case TRUE: {
-                                    alt24 = 1;
-                                }
-                                break;
+                    match(input,LP,FOLLOW_LP_in_annotation1136); 
 
-                            }
+                    // parser/flatzinc/FlatzincWalker.g:352:20: (e= expr )+
+                    int cnt24=0;
+                    loop24:
+                    do {
+                        int alt24=2;
+                        int LA24_0 = input.LA(1);
+
+                        if ( ((LA24_0 >= EXPR && LA24_0 <= FALSE)||LA24_0==IDENTIFIER||(LA24_0 >= INT_CONST && LA24_0 <= LB)||(LA24_0 >= STRING && LA24_0 <= TRUE)) ) {
+                            alt24=1;
+                        }
 
-                            switch (alt24) {
-                                case 1:
-                                    // parser/flatzinc/FlatzincWalker.g:349:21: e= expr
-                                {
-                                    pushFollow(FOLLOW_expr_in_annotation1141);
-                                    e = expr();
 
-                                    state._fsp--;
+                        switch (alt24) {
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:352:21: e= expr
+                    	    {
+                    	    pushFollow(FOLLOW_expr_in_annotation1141);
+                    	    e=expr();
 
+                    	    state._fsp--;
 
-                                    exps.add(e);
 
-                                }
-                                break;
+                    	    exps.add(e);
 
-                                default:
-                                    if (cnt24 >= 1) break loop24;
-                                    EarlyExitException eee =
-                                            new EarlyExitException(24, input);
-                                    throw eee;
-                            }
-                            cnt24++;
-                        } while (true);
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt24 >= 1 ) break loop24;
+                                EarlyExitException eee =
+                                    new EarlyExitException(24, input);
+                                throw eee;
+                        }
+                        cnt24++;
+                    } while (true);
 
 
-                        match(input, RP, FOLLOW_RP_in_annotation1146);
+                    match(input,RP,FOLLOW_RP_in_annotation1146); 
 
                     }
                     break;
 
-                }
+            }
 
 
-                ann = new EAnnotation(new EIdentifier(map, (IDENTIFIER6 != null ? IDENTIFIER6.getText() : null)), exps);
 
+                ann = new EAnnotation(new EIdentifier(map,(IDENTIFIER6!=null?IDENTIFIER6.getText():null)), exps);
+                
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return ann;
     }
     // $ANTLR end "annotation"
 
 
+
     // $ANTLR start "bool_const"
-    // parser/flatzinc/FlatzincWalker.g:355:1: bool_const returns [boolean value] : ( TRUE | FALSE );
+    // parser/flatzinc/FlatzincWalker.g:358:1: bool_const returns [boolean value] : ( TRUE | FALSE );
     public final boolean bool_const() throws RecognitionException {
         boolean value = false;
 
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:356:5: ( TRUE | FALSE )
-            int alt26 = 2;
-            switch (input.LA(1)) {
-                case TRUE: {
-                    alt26 = 1;
-                }
-                break;
-                case FALSE: {
-                    alt26 = 2;
-                }
-                break;
-                default:
-                    NoViableAltException nvae =
-                            new NoViableAltException("", 26, 0, input);
-
-                    throw nvae;
+            // parser/flatzinc/FlatzincWalker.g:359:5: ( TRUE | FALSE )
+            int alt26=2;
+            int LA26_0 = input.LA(1);
 
+            if ( (LA26_0==TRUE) ) {
+                alt26=1;
             }
+            else if ( (LA26_0==FALSE) ) {
+                alt26=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 26, 0, input);
+
+                throw nvae;
 
+            }
             switch (alt26) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:356:9: TRUE
-                {
-                    match(input, TRUE, FOLLOW_TRUE_in_bool_const1178);
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:359:9: TRUE
+                    {
+                    match(input,TRUE,FOLLOW_TRUE_in_bool_const1178); 
 
                     value = true;
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:357:9: FALSE
-                {
-                    match(input, FALSE, FOLLOW_FALSE_in_bool_const1190);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:360:9: FALSE
+                    {
+                    match(input,FALSE,FOLLOW_FALSE_in_bool_const1190); 
 
                     value = false;
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
         return value;
     }
     // $ANTLR end "bool_const"
 
 
+
     // $ANTLR start "pred_decl"
-    // parser/flatzinc/FlatzincWalker.g:361:1: pred_decl : ^( PREDICATE IDENTIFIER ( pred_param )+ ) ;
+    // parser/flatzinc/FlatzincWalker.g:364:1: pred_decl : ^( PREDICATE IDENTIFIER ( pred_param )+ ) ;
     public final void pred_decl() throws RecognitionException {
-        CommonTree IDENTIFIER7 = null;
+        CommonTree IDENTIFIER7=null;
 
         try {
-            // parser/flatzinc/FlatzincWalker.g:362:2: ( ^( PREDICATE IDENTIFIER ( pred_param )+ ) )
-            // parser/flatzinc/FlatzincWalker.g:362:6: ^( PREDICATE IDENTIFIER ( pred_param )+ )
+            // parser/flatzinc/FlatzincWalker.g:365:2: ( ^( PREDICATE IDENTIFIER ( pred_param )+ ) )
+            // parser/flatzinc/FlatzincWalker.g:365:6: ^( PREDICATE IDENTIFIER ( pred_param )+ )
             {
-                match(input, PREDICATE, FOLLOW_PREDICATE_in_pred_decl1209);
+            match(input,PREDICATE,FOLLOW_PREDICATE_in_pred_decl1209); 
 
-                match(input, Token.DOWN, null);
-                IDENTIFIER7 = (CommonTree) match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_pred_decl1211);
+            match(input, Token.DOWN, null); 
+            IDENTIFIER7=(CommonTree)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_pred_decl1211); 
 
-                // parser/flatzinc/FlatzincWalker.g:362:29: ( pred_param )+
-                int cnt27 = 0;
-                loop27:
-                do {
-                    int alt27 = 2;
-                    switch (input.LA(1)) {
-                        case CL: {
-                            alt27 = 1;
-                        }
-                        break;
+            // parser/flatzinc/FlatzincWalker.g:365:29: ( pred_param )+
+            int cnt27=0;
+            loop27:
+            do {
+                int alt27=2;
+                int LA27_0 = input.LA(1);
 
-                    }
+                if ( (LA27_0==CL) ) {
+                    alt27=1;
+                }
 
-                    switch (alt27) {
-                        case 1:
-                            // parser/flatzinc/FlatzincWalker.g:362:29: pred_param
-                        {
-                            pushFollow(FOLLOW_pred_param_in_pred_decl1213);
-                            pred_param();
 
-                            state._fsp--;
+                switch (alt27) {
+            	case 1 :
+            	    // parser/flatzinc/FlatzincWalker.g:365:29: pred_param
+            	    {
+            	    pushFollow(FOLLOW_pred_param_in_pred_decl1213);
+            	    pred_param();
 
+            	    state._fsp--;
 
-                        }
-                        break;
 
-                        default:
-                            if (cnt27 >= 1) break loop27;
-                            EarlyExitException eee =
-                                    new EarlyExitException(27, input);
-                            throw eee;
-                    }
-                    cnt27++;
-                } while (true);
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt27 >= 1 ) break loop27;
+                        EarlyExitException eee =
+                            new EarlyExitException(27, input);
+                        throw eee;
+                }
+                cnt27++;
+            } while (true);
 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
-                //        LOGGER.info("% skip predicate : "+ (IDENTIFIER7!=null?IDENTIFIER7.getText():null));
 
+            //        LOGGER.info("% skip predicate : "+ (IDENTIFIER7!=null?IDENTIFIER7.getText():null));
+            	
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "pred_decl"
 
 
+
     // $ANTLR start "pred_param"
-    // parser/flatzinc/FlatzincWalker.g:369:1: pred_param : ^( CL pred_param_type IDENTIFIER ) ;
+    // parser/flatzinc/FlatzincWalker.g:372:1: pred_param : ^( CL pred_param_type IDENTIFIER ) ;
     public final void pred_param() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincWalker.g:370:5: ( ^( CL pred_param_type IDENTIFIER ) )
-            // parser/flatzinc/FlatzincWalker.g:370:9: ^( CL pred_param_type IDENTIFIER )
+            // parser/flatzinc/FlatzincWalker.g:373:5: ( ^( CL pred_param_type IDENTIFIER ) )
+            // parser/flatzinc/FlatzincWalker.g:373:9: ^( CL pred_param_type IDENTIFIER )
             {
-                match(input, CL, FOLLOW_CL_in_pred_param1236);
+            match(input,CL,FOLLOW_CL_in_pred_param1236); 
 
-                match(input, Token.DOWN, null);
-                pushFollow(FOLLOW_pred_param_type_in_pred_param1238);
-                pred_param_type();
+            match(input, Token.DOWN, null); 
+            pushFollow(FOLLOW_pred_param_type_in_pred_param1238);
+            pred_param_type();
 
-                state._fsp--;
+            state._fsp--;
 
 
-                match(input, IDENTIFIER, FOLLOW_IDENTIFIER_in_pred_param1240);
+            match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_pred_param1240); 
 
-                match(input, Token.UP, null);
+            match(input, Token.UP, null); 
 
 
             }
 
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "pred_param"
 
 
+
     // $ANTLR start "pred_param_type"
-    // parser/flatzinc/FlatzincWalker.g:374:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );
+    // parser/flatzinc/FlatzincWalker.g:377:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );
     public final void pred_param_type() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincWalker.g:375:5: ( par_pred_param_type | var_pred_param_type )
-            int alt28 = 2;
+            // parser/flatzinc/FlatzincWalker.g:378:5: ( par_pred_param_type | var_pred_param_type )
+            int alt28=2;
             alt28 = dfa28.predict(input);
             switch (alt28) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:375:9: par_pred_param_type
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:378:9: par_pred_param_type
+                    {
                     pushFollow(FOLLOW_par_pred_param_type_in_pred_param_type1261);
                     par_pred_param_type();
 
                     state._fsp--;
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:376:9: var_pred_param_type
-                {
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:379:9: var_pred_param_type
+                    {
                     pushFollow(FOLLOW_var_pred_param_type_in_pred_param_type1271);
                     var_pred_param_type();
 
                     state._fsp--;
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "pred_param_type"
 
 
+
     // $ANTLR start "par_pred_param_type"
-    // parser/flatzinc/FlatzincWalker.g:380:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );
+    // parser/flatzinc/FlatzincWalker.g:383:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );
     public final void par_pred_param_type() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincWalker.g:381:5: ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) )
-            int alt37 = 9;
+            // parser/flatzinc/FlatzincWalker.g:384:5: ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) )
+            int alt37=9;
             alt37 = dfa37.predict(input);
             switch (alt37) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:381:9: par_type
-                {
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:384:9: par_type
+                    {
                     pushFollow(FOLLOW_par_type_in_par_pred_param_type1291);
                     par_type();
 
                     state._fsp--;
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:383:9: ^( DD INT_CONST INT_CONST )
-                {
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type1303);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:386:9: ^( DD INT_CONST INT_CONST )
+                    {
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type1303); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1305);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1305); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1307);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1307); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincWalker.g:384:9: ^( CM ( INT_CONST )+ )
-                {
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type1319);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincWalker.g:387:9: ^( CM ( INT_CONST )+ )
+                    {
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type1319); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:384:14: ( INT_CONST )+
-                    int cnt29 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:387:14: ( INT_CONST )+
+                    int cnt29=0;
                     loop29:
                     do {
-                        int alt29 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt29 = 1;
-                            }
-                            break;
+                        int alt29=2;
+                        int LA29_0 = input.LA(1);
 
+                        if ( (LA29_0==INT_CONST) ) {
+                            alt29=1;
                         }
 
+
                         switch (alt29) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:384:14: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1321);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:387:14: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1321); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt29 >= 1) break loop29;
+                    	default :
+                    	    if ( cnt29 >= 1 ) break loop29;
                                 EarlyExitException eee =
-                                        new EarlyExitException(29, input);
+                                    new EarlyExitException(29, input);
                                 throw eee;
                         }
                         cnt29++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 4:
-                    // parser/flatzinc/FlatzincWalker.g:385:9: ^( SET ^( DD INT_CONST INT_CONST ) )
-                {
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type1334);
+                    }
+                    break;
+                case 4 :
+                    // parser/flatzinc/FlatzincWalker.g:388:9: ^( SET ^( DD INT_CONST INT_CONST ) )
+                    {
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type1334); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type1337);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type1337); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1339);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1339); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1341);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1341); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 5:
-                    // parser/flatzinc/FlatzincWalker.g:386:9: ^( SET ^( CM ( INT_CONST )+ ) )
-                {
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type1354);
+                    }
+                    break;
+                case 5 :
+                    // parser/flatzinc/FlatzincWalker.g:389:9: ^( SET ^( CM ( INT_CONST )+ ) )
+                    {
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type1354); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type1357);
+                    match(input, Token.DOWN, null); 
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type1357); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:386:20: ( INT_CONST )+
-                    int cnt30 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:389:20: ( INT_CONST )+
+                    int cnt30=0;
                     loop30:
                     do {
-                        int alt30 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt30 = 1;
-                            }
-                            break;
+                        int alt30=2;
+                        int LA30_0 = input.LA(1);
 
+                        if ( (LA30_0==INT_CONST) ) {
+                            alt30=1;
                         }
 
+
                         switch (alt30) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:386:20: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1359);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:389:20: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1359); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt30 >= 1) break loop30;
+                    	default :
+                    	    if ( cnt30 >= 1 ) break loop30;
                                 EarlyExitException eee =
-                                        new EarlyExitException(30, input);
+                                    new EarlyExitException(30, input);
                                 throw eee;
                         }
                         cnt30++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 6:
-                    // parser/flatzinc/FlatzincWalker.g:388:9: ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type1374);
+                    }
+                    break;
+                case 6 :
+                    // parser/flatzinc/FlatzincWalker.g:391:9: ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type1374); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:388:17: ( index_set )+
-                    int cnt31 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:391:17: ( index_set )+
+                    int cnt31=0;
                     loop31:
                     do {
-                        int alt31 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt31 = 1;
-                            }
-                            break;
+                        int alt31=2;
+                        int LA31_0 = input.LA(1);
 
+                        if ( (LA31_0==INDEX) ) {
+                            alt31=1;
                         }
 
+
                         switch (alt31) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:388:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type1376);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:391:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type1376);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt31 >= 1) break loop31;
+                    	default :
+                    	    if ( cnt31 >= 1 ) break loop31;
                                 EarlyExitException eee =
-                                        new EarlyExitException(31, input);
+                                    new EarlyExitException(31, input);
                                 throw eee;
                         }
                         cnt31++;
                     } while (true);
 
 
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type1380);
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type1380); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1382);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1382); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1384);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1384); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 7:
-                    // parser/flatzinc/FlatzincWalker.g:389:9: ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type1397);
+                    }
+                    break;
+                case 7 :
+                    // parser/flatzinc/FlatzincWalker.g:392:9: ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type1397); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:389:17: ( index_set )+
-                    int cnt32 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:392:17: ( index_set )+
+                    int cnt32=0;
                     loop32:
                     do {
-                        int alt32 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt32 = 1;
-                            }
-                            break;
+                        int alt32=2;
+                        int LA32_0 = input.LA(1);
 
+                        if ( (LA32_0==INDEX) ) {
+                            alt32=1;
                         }
 
+
                         switch (alt32) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:389:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type1399);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:392:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type1399);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt32 >= 1) break loop32;
+                    	default :
+                    	    if ( cnt32 >= 1 ) break loop32;
                                 EarlyExitException eee =
-                                        new EarlyExitException(32, input);
+                                    new EarlyExitException(32, input);
                                 throw eee;
                         }
                         cnt32++;
                     } while (true);
 
 
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type1403);
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type1403); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:389:33: ( INT_CONST )+
-                    int cnt33 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:392:33: ( INT_CONST )+
+                    int cnt33=0;
                     loop33:
                     do {
-                        int alt33 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt33 = 1;
-                            }
-                            break;
+                        int alt33=2;
+                        int LA33_0 = input.LA(1);
 
+                        if ( (LA33_0==INT_CONST) ) {
+                            alt33=1;
                         }
 
+
                         switch (alt33) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:389:33: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1405);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:392:33: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1405); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt33 >= 1) break loop33;
+                    	default :
+                    	    if ( cnt33 >= 1 ) break loop33;
                                 EarlyExitException eee =
-                                        new EarlyExitException(33, input);
+                                    new EarlyExitException(33, input);
                                 throw eee;
                         }
                         cnt33++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 8:
-                    // parser/flatzinc/FlatzincWalker.g:390:9: ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type1419);
+                    }
+                    break;
+                case 8 :
+                    // parser/flatzinc/FlatzincWalker.g:393:9: ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type1419); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:390:17: ( index_set )+
-                    int cnt34 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:393:17: ( index_set )+
+                    int cnt34=0;
                     loop34:
                     do {
-                        int alt34 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt34 = 1;
-                            }
-                            break;
+                        int alt34=2;
+                        int LA34_0 = input.LA(1);
 
+                        if ( (LA34_0==INDEX) ) {
+                            alt34=1;
                         }
 
+
                         switch (alt34) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:390:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type1421);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:393:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type1421);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt34 >= 1) break loop34;
+                    	default :
+                    	    if ( cnt34 >= 1 ) break loop34;
                                 EarlyExitException eee =
-                                        new EarlyExitException(34, input);
+                                    new EarlyExitException(34, input);
                                 throw eee;
                         }
                         cnt34++;
                     } while (true);
 
 
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type1425);
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type1425); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, DD, FOLLOW_DD_in_par_pred_param_type1428);
+                    match(input, Token.DOWN, null); 
+                    match(input,DD,FOLLOW_DD_in_par_pred_param_type1428); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1430);
+                    match(input, Token.DOWN, null); 
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1430); 
 
-                    match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1432);
+                    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1432); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 9:
-                    // parser/flatzinc/FlatzincWalker.g:391:9: ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_par_pred_param_type1446);
+                    }
+                    break;
+                case 9 :
+                    // parser/flatzinc/FlatzincWalker.g:394:9: ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_par_pred_param_type1446); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:391:17: ( index_set )+
-                    int cnt35 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:394:17: ( index_set )+
+                    int cnt35=0;
                     loop35:
                     do {
-                        int alt35 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt35 = 1;
-                            }
-                            break;
+                        int alt35=2;
+                        int LA35_0 = input.LA(1);
 
+                        if ( (LA35_0==INDEX) ) {
+                            alt35=1;
                         }
 
+
                         switch (alt35) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:391:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_par_pred_param_type1448);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:394:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_par_pred_param_type1448);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt35 >= 1) break loop35;
+                    	default :
+                    	    if ( cnt35 >= 1 ) break loop35;
                                 EarlyExitException eee =
-                                        new EarlyExitException(35, input);
+                                    new EarlyExitException(35, input);
                                 throw eee;
                         }
                         cnt35++;
                     } while (true);
 
 
-                    match(input, SET, FOLLOW_SET_in_par_pred_param_type1452);
+                    match(input,SET,FOLLOW_SET_in_par_pred_param_type1452); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, CM, FOLLOW_CM_in_par_pred_param_type1455);
+                    match(input, Token.DOWN, null); 
+                    match(input,CM,FOLLOW_CM_in_par_pred_param_type1455); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:391:39: ( INT_CONST )+
-                    int cnt36 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:394:39: ( INT_CONST )+
+                    int cnt36=0;
                     loop36:
                     do {
-                        int alt36 = 2;
-                        switch (input.LA(1)) {
-                            case INT_CONST: {
-                                alt36 = 1;
-                            }
-                            break;
+                        int alt36=2;
+                        int LA36_0 = input.LA(1);
 
+                        if ( (LA36_0==INT_CONST) ) {
+                            alt36=1;
                         }
 
+
                         switch (alt36) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:391:39: INT_CONST
-                            {
-                                match(input, INT_CONST, FOLLOW_INT_CONST_in_par_pred_param_type1457);
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:394:39: INT_CONST
+                    	    {
+                    	    match(input,INT_CONST,FOLLOW_INT_CONST_in_par_pred_param_type1457); 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt36 >= 1) break loop36;
+                    	default :
+                    	    if ( cnt36 >= 1 ) break loop36;
                                 EarlyExitException eee =
-                                        new EarlyExitException(36, input);
+                                    new EarlyExitException(36, input);
                                 throw eee;
                         }
                         cnt36++;
                     } while (true);
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "par_pred_param_type"
 
 
+
     // $ANTLR start "var_pred_param_type"
-    // parser/flatzinc/FlatzincWalker.g:395:1: var_pred_param_type : ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) );
+    // parser/flatzinc/FlatzincWalker.g:398:1: var_pred_param_type : ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) );
     public final void var_pred_param_type() throws RecognitionException {
         try {
-            // parser/flatzinc/FlatzincWalker.g:396:5: ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) )
-            int alt39 = 3;
-            switch (input.LA(1)) {
-                case VAR: {
-                    switch (input.LA(2)) {
-                        case DOWN: {
-                            switch (input.LA(3)) {
-                                case SET: {
-                                    alt39 = 2;
-                                }
-                                break;
-                                case ARRVAR:
-                                case AVAR: {
-                                    alt39 = 1;
-                                }
-                                break;
-                                default:
-                                    NoViableAltException nvae =
-                                            new NoViableAltException("", 39, 3, input);
-
-                                    throw nvae;
+            // parser/flatzinc/FlatzincWalker.g:399:5: ( ^( VAR var_type ) | ^( VAR SET ) | ^( ARRAY ( index_set )+ ^( VAR SET ) ) )
+            int alt39=3;
+            int LA39_0 = input.LA(1);
 
-                            }
-
-                        }
-                        break;
-                        default:
-                            NoViableAltException nvae =
-                                    new NoViableAltException("", 39, 1, input);
+            if ( (LA39_0==VAR) ) {
+                int LA39_1 = input.LA(2);
 
-                            throw nvae;
+                if ( (LA39_1==DOWN) ) {
+                    int LA39_3 = input.LA(3);
 
+                    if ( (LA39_3==SET) ) {
+                        alt39=2;
+                    }
+                    else if ( ((LA39_3 >= ARRVAR && LA39_3 <= AVAR)) ) {
+                        alt39=1;
                     }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 39, 3, input);
 
+                        throw nvae;
+
+                    }
                 }
-                break;
-                case ARRAY: {
-                    alt39 = 3;
-                }
-                break;
-                default:
+                else {
                     NoViableAltException nvae =
-                            new NoViableAltException("", 39, 0, input);
+                        new NoViableAltException("", 39, 1, input);
 
                     throw nvae;
 
+                }
             }
+            else if ( (LA39_0==ARRAY) ) {
+                alt39=3;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 39, 0, input);
+
+                throw nvae;
 
+            }
             switch (alt39) {
-                case 1:
-                    // parser/flatzinc/FlatzincWalker.g:396:9: ^( VAR var_type )
-                {
-                    match(input, VAR, FOLLOW_VAR_in_var_pred_param_type1482);
+                case 1 :
+                    // parser/flatzinc/FlatzincWalker.g:399:9: ^( VAR var_type )
+                    {
+                    match(input,VAR,FOLLOW_VAR_in_var_pred_param_type1482); 
 
-                    match(input, Token.DOWN, null);
+                    match(input, Token.DOWN, null); 
                     pushFollow(FOLLOW_var_type_in_var_pred_param_type1484);
                     var_type();
 
                     state._fsp--;
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 2:
-                    // parser/flatzinc/FlatzincWalker.g:397:9: ^( VAR SET )
-                {
-                    match(input, VAR, FOLLOW_VAR_in_var_pred_param_type1496);
+                    }
+                    break;
+                case 2 :
+                    // parser/flatzinc/FlatzincWalker.g:400:9: ^( VAR SET )
+                    {
+                    match(input,VAR,FOLLOW_VAR_in_var_pred_param_type1496); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, SET, FOLLOW_SET_in_var_pred_param_type1498);
+                    match(input, Token.DOWN, null); 
+                    match(input,SET,FOLLOW_SET_in_var_pred_param_type1498); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
-                case 3:
-                    // parser/flatzinc/FlatzincWalker.g:398:9: ^( ARRAY ( index_set )+ ^( VAR SET ) )
-                {
-                    match(input, ARRAY, FOLLOW_ARRAY_in_var_pred_param_type1510);
+                    }
+                    break;
+                case 3 :
+                    // parser/flatzinc/FlatzincWalker.g:401:9: ^( ARRAY ( index_set )+ ^( VAR SET ) )
+                    {
+                    match(input,ARRAY,FOLLOW_ARRAY_in_var_pred_param_type1510); 
 
-                    match(input, Token.DOWN, null);
-                    // parser/flatzinc/FlatzincWalker.g:398:17: ( index_set )+
-                    int cnt38 = 0;
+                    match(input, Token.DOWN, null); 
+                    // parser/flatzinc/FlatzincWalker.g:401:17: ( index_set )+
+                    int cnt38=0;
                     loop38:
                     do {
-                        int alt38 = 2;
-                        switch (input.LA(1)) {
-                            case INDEX: {
-                                alt38 = 1;
-                            }
-                            break;
+                        int alt38=2;
+                        int LA38_0 = input.LA(1);
 
+                        if ( (LA38_0==INDEX) ) {
+                            alt38=1;
                         }
 
+
                         switch (alt38) {
-                            case 1:
-                                // parser/flatzinc/FlatzincWalker.g:398:17: index_set
-                            {
-                                pushFollow(FOLLOW_index_set_in_var_pred_param_type1512);
-                                index_set();
+                    	case 1 :
+                    	    // parser/flatzinc/FlatzincWalker.g:401:17: index_set
+                    	    {
+                    	    pushFollow(FOLLOW_index_set_in_var_pred_param_type1512);
+                    	    index_set();
 
-                                state._fsp--;
+                    	    state._fsp--;
 
 
-                            }
-                            break;
+                    	    }
+                    	    break;
 
-                            default:
-                                if (cnt38 >= 1) break loop38;
+                    	default :
+                    	    if ( cnt38 >= 1 ) break loop38;
                                 EarlyExitException eee =
-                                        new EarlyExitException(38, input);
+                                    new EarlyExitException(38, input);
                                 throw eee;
                         }
                         cnt38++;
                     } while (true);
 
 
-                    match(input, VAR, FOLLOW_VAR_in_var_pred_param_type1516);
+                    match(input,VAR,FOLLOW_VAR_in_var_pred_param_type1516); 
 
-                    match(input, Token.DOWN, null);
-                    match(input, SET, FOLLOW_SET_in_var_pred_param_type1518);
+                    match(input, Token.DOWN, null); 
+                    match(input,SET,FOLLOW_SET_in_var_pred_param_type1518); 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                    match(input, Token.UP, null);
+                    match(input, Token.UP, null); 
 
 
-                }
-                break;
+                    }
+                    break;
 
             }
-        } catch (RecognitionException re) {
+        }
+        catch (RecognitionException re) {
             reportError(re);
-            recover(input, re);
-        } finally {
-            // do for sure before leaving
+            recover(input,re);
+        }
+
+        finally {
+        	// do for sure before leaving
         }
-        return;
+        return ;
     }
     // $ANTLR end "var_pred_param_type"
 
@@ -2826,22 +2883,22 @@ public class FlatzincWalker extends TreeParser {
     protected DFA28 dfa28 = new DFA28(this);
     protected DFA37 dfa37 = new DFA37(this);
     static final String DFA28_eotS =
-            "\17\uffff";
+        "\17\uffff";
     static final String DFA28_eofS =
-            "\17\uffff";
+        "\17\uffff";
     static final String DFA28_minS =
-            "\1\5\1\uffff\1\2\1\uffff\1\33\1\2\1\21\1\2\1\3\1\35\1\15\1\35\2" +
-                    "\3\1\15";
+        "\1\5\1\uffff\1\2\1\uffff\1\33\1\2\1\21\1\2\1\3\1\35\1\15\1\35\2"+
+        "\3\1\15";
     static final String DFA28_maxS =
-            "\1\63\1\uffff\1\2\1\uffff\1\33\1\2\1\34\1\2\1\3\1\35\1\63\1\35\2" +
-                    "\3\1\63";
+        "\1\63\1\uffff\1\2\1\uffff\1\33\1\2\1\34\1\2\1\3\1\35\1\63\1\35\2"+
+        "\3\1\63";
     static final String DFA28_acceptS =
-            "\1\uffff\1\1\1\uffff\1\2\13\uffff";
+        "\1\uffff\1\1\1\uffff\1\2\13\uffff";
     static final String DFA28_specialS =
-            "\17\uffff}>";
+        "\17\uffff}>";
     static final String[] DFA28_transitionS = {
-            "\1\1\1\2\1\1\5\uffff\1\1\3\uffff\1\1\34\uffff\1\1\4\uffff\1" +
-                    "\3",
+            "\1\1\1\2\1\1\5\uffff\1\1\3\uffff\1\1\34\uffff\1\1\4\uffff\1"+
+            "\3",
             "",
             "\1\4",
             "",
@@ -2869,7 +2926,7 @@ public class FlatzincWalker extends TreeParser {
     static {
         int numStates = DFA28_transitionS.length;
         DFA28_transition = new short[numStates][];
-        for (int i = 0; i < numStates; i++) {
+        for (int i=0; i<numStates; i++) {
             DFA28_transition[i] = DFA.unpackEncodedString(DFA28_transitionS[i]);
         }
     }
@@ -2887,27 +2944,25 @@ public class FlatzincWalker extends TreeParser {
             this.special = DFA28_special;
             this.transition = DFA28_transition;
         }
-
         public String getDescription() {
-            return "374:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );";
+            return "377:1: pred_param_type : ( par_pred_param_type | var_pred_param_type );";
         }
     }
-
     static final String DFA37_eotS =
-            "\32\uffff";
+        "\32\uffff";
     static final String DFA37_eofS =
-            "\32\uffff";
+        "\32\uffff";
     static final String DFA37_minS =
-            "\1\5\3\uffff\2\2\1\15\1\33\2\uffff\1\2\1\21\1\2\1\3\1\35\1\15\1" +
-                    "\35\2\uffff\1\2\1\3\1\15\1\3\2\uffff\1\15";
+        "\1\5\3\uffff\2\2\1\15\1\33\2\uffff\1\2\1\21\1\2\1\3\1\35\1\15\1"+
+        "\35\2\uffff\1\2\1\3\1\15\1\3\2\uffff\1\15";
     static final String DFA37_maxS =
-            "\1\56\3\uffff\2\2\1\21\1\33\2\uffff\1\2\1\34\1\2\1\3\1\35\1\56\1" +
-                    "\35\2\uffff\1\2\1\3\1\21\1\3\2\uffff\1\56";
+        "\1\56\3\uffff\2\2\1\21\1\33\2\uffff\1\2\1\34\1\2\1\3\1\35\1\56\1"+
+        "\35\2\uffff\1\2\1\3\1\21\1\3\2\uffff\1\56";
     static final String DFA37_acceptS =
-            "\1\uffff\1\1\1\2\1\3\4\uffff\1\4\1\5\7\uffff\1\6\1\7\4\uffff\1\10" +
-                    "\1\11\1\uffff";
+        "\1\uffff\1\1\1\2\1\3\4\uffff\1\4\1\5\7\uffff\1\6\1\7\4\uffff\1\10"+
+        "\1\11\1\uffff";
     static final String DFA37_specialS =
-            "\32\uffff}>";
+        "\32\uffff}>";
     static final String[] DFA37_transitionS = {
             "\1\1\1\5\1\1\5\uffff\1\3\3\uffff\1\2\34\uffff\1\4",
             "",
@@ -2948,7 +3003,7 @@ public class FlatzincWalker extends TreeParser {
     static {
         int numStates = DFA37_transitionS.length;
         DFA37_transition = new short[numStates][];
-        for (int i = 0; i < numStates; i++) {
+        for (int i=0; i<numStates; i++) {
             DFA37_transition[i] = DFA.unpackEncodedString(DFA37_transitionS[i]);
         }
     }
@@ -2966,12 +3021,11 @@ public class FlatzincWalker extends TreeParser {
             this.special = DFA37_special;
             this.transition = DFA37_transition;
         }
-
         public String getDescription() {
-            return "380:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );";
+            return "383:1: par_pred_param_type : ( par_type | ^( DD INT_CONST INT_CONST ) | ^( CM ( INT_CONST )+ ) | ^( SET ^( DD INT_CONST INT_CONST ) ) | ^( SET ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( DD INT_CONST INT_CONST ) ) | ^( ARRAY ( index_set )+ ^( CM ( INT_CONST )+ ) ) | ^( ARRAY ( index_set )+ ^( SET ^( DD INT_CONST INT_CONST ) ) ) | ^( ARRAY ( index_set )+ ^( SET ^( CM ( INT_CONST )+ ) ) ) );";
         }
     }
-
+ 
 
     public static final BitSet FOLLOW_pred_decl_in_flatzinc_model52 = new BitSet(new long[]{0x0008814000008000L});
     public static final BitSet FOLLOW_param_decl_in_flatzinc_model57 = new BitSet(new long[]{0x0008804000008000L});
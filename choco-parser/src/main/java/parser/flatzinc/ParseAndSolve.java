@@ -48,9 +48,12 @@ import solver.propagation.hardcoded.SevenQueuesPropagatorEngine;
 import solver.propagation.hardcoded.VariableEngine;
 import solver.search.loop.monitors.AverageCSV;
 import solver.search.strategy.pattern.SearchPattern;
+import solver.thread.IWorkerFactory;
+import solver.thread.Portfolio;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
@@ -86,12 +89,15 @@ public class ParseAndSolve {
     @Option(name = "-seed", usage = "Seed for randomness", required = false)
     protected long seed = 29091981L;
 
-    @Option(name = "-p", aliases = {"--nb-cores"}, usage = "Number of cores available for parallel search", required = false)
+    @Option(name = "-p", aliases = {"--nb-cores"}, usage = "Number of cores available for parallel search: as many workers, sharing the best bound, are run (ignored with -a)", required = false)
     protected int nb_cores = 1;
 
     @Option(name = "-tl", aliases = {"--time-limit"}, usage = "Time limit.", required = false)
     protected long tl = -1;
 
+    @Option(name = "-np", aliases = {"--no-presolve"}, usage = "Post the constraints as declared, without presolving them.", required = false)
+    protected boolean nopresolve = false;
+
     @Option(name = "-e", aliases = {"--engine"}, usage = "Engine Number.\n0: constraint\n1: variable\n2: 7q cstrs\n3: 8q cstrs." +
             "\n4: 8q vars\n5: abs\n6: arcs\n-1: default", required = false)
     protected byte eng = -1;
@@ -134,7 +140,18 @@ public class ParseAndSolve {
         parseandsolve();
     }
 
-    public void buildParser(InputStream is, Solver mSolver, THashMap<String, Object> map, GoalConf gc) {
+    public FZNLayout buildParser(InputStream is, Solver mSolver, THashMap<String, Object> map, GoalConf gc) {
+        CommonTree t = parse(is);
+        return t == null ? null : walk(t, mSolver, map, gc);
+    }
+
+    /**
+     * Parse a flatzinc model.
+     *
+     * @param is input stream of the model
+     * @return the syntax tree of the model, <code>null</code> if it cannot be parsed
+     */
+    public CommonTree parse(InputStream is) {
         try {
             // Create an input character stream from standard in
             ANTLRInputStream input = new ANTLRInputStream(is);
@@ -146,18 +163,36 @@ public class ParseAndSolve {
             FlatzincParser parser = new FlatzincParser(tokens);
             // Begin parsing at rule prog, get return value structure
             FlatzincParser.flatzinc_model_return r = parser.flatzinc_model();
+            return (CommonTree) r.getTree(); // get tree from parser
+        } catch (IOException io) {
+            Exit.log(io.getMessage());
+        } catch (RecognitionException re) {
+            Exit.log(re.getMessage());
+        }
+        return null;
+    }
 
-            // WALK RESULTING TREE
-            CommonTree t = (CommonTree) r.getTree(); // get tree from parser
+    /**
+     * Build the model described by the syntax tree <code>t</code> into <code>mSolver</code>.
+     * The tree is left unchanged, so it can be walked once per solver.
+     *
+     * @param t       syntax tree, see {@link #parse(java.io.InputStream)}
+     * @param mSolver the solver to fill
+     * @param map     maps names and objects of the model
+     * @param gc      goal configuration
+     * @return the output layout of the model, <code>null</code> if it cannot be built
+     */
+    public FZNLayout walk(CommonTree t, Solver mSolver, THashMap<String, Object> map, GoalConf gc) {
+        try {
             // Create a tree node stream from resulting tree
             CommonTreeNodeStream nodes = new CommonTreeNodeStream(t);
             FlatzincWalker walker = new FlatzincWalker(nodes); // create a tree parser
             walker.flatzinc_model(mSolver, map, gc);                 // launch at start rule prog
-        } catch (IOException io) {
-            Exit.log(io.getMessage());
+            return walker.mLayout;
         } catch (RecognitionException re) {
             Exit.log(re.getMessage());
         }
+        return null;
     }
 
 
@@ -175,8 +210,12 @@ public class ParseAndSolve {
                     }
                 });
             }
-            GoalConf gc = new GoalConf(free, bbss, decision_vars, all, seed, searchp, tl);
+            GoalConf gc = new GoalConf(free, bbss, decision_vars, all, seed, searchp, tl, !nopresolve);
             for (int i = 0; i < l; i++) {
+                if (nb_cores > 1 && !all) {
+                    parallelSolve(instance, gc, acsv);
+                    continue;
+                }
                 LOGGER.info("% parse instance...");
                 Solver solver = new Solver();
                 long creationTime = -System.nanoTime();
@@ -207,6 +246,75 @@ public class ParseAndSolve {
         userinterruption = false;
     }
 
+    /**
+     * Solve <code>instance</code> with a portfolio of <code>nb_cores</code> workers.
+     * The instance is parsed once; each worker builds its own model from the syntax tree,
+     * and runs a black-box search (see -bbss) with its own seed:
+     * worker <i>w</i> cycles over activity, impact and dom/wdeg from the selected strategy, and uses <code>seed + w</code>.
+     * The first worker keeps the search annotations of the instance, if any.
+     * Workers share the best bound found so far, and stop as soon as one of them completes the resolution.
+     *
+     * @return the solver of the best worker, <code>null</code> if no worker has found a solution
+     */
+    protected Solver parallelSolve(final String instance, GoalConf gc, AverageCSV acsv) {
+        LOGGER.info("% parse instance...");
+        final CommonTree tree;
+        try {
+            tree = parse(new FileInputStream(new File(instance)));
+        } catch (FileNotFoundException e) {
+            throw new FZNException(e);
+        }
+        if (tree == null) {
+            throw new FZNException("Cannot parse " + instance);
+        }
+        final GoalConf[] gcs = new GoalConf[nb_cores];
+        final FZNLayout[] layouts = new FZNLayout[nb_cores];
+        final FZNLayout.SharedOutput output = new FZNLayout.SharedOutput();
+        Portfolio portfolio = new Portfolio(new IWorkerFactory() {
+            @Override
+            public Solver make(int worker) {
+                int wbbss = worker == 0 ? bbss : (bbss - 1 + worker) % 3 + 1;
+                gcs[worker] = new GoalConf(free || worker > 0, wbbss, decision_vars, false, seed + worker, searchp, tl, !nopresolve);
+                Solver solver = new Solver();
+                long creationTime = -System.nanoTime();
+                THashMap<String, Object> map = new THashMap<String, Object>();
+                layouts[worker] = walk(tree, solver, map, gcs[worker]);
+                if (layouts[worker] == null) {
+                    throw new FZNException("Cannot build the model of worker " + worker);
+                }
+                layouts[worker].setSharedOutput(output);
+                makeEngine(solver);
+                if (!solver.getExplainer().isActive()) {
+                    if (expeng != ExplanationFactory.NONE) {
+                        expeng.plugin(solver, fexp);
+                    } else if (fexp) {
+                        ExplanationFactory.SILENT.plugin(solver, fexp);
+                    }
+                }
+                solver.getSearchLoop().getMeasures().setReadingTimeCount(creationTime + System.nanoTime());
+                return solver;
+            }
+        }, nb_cores);
+        LOGGER.info("% solve instance with {} workers...", nb_cores);
+        portfolio.setTimeLimit(tl);
+        Solver best = portfolio.solve();
+        int w = 0;
+        if (best != null) {
+            while (portfolio.getWorkers()[w] != best) {
+                w++;
+            }
+        }
+        if (layouts[w].searchLoop != null) {
+            layouts[w].afterParallelResolution(portfolio.isCompleteSearch());
+        }
+        gc.setDescription(gcs[w].getDescription());
+        if (acsv != null) {
+            acsv.setSolver(portfolio.getWorkers()[w]);
+            acsv.afterClose();
+        }
+        return best;
+    }
+
     protected void makeEngine(Solver solver) {
         switch (eng) {
             case 0:
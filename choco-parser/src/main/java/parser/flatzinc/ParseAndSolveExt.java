@@ -62,7 +62,7 @@ public class ParseAndSolveExt extends ParseAndSolve {
     }
 
     @Override
-    public void buildParser(InputStream is, Solver mSolver, THashMap<String, Object> map, GoalConf gc) {
+    public CommonTree parse(InputStream is) {
         try {
             // Create an input character stream from standard in
             ANTLRInputStream input = new ANTLRInputStream(is);
@@ -74,18 +74,27 @@ public class ParseAndSolveExt extends ParseAndSolve {
             FlatzincFullExtParser parser = new FlatzincFullExtParser(tokens);
             // Begin parsing at rule prog, get return value structure
             FlatzincFullExtParser.flatzinc_ext_model_return r = parser.flatzinc_ext_model();
+            return (CommonTree) r.getTree(); // get tree from parser
+        } catch (IOException io) {
+            Exit.log(io.getMessage());
+        } catch (RecognitionException re) {
+            Exit.log(re.getMessage());
+        }
+        return null;
+    }
 
-            // WALK RESULTING TREE
-            CommonTree t = (CommonTree) r.getTree(); // get tree from parser
+    @Override
+    public FZNLayout walk(CommonTree t, Solver mSolver, THashMap<String, Object> map, GoalConf gc) {
+        try {
             // Create a tree node stream from resulting tree
             CommonTreeNodeStream nodes = new CommonTreeNodeStream(t);
             FlatzincFullExtWalker walker = new FlatzincFullExtWalker(nodes); // create a tree parser
             walker.flatzinc_model(mSolver, map, gc);                 // launch at start rule prog
-        } catch (IOException io) {
-            Exit.log(io.getMessage());
+            return walker.mLayout;
         } catch (RecognitionException re) {
             Exit.log(re.getMessage());
         }
+        return null;
     }
 
     @Override
@@ -0,0 +1,1231 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package parser.flatzinc.ast;
+
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gnu.trove.set.hash.THashSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import parser.flatzinc.ast.constraints.global.TableBuilder;
+import parser.flatzinc.ast.expression.*;
+import solver.Cause;
+import solver.Solver;
+import solver.constraints.Constraint;
+import solver.constraints.IntConstraintFactory;
+import solver.constraints.Operator;
+import solver.constraints.propagators.nary.cnf.PropClause;
+import solver.constraints.propagators.nary.cnf.PropFalse;
+import solver.exception.ContradictionException;
+import solver.variables.BoolVar;
+import solver.variables.IntVar;
+import solver.variables.Variable;
+import solver.variables.view.IView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A presolve stage between the walk of the constraints of a FlatZinc model and their posting.
+ * <br/>
+ * Constraints are recorded while the model is walked; once all of them are known, and before the goal is defined,
+ * they are simplified then posted:
+ * <ul>
+ * <li>unary constraints, and constraints with fixed variables only, are applied to the domains and dropped,</li>
+ * <li>introduced variables equal to another variable are replaced by it (aliases),</li>
+ * <li>an introduced variable defined by a linear equality and used in only one other linear constraint is substituted,
+ * both constraints are merged into a single linear one,</li>
+ * <li>y = SUM(a_k.b_k), where each b_k is reified by x = k, is replaced by an element constraint,</li>
+ * <li>cliques of disequalities are replaced by all-different constraints,</li>
+ * <li>groups of constraints over the same two or three variables, with small domains, are replaced by a table.</li>
+ * </ul>
+ * Only variables annotated with <code>var_is_introduced</code>, and neither printed in the output, nor referenced
+ * by the goal or by a view, are eliminated; they are then removed from the solver.
+ * If the presolve detects an inconsistency, a constraint which always fails is posted instead.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class FPresolver {
+
+    static Logger LOGGER = LoggerFactory.getLogger("fzn");
+
+    // maximum number of tuples of a detected table
+    private static final int MAX_TUPLES = 4096;
+
+    // maximum size of the index domain of a detected element
+    private static final int MAX_ELEMENT = 1 << 16;
+
+    private static final THashMap<String, String> SYNONYMS = new THashMap<String, String>();
+
+    static {
+        SYNONYMS.put("bool2int", "int_eq");
+        SYNONYMS.put("bool_eq", "int_eq");
+        SYNONYMS.put("bool_eq_reif", "int_eq_reif");
+        SYNONYMS.put("bool_le", "int_le");
+        SYNONYMS.put("bool_lin_eq", "int_lin_eq");
+        SYNONYMS.put("bool_lin_le", "int_lin_le");
+        SYNONYMS.put("bool_lt", "int_lt");
+        SYNONYMS.put("bool_not", "int_ne");
+    }
+
+    private static final class Item {
+        final String id; // as declared in the model
+        final String kind; // id, bool constraints being renamed into their int counterpart
+        final List<Expression> exps;
+        final List<EAnnotation> annotations;
+        Linear lin; // set for linear constraints, once normalized
+        boolean removed;
+
+        Item(String id, List<Expression> exps, List<EAnnotation> annotations) {
+            this.id = id;
+            this.kind = SYNONYMS.containsKey(id) ? SYNONYMS.get(id) : id;
+            this.exps = exps;
+            this.annotations = annotations;
+        }
+
+        boolean isLinear() {
+            return kind.equals("int_lin_eq") || kind.equals("int_lin_le") || kind.equals("int_lin_ne");
+        }
+    }
+
+    /**
+     * SUM(coeffs_i.vars_i) OP b, where OP is one of EQ, LE or NQ.
+     */
+    private static final class Linear {
+        final IntVar[] vars;
+        final int[] coeffs;
+        final int b;
+        final Operator op;
+
+        Linear(IntVar[] vars, int[] coeffs, int b, Operator op) {
+            this.vars = vars;
+            this.coeffs = coeffs;
+            this.b = b;
+            this.op = op;
+        }
+
+        int indexOf(IntVar var) {
+            for (int i = 0; i < vars.length; i++) {
+                if (vars[i] == var) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    final List<Item> items = new ArrayList<Item>();
+
+    // variables introduced by the flattening, candidates for elimination
+    final THashSet<IntVar> introduced = new THashSet<IntVar>();
+
+    // variables which cannot be eliminated
+    final THashSet<IntVar> protect = new THashSet<IntVar>();
+
+    // eliminated variable to its substitute
+    final THashMap<IntVar, IntVar> aliases = new THashMap<IntVar, IntVar>();
+
+    final List<IntVar> eliminated = new ArrayList<IntVar>();
+
+    Solver solver;
+
+    int nbRemoved; // number of constraints removed or replaced
+
+    /**
+     * Record a constraint of the model, it will be posted by {@link #post_constraints}.
+     */
+    public void add_constraint(String id, List<Expression> exps, List<EAnnotation> annotations) {
+        items.add(new Item(id, exps, annotations));
+    }
+
+    /**
+     * Declare <code>object</code> as a variable introduced by the flattening.
+     */
+    public void set_introduced(Object object) {
+        if (object instanceof IntVar) {
+            introduced.add((IntVar) object);
+        }
+    }
+
+    /**
+     * Declare <code>object</code>, a variable or an array of variables, as printed in the output: it cannot be
+     * eliminated.
+     */
+    public void set_output(Object object) {
+        if (object instanceof IntVar) {
+            protect.add((IntVar) object);
+        } else if (object instanceof IntVar[]) {
+            protect.addAll(Arrays.asList((IntVar[]) object));
+        }
+    }
+
+    /**
+     * Presolve the recorded constraints, if required by <code>gc</code>, and post them into <code>aSolver</code>.
+     *
+     * @param gc          goal configuration
+     * @param aSolver     the solver
+     * @param map         maintains map between name and objects
+     * @param annotations annotations of the goal
+     * @param objective   objective of the goal, <code>null</code> for satisfaction problems
+     */
+    public void post_constraints(GoalConf gc, Solver aSolver, THashMap<String, Object> map,
+                                 List<EAnnotation> annotations, Expression objective) {
+        this.solver = aSolver;
+        if (gc.presolve) {
+            long time = -System.currentTimeMillis();
+            for (int i = 0; i < annotations.size(); i++) {
+                collect(annotations.get(i), protect);
+            }
+            if (objective != null) {
+                collect(objective, protect);
+            }
+            Variable[] vars = solver.getVars();
+            for (int i = 0; i < vars.length; i++) {
+                if ((vars[i].getTypeAndKind() & Variable.VIEW) != 0) {
+                    Variable base = ((IView) vars[i]).getVariable();
+                    if (base instanceof IntVar) {
+                        protect.add((IntVar) base);
+                    }
+                }
+            }
+            try {
+                fixpoint();
+                for (int i = 0; i < items.size(); i++) {
+                    Item it = items.get(i);
+                    if (!it.removed && it.isLinear()) {
+                        it.lin = linear(it);
+                    }
+                }
+                eliminateChains();
+                detectElements(map);
+                detectAllDifferents(map);
+                detectTables(map);
+            } catch (ContradictionException e) {
+                LOGGER.info("% presolve: inconsistent model");
+                postFalse();
+                return;
+            }
+            time += System.currentTimeMillis();
+            LOGGER.info("% presolve: {} constraints removed, {} variables eliminated ({}ms)",
+                    new Object[]{nbRemoved, eliminated.size(), time});
+        }
+        post(map);
+    }
+
+    /**
+     * Post the recorded constraints into <code>aSolver</code> as they are, without presolve.
+     * This is required when the constraints must be known before the goal is read, for instance to declare
+     * a propagation engine.
+     *
+     * @param aSolver the solver
+     * @param map     maintains map between name and objects
+     */
+    public void post_constraints(Solver aSolver, THashMap<String, Object> map) {
+        this.solver = aSolver;
+        post(map);
+    }
+
+    private void post(THashMap<String, Object> map) {
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            if (!it.removed) {
+                if (it.lin != null) {
+                    post(it.lin, map, it.annotations);
+                } else {
+                    List<Expression> exps = new ArrayList<Expression>(it.exps.size());
+                    for (int j = 0; j < it.exps.size(); j++) {
+                        exps.add(rewrite(it.exps.get(j)));
+                    }
+                    FConstraint.make_constraint(solver, map, it.id, exps, it.annotations);
+                }
+            }
+        }
+        // the constraints are posted once
+        items.clear();
+        List<Variable> unused = new ArrayList<Variable>(eliminated.size());
+        for (int i = 0; i < eliminated.size(); i++) {
+            if (eliminated.get(i).getNbProps() == 0) {
+                unused.add(eliminated.get(i));
+            }
+        }
+        if (unused.size() > 0) {
+            solver.unassociates(unused.toArray(new Variable[unused.size()]));
+        }
+        eliminated.clear();
+    }
+
+    //***********************************************************************************
+    // TERMS
+    //***********************************************************************************
+
+    private IntVar find(IntVar var) {
+        IntVar rep = aliases.get(var);
+        if (rep == null) {
+            return var;
+        }
+        rep = find(rep);
+        aliases.put(var, rep);
+        return rep;
+    }
+
+    /**
+     * Return an Integer if <code>var</code> is instantiated, its representative otherwise.
+     */
+    private Object term(IntVar var) {
+        IntVar rep = find(var);
+        if (rep.instantiated()) {
+            return rep.getValue();
+        }
+        return rep;
+    }
+
+    /**
+     * Return the Integer or the (representative) variable denoted by <code>e</code>, <code>null</code> otherwise.
+     */
+    private Object term(Expression e) {
+        switch (e.getTypeOf()) {
+            case INT:
+            case BOO:
+                return e.intValue();
+            case IDE:
+                return object(((EIdentifier) e).object);
+            case IDA:
+                return object(((EIdArray) e).getObject());
+            default:
+                return null;
+        }
+    }
+
+    private Object object(Object o) {
+        if (o instanceof Integer) {
+            return o;
+        } else if (o instanceof Boolean) {
+            return ((Boolean) o) ? 1 : 0;
+        } else if (o instanceof IntVar) {
+            return term((IntVar) o);
+        }
+        return null;
+    }
+
+    /**
+     * Return the terms of the array denoted by <code>e</code>, <code>null</code> if it is not an array of terms.
+     */
+    private Object[] terms(Expression e) {
+        Object[] terms = null;
+        switch (e.getTypeOf()) {
+            case ARR:
+                List<Expression> what = ((EArray) e).what;
+                terms = new Object[what.size()];
+                for (int i = 0; i < terms.length; i++) {
+                    terms[i] = term(what.get(i));
+                    if (terms[i] == null) {
+                        return null;
+                    }
+                }
+                break;
+            case IDE:
+                Object o = ((EIdentifier) e).object;
+                if (o instanceof int[]) {
+                    int[] values = (int[]) o;
+                    terms = new Object[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        terms[i] = values[i];
+                    }
+                } else if (o instanceof boolean[]) {
+                    boolean[] values = (boolean[]) o;
+                    terms = new Object[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        terms[i] = values[i] ? 1 : 0;
+                    }
+                } else if (o instanceof IntVar[]) {
+                    IntVar[] vars = (IntVar[]) o;
+                    terms = new Object[vars.length];
+                    for (int i = 0; i < vars.length; i++) {
+                        terms[i] = term(vars[i]);
+                    }
+                }
+                break;
+        }
+        return terms;
+    }
+
+    /**
+     * Add the (representative) variables referenced by <code>e</code> into <code>vars</code>.
+     */
+    private void collect(Expression e, List<IntVar> vars) {
+        switch (e.getTypeOf()) {
+            case IDE:
+            case IDA:
+            case ARR:
+                Object t = term(e);
+                if (t instanceof IntVar) {
+                    vars.add((IntVar) t);
+                } else if (t == null) {
+                    if (e.getTypeOf() == Expression.EType.ARR) {
+                        List<Expression> what = ((EArray) e).what;
+                        for (int i = 0; i < what.size(); i++) {
+                            collect(what.get(i), vars);
+                        }
+                    } else if (e.getTypeOf() == Expression.EType.IDE && ((EIdentifier) e).object instanceof IntVar[]) {
+                        IntVar[] ivars = (IntVar[]) ((EIdentifier) e).object;
+                        for (int i = 0; i < ivars.length; i++) {
+                            Object ti = term(ivars[i]);
+                            if (ti instanceof IntVar) {
+                                vars.add((IntVar) ti);
+                            }
+                        }
+                    }
+                }
+                break;
+            case ANN:
+                List<Expression> exps = ((EAnnotation) e).exps;
+                for (int i = 0; i < exps.size(); i++) {
+                    collect(exps.get(i), vars);
+                }
+                break;
+        }
+    }
+
+    private void collect(Expression e, THashSet<IntVar> set) {
+        List<IntVar> vars = new ArrayList<IntVar>();
+        collect(e, vars);
+        set.addAll(vars);
+    }
+
+    private boolean canEliminate(IntVar var) {
+        return introduced.contains(var) && !protect.contains(var) && (var.getTypeAndKind() & Variable.VAR) != 0;
+    }
+
+    private void eliminate(IntVar var) {
+        eliminated.add(var);
+    }
+
+    /**
+     * Replace the eliminated variables referenced by <code>e</code> by their representative.
+     */
+    private Expression rewrite(Expression e) {
+        switch (e.getTypeOf()) {
+            case IDE:
+                Object o = ((EIdentifier) e).object;
+                if (o instanceof IntVar) {
+                    IntVar rep = find((IntVar) o);
+                    return rep == o ? e : identifier(rep.getName(), rep);
+                } else if (o instanceof IntVar[]) {
+                    IntVar[] vars = (IntVar[]) o;
+                    IntVar[] reps = null;
+                    for (int i = 0; i < vars.length; i++) {
+                        IntVar rep = find(vars[i]);
+                        if (rep != vars[i]) {
+                            if (reps == null) {
+                                reps = vars.clone();
+                            }
+                            reps[i] = rep;
+                        }
+                    }
+                    return reps == null ? e : identifier(e.toString(), reps);
+                }
+                return e;
+            case IDA:
+                o = ((EIdArray) e).getObject();
+                if (o instanceof IntVar) {
+                    IntVar rep = find((IntVar) o);
+                    return rep == o ? e : identifier(rep.getName(), rep);
+                }
+                return e;
+            case ARR:
+                List<Expression> what = ((EArray) e).what;
+                List<Expression> nwhat = null;
+                for (int i = 0; i < what.size(); i++) {
+                    Expression ne = rewrite(what.get(i));
+                    if (ne != what.get(i) && nwhat == null) {
+                        nwhat = new ArrayList<Expression>(what.subList(0, i));
+                    }
+                    if (nwhat != null) {
+                        nwhat.add(ne);
+                    }
+                }
+                return nwhat == null ? e : new EArray(nwhat);
+            default:
+                return e;
+        }
+    }
+
+    private static EIdentifier identifier(String name, Object object) {
+        THashMap<String, Object> map = new THashMap<String, Object>(1);
+        map.put(name, object);
+        return new EIdentifier(map, name);
+    }
+
+    //***********************************************************************************
+    // DOMAINS -- the propagation engine is not set yet, wipe-outs are detected beforehand
+    //***********************************************************************************
+
+    private static void instantiate(IntVar var, int value) throws ContradictionException {
+        if (!var.contains(value)) {
+            throw new ContradictionException();
+        }
+        var.instantiateTo(value, Cause.Null);
+    }
+
+    private static void updateLB(IntVar var, int lb) throws ContradictionException {
+        if (lb > var.getUB()) {
+            throw new ContradictionException();
+        }
+        var.updateLowerBound(lb, Cause.Null);
+    }
+
+    private static void updateUB(IntVar var, int ub) throws ContradictionException {
+        if (ub < var.getLB()) {
+            throw new ContradictionException();
+        }
+        var.updateUpperBound(ub, Cause.Null);
+    }
+
+    private static void remove(IntVar var, int value) throws ContradictionException {
+        if (var.instantiatedTo(value)) {
+            throw new ContradictionException();
+        }
+        var.removeValue(value, Cause.Null);
+    }
+
+    private static void check(boolean sat) throws ContradictionException {
+        if (!sat) {
+            throw new ContradictionException();
+        }
+    }
+
+    //***********************************************************************************
+    // FIXED VARIABLES AND ALIASES
+    //***********************************************************************************
+
+    private void fixpoint() throws ContradictionException {
+        boolean change = true;
+        while (change) {
+            change = false;
+            for (int i = 0; i < items.size(); i++) {
+                Item it = items.get(i);
+                if (!it.removed && simplify(it)) {
+                    it.removed = true;
+                    nbRemoved++;
+                    change = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply <code>it</code> to the domains when possible.
+     *
+     * @return <code>true</code> if <code>it</code> is entailed
+     */
+    private boolean simplify(Item it) throws ContradictionException {
+        if (it.isLinear()) {
+            Linear l = linear(it);
+            return l != null && l.vars.length <= 1 && apply(l);
+        }
+        boolean lt = false;
+        if (it.kind.equals("int_eq")) {
+            Object a = term(it.exps.get(0)), b = term(it.exps.get(1));
+            if (a instanceof Integer && b instanceof Integer) {
+                check(a.equals(b));
+                return true;
+            } else if (a instanceof Integer && b instanceof IntVar) {
+                instantiate((IntVar) b, (Integer) a);
+                return true;
+            } else if (b instanceof Integer && a instanceof IntVar) {
+                instantiate((IntVar) a, (Integer) b);
+                return true;
+            } else if (a != null && b != null) {
+                return a == b || alias((IntVar) a, (IntVar) b);
+            }
+        } else if (it.kind.equals("int_ne")) {
+            Object a = term(it.exps.get(0)), b = term(it.exps.get(1));
+            if (a instanceof Integer && b instanceof Integer) {
+                check(!a.equals(b));
+                return true;
+            } else if (a instanceof Integer && b instanceof IntVar) {
+                remove((IntVar) b, (Integer) a);
+                return true;
+            } else if (b instanceof Integer && a instanceof IntVar) {
+                remove((IntVar) a, (Integer) b);
+                return true;
+            }
+            check(a == null || a != b);
+        } else if ((lt = it.kind.equals("int_lt")) || it.kind.equals("int_le")) {
+            // a <= b - delta
+            int delta = lt ? 1 : 0;
+            Object a = term(it.exps.get(0)), b = term(it.exps.get(1));
+            if (a instanceof Integer && b instanceof Integer) {
+                check((Integer) a <= (Integer) b - delta);
+                return true;
+            } else if (a instanceof Integer && b instanceof IntVar) {
+                updateLB((IntVar) b, (Integer) a + delta);
+                return true;
+            } else if (b instanceof Integer && a instanceof IntVar) {
+                updateUB((IntVar) a, (Integer) b - delta);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replace <code>a</code> by <code>b</code>, or <code>b</code> by <code>a</code>, when possible.
+     *
+     * @return <code>true</code> if a variable has been replaced
+     */
+    private boolean alias(IntVar a, IntVar b) throws ContradictionException {
+        IntVar x, y; // y is replaced by x
+        if (canEliminate(b) && (!(b instanceof BoolVar) || a instanceof BoolVar) && canHold(a, b)) {
+            x = a;
+            y = b;
+        } else if (canEliminate(a) && (!(a instanceof BoolVar) || b instanceof BoolVar) && canHold(b, a)) {
+            x = b;
+            y = a;
+        } else {
+            return false;
+        }
+        // x takes the domain of y into account
+        int lb = Math.max(x.getLB(), y.getLB());
+        int ub = Math.min(x.getUB(), y.getUB());
+        check(lb <= ub);
+        if (x.hasEnumeratedDomain() && y.getDomainSize() < y.getUB() - y.getLB() + 1) {
+            boolean support = false;
+            for (int v = lb; v <= ub && !support; v = x.nextValue(v)) {
+                support = y.contains(v);
+            }
+            check(support);
+            for (int v = x.getLB(); v <= x.getUB(); v = x.nextValue(v)) {
+                if (!y.contains(v)) {
+                    x.removeValue(v, Cause.Null);
+                }
+            }
+        }
+        updateLB(x, lb);
+        updateUB(x, ub);
+        aliases.put(y, x);
+        eliminate(y);
+        return true;
+    }
+
+    /**
+     * Return <code>true</code> if the domain of <code>y</code> can be transferred to <code>x</code>.
+     */
+    private static boolean canHold(IntVar x, IntVar y) {
+        return x.hasEnumeratedDomain() || y.getDomainSize() == y.getUB() - y.getLB() + 1;
+    }
+
+    //***********************************************************************************
+    // LINEAR CONSTRAINTS
+    //***********************************************************************************
+
+    /**
+     * Normalize a linear constraint: fixed variables are moved to the right member, aliases are resolved,
+     * coefficients of a same variable are merged.
+     *
+     * @return the normalized linear constraint, <code>null</code> if it cannot be normalized
+     */
+    private Linear linear(Item it) {
+        int[] as = it.exps.get(0).toIntArray();
+        Object[] ts = terms(it.exps.get(1));
+        Object c = term(it.exps.get(2));
+        if (ts == null || c == null || ts.length != as.length) {
+            return null;
+        }
+        List<IntVar> vars = new ArrayList<IntVar>(ts.length);
+        TObjectIntHashMap<IntVar> coeffs = new TObjectIntHashMap<IntVar>(ts.length);
+        long b = 0;
+        for (int i = 0; i <= ts.length; i++) {
+            int a = i < ts.length ? as[i] : -1;
+            Object t = i < ts.length ? ts[i] : c;
+            if (t instanceof Integer) {
+                b -= (long) a * (Integer) t;
+            } else {
+                IntVar v = (IntVar) t;
+                if (!coeffs.containsKey(v)) {
+                    vars.add(v);
+                }
+                coeffs.adjustOrPutValue(v, a, a);
+            }
+        }
+        Operator op = it.kind.equals("int_lin_eq") ? Operator.EQ : it.kind.equals("int_lin_le") ? Operator.LE : Operator.NQ;
+        return make(vars, coeffs, b, op);
+    }
+
+    private static Linear make(List<IntVar> vars, TObjectIntHashMap<IntVar> coeffs, long b, Operator op) {
+        if (b < Integer.MIN_VALUE || b > Integer.MAX_VALUE) {
+            return null;
+        }
+        int k = 0;
+        for (int i = 0; i < vars.size(); i++) {
+            if (coeffs.get(vars.get(i)) != 0) {
+                k++;
+            }
+        }
+        IntVar[] vs = new IntVar[k];
+        int[] cs = new int[k];
+        k = 0;
+        for (int i = 0; i < vars.size(); i++) {
+            int a = coeffs.get(vars.get(i));
+            if (a != 0) {
+                vs[k] = vars.get(i);
+                cs[k++] = a;
+            }
+        }
+        return new Linear(vs, cs, (int) b, op);
+    }
+
+    /**
+     * Apply a linear constraint over at most one variable to the domains.
+     */
+    private static boolean apply(Linear l) throws ContradictionException {
+        if (l.vars.length == 0) {
+            switch (l.op) {
+                case EQ:
+                    check(0 == l.b);
+                    break;
+                case LE:
+                    check(0 <= l.b);
+                    break;
+                default:
+                    check(0 != l.b);
+                    break;
+            }
+            return true;
+        }
+        IntVar x = l.vars[0];
+        int c = l.coeffs[0];
+        switch (l.op) {
+            case EQ:
+                check(l.b % c == 0);
+                instantiate(x, l.b / c);
+                break;
+            case LE:
+                if (c > 0) {
+                    updateUB(x, divFloor(l.b, c));
+                } else {
+                    updateLB(x, divCeil(l.b, c));
+                }
+                break;
+            default:
+                if (l.b % c == 0) {
+                    remove(x, l.b / c);
+                }
+                break;
+        }
+        return true;
+    }
+
+    private static int divFloor(int a, int b) {
+        int q = a / b;
+        return (a % b != 0 && ((a < 0) != (b < 0))) ? q - 1 : q;
+    }
+
+    private static int divCeil(int a, int b) {
+        int q = a / b;
+        return (a % b != 0 && ((a < 0) == (b < 0))) ? q + 1 : q;
+    }
+
+    /**
+     * For each variable occurring in at most two constraints, store the constraints.
+     */
+    private THashMap<IntVar, Item[]> occurrences() {
+        THashMap<IntVar, Item[]> occ = new THashMap<IntVar, Item[]>();
+        TObjectIntHashMap<IntVar> count = new TObjectIntHashMap<IntVar>();
+        List<IntVar> vars = new ArrayList<IntVar>();
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            if (it.removed) {
+                continue;
+            }
+            vars.clear();
+            if (it.lin != null) {
+                vars.addAll(Arrays.asList(it.lin.vars));
+            } else {
+                for (int j = 0; j < it.exps.size(); j++) {
+                    collect(it.exps.get(j), vars);
+                }
+            }
+            for (int j = 0; j < vars.size(); j++) {
+                IntVar v = vars.get(j);
+                int n = count.get(v);
+                if (n > 0 && n <= 2 && occ.get(v)[n - 1] == it) {
+                    continue; // already counted for this constraint
+                }
+                count.put(v, n + 1);
+                if (n == 0) {
+                    occ.put(v, new Item[2]);
+                }
+                if (n < 2) {
+                    occ.get(v)[n] = it;
+                } else if (n == 2) {
+                    occ.remove(v);
+                }
+            }
+        }
+        return occ;
+    }
+
+    private static Item other(Item[] its, Item it) {
+        return its[0] == it ? its[1] : its[0];
+    }
+
+    /**
+     * Substitute introduced variables defined by a linear equality and occurring in only one other linear constraint.
+     */
+    private void eliminateChains() {
+        boolean change = true;
+        while (change) {
+            change = false;
+            THashMap<IntVar, Item[]> occ = occurrences();
+            THashSet<Item> touched = new THashSet<Item>();
+            for (int i = 0; i < items.size(); i++) {
+                Item def = items.get(i);
+                if (def.removed || def.lin == null || def.lin.op != Operator.EQ || touched.contains(def)) {
+                    continue;
+                }
+                Linear l1 = def.lin;
+                for (int j = 0; j < l1.vars.length; j++) {
+                    IntVar t = l1.vars[j];
+                    Item[] its = occ.get(t);
+                    if (Math.abs(l1.coeffs[j]) != 1 || its == null || its[1] == null || !canEliminate(t)) {
+                        continue;
+                    }
+                    Item use = other(its, def);
+                    if (use.lin == null || touched.contains(use)) {
+                        continue;
+                    }
+                    Linear merged = substitute(t, l1, j, use.lin);
+                    if (merged != null) {
+                        use.lin = merged;
+                        def.removed = true;
+                        nbRemoved++;
+                        touched.add(def);
+                        touched.add(use);
+                        eliminate(t);
+                        change = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Substitute <code>t</code>, defined by <code>l1</code> (with a unit coefficient at position <code>j</code>),
+     * in <code>l2</code>.
+     *
+     * @return the merged linear constraint, <code>null</code> if the substitution is not safe
+     */
+    private static Linear substitute(IntVar t, Linear l1, int j, Linear l2) {
+        int ct = l1.coeffs[j];
+        // t = ct * (b1 - SUM(c_i.x_i)), its domain must not filter anything
+        if (t.getDomainSize() != t.getUB() - t.getLB() + 1) {
+            return null;
+        }
+        long min = (long) ct * l1.b, max = min;
+        for (int i = 0; i < l1.vars.length; i++) {
+            if (i != j) {
+                long f = -(long) ct * l1.coeffs[i];
+                long lo = f * l1.vars[i].getLB(), hi = f * l1.vars[i].getUB();
+                min += Math.min(lo, hi);
+                max += Math.max(lo, hi);
+            }
+        }
+        if (min < t.getLB() || max > t.getUB()) {
+            return null;
+        }
+        int a = l2.coeffs[l2.indexOf(t)];
+        List<IntVar> vars = new ArrayList<IntVar>(l1.vars.length + l2.vars.length);
+        TObjectIntHashMap<IntVar> coeffs = new TObjectIntHashMap<IntVar>(l1.vars.length + l2.vars.length);
+        for (int i = 0; i < l2.vars.length; i++) {
+            if (l2.vars[i] != t) {
+                vars.add(l2.vars[i]);
+                coeffs.put(l2.vars[i], l2.coeffs[i]);
+            }
+        }
+        for (int i = 0; i < l1.vars.length; i++) {
+            if (i != j) {
+                long f = -(long) a * ct * l1.coeffs[i] + coeffs.get(l1.vars[i]);
+                if (f < Integer.MIN_VALUE || f > Integer.MAX_VALUE) {
+                    return null;
+                }
+                if (!coeffs.containsKey(l1.vars[i])) {
+                    vars.add(l1.vars[i]);
+                }
+                coeffs.put(l1.vars[i], (int) f);
+            }
+        }
+        return make(vars, coeffs, l2.b - (long) a * ct * l1.b, l2.op);
+    }
+
+    private void post(Linear l, THashMap<String, Object> map, List<EAnnotation> annotations) {
+        List<Expression> as = new ArrayList<Expression>(l.coeffs.length);
+        for (int i = 0; i < l.coeffs.length; i++) {
+            as.add(EInt.make(l.coeffs[i]));
+        }
+        List<Expression> exps = new ArrayList<Expression>(3);
+        exps.add(new EArray(as));
+        exps.add(identifier("_lin", l.vars));
+        exps.add(EInt.make(l.b));
+        String id = l.op == Operator.EQ ? "int_lin_eq" : l.op == Operator.LE ? "int_lin_le" : "int_lin_ne";
+        if (l.vars.length == 0) {
+            // the constraint has been emptied by substitutions
+            if (!(l.op == Operator.EQ ? l.b == 0 : l.op == Operator.LE ? 0 <= l.b : l.b != 0)) {
+                postFalse();
+            }
+            return;
+        }
+        FConstraint.make_constraint(solver, map, id, exps, annotations);
+    }
+
+    //***********************************************************************************
+    // PATTERNS
+    //***********************************************************************************
+
+    /**
+     * Post a constraint which always fails, the model being inconsistent.
+     */
+    private void postFalse() {
+        Constraint<BoolVar, PropClause> c = new Constraint<BoolVar, PropClause>(solver);
+        c.setPropagators(new PropFalse(solver));
+        solver.post(c);
+    }
+
+    private void post(Constraint c, THashMap<String, Object> map, List<EAnnotation> annotations) {
+        Constraint[] cs = new Constraint[]{c};
+        solver.post(cs);
+        FConstraint.readAnnotations(map, annotations, cs);
+    }
+
+    /**
+     * Detect y = SUM(a_k.b_k), where b_k <=> x = k, and replace it by y = T[x], where T[x] = a_k if x = k, 0 otherwise.
+     */
+    private void detectElements(THashMap<String, Object> map) {
+        THashMap<IntVar, Item[]> occ = occurrences();
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            if (it.removed || it.lin == null || it.lin.op != Operator.EQ || it.lin.vars.length < 3) {
+                continue;
+            }
+            Linear l = it.lin;
+            int yi = -1;
+            IntVar x = null;
+            Item[] reifs = new Item[l.vars.length];
+            int[] ks = new int[l.vars.length];
+            boolean match = true;
+            for (int j = 0; j < l.vars.length && match; j++) {
+                IntVar v = l.vars[j];
+                Item[] its = occ.get(v);
+                Item r = its == null || its[1] == null ? null : other(its, it);
+                if (r != null && !r.removed && r.kind.equals("int_eq_reif") && canEliminate(v)
+                        && v.getLB() >= 0 && v.getUB() <= 1 && term(r.exps.get(2)) == v) {
+                    Object tx = term(r.exps.get(0)), tk = term(r.exps.get(1));
+                    if (tx instanceof IntVar && tk instanceof Integer && (x == null || x == tx)) {
+                        x = (IntVar) tx;
+                        reifs[j] = r;
+                        ks[j] = (Integer) tk;
+                        continue;
+                    }
+                }
+                if (yi == -1 && Math.abs(l.coeffs[j]) == 1) {
+                    yi = j;
+                } else {
+                    match = false;
+                }
+            }
+            if (!match || yi == -1 || x == null || x == l.vars[yi]
+                    || (long) x.getUB() - x.getLB() + 1 > MAX_ELEMENT) {
+                continue;
+            }
+            // y = cy * (b - SUM(a_k.[x = k]))
+            int cy = l.coeffs[yi];
+            int lb = x.getLB();
+            long[] table = new long[x.getUB() - lb + 1];
+            Arrays.fill(table, l.b);
+            for (int j = 0; j < l.vars.length; j++) {
+                if (j != yi && ks[j] >= lb && ks[j] <= x.getUB()) {
+                    table[ks[j] - lb] -= l.coeffs[j];
+                }
+            }
+            int[] values = new int[table.length];
+            boolean overflow = false;
+            for (int v = 0; v < table.length; v++) {
+                long val = cy * table[v];
+                overflow |= val < Integer.MIN_VALUE || val > Integer.MAX_VALUE;
+                values[v] = (int) val;
+            }
+            if (overflow) {
+                continue;
+            }
+            post(IntConstraintFactory.element(l.vars[yi], values, x, lb, "detect"), map, it.annotations);
+            it.removed = true;
+            nbRemoved++;
+            for (int j = 0; j < l.vars.length; j++) {
+                if (j != yi) {
+                    reifs[j].removed = true;
+                    nbRemoved++;
+                    eliminate(l.vars[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace cliques of at least three disequalities by all-different constraints.
+     */
+    private void detectAllDifferents(THashMap<String, Object> map) {
+        THashMap<IntVar, THashMap<IntVar, Item>> edges = new THashMap<IntVar, THashMap<IntVar, Item>>();
+        THashMap<IntVar, List<IntVar>> neighbors = new THashMap<IntVar, List<IntVar>>();
+        List<Item> nes = new ArrayList<Item>();
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            if (!it.removed && it.kind.equals("int_ne")) {
+                Object a = term(it.exps.get(0)), b = term(it.exps.get(1));
+                if (a instanceof IntVar && b instanceof IntVar && a != b) {
+                    IntVar u = (IntVar) a, v = (IntVar) b;
+                    if (edge(edges, u, v) == null) {
+                        link(edges, neighbors, u, v, it);
+                        link(edges, neighbors, v, u, it);
+                        nes.add(it);
+                    }
+                }
+            }
+        }
+        List<IntVar> clique = new ArrayList<IntVar>();
+        for (int i = 0; i < nes.size(); i++) {
+            Item it = nes.get(i);
+            if (it.removed) {
+                continue;
+            }
+            IntVar u = (IntVar) term(it.exps.get(0)), v = (IntVar) term(it.exps.get(1));
+            clique.clear();
+            clique.add(u);
+            clique.add(v);
+            List<IntVar> cands = neighbors.get(u);
+            for (int j = 0; j < cands.size(); j++) {
+                IntVar w = cands.get(j);
+                boolean all = !clique.contains(w);
+                for (int k = 0; k < clique.size() && all; k++) {
+                    Item e = edge(edges, w, clique.get(k));
+                    all = e != null && !e.removed;
+                }
+                if (all) {
+                    clique.add(w);
+                }
+            }
+            if (clique.size() >= 3) {
+                for (int j = 0; j < clique.size(); j++) {
+                    for (int k = j + 1; k < clique.size(); k++) {
+                        edge(edges, clique.get(j), clique.get(k)).removed = true;
+                        nbRemoved++;
+                    }
+                }
+                nbRemoved--; // the all-different constraint
+                post(IntConstraintFactory.alldifferent(clique.toArray(new IntVar[clique.size()]), "BC"), map, it.annotations);
+            }
+        }
+    }
+
+    private static Item edge(THashMap<IntVar, THashMap<IntVar, Item>> edges, IntVar u, IntVar v) {
+        THashMap<IntVar, Item> e = edges.get(u);
+        return e == null ? null : e.get(v);
+    }
+
+    private static void link(THashMap<IntVar, THashMap<IntVar, Item>> edges, THashMap<IntVar, List<IntVar>> neighbors,
+                             IntVar u, IntVar v, Item it) {
+        if (!edges.containsKey(u)) {
+            edges.put(u, new THashMap<IntVar, Item>());
+            neighbors.put(u, new ArrayList<IntVar>());
+        }
+        edges.get(u).put(v, it);
+        neighbors.get(u).add(v);
+    }
+
+    /**
+     * Replace groups of constraints over the same two or three variables by a single table constraint.
+     */
+    private void detectTables(THashMap<String, Object> map) throws ContradictionException {
+        THashMap<String, List<Item>> groups = new THashMap<String, List<Item>>();
+        THashMap<String, IntVar[]> scopes = new THashMap<String, IntVar[]>();
+        List<String> keys = new ArrayList<String>();
+        List<IntVar> vars = new ArrayList<IntVar>();
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            if (it.removed || !isEvaluable(it)) {
+                continue;
+            }
+            vars.clear();
+            if (it.lin != null) {
+                vars.addAll(Arrays.asList(it.lin.vars));
+            } else {
+                for (int j = 0; j < it.exps.size(); j++) {
+                    collect(it.exps.get(j), vars);
+                }
+            }
+            IntVar[] scope = distinct(vars);
+            if (scope.length < 2 || scope.length > 3) {
+                continue;
+            }
+            StringBuilder key = new StringBuilder();
+            for (int j = 0; j < scope.length; j++) {
+                key.append(scope[j].getId()).append(',');
+            }
+            String k = key.toString();
+            if (!groups.containsKey(k)) {
+                groups.put(k, new ArrayList<Item>());
+                scopes.put(k, scope);
+                keys.add(k);
+            }
+            groups.get(k).add(it);
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            List<Item> group = groups.get(keys.get(i));
+            IntVar[] scope = scopes.get(keys.get(i));
+            long size = 1;
+            for (int j = 0; j < scope.length; j++) {
+                size *= scope[j].getDomainSize();
+            }
+            if (group.size() < 2 || size > MAX_TUPLES) {
+                continue;
+            }
+            List<int[]> tuples = new ArrayList<int[]>();
+            int[] tuple = new int[scope.length];
+            for (int j = 0; j < scope.length; j++) {
+                tuple[j] = scope[j].getLB();
+            }
+            boolean next = true;
+            while (next) {
+                boolean sat = true;
+                for (int j = 0; j < group.size() && sat; j++) {
+                    sat = evaluate(group.get(j), scope, tuple);
+                }
+                if (sat) {
+                    tuples.add(tuple.clone());
+                }
+                // next tuple, in lexicographic order
+                next = false;
+                for (int j = scope.length - 1; j >= 0 && !next; j--) {
+                    if (tuple[j] < scope[j].getUB()) {
+                        tuple[j] = scope[j].nextValue(tuple[j]);
+                        next = true;
+                    } else {
+                        tuple[j] = scope[j].getLB();
+                    }
+                }
+            }
+            check(tuples.size() > 0);
+            for (int j = 0; j < group.size(); j++) {
+                group.get(j).removed = true;
+                nbRemoved++;
+            }
+            nbRemoved--; // the table constraint
+            post(TableBuilder.make(scope, tuples), map, group.get(0).annotations);
+        }
+    }
+
+    private static IntVar[] distinct(List<IntVar> vars) {
+        List<IntVar> d = new ArrayList<IntVar>(vars.size());
+        for (int i = 0; i < vars.size(); i++) {
+            if (!d.contains(vars.get(i))) {
+                d.add(vars.get(i));
+            }
+        }
+        IntVar[] scope = d.toArray(new IntVar[d.size()]);
+        Arrays.sort(scope, new Comparator<IntVar>() {
+            @Override
+            public int compare(IntVar o1, IntVar o2) {
+                return o1.getId() - o2.getId();
+            }
+        });
+        return scope;
+    }
+
+    private static boolean isEvaluable(Item it) {
+        if (it.lin != null) {
+            return true;
+        }
+        String k = it.kind;
+        return k.equals("int_eq") || k.equals("int_ne") || k.equals("int_le") || k.equals("int_lt")
+                || k.equals("int_plus") || k.equals("int_times") || k.equals("int_abs")
+                || k.equals("int_min") || k.equals("int_max");
+    }
+
+    private int value(Object term, IntVar[] scope, int[] tuple) {
+        if (term instanceof Integer) {
+            return (Integer) term;
+        }
+        for (int i = 0; i < scope.length; i++) {
+            if (scope[i] == term) {
+                return tuple[i];
+            }
+        }
+        throw new IllegalStateException("Unknown variable " + term);
+    }
+
+    private int value(Item it, int i, IntVar[] scope, int[] tuple) {
+        return value(term(it.exps.get(i)), scope, tuple);
+    }
+
+    /**
+     * Evaluate <code>it</code> on the assignment of <code>scope</code> to <code>tuple</code>.
+     */
+    private boolean evaluate(Item it, IntVar[] scope, int[] tuple) {
+        if (it.lin != null) {
+            long s = 0;
+            for (int i = 0; i < it.lin.vars.length; i++) {
+                s += (long) it.lin.coeffs[i] * value(it.lin.vars[i], scope, tuple);
+            }
+            return it.lin.op == Operator.EQ ? s == it.lin.b : it.lin.op == Operator.LE ? s <= it.lin.b : s != it.lin.b;
+        }
+        int a = value(it, 0, scope, tuple), b = value(it, 1, scope, tuple);
+        String k = it.kind;
+        if (k.equals("int_eq")) {
+            return a == b;
+        } else if (k.equals("int_ne")) {
+            return a != b;
+        } else if (k.equals("int_le")) {
+            return a <= b;
+        } else if (k.equals("int_lt")) {
+            return a < b;
+        } else if (k.equals("int_abs")) {
+            return Math.abs(a) == b;
+        }
+        int c = value(it, 2, scope, tuple);
+        if (k.equals("int_plus")) {
+            return (long) a + b == c;
+        } else if (k.equals("int_times")) {
+            return (long) a * b == c;
+        } else if (k.equals("int_min")) {
+            return Math.min(a, b) == c;
+        }
+        return Math.max(a, b) == c;
+    }
+}
@@ -71,7 +71,7 @@ public final class FVariable {
     }
 
     public static void make_variable(THashMap<String, Object> map, Declaration type, String identifier, List<EAnnotation> annotations,
-                                     Expression expression, Solver aSolver, FZNLayout layout) {
+                                     Expression expression, Solver aSolver, FZNLayout layout, FPresolver presolver) {
         Solver solver = aSolver;
         // value is always null, except for ARRAY, it can be defined
         // see Flatzinc specifications for more informations.
@@ -99,11 +99,12 @@ public final class FVariable {
                 }
                 break;
         }
-        readAnnotations(identifier, type, annotations, layout, map);
+        readAnnotations(identifier, type, annotations, layout, presolver, map);
 
     }
 
-    private static void readAnnotations(String name, Declaration type, List<EAnnotation> expressions, FZNLayout layout, THashMap<String, Object> map) {
+    private static void readAnnotations(String name, Declaration type, List<EAnnotation> expressions, FZNLayout layout,
+                                        FPresolver presolver, THashMap<String, Object> map) {
         for (int i = 0; i < expressions.size(); i++) {
             Expression expression = expressions.get(i);
             Expression.EType etype = expression.getTypeOf();
@@ -124,11 +125,16 @@ public final class FVariable {
                 case output_var:
                     IntVar var = (IntVar) map.get(name);
                     layout.addOutputVar(name, var, type);
+                    presolver.set_output(var);
                     break;
                 case output_array:
                     EAnnotation eanno = (EAnnotation) expression;
                     IntVar[] vars = (IntVar[]) map.get(name);
                     layout.addOutputArrays(name, vars, eanno.exps, type);
+                    presolver.set_output(vars);
+                    break;
+                case var_is_introduced:
+                    presolver.set_introduced(map.get(name));
                     break;
                 default:
                     //LOGGER.warn("% Unknown annotation :" + varanno.toString());
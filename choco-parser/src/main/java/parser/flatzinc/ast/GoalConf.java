@@ -42,14 +42,16 @@ public class GoalConf {
     long seed; // seed for random search
     SearchPattern searchPattern;  // Search pattern
     long timeLimit;
+    boolean presolve; // simplify the constraints before posting them
 
     String description;
 
     public GoalConf() {
-        this(false, 0, false, false, 29091981L, SearchPattern.NONE, -1);
+        this(false, 0, false, false, 29091981L, SearchPattern.NONE, -1, true);
     }
 
-    public GoalConf(boolean free, int bbss, boolean dec_vars, boolean all, long seed, SearchPattern sp, long timelimit) {
+    public GoalConf(boolean free, int bbss, boolean dec_vars, boolean all, long seed, SearchPattern sp, long timelimit,
+                    boolean presolve) {
         this.free = free;
         this.bbss = bbss;
         this.dec_vars = dec_vars;
@@ -57,6 +59,7 @@ public class GoalConf {
         this.all = all;
         this.searchPattern = sp;
         this.timeLimit = timelimit;
+        this.presolve = presolve;
     }
 
     public void setDescription(String description) {
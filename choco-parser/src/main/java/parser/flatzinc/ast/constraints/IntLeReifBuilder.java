@@ -35,7 +35,6 @@ import solver.constraints.Constraint;
 import solver.constraints.IntConstraintFactory;
 import solver.variables.BoolVar;
 import solver.variables.IntVar;
-import solver.variables.VariableFactory;
 
 import java.util.List;
 
@@ -53,11 +52,6 @@ public class IntLeReifBuilder implements IBuilder {
         IntVar a = exps.get(0).intVarValue(solver);
         IntVar b = exps.get(1).intVarValue(solver);
         BoolVar r = exps.get(2).boolVarValue(solver);
-
-        Constraint c = IntConstraintFactory.arithm(a, "<=", b);
-        Constraint oc = IntConstraintFactory.arithm(a, ">", b);
-
-        return new Constraint[]{IntConstraintFactory.implies(r, c),
-                IntConstraintFactory.implies(VariableFactory.not(r), oc)};
+        return new Constraint[]{IntConstraintFactory.arithm_reif(a, "<=", b, r)};
     }
 }
@@ -33,11 +33,8 @@ import parser.flatzinc.ast.expression.Expression;
 import solver.Solver;
 import solver.constraints.Constraint;
 import solver.constraints.IntConstraintFactory;
-import solver.constraints.nary.Sum;
 import solver.variables.BoolVar;
 import solver.variables.IntVar;
-import solver.variables.VariableFactory;
-import util.tools.StringUtils;
 
 import java.util.List;
 
@@ -58,17 +55,6 @@ public class IntLinLeReifBuilder implements IBuilder {
         int c = exps.get(2).intValue();
 
         BoolVar r = exps.get(3).boolVarValue(solver);
-
-        int[] bounds = Sum.getScalarBounds(bs, as);
-        IntVar scalarVar = VariableFactory.bounded(StringUtils.randomName(), bounds[0], bounds[1], solver);
-        return new Constraint[]{
-                IntConstraintFactory.scalar(bs, as, scalarVar),
-                IntConstraintFactory.implies(
-                        r,
-                        IntConstraintFactory.arithm(scalarVar, "<=", c)),
-                IntConstraintFactory.implies(
-                        VariableFactory.not(r),
-                        IntConstraintFactory.arithm(scalarVar, ">", c))
-        };
+        return new Constraint[]{IntConstraintFactory.scalar_reif(bs, as, "<=", c, r)};
     }
 }
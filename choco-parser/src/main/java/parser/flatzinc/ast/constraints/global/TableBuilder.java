@@ -36,8 +36,7 @@ import solver.constraints.Constraint;
 import solver.constraints.IntConstraintFactory;
 import solver.constraints.propagators.extension.ExtensionalBinRelation;
 import solver.constraints.propagators.extension.binary.CouplesTable;
-import solver.constraints.propagators.extension.nary.IterTuplesTable;
-import solver.constraints.propagators.extension.nary.LargeRelation;
+import solver.constraints.propagators.extension.nary.MultivaluedDecisionDiagram;
 import solver.exception.SolverException;
 import solver.variables.IntVar;
 
@@ -52,6 +51,10 @@ import java.util.List;
  * @since 26/07/12
  */
 public class TableBuilder implements IBuilder {
+
+    // minimum number of tuples of a table to try to compress it
+    private static final int MDD_THRESHOLD = 1024;
+
     @Override
     public Constraint[] build(Solver solver, String name, List<Expression> exps, List<EAnnotation> annotations, THashMap<String, Object> map) {
         // array[int] of var int: x, array[int, int] of int: t
@@ -63,6 +66,17 @@ public class TableBuilder implements IBuilder {
         for (int i = 0; i < d1; i++) {
             t.add(Arrays.copyOfRange(f_t, i * d2, (i + 1) * d2));
         }
+        return new Constraint[]{make(x, t)};
+    }
+
+    /**
+     * Build a table constraint over <code>x</code>, whose allowed tuples are <code>t</code>.
+     *
+     * @param x variables
+     * @param t allowed tuples
+     * @return a table constraint
+     */
+    public static Constraint make(IntVar[] x, List<int[]> t) {
         if (x.length == 2) {
             int[] min = new int[]{x[0].getLB(), x[1].getLB()};
             int[] max = new int[]{x[0].getUB(), x[1].getUB()};
@@ -88,16 +102,17 @@ public class TableBuilder implements IBuilder {
                             new int[]{couple[0], min[0], max[0], couple[1], min[1], max[1]});
                 }
             }
-            return new Constraint[]{IntConstraintFactory.table(x[0], x[1], relation, "AC2001")};
+            return IntConstraintFactory.table(x[0], x[1], relation, "AC2001");
         } else {
-            int[] o = new int[x.length];
-            int[] d = new int[x.length];
-            for (int i = 0; i < x.length; i++) {
-                o[i] = x[i].getLB();
-                d[i] = x[i].getUB() - o[i] + 1;
+            if (t.size() >= MDD_THRESHOLD) {
+                // large tables are compressed when their diagram is at least twice smaller
+                MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(x.length, t);
+                if (2L * mdd.getNbArcs() <= (long) t.size() * x.length) {
+                    return IntConstraintFactory.mdd(x, mdd);
+                }
             }
-            LargeRelation list_t = new IterTuplesTable(t, o, d);
-            return new Constraint[]{IntConstraintFactory.table(x, list_t, "AC2001")};
+            // the relation is shared by the constraints defined over the same tuples
+            return IntConstraintFactory.table(x, t, "CT");
         }
     }
 
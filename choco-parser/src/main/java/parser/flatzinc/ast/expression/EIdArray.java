@@ -62,6 +62,13 @@ public final class EIdArray extends Expression {
         }
     }
 
+    /**
+     * Return the element of the array designated by this expression.
+     */
+    public Object getObject() {
+        return object;
+    }
+
     @Override
     public String toString() {
         return name + '[' + index + ']';
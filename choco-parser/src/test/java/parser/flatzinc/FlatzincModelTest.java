@@ -32,9 +32,14 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import parser.flatzinc.ast.GoalConf;
 import solver.Solver;
+import solver.search.strategy.pattern.SearchPattern;
+import solver.variables.IntVar;
+import util.ESat;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.InputStream;
+import java.net.URISyntaxException;
 
 /*
 * User : CPRUDHOM
@@ -95,6 +100,174 @@ public class FlatzincModelTest {
         Assert.assertEquals(solver.getMeasures().getSolutionCount(), 1);
     }
 
+    private static final String PRESOLVE = "var 1 .. 4: x::output_var;\n" +
+            "var 1 .. 4: y::output_var;\n" +
+            "var 1 .. 4: z::output_var;\n" +
+            "var 0 .. 10: t::var_is_introduced;\n" +
+            "var 0 .. 10: u::var_is_introduced;\n" +
+            "var 1 .. 4: w::var_is_introduced;\n" +
+            "constraint int_lin_eq([1, -1, -1], [t, x, y], 0);\n" +
+            "constraint int_lin_le([1, 1], [t, u], 7);\n" +
+            "constraint int_eq(u, 2);\n" +
+            "constraint int_eq(w, z);\n" +
+            "constraint int_ne(x, y);\n" +
+            "constraint int_ne(y, w);\n" +
+            "constraint int_ne(x, z);\n" +
+            "solve satisfy;";
+
+    private static Solver presolve(String model, boolean presolve) {
+        InputStream in = new ByteArrayInputStream(model.getBytes());
+
+        ParseAndSolve pas = new ParseAndSolve();
+        Solver solver = new Solver();
+        pas.buildParser(in, solver, new THashMap<String, Object>(),
+                new GoalConf(false, 0, false, true, 0, SearchPattern.NONE, -1, presolve));
+        solver.findAllSolutions();
+        return solver;
+    }
+
+    @Test(groups = "1s")
+    public void testPresolve() {
+        Solver s1 = presolve(PRESOLVE, false);
+        Solver s2 = presolve(PRESOLVE, true);
+        Assert.assertEquals(s2.getMeasures().getSolutionCount(), s1.getMeasures().getSolutionCount());
+        Assert.assertTrue(s2.getNbVars() < s1.getNbVars());
+        Assert.assertTrue(s2.getNbCstrs() < s1.getNbCstrs());
+    }
+
+    @Test(groups = "1s")
+    public void testPresolveOutput() {
+        StringBuilder st = new StringBuilder();
+        st.append("var 1 .. 3: a::output_var;\n" +
+                "var 1 .. 5: X_INTRODUCED_1::var_is_introduced::is_defined_var;\n" +
+                "var 1 .. 5: X_INTRODUCED_2::var_is_introduced::is_defined_var;\n" +
+                "array [1 .. 2] of var int: q::output_array([1 .. 2]) = [X_INTRODUCED_1, X_INTRODUCED_2];\n" +
+                "constraint int_eq(X_INTRODUCED_1, a);\n" +
+                "constraint int_lin_eq([1, -1], [X_INTRODUCED_2, a], 1);\n" +
+                "solve satisfy;");
+        InputStream in = new ByteArrayInputStream(st.toString().getBytes());
+
+        ParseAndSolve pas = new ParseAndSolve();
+        Solver solver = new Solver();
+        THashMap<String, Object> map = new THashMap<String, Object>();
+        FZNLayout layout = pas.buildParser(in, solver, map,
+                new GoalConf(false, 0, false, true, 0, SearchPattern.NONE, -1, true));
+        IntVar a = (IntVar) map.get("a");
+        IntVar[] q = layout.output_arrays_vars.get(0);
+        // the printed variables are kept in the solver, and instantiated on each solution
+        Assert.assertTrue(solver.findSolution());
+        do {
+            Assert.assertTrue(q[0].instantiated() && q[1].instantiated());
+            Assert.assertEquals(q[0].getValue(), a.getValue());
+            Assert.assertEquals(q[1].getValue(), a.getValue() + 1);
+        } while (solver.nextSolution());
+        Assert.assertEquals(solver.getMeasures().getSolutionCount(), 3);
+    }
+
+    @Test(groups = "1s")
+    public void testPresolveElement() {
+        String model = "var 1 .. 4: x::output_var;\n" +
+                "var -10 .. 20: y::output_var;\n" +
+                "var bool: b1::var_is_introduced;\n" +
+                "var bool: b2::var_is_introduced;\n" +
+                "var bool: b3::var_is_introduced;\n" +
+                "constraint int_eq_reif(x, 1, b1);\n" +
+                "constraint int_eq_reif(x, 2, b2);\n" +
+                "constraint int_eq_reif(x, 4, b3);\n" +
+                "constraint int_lin_eq([1, -4, -7, 9], [y, b1, b2, b3], 2);\n" +
+                "solve satisfy;";
+        Solver s1 = presolve(model, false);
+        Solver s2 = presolve(model, true);
+        Assert.assertEquals(s1.getMeasures().getSolutionCount(), 4);
+        Assert.assertEquals(s2.getMeasures().getSolutionCount(), 4);
+        // y = T[x]
+        Assert.assertEquals(s2.getNbCstrs(), 1);
+    }
+
+    @Test(groups = "1s")
+    public void testPresolveAllDifferent() {
+        String model = "var 1 .. 4: x::output_var;\n" +
+                "var 1 .. 4: y::output_var;\n" +
+                "var 1 .. 4: z::output_var;\n" +
+                "var 1 .. 4: w::output_var;\n" +
+                "constraint int_ne(x, y);\n" +
+                "constraint int_ne(z, x);\n" +
+                "constraint int_ne(y, z);\n" +
+                "constraint int_ne(z, w);\n" +
+                "solve satisfy;";
+        Solver s1 = presolve(model, false);
+        Solver s2 = presolve(model, true);
+        Assert.assertEquals(s2.getMeasures().getSolutionCount(), s1.getMeasures().getSolutionCount());
+        Assert.assertEquals(s2.getMeasures().getSolutionCount(), 72);
+        // alldifferent(x, y, z) and z != w
+        Assert.assertEquals(s2.getNbCstrs(), 2);
+    }
+
+    @Test(groups = "1s")
+    public void testPresolveTable() {
+        String model = "var 1 .. 5: x::output_var;\n" +
+                "var 1 .. 5: y::output_var;\n" +
+                "var 0 .. 9: z::output_var;\n" +
+                "constraint int_le(x, y);\n" +
+                "constraint int_lin_ne([1, 1], [x, y], 6);\n" +
+                "constraint int_plus(x, y, z);\n" +
+                "constraint int_ne(x, 3);\n" +
+                "solve satisfy;";
+        Solver s1 = presolve(model, false);
+        Solver s2 = presolve(model, true);
+        Assert.assertEquals(s2.getMeasures().getSolutionCount(), s1.getMeasures().getSolutionCount());
+        Assert.assertEquals(s2.getMeasures().getSolutionCount(), 9);
+        // the first two constraints are over (x, y), the third one over (x, y, z)
+        Assert.assertEquals(s2.getNbCstrs(), 2);
+    }
+
+    @Test(groups = "1s")
+    public void testPresolveInconsistent() {
+        String model = "var 1 .. 3: x::output_var;\n" +
+                "var 1 .. 3: y::output_var;\n" +
+                "constraint int_ne(x, y);\n" +
+                "constraint int_eq(x, 1);\n" +
+                "constraint int_eq(x, 2);\n" +
+                "solve satisfy;";
+        Solver s1 = presolve(model, false);
+        Solver s2 = presolve(model, true);
+        Assert.assertEquals(s1.getMeasures().getSolutionCount(), 0);
+        Assert.assertEquals(s2.getMeasures().getSolutionCount(), 0);
+    }
+
+    @Test(groups = "1s")
+    public void testTimeLimitDuringPropagation() {
+        // the initial propagation shaves the bounds of x and y one by one, it must be aborted by the time limit
+        StringBuilder st = new StringBuilder();
+        st.append("var 0 .. 100000000: x::output_var;\n" +
+                "var 0 .. 100000000: y::output_var;\n" +
+                "constraint int_lt(x, y);\n" +
+                "constraint int_lt(y, x);\n" +
+                "solve satisfy;");
+        InputStream in = new ByteArrayInputStream(st.toString().getBytes());
+
+        ParseAndSolve pas = new ParseAndSolve();
+        Solver solver = new Solver();
+        // -tl 100
+        pas.buildParser(in, solver, new THashMap<String, Object>(),
+                new GoalConf(false, 0, false, false, 0, SearchPattern.NONE, 100, true));
+        long t = System.currentTimeMillis();
+        Assert.assertFalse(solver.findSolution());
+        Assert.assertTrue(System.currentTimeMillis() - t < 1000);
+        Assert.assertEquals(solver.isFeasible(), ESat.UNDEFINED);
+    }
+
+    @Test(groups = "1s")
+    public void testParallelSolve() throws URISyntaxException {
+        String instance = new File(this.getClass().getResource("/parallel/min_sum.fzn").toURI()).getPath();
+        ParseAndSolve pas = new ParseAndSolve();
+        pas.nb_cores = 3;
+        Solver best = pas.parallelSolve(instance, new GoalConf(), null);
+        Assert.assertNotNull(best);
+        // x != y, s = x + y
+        Assert.assertEquals(best.getMeasures().getObjectiveValue(), 3);
+    }
+
     ////    @Test( groups = "1s" )
 ////    public void test50() throws URISyntaxException, ContradictionException {
 ////        // Best known objective = 1
@@ -68,6 +68,8 @@ public class T_constraint extends GrammarTest {
         walker.mSolver = mSolver;
         walker.map = map;
         walker.constraint();
+        // constraints are recorded by the walker, then posted
+        walker.mPresolver.post_constraints(mSolver, map);
     }
 
     @Test(groups = "1s")
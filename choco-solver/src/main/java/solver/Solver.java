@@ -28,10 +28,13 @@
 package solver;
 
 import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.hash.TIntHashSet;
 import memory.Environments;
 import memory.IEnvironment;
 import org.slf4j.LoggerFactory;
 import solver.constraints.Constraint;
+import solver.constraints.propagators.Propagator;
+import solver.copy.ModelCopier;
 import solver.exception.ContradictionException;
 import solver.exception.SolverException;
 import solver.explanations.ExplanationEngine;
@@ -39,6 +42,7 @@ import solver.objective.ObjectiveManager;
 import solver.propagation.IPropagationEngine;
 import solver.propagation.NoPropagationEngine;
 import solver.propagation.hardcoded.PropagatorEngine;
+import solver.search.limits.CancellationToken;
 import solver.search.loop.AbstractSearchLoop;
 import solver.search.measure.IMeasures;
 import solver.search.measure.MeasuresRecorder;
@@ -104,6 +108,11 @@ public class Solver implements Serializable {
 
     protected IPropagationEngine engine;
 
+    /**
+     * Cooperative cancellation token, checked by the search loop and the propagation engine
+     */
+    protected final CancellationToken cancellation = new CancellationToken();
+
     /**
      * Solver's measures
      */
@@ -190,6 +199,16 @@ public class Solver implements Serializable {
         return engine;
     }
 
+    /**
+     * Returns the cancellation token of <code>this</code>.
+     * It can be cancelled from any thread to stop the resolution, even in the middle of a propagation.
+     *
+     * @return the cancellation token
+     */
+    public CancellationToken getCancellationToken() {
+        return cancellation;
+    }
+
     /**
      * Returns the array of declared <code>Variable</code> objects defined in this <code>Solver</code>.
      *
@@ -278,6 +297,7 @@ public class Solver implements Serializable {
      */
     public void set(AbstractSearchLoop searchLoop) {
         this.search = searchLoop;
+        this.search.getLimits().add(cancellation);
     }
 
     /**
@@ -355,6 +375,33 @@ public class Solver implements Serializable {
         vars[vIdx++] = variable;
     }
 
+    /**
+     * Unlink variables from <code>this</code>, for instance when they have been eliminated by a presolve.
+     * The variables must not be involved in any constraint, and the resolution must not be started yet.
+     *
+     * @param variables variables declared in <code>this</code>
+     */
+    public void unassociates(Variable... variables) {
+        if (getEngine() != null && getEngine().isInitialized()) {
+            throw new SolverException("Solver does not support dynamic variable removal");
+        }
+        TIntHashSet ids = new TIntHashSet(variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].getNbProps() > 0) {
+                throw new SolverException(variables[i].getName() + " is involved in constraints and cannot be removed");
+            }
+            ids.add(variables[i].getId());
+        }
+        int k = 0;
+        for (int i = 0; i < vIdx; i++) {
+            if (!ids.contains(vars[i].getId())) {
+                vars[k++] = vars[i];
+            }
+        }
+        Arrays.fill(vars, k, vIdx, null);
+        vIdx = k;
+    }
+
     /**
      * Post a constraint <code>c</code> in the constraints network of <code>this</code>:
      * - add it to the data structure,
@@ -388,6 +435,34 @@ public class Solver implements Serializable {
         _post(true, c);
     }
 
+    /**
+     * Remove a constraint <code>c</code> from the constraints network of <code>this</code>:
+     * - remove it from the data structure,
+     * - remove its propagators from the propagation engine, if any,
+     * - unlink its propagators from their variables.
+     *
+     * @param c the constraint to remove
+     */
+    public void unpost(Constraint c) {
+        int idx = 0;
+        while (idx < cIdx && cstrs[idx] != c) {
+            idx++;
+        }
+        if (idx == cIdx) {
+            return;
+        }
+        System.arraycopy(cstrs, idx + 1, cstrs, idx, cIdx - idx - 1);
+        cstrs[--cIdx] = null;
+        if (engine != NoPropagationEngine.SINGLETON && engine.isInitialized()) {
+            engine.dynamicDeletion(c);
+        } else {
+            Propagator[] props = c.getPropagators();
+            for (int p = 0; p < props.length; p++) {
+                props[p].unlinkVariables();
+            }
+        }
+    }
+
 
     private void _post(boolean cut, Constraint... cs) {
         boolean dynAdd = false;
@@ -687,6 +762,8 @@ public class Solver implements Serializable {
      * Cloning process based on serialization.
      * <p/>
      * Return a clone of <code>solver</code>.
+     * To copy the model only, that is, without the search strategy, the objective and the monitors,
+     * see {@link ModelCopier#copy(Solver)}.
      *
      * @param solver solver to clone.
      */
@@ -32,6 +32,7 @@ import solver.constraints.propagators.unary.PropEqualXC;
 import solver.constraints.propagators.unary.PropGreaterOrEqualXC;
 import solver.constraints.propagators.unary.PropLessOrEqualXC;
 import solver.constraints.propagators.unary.PropNotEqualXC;
+import solver.copy.ConstraintRecipe;
 import solver.exception.SolverException;
 import solver.variables.IntVar;
 import util.ESat;
@@ -287,4 +288,10 @@ public class Arithmetic extends IntConstraint<IntVar> {
             return vars[0].getName() + " " + op1 + " " + cste;
         }
     }
+
+    @Override
+    public ConstraintRecipe getRecipe() {
+        int form = isBinary ? (op2 == Operator.PL && cste == 0 && !isOperation(op1) ? 1 : 2) : 0;
+        return new ConstraintRecipe(ConstraintRecipe.Kind.ARITHM, vars, form, op1.ordinal(), op2.ordinal(), cste);
+    }
 }
@@ -31,6 +31,7 @@ package solver.constraints;
 import solver.ICause;
 import solver.Solver;
 import solver.constraints.propagators.Propagator;
+import solver.copy.ConstraintRecipe;
 import solver.exception.ContradictionException;
 import solver.propagation.IPriority;
 import solver.variables.Variable;
@@ -104,6 +105,17 @@ public class Constraint<V extends Variable, P extends Propagator<V>> implements
         return vars;
     }
 
+    /**
+     * Return a structural description of <code>this</code>, to build it again in another solver,
+     * or <code>null</code> if <code>this</code> cannot be described (the default behavior).
+     *
+     * @return a recipe, or null
+     * @see solver.copy.ModelCopier
+     */
+    public ConstraintRecipe getRecipe() {
+        return null;
+    }
+
     /**
      * Return an array which contains the propagators declared in <code>this</code>.
      *
@@ -36,6 +36,7 @@ import solver.constraints.binary.Element;
 import solver.constraints.binary.Square;
 import solver.constraints.extension.BinCSP;
 import solver.constraints.extension.LargeCSP;
+import solver.constraints.extension.MDDCSP;
 import solver.constraints.nary.*;
 import solver.constraints.nary.alldifferent.AllDifferent;
 import solver.constraints.nary.automata.CostRegular;
@@ -49,11 +50,14 @@ import solver.constraints.nary.cnf.ALogicTree;
 import solver.constraints.nary.cnf.ConjunctiveNormalForm;
 import solver.constraints.nary.cnf.Literal;
 import solver.constraints.nary.cnf.Node;
+import solver.constraints.nary.cnf.SatConstraint;
 import solver.constraints.nary.globalcardinality.GlobalCardinality;
 import solver.constraints.nary.lex.Lex;
 import solver.constraints.nary.lex.LexChain;
 import solver.constraints.propagators.extension.binary.BinRelation;
 import solver.constraints.propagators.extension.nary.LargeRelation;
+import solver.constraints.propagators.extension.nary.MultivaluedDecisionDiagram;
+import solver.constraints.propagators.extension.nary.TuplesRegistry;
 import solver.constraints.propagators.nary.PropDiffN;
 import solver.constraints.propagators.nary.PropIndexValue;
 import solver.constraints.propagators.nary.alldifferent.PropAllDiffAC;
@@ -61,12 +65,15 @@ import solver.constraints.propagators.nary.circuit.PropCircuit_AntiArboFiltering
 import solver.constraints.propagators.nary.circuit.PropNoSubtour;
 import solver.constraints.propagators.nary.circuit.PropSubcircuit;
 import solver.constraints.propagators.nary.circuit.PropSubcircuit_AntiArboFiltering;
-import solver.constraints.propagators.nary.cumulative.PropIncrementalCumulative;
+import solver.constraints.propagators.nary.cumulative.PropEdgeFindingCumulative;
+import solver.constraints.propagators.nary.cumulative.PropTimeTableCumulative;
+import solver.constraints.propagators.nary.disjunctive.PropDisjunctive;
 import solver.constraints.propagators.nary.sum.PropBoolSum;
 import solver.constraints.propagators.nary.sum.PropSumEq;
 import solver.constraints.propagators.nary.tree.PropAntiArborescences;
 import solver.constraints.propagators.nary.tree.PropKLoops;
 import solver.constraints.reified.ImplicationConstraint;
+import solver.constraints.reified.ReifiedScalar;
 import solver.constraints.ternary.*;
 import solver.constraints.unary.Member;
 import solver.constraints.unary.NotMember;
@@ -76,6 +83,9 @@ import solver.variables.Task;
 import solver.variables.VariableFactory;
 import util.tools.ArrayUtils;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * A Factory to declare constraint based on integer variables (only).
  * One can call directly the constructor of constraints, but it is recommended
@@ -221,6 +231,32 @@ public enum IntConstraintFactory {
         return new Arithmetic(VAR1, op1, VAR2, op2, CSTE, VAR1.getSolver());
     }
 
+    /**
+     * Half reification of an arithmetic constraint: BVAR => VAR1 OP VAR2, where OP in {"=", "!=", ">","<",">=","<="}.
+     * Unlike <code>implies(BVAR, arithm(VAR1, OP, VAR2))</code>, a single propagator watches BVAR, VAR1 and VAR2.
+     *
+     * @param VAR1 first variable
+     * @param OP   an operator
+     * @param VAR2 second variable
+     * @param BVAR variable of reification
+     */
+    public static ReifiedScalar arithm_imp(IntVar VAR1, String OP, IntVar VAR2, BoolVar BVAR) {
+        return new ReifiedScalar(new IntVar[]{VAR1, VAR2}, new int[]{1, -1}, Operator.get(OP), 0, BVAR, true);
+    }
+
+    /**
+     * Reification of an arithmetic constraint: BVAR <=> VAR1 OP VAR2, where OP in {"=", "!=", ">","<",">=","<="}.
+     * Unlike two {@link #implies(solver.variables.BoolVar, Constraint)}, a single propagator watches BVAR, VAR1 and VAR2.
+     *
+     * @param VAR1 first variable
+     * @param OP   an operator
+     * @param VAR2 second variable
+     * @param BVAR variable of reification
+     */
+    public static ReifiedScalar arithm_reif(IntVar VAR1, String OP, IntVar VAR2, BoolVar BVAR) {
+        return new ReifiedScalar(new IntVar[]{VAR1, VAR2}, new int[]{1, -1}, Operator.get(OP), 0, BVAR, false);
+    }
+
     /**
      * Ensures: <br/>
      * |VAR1-VAR2| OP CSTE
@@ -471,6 +507,22 @@ public enum IntConstraintFactory {
         return new ConjunctiveNormalForm(TREE, SOLVER);
     }
 
+    /**
+     * Ensures that the clauses defined in the Boolean logic formula TREE are satisfied.
+     * <br/>
+     * Clauses are stored in a single clause store and propagated with watched literals,
+     * which scales better than {@link #clauses(solver.constraints.nary.cnf.ALogicTree, solver.Solver)} on large
+     * sets of clauses, and which can be combined with clause learning
+     * (see {@link solver.explanations.strategies.ClauseLearning}).
+     *
+     * @param TREE   the syntactic tree
+     * @param SOLVER solver is required, as the TREE can be declared without any variables
+     * @return a sat constraint
+     */
+    public static SatConstraint sat(ALogicTree TREE, Solver SOLVER) {
+        return new SatConstraint(TREE, SOLVER);
+    }
+
     /**
      * Ensures that the clauses defined in the Boolean logic formula TREE are satisfied.
      *
@@ -529,6 +581,8 @@ public enum IntConstraintFactory {
      * Cumulative constraint: Enforces that at each point in time,
      * the cumulated height of the set of tasks that overlap that point
      * does not exceed a given limit.
+     * <p/>
+     * Filtering is based on time-tabling (profile of compulsory parts) and edge-finding (Theta-Lambda tree).
      *
      * @param TASKS    TASK objects containing start, duration and end variables
      * @param HEIGHTS  integer variables representing the resource consumption of each task
@@ -549,8 +603,36 @@ public enum IntConstraintFactory {
         }
         Constraint c = new Constraint(ArrayUtils.append(starts, durations, ends, HEIGHTS, new IntVar[]{CAPACITY}), solver);
         c.setPropagators(
-                new PropIncrementalCumulative(starts, durations, ends, HEIGHTS, CAPACITY),
-                new PropIncrementalCumulative(starts, durations, ends, HEIGHTS, CAPACITY));
+                new PropTimeTableCumulative(starts, durations, ends, HEIGHTS, CAPACITY),
+                new PropEdgeFindingCumulative(starts, durations, ends, HEIGHTS, CAPACITY));
+        return c;
+    }
+
+    /**
+     * Disjunctive constraint (unary resource): Enforces that the tasks do not overlap in time,
+     * that is, at each point in time at most one task is processed.
+     * Tasks with a null duration are not constrained.
+     * <p/>
+     * Filtering is based on overload checking, detectable precedences, not-first/not-last
+     * and edge-finding (Theta-Lambda tree), in O(n log n).
+     *
+     * @param TASKS TASK objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    public static Constraint disjunctive(Task[] TASKS) {
+        int n = TASKS.length;
+        assert n > 0;
+        Solver solver = TASKS[0].getStart().getSolver();
+        IntVar[] starts = new IntVar[n];
+        IntVar[] durations = new IntVar[n];
+        IntVar[] ends = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = TASKS[i].getStart();
+            durations[i] = TASKS[i].getDuration();
+            ends[i] = TASKS[i].getEnd();
+        }
+        Constraint c = new Constraint(ArrayUtils.append(starts, durations, ends), solver);
+        c.setPropagators(new PropDisjunctive(starts, durations, ends));
         return c;
     }
 
@@ -771,6 +853,36 @@ public enum IntConstraintFactory {
         return Sum.buildScalar(VARS, COEFFS, SCALAR, 1, VARS[0].getSolver());
     }
 
+    /**
+     * Half reification of a scalar product: BVAR => &#8721;<sub>i in |VARS|</sub>COEFFS<sub>i</sub> * VARS<sub>i</sub> OP CSTE,
+     * where OP in {"=", "!=", ">","<",">=","<="}.
+     * No intermediate variable is created, a single propagator watches BVAR and VARS.
+     *
+     * @param VARS   a vector of variables
+     * @param COEFFS a vector of int
+     * @param OP     an operator
+     * @param CSTE   a constant
+     * @param BVAR   variable of reification
+     */
+    public static ReifiedScalar scalar_imp(IntVar[] VARS, int[] COEFFS, String OP, int CSTE, BoolVar BVAR) {
+        return new ReifiedScalar(VARS, COEFFS, Operator.get(OP), CSTE, BVAR, true);
+    }
+
+    /**
+     * Reification of a scalar product: BVAR <=> &#8721;<sub>i in |VARS|</sub>COEFFS<sub>i</sub> * VARS<sub>i</sub> OP CSTE,
+     * where OP in {"=", "!=", ">","<",">=","<="}.
+     * No intermediate variable is created, a single propagator watches BVAR and VARS.
+     *
+     * @param VARS   a vector of variables
+     * @param COEFFS a vector of int
+     * @param OP     an operator
+     * @param CSTE   a constant
+     * @param BVAR   variable of reification
+     */
+    public static ReifiedScalar scalar_reif(IntVar[] VARS, int[] COEFFS, String OP, int CSTE, BoolVar BVAR) {
+        return new ReifiedScalar(VARS, COEFFS, Operator.get(OP), CSTE, BVAR, false);
+    }
+
     /**
      * Creates a subcircuit constraint which ensures that
      * <p/> the elements of vars define a single circuit of subcircuitSize nodes where
@@ -825,6 +937,38 @@ public enum IntConstraintFactory {
         return c;
     }
 
+    /**
+     * Half reification of a sum: BVAR => &#8721;<sub>i in |VARS|</sub>VARS<sub>i</sub> OP CSTE,
+     * where OP in {"=", "!=", ">","<",">=","<="}.
+     *
+     * @param VARS a vector of variables
+     * @param OP   an operator
+     * @param CSTE a constant
+     * @param BVAR variable of reification
+     */
+    public static ReifiedScalar sum_imp(IntVar[] VARS, String OP, int CSTE, BoolVar BVAR) {
+        return new ReifiedScalar(VARS, ones(VARS.length), Operator.get(OP), CSTE, BVAR, true);
+    }
+
+    /**
+     * Reification of a sum: BVAR <=> &#8721;<sub>i in |VARS|</sub>VARS<sub>i</sub> OP CSTE,
+     * where OP in {"=", "!=", ">","<",">=","<="}.
+     *
+     * @param VARS a vector of variables
+     * @param OP   an operator
+     * @param CSTE a constant
+     * @param BVAR variable of reification
+     */
+    public static ReifiedScalar sum_reif(IntVar[] VARS, String OP, int CSTE, BoolVar BVAR) {
+        return new ReifiedScalar(VARS, ones(VARS.length), Operator.get(OP), CSTE, BVAR, false);
+    }
+
+    private static int[] ones(int n) {
+        int[] ones = new int[n];
+        Arrays.fill(ones, 1);
+        return ones;
+    }
+
     /**
      * Create a table constraint, with the specified algorithm defined ALGORITHM
      * <p/>
@@ -832,16 +976,67 @@ public enum IntConstraintFactory {
      * <br/>
      * <b>AC32</b>: Arc Consistency version 32,
      * <br/>
+     * <b>CT</b>: Compact-Table, arc consistency based on reversible sparse bit sets (best suited for large tables),
+     * <br/>
      * <b>FC</b>: Forward Checking.
      *
      * @param VARS      first variable
      * @param RELATION  the relation between the two variables
-     * @param ALGORITHM to choose among {"AC2001", "AC32", "FC"}
+     * @param ALGORITHM to choose among {"AC2001", "AC32", "CT", "FC"}
      */
     public static LargeCSP table(IntVar[] VARS, LargeRelation RELATION, String ALGORITHM) {
         return new LargeCSP(VARS, RELATION, LargeCSP.Type.valueOf(ALGORITHM), VARS[0].getSolver());
     }
 
+    /**
+     * Create a table constraint over VARS, whose allowed tuples are TUPLES, with the specified algorithm ALGORITHM
+     * (see {@link #table(IntVar[], LargeRelation, String)}).
+     * <br/>
+     * The relation is obtained from {@link TuplesRegistry#getDefault()}: constraints defined over the same tuples
+     * and the same domain ranges share it.
+     *
+     * @param VARS      variables
+     * @param TUPLES    allowed tuples
+     * @param ALGORITHM to choose among {"AC2001", "AC32", "CT"}
+     */
+    public static LargeCSP table(IntVar[] VARS, List<int[]> TUPLES, String ALGORITHM) {
+        int[] offsets = new int[VARS.length];
+        int[] sizes = new int[VARS.length];
+        for (int i = 0; i < VARS.length; i++) {
+            int lb = VARS[i].getLB(), ub = VARS[i].getUB();
+            for (int[] tuple : TUPLES) {
+                lb = Math.min(lb, tuple[i]);
+                ub = Math.max(ub, tuple[i]);
+            }
+            offsets[i] = lb;
+            sizes[i] = ub - lb + 1;
+        }
+        return table(VARS, TuplesRegistry.getDefault().get(TUPLES, offsets, sizes), ALGORITHM);
+    }
+
+    /**
+     * Create a table constraint over VARS, whose allowed tuples are TUPLES, compressed into a multi-valued
+     * decision diagram. Well suited for large and structured tables: the size of the diagram, and the cost
+     * of the propagation, may be far below the number of tuples.
+     *
+     * @param VARS   variables
+     * @param TUPLES allowed tuples
+     */
+    public static MDDCSP mdd(IntVar[] VARS, List<int[]> TUPLES) {
+        return mdd(VARS, new MultivaluedDecisionDiagram(VARS.length, TUPLES));
+    }
+
+    /**
+     * Create a table constraint over VARS, whose allowed tuples are encoded by MDD.
+     * A diagram can be shared by several constraints.
+     *
+     * @param VARS variables
+     * @param MDD  a multi-valued decision diagram of arity VARS.length
+     */
+    public static MDDCSP mdd(IntVar[] VARS, MultivaluedDecisionDiagram MDD) {
+        return new MDDCSP(VARS, MDD, VARS[0].getSolver());
+    }
+
     /**
      * Partition succs variables into nbArbo (anti) arborescences
      * <p/> vars[i] = offset+j means that j is the successor of i.
@@ -29,6 +29,7 @@ package solver.constraints.binary;
 import solver.Solver;
 import solver.constraints.IntConstraint;
 import solver.constraints.propagators.binary.PropAbsolute;
+import solver.copy.ConstraintRecipe;
 import solver.variables.IntVar;
 import util.ESat;
 import util.tools.ArrayUtils;
@@ -56,4 +57,9 @@ public class Absolute extends IntConstraint<IntVar> {
     public String toString() {
         return String.format("%s = |%s|", vars[0].toString(), vars[1].toString());
     }
+
+    @Override
+    public ConstraintRecipe getRecipe() {
+        return new ConstraintRecipe(ConstraintRecipe.Kind.ABSOLUTE, vars);
+    }
 }
@@ -31,6 +31,7 @@ import solver.Solver;
 import solver.constraints.IntConstraint;
 import solver.constraints.propagators.binary.PropElement;
 import solver.constraints.propagators.nary.channeling.PropElementV;
+import solver.copy.ConstraintRecipe;
 import solver.variables.IntVar;
 import util.ESat;
 import util.tools.ArrayUtils;
@@ -110,4 +111,15 @@ public class Element extends IntConstraint<IntVar> {
         sb.append(">[").append(this.vars[1]).append(']');
         return sb.toString();
     }
+
+    @Override
+    public ConstraintRecipe getRecipe() {
+        if (vars.length > 2 || values.length == 0) {
+            return new ConstraintRecipe(ConstraintRecipe.Kind.ELEMENT_V, vars, offset);
+        }
+        int[] params = new int[values.length + 1];
+        params[0] = offset;
+        System.arraycopy(values, 0, params, 1, values.length);
+        return new ConstraintRecipe(ConstraintRecipe.Kind.ELEMENT, vars, params);
+    }
 }
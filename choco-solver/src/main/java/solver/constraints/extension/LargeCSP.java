@@ -41,7 +41,7 @@ import util.ESat;
 public class LargeCSP extends IntConstraint<IntVar> {
 
     public static enum Type {
-        AC32, AC2001, FC
+        AC32, AC2001, CT, FC
     }
 
     protected final LargeRelation relation;
@@ -53,6 +53,9 @@ public class LargeCSP extends IntConstraint<IntVar> {
             case FC:
                 setPropagators(new PropLargeCSP(vars, relation));
                 break;
+            case CT:
+                setPropagators(new PropCompactTable(vars, (IterTuplesTable) relation));
+                break;
             case AC2001:
                 setPropagators(new PropLargeGAC2001Positive(vars, (IterTuplesTable) relation));
                 break;
@@ -63,6 +66,13 @@ public class LargeCSP extends IntConstraint<IntVar> {
         }
     }
 
+    /**
+     * @return the relation of <code>this</code>
+     */
+    public LargeRelation getRelation() {
+        return relation;
+    }
+
     @Override
     public ESat isSatisfied(int[] tuple) {
         //return ESat.eval(relation.isConsistent(tuple));
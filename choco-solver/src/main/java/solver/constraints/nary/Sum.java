@@ -32,8 +32,8 @@ import memory.IStateBitSet;
 import solver.Solver;
 import solver.constraints.IntConstraint;
 import solver.constraints.IntConstraintFactory;
-import solver.constraints.propagators.nary.sum.PropBigSum;
-import solver.constraints.propagators.nary.sum.PropSumEq;
+import solver.constraints.propagators.nary.sum.PropScalarEq;
+import solver.copy.ConstraintRecipe;
 import solver.variables.IntVar;
 import solver.variables.VariableFactory;
 import solver.variables.fast.BitsetIntVarImpl;
@@ -54,9 +54,6 @@ import java.util.Arrays;
  */
 public class Sum extends IntConstraint<IntVar> {
 
-    public static int BIG_SUM_SIZE = 160;
-    public static int BIG_SUM_GROUP = 20;
-
     final int[] coeffs;
     final int b;
 
@@ -65,11 +62,7 @@ public class Sum extends IntConstraint<IntVar> {
         super(vars, solver);
         this.coeffs = coeffs.clone();
         this.b = b;
-        if (vars.length > BIG_SUM_SIZE) {
-            setPropagators(new PropBigSum(vars, coeffs, pos, b));
-        } else {
-            setPropagators(new PropSumEq(vars, coeffs, pos, b));
-        }
+        setPropagators(new PropScalarEq(vars, coeffs, pos, b));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -103,6 +96,24 @@ public class Sum extends IntConstraint<IntVar> {
         return new Sum(tmpV, tmpC, b, 0, solver);
     }
 
+    /**
+     * Ensures that sum{vars[i]*coeffs[i]} = b,
+     * where variables are all different and positive coefficients come before negative ones.
+     *
+     * @param vars   variables
+     * @param coeffs non-null coefficients
+     * @param b      a constant
+     * @param solver the solver
+     * @return a sum constraint
+     */
+    public static Sum build(IntVar[] vars, int[] coeffs, int b, Solver solver) {
+        int pos = 0;
+        while (pos < coeffs.length && coeffs[pos] > 0) {
+            pos++;
+        }
+        return new Sum(vars, coeffs, pos, b, solver);
+    }
+
     /**
      * Ensures that sum{vars[i]} = b
      *
@@ -188,9 +199,9 @@ public class Sum extends IntConstraint<IntVar> {
 
     @Override
     public ESat isSatisfied(int[] tuple) {
-        int sum = 0;
+        long sum = 0;
         for (int i = 0; i < tuple.length; i++) {
-            sum += coeffs[i] * tuple[i];
+            sum += (long) coeffs[i] * tuple[i];
         }
         return ESat.eval(sum == b);
     }
@@ -231,4 +242,12 @@ public class Sum extends IntConstraint<IntVar> {
     }
 
     ;
+
+    @Override
+    public ConstraintRecipe getRecipe() {
+        int[] params = new int[coeffs.length + 1];
+        params[0] = b;
+        System.arraycopy(coeffs, 0, params, 1, coeffs.length);
+        return new ConstraintRecipe(ConstraintRecipe.Kind.SUM, vars, params);
+    }
 }
@@ -33,6 +33,7 @@ import solver.constraints.propagators.Propagator;
 import solver.constraints.propagators.binary.PropNotEqualX_Y;
 import solver.constraints.propagators.nary.alldifferent.PropAllDiffAC_Fast;
 import solver.constraints.propagators.nary.alldifferent.PropAllDiffBC;
+import solver.copy.ConstraintRecipe;
 import solver.variables.IntVar;
 import solver.variables.Variable;
 import util.ESat;
@@ -53,8 +54,11 @@ public class AllDifferent extends IntConstraint<IntVar> {
         this(vars, solver, Type.BC);
     }
 
+    final Type type;
+
     public AllDifferent(IntVar[] vars, Solver solver, Type type) {
         super(vars, solver);
+        this.type = type;
         switch (type) {
             case NEQS: {
                 int s = vars.length;
@@ -131,4 +135,9 @@ public class AllDifferent extends IntConstraint<IntVar> {
         sb.append("})");
         return sb.toString();
     }
+
+    @Override
+    public ConstraintRecipe getRecipe() {
+        return new ConstraintRecipe(ConstraintRecipe.Kind.ALLDIFFERENT, vars, type.ordinal());
+    }
 }
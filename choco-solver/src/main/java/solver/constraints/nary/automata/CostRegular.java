@@ -42,7 +42,6 @@ import solver.exception.SolverException;
 import solver.variables.IntVar;
 import solver.variables.Variable;
 import util.ESat;
-import util.iterators.DisposableIntIterator;
 import util.objects.StoredIndexedBipartiteSet;
 import util.tools.ArrayUtils;
 
@@ -79,9 +78,8 @@ public class CostRegular extends IntConstraint<IntVar> {
         for (int i = 0; i < tuple.length - 1; i++) {
             found = false;
             StoredIndexedBipartiteSet bs = this.graph.GNodes.outArcs[first];
-            DisposableIntIterator it = bs.getIterator();
-            while (!found && it.hasNext()) {
-                int idx = it.next();
+            for (int k = 0, size = bs.size(); !found && k < size; k++) {
+                int idx = bs.get(k);
                 if (this.graph.GArcs.values[idx] == tuple[i]) {
                     found = true;
                     first = this.graph.GArcs.dests[idx];
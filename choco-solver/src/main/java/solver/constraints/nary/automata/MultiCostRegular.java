@@ -34,7 +34,6 @@ import solver.constraints.nary.automata.structure.multicostregular.StoredDirecte
 import solver.constraints.propagators.nary.automaton.PropMultiCostRegular;
 import solver.variables.IntVar;
 import util.ESat;
-import util.iterators.DisposableIntIterator;
 import util.tools.ArrayUtils;
 
 /**
@@ -88,19 +87,15 @@ public class MultiCostRegular extends IntConstraint<IntVar> {
         int coffset = vars.length - offset;
         int[] gcost = new int[coffset];
         for (int l = 0; l < graph.layers.length - 2; l++) {
-            DisposableIntIterator it = graph.layers[l].getIterator();
-            while (it.hasNext()) {
-                int orig = it.next();
-                DisposableIntIterator arcIter = graph.GNodes.outArcs[orig].getIterator();
-                while (arcIter.hasNext()) {
-                    int arc = arcIter.next();
+            for (int k = 0, size = graph.layers[l].size(); k < size; k++) {
+                int orig = graph.layers[l].get(k);
+                for (int a = 0, nbArcs = graph.GNodes.outArcs[orig].size(); a < nbArcs; a++) {
+                    int arc = graph.GNodes.outArcs[orig].get(a);
                     for (int i = 0; i < coffset; i++)
                         gcost[i] += graph.GArcs.originalCost[arc][i];
                 }
-                arcIter.dispose();
 
             }
-            it.dispose();
         }
         for (int i = 0; i < gcost.length; i++) {
             if (!vars[coffset + i].instantiated()) {
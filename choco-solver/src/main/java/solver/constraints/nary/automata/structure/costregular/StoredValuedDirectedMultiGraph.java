@@ -39,7 +39,6 @@ import solver.constraints.nary.automata.structure.Node;
 import solver.constraints.propagators.Propagator;
 import solver.exception.ContradictionException;
 import solver.variables.IntVar;
-import util.iterators.DisposableIntIterator;
 import util.objects.StoredIndexedBipartiteSet;
 import util.objects.StoredIndexedBipartiteSetWithOffset;
 
@@ -217,9 +216,8 @@ public class StoredValuedDirectedMultiGraph {
         for (int i = 1; i < layers.length; i++) {
             int[] layer = layers[i];
             for (int q : layer) {
-                DisposableIntIterator it = GNodes.inArcs[q].getIterator();
-                while (it.hasNext()) {
-                    int arc = it.next();
+                for (int k = 0, size = GNodes.inArcs[q].size(); k < size; k++) {
+                    int arc = GNodes.inArcs[q].get(k);
                     double acost = GArcs.costs[arc];
                     int orig = GArcs.origs[arc];
                     double otherS = GNodes.spfs.quickGet(orig) + acost;
@@ -235,7 +233,6 @@ public class StoredValuedDirectedMultiGraph {
                     }
 
                 }
-                it.dispose();
 
             }
 
@@ -244,9 +241,8 @@ public class StoredValuedDirectedMultiGraph {
         for (int i = layers.length - 2; i >= 0; i--) {
             int[] layer = layers[i];
             for (int q : layer) {
-                DisposableIntIterator it = GNodes.outArcs[q].getIterator();
-                while (it.hasNext()) {
-                    int arc = it.next();
+                for (int k = 0, size = GNodes.outArcs[q].size(); k < size; k++) {
+                    int arc = GNodes.outArcs[q].get(k);
                     double acost = GArcs.costs[arc];
                     int dest = GArcs.dests[arc];
                     double otherS = GNodes.spft.quickGet(dest) + acost;
@@ -261,7 +257,6 @@ public class StoredValuedDirectedMultiGraph {
                         GNodes.nextLP.quickSet(q, arc);
                     }
                 }
-                it.dispose();
             }
         }
 
@@ -325,11 +320,8 @@ public class StoredValuedDirectedMultiGraph {
         double tempPval2 = Double.NEGATIVE_INFINITY;
         int tempP = Integer.MIN_VALUE;
         int temp2 = Integer.MIN_VALUE;
-        DisposableIntIterator it = GNodes.outArcs[nid].getIterator();
-
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = GNodes.outArcs[nid].size(); k < size; k++) {
+            int arcId = GNodes.outArcs[nid].get(k);
             int dest = GArcs.dests[arcId];
             double spft = GNodes.spft.quickGet(dest) + GArcs.costs[arcId];
             if (tempPval > spft) {
@@ -345,7 +337,6 @@ public class StoredValuedDirectedMultiGraph {
 
 
         }
-        it.dispose();
         double old = GNodes.spft.quickSet(nid, tempPval);
         GNodes.nextSP.quickSet(nid, tempP);
 
@@ -353,10 +344,8 @@ public class StoredValuedDirectedMultiGraph {
         GNodes.nextLP.quickSet(nid, temp2);
 
         if (nid != sourceIndex && (old != tempPval || old2 != tempPval2)) {
-            it = GNodes.inArcs[nid].getIterator();
-
-            while (it.hasNext()) {
-                int arcId = it.next();
+            for (int k = 0, size = GNodes.inArcs[nid].size(); k < size; k++) {
+                int arcId = GNodes.inArcs[nid].get(k);
                 int orig = GArcs.origs[arcId];
                 if ((GNodes.nextSP.quickGet(orig) == arcId && old != tempPval) || (old2 != tempPval2 && GNodes.nextLP.quickGet(orig) == arcId)) {
                     toUpdateRight.push(orig);
@@ -372,7 +361,6 @@ public class StoredValuedDirectedMultiGraph {
                     toRemove.push(arcId);
                 }
             }
-            it.dispose();
         }
 
 
@@ -384,11 +372,8 @@ public class StoredValuedDirectedMultiGraph {
 
         double tempPval = Double.POSITIVE_INFINITY;
         int tempP = Integer.MIN_VALUE;
-        DisposableIntIterator it = GNodes.outArcs[nid].getIterator();
-
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = GNodes.outArcs[nid].size(); k < size; k++) {
+            int arcId = GNodes.outArcs[nid].get(k);
             int dest = GArcs.dests[arcId];
             double spft = GNodes.spft.quickGet(dest) + GArcs.costs[arcId];
             if (tempPval > spft) {
@@ -397,15 +382,12 @@ public class StoredValuedDirectedMultiGraph {
             }
 
         }
-        it.dispose();
         double old = GNodes.spft.quickSet(nid, tempPval);
         GNodes.nextSP.quickSet(nid, tempP);
 
         if (nid != sourceIndex && old != tempPval) {
-            it = GNodes.inArcs[nid].getIterator();
-
-            while (it.hasNext()) {
-                int arcId = it.next();
+            for (int k = 0, size = GNodes.inArcs[nid].size(); k < size; k++) {
+                int arcId = GNodes.inArcs[nid].get(k);
                 int orig = GArcs.origs[arcId];
                 if (GNodes.nextSP.quickGet(orig) == arcId) {
                     updateSPFT(orig, toRemove, propagator);
@@ -417,7 +399,6 @@ public class StoredValuedDirectedMultiGraph {
                     toRemove.push(arcId);
                 }
             }
-            it.dispose();
         }
 
     }
@@ -427,11 +408,8 @@ public class StoredValuedDirectedMultiGraph {
 
         double tempPval = Double.NEGATIVE_INFINITY;
         int tempP = Integer.MIN_VALUE;
-        DisposableIntIterator it = GNodes.outArcs[nid].getIterator();
-
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = GNodes.outArcs[nid].size(); k < size; k++) {
+            int arcId = GNodes.outArcs[nid].get(k);
             int dest = GArcs.dests[arcId];
             double lpft = GNodes.lpft.quickGet(dest) + GArcs.costs[arcId];
             if (tempPval < lpft) {
@@ -440,15 +418,12 @@ public class StoredValuedDirectedMultiGraph {
             }
 
         }
-        it.dispose();
         double old = GNodes.lpft.quickSet(nid, tempPval);
         GNodes.nextLP.quickSet(nid, tempP);
 
         if (nid != sourceIndex && old != tempPval) {
-            it = GNodes.inArcs[nid].getIterator();
-
-            while (it.hasNext()) {
-                int arcId = it.next();
+            for (int k = 0, size = GNodes.inArcs[nid].size(); k < size; k++) {
+                int arcId = GNodes.inArcs[nid].get(k);
                 int orig = GArcs.origs[arcId];
                 if (GNodes.nextLP.quickGet(orig) == arcId) {
                     updateLPFT(orig, toRemove, propagator);
@@ -460,7 +435,6 @@ public class StoredValuedDirectedMultiGraph {
                     toRemove.push(arcId);
                 }
             }
-            it.dispose();
         }
 
     }
@@ -472,11 +446,8 @@ public class StoredValuedDirectedMultiGraph {
         double tempPval2 = Double.NEGATIVE_INFINITY;
         int tempP2 = Integer.MIN_VALUE;
 
-        DisposableIntIterator it = GNodes.inArcs[nid].getIterator();
-
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = GNodes.inArcs[nid].size(); k < size; k++) {
+            int arcId = GNodes.inArcs[nid].get(k);
             int orig = GArcs.origs[arcId];
             double spfs = GNodes.spfs.quickGet(orig) + GArcs.costs[arcId];
             if (tempPval > spfs) {
@@ -491,17 +462,14 @@ public class StoredValuedDirectedMultiGraph {
 
         }
 
-        it.dispose();
         double old = GNodes.spfs.quickSet(nid, tempPval);
         GNodes.prevSP.quickSet(nid, tempP);
         double old2 = GNodes.lpfs.quickSet(nid, tempPval2);
         GNodes.prevLP.quickSet(nid, tempP2);
 
         if (nid != tinkIndex && (old != tempPval || old2 != tempPval2)) {
-            it = GNodes.outArcs[nid].getIterator();
-
-            while (it.hasNext()) {
-                int arcId = it.next();
+            for (int k = 0, size = GNodes.outArcs[nid].size(); k < size; k++) {
+                int arcId = GNodes.outArcs[nid].get(k);
                 int dest = GArcs.dests[arcId];
                 if ((old != tempPval && GNodes.prevSP.quickGet(dest) == arcId) || (old2 != tempPval2 && GNodes.prevLP.quickGet(dest) == arcId)) {
                     // updateLeft(dest,toRemove);
@@ -516,7 +484,6 @@ public class StoredValuedDirectedMultiGraph {
                     toRemove.push(arcId);
                 }
             }
-            it.dispose();
         }
 
 
@@ -527,11 +494,8 @@ public class StoredValuedDirectedMultiGraph {
 
         double tempPval = Double.POSITIVE_INFINITY;
         int tempP = Integer.MIN_VALUE;
-        DisposableIntIterator it = GNodes.inArcs[nid].getIterator();
-
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = GNodes.inArcs[nid].size(); k < size; k++) {
+            int arcId = GNodes.inArcs[nid].get(k);
             int orig = GArcs.origs[arcId];
             double spfs = GNodes.spfs.quickGet(orig) + GArcs.costs[arcId];
             if (tempPval > spfs) {
@@ -540,15 +504,12 @@ public class StoredValuedDirectedMultiGraph {
             }
 
         }
-        it.dispose();
         double old = GNodes.spfs.quickSet(nid, tempPval);
         GNodes.prevSP.quickSet(nid, tempP);
 
         if (nid != tinkIndex && old != tempPval) {
-            it = GNodes.outArcs[nid].getIterator();
-
-            while (it.hasNext()) {
-                int arcId = it.next();
+            for (int k = 0, size = GNodes.outArcs[nid].size(); k < size; k++) {
+                int arcId = GNodes.outArcs[nid].get(k);
                 int dest = GArcs.dests[arcId];
                 if (GNodes.prevSP.quickGet(dest) == arcId) {
                     updateSPFS(dest, toRemove, propagator);
@@ -560,7 +521,6 @@ public class StoredValuedDirectedMultiGraph {
                     toRemove.push(arcId);
                 }
             }
-            it.dispose();
         }
 
     }
@@ -570,11 +530,8 @@ public class StoredValuedDirectedMultiGraph {
 
         double tempPval = Double.NEGATIVE_INFINITY;
         int tempP = Integer.MIN_VALUE;
-        DisposableIntIterator it = GNodes.inArcs[nid].getIterator();
-
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = GNodes.inArcs[nid].size(); k < size; k++) {
+            int arcId = GNodes.inArcs[nid].get(k);
             int orig = GArcs.origs[arcId];
             double lpfs = GNodes.lpfs.quickGet(orig) + GArcs.costs[arcId];
             if (tempPval < lpfs) {
@@ -583,16 +540,13 @@ public class StoredValuedDirectedMultiGraph {
             }
 
         }
-        it.dispose();
         double old = GNodes.lpfs.quickSet(nid, tempPval);
         GNodes.prevLP.quickSet(nid, tempP);
 
 
         if (nid != tinkIndex && old != tempPval) {
-            it = GNodes.outArcs[nid].getIterator();
-
-            while (it.hasNext()) {
-                int arcId = it.next();
+            for (int k = 0, size = GNodes.outArcs[nid].size(); k < size; k++) {
+                int arcId = GNodes.outArcs[nid].get(k);
                 int dest = GArcs.dests[arcId];
                 if (GNodes.prevLP.quickGet(dest) == arcId) {
                     updateLPFS(dest, toRemove, propagator);
@@ -604,7 +558,6 @@ public class StoredValuedDirectedMultiGraph {
                     toRemove.push(arcId);
                 }
             }
-            it.dispose();
         }
 
     }
@@ -34,7 +34,6 @@ import solver.Configuration;
 import solver.constraints.propagators.Propagator;
 import solver.exception.ContradictionException;
 import solver.variables.IntVar;
-import util.iterators.DisposableIntIterator;
 import util.objects.StoredIndexedBipartiteSet;
 
 import java.util.Arrays;
@@ -363,16 +362,14 @@ public class FastPathFinder {
 
         for (int i = 1; i <= nbLayer; i++) {
             update = false;
-            DisposableIntIterator destIter = graph.layers[i].getIterator();
-            while (destIter.hasNext()) {
-                int dest = destIter.next();
+            for (int j = 0, nbNodes = graph.layers[i].size(); j < nbNodes; j++) {
+                int dest = graph.layers[i].get(j);
                 graph.GNodes.spfs[dest] = Double.POSITIVE_INFINITY;
                 graph.GNodes.lpfs[dest] = Double.NEGATIVE_INFINITY;
                 StoredIndexedBipartiteSet bs = graph.GNodes.inArcs[dest];
                 assert (!bs.isEmpty());
-                DisposableIntIterator in = bs.getIterator();
-                while (in.hasNext()) {
-                    int e = in.next();
+                for (int k = 0, size = bs.size(); k < size; k++) {
+                    int e = bs.get(k);
                     if (!graph.isInStack(e)) {
                         int orig = graph.GArcs.origs[e];//.getDestination();
                         double cost = getCost(e, resource, u, lagrange, max);
@@ -392,24 +389,20 @@ public class FastPathFinder {
                         }
                     }
                 }
-                in.dispose();
 
             }
-            destIter.dispose();
             if (!update) propagator.contradiction(null, "no update");
         }
         for (int i = nbLayer - 1; i >= 0; i--) {
             update = false;
-            DisposableIntIterator origIter = graph.layers[i].getIterator();
-            while (origIter.hasNext()) {
-                int orig = origIter.next();
+            for (int j = 0, nbNodes = graph.layers[i].size(); j < nbNodes; j++) {
+                int orig = graph.layers[i].get(j);
                 graph.GNodes.spft[orig] = Double.POSITIVE_INFINITY;
                 graph.GNodes.lpft[orig] = Double.NEGATIVE_INFINITY;
                 StoredIndexedBipartiteSet bs = graph.GNodes.outArcs[orig];
                 assert (!bs.isEmpty());
-                DisposableIntIterator out = bs.getIterator();//getInEdgeIterator(n);
-                while (out.hasNext()) {
-                    int e = out.next();
+                for (int k = 0, size = bs.size(); k < size; k++) {
+                    int e = bs.get(k);
                     if (!graph.isInStack(e)) {
                         int dest = graph.GArcs.dests[e];//e.getOrigin()  ;
                         double cost = graph.GArcs.temporaryCost[e];
@@ -437,10 +430,8 @@ public class FastPathFinder {
 
                     }
                 }
-                out.dispose();
 
             }
-            origIter.dispose();
             if (!update) propagator.contradiction(null, "no update");
         }
 
@@ -36,7 +36,6 @@ import solver.constraints.nary.automata.structure.Node;
 import solver.constraints.propagators.Propagator;
 import solver.exception.ContradictionException;
 import solver.variables.IntVar;
-import util.iterators.DisposableIntIterator;
 import util.objects.StoredIndexedBipartiteSetWithOffset;
 
 import java.util.Arrays;
@@ -68,12 +67,10 @@ public class StoredDirectedMultiGraph {
 
     public void delayedBoundUpdate(TIntStack toRemove, IntVar[] z, int... dim) {
         for (int i = 0; i < offsets.length; i++) {
-            DisposableIntIterator iter = this.layers[i].getIterator();
-            while (iter.hasNext()) {
-                int n = iter.next();
-                DisposableIntIterator it = this.GNodes.outArcs[n].getIterator();
-                while (it.hasNext()) {
-                    int arc = it.next();
+            for (int l = 0, nbNodes = this.layers[i].size(); l < nbNodes; l++) {
+                int n = this.layers[i].get(l);
+                for (int a = 0, nbArcs = this.GNodes.outArcs[n].size(); a < nbArcs; a++) {
+                    int arc = this.GNodes.outArcs[n].get(a);
                     int val = this.GArcs.values[arc];
                     int orig = this.GArcs.origs[arc];
                     int dest = this.GArcs.dests[arc];
@@ -87,9 +84,7 @@ public class StoredDirectedMultiGraph {
                         }
                     }
                 }
-                it.dispose();
             }
-            iter.dispose();
         }
     }
 
@@ -576,10 +571,8 @@ public class StoredDirectedMultiGraph {
     public int getRegret(int layer, int value, int... resources) {
         int result = Integer.MAX_VALUE;
         StoredIndexedBipartiteSetWithOffset arcs = this.getUBport(layer, value);
-        DisposableIntIterator it = arcs.getIterator();
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = arcs.size(); k < size; k++) {
+            int arcId = arcs.get(k);
             int origId = GArcs.origs[arcId];
             int destId = GArcs.dests[arcId];
             int cost = 0;
@@ -591,7 +584,6 @@ public class StoredDirectedMultiGraph {
 
 
         }
-        it.dispose();
         for (int r : resources) {
             result -= pf.spft[sourceIndex][r];
         }
@@ -605,11 +597,10 @@ public class StoredDirectedMultiGraph {
         int result = Integer.MAX_VALUE;
         StoredIndexedBipartiteSetWithOffset arcs = this.getUBport(layer, value);
 
-        DisposableIntIterator it = arcs.getIterator();
         int[] list = arcs._getStructure();
         int size = arcs.size();
-        for (int i = 0; i < size; i++) {//while (it.hasNext()) {
-            int arcId = list[i];//it.next();
+        for (int i = 0; i < size; i++) {
+            int arcId = list[i];
             int origId = GArcs.origs[arcId];
             int destId = GArcs.dests[arcId];
             int cost = 0;
@@ -619,7 +610,6 @@ public class StoredDirectedMultiGraph {
             if (cost < result)
                 result = cost;
         }
-        it.dispose();
         return result;
     }
 
@@ -629,10 +619,8 @@ public class StoredDirectedMultiGraph {
         minmax[0] = Integer.MAX_VALUE;
         minmax[1] = Integer.MIN_VALUE;
         StoredIndexedBipartiteSetWithOffset arcs = this.getUBport(layer, value);
-        DisposableIntIterator it = arcs.getIterator();
-
-        while (it.hasNext()) {
-            int arcId = it.next();
+        for (int k = 0, size = arcs.size(); k < size; k++) {
+            int arcId = arcs.get(k);
             int origId = GArcs.origs[arcId];
             int destId = GArcs.dests[arcId];
             int cost = 0;
@@ -644,18 +632,13 @@ public class StoredDirectedMultiGraph {
             if (cost > minmax[1])
                 minmax[1] = cost;
         }
-        it.dispose();
         return minmax;
     }
 
     public double[] getInstantiatedLayerCosts(int layer) {
         StoredIndexedBipartiteSetWithOffset couche = layers[layer];
-        DisposableIntIterator it = couche.getIterator();
-        int node = it.next();
-        it.dispose();
-        it = GNodes.outArcs[node].getIterator();
-        int arcId = it.next();
-        it.dispose();
+        int node = couche.get(0);
+        int arcId = GNodes.outArcs[node].get(0);
         return GArcs.originalCost[arcId];
     }
 
@@ -36,7 +36,6 @@ import solver.constraints.nary.automata.structure.Node;
 import solver.constraints.propagators.Propagator;
 import solver.exception.ContradictionException;
 import solver.variables.IntVar;
-import util.iterators.DisposableIntIterator;
 import util.iterators.DisposableRangeIterator;
 import util.objects.StoredIndexedBipartiteSet;
 import util.objects.StoredIndexedBipartiteSetWithOffset;
@@ -181,7 +180,6 @@ public class StoredDirectedMultiGraph {
                 }
             }
 
-            DisposableIntIterator it;
             StoredIndexedBipartiteSetWithOffset out = GNodes.outArcs[orig];
             StoredIndexedBipartiteSetWithOffset in;
 
@@ -191,12 +189,10 @@ public class StoredDirectedMultiGraph {
             if (GNodes.layers[orig] > 0 && out.isEmpty()) {
                 in = GNodes.inArcs[orig];
                 if (in != null) {
-                    it = in.getIterator();
-                    while (it.hasNext()) {
-                        int id = it.next();
+                    for (int k = 0, size = in.size(); k < size; k++) {
+                        int id = in.get(k);
                         stack.push(id);
                     }
-                    it.dispose();
                 }
             }
 
@@ -206,12 +202,10 @@ public class StoredDirectedMultiGraph {
             if (GNodes.layers[dest] < propagator.getNbVars() && in.isEmpty()) {
                 out = GNodes.outArcs[dest];
                 if (out != null) {
-                    it = out.getIterator();
-                    while (it.hasNext()) {
-                        int id = it.next();
+                    for (int k = 0, size = out.size(); k < size; k++) {
+                        int id = out.get(k);
                         stack.push(id);
                     }
-                    it.dispose();
                 }
 
             }
@@ -259,12 +253,10 @@ public class StoredDirectedMultiGraph {
 
     public void clearSupports(StoredIndexedBipartiteSet supports, Propagator p) throws ContradictionException {
         if (supports != null) {
-            DisposableIntIterator it = supports.getIterator();
-            while (it.hasNext()) {
-                int arcId = it.next();
+            for (int k = 0, size = supports.size(); k < size; k++) {
+                int arcId = supports.get(k);
                 stack.push(arcId);
             }
-            it.dispose();
             removeArc(p);
         }
     }
@@ -283,12 +275,10 @@ public class StoredDirectedMultiGraph {
 
         for (int i = 0; i < supports.length; i++) {
             if (supports[i] != null && !supports[i].isEmpty()) {
-                DisposableIntIterator it = supports[i].getIterator();
-                while (it.hasNext()) {
-                    int arcId = it.next();
+                for (int k = 0, size = supports[i].size(); k < size; k++) {
+                    int arcId = supports[i].get(k);
                     st.append(arcId).append(",");
                 }
-                it.dispose();
                 st.append("\n");
             }
         }
@@ -32,6 +32,7 @@ import solver.constraints.IntConstraint;
 import solver.constraints.propagators.nary.cnf.PropClause;
 import solver.constraints.propagators.nary.cnf.PropFalse;
 import solver.constraints.propagators.nary.cnf.PropTrue;
+import solver.copy.ConstraintRecipe;
 import solver.variables.BoolVar;
 import util.ESat;
 import util.VariableUtilities;
@@ -115,6 +116,28 @@ public class ConjunctiveNormalForm extends IntConstraint<BoolVar> {
         return so;
     }
 
+    @Override
+    public ConstraintRecipe getRecipe() {
+        int nbLits = 0;
+        for (int p = 0; p < propagators.length; p++) {
+            if (propagators[p] instanceof PropTrue || propagators[p] instanceof PropFalse) {
+                return null;
+            }
+            nbLits += propagators[p].getVars().length;
+        }
+        BoolVar[] lits = new BoolVar[nbLits];
+        int[] params = new int[2 * propagators.length];
+        for (int p = 0, k = 0; p < propagators.length; p++) {
+            PropClause clause = (PropClause) propagators[p];
+            BoolVar[] cvars = clause.getVars();
+            System.arraycopy(cvars, 0, lits, k, cvars.length);
+            k += cvars.length;
+            params[2 * p] = cvars.length;
+            params[2 * p + 1] = clause.getNbPositiveLiterals();
+        }
+        return new ConstraintRecipe(ConstraintRecipe.Kind.CLAUSES, lits, params);
+    }
+
     @Override
     public String toString() {
         StringBuilder st = new StringBuilder();
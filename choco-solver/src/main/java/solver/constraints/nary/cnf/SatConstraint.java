@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.nary.cnf;
+
+import solver.Solver;
+import solver.constraints.IntConstraint;
+import solver.constraints.propagators.nary.cnf.PropSat;
+import solver.variables.BoolVar;
+import util.ESat;
+import util.VariableUtilities;
+
+/**
+ * A constraint which stores the clauses of a Boolean logic formula in a single SAT-like clause store,
+ * with watched literals, instead of one propagator per clause (see {@link ConjunctiveNormalForm}).
+ * <br/>
+ * More clauses can be added later to the clause store, see {@link #getPropSat()}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class SatConstraint extends IntConstraint<BoolVar> {
+
+    final PropSat sat;
+
+    public SatConstraint(BoolVar[] vars, Solver solver) {
+        super(vars, solver);
+        sat = new PropSat(solver, this.vars);
+        setPropagators(sat);
+    }
+
+    public SatConstraint(ALogicTree tree, Solver solver) {
+        this(VariableUtilities.nonReundantVars(tree.flattenBoolVar()), solver);
+        addClauses(tree);
+    }
+
+    /**
+     * Add the clauses of <code>tree</code> to the clause store.
+     * The variables of <code>tree</code> must be declared in this.
+     *
+     * @param tree a Boolean logic formula
+     */
+    public void addClauses(ALogicTree tree) {
+        tree = LogicTreeToolBox.toCNF(tree);
+        if (Singleton.TRUE.equals(tree)) {
+            return;
+        }
+        if (Singleton.FALSE.equals(tree)) {
+            sat.addClause(new int[0]);
+            return;
+        }
+        ALogicTree[] clauses;
+        if (tree.is(ALogicTree.Operator.AND)) {
+            clauses = tree.getChildren();
+        } else {
+            clauses = new ALogicTree[]{tree};
+        }
+        for (int i = 0; i < clauses.length; i++) {
+            BoolVar[] bvars = clauses[i].flattenBoolVar();
+            int nbPos = clauses[i].getNbPositiveLiterals();
+            int[] lits = new int[bvars.length];
+            for (int j = 0; j < bvars.length; j++) {
+                int idx = sat.indexOf(bvars[j]);
+                if (idx == -1) {
+                    throw new UnsupportedOperationException(bvars[j].getName() + " is not declared in this constraint");
+                }
+                lits[j] = PropSat.lit(idx, j < nbPos);
+            }
+            sat.addClause(lits);
+        }
+    }
+
+    /**
+     * @return the clause store
+     */
+    public PropSat getPropSat() {
+        return sat;
+    }
+
+    @Override
+    public ESat isSatisfied(int[] tuple) {
+        return sat.isSatisfied(tuple);
+    }
+
+    @Override
+    public ESat isSatisfied() {
+        return sat.isEntailed();
+    }
+
+    @Override
+    public String toString() {
+        return sat.toString();
+    }
+}
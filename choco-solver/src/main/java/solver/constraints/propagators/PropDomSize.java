@@ -40,7 +40,7 @@ import solver.variables.EventType;
 import solver.variables.IntVar;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 
 public class PropDomSize extends Propagator<IntVar> {
 
@@ -110,7 +110,7 @@ public class PropDomSize extends Propagator<IntVar> {
         return ESat.TRUE;
     }
 
-    private class DirectedRemProc implements UnaryIntProcedure<Integer> {
+    private class DirectedRemProc implements UnaryIntIntProcedure {
         int idx;
 
         public void execute(int i) throws ContradictionException {
@@ -118,7 +118,7 @@ public class PropDomSize extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idx) {
+        public UnaryIntIntProcedure set(int idx) {
             this.idx = idx;
             return this;
         }
@@ -414,6 +414,16 @@ public abstract class Propagator<V extends Variable> implements Serializable, IC
         vindices[idx] = val;
     }
 
+    /**
+     * Unlink <code>this</code> from its variables.
+     * Called when the constraint it belongs to is removed from the solver.
+     */
+    public void unlinkVariables() {
+        for (int v = 0; v < vars.length; v++) {
+            vars[v].unlink(this, vindices[v]);
+        }
+    }
+
     /**
      * Returns the number of variables involved in <code>this</code>.
      *
@@ -532,6 +542,16 @@ public abstract class Propagator<V extends Variable> implements Serializable, IC
         solver.getEngine().fails(aCause, variable, message);
     }
 
+    /**
+     * Aborts the current propagation if the resolution has been cancelled.
+     * To be called within the main loops of costly filtering algorithms.
+     *
+     * @throws ContradictionException if the cancellation token of the solver is cancelled
+     */
+    protected final void checkCancellation() throws ContradictionException {
+        solver.getCancellationToken().check(solver.getEngine());
+    }
+
     @Override
     public int compareTo(Propagator o) {
         return this.ID - o.ID;
@@ -41,7 +41,7 @@ import solver.variables.Variable;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
 import util.iterators.DisposableRangeIterator;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 
 /**
  * | X - Y | op C <br/> op = {"==", "<", ">", "=/="} <br/>
@@ -376,7 +376,7 @@ public class PropDistanceXYC extends Propagator<IntVar> {
         }
     }
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
+    private static class RemProc implements UnaryIntIntProcedure {
 
         int idx;
         final PropDistanceXYC p;
@@ -386,7 +386,7 @@ public class PropDistanceXYC extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer integer) {
+        public UnaryIntIntProcedure set(int integer) {
             this.idx = integer;
             return this;
         }
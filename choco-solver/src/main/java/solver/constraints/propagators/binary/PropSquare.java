@@ -38,7 +38,7 @@ import solver.variables.EventType;
 import solver.variables.IntVar;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 import util.tools.ArrayUtils;
 
 /**
@@ -294,7 +294,7 @@ public class PropSquare extends Propagator<IntVar> {
         }
     }
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
+    private static class RemProc implements UnaryIntIntProcedure {
 
         private final PropSquare p;
         private int idxVar;
@@ -304,7 +304,7 @@ public class PropSquare extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idxVar) {
+        public UnaryIntIntProcedure set(int idxVar) {
             this.idxVar = idxVar;
             return this;
         }
@@ -29,6 +29,7 @@ package solver.constraints.propagators.extension.nary;
 
 import solver.exception.SolverException;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -57,6 +58,11 @@ public class IterTuplesTable extends TuplesList implements IterLargeRelation, La
      */
     protected int[] offsets;
 
+    /**
+     * masks[i][j] is the bit mask of the tuples supporting value j of variable i, built on demand
+     */
+    protected long[][][] masks;
+
     public IterTuplesTable(List<int[]> tuples, int[] offsets, int[] domSizes) {
         super(tuples);
         nbVar = domSizes.length;
@@ -146,6 +152,50 @@ public class IterTuplesTable extends TuplesList implements IterLargeRelation, La
         return table[var][val].length;
     }
 
+    /**
+     * Return the bit masks of the supports: bit k of <code>getSupportMasks()[i][j]</code> is set
+     * iff the k^th tuple supports value j (offset removed) of variable i.
+     * The masks are built once, and shared by all the propagators using <code>this</code>.
+     *
+     * @return the support masks, which must not be modified
+     */
+    public synchronized long[][][] getSupportMasks() {
+        if (masks == null) {
+            int nbWords = (tuplesIndexes.length + 63) >>> 6;
+            long[] none = new long[nbWords];
+            masks = new long[nbVar][][];
+            for (int i = 0; i < nbVar; i++) {
+                masks[i] = new long[dsizes[i]][];
+                for (int j = 0; j < dsizes[i]; j++) {
+                    masks[i][j] = table[i][j].length == 0 ? none : new long[nbWords];
+                    for (int k = 0; k < table[i][j].length; k++) {
+                        int t = table[i][j][k];
+                        masks[i][j][t >>> 6] |= 1L << (t & 63);
+                    }
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * @return <code>true</code> if <code>this</code> is defined over <code>tuples</code>, <code>offsets</code>
+     *         and <code>domSizes</code>
+     */
+    public boolean matches(List<int[]> tuples, int[] offsets, int[] domSizes) {
+        if (tuples.size() != tuplesIndexes.length
+                || !Arrays.equals(this.offsets, offsets) || !Arrays.equals(this.dsizes, domSizes)) {
+            return false;
+        }
+        int cpt = 0;
+        for (Iterator<int[]> it = tuples.iterator(); it.hasNext(); ) {
+            if (!Arrays.equals(tuplesIndexes[cpt++], it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public int getRelationOffset(int var) {
         return offsets[var];
     }
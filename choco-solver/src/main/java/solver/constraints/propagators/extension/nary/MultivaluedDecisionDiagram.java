@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.constraints.propagators.extension.nary;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A reduced, ordered, multi-valued decision diagram (MDD) encoding a set of tuples.
+ * <br/>
+ * Layer i of the diagram corresponds to the i^th position of the tuples; a tuple is encoded by a path from
+ * the root to the terminal node, whose arcs are labelled by the values of the tuple.
+ * The diagram is reduced at build time: two nodes with the same outgoing arcs are merged, so tuples
+ * sharing suffixes share nodes.
+ * <br/>
+ * Nodes are stored in a compact form: the arcs of node k are
+ * <code>arcValues[arcStart[k]..arcStart[k+1]-1]</code> and <code>arcChildren[arcStart[k]..arcStart[k+1]-1]</code>.
+ * The diagram is immutable and can be shared by several constraints.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class MultivaluedDecisionDiagram {
+
+    /**
+     * the terminal node
+     */
+    public static final int TERMINAL = 0;
+
+    /**
+     * the root, when the set of tuples is empty
+     */
+    public static final int EMPTY = -1;
+
+    private final int arity;
+
+    private final int root;
+
+    private final int[] arcStart;
+
+    private final int[] arcValues;
+
+    private final int[] arcChildren;
+
+    // smallest and largest value of each layer
+    private final int[] minValues, maxValues;
+
+    /**
+     * Node signature used to merge equivalent nodes while building the diagram.
+     */
+    private static final class Signature {
+        final int[] arcs;
+        final int hash;
+
+        Signature(int[] arcs) {
+            this.arcs = arcs;
+            this.hash = Arrays.hashCode(arcs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Signature && Arrays.equals(arcs, ((Signature) o).arcs);
+        }
+    }
+
+    // temporary structures, only used during the construction
+    private TIntArrayList starts, values, children;
+    private HashMap<Signature, Integer> signatures;
+
+    /**
+     * Build the reduced diagram of <code>tuples</code>.
+     *
+     * @param arity  size of the tuples
+     * @param tuples the tuples, not modified
+     */
+    public MultivaluedDecisionDiagram(final int arity, List<int[]> tuples) {
+        this.arity = arity;
+        int[][] ts = tuples.toArray(new int[tuples.size()][]);
+        Arrays.sort(ts, new Comparator<int[]>() {
+            @Override
+            public int compare(int[] t1, int[] t2) {
+                for (int i = 0; i < arity; i++) {
+                    if (t1[i] != t2[i]) {
+                        return t1[i] < t2[i] ? -1 : 1;
+                    }
+                }
+                return 0;
+            }
+        });
+        this.minValues = new int[arity];
+        this.maxValues = new int[arity];
+        Arrays.fill(minValues, Integer.MAX_VALUE);
+        Arrays.fill(maxValues, Integer.MIN_VALUE);
+        for (int k = 0; k < ts.length; k++) {
+            for (int i = 0; i < arity; i++) {
+                minValues[i] = Math.min(minValues[i], ts[k][i]);
+                maxValues[i] = Math.max(maxValues[i], ts[k][i]);
+            }
+        }
+        starts = new TIntArrayList();
+        values = new TIntArrayList();
+        children = new TIntArrayList();
+        signatures = new HashMap<Signature, Integer>();
+        // the terminal node has no arc
+        starts.add(0);
+        this.root = ts.length == 0 ? EMPTY : make(ts, 0, ts.length, 0);
+        starts.add(values.size());
+        this.arcStart = starts.toArray();
+        this.arcValues = values.toArray();
+        this.arcChildren = children.toArray();
+        starts = values = children = null;
+        signatures = null;
+    }
+
+    /**
+     * Build the node of layer <code>depth</code> encoding the suffixes of the (sorted) tuples
+     * <code>ts[from..to-1]</code>.
+     *
+     * @return the index of the node
+     */
+    private int make(int[][] ts, int from, int to, int depth) {
+        if (depth == arity) {
+            return TERMINAL;
+        }
+        TIntArrayList arcs = new TIntArrayList();
+        for (int i = from; i < to; ) {
+            int v = ts[i][depth];
+            int j = i + 1;
+            while (j < to && ts[j][depth] == v) {
+                j++;
+            }
+            arcs.add(v);
+            arcs.add(make(ts, i, j, depth + 1));
+            i = j;
+        }
+        Signature s = new Signature(arcs.toArray());
+        Integer node = signatures.get(s);
+        if (node == null) {
+            node = starts.size();
+            signatures.put(s, node);
+            starts.add(values.size());
+            for (int k = 0; k < s.arcs.length; k += 2) {
+                values.add(s.arcs[k]);
+                children.add(s.arcs[k + 1]);
+            }
+        }
+        return node;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * @return the root of the diagram, {@link #EMPTY} if it encodes no tuple
+     */
+    public int getRoot() {
+        return root;
+    }
+
+    public int getNbNodes() {
+        return arcStart.length - 1;
+    }
+
+    public int getNbArcs() {
+        return arcValues.length;
+    }
+
+    public int getFirstArc(int node) {
+        return arcStart[node];
+    }
+
+    public int getLastArc(int node) {
+        return arcStart[node + 1];
+    }
+
+    public int getValue(int arc) {
+        return arcValues[arc];
+    }
+
+    public int getChild(int arc) {
+        return arcChildren[arc];
+    }
+
+    /**
+     * @return the smallest value of the <code>layer</code>^th position of the tuples
+     */
+    public int getMinValue(int layer) {
+        return minValues[layer];
+    }
+
+    /**
+     * @return the largest value of the <code>layer</code>^th position of the tuples
+     */
+    public int getMaxValue(int layer) {
+        return maxValues[layer];
+    }
+
+    /**
+     * @return <code>true</code> if <code>tuple</code> is encoded by <code>this</code>
+     */
+    public boolean contains(int[] tuple) {
+        int node = root;
+        for (int i = 0; i < arity && node != EMPTY; i++) {
+            int next = EMPTY;
+            for (int a = arcStart[node]; a < arcStart[node + 1] && next == EMPTY; a++) {
+                if (arcValues[a] == tuple[i]) {
+                    next = arcChildren[a];
+                }
+            }
+            node = next;
+        }
+        return node == TERMINAL;
+    }
+}
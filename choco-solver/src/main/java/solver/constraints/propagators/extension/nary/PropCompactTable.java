@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.constraints.propagators.extension.nary;
+
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import solver.variables.delta.IIntDeltaMonitor;
+import util.ESat;
+import util.procedure.SafeIntProcedure;
+
+/**
+ * Compact-table propagator for positive tables, achieving generalized arc consistency.
+ * <br/>
+ * The valid tuples are stored in a reversible sparse bit set; each pair (variable, value) is associated with
+ * the bit mask of the tuples it appears in. On a domain modification, the bit set is updated either from
+ * the removed values (read from the delta of the variable) or from the remaining ones, whichever is smaller,
+ * then every value whose mask no longer intersects the bit set is removed.
+ * The masks are built by the relation and shared by all the propagators defined over it.
+ * <br/>
+ * Demeulenaere, Hartert, Lecoutre, Perez, Perron, Régin, Schaus: Compact-Table: Efficiently Filtering Table
+ * Constraints with Reversible Sparse Bit-Sets, CP'16.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropCompactTable extends Propagator<IntVar> {
+
+    /**
+     * the valid tuples
+     */
+    protected final RSparseBitSet currTable;
+
+    /**
+     * supports[i][v - offsets[i]] is the mask of tuples where vars[i] = v, shared with the relation
+     */
+    protected final long[][][] supports;
+
+    /**
+     * lower bounds of the relation
+     */
+    protected final int[] offsets;
+
+    /**
+     * residues[i][v - offsets[i]] is the index of the last word where a support of (vars[i], v) was found
+     */
+    protected final int[][] residues;
+
+    protected final IIntDeltaMonitor[] monitors;
+
+    // values removed from the variable currently updated
+    private final int[] removed;
+    private int nbRemoved;
+    private final SafeIntProcedure onRemoval;
+
+    public PropCompactTable(IntVar[] vars, IterTuplesTable relation) {
+        super(vars, PropagatorPriority.QUADRATIC, false);
+        int arity = vars.length;
+        this.offsets = new int[arity];
+        this.supports = relation.getSupportMasks();
+        this.residues = new int[arity][];
+        this.monitors = new IIntDeltaMonitor[arity];
+        int maxSize = 0;
+        for (int i = 0; i < arity; i++) {
+            offsets[i] = relation.getRelationOffset(i);
+            residues[i] = new int[supports[i].length];
+            maxSize = Math.max(maxSize, vars[i].getUB() - vars[i].getLB() + 1);
+            monitors[i] = vars[i].monitorDelta(this);
+        }
+        this.currTable = new RSparseBitSet(environment, relation.getTupleTable().length);
+        this.removed = new int[maxSize];
+        this.onRemoval = new SafeIntProcedure() {
+            @Override
+            public void execute(int i) {
+                removed[nbRemoved++] = i;
+            }
+        };
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return EventType.INT_ALL_MASK();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        for (int i = 0; i < vars.length; i++) {
+            resetBasedUpdate(i);
+            currTable.intersectWithMask();
+        }
+        if (currTable.isEmpty()) {
+            contradiction(null, "no more valid tuple");
+        }
+        filterDomains(-1);
+        for (int i = 0; i < vars.length; i++) {
+            monitors[i].unfreeze();
+        }
+    }
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        nbRemoved = 0;
+        monitors[vIdx].freeze();
+        monitors[vIdx].forEach(onRemoval, EventType.REMOVE);
+        monitors[vIdx].unfreeze();
+        if (nbRemoved < vars[vIdx].getDomainSize()) {
+            // incremental update: remove the tuples supporting the removed values
+            currTable.clearMask();
+            for (int j = 0; j < nbRemoved; j++) {
+                long[] m = mask(vIdx, removed[j]);
+                if (m != null) {
+                    currTable.addToMask(m);
+                }
+            }
+            currTable.reverseMask();
+        } else {
+            // from scratch: keep the tuples supporting the current values
+            resetBasedUpdate(vIdx);
+        }
+        currTable.intersectWithMask();
+        if (currTable.isEmpty()) {
+            contradiction(vars[vIdx], "no more valid tuple");
+        }
+        filterDomains(vIdx);
+    }
+
+    /**
+     * @return the mask of the tuples where <code>vars[i] = v</code>, <code>null</code> if <code>v</code> is out of
+     *         the relation
+     */
+    private long[] mask(int i, int v) {
+        int j = v - offsets[i];
+        return j < 0 || j >= supports[i].length ? null : supports[i][j];
+    }
+
+    /**
+     * Set the mask to the tuples supporting the current values of <code>vars[i]</code>.
+     */
+    private void resetBasedUpdate(int i) {
+        currTable.clearMask();
+        int ub = vars[i].getUB();
+        for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+            long[] m = mask(i, v);
+            if (m != null) {
+                currTable.addToMask(m);
+            }
+        }
+    }
+
+    private boolean isSupported(int i, int v) {
+        long[] sup = mask(i, v);
+        if (sup == null) {
+            return false;
+        }
+        int r = residues[i][v - offsets[i]];
+        if ((currTable.word(r) & sup[r]) != 0L) {
+            return true;
+        }
+        r = currTable.intersectIndex(sup);
+        if (r == -1) {
+            return false;
+        }
+        residues[i][v - offsets[i]] = r;
+        return true;
+    }
+
+    /**
+     * Remove the values which are not supported anymore, but those of <code>vars[skip]</code>.
+     */
+    private void filterDomains(int skip) throws ContradictionException {
+        boolean allInstantiated = true;
+        for (int i = 0; i < vars.length; i++) {
+            IntVar var = vars[i];
+            if (i != skip && !var.instantiated()) {
+                if (var.hasEnumeratedDomain()) {
+                    int ub = var.getUB();
+                    for (int v = var.getLB(); v <= ub; v = var.nextValue(v)) {
+                        if (!isSupported(i, v)) {
+                            var.removeValue(v, aCause);
+                        }
+                    }
+                } else {
+                    int lb = var.getLB();
+                    int ub = var.getUB();
+                    while (lb <= ub && !isSupported(i, lb)) {
+                        lb++;
+                    }
+                    var.updateLowerBound(lb, aCause);
+                    while (ub >= lb && !isSupported(i, ub)) {
+                        ub--;
+                    }
+                    var.updateUpperBound(ub, aCause);
+                }
+            }
+            allInstantiated &= var.instantiated();
+        }
+        if (allInstantiated) {
+            // the pending events are dropped once passive, and some instantiations may not have been
+            // intersected with the valid tuples yet (made by this pass or by another propagator): check the tuple
+            for (int i = 0; i < vars.length; i++) {
+                resetBasedUpdate(i);
+                currTable.intersectWithMask();
+            }
+            if (currTable.isEmpty()) {
+                contradiction(null, "no more valid tuple");
+            }
+            setPassive();
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            long[] inter = null;
+            for (int i = 0; i < vars.length; i++) {
+                int v = vars[i].getValue() - offsets[i];
+                if (v < 0 || v >= supports[i].length) {
+                    return ESat.FALSE;
+                }
+                if (inter == null) {
+                    inter = supports[i][v].clone();
+                } else {
+                    for (int w = 0; w < inter.length; w++) {
+                        inter[w] &= supports[i][v][w];
+                    }
+                }
+            }
+            for (int w = 0; w < inter.length; w++) {
+                if (inter[w] != 0L) {
+                    return ESat.TRUE;
+                }
+            }
+            return ESat.FALSE;
+        }
+        return ESat.UNDEFINED;
+    }
+}
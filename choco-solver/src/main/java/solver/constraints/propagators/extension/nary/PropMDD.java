@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.constraints.propagators.extension.nary;
+
+import memory.IStateInt;
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import util.ESat;
+
+import java.util.Arrays;
+
+/**
+ * Generalized arc consistency for a table encoded by a {@link MultivaluedDecisionDiagram}.
+ * <br/>
+ * Each propagation walks the diagram from the root, only following arcs whose value belongs to the domain of
+ * the variable of the layer; a value is supported iff it labels an arc lying on a path to the terminal node.
+ * Nodes from which the terminal node cannot be reached anymore are stored in a reversible sparse set,
+ * and are ignored by later propagations until backtrack: the cost of a propagation is proportional
+ * to the part of the diagram still alive.
+ * <br/>
+ * Cheng, Yap: An MDD-based Generalized Arc Consistency Algorithm for Positive and Negative Table Constraints
+ * and Some Global Constraints, Constraints 15(2), 2010.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropMDD extends Propagator<IntVar> {
+
+    protected final MultivaluedDecisionDiagram mdd;
+
+    // reversible sparse set of alive nodes: dense[0..nbAlive-1]
+    private final int[] dense, position;
+    private final IStateInt nbAlive;
+    private int alive;
+
+    // nodes visited (resp. reaching the terminal node) during the current propagation
+    private final int[] visited, reach;
+
+    // supported[i][v - minValue(i)] == stamp iff v is supported for vars[i]
+    private final int[][] supported;
+
+    private int stamp;
+
+    public PropMDD(IntVar[] vars, MultivaluedDecisionDiagram mdd) {
+        super(vars, PropagatorPriority.QUADRATIC, false);
+        this.mdd = mdd;
+        int n = mdd.getNbNodes();
+        this.dense = new int[n];
+        this.position = new int[n];
+        for (int k = 0; k < n; k++) {
+            dense[k] = position[k] = k;
+        }
+        this.nbAlive = environment.makeInt(n);
+        this.visited = new int[n];
+        this.reach = new int[n];
+        this.supported = new int[vars.length][];
+        for (int i = 0; i < vars.length; i++) {
+            supported[i] = new int[mdd.getRoot() == MultivaluedDecisionDiagram.EMPTY ? 0 :
+                    mdd.getMaxValue(i) - mdd.getMinValue(i) + 1];
+        }
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return EventType.INT_ALL_MASK();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (++stamp == Integer.MAX_VALUE) {
+            clearStamps();
+        }
+        alive = nbAlive.get();
+        int root = mdd.getRoot();
+        if (root == MultivaluedDecisionDiagram.EMPTY || !explore(root, 0)) {
+            contradiction(null, "no more valid tuple");
+        }
+        nbAlive.set(alive);
+        boolean allInstantiated = true;
+        for (int i = 0; i < vars.length; i++) {
+            IntVar var = vars[i];
+            if (var.hasEnumeratedDomain()) {
+                int ub = var.getUB();
+                for (int v = var.getLB(); v <= ub; v = var.nextValue(v)) {
+                    if (!isSupported(i, v)) {
+                        var.removeValue(v, aCause);
+                    }
+                }
+            } else {
+                int lb = var.getLB(), ub = var.getUB();
+                while (lb <= ub && !isSupported(i, lb)) {
+                    lb++;
+                }
+                var.updateLowerBound(lb, aCause);
+                while (ub >= lb && !isSupported(i, ub)) {
+                    ub--;
+                }
+                var.updateUpperBound(ub, aCause);
+            }
+            allInstantiated &= var.instantiated();
+        }
+        if (allInstantiated) {
+            setPassive();
+        }
+    }
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        forcePropagate(EventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Explore the sub-diagram rooted in <code>node</code>, of layer <code>layer</code>, and mark supported values.
+     *
+     * @return <code>true</code> if the terminal node can be reached from <code>node</code>
+     */
+    private boolean explore(int node, int layer) {
+        if (node == MultivaluedDecisionDiagram.TERMINAL) {
+            return true;
+        }
+        if (position[node] >= alive) {
+            return false;
+        }
+        if (visited[node] == stamp) {
+            return reach[node] == stamp;
+        }
+        visited[node] = stamp;
+        IntVar var = vars[layer];
+        int min = mdd.getMinValue(layer);
+        int last = mdd.getLastArc(node);
+        boolean found = false;
+        for (int a = mdd.getFirstArc(node); a < last; a++) {
+            int v = mdd.getValue(a);
+            if (var.contains(v) && explore(mdd.getChild(a), layer + 1)) {
+                supported[layer][v - min] = stamp;
+                found = true;
+            }
+        }
+        if (found) {
+            reach[node] = stamp;
+        } else {
+            // node is dead until backtrack
+            int p = position[node];
+            int other = dense[--alive];
+            dense[p] = other;
+            position[other] = p;
+            dense[alive] = node;
+            position[node] = alive;
+        }
+        return found;
+    }
+
+    private boolean isSupported(int i, int v) {
+        int j = v - mdd.getMinValue(i);
+        return j >= 0 && j < supported[i].length && supported[i][j] == stamp;
+    }
+
+    private void clearStamps() {
+        Arrays.fill(visited, 0);
+        Arrays.fill(reach, 0);
+        for (int i = 0; i < supported.length; i++) {
+            Arrays.fill(supported[i], 0);
+        }
+        stamp = 1;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            int[] tuple = new int[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                tuple[i] = vars[i].getValue();
+            }
+            return ESat.eval(mdd.contains(tuple));
+        }
+        return ESat.UNDEFINED;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.constraints.propagators.extension.nary;
+
+import memory.IEnvironment;
+import memory.IStateInt;
+import memory.IStateLong;
+
+/**
+ * A reversible sparse bit set, as used by compact-table.
+ * <br/>
+ * Only non-zero words are iterated: <code>index[0..limit]</code> stores the offsets of the non-zero words.
+ * When a word becomes zero, it is swapped with the last non-zero one and <code>limit</code> is decreased;
+ * since only <code>limit</code> is restored on backtrack, the permutation of <code>index</code> is kept as is.
+ * <br/>
+ * A temporary <code>mask</code> is used to collect, then apply, modifications.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+final class RSparseBitSet {
+
+    private final IStateLong[] words;
+
+    private final int[] index;
+
+    private final IStateInt limit;
+
+    private final long[] mask;
+
+    RSparseBitSet(IEnvironment environment, int nbBits) {
+        int nbWords = (nbBits + 63) >>> 6;
+        this.words = new IStateLong[nbWords];
+        this.index = new int[nbWords];
+        this.mask = new long[nbWords];
+        for (int i = 0; i < nbWords; i++) {
+            long w = -1L;
+            if (i == nbWords - 1 && (nbBits & 63) != 0) {
+                w = -1L >>> (64 - (nbBits & 63));
+            }
+            words[i] = environment.makeLong(w);
+            index[i] = i;
+        }
+        this.limit = environment.makeInt(nbWords - 1);
+    }
+
+    /**
+     * @return the number of words of <code>this</code>
+     */
+    int size() {
+        return words.length;
+    }
+
+    boolean isEmpty() {
+        return limit.get() == -1;
+    }
+
+    long word(int offset) {
+        return words[offset].get();
+    }
+
+    void clearMask() {
+        for (int i = limit.get(); i >= 0; i--) {
+            mask[index[i]] = 0L;
+        }
+    }
+
+    void reverseMask() {
+        for (int i = limit.get(); i >= 0; i--) {
+            int offset = index[i];
+            mask[offset] = ~mask[offset];
+        }
+    }
+
+    void addToMask(long[] m) {
+        for (int i = limit.get(); i >= 0; i--) {
+            int offset = index[i];
+            mask[offset] |= m[offset];
+        }
+    }
+
+    /**
+     * Intersect <code>this</code> with the mask.
+     */
+    void intersectWithMask() {
+        int l = limit.get();
+        for (int i = l; i >= 0; i--) {
+            int offset = index[i];
+            long o = words[offset].get();
+            long w = o & mask[offset];
+            if (w != o) {
+                words[offset].set(w);
+                if (w == 0L) {
+                    index[i] = index[l];
+                    index[l] = offset;
+                    l--;
+                }
+            }
+        }
+        if (l != limit.get()) {
+            limit.set(l);
+        }
+    }
+
+    /**
+     * @return the offset of a word where <code>this</code> and <code>m</code> intersect, -1 if there is none
+     */
+    int intersectIndex(long[] m) {
+        for (int i = limit.get(); i >= 0; i--) {
+            int offset = index[i];
+            if ((words[offset].get() & m[offset]) != 0L) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+}
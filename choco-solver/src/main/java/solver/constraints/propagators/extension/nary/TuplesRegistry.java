@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.constraints.propagators.extension.nary;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A registry of relations, which makes table constraints defined over the same tuples share a single,
+ * immutable, {@link IterTuplesTable}: the tuples, the lists of supports and the support masks are stored once,
+ * each propagator only maintains its own reversible state.
+ * <br/>
+ * Relations are weakly referenced: a relation is released as soon as no more constraint refers to it.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class TuplesRegistry {
+
+    private static final TuplesRegistry DEFAULT = new TuplesRegistry();
+
+    private static final class Entry extends WeakReference<IterTuplesTable> {
+        final int hash;
+
+        Entry(IterTuplesTable relation, int hash, ReferenceQueue<IterTuplesTable> queue) {
+            super(relation, queue);
+            this.hash = hash;
+        }
+    }
+
+    private final TIntObjectHashMap<List<Entry>> entries = new TIntObjectHashMap<List<Entry>>();
+
+    private final ReferenceQueue<IterTuplesTable> released = new ReferenceQueue<IterTuplesTable>();
+
+    /**
+     * @return the registry used by default by {@link solver.constraints.IntConstraintFactory}
+     */
+    public static TuplesRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Return the relation defined over <code>tuples</code>, <code>offsets</code> and <code>domSizes</code>,
+     * built if it is not registered yet.
+     *
+     * @param tuples   the allowed tuples, copied when the relation is built
+     * @param offsets  the lower bound of each variable
+     * @param domSizes the size of the domain of each variable
+     * @return a shared relation, which must not be modified
+     */
+    public synchronized IterTuplesTable get(List<int[]> tuples, int[] offsets, int[] domSizes) {
+        purge();
+        int hash = 31 * Arrays.hashCode(offsets) + Arrays.hashCode(domSizes);
+        for (Iterator<int[]> it = tuples.iterator(); it.hasNext(); ) {
+            hash = 31 * hash + Arrays.hashCode(it.next());
+        }
+        List<Entry> bucket = entries.get(hash);
+        if (bucket == null) {
+            bucket = new ArrayList<Entry>(1);
+            entries.put(hash, bucket);
+        }
+        for (int i = 0; i < bucket.size(); i++) {
+            IterTuplesTable relation = bucket.get(i).get();
+            if (relation != null && relation.matches(tuples, offsets, domSizes)) {
+                return relation;
+            }
+        }
+        List<int[]> copy = new ArrayList<int[]>(tuples.size());
+        for (Iterator<int[]> it = tuples.iterator(); it.hasNext(); ) {
+            copy.add(it.next().clone());
+        }
+        IterTuplesTable relation = new IterTuplesTable(copy, offsets.clone(), domSizes.clone());
+        bucket.add(new Entry(relation, hash, released));
+        return relation;
+    }
+
+    /**
+     * @return the number of relations currently registered
+     */
+    public synchronized int size() {
+        purge();
+        int size = 0;
+        for (List<Entry> bucket : entries.valueCollection()) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    /**
+     * Forget released relations.
+     */
+    private void purge() {
+        Entry e;
+        while ((e = (Entry) released.poll()) != null) {
+            List<Entry> bucket = entries.get(e.hash);
+            if (bucket != null) {
+                bucket.remove(e);
+                if (bucket.isEmpty()) {
+                    entries.remove(e.hash);
+                }
+            }
+        }
+    }
+}
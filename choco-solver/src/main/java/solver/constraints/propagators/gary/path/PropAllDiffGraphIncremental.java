@@ -39,6 +39,7 @@ import util.graphOperations.connectivity.StrongConnectivityFinder;
 import util.objects.graphs.DirectedGraph;
 import util.objects.setDataStructures.ISet;
 import util.objects.setDataStructures.SetType;
+import util.procedure.IntProcedure;
 import util.procedure.PairProcedure;
 
 import java.util.BitSet;
@@ -68,6 +69,8 @@ public class PropAllDiffGraphIncremental extends Propagator<DirectedGraphVar> {
     private DirectedGraph digraph;
     private int[] matching;
     private int[] nodeSCC;
+    private int filteredNode; // node whose successors are filtered
+    private IntProcedure filterArc;
     private BitSet free;
     private PairProcedure remProc;
     int matchingCardinality;
@@ -97,6 +100,7 @@ public class PropAllDiffGraphIncremental extends Propagator<DirectedGraphVar> {
         this.matchingCardinality = matchingCardinality;
         matching = new int[n2];
         nodeSCC = new int[n2];
+        filterArc = new FilterArc();
         digraph = new DirectedGraph(solver.getEnvironment(), n2, SetType.LINKED_LIST, false);
         free = new BitSet(n2);
         if (g.isDirected()) {
@@ -213,20 +217,9 @@ public class PropAllDiffGraphIncremental extends Propagator<DirectedGraphVar> {
     private void filter() throws ContradictionException {
         SCCfinder.findAllSCC();
         nodeSCC = SCCfinder.getNodesSCC();
-        ISet succ;
-        int j;
-        for (int node = 0; node < n; node++) {
-            succ = g.getEnvelopGraph().getSuccessorsOf(node);
-            for (j = succ.getFirstElement(); j >= 0; j = succ.getNextElement()) {
-                if (nodeSCC[node] != nodeSCC[j + n]) {
-                    if (matching[node] == j + n && matching[j + n] == node) {
-                        g.enforceArc(node, j, aCause);
-                    } else {
-                        g.removeArc(node, j, aCause);
-                        digraph.removeArc(node, j + n);
-                    }
-                }
-            }
+        for (filteredNode = 0; filteredNode < n; filteredNode++) {
+            // forEach tolerates the removal of the current arc
+            g.getEnvelopGraph().getSuccessorsOf(filteredNode).forEach(filterArc);
         }
     }
 
@@ -281,6 +274,20 @@ public class PropAllDiffGraphIncremental extends Propagator<DirectedGraphVar> {
         return ESat.TRUE;
     }
 
+    private class FilterArc implements IntProcedure {
+        public void execute(int j) throws ContradictionException {
+            int node = filteredNode;
+            if (nodeSCC[node] != nodeSCC[j + n]) {
+                if (matching[node] == j + n && matching[j + n] == node) {
+                    g.enforceArc(node, j, aCause);
+                } else {
+                    g.removeArc(node, j, aCause);
+                    digraph.removeArc(node, j + n);
+                }
+            }
+        }
+    }
+
     private class DirectedRemProc implements PairProcedure {
         public void execute(int from, int to) throws ContradictionException {
             to += n;
@@ -35,7 +35,6 @@
 package solver.constraints.propagators.gary.path;
 
 import choco.annotations.PropAnn;
-import gnu.trove.list.array.TIntArrayList;
 import memory.IStateInt;
 import solver.constraints.propagators.Propagator;
 import solver.constraints.propagators.PropagatorPriority;
@@ -67,8 +66,6 @@ public class PropSCCDoorsRules extends Propagator<DirectedGraphVar> {
     private int n;
     private PairProcedure arcRemoved;
     private BitSet sccComputed;
-    private TIntArrayList inDoors;
-    private TIntArrayList outDoors;
     // rg data structures
     private IStateInt nR;
     IStateInt[] sccOf;
@@ -97,8 +94,6 @@ public class PropSCCDoorsRules extends Propagator<DirectedGraphVar> {
         this.outArcs = outArcs;
         this.rg = rg;
         sccComputed = new BitSet(n);
-        inDoors = new TIntArrayList();
-        outDoors = new TIntArrayList();
     }
 
     public PropSCCDoorsRules(DirectedGraphVar graph,
@@ -144,17 +139,17 @@ public class PropSCCDoorsRules extends Propagator<DirectedGraphVar> {
     //***********************************************************************************
 
     private void checkSCCLink(int sccFrom) throws ContradictionException {
-        inDoors.clear();
-        outDoors.clear();
-        for (int i = outArcs[sccFrom].getFirstElement(); i >= 0; i = outArcs[sccFrom].getNextElement()) {
-            outDoors.add(i / n - 1);
-            inDoors.add(i % n);
-        }
-        if (inDoors.size() == 1) {
-            forceInDoor(inDoors.get(0));
+        // only the first arc matters: doors are forced when there is a single outgoing arc
+        int nbArcs = 0, inDoor = -1, outDoor = -1;
+        for (int i = outArcs[sccFrom].getFirstElement(); i >= 0 && nbArcs < 2; i = outArcs[sccFrom].getNextElement()) {
+            if (nbArcs++ == 0) {
+                outDoor = i / n - 1;
+                inDoor = i % n;
+            }
         }
-        if (outDoors.size() == 1) {
-            forceOutDoor(outDoors.get(0));
+        if (nbArcs == 1) {
+            forceInDoor(inDoor);
+            forceOutDoor(outDoor);
             // if 1 in & 1 out and scc>2 forbid in->out
             if (sccFirst != null) {
                 int sizeSCC = 0;
@@ -177,7 +172,7 @@ public class PropSCCDoorsRules extends Propagator<DirectedGraphVar> {
                         if (in == -1) {
                             throw new UnsupportedOperationException();
                         }
-                        g.removeArc(in, outDoors.get(0), aCause);
+                        g.removeArc(in, outDoor, aCause);
                     }
                 }
             }
@@ -44,6 +44,7 @@ import solver.variables.delta.monitor.GraphDeltaMonitor;
 import solver.variables.graph.UndirectedGraphVar;
 import util.ESat;
 import util.objects.setDataStructures.ISet;
+import util.procedure.IntProcedure;
 import util.procedure.PairProcedure;
 
 import java.util.BitSet;
@@ -62,11 +63,14 @@ public class PropTreeNoSubtour extends Propagator<UndirectedGraphVar> {
     GraphDeltaMonitor gdm;
     int n;
     private PairProcedure arcEnforced;
+    private IntProcedure removeArc;
     private IStateInt[] color, size;
     // list
     int[] fifo;
     int[] mate;
     BitSet in;
+    // state of the current enforcement, read by removeArc
+    int idxLast, x, ci, cj;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -86,6 +90,7 @@ public class PropTreeNoSubtour extends Propagator<UndirectedGraphVar> {
         arcEnforced = new EnfArc();
         fifo = new int[n];
         mate = new int[n];
+        removeArc = new RemArc();
         in = new BitSet(n);
         color = new IStateInt[n];
         size = new IStateInt[n];
@@ -149,29 +154,17 @@ public class PropTreeNoSubtour extends Propagator<UndirectedGraphVar> {
             contradiction(g, "");
         }
         int idxFirst = 0;
-        int idxLast = 0;
+        idxLast = 0;
         in.clear();
         in.set(i);
         fifo[idxLast++] = i;
-        int x, ck;
         mate[i] = j;
+        this.ci = ci;
+        this.cj = cj;
         while (idxFirst < idxLast) {
             x = fifo[idxFirst++];
-            ISet nei = g.getEnvelopGraph().getNeighborsOf(x);
-            for (int k = nei.getFirstElement(); k >= 0; k = nei.getNextElement()) {
-                if (k != mate[x]) {
-                    ck = color[k].get();
-                    if (ck == cj) {
-                        g.removeArc(x, k, aCause);
-                    } else {
-                        if (ck == ci && !in.get(k)) {
-                            in.set(k);
-                            fifo[idxLast++] = k;
-                            mate[k] = x;
-                        }
-                    }
-                }
-            }
+            // forEach tolerates the removal of the current edge
+            g.getEnvelopGraph().getNeighborsOf(x).forEach(removeArc);
             color[x].set(cj);
         }
         size[cj].add(size[ci].get());
@@ -181,6 +174,24 @@ public class PropTreeNoSubtour extends Propagator<UndirectedGraphVar> {
     // PROCEDURES
     //***********************************************************************************
 
+    private class RemArc implements IntProcedure {
+        @Override
+        public void execute(int k) throws ContradictionException {
+            if (k != mate[x]) {
+                int ck = color[k].get();
+                if (ck == cj) {
+                    g.removeArc(x, k, aCause);
+                } else {
+                    if (ck == ci && !in.get(k)) {
+                        in.set(k);
+                        fifo[idxLast++] = k;
+                        mate[k] = x;
+                    }
+                }
+            }
+        }
+    }
+
     private class EnfArc implements PairProcedure {
         @Override
         public void execute(int i, int j) throws ContradictionException {
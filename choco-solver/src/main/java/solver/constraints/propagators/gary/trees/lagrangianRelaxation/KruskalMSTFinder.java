@@ -35,6 +35,7 @@ import util.objects.graphs.DirectedGraph;
 import util.objects.graphs.UndirectedGraph;
 import util.objects.setDataStructures.ISet;
 import util.objects.setDataStructures.SetType;
+import util.procedure.IntProcedure;
 
 import java.util.Arrays;
 import java.util.BitSet;
@@ -58,6 +59,7 @@ public class KruskalMSTFinder extends AbstractTreeFinder {
     protected int ccN;
     protected DirectedGraph ccTree;
     protected int[] ccTp;
+    protected IntProcedure contractNode, linkToRoot; // applied to the active nodes of the CCtree
     protected double[] ccTEdgeCost;
     protected LCAGraphManager lca;
     protected int fromInterest, cctRoot;
@@ -83,6 +85,8 @@ public class KruskalMSTFinder extends AbstractTreeFinder {
         ccTree = new DirectedGraph(ccN, SetType.LINKED_LIST, false);
         ccTEdgeCost = new double[ccN];
         ccTp = new int[n];
+        contractNode = new ContractNode();
+        linkToRoot = new LinkToRoot();
         useful = new BitSet(n);
         lca = new LCAGraphManager(ccN);
     }
@@ -227,35 +231,16 @@ public class KruskalMSTFinder extends AbstractTreeFinder {
             return false;
         }
         //contract ccTree
-        int p, s;
         for (int i = useful.nextClearBit(0); i < n; i = useful.nextClearBit(i + 1)) {
             ccTree.desactivateNode(i);
         }
-        for (int i = ccTree.getActiveNodes().getFirstElement(); i >= 0; i = ccTree.getActiveNodes().getNextElement()) {
-            s = ccTree.getSuccessorsOf(i).getFirstElement();
-            if (s == -1) {
-                if (i >= n) {
-                    ccTree.desactivateNode(i);
-                }
-            } else if (ccTree.getSuccessorsOf(i).getNextElement() == -1) {
-                p = ccTree.getPredecessorsOf(i).getFirstElement();
-                ccTree.desactivateNode(i);
-                if (p != -1) {
-                    ccTree.addArc(p, s);
-                }
-            }
-        }
+        // forEach tolerates the desactivation of the current node
+        ccTree.getActiveNodes().forEach(contractNode);
         cctRoot++;
         int newNode = cctRoot;
         ccTree.activateNode(newNode);
         ccTEdgeCost[newNode] = propHK.getMinArcVal();
-        for (int i = ccTree.getActiveNodes().getFirstElement(); i >= 0; i = ccTree.getActiveNodes().getNextElement()) {
-            if (ccTree.getPredecessorsOf(i).getFirstElement() == -1) {
-                if (i != cctRoot) {
-                    ccTree.addArc(cctRoot, i);
-                }
-            }
-        }
+        ccTree.getActiveNodes().forEach(linkToRoot);
         return true;
     }
 
@@ -384,4 +369,33 @@ public class KruskalMSTFinder extends AbstractTreeFinder {
 //		}
 //		return p;
 //	}
+
+    private class ContractNode implements IntProcedure {
+        @Override
+        public void execute(int i) {
+            int s = ccTree.getSuccessorsOf(i).getFirstElement();
+            if (s == -1) {
+                if (i >= n) {
+                    ccTree.desactivateNode(i);
+                }
+            } else if (ccTree.getSuccessorsOf(i).getNextElement() == -1) {
+                int p = ccTree.getPredecessorsOf(i).getFirstElement();
+                ccTree.desactivateNode(i);
+                if (p != -1) {
+                    ccTree.addArc(p, s);
+                }
+            }
+        }
+    }
+
+    private class LinkToRoot implements IntProcedure {
+        @Override
+        public void execute(int i) {
+            if (ccTree.getPredecessorsOf(i).getFirstElement() == -1) {
+                if (i != cctRoot) {
+                    ccTree.addArc(cctRoot, i);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import solver.Solver;
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import util.ESat;
+
+import java.util.Arrays;
+
+/**
+ * A propagator to store and propagate nogoods.
+ * A nogood is a conjunction of literals, <i>x_i = v_i</i>, which cannot be satisfied together.
+ * <br/>
+ * Nogoods are propagated with two watched literals: the two first literals of a nogood are watched, and
+ * they are moved only when they become true. When all but one literal are true, the value of the remaining one is removed.
+ * Watched literals do not need to be restored on backtrack.
+ * <br/>
+ * Nogoods are not backtrackable: once added, they hold for the rest of the resolution.
+ * As a consequence, this propagator should be posted as a cut (see {@link solver.Solver#postCut(solver.constraints.Constraint)}),
+ * so that it is fully propagated again after each restart.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropNogoods extends Propagator<IntVar> {
+
+    final TIntIntHashMap vid2idx; // variable ID to index in vars
+
+    int[][] ngVars; // indices, in vars, of the variables of each nogood
+    int[][] ngVals; // values of each nogood
+    int nbNogoods;
+
+    final TIntArrayList[] watches; // for each variable, the nogoods watching it
+
+    @SuppressWarnings({"unchecked"})
+    public PropNogoods(Solver solver, IntVar[] vars) {
+        super(solver, vars, PropagatorPriority.LINEAR, false);
+        vid2idx = new TIntIntHashMap(vars.length, 0.5f, -1, -1);
+        watches = new TIntArrayList[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            vid2idx.put(this.vars[i].getId(), i);
+            watches[i] = new TIntArrayList();
+        }
+        ngVars = new int[16][];
+        ngVals = new int[16][];
+        nbNogoods = 0;
+    }
+
+    /**
+     * Return the index of <code>var</code> in this, -1 if it is not declared in this.
+     *
+     * @param var a variable
+     * @return its index, or -1
+     */
+    public int indexOf(IntVar var) {
+        return vid2idx.get(var.getId());
+    }
+
+    /**
+     * Add the nogood <i>vars[idx[0]] = vals[0] and ... and vars[idx[n-1]] = vals[n-1]</i>.
+     * It will be taken into account on the next full propagation of this.
+     *
+     * @param idx  indices of the variables, as returned by {@link #indexOf(solver.variables.IntVar)}
+     * @param vals values
+     */
+    public void addNogood(int[] idx, int[] vals) {
+        assert idx.length == vals.length && idx.length > 0;
+        if (nbNogoods == ngVars.length) {
+            int nsize = nbNogoods * 3 / 2 + 1;
+            ngVars = Arrays.copyOf(ngVars, nsize);
+            ngVals = Arrays.copyOf(ngVals, nsize);
+        }
+        ngVars[nbNogoods] = idx.clone();
+        ngVals[nbNogoods] = vals.clone();
+        nbNogoods++;
+    }
+
+    /**
+     * @return the number of nogoods stored
+     */
+    public int getNbNogoods() {
+        return nbNogoods;
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return EventType.INSTANTIATE.mask;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        for (int i = 0; i < vars.length; i++) {
+            watches[i].resetQuick();
+        }
+        for (int n = 0; n < nbNogoods; n++) {
+            int[] nvars = ngVars[n];
+            if (nvars.length == 1) {
+                vars[nvars[0]].removeValue(ngVals[n][0], aCause);
+                watches[nvars[0]].add(n);
+            } else {
+                // put two not true literals, if any, in first positions
+                int w = 0;
+                for (int k = 0; k < nvars.length && w < 2; k++) {
+                    if (!isTrue(n, k)) {
+                        swap(n, w++, k);
+                    }
+                }
+                watches[nvars[0]].add(n);
+                watches[nvars[1]].add(n);
+            }
+        }
+        // then, deal with true watched literals
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].instantiated()) {
+                awakeOnInst(i);
+            }
+        }
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        awakeOnInst(idxVarInProp);
+    }
+
+    /**
+     * The variable at <code>idx</code> has been instantiated, check the nogoods watching it.
+     */
+    private void awakeOnInst(int idx) throws ContradictionException {
+        int value = vars[idx].getValue();
+        TIntArrayList wlist = watches[idx];
+        int i = 0;
+        while (i < wlist.size()) {
+            int n = wlist.getQuick(i);
+            int[] nvars = ngVars[n];
+            int p = nvars[0] == idx && ngVals[n][0] == value ? 0
+                    : nvars.length > 1 && nvars[1] == idx && ngVals[n][1] == value ? 1 : -1;
+            if (p == -1) {
+                // the watched literal is false, the nogood is satisfied
+                i++;
+                continue;
+            }
+            if (nvars.length == 1) {
+                contradiction(vars[idx], "nogood");
+            }
+            // look for another not true literal to watch
+            int k = 2;
+            while (k < nvars.length && isTrue(n, k)) {
+                k++;
+            }
+            if (k < nvars.length) {
+                swap(n, p, k);
+                wlist.setQuick(i, wlist.getQuick(wlist.size() - 1));
+                wlist.removeAt(wlist.size() - 1);
+                watches[nvars[p]].add(n);
+            } else {
+                // all literals but the other watched one are true
+                int o = 1 - p;
+                IntVar other = vars[nvars[o]];
+                if (other.instantiatedTo(ngVals[n][o])) {
+                    contradiction(other, "nogood");
+                }
+                if (other.removeValue(ngVals[n][o], aCause) && other.instantiated()) {
+                    awakeOnInst(nvars[o]);
+                }
+                i++;
+            }
+        }
+    }
+
+    private boolean isTrue(int n, int k) {
+        return vars[ngVars[n][k]].instantiatedTo(ngVals[n][k]);
+    }
+
+    private void swap(int n, int i, int j) {
+        int[] nvars = ngVars[n];
+        int[] nvals = ngVals[n];
+        int t = nvars[i];
+        nvars[i] = nvars[j];
+        nvars[j] = t;
+        t = nvals[i];
+        nvals[i] = nvals[j];
+        nvals[j] = t;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        boolean allSatisfied = true;
+        for (int n = 0; n < nbNogoods; n++) {
+            int nbTrue = 0;
+            boolean satisfied = false;
+            for (int k = 0; k < ngVars[n].length && !satisfied; k++) {
+                IntVar var = vars[ngVars[n][k]];
+                if (!var.contains(ngVals[n][k])) {
+                    satisfied = true;
+                } else if (var.instantiated()) {
+                    nbTrue++;
+                }
+            }
+            if (!satisfied) {
+                if (nbTrue == ngVars[n].length) {
+                    return ESat.FALSE;
+                }
+                allSatisfied = false;
+            }
+        }
+        return allSatisfied ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        return "PropNogoods(" + nbNogoods + " nogoods)";
+    }
+}
@@ -39,9 +39,8 @@ import solver.variables.EventType;
 import solver.variables.IntVar;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
-import util.iterators.DisposableIntIterator;
 import util.objects.StoredIndexedBipartiteSet;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 
 /**
  * <br/>
@@ -134,9 +133,8 @@ public class PropCostRegular extends Propagator<IntVar> {
                 found = false;
                 str[i] = vars[i].getValue();
                 StoredIndexedBipartiteSet bs = this.graph.GNodes.outArcs[first];
-                DisposableIntIterator it = bs.getIterator();
-                while (!found && it.hasNext()) {
-                    int idx = it.next();
+                for (int k = 0, size = bs.size(); !found && k < size; k++) {
+                    int idx = bs.get(k);
                     if (this.graph.GArcs.values[idx] == vars[i].getValue()) {
                         found = true;
                         first = this.graph.GArcs.dests[idx];
@@ -162,10 +160,9 @@ public class PropCostRegular extends Propagator<IntVar> {
         vars[zIdx].updateLowerBound((int) Math.ceil(zinf), aCause);
         vars[zIdx].updateUpperBound((int) Math.floor(zsup), aCause);
 
-        DisposableIntIterator it = this.graph.inGraph.getIterator();
         //for (int id = this.graph.inGraph.nextSetBit(0) ; id >=0 ; id = this.graph.inGraph.nextSetBit(id+1))  {
-        while (it.hasNext()) {
-            int id = it.next();
+        for (int k = 0, size = this.graph.inGraph.size(); k < size; k++) {
+            int id = this.graph.inGraph.get(k);
             int orig = this.graph.GArcs.origs[id];
             int dest = this.graph.GArcs.dests[id];
 
@@ -184,7 +181,6 @@ public class PropCostRegular extends Propagator<IntVar> {
             }
         }
 
-        it.dispose();
 
         try {
             do {
@@ -229,10 +225,9 @@ public class PropCostRegular extends Propagator<IntVar> {
 
         if (boundChange.get()) {
             boundChange.set(false);
-            DisposableIntIterator it = this.graph.inGraph.getIterator();
             //for (int id = this.graph.inGraph.nextSetBit(0) ; id >=0 ; id = this.graph.inGraph.nextSetBit(id+1))  {
-            while (it.hasNext()) {
-                int id = it.next();
+            for (int k = 0, size = this.graph.inGraph.size(); k < size; k++) {
+                int id = this.graph.inGraph.get(k);
                 int orig = this.graph.GArcs.origs[id];
                 int dest = this.graph.GArcs.dests[id];
 
@@ -249,7 +244,6 @@ public class PropCostRegular extends Propagator<IntVar> {
                     this.toRemove.push(id);
                 }
             }
-            it.dispose();
 
         }
 
@@ -277,7 +271,7 @@ public class PropCostRegular extends Propagator<IntVar> {
     }
 
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
+    private static class RemProc implements UnaryIntIntProcedure {
 
         private final PropCostRegular p;
         private int idxVar;
@@ -287,7 +281,7 @@ public class PropCostRegular extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idxVar) {
+        public UnaryIntIntProcedure set(int idxVar) {
             this.idxVar = idxVar;
             return this;
         }
@@ -296,16 +290,14 @@ public class PropCostRegular extends Propagator<IntVar> {
         public void execute(int i) throws ContradictionException {
             StoredIndexedBipartiteSet sup = p.graph.getSupport(idxVar, i);
             if (sup != null) {
-                DisposableIntIterator it = sup.getIterator();
-                while (it.hasNext()) {
-                    int arcId = it.next();
+                for (int k = 0, size = sup.size(); k < size; k++) {
+                    int arcId = sup.get(k);
                     if (!p.graph.isInStack(arcId)) {
                         p.graph.setInStack(arcId);
                         p.toRemove.push(arcId);
 //                        mod = true;
                     }
                 }
-                it.dispose();
             }
         }
     }
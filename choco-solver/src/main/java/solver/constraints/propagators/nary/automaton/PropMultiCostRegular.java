@@ -50,9 +50,8 @@ import solver.variables.EventType;
 import solver.variables.IntVar;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
-import util.iterators.DisposableIntIterator;
 import util.objects.StoredIndexedBipartiteSet;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 import util.tools.ArrayUtils;
 
 import java.util.*;
@@ -862,12 +861,10 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
     public boolean isGraphConsistent() {
         boolean ret = true;
         for (int i = 0; i < offset; i++) {
-            DisposableIntIterator iter = this.graph.layers[i].getIterator();
-            while (iter.hasNext()) {
-                int n = iter.next();
-                DisposableIntIterator it = this.graph.GNodes.outArcs[n].getIterator();
-                while (it.hasNext()) {
-                    int arc = it.next();
+            for (int j = 0, nbNodes = this.graph.layers[i].size(); j < nbNodes; j++) {
+                int n = this.graph.layers[i].get(j);
+                for (int k = 0, size = this.graph.GNodes.outArcs[n].size(); k < size; k++) {
+                    int arc = this.graph.GNodes.outArcs[n].get(k);
                     int val = this.graph.GArcs.values[arc];
                     if (!vars[i].contains(val)) {
                         System.err.println("Arc " + arc + " from node " + n + " to node" + this.graph.GArcs.dests[arc] + " with value " + val + " in layer " + i + " should not be here");
@@ -875,7 +872,6 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
                     }
                 }
             }
-            iter.dispose();
         }
         return ret;
     }
@@ -925,19 +921,15 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
         }
         int[] gcost = new int[z.length];
         for (int l = 0; l < graph.layers.length - 2; l++) {
-            DisposableIntIterator it = graph.layers[l].getIterator();
-            while (it.hasNext()) {
-                int orig = it.next();
-                DisposableIntIterator arcIter = graph.GNodes.outArcs[orig].getIterator();
-                while (arcIter.hasNext()) {
-                    int arc = arcIter.next();
+            for (int k = 0, size = graph.layers[l].size(); k < size; k++) {
+                int orig = graph.layers[l].get(k);
+                for (int a = 0, nbArcs = graph.GNodes.outArcs[orig].size(); a < nbArcs; a++) {
+                    int arc = graph.GNodes.outArcs[orig].get(a);
                     for (int i = 0; i < z.length; i++)
                         gcost[i] += graph.GArcs.originalCost[arc][i];
                 }
-                arcIter.dispose();
 
             }
-            it.dispose();
         }
         for (int i = 0; i < gcost.length; i++) {
             if (!z[i].instantiated()) {
@@ -993,7 +985,7 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
     }
 
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
+    private static class RemProc implements UnaryIntIntProcedure {
 
         private final PropMultiCostRegular p;
         private int idxVar;
@@ -1003,7 +995,7 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idxVar) {
+        public UnaryIntIntProcedure set(int idxVar) {
             this.idxVar = idxVar;
             return this;
         }
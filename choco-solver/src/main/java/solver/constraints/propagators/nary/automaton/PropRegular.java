@@ -43,7 +43,7 @@ import solver.variables.Variable;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
 import util.objects.StoredIndexedBipartiteSet;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 
 import java.util.ArrayList;
 import java.util.BitSet;
@@ -133,7 +133,7 @@ public class PropRegular extends Propagator<IntVar> {
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
+    private static class RemProc implements UnaryIntIntProcedure {
 
         private final PropRegular p;
         private int idxVar;
@@ -143,7 +143,7 @@ public class PropRegular extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idxVar) {
+        public UnaryIntIntProcedure set(int idxVar) {
             this.idxVar = idxVar;
             return this;
         }
@@ -35,7 +35,7 @@ import solver.variables.IntVar;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
 import util.VariableUtilities;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 import util.tools.ArrayUtils;
 
 /**
@@ -441,7 +441,7 @@ public class PropElementV extends Propagator<IntVar> {
     }
 
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
+    private static class RemProc implements UnaryIntIntProcedure {
 
         private final PropElementV p;
         private int idxVar;
@@ -451,7 +451,7 @@ public class PropElementV extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idxVar) {
+        public UnaryIntIntProcedure set(int idxVar) {
             this.idxVar = idxVar;
             return this;
         }
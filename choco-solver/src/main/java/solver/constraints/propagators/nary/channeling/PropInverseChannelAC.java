@@ -34,7 +34,7 @@ import solver.variables.EventType;
 import solver.variables.IntVar;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 import util.tools.ArrayUtils;
 
 import java.util.Arrays;
@@ -126,11 +126,11 @@ public class PropInverseChannelAC extends Propagator<IntVar> {
         }
     }
 
-    private class RemProc implements UnaryIntProcedure<Integer> {
+    private class RemProc implements UnaryIntIntProcedure {
         private int var;
 
         @Override
-        public UnaryIntProcedure set(Integer idxVar) {
+        public UnaryIntIntProcedure set(int idxVar) {
             this.var = idxVar;
             return this;
         }
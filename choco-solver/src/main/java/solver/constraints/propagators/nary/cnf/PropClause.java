@@ -61,6 +61,13 @@ public class PropClause extends Propagator<BoolVar> {
         this.firstNotPosLit = 0;
     }
 
+    /**
+     * @return the number of positive literals, which are the first variables of <code>this</code>
+     */
+    public int getNbPositiveLiterals() {
+        return firstNotPosLit;
+    }
+
     void awakeOnInst(int index) throws ContradictionException {
         int val = vars[index].getValue();
         if ((index < firstNotPosLit && val == 1)
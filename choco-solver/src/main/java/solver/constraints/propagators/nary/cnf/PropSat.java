@@ -0,0 +1,554 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.cnf;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import memory.IStateInt;
+import solver.Solver;
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.explanations.Deduction;
+import solver.explanations.Explanation;
+import solver.explanations.VariableState;
+import solver.variables.BoolVar;
+import solver.variables.EventType;
+import util.ESat;
+
+import java.util.Arrays;
+
+/**
+ * A SAT-like clause store, over boolean variables.
+ * <br/>
+ * A literal is encoded as an int: <i>2 * idx</i> stands for <i>vars[idx] = 1</i>,
+ * <i>2 * idx + 1</i> stands for <i>vars[idx] = 0</i> (see {@link #lit(int, boolean)}).
+ * Clauses are propagated with two watched literals, the two first ones of each clause:
+ * they are moved only when they become false and they do not need to be restored on backtrack.
+ * <br/>
+ * Clauses can also be learnt during the search (see {@link #addLearnt(int[])}).
+ * Learnt clauses are integrated lazily, on the next call to the propagator, and
+ * the less active ones are regularly forgotten.
+ * <br/>
+ * The propagator records which clause instantiated each variable, to give short explanations;
+ * these reasons are backtrackable.
+ * <br/>
+ * Unit propagation is run with an explicit queue of the variables instantiated by this propagator,
+ * so long chains of implications do not grow the call stack.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropSat extends Propagator<BoolVar> {
+
+    private static final double DECAY = 1 / 0.999;
+
+    final TIntIntHashMap vid2idx; // variable ID to index in vars
+
+    int[][] clauses; // clauses, null when deleted
+    boolean[] learnt; // is a clause learnt?
+    double[] activity; // activity of learnt clauses
+    int nbClauses; // number of clauses slots
+    final TIntArrayList free; // free clause slots
+
+    final TIntArrayList[] watches; // for each literal, the clauses watching it
+    final TIntArrayList units; // unit clauses, as literals
+    final TIntArrayList pending; // learnt clauses not yet watched
+    boolean trivialFail; // set to true when an empty clause is added
+
+    final IStateInt[] reason; // for each variable, the clause which instantiated it, -1 for unit clause
+    final TIntArrayList toPropagate; // variables instantiated by this, whose watched literals remain to be checked
+    int conflict; // the last clause found to be false
+
+    double clauseInc; // activity increment
+    int nbLearnt, maxLearnt;
+
+    @SuppressWarnings({"unchecked"})
+    public PropSat(Solver solver, BoolVar[] vars) {
+        super(solver, vars, PropagatorPriority.LINEAR, false);
+        vid2idx = new TIntIntHashMap(vars.length, 0.5f, -1, -1);
+        watches = new TIntArrayList[2 * vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            vid2idx.put(this.vars[i].getId(), i);
+            watches[2 * i] = new TIntArrayList();
+            watches[2 * i + 1] = new TIntArrayList();
+        }
+        reason = new IStateInt[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            reason[i] = environment.makeInt(-1);
+        }
+        toPropagate = new TIntArrayList();
+        clauses = new int[16][];
+        learnt = new boolean[16];
+        activity = new double[16];
+        free = new TIntArrayList();
+        units = new TIntArrayList();
+        pending = new TIntArrayList();
+        clauseInc = 1;
+        conflict = -1;
+    }
+
+    /**
+     * Return the literal which states that the variable at <code>idx</code> is true (resp. false)
+     *
+     * @param idx      index of the variable, as returned by {@link #indexOf(solver.variables.BoolVar)}
+     * @param positive set to <i>true</i> for the positive literal
+     * @return a literal
+     */
+    public static int lit(int idx, boolean positive) {
+        return 2 * idx + (positive ? 0 : 1);
+    }
+
+    /**
+     * Return the index of <code>var</code> in this, -1 if it is not declared in this.
+     *
+     * @param var a variable
+     * @return its index, or -1
+     */
+    public int indexOf(BoolVar var) {
+        return vid2idx.get(var.getId());
+    }
+
+    /**
+     * Add a clause, that is a disjunction of literals.
+     *
+     * @param lits literals of the clause, see {@link #lit(int, boolean)}
+     */
+    public void addClause(int[] lits) {
+        _add(lits, false);
+    }
+
+    /**
+     * Add a learnt clause, that is a disjunction of literals which is implied by the problem.
+     * It will be integrated on the next call to this propagator, and may be forgotten later.
+     *
+     * @param lits literals of the clause, see {@link #lit(int, boolean)}
+     */
+    public void addLearnt(int[] lits) {
+        if (maxLearnt == 0) {
+            maxLearnt = Math.max(nbClauses / 3, 1000);
+        }
+        if (nbLearnt >= maxLearnt) {
+            reduceDB();
+        }
+        _add(lits, true);
+        clauseInc *= DECAY;
+    }
+
+    private void _add(int[] lits, boolean isLearnt) {
+        int[] c = simplify(lits);
+        if (c == null) {
+            return; // tautology
+        }
+        if (c.length == 0) {
+            trivialFail = true;
+        } else if (c.length == 1) {
+            units.add(c[0]);
+        } else {
+            int id;
+            if (free.isEmpty()) {
+                if (nbClauses == clauses.length) {
+                    int nsize = nbClauses * 3 / 2 + 1;
+                    clauses = Arrays.copyOf(clauses, nsize);
+                    learnt = Arrays.copyOf(learnt, nsize);
+                    activity = Arrays.copyOf(activity, nsize);
+                }
+                id = nbClauses++;
+            } else {
+                id = free.removeAt(free.size() - 1);
+            }
+            clauses[id] = c;
+            learnt[id] = isLearnt;
+            activity[id] = isLearnt ? clauseInc : 0;
+            if (isLearnt) {
+                nbLearnt++;
+            }
+            if (!isStateLess()) {
+                pending.add(id);
+            }
+        }
+    }
+
+    /**
+     * Remove duplicated literals, return null if the clause is a tautology.
+     */
+    private static int[] simplify(int[] lits) {
+        int[] c = lits.clone();
+        Arrays.sort(c);
+        int k = 0;
+        for (int i = 0; i < c.length; i++) {
+            if (k > 0 && c[k - 1] == c[i]) {
+                continue;
+            }
+            if (k > 0 && (c[k - 1] ^ 1) == c[i]) {
+                return null;
+            }
+            c[k++] = c[i];
+        }
+        return k == c.length ? c : Arrays.copyOf(c, k);
+    }
+
+    /**
+     * Forget half of the learnt clauses, the less active ones.
+     * Binary clauses and clauses which are the reason of a current instantiation are kept.
+     */
+    private void reduceDB() {
+        double[] acts = new double[nbLearnt];
+        int n = 0;
+        for (int id = 0; id < nbClauses; id++) {
+            if (clauses[id] != null && learnt[id] && clauses[id].length > 2 && !isLocked(id)) {
+                acts[n++] = activity[id];
+            }
+        }
+        if (n > 0) {
+            Arrays.sort(acts, 0, n);
+            double threshold = acts[n / 2];
+            for (int id = 0; id < nbClauses; id++) {
+                if (clauses[id] != null && learnt[id] && clauses[id].length > 2
+                        && activity[id] < threshold && !isLocked(id)) {
+                    clauses[id] = null;
+                    free.add(id);
+                    nbLearnt--;
+                }
+            }
+            // watches of deleted clauses are removed, so their slots can be reused
+            for (int l = 0; l < watches.length; l++) {
+                TIntArrayList wl = watches[l];
+                for (int i = wl.size() - 1; i >= 0; i--) {
+                    if (clauses[wl.getQuick(i)] == null) {
+                        wl.setQuick(i, wl.getQuick(wl.size() - 1));
+                        wl.removeAt(wl.size() - 1);
+                    }
+                }
+            }
+            for (int i = pending.size() - 1; i >= 0; i--) {
+                if (clauses[pending.getQuick(i)] == null) {
+                    pending.removeAt(i);
+                }
+            }
+        }
+        maxLearnt = maxLearnt * 11 / 10;
+    }
+
+    private boolean isLocked(int id) {
+        int[] c = clauses[id];
+        for (int k = 0; k < c.length; k++) {
+            int v = c[k] >> 1;
+            if (reason[v].get() == id && vars[v].instantiated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void bump(int id) {
+        if (learnt[id]) {
+            activity[id] += clauseInc;
+            if (activity[id] > 1e20) {
+                for (int i = 0; i < nbClauses; i++) {
+                    activity[i] *= 1e-20;
+                }
+                clauseInc *= 1e-20;
+            }
+        }
+    }
+
+    /**
+     * @return the number of learnt clauses currently stored
+     */
+    public int getNbLearnt() {
+        return nbLearnt;
+    }
+
+    private boolean isTrue(int lit) {
+        BoolVar var = vars[lit >> 1];
+        return var.instantiated() && var.getValue() == ((lit & 1) ^ 1);
+    }
+
+    private boolean isFalse(int lit) {
+        BoolVar var = vars[lit >> 1];
+        return var.instantiated() && var.getValue() == (lit & 1);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return EventType.INSTANTIATE.mask;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        toPropagate.resetQuick(); // a previous propagation may have been interrupted by a failure
+        if (trivialFail) {
+            conflict = -1;
+            contradiction(null, "empty clause");
+        }
+        for (int l = 0; l < watches.length; l++) {
+            watches[l].resetQuick();
+        }
+        pending.resetQuick();
+        for (int id = 0; id < nbClauses; id++) {
+            if (clauses[id] != null) {
+                initWatches(id);
+            }
+        }
+        checkUnits();
+        // then, deal with false watched literals
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].instantiated()) {
+                awakeOnInst(i);
+            }
+        }
+        propagateQueue();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        toPropagate.resetQuick(); // a previous propagation may have been interrupted by a failure
+        checkUnits();
+        if (!pending.isEmpty()) {
+            flushPending();
+        }
+        awakeOnInst(idxVarInProp);
+        propagateQueue();
+    }
+
+    /**
+     * Check the watched literals made false by the instantiations of this propagator, until a fix point is reached.
+     */
+    private void propagateQueue() throws ContradictionException {
+        while (!toPropagate.isEmpty()) {
+            awakeOnInst(toPropagate.removeAt(toPropagate.size() - 1));
+        }
+    }
+
+    /**
+     * Put two not false literals, if any, in first positions and watch them.
+     */
+    private void initWatches(int id) {
+        int[] c = clauses[id];
+        int w = 0;
+        for (int k = 0; k < c.length && w < 2; k++) {
+            if (!isFalse(c[k])) {
+                swap(c, w++, k);
+            }
+        }
+        watches[c[0]].add(id);
+        watches[c[1]].add(id);
+    }
+
+    private void flushPending() throws ContradictionException {
+        while (!pending.isEmpty()) {
+            int id = pending.removeAt(pending.size() - 1);
+            initWatches(id);
+            int[] c = clauses[id];
+            if (isFalse(c[0])) {
+                conflict(id);
+            } else if (isFalse(c[1]) && !isTrue(c[0])) {
+                assign(id, 0);
+            }
+        }
+    }
+
+    private void checkUnits() throws ContradictionException {
+        for (int i = 0; i < units.size(); i++) {
+            int lit = units.getQuick(i);
+            if (isFalse(lit)) {
+                contradiction(vars[lit >> 1], "unit clause");
+            } else if (!isTrue(lit)) {
+                reason[lit >> 1].set(-1);
+                setTrue(lit);
+            }
+        }
+    }
+
+    /**
+     * The variable at <code>idx</code> has been instantiated, check the clauses watching the literal which became false.
+     */
+    private void awakeOnInst(int idx) throws ContradictionException {
+        int falseLit = lit(idx, vars[idx].getValue() == 0);
+        TIntArrayList wlist = watches[falseLit];
+        int i = 0;
+        while (i < wlist.size()) {
+            int id = wlist.getQuick(i);
+            int[] c = clauses[id];
+            int p = c[0] == falseLit ? 0 : 1;
+            int o = 1 - p;
+            if (isTrue(c[o])) {
+                // the clause is satisfied
+                i++;
+                continue;
+            }
+            // look for another not false literal to watch
+            int k = 2;
+            while (k < c.length && isFalse(c[k])) {
+                k++;
+            }
+            if (k < c.length) {
+                swap(c, p, k);
+                wlist.setQuick(i, wlist.getQuick(wlist.size() - 1));
+                wlist.removeAt(wlist.size() - 1);
+                watches[c[p]].add(id);
+            } else if (isFalse(c[o])) {
+                conflict(id);
+            } else {
+                // unit clause
+                assign(id, o);
+                i++;
+            }
+        }
+    }
+
+    private void conflict(int id) throws ContradictionException {
+        bump(id);
+        conflict = id;
+        contradiction(null, "clause");
+    }
+
+    private void assign(int id, int k) throws ContradictionException {
+        int lit = clauses[id][k];
+        bump(id);
+        reason[lit >> 1].set(id);
+        setTrue(lit);
+    }
+
+    /**
+     * Make <code>lit</code> true; the clauses watching its negation are checked later on, see {@link #propagateQueue()}.
+     */
+    private void setTrue(int lit) throws ContradictionException {
+        if ((lit & 1) == 0) {
+            vars[lit >> 1].setToTrue(aCause);
+        } else {
+            vars[lit >> 1].setToFalse(aCause);
+        }
+        toPropagate.add(lit >> 1);
+    }
+
+    private static void swap(int[] c, int i, int j) {
+        int t = c[i];
+        c[i] = c[j];
+        c[j] = t;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (trivialFail) {
+            return ESat.FALSE;
+        }
+        boolean allSatisfied = true;
+        for (int i = 0; i < units.size(); i++) {
+            int lit = units.getQuick(i);
+            if (isFalse(lit)) {
+                return ESat.FALSE;
+            }
+            allSatisfied &= isTrue(lit);
+        }
+        for (int id = 0; id < nbClauses; id++) {
+            int[] c = clauses[id];
+            if (c != null) {
+                boolean satisfied = false, undefined = false;
+                for (int k = 0; k < c.length && !satisfied; k++) {
+                    satisfied = isTrue(c[k]);
+                    undefined |= !isFalse(c[k]);
+                }
+                if (!satisfied) {
+                    if (!undefined) {
+                        return ESat.FALSE;
+                    }
+                    allSatisfied = false;
+                }
+            }
+        }
+        return allSatisfied ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    /**
+     * Check that the original clauses are satisfied by an instantiation; learnt clauses are ignored,
+     * they may depend on other constraints.
+     *
+     * @param values value of each variable of this, in the same order
+     * @return ESat.TRUE if every original clause is satisfied, ESat.FALSE otherwise
+     */
+    public ESat isSatisfied(int[] values) {
+        if (trivialFail) {
+            return ESat.FALSE;
+        }
+        for (int i = 0; i < units.size(); i++) {
+            if (!isTrue(units.getQuick(i), values)) {
+                return ESat.FALSE;
+            }
+        }
+        for (int id = 0; id < nbClauses; id++) {
+            int[] c = clauses[id];
+            if (c != null && !learnt[id]) {
+                boolean satisfied = false;
+                for (int k = 0; k < c.length && !satisfied; k++) {
+                    satisfied = isTrue(c[k], values);
+                }
+                if (!satisfied) {
+                    return ESat.FALSE;
+                }
+            }
+        }
+        return ESat.TRUE;
+    }
+
+    private static boolean isTrue(int lit, int[] values) {
+        return values[lit >> 1] == ((lit & 1) ^ 1);
+    }
+
+    @Override
+    public void explain(Deduction d, Explanation e) {
+        int id;
+        if (d == null) {
+            id = conflict;
+        } else {
+            int idx = vid2idx.get(d.getVar().getId());
+            id = idx > -1 ? reason[idx].get() : -1;
+            if (idx > -1 && id == -1) {
+                // due to a unit clause
+                e.add(this);
+                return;
+            }
+        }
+        if (id > -1 && clauses[id] != null) {
+            int[] c = clauses[id];
+            for (int k = 0; k < c.length; k++) {
+                if (d == null || vars[c[k] >> 1] != d.getVar()) {
+                    vars[c[k] >> 1].explain(VariableState.DOM, e);
+                }
+            }
+            e.add(this);
+        } else {
+            super.explain(d, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PropSat(" + (nbClauses - free.size()) + " clauses, " + units.size() + " units)";
+    }
+}
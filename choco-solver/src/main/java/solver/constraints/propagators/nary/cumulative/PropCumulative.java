@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.cumulative;
+
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import util.ESat;
+import util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Base class of scalable cumulative propagators.
+ * It stores the variables of the tasks and delegates the filtering to a coarse propagation:
+ * any bound modification schedules a single call to <code>propagate(int)</code>.
+ * <br/>
+ * Only tasks with a positive duration and a positive height (lower bounds) are filtered.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public abstract class PropCumulative extends Propagator<IntVar> {
+
+    protected final int n;
+    protected final IntVar[] s, d, e, h;
+    protected final IntVar capa;
+
+    protected PropCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, PropagatorPriority priority) {
+        super(ArrayUtils.append(s, d, e, h, new IntVar[]{capa}), priority, false);
+        this.n = s.length;
+        if (!(n == d.length && n == e.length && n == h.length)) {
+            throw new UnsupportedOperationException();
+        }
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, 2 * n);
+        this.e = Arrays.copyOfRange(vars, 2 * n, 3 * n);
+        this.h = Arrays.copyOfRange(vars, 3 * n, 4 * n);
+        this.capa = this.vars[vars.length - 1];
+    }
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        return EventType.BOUND.mask + EventType.INSTANTIATE.mask;
+    }
+
+    @Override
+    public void propagate(int varIdx, int mask) throws ContradictionException {
+        forcePropagate(EventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Ensures that start + duration = end holds on bounds, for each task.
+     * Tasks maintain it themselves on modifications, but not on creation.
+     *
+     * @param evtmask type of propagation
+     * @throws ContradictionException if a task is inconsistent
+     */
+    protected final void filterTasks(int evtmask) throws ContradictionException {
+        if ((evtmask & EventType.FULL_PROPAGATION.mask) != 0) {
+            TaskUtils.filterTasks(s, d, e, aCause);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the task <code>i</code> consumes some resource
+     * for a positive amount of time, whatever its instantiation is.
+     *
+     * @param i index of a task
+     */
+    protected final boolean isConsuming(int i) {
+        return d[i].getLB() > 0 && h[i].getLB() > 0;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        int min = s[0].getUB();
+        int max = e[0].getLB();
+        for (int i = 0; i < n; i++) {
+            min = Math.min(min, s[i].getUB());
+            max = Math.max(max, e[i].getLB());
+        }
+        if (max <= min) {
+            return ESat.TRUE;
+        }
+        int[] consoMin = new int[max - min];
+        for (int i = 0; i < n; i++) {
+            for (int t = s[i].getUB(); t < e[i].getLB(); t++) {
+                consoMin[t - min] += h[i].getLB();
+                if (consoMin[t - min] > capa.getUB()) {
+                    return ESat.FALSE;
+                }
+            }
+        }
+        return ESat.TRUE;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append('(');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(",");
+            sb.append("[").append(s[i].toString());
+            sb.append(",").append(d[i].toString());
+            sb.append(",").append(e[i].toString());
+            sb.append(",").append(h[i].toString()).append("]");
+        }
+        sb.append(",").append(capa.toString()).append(")");
+        return sb.toString();
+    }
+}
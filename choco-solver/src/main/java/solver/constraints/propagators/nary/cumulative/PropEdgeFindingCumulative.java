@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.cumulative;
+
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.variables.IntVar;
+
+/**
+ * Edge-finding for the cumulative constraint, based on a Theta-Lambda tree, in O(kn log n),
+ * where k is the number of distinct heights:
+ * <br/>
+ * "Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n)", P. Vilim, CP'09.
+ * <br/>
+ * Earliest starting times are adjusted first, then latest completion times, on the mirrored problem.
+ * The two steps are repeated until no bound changes.
+ * The capacity considered is the upper bound of the capacity variable,
+ * and the durations and the heights of the tasks are their lower bounds.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropEdgeFindingCumulative extends PropCumulative {
+
+    private final ThetaLambdaTree tree;
+    private final int[] tasks; // tasks which consume the resource
+    private final int[] est, lct, c; // of the tasks, possibly mirrored
+    private final long[] energy;
+    private final int[] byEst, byLct, rank;
+    private final int[] prec; // position, in byLct, of the task j such that LCut(j) precedes a task, -1 otherwise
+    private final int[] first, next; // tasks detected per position in byLct (linked lists)
+    private final int[] bound; // new bounds
+    private final long[] buffer;
+
+    public PropEdgeFindingCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa) {
+        super(s, d, e, h, capa, PropagatorPriority.QUADRATIC);
+        this.tree = new ThetaLambdaTree(n);
+        this.tasks = new int[n];
+        this.est = new int[n];
+        this.lct = new int[n];
+        this.c = new int[n];
+        this.energy = new long[n];
+        this.byEst = new int[n];
+        this.byLct = new int[n];
+        this.rank = new int[n];
+        this.prec = new int[n];
+        this.first = new int[n];
+        this.next = new int[n];
+        this.bound = new int[n];
+        this.buffer = new long[n];
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        filterTasks(evtmask);
+        boolean change;
+        do {
+            checkCancellation();
+            int C = capa.getUB();
+            int m = 0;
+            for (int i = 0; i < n; i++) {
+                if (isConsuming(i)) {
+                    tasks[m++] = i;
+                }
+            }
+            if (m == 0 || C <= 0) {
+                return;
+            }
+            change = false;
+            // earliest starting times
+            for (int k = 0; k < m; k++) {
+                int i = tasks[k];
+                est[k] = s[i].getLB();
+                lct[k] = e[i].getUB();
+                c[k] = h[i].getLB();
+                energy[k] = (long) c[k] * d[i].getLB();
+            }
+            if (edgeFinding(m, C)) {
+                for (int k = 0; k < m; k++) {
+                    if (bound[k] > est[k]) {
+                        change |= s[tasks[k]].updateLowerBound(bound[k], aCause);
+                    }
+                }
+            }
+            // latest completion times, on the mirrored problem
+            for (int k = 0; k < m; k++) {
+                est[k] = -e[tasks[k]].getUB();
+                lct[k] = -s[tasks[k]].getLB();
+            }
+            if (edgeFinding(m, C)) {
+                for (int k = 0; k < m; k++) {
+                    if (bound[k] > est[k]) {
+                        change |= e[tasks[k]].updateUpperBound(-bound[k], aCause);
+                    }
+                }
+            }
+        } while (change);
+    }
+
+    /**
+     * Runs the detection and the adjustment phases on the <code>m</code> first tasks,
+     * and stores the new earliest starting times in <code>bound</code>.
+     *
+     * @param m number of tasks
+     * @param C capacity
+     * @return <code>true</code> if at least one precedence has been detected
+     * @throws ContradictionException if the energy of a set of tasks exceeds the available one
+     */
+    private boolean edgeFinding(int m, int C) throws ContradictionException {
+        for (int k = 0; k < m; k++) {
+            byEst[k] = k;
+            byLct[k] = k;
+            prec[k] = -1;
+            first[k] = -1;
+        }
+        TaskUtils.sort(byEst, est, m, buffer);
+        TaskUtils.sort(byLct, lct, m, buffer);
+        for (int k = 0; k < m; k++) {
+            rank[byEst[k]] = k;
+        }
+        // 1. detection
+        boolean detected = false;
+        tree.init(C, C);
+        for (int k = 0; k < m; k++) {
+            int j = byEst[k];
+            tree.addToTheta(k, j, est[j], energy[j]);
+        }
+        for (int k = m - 1; k >= 0; k--) {
+            int j = byLct[k];
+            long cl = (long) C * lct[j];
+            if (tree.getEnvelope() > cl) {
+                contradiction(capa, "edge-finding");
+            }
+            while (tree.getLambdaEnvelope() > cl) {
+                int i = tree.getResponsibleTask();
+                if (i < 0) {
+                    break;
+                }
+                prec[i] = k;
+                next[i] = first[k];
+                first[k] = i;
+                detected = true;
+                tree.remove(rank[i]);
+            }
+            tree.moveToLambda(rank[j]);
+        }
+        if (!detected) {
+            return false;
+        }
+        // 2. adjustment, once per distinct height of the detected tasks
+        int nd = 0;
+        for (int k = 0; k < m; k++) {
+            bound[k] = est[k];
+            if (prec[k] >= 0 && c[k] <= C) {
+                byEst[nd++] = k; // byEst is no longer needed, it stores the detected tasks
+            }
+        }
+        TaskUtils.sort(byEst, c, nd, buffer);
+        for (int q = 0; q < nd; q++) {
+            int ci = c[byEst[q]];
+            if (q > 0 && c[byEst[q - 1]] == ci) {
+                continue;
+            }
+            tree.init(C, C - ci);
+            long upd = Long.MIN_VALUE;
+            for (int k = 0; k < m; k++) {
+                int j = byLct[k];
+                tree.addToTheta(rank[j], j, est[j], energy[j]);
+                long bnd = (long) (C - ci) * lct[j];
+                long en = tree.getRestrictedEnvelope(bnd);
+                if (en != Long.MIN_VALUE) {
+                    upd = Math.max(upd, ceilDiv(en - bnd, ci));
+                }
+                for (int l = first[k]; l >= 0; l = next[l]) {
+                    if (c[l] == ci && upd > bound[l]) {
+                        bound[l] = (int) Math.min(upd, Integer.MAX_VALUE);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return a >= 0 ? (a + b - 1) / b : -((-a) / b);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.cumulative;
+
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * Time-tabling for the cumulative constraint.
+ * <br/>
+ * The profile of the compulsory parts ([s.UB, e.LB[) of the tasks is built by a sweep over their sorted bounds,
+ * in O(n log n), as a list of at most 2n disjoint segments of constant height.
+ * Then, each task is pushed beyond the segments in which it cannot fit, its own compulsory part apart:
+ * the first segment is found in O(log n), then the segments overlapping the task are scanned,
+ * so a round costs O(n log n + n.k) where k is the maximum number of segments a task overlaps, O(n^2) in the worst case.
+ * Building and filtering are repeated until no compulsory part changes.
+ * <br/>
+ * The profile is kept between calls and only rebuilt when a compulsory part or a height has changed,
+ * which is checked in O(n).
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropTimeTableCumulative extends PropCumulative {
+
+    private final long[] events; // time (32 high bits), task index and kind (1 for a start) of the compulsory parts
+    private final int[] cpStart, cpEnd, cpHeight; // compulsory parts used to build the profile
+    private int[] segStart, segEnd, segHeight; // the profile
+    private int nbSeg, maxHeight;
+
+    public PropTimeTableCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa) {
+        super(s, d, e, h, capa, PropagatorPriority.LINEAR);
+        this.events = new long[2 * n];
+        this.cpStart = new int[n];
+        this.cpEnd = new int[n];
+        this.cpHeight = new int[n];
+        this.segStart = new int[2 * n];
+        this.segEnd = new int[2 * n];
+        this.segHeight = new int[2 * n];
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        filterTasks(evtmask);
+        if (profileChanged()) {
+            buildProfile();
+        } else {
+            capa.updateLowerBound(maxHeight, aCause);
+        }
+        while (nbSeg > 0) {
+            checkCancellation();
+            for (int i = 0; i < n; i++) {
+                if (isConsuming(i)) {
+                    pushStart(i);
+                    pushEnd(i);
+                }
+            }
+            if (!profileChanged()) {
+                return;
+            }
+            buildProfile();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the compulsory part or the height of a task
+     *         differs from the one the profile has been built on
+     */
+    private boolean profileChanged() {
+        for (int i = 0; i < n; i++) {
+            int cs = s[i].getUB();
+            int ce = e[i].getLB();
+            int ch = h[i].getLB();
+            if (cs >= ce || ch <= 0) {
+                // no compulsory part
+                cs = ce = ch = 0;
+            }
+            if (cs != cpStart[i] || ce != cpEnd[i] || ch != cpHeight[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the profile of the compulsory parts, and checks it against the capacity.
+     *
+     * @throws ContradictionException if the profile exceeds the capacity
+     */
+    private void buildProfile() throws ContradictionException {
+        int nbE = 0;
+        for (int i = 0; i < n; i++) {
+            cpStart[i] = s[i].getUB();
+            cpEnd[i] = e[i].getLB();
+            cpHeight[i] = h[i].getLB();
+            if (cpStart[i] < cpEnd[i] && cpHeight[i] > 0) {
+                events[nbE++] = ((long) cpStart[i] << 32) | (i << 1) | 1;
+                events[nbE++] = ((long) cpEnd[i] << 32) | (i << 1);
+            } else {
+                // no compulsory part
+                cpStart[i] = cpEnd[i] = cpHeight[i] = 0;
+            }
+        }
+        Arrays.sort(events, 0, nbE);
+        nbSeg = 0;
+        maxHeight = 0;
+        int height = 0;
+        int k = 0;
+        while (k < nbE) {
+            int t = (int) (events[k] >> 32);
+            for (; k < nbE && (int) (events[k] >> 32) == t; k++) {
+                int i = (int) events[k] >>> 1;
+                if ((events[k] & 1) == 1) {
+                    height += cpHeight[i];
+                } else {
+                    height -= cpHeight[i];
+                }
+            }
+            if (k < nbE && height > 0) {
+                segStart[nbSeg] = t;
+                segEnd[nbSeg] = (int) (events[k] >> 32);
+                segHeight[nbSeg] = height;
+                nbSeg++;
+                maxHeight = Math.max(maxHeight, height);
+            }
+        }
+        capa.updateLowerBound(maxHeight, aCause);
+    }
+
+    /**
+     * @return the height of the segment <code>k</code> of the profile, without the task <code>i</code>
+     */
+    private int heightWithout(int k, int i) {
+        if (cpStart[i] <= segStart[k] && segEnd[k] <= cpEnd[i]) {
+            return segHeight[k] - cpHeight[i];
+        }
+        return segHeight[k];
+    }
+
+    private void pushStart(int i) throws ContradictionException {
+        int dur = d[i].getLB();
+        int free = capa.getUB() - h[i].getLB();
+        int t = s[i].getLB();
+        // first segment ending after t
+        int lo = 0, hi = nbSeg;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (segEnd[mid] <= t) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        for (int k = lo; k < nbSeg && segStart[k] < t + dur; k++) {
+            if (heightWithout(k, i) > free) {
+                t = segEnd[k];
+            }
+        }
+        s[i].updateLowerBound(t, aCause);
+    }
+
+    private void pushEnd(int i) throws ContradictionException {
+        int dur = d[i].getLB();
+        int free = capa.getUB() - h[i].getLB();
+        int t = e[i].getUB();
+        // last segment starting before t
+        int lo = -1, hi = nbSeg - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >> 1;
+            if (segStart[mid] < t) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        for (int k = lo; k >= 0 && segEnd[k] > t - dur; k--) {
+            if (heightWithout(k, i) > free) {
+                t = segStart[k];
+            }
+        }
+        e[i].updateUpperBound(t, aCause);
+    }
+}
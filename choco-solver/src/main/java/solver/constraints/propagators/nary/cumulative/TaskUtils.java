@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.cumulative;
+
+import solver.ICause;
+import solver.exception.ContradictionException;
+import solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * Utilities shared by the scheduling propagators (cumulative and disjunctive).
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class TaskUtils {
+
+    private TaskUtils() {
+    }
+
+    /**
+     * Ensures that <code>s[i] + d[i] = e[i]</code> holds on bounds, for each task <code>i</code>.
+     *
+     * @param s     starting times
+     * @param d     durations
+     * @param e     ending times
+     * @param cause cause of the modifications
+     * @throws ContradictionException if a task is inconsistent
+     */
+    public static void filterTasks(IntVar[] s, IntVar[] d, IntVar[] e, ICause cause) throws ContradictionException {
+        for (int i = 0; i < s.length; i++) {
+            s[i].updateLowerBound(e[i].getLB() - d[i].getUB(), cause);
+            s[i].updateUpperBound(e[i].getUB() - d[i].getLB(), cause);
+            e[i].updateUpperBound(s[i].getUB() + d[i].getUB(), cause);
+            e[i].updateLowerBound(s[i].getLB() + d[i].getLB(), cause);
+            d[i].updateUpperBound(e[i].getUB() - s[i].getLB(), cause);
+            d[i].updateLowerBound(e[i].getLB() - s[i].getUB(), cause);
+        }
+    }
+
+    /**
+     * Sorts, in place, the first <code>size</code> elements of <code>idx</code> by increasing <code>keys[idx[k]]</code>.
+     * Indices must be non-negative.
+     *
+     * @param idx    indices to sort
+     * @param keys   keys of the indices
+     * @param size   number of indices to sort
+     * @param buffer working array, at least of size <code>size</code>
+     */
+    public static void sort(int[] idx, int[] keys, int size, long[] buffer) {
+        for (int k = 0; k < size; k++) {
+            buffer[k] = ((long) keys[idx[k]] << 32) | idx[k];
+        }
+        Arrays.sort(buffer, 0, size);
+        for (int k = 0; k < size; k++) {
+            idx[k] = (int) buffer[k];
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.cumulative;
+
+/**
+ * A Theta-Lambda tree for discrete cumulative resources, as described in:
+ * <br/>
+ * "Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n)", P. Vilim, CP'09.
+ * <br/>
+ * Leaves are the tasks, sorted by non-decreasing earliest starting times (the rank of a task is its leaf).
+ * A leaf is either empty, in Theta (white) or in Lambda (gray).
+ * Each node maintains, for the tasks of its subtree:
+ * <ul>
+ * <li>the energy <code>e</code> and the envelope <code>env = max(C.est_O + e_O)</code> of Theta,</li>
+ * <li>the same values when at most one gray leaf is added to Theta (<code>eL</code>, <code>envL</code>),</li>
+ * <li>the envelope <code>envC = max((C-c).est_O + e_O)</code> of Theta, for a given height <code>c</code>.</li>
+ * </ul>
+ * The tree is stored in arrays, the root is 1 and the children of a node k are 2k and 2k+1.
+ * Every modification costs O(log n).
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class ThetaLambdaTree {
+
+    private static final long NONE = Long.MIN_VALUE / 2;
+
+    private final int leaves; // index of the first leaf
+    private final long[] e, env, eL, envL, envC;
+    private final long[] est;
+    private final int[] task; // task of a leaf
+    private final boolean[] gray;
+    private long C, Cc;
+
+    /**
+     * Creates a tree with <code>n</code> leaves
+     *
+     * @param n maximum number of tasks
+     */
+    public ThetaLambdaTree(int n) {
+        int size = 1;
+        while (size < n) {
+            size <<= 1;
+        }
+        leaves = size;
+        e = new long[2 * size];
+        env = new long[2 * size];
+        eL = new long[2 * size];
+        envL = new long[2 * size];
+        envC = new long[2 * size];
+        est = new long[size];
+        task = new int[size];
+        gray = new boolean[size];
+    }
+
+    /**
+     * Empties the tree.
+     *
+     * @param capacity  capacity of the resource (C)
+     * @param remaining capacity left by a task (C-c), used by <code>envC</code>
+     */
+    public void init(long capacity, long remaining) {
+        this.C = capacity;
+        this.Cc = remaining;
+        for (int k = 1; k < 2 * leaves; k++) {
+            e[k] = 0;
+            env[k] = NONE;
+            eL[k] = 0;
+            envL[k] = NONE;
+            envC[k] = NONE;
+        }
+        for (int l = 0; l < leaves; l++) {
+            task[l] = -1;
+            gray[l] = false;
+        }
+    }
+
+    /**
+     * Adds the task <code>t</code> in Theta, at leaf <code>leaf</code>.
+     *
+     * @param leaf   rank of the task
+     * @param t      task index
+     * @param start  earliest starting time of the task
+     * @param energy energy of the task (duration x height)
+     */
+    public void addToTheta(int leaf, int t, long start, long energy) {
+        task[leaf] = t;
+        est[leaf] = start;
+        gray[leaf] = false;
+        int k = leaves + leaf;
+        e[k] = eL[k] = energy;
+        env[k] = envL[k] = C * start + energy;
+        envC[k] = Cc * start + energy;
+        update(k);
+    }
+
+    /**
+     * Moves the task at leaf <code>leaf</code> from Theta to Lambda.
+     *
+     * @param leaf rank of the task
+     */
+    public void moveToLambda(int leaf) {
+        int k = leaves + leaf;
+        gray[leaf] = true;
+        e[k] = 0;
+        env[k] = NONE;
+        envC[k] = NONE;
+        update(k);
+    }
+
+    /**
+     * Removes the task at leaf <code>leaf</code> from the tree.
+     *
+     * @param leaf rank of the task
+     */
+    public void remove(int leaf) {
+        int k = leaves + leaf;
+        task[leaf] = -1;
+        gray[leaf] = false;
+        e[k] = eL[k] = 0;
+        env[k] = envL[k] = envC[k] = NONE;
+        update(k);
+    }
+
+    private void update(int k) {
+        for (k >>= 1; k > 0; k >>= 1) {
+            int l = k << 1, r = l + 1;
+            e[k] = e[l] + e[r];
+            env[k] = Math.max(env[l] + e[r], env[r]);
+            eL[k] = Math.max(eL[l] + e[r], e[l] + eL[r]);
+            envL[k] = Math.max(envL[r], Math.max(env[l] + eL[r], envL[l] + e[r]));
+            envC[k] = Math.max(envC[l] + e[r], envC[r]);
+        }
+    }
+
+    /**
+     * @return the envelope of Theta
+     */
+    public long getEnvelope() {
+        return env[1];
+    }
+
+    /**
+     * @return the envelope of Theta with at most one task of Lambda
+     */
+    public long getLambdaEnvelope() {
+        return envL[1];
+    }
+
+    /**
+     * @return the task of Lambda responsible for the value of {@link #getLambdaEnvelope()}, -1 if none
+     */
+    public int getResponsibleTask() {
+        int k = 1;
+        boolean inEnergy = false; // true when looking for the gray leaf responsible of eL
+        while (k < leaves) {
+            int l = k << 1, r = l + 1;
+            if (inEnergy) {
+                if (eL[k] == eL[l] + e[r]) {
+                    k = l;
+                } else {
+                    k = r;
+                }
+            } else {
+                if (envL[k] == envL[r]) {
+                    k = r;
+                } else if (envL[k] == env[l] + eL[r]) {
+                    k = r;
+                    inEnergy = true;
+                } else {
+                    k = l;
+                }
+            }
+        }
+        int leaf = k - leaves;
+        return gray[leaf] ? task[leaf] : -1;
+    }
+
+    /**
+     * Finds the rightmost leaf a of Theta such that <code>(C-c).est_a + e_O &gt; bound</code>,
+     * where O is the set of tasks of Theta at or after a,
+     * and returns the envelope of Theta when restricted to sets O starting at or before a,
+     * that is <code>Env(tasks at or before a) + e(tasks after a)</code>.
+     *
+     * @param bound the bound to exceed, usually (C-c).lct
+     * @return the restricted envelope, or {@link Long#MIN_VALUE} if no such leaf exists
+     */
+    public long getRestrictedEnvelope(long bound) {
+        if (envC[1] <= bound) {
+            return Long.MIN_VALUE;
+        }
+        int k = 1;
+        long eAfter = 0;
+        while (k < leaves) {
+            int l = k << 1, r = l + 1;
+            if (envC[r] + eAfter > bound) {
+                k = r;
+            } else {
+                eAfter += e[r];
+                k = l;
+            }
+        }
+        // envelope of the leaves up to k, built bottom-up
+        long en = env[k];
+        long ep = e[k];
+        for (; k > 1; k >>= 1) {
+            if ((k & 1) == 1) {
+                en = Math.max(env[k - 1] + ep, en);
+                ep += e[k - 1];
+            }
+        }
+        return en + eAfter;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.disjunctive;
+
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.constraints.propagators.nary.cumulative.TaskUtils;
+import solver.constraints.propagators.nary.cumulative.ThetaLambdaTree;
+import solver.exception.ContradictionException;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import util.ESat;
+import util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Filtering algorithms for the unary resource (disjunctive) constraint, in O(n log n), based on Theta-Lambda trees:
+ * <br/>
+ * "O(n log n) Filtering Algorithms for Unary Resource Constraint", P. Vilim, CPAIOR'04,
+ * <br/>
+ * "Filtering Algorithms for the Unary Resource Constraint", P. Vilim, Archives of Control Sciences, 2008.
+ * <br/>
+ * Overload checking, detectable precedences, not-last and edge-finding adjust earliest starting times
+ * (not-last: latest completion times); they are run a second time on the mirrored problem
+ * to adjust the other bound (not-last is then not-first). Everything is repeated until no bound changes.
+ * <br/>
+ * Durations are their lower bounds, and tasks with a null duration are ignored.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    private final int n;
+    private final IntVar[] s, d, e;
+    private final ThetaLambdaTree tree;
+    private final int[] tasks; // tasks with a positive duration
+    private final int[] est, lct, p, ect, lst; // of the tasks, possibly mirrored
+    private final int[] byEst, byLct, byEct, byLst, rank;
+    private final boolean[] inTheta;
+    private final int[] newEst, newLct;
+    private final long[] buffer;
+
+    public PropDisjunctive(IntVar[] s, IntVar[] d, IntVar[] e) {
+        super(ArrayUtils.append(s, d, e), PropagatorPriority.QUADRATIC, false);
+        this.n = s.length;
+        if (!(n == d.length && n == e.length)) {
+            throw new UnsupportedOperationException();
+        }
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, 2 * n);
+        this.e = Arrays.copyOfRange(vars, 2 * n, 3 * n);
+        this.tree = new ThetaLambdaTree(n);
+        this.tasks = new int[n];
+        this.est = new int[n];
+        this.lct = new int[n];
+        this.p = new int[n];
+        this.ect = new int[n];
+        this.lst = new int[n];
+        this.byEst = new int[n];
+        this.byLct = new int[n];
+        this.byEct = new int[n];
+        this.byLst = new int[n];
+        this.rank = new int[n];
+        this.inTheta = new boolean[n];
+        this.newEst = new int[n];
+        this.newLct = new int[n];
+        this.buffer = new long[n];
+    }
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        return EventType.BOUND.mask + EventType.INSTANTIATE.mask;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if ((evtmask & EventType.FULL_PROPAGATION.mask) != 0) {
+            TaskUtils.filterTasks(s, d, e, aCause);
+        }
+        boolean change;
+        do {
+            checkCancellation();
+            int m = 0;
+            for (int i = 0; i < n; i++) {
+                if (d[i].getLB() > 0) {
+                    tasks[m++] = i;
+                }
+            }
+            if (m < 2) {
+                return;
+            }
+            change = filter(m, false);
+            change |= filter(m, true);
+        } while (change);
+    }
+
+    @Override
+    public void propagate(int varIdx, int mask) throws ContradictionException {
+        forcePropagate(EventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Runs the four filtering rules on the <code>m</code> first tasks, and updates their bounds.
+     *
+     * @param m        number of tasks
+     * @param mirrored set to <code>true</code> to work on the mirrored problem (times are negated)
+     * @return <code>true</code> if a bound has been modified
+     * @throws ContradictionException if the resource is overloaded
+     */
+    private boolean filter(int m, boolean mirrored) throws ContradictionException {
+        for (int k = 0; k < m; k++) {
+            int i = tasks[k];
+            if (mirrored) {
+                est[k] = -e[i].getUB();
+                lct[k] = -s[i].getLB();
+            } else {
+                est[k] = s[i].getLB();
+                lct[k] = e[i].getUB();
+            }
+            p[k] = d[i].getLB();
+            ect[k] = est[k] + p[k];
+            lst[k] = lct[k] - p[k];
+            newEst[k] = est[k];
+            newLct[k] = lct[k];
+            byEst[k] = byLct[k] = byEct[k] = byLst[k] = k;
+        }
+        TaskUtils.sort(byEst, est, m, buffer);
+        TaskUtils.sort(byLct, lct, m, buffer);
+        TaskUtils.sort(byEct, ect, m, buffer);
+        TaskUtils.sort(byLst, lst, m, buffer);
+        for (int k = 0; k < m; k++) {
+            rank[byEst[k]] = k;
+        }
+        overloadChecking(m);
+        detectablePrecedences(m);
+        notLast(m);
+        edgeFinding(m);
+        boolean change = false;
+        for (int k = 0; k < m; k++) {
+            int i = tasks[k];
+            if (newEst[k] > est[k]) {
+                change |= mirrored ?
+                        e[i].updateUpperBound(-newEst[k], aCause) :
+                        s[i].updateLowerBound(newEst[k], aCause);
+            }
+            if (newLct[k] < lct[k]) {
+                change |= mirrored ?
+                        s[i].updateLowerBound(-newLct[k], aCause) :
+                        e[i].updateUpperBound(newLct[k], aCause);
+            }
+        }
+        return change;
+    }
+
+    private void add(int j) {
+        tree.addToTheta(rank[j], j, est[j], p[j]);
+        inTheta[j] = true;
+    }
+
+    private void remove(int j) {
+        tree.remove(rank[j]);
+        inTheta[j] = false;
+    }
+
+    private void clear(int m) {
+        tree.init(1, 1);
+        for (int k = 0; k < m; k++) {
+            inTheta[k] = false;
+        }
+    }
+
+    /**
+     * @return the earliest completion time of Theta without the task <code>i</code>
+     */
+    private long ectWithout(int i) {
+        if (inTheta[i]) {
+            remove(i);
+            long ect = tree.getEnvelope();
+            add(i);
+            return ect;
+        }
+        return tree.getEnvelope();
+    }
+
+    /**
+     * Fails if a set of tasks cannot be processed between its earliest starting time and latest completion time.
+     */
+    private void overloadChecking(int m) throws ContradictionException {
+        clear(m);
+        for (int k = 0; k < m; k++) {
+            int j = byLct[k];
+            add(j);
+            if (tree.getEnvelope() > lct[j]) {
+                contradiction(null, "overload");
+            }
+        }
+    }
+
+    /**
+     * If ect_i &gt; lst_j then j precedes i: i cannot start before the tasks that precede it are completed.
+     */
+    private void detectablePrecedences(int m) {
+        clear(m);
+        int q = 0;
+        for (int k = 0; k < m; k++) {
+            int i = byEct[k];
+            for (; q < m && ect[i] > lst[byLst[q]]; q++) {
+                add(byLst[q]);
+            }
+            newEst[i] = (int) Math.max(newEst[i], ectWithout(i));
+        }
+    }
+
+    /**
+     * If the tasks which may start before the end of i cannot be completed before the latest starting time of i,
+     * i cannot be the last one and has to be completed before the latest starting time of one of them.
+     */
+    private void notLast(int m) {
+        clear(m);
+        int q = 0;
+        int last = -1;
+        for (int k = 0; k < m; k++) {
+            int i = byLct[k];
+            for (; q < m && lct[i] > lst[byLst[q]]; q++) {
+                last = byLst[q];
+                add(last);
+            }
+            if (last >= 0 && ectWithout(i) > lst[i]) {
+                newLct[i] = Math.min(newLct[i], lst[last]);
+            }
+        }
+    }
+
+    /**
+     * If the tasks of Theta and i cannot be completed before the latest completion time of Theta,
+     * then i has to be processed after all the tasks of Theta.
+     */
+    private void edgeFinding(int m) throws ContradictionException {
+        clear(m);
+        for (int k = 0; k < m; k++) {
+            add(k);
+        }
+        for (int k = m - 1; k > 0; k--) {
+            int j = byLct[k];
+            if (tree.getEnvelope() > lct[j]) {
+                contradiction(null, "edge-finding");
+            }
+            tree.moveToLambda(rank[j]);
+            inTheta[j] = false;
+            int lctj = lct[byLct[k - 1]];
+            while (tree.getLambdaEnvelope() > lctj) {
+                int i = tree.getResponsibleTask();
+                if (i < 0) {
+                    break;
+                }
+                newEst[i] = (int) Math.max(newEst[i], tree.getEnvelope());
+                tree.remove(rank[i]);
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (d[i].getValue() > 0) {
+                tasks[m] = i;
+                est[m++] = s[i].getValue();
+            }
+        }
+        for (int k = 0; k < m; k++) {
+            byEst[k] = k;
+        }
+        TaskUtils.sort(byEst, est, m, buffer);
+        for (int k = 1; k < m; k++) {
+            if (e[tasks[byEst[k - 1]]].getValue() > est[byEst[k]]) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.TRUE;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PropDisjunctive(");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(",");
+            sb.append("[").append(s[i].toString());
+            sb.append(",").append(d[i].toString());
+            sb.append(",").append(e[i].toString()).append("]");
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+}
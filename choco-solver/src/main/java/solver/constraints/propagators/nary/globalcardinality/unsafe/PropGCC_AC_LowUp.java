@@ -40,7 +40,7 @@ import util.graphOperations.connectivity.StrongConnectivityFinder;
 import util.objects.graphs.DirectedGraph;
 import util.objects.setDataStructures.ISet;
 import util.objects.setDataStructures.SetType;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 
 import java.util.BitSet;
 
@@ -430,7 +430,7 @@ public class PropGCC_AC_LowUp extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
-    private class DirectedRemProc implements UnaryIntProcedure<Integer> {
+    private class DirectedRemProc implements UnaryIntIntProcedure {
         int idx;
 
         public void execute(int i) throws ContradictionException {
@@ -448,7 +448,7 @@ public class PropGCC_AC_LowUp extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idx) {
+        public UnaryIntIntProcedure set(int idx) {
             this.idx = idx;
             return this;
         }
@@ -38,7 +38,7 @@ import util.graphOperations.connectivity.StrongConnectivityFinder;
 import util.objects.graphs.DirectedGraph;
 import util.objects.setDataStructures.ISet;
 import util.objects.setDataStructures.SetType;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 import util.tools.ArrayUtils;
 
 import java.util.BitSet;
@@ -64,7 +64,7 @@ public class PropAtLeastNValues_AC extends Propagator<IntVar> {
     private DirectedGraph digraph;
     private int[] nodeSCC;
     private BitSet free;
-    private UnaryIntProcedure remProc;
+    private UnaryIntIntProcedure remProc;
     protected final IIntDeltaMonitor[] idms;
     private StrongConnectivityFinder SCCfinder;
     // for augmenting matching (BFS)
@@ -347,7 +347,7 @@ public class PropAtLeastNValues_AC extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
-    private class DirectedRemProc implements UnaryIntProcedure<Integer> {
+    private class DirectedRemProc implements UnaryIntIntProcedure {
 
         int idx;
 
@@ -357,7 +357,7 @@ public class PropAtLeastNValues_AC extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer integer) {
+        public UnaryIntIntProcedure set(int integer) {
             this.idx = integer;
             return this;
         }
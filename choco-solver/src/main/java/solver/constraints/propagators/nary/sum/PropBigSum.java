@@ -42,8 +42,6 @@ import solver.variables.EventType;
 import solver.variables.IntVar;
 import util.ESat;
 
-import static solver.constraints.nary.Sum.BIG_SUM_GROUP;
-
 /**
  * Sum constraint that ensure that the sum of integer variables vars is equal
  * to the integer sum
@@ -53,13 +51,18 @@ import static solver.constraints.nary.Sum.BIG_SUM_GROUP;
  * Should be used for large cases (vars.length>>100)
  * <p/>
  * <cpru> the data structure can be improved
+ *
+ * @deprecated since 17/10/26, replaced by {@link PropScalarEq}
  */
+@Deprecated
 public class PropBigSum extends Propagator<IntVar> {
 
     //***********************************************************************************
     // VARIABLES
     //***********************************************************************************
 
+    static final int BIG_SUM_GROUP = 20; // number of children of a node
+
     final int[] coeffs; // list of coefficients
     final int pos; // number of positive coefficients -- the first 'pos' elements of coeffs
     final int sum;
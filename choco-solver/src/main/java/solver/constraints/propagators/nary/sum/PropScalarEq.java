@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.nary.sum;
+
+import memory.IStateInt;
+import memory.IStateLong;
+import solver.constraints.propagators.Propagator;
+import solver.exception.ContradictionException;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import util.ESat;
+
+/**
+ * An incremental propagator for SUM(c_i.x_i) = b.
+ * <br/>
+ * Based on "Bounds Consistency Techniques for Long Linear Constraint" </br>
+ * W. Harvey and J. Schimpf
+ * <p/>
+ * The sums of the lower and upper bounds, and the bounds of each variable as last seen, are reversible.
+ * A bound event updates the sums in O(1), and the filtering (passes over all the variables) is only run
+ * when the largest variability c_i.(ub_i - lb_i) exceeds one of the slacks, that is, when a bound can be modified.
+ * The largest variability is recorded by the last filtering pass: until the next filtering, it is an upper bound.
+ * <br/>
+ * A filtering pass also detects the bounds which changed without an event being received
+ * (modifications made by this propagator on a variable aliased by another one),
+ * so the sums never need to be recomputed from scratch.
+ * <br/>
+ * Arithmetic is done with long, to avoid overflows with large coefficients or large domains.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropScalarEq extends Propagator<IntVar> {
+
+    final int[] c; // list of coefficients
+    final int pos; // index of the last positive coefficient
+    final int l; // number of variables
+    final long b; // bound to respect
+    final IStateInt[] lbs, ubs; // bounds of the variables, as last seen
+    final IStateLong sumLB, sumUB; // sum of lower bounds, and sum of upper bounds
+    final IStateLong maxI; // upper bound of the largest variability
+    long sLB, sUB; // sums during a filtering
+    long max; // largest variability seen during a filtering pass
+
+    public PropScalarEq(IntVar[] variables, int[] coeffs, int pos, int b) {
+        super(variables, PropSumEq.computePriority(variables.length), false);
+        this.c = coeffs;
+        this.pos = pos;
+        this.l = variables.length;
+        this.b = b;
+        this.lbs = new IStateInt[l];
+        this.ubs = new IStateInt[l];
+        for (int i = 0; i < l; i++) {
+            lbs[i] = environment.makeInt(vars[i].getLB());
+            ubs[i] = environment.makeInt(vars[i].getUB());
+        }
+        long f = 0, e = 0;
+        int i = 0;
+        for (; i < pos; i++) { // first the positive coefficients
+            f += (long) lbs[i].get() * c[i];
+            e += (long) ubs[i].get() * c[i];
+        }
+        for (; i < l; i++) { // then the negative ones
+            f += (long) ubs[i].get() * c[i];
+            e += (long) lbs[i].get() * c[i];
+        }
+        this.sumLB = environment.makeLong(f);
+        this.sumUB = environment.makeLong(e);
+        this.maxI = environment.makeLong(Long.MAX_VALUE);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return EventType.INSTANTIATE.mask + EventType.BOUND.mask;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        filter();
+    }
+
+    @Override
+    public void propagate(int i, int mask) throws ContradictionException {
+        int lb = vars[i].getLB();
+        int ub = vars[i].getUB();
+        long dlb = (long) lb - lbs[i].get();
+        long dub = (long) ub - ubs[i].get();
+        lbs[i].set(lb);
+        ubs[i].set(ub);
+        if (i < pos) {
+            sLB = sumLB.add(dlb * c[i]);
+            sUB = sumUB.add(dub * c[i]);
+        } else {
+            sLB = sumLB.add(dub * c[i]);
+            sUB = sumUB.add(dlb * c[i]);
+        }
+        if (sLB > b || sUB < b) {
+            this.contradiction(vars[i], "sumLB > b or sumUB < b");
+        }
+        long maxV = maxI.get();
+        if (maxV > b - sLB || maxV > sUB - b) {
+            filter();
+        } else if (sLB == b && sUB == b) {
+            this.setPassive();
+        }
+    }
+
+    protected void filter() throws ContradictionException {
+        sLB = sumLB.get();
+        sUB = sumUB.get();
+        boolean run;
+        boolean leq = true;
+        int nbR = 0;
+        do {
+            max = 0;
+            if (leq) {
+                run = filterOnLeq();
+            } else {
+                run = filterOnGeq();
+            }
+            leq ^= true;
+            nbR++;
+        } while (run || nbR < 2);
+        // the last pass made no modification: its largest variability is an upper bound from now on
+        sumLB.set(sLB);
+        sumUB.set(sUB);
+        maxI.set(max);
+        if (sUB <= b && sLB >= b) {
+            this.setPassive();
+        }
+    }
+
+    /**
+     * Synchronizes the sums with the current bounds of the variable at <code>i</code>,
+     * which may have changed without any event being received.
+     *
+     * @return <code>true</code> if the bounds of the variable at <code>i</code> were not up to date
+     */
+    private boolean sync(int i, int lb, int ub) {
+        int olb = lbs[i].get();
+        int oub = ubs[i].get();
+        if (olb == lb && oub == ub) {
+            return false;
+        }
+        lbs[i].set(lb);
+        ubs[i].set(ub);
+        if (i < pos) {
+            sLB += ((long) lb - olb) * c[i];
+            sUB += ((long) ub - oub) * c[i];
+        } else {
+            sLB += ((long) ub - oub) * c[i];
+            sUB += ((long) lb - olb) * c[i];
+        }
+        return true;
+    }
+
+    @SuppressWarnings({"NullableProblems"})
+    boolean filterOnLeq() throws ContradictionException {
+        long slack = b - sLB;
+        if (slack < 0) {
+            this.contradiction(null, "b - sumLB < 0");
+        }
+        boolean anychange = false;
+        int i = 0;
+        // positive coefficients first
+        for (; i < pos; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            anychange |= sync(i, lb, ub);
+            if (((long) ub - lb) * c[i] > slack
+                    && vars[i].updateUpperBound(toInt(divFloor(slack + (long) lb * c[i], c[i])), aCause)) {
+                lb = vars[i].getLB();
+                ub = vars[i].getUB();
+                sync(i, lb, ub);
+                anychange = true;
+            }
+            max = Math.max(max, ((long) ub - lb) * c[i]);
+        }
+        // then negative ones
+        for (; i < l; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            anychange |= sync(i, lb, ub);
+            if (((long) lb - ub) * c[i] > slack
+                    && vars[i].updateLowerBound(toInt(divCeil(-(slack + (long) ub * c[i]), -c[i])), aCause)) {
+                lb = vars[i].getLB();
+                ub = vars[i].getUB();
+                sync(i, lb, ub);
+                anychange = true;
+            }
+            max = Math.max(max, ((long) lb - ub) * c[i]);
+        }
+        return anychange;
+    }
+
+    @SuppressWarnings({"NullableProblems"})
+    boolean filterOnGeq() throws ContradictionException {
+        long slack = sUB - b;
+        if (slack < 0) {
+            this.contradiction(null, "b - sumUB > 0");
+        }
+        boolean anychange = false;
+        int i = 0;
+        // positive coefficients first
+        for (; i < pos; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            anychange |= sync(i, lb, ub);
+            if (((long) ub - lb) * c[i] > slack
+                    && vars[i].updateLowerBound(toInt(divCeil((long) ub * c[i] - slack, c[i])), aCause)) {
+                lb = vars[i].getLB();
+                ub = vars[i].getUB();
+                sync(i, lb, ub);
+                anychange = true;
+            }
+            max = Math.max(max, ((long) ub - lb) * c[i]);
+        }
+        // then negative ones
+        for (; i < l; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            anychange |= sync(i, lb, ub);
+            if (((long) lb - ub) * c[i] > slack
+                    && vars[i].updateUpperBound(toInt(divFloor(slack - (long) lb * c[i], -c[i])), aCause)) {
+                lb = vars[i].getLB();
+                ub = vars[i].getUB();
+                sync(i, lb, ub);
+                anychange = true;
+            }
+            max = Math.max(max, ((long) lb - ub) * c[i]);
+        }
+        return anychange;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        long sumUB = 0, sumLB = 0;
+        int i = 0;
+        for (; i < pos; i++) { // first the positive coefficients
+            sumLB += (long) vars[i].getLB() * c[i];
+            sumUB += (long) vars[i].getUB() * c[i];
+        }
+        for (; i < l; i++) { // then the negative ones
+            sumLB += (long) vars[i].getUB() * c[i];
+            sumUB += (long) vars[i].getLB() * c[i];
+        }
+        if (sumUB == b && sumLB == b) {
+            return ESat.TRUE;
+        } else if (sumLB > b || sumUB < b) {
+            return ESat.FALSE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder linComb = new StringBuilder(20);
+        linComb.append(vars[0].getName()).append('.').append(c[0]);
+        int i = 1;
+        for (; i < l; i++) {
+            linComb.append(" + ").append(vars[i].getName()).append('.').append(c[i]);
+        }
+        linComb.append(" = ");
+        linComb.append(b);
+        return linComb.toString();
+    }
+
+    private static int toInt(long a) {
+        return a > Integer.MAX_VALUE ? Integer.MAX_VALUE : (a < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) a);
+    }
+
+    private static long divFloor(long a, long b) {
+        // <!> we assume b > 0
+        if (a >= 0) {
+            return (a / b);
+        } else {
+            return (a - b + 1) / b;
+        }
+    }
+
+    private static long divCeil(long a, long b) {
+        // <!> we assume b > 0
+        if (a >= 0) {
+            return ((a + b - 1) / b);
+        } else {
+            return a / b;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.propagators.reified;
+
+import memory.IStateInt;
+import memory.IStateLong;
+import solver.constraints.Operator;
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.exception.SolverException;
+import solver.variables.BoolVar;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import util.ESat;
+import util.tools.ArrayUtils;
+
+/**
+ * A propagator for B => SUM(c_i.x_i) OP b (half reification) or B <=> SUM(c_i.x_i) OP b (reification),
+ * where OP is one of =, != or <=.
+ * <br/>
+ * The boolean variable is watched directly, no intermediate variable nor constraint is needed:
+ * the linear constraint is filtered (on bounds) when B is true, its negation when B is false -- reification only --,
+ * and B is fixed as soon as the linear constraint is entailed or disentailed.
+ * <br/>
+ * As in {@link solver.constraints.propagators.nary.sum.PropScalarEq}, the sums of the lower and upper bounds,
+ * and the bounds of each variable as last seen, are reversible: a bound event updates the sums in O(1),
+ * which is enough to fix B while it is not instantiated.
+ * Arithmetic is done with long, to avoid overflows with large coefficients or large domains.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PropScalarReif extends Propagator<IntVar> {
+
+    final int[] c; // list of coefficients
+    final int n; // number of integer variables
+    final Operator op; // EQ, NQ or LE
+    final long b; // bound to respect
+    final BoolVar r; // reification variable
+    final boolean half; // set to true for B => C, false for B <=> C
+    final IStateInt[] lbs, ubs; // bounds of the integer variables, as last seen
+    final IStateLong sumLB, sumUB; // sum of lower bounds, and sum of upper bounds
+    long sLB, sUB; // sums during a propagation
+
+    protected static PropagatorPriority computePriority(int nbvars) {
+        if (nbvars == 2) {
+            return PropagatorPriority.BINARY;
+        } else if (nbvars == 3) {
+            return PropagatorPriority.TERNARY;
+        } else {
+            return PropagatorPriority.LINEAR;
+        }
+    }
+
+    /**
+     * @param variables integer variables
+     * @param coeffs    their coefficients
+     * @param op        one of {@link Operator#EQ}, {@link Operator#NQ} or {@link Operator#LE}
+     * @param b         right member
+     * @param r         reification variable
+     * @param half      set to <code>true</code> for an half reification (r => C), to <code>false</code> for r <=> C
+     */
+    public PropScalarReif(IntVar[] variables, int[] coeffs, Operator op, int b, BoolVar r, boolean half) {
+        super(ArrayUtils.append(variables, new IntVar[]{r}), computePriority(variables.length + 1), false);
+        if (op != Operator.EQ && op != Operator.NQ && op != Operator.LE) {
+            throw new SolverException("PropScalarReif: unexpected operator " + op);
+        }
+        this.c = coeffs;
+        this.n = variables.length;
+        this.op = op;
+        this.b = b;
+        this.r = r;
+        this.half = half;
+        this.lbs = new IStateInt[n];
+        this.ubs = new IStateInt[n];
+        long f = 0, e = 0;
+        for (int i = 0; i < n; i++) {
+            lbs[i] = environment.makeInt(vars[i].getLB());
+            ubs[i] = environment.makeInt(vars[i].getUB());
+            if (c[i] > 0) {
+                f += (long) lbs[i].get() * c[i];
+                e += (long) ubs[i].get() * c[i];
+            } else {
+                f += (long) ubs[i].get() * c[i];
+                e += (long) lbs[i].get() * c[i];
+            }
+        }
+        this.sumLB = environment.makeLong(f);
+        this.sumUB = environment.makeLong(e);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        if (vIdx == n) {
+            return EventType.INSTANTIATE.mask;
+        }
+        return EventType.INSTANTIATE.mask + EventType.BOUND.mask;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        sLB = sumLB.get();
+        sUB = sumUB.get();
+        for (int i = 0; i < n; i++) {
+            sync(i, vars[i].getLB(), vars[i].getUB());
+        }
+        filter();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        sLB = sumLB.get();
+        sUB = sumUB.get();
+        if (idxVarInProp < n) {
+            sync(idxVarInProp, vars[idxVarInProp].getLB(), vars[idxVarInProp].getUB());
+        }
+        filter();
+    }
+
+    private void filter() throws ContradictionException {
+        if (r.instantiated()) {
+            if (r.getValue() == 1) {
+                enforce(op, b);
+            } else if (!half) {
+                switch (op) {
+                    case EQ:
+                        enforce(Operator.NQ, b);
+                        break;
+                    case NQ:
+                        enforce(Operator.EQ, b);
+                        break;
+                    default: // not(C <= b) is C >= b + 1
+                        boolean run;
+                        do {
+                            run = filterOnGeq(b + 1);
+                        } while (run);
+                        break;
+                }
+            }
+        } else {
+            switch (check(sLB, sUB)) {
+                case TRUE:
+                    if (!half) {
+                        r.setToTrue(aCause);
+                        setPassive();
+                    }
+                    break;
+                case FALSE:
+                    r.setToFalse(aCause);
+                    setPassive();
+                    break;
+            }
+        }
+        sumLB.set(sLB);
+        sumUB.set(sUB);
+    }
+
+    private void enforce(Operator o, long bnd) throws ContradictionException {
+        boolean run;
+        switch (o) {
+            case EQ:
+                do {
+                    run = filterOnLeq(bnd);
+                    run |= filterOnGeq(bnd);
+                } while (run);
+                break;
+            case NQ:
+                filterOnNeq(bnd);
+                break;
+            default:
+                do {
+                    run = filterOnLeq(bnd);
+                } while (run);
+                break;
+        }
+    }
+
+    /**
+     * Synchronizes the sums with the current bounds of the variable at <code>i</code>,
+     * which may have changed without any event being received.
+     *
+     * @return <code>true</code> if the bounds of the variable at <code>i</code> were not up to date
+     */
+    private boolean sync(int i, int lb, int ub) {
+        int olb = lbs[i].get();
+        int oub = ubs[i].get();
+        if (olb == lb && oub == ub) {
+            return false;
+        }
+        lbs[i].set(lb);
+        ubs[i].set(ub);
+        if (c[i] > 0) {
+            sLB += ((long) lb - olb) * c[i];
+            sUB += ((long) ub - oub) * c[i];
+        } else {
+            sLB += ((long) ub - oub) * c[i];
+            sUB += ((long) lb - olb) * c[i];
+        }
+        return true;
+    }
+
+    // SUM(c_i.x_i) <= bnd
+    private boolean filterOnLeq(long bnd) throws ContradictionException {
+        long slack = bnd - sLB;
+        if (slack < 0) {
+            this.contradiction(null, "sumLB > b");
+        }
+        boolean anychange = false;
+        for (int i = 0; i < n; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            anychange |= sync(i, lb, ub);
+            if (c[i] > 0) {
+                if (((long) ub - lb) * c[i] > slack
+                        && vars[i].updateUpperBound(toInt(divFloor(slack + (long) lb * c[i], c[i])), aCause)) {
+                    sync(i, vars[i].getLB(), vars[i].getUB());
+                    anychange = true;
+                }
+            } else if (c[i] < 0) {
+                if (((long) lb - ub) * c[i] > slack
+                        && vars[i].updateLowerBound(toInt(divCeil(-(slack + (long) ub * c[i]), -c[i])), aCause)) {
+                    sync(i, vars[i].getLB(), vars[i].getUB());
+                    anychange = true;
+                }
+            }
+        }
+        return anychange;
+    }
+
+    // SUM(c_i.x_i) >= bnd
+    private boolean filterOnGeq(long bnd) throws ContradictionException {
+        long slack = sUB - bnd;
+        if (slack < 0) {
+            this.contradiction(null, "sumUB < b");
+        }
+        boolean anychange = false;
+        for (int i = 0; i < n; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            anychange |= sync(i, lb, ub);
+            if (c[i] > 0) {
+                if (((long) ub - lb) * c[i] > slack
+                        && vars[i].updateLowerBound(toInt(divCeil((long) ub * c[i] - slack, c[i])), aCause)) {
+                    sync(i, vars[i].getLB(), vars[i].getUB());
+                    anychange = true;
+                }
+            } else if (c[i] < 0) {
+                if (((long) lb - ub) * c[i] > slack
+                        && vars[i].updateUpperBound(toInt(divFloor(slack - (long) lb * c[i], -c[i])), aCause)) {
+                    sync(i, vars[i].getLB(), vars[i].getUB());
+                    anychange = true;
+                }
+            }
+        }
+        return anychange;
+    }
+
+    // SUM(c_i.x_i) != bnd, filters only when at most one variable is not instantiated
+    private void filterOnNeq(long bnd) throws ContradictionException {
+        int k = -1;
+        long s = 0;
+        for (int i = 0; i < n; i++) {
+            if (vars[i].instantiated()) {
+                s += (long) vars[i].getValue() * c[i];
+            } else if (c[i] != 0) {
+                if (k > -1) {
+                    return;
+                }
+                k = i;
+            }
+        }
+        if (k == -1) {
+            if (s == bnd) {
+                this.contradiction(null, "sum = b");
+            }
+            setPassive();
+        } else if ((bnd - s) % c[k] == 0) {
+            long v = (bnd - s) / c[k];
+            if (v >= Integer.MIN_VALUE && v <= Integer.MAX_VALUE) {
+                vars[k].removeValue((int) v, aCause);
+            }
+            setPassive();
+        } else {
+            setPassive();
+        }
+    }
+
+    /**
+     * Evaluate the linear constraint, given the bounds of its sum.
+     */
+    private ESat check(long sumLB, long sumUB) {
+        switch (op) {
+            case EQ:
+                if (sumLB == b && sumUB == b) {
+                    return ESat.TRUE;
+                } else if (sumLB > b || sumUB < b) {
+                    return ESat.FALSE;
+                }
+                return ESat.UNDEFINED;
+            case NQ:
+                if (sumLB == b && sumUB == b) {
+                    return ESat.FALSE;
+                } else if (sumLB > b || sumUB < b) {
+                    return ESat.TRUE;
+                }
+                return ESat.UNDEFINED;
+            default:
+                if (sumUB <= b) {
+                    return ESat.TRUE;
+                } else if (sumLB > b) {
+                    return ESat.FALSE;
+                }
+                return ESat.UNDEFINED;
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        long f = 0, e = 0;
+        for (int i = 0; i < n; i++) {
+            if (c[i] > 0) {
+                f += (long) vars[i].getLB() * c[i];
+                e += (long) vars[i].getUB() * c[i];
+            } else {
+                f += (long) vars[i].getUB() * c[i];
+                e += (long) vars[i].getLB() * c[i];
+            }
+        }
+        ESat cstr = check(f, e);
+        if (r.instantiated()) {
+            if (r.getValue() == 1) {
+                return cstr;
+            }
+            if (half) {
+                return ESat.TRUE;
+            }
+            return cstr == ESat.UNDEFINED ? cstr : ESat.not(cstr);
+        }
+        if (half && cstr == ESat.TRUE) {
+            return ESat.TRUE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder linComb = new StringBuilder(20);
+        linComb.append(r.getName()).append(half ? " => " : " <=> ");
+        linComb.append(vars[0].getName()).append('.').append(c[0]);
+        for (int i = 1; i < n; i++) {
+            linComb.append(" + ").append(vars[i].getName()).append('.').append(c[i]);
+        }
+        linComb.append(' ').append(op).append(' ').append(b);
+        return linComb.toString();
+    }
+
+    private static int toInt(long a) {
+        return a > Integer.MAX_VALUE ? Integer.MAX_VALUE : (a < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) a);
+    }
+
+    private static long divFloor(long a, long b) {
+        // <!> we assume b > 0
+        if (a >= 0) {
+            return (a / b);
+        } else {
+            return (a - b + 1) / b;
+        }
+    }
+
+    private static long divCeil(long a, long b) {
+        // <!> we assume b > 0
+        if (a >= 0) {
+            return ((a + b - 1) / b);
+        } else {
+            return a / b;
+        }
+    }
+}
@@ -37,12 +37,14 @@ package solver.constraints.propagators.set;
 import solver.constraints.propagators.Propagator;
 import solver.constraints.propagators.PropagatorPriority;
 import solver.exception.ContradictionException;
+import solver.variables.BitsetSetVarImpl;
 import solver.variables.EventType;
 import solver.variables.SetVar;
 import solver.variables.delta.monitor.SetDeltaMonitor;
 import util.ESat;
 import util.objects.setDataStructures.ISet;
 import util.procedure.IntProcedure;
+import util.procedure.PairProcedure;
 
 /**
  * Ensures that all non-empty sets are disjoint
@@ -59,6 +61,9 @@ public class PropAllDisjoint extends Propagator<SetVar> {
     private int n, currentSet;
     private SetDeltaMonitor[] sdm;
     private IntProcedure elementForced;
+    // word-level filtering, when all the sets are bitset-based
+    private BitsetSetVarImpl[] bvars;
+    private PairProcedure intervalForced;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -88,6 +93,22 @@ public class PropAllDisjoint extends Propagator<SetVar> {
                 }
             }
         };
+        if (BitsetSetVarImpl.all(sets)) {
+            bvars = new BitsetSetVarImpl[n];
+            for (int i = 0; i < n; i++) {
+                bvars[i] = (BitsetSetVarImpl) this.vars[i];
+            }
+            intervalForced = new PairProcedure() {
+                @Override
+                public void execute(int from, int to) throws ContradictionException {
+                    for (int i = 0; i < n; i++) {
+                        if (i != currentSet) {
+                            bvars[i].removeIntervalFromEnvelope(from, to, aCause);
+                        }
+                    }
+                }
+            };
+        }
     }
 
     //***********************************************************************************
@@ -102,12 +123,16 @@ public class PropAllDisjoint extends Propagator<SetVar> {
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         if ((evtmask & EventType.FULL_PROPAGATION.mask) != 0) {
-            for (int i = 0; i < n; i++) {
-                ISet s = vars[i].getKernel();
-                for (int j = s.getFirstElement(); j >= 0; j = s.getNextElement()) {
-                    for (int i2 = 0; i2 < n; i2++) {
-                        if (i2 != i) {
-                            vars[i2].removeFromEnvelope(j, aCause);
+            if (bvars != null) {
+                filterWords();
+            } else {
+                for (int i = 0; i < n; i++) {
+                    ISet s = vars[i].getKernel();
+                    for (int j = s.getFirstElement(); j >= 0; j = s.getNextElement()) {
+                        for (int i2 = 0; i2 < n; i2++) {
+                            if (i2 != i) {
+                                vars[i2].removeFromEnvelope(j, aCause);
+                            }
                         }
                     }
                 }
@@ -122,10 +147,39 @@ public class PropAllDisjoint extends Propagator<SetVar> {
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
         currentSet = idxVarInProp;
         sdm[currentSet].freeze();
-        sdm[currentSet].forEach(elementForced, EventType.ADD_TO_KER);
+        if (bvars != null) {
+            sdm[currentSet].forEachInterval(intervalForced, EventType.ADD_TO_KER);
+        } else {
+            sdm[currentSet].forEach(elementForced, EventType.ADD_TO_KER);
+        }
         sdm[currentSet].unfreeze();
     }
 
+    /**
+     * Removes, 64 elements at a time, the elements of each kernel from the envelopes of the other sets
+     */
+    private void filterWords() throws ContradictionException {
+        int nbw = 0;
+        for (int i = 0; i < n; i++) {
+            nbw = Math.max(nbw, bvars[i].getNbWords());
+        }
+        for (int w = 0; w < nbw; w++) {
+            long once = 0, twice = 0;
+            for (int i = 0; i < n; i++) {
+                long k = bvars[i].getKernelWord(w);
+                twice |= once & k;
+                once |= k;
+            }
+            if (once != 0) {
+                for (int i = 0; i < n; i++) {
+                    // elements of the kernels of the other sets
+                    long others = twice | (once & ~bvars[i].getKernelWord(w));
+                    bvars[i].removeFromEnvelope(w, others, aCause);
+                }
+            }
+        }
+    }
+
     @Override
     public ESat isEntailed() {
         boolean allInstantiated = true;
@@ -37,6 +37,7 @@ package solver.constraints.propagators.set;
 import solver.constraints.propagators.Propagator;
 import solver.constraints.propagators.PropagatorPriority;
 import solver.exception.ContradictionException;
+import solver.variables.BitsetSetVarImpl;
 import solver.variables.EventType;
 import solver.variables.SetVar;
 import solver.variables.delta.monitor.SetDeltaMonitor;
@@ -57,6 +58,8 @@ public class PropIntersection extends Propagator<SetVar> {
     private SetDeltaMonitor[] sdm;
     private IntProcedure intersectionForced, intersectionRemoved, setForced, setRemoved;
     private ISet interRemToTreat, setAddToTreat;
+    // word-level filtering, when all the sets are bitset-based
+    private BitsetSetVarImpl[] bvars;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -65,6 +68,13 @@ public class PropIntersection extends Propagator<SetVar> {
     public PropIntersection(SetVar[] sets, SetVar intersection) {
         super(ArrayUtils.append(sets, new SetVar[]{intersection}), PropagatorPriority.LINEAR);
         k = sets.length;
+        if (BitsetSetVarImpl.all(vars)) {
+            bvars = new BitsetSetVarImpl[k + 1];
+            for (int i = 0; i <= k; i++) {
+                bvars[i] = (BitsetSetVarImpl) vars[i];
+            }
+            return;
+        }
         sdm = new SetDeltaMonitor[k + 1];
         for (int i = 0; i <= k; i++) {
             sdm[i] = this.vars[i].monitorDelta(this);
@@ -112,6 +122,10 @@ public class PropIntersection extends Propagator<SetVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
+        if (bvars != null) {
+            filterWords();
+            return;
+        }
         ISet set;
         SetVar intersection = vars[k];
         if ((evtmask & EventType.FULL_PROPAGATION.mask) != 0) {
@@ -188,6 +202,10 @@ public class PropIntersection extends Propagator<SetVar> {
 
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (bvars != null) {
+            forcePropagate(EventType.CUSTOM_PROPAGATION);
+            return;
+        }
         sdm[idxVarInProp].freeze();
         if (idxVarInProp < k) {
             sdm[idxVarInProp].forEach(setForced, EventType.ADD_TO_KER);
@@ -200,6 +218,32 @@ public class PropIntersection extends Propagator<SetVar> {
         forcePropagate(EventType.CUSTOM_PROPAGATION);
     }
 
+    /**
+     * Filters the domains 64 elements at a time, from scratch
+     */
+    private void filterWords() throws ContradictionException {
+        BitsetSetVarImpl intersection = bvars[k];
+        int nbw = 0;
+        for (int i = 0; i <= k; i++) {
+            nbw = Math.max(nbw, bvars[i].getNbWords());
+        }
+        for (int w = 0; w < nbw; w++) {
+            long andEnv = -1L, andKer = -1L;
+            for (int i = 0; i < k; i++) {
+                andEnv &= bvars[i].getEnvelopeWord(w);
+                andKer &= bvars[i].getKernelWord(w);
+            }
+            intersection.removeFromEnvelope(w, ~andEnv, aCause);
+            intersection.addToKernel(w, andKer, aCause);
+            long kerI = intersection.getKernelWord(w);
+            if (kerI != 0) {
+                for (int i = 0; i < k; i++) {
+                    bvars[i].addToKernel(w, kerI, aCause);
+                }
+            }
+        }
+    }
+
     @Override
     public ESat isEntailed() {
         ISet set;
@@ -37,12 +37,14 @@ package solver.constraints.propagators.set;
 import solver.constraints.propagators.Propagator;
 import solver.constraints.propagators.PropagatorPriority;
 import solver.exception.ContradictionException;
+import solver.variables.BitsetSetVarImpl;
 import solver.variables.EventType;
 import solver.variables.SetVar;
 import solver.variables.delta.monitor.SetDeltaMonitor;
 import util.ESat;
 import util.objects.setDataStructures.ISet;
 import util.procedure.IntProcedure;
+import util.procedure.PairProcedure;
 
 /**
  * Ensures that X subseteq Y
@@ -57,6 +59,9 @@ public class PropSubsetEq extends Propagator<SetVar> {
 
     private SetDeltaMonitor[] sdm;
     private IntProcedure elementForced, elementRemoved;
+    // word-level filtering, when both sets are bitset-based
+    private BitsetSetVarImpl bX, bY;
+    private PairProcedure intervalForced, intervalRemoved;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -87,6 +92,22 @@ public class PropSubsetEq extends Propagator<SetVar> {
                 vars[0].removeFromEnvelope(element, aCause);
             }
         };
+        if (BitsetSetVarImpl.all(vars)) {
+            bX = (BitsetSetVarImpl) vars[0];
+            bY = (BitsetSetVarImpl) vars[1];
+            intervalForced = new PairProcedure() {
+                @Override
+                public void execute(int from, int to) throws ContradictionException {
+                    bY.addIntervalToKernel(from, to, aCause);
+                }
+            };
+            intervalRemoved = new PairProcedure() {
+                @Override
+                public void execute(int from, int to) throws ContradictionException {
+                    bX.removeIntervalFromEnvelope(from, to, aCause);
+                }
+            };
+        }
     }
 
     //***********************************************************************************
@@ -103,14 +124,22 @@ public class PropSubsetEq extends Propagator<SetVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        ISet tmp = vars[0].getKernel();
-        for (int j = tmp.getFirstElement(); j >= 0; j = tmp.getNextElement()) {
-            vars[1].addToKernel(j, aCause);
-        }
-        tmp = vars[0].getEnvelope();
-        for (int j = tmp.getFirstElement(); j >= 0; j = tmp.getNextElement()) {
-            if (!vars[1].getEnvelope().contain(j))
-                vars[0].removeFromEnvelope(j, aCause);
+        if (bX != null) {
+            int nbw = Math.max(bX.getNbWords(), bY.getNbWords());
+            for (int w = 0; w < nbw; w++) {
+                bY.addToKernel(w, bX.getKernelWord(w), aCause);
+                bX.removeFromEnvelope(w, ~bY.getEnvelopeWord(w), aCause);
+            }
+        } else {
+            ISet tmp = vars[0].getKernel();
+            for (int j = tmp.getFirstElement(); j >= 0; j = tmp.getNextElement()) {
+                vars[1].addToKernel(j, aCause);
+            }
+            tmp = vars[0].getEnvelope();
+            for (int j = tmp.getFirstElement(); j >= 0; j = tmp.getNextElement()) {
+                if (!vars[1].getEnvelope().contain(j))
+                    vars[0].removeFromEnvelope(j, aCause);
+            }
         }
         sdm[0].unfreeze();
         sdm[1].unfreeze();
@@ -119,7 +148,12 @@ public class PropSubsetEq extends Propagator<SetVar> {
     @Override
     public void propagate(int i, int mask) throws ContradictionException {
         sdm[i].freeze();
-        if (i == 0)
+        if (bX != null) {
+            if (i == 0)
+                sdm[i].forEachInterval(intervalForced, EventType.ADD_TO_KER);
+            else
+                sdm[i].forEachInterval(intervalRemoved, EventType.REMOVE_FROM_ENVELOPE);
+        } else if (i == 0)
             sdm[i].forEach(elementForced, EventType.ADD_TO_KER);
         else
             sdm[i].forEach(elementRemoved, EventType.REMOVE_FROM_ENVELOPE);
@@ -37,6 +37,7 @@ package solver.constraints.propagators.set;
 import solver.constraints.propagators.Propagator;
 import solver.constraints.propagators.PropagatorPriority;
 import solver.exception.ContradictionException;
+import solver.variables.BitsetSetVarImpl;
 import solver.variables.EventType;
 import solver.variables.SetVar;
 import solver.variables.delta.monitor.SetDeltaMonitor;
@@ -57,6 +58,8 @@ public class PropUnion extends Propagator<SetVar> {
     private SetDeltaMonitor[] sdm;
     private IntProcedure unionForced, unionRemoved, setForced, setRemoved;
     private ISet unionAddToTreat, setRemToTreat;
+    // word-level filtering, when all the sets are bitset-based
+    private BitsetSetVarImpl[] bvars;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -71,6 +74,13 @@ public class PropUnion extends Propagator<SetVar> {
     public PropUnion(SetVar[] sets, SetVar union) {
         super(ArrayUtils.append(sets, new SetVar[]{union}), PropagatorPriority.LINEAR);
         k = sets.length;
+        if (BitsetSetVarImpl.all(vars)) {
+            bvars = new BitsetSetVarImpl[k + 1];
+            for (int i = 0; i <= k; i++) {
+                bvars[i] = (BitsetSetVarImpl) vars[i];
+            }
+            return;
+        }
         sdm = new SetDeltaMonitor[k + 1];
         for (int i = 0; i <= k; i++) {
             sdm[i] = this.vars[i].monitorDelta(this);
@@ -119,6 +129,10 @@ public class PropUnion extends Propagator<SetVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
+        if (bvars != null) {
+            filterWords();
+            return;
+        }
         ISet set;
         SetVar union = vars[k];
         if ((evtmask & EventType.FULL_PROPAGATION.mask) != 0) {
@@ -187,6 +201,10 @@ public class PropUnion extends Propagator<SetVar> {
 
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (bvars != null) {
+            forcePropagate(EventType.CUSTOM_PROPAGATION);
+            return;
+        }
         sdm[idxVarInProp].freeze();
         if (idxVarInProp < k) {
             sdm[idxVarInProp].forEach(setForced, EventType.ADD_TO_KER);
@@ -199,6 +217,45 @@ public class PropUnion extends Propagator<SetVar> {
         forcePropagate(EventType.CUSTOM_PROPAGATION);
     }
 
+    /**
+     * Filters the domains 64 elements at a time, from scratch
+     */
+    private void filterWords() throws ContradictionException {
+        BitsetSetVarImpl union = bvars[k];
+        int nbw = 0;
+        for (int i = 0; i <= k; i++) {
+            nbw = Math.max(nbw, bvars[i].getNbWords());
+        }
+        for (int w = 0; w < nbw; w++) {
+            long orEnv = 0;
+            for (int i = 0; i < k; i++) {
+                orEnv |= bvars[i].getEnvelopeWord(w);
+            }
+            union.removeFromEnvelope(w, ~orEnv, aCause);
+            long envU = union.getEnvelopeWord(w);
+            for (int i = 0; i < k; i++) {
+                bvars[i].removeFromEnvelope(w, ~envU, aCause);
+                union.addToKernel(w, bvars[i].getKernelWord(w), aCause);
+            }
+            long kerU = union.getKernelWord(w);
+            if (kerU != 0) {
+                // elements of the union kernel supported by a single set
+                long once = 0, twice = 0;
+                for (int i = 0; i < k; i++) {
+                    long e = bvars[i].getEnvelopeWord(w);
+                    twice |= once & e;
+                    once |= e;
+                }
+                long single = kerU & ~twice;
+                if (single != 0) {
+                    for (int i = 0; i < k; i++) {
+                        bvars[i].addToKernel(w, single & bvars[i].getEnvelopeWord(w), aCause);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public ESat isEntailed() {
         ISet set;
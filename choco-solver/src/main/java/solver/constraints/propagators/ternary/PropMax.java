@@ -34,7 +34,7 @@ import solver.variables.EventType;
 import solver.variables.IntVar;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.ESat;
-import util.procedure.UnaryIntProcedure;
+import util.procedure.UnaryIntIntProcedure;
 
 /**
  * X = MAX(Y,Z)
@@ -188,7 +188,7 @@ public class PropMax extends Propagator<IntVar> {
         return MAX.toString() + ".MAX(" + v1.toString() + "," + v2.toString() + ")";
     }
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
+    private static class RemProc implements UnaryIntIntProcedure {
 
         private final PropMax p;
         private int idxVar;
@@ -198,7 +198,7 @@ public class PropMax extends Propagator<IntVar> {
         }
 
         @Override
-        public UnaryIntProcedure set(Integer idxVar) {
+        public UnaryIntIntProcedure set(int idxVar) {
             this.idxVar = idxVar;
             return this;
         }
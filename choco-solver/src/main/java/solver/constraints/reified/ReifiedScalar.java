@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.reified;
+
+import solver.constraints.IntConstraint;
+import solver.constraints.Operator;
+import solver.constraints.propagators.reified.PropScalarReif;
+import solver.exception.SolverException;
+import solver.variables.BoolVar;
+import solver.variables.IntVar;
+import util.ESat;
+import util.tools.ArrayUtils;
+
+/**
+ * Reification, or half reification, of a linear constraint:
+ * B <=> SUM(c_i.x_i) OP b, or B => SUM(c_i.x_i) OP b, where OP is one of =, !=, <, <=, >, >=.
+ * <br/>
+ * Unlike a combination of {@link ImplicationConstraint}s over an intermediate scalar variable,
+ * it relies on a single propagator which watches B and the x_i directly.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class ReifiedScalar extends IntConstraint<IntVar> {
+
+    final int[] coeffs;
+    final Operator op;
+    final int b;
+    final boolean half;
+
+    public ReifiedScalar(IntVar[] vars, int[] coeffs, Operator op, int b, BoolVar r, boolean half) {
+        super(ArrayUtils.append(vars, new IntVar[]{r}), r.getSolver());
+        if (vars.length != coeffs.length) {
+            throw new SolverException("ReifiedScalar: vars and coeffs differ in size");
+        }
+        this.coeffs = coeffs.clone();
+        this.op = op;
+        this.b = b;
+        this.half = half;
+        // normalize the operator into =, != or <=
+        int[] cs = coeffs.clone();
+        Operator nop = op;
+        int nb = b;
+        switch (op) {
+            case LT:
+                nop = Operator.LE;
+                nb = b - 1;
+                break;
+            case GE:
+            case GT:
+                for (int i = 0; i < cs.length; i++) {
+                    cs[i] = -cs[i];
+                }
+                nop = Operator.LE;
+                nb = op == Operator.GE ? -b : -b - 1;
+                break;
+            case EQ:
+            case NQ:
+            case LE:
+                break;
+            default:
+                throw new SolverException("ReifiedScalar: unexpected operator " + op);
+        }
+        setPropagators(new PropScalarReif(vars, cs, nop, nb, r, half));
+    }
+
+    @Override
+    public ESat isSatisfied(int[] tuple) {
+        int s = 0;
+        for (int i = 0; i < coeffs.length; i++) {
+            s += coeffs[i] * tuple[i];
+        }
+        boolean sat;
+        switch (op) {
+            case EQ:
+                sat = s == b;
+                break;
+            case NQ:
+                sat = s != b;
+                break;
+            case LT:
+                sat = s < b;
+                break;
+            case LE:
+                sat = s <= b;
+                break;
+            case GT:
+                sat = s > b;
+                break;
+            default:
+                sat = s >= b;
+                break;
+        }
+        if (tuple[coeffs.length] == 1) {
+            return ESat.eval(sat);
+        }
+        return ESat.eval(half || !sat);
+    }
+
+    @Override
+    public String toString() {
+        return propagators[0].toString();
+    }
+}
@@ -32,6 +32,7 @@ import solver.constraints.IntConstraint;
 import solver.constraints.propagators.Propagator;
 import solver.constraints.propagators.ternary.PropTimesXY;
 import solver.constraints.propagators.ternary.PropTimesZ;
+import solver.copy.ConstraintRecipe;
 import solver.exception.SolverException;
 import solver.variables.IntVar;
 import util.ESat;
@@ -85,4 +86,9 @@ public class Times extends IntConstraint<IntVar> {
     public String toString() {
         return String.format("%s * %s = %s", X.getName(), Y.getName(), Z.getName());
     }
+
+    @Override
+    public ConstraintRecipe getRecipe() {
+        return new ConstraintRecipe(ConstraintRecipe.Kind.TIMES, vars);
+    }
 }
@@ -32,6 +32,7 @@ import solver.Solver;
 import solver.constraints.IntConstraint;
 import solver.constraints.propagators.unary.PropMemberBound;
 import solver.constraints.propagators.unary.PropMemberEnum;
+import solver.copy.ConstraintRecipe;
 import solver.variables.IntVar;
 import util.ESat;
 
@@ -77,4 +78,15 @@ public class Member extends IntConstraint<IntVar> {
     public String toString() {
         return vars[0].toString() + " in " + (values == null ? "[" + lb + "," + ub + "]" : Arrays.toString(values.toArray()));
     }
+
+    @Override
+    public ConstraintRecipe getRecipe() {
+        if (values == null) {
+            return new ConstraintRecipe(ConstraintRecipe.Kind.MEMBER, vars, 0, lb, ub);
+        }
+        int[] params = new int[values.size() + 1];
+        params[0] = 1;
+        System.arraycopy(values.toArray(), 0, params, 1, values.size());
+        return new ConstraintRecipe(ConstraintRecipe.Kind.MEMBER, vars, params);
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.copy;
+
+import solver.Solver;
+import solver.constraints.Arithmetic;
+import solver.constraints.Constraint;
+import solver.constraints.Operator;
+import solver.constraints.binary.Absolute;
+import solver.constraints.binary.Element;
+import solver.constraints.nary.Sum;
+import solver.constraints.nary.alldifferent.AllDifferent;
+import solver.constraints.nary.cnf.ALogicTree;
+import solver.constraints.nary.cnf.ConjunctiveNormalForm;
+import solver.constraints.nary.cnf.Literal;
+import solver.constraints.nary.cnf.Node;
+import solver.constraints.ternary.Times;
+import solver.constraints.unary.Member;
+import solver.constraints.unary.NotMember;
+import solver.variables.BoolVar;
+import solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * A structural description of a constraint: its kind, its variables and its integer parameters.
+ * It is enough to build the constraint again, possibly in another solver (see {@link ModelCopier}).
+ * <br/>
+ * A constraint which can be described overrides {@link solver.constraints.Constraint#getRecipe()}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class ConstraintRecipe {
+
+    public static enum Kind {
+        /**
+         * params: {form, op1, op2, cste}, form is 0 for VAR op CSTE, 1 for VAR op VAR, 2 for VAR op VAR op CSTE
+         */
+        ARITHM {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                Operator op1 = Operator.values()[params[1]];
+                Operator op2 = Operator.values()[params[2]];
+                switch (params[0]) {
+                    case 0:
+                        return new Arithmetic(vars[0], op1, params[3], solver);
+                    case 1:
+                        return new Arithmetic(vars[0], op1, vars[1], solver);
+                    default:
+                        return new Arithmetic(vars[0], op1, vars[1], op2, params[3], solver);
+                }
+            }
+        },
+        /**
+         * params: {b, coeffs...}, see {@link Sum#build(IntVar[], int[], int, Solver)}
+         */
+        SUM {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                return Sum.build(vars, Arrays.copyOfRange(params, 1, params.length), params[0], solver);
+            }
+        },
+        /**
+         * params: {type}
+         */
+        ALLDIFFERENT {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                return new AllDifferent(vars, solver, AllDifferent.Type.values()[params[0]]);
+            }
+        },
+        /**
+         * vars: {value, index}, params: {offset, values...}
+         */
+        ELEMENT {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                return new Element(vars[0], Arrays.copyOfRange(params, 1, params.length), vars[1], params[0], "detect", solver);
+            }
+        },
+        /**
+         * vars: {value, index, values...}, params: {offset}
+         */
+        ELEMENT_V {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                return new Element(vars[0], Arrays.copyOfRange(vars, 2, vars.length), vars[1], params[0], solver);
+            }
+        },
+        TIMES {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                return new Times(vars[0], vars[1], vars[2], solver);
+            }
+        },
+        ABSOLUTE {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                return new Absolute(vars[0], vars[1], solver);
+            }
+        },
+        /**
+         * params: {0, lb, ub} or {1, values...}
+         */
+        MEMBER {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                if (params[0] == 0) {
+                    return new Member(vars[0], params[1], params[2], solver);
+                }
+                return new Member(vars[0], Arrays.copyOfRange(params, 1, params.length), solver);
+            }
+        },
+        /**
+         * params: {0, lb, ub} or {1, values...}
+         */
+        NOT_MEMBER {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                if (params[0] == 0) {
+                    return new NotMember(vars[0], params[1], params[2], solver);
+                }
+                return new NotMember(vars[0], Arrays.copyOfRange(params, 1, params.length), solver);
+            }
+        },
+        /**
+         * vars: the literals of each clause, positive ones first, params: {size, nbPositive} for each clause
+         */
+        CLAUSES {
+            @Override
+            public Constraint build(IntVar[] vars, int[] params, Solver solver) {
+                ALogicTree[] clauses = new ALogicTree[params.length / 2];
+                for (int c = 0, k = 0; c < clauses.length; c++) {
+                    Literal[] lits = new Literal[params[2 * c]];
+                    for (int i = 0; i < lits.length; i++, k++) {
+                        BoolVar var = (BoolVar) vars[k];
+                        lits[i] = i < params[2 * c + 1] ? Literal.pos(var) : Literal.neg(var);
+                    }
+                    clauses[c] = Node.or(lits);
+                }
+                return new ConjunctiveNormalForm(Node.and(clauses), solver);
+            }
+        };
+
+        /**
+         * Build a constraint of this kind.
+         *
+         * @param vars   variables of the constraint, in <code>solver</code>
+         * @param params integer parameters
+         * @param solver the solver
+         * @return a new constraint, not posted yet
+         */
+        public abstract Constraint build(IntVar[] vars, int[] params, Solver solver);
+    }
+
+    final Kind kind;
+    final IntVar[] vars;
+    final int[] params;
+
+    public ConstraintRecipe(Kind kind, IntVar[] vars, int... params) {
+        this.kind = kind;
+        this.vars = vars;
+        this.params = params;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public IntVar[] getVars() {
+        return vars;
+    }
+
+    public int[] getParams() {
+        return params;
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.copy;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import memory.Environments;
+import solver.Cause;
+import solver.Solver;
+import solver.SolverProperties;
+import solver.constraints.Constraint;
+import solver.exception.ContradictionException;
+import solver.exception.SolverException;
+import solver.variables.BoolVar;
+import solver.variables.IntVar;
+import solver.variables.Variable;
+import solver.variables.VariableFactory;
+import solver.variables.view.*;
+
+import java.io.*;
+import java.util.ArrayList;
+
+/**
+ * A structural copier of models.
+ * <br/>
+ * Instead of serializing the whole graph of objects of a solver (engine, environment, search loop, ...),
+ * it describes each variable by its kind and its current domain, and each constraint by its recipe
+ * (see {@link solver.constraints.Constraint#getRecipe()}), then builds them again in a fresh solver,
+ * through {@link VariableFactory} and the constraints' constructors.
+ * It runs in time linear in the size of the model.
+ * <br/>
+ * The description can also be written in a compact binary format, to cache models on disk.
+ * <br/>
+ * Only the model is copied, in a solver with the same kind of environment: the search strategy, the objective
+ * and the search monitors are not, they have to be declared on the copy.
+ * To copy a whole solver, see {@link Solver#serializeClone(solver.Solver)}.
+ * The variables of a copy are declared in the same order as the ones of the source.
+ * <br/>
+ * Integer and boolean variables, constants and views over them are supported.
+ * A model which holds a constraint that does not provide a recipe, or another kind of variable, cannot be copied
+ * (see {@link #isStructural(solver.Solver)}): a {@link SolverException} is thrown.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public final class ModelCopier {
+
+    private static final int MAGIC = 0x43484F43; // "CHOC"
+    private static final int VERSION = 3;
+
+    // kinds of variable
+    private static final byte BOOL = 0, ENUM = 1, BOUND = 2, CSTE = 3, OFFSET = 4, MINUS = 5, SCALE = 6,
+            EQ = 7, BOOL_EQ = 8, NOT = 9, ABS = 10, SQR = 11;
+
+    final String name;
+    final Environments environment;
+    final ArrayList<Variable> vars; // variables, each one is declared after the ones it depends on
+    final TIntIntHashMap id2idx; // variable ID to index in vars
+    final ConstraintRecipe[] recipes;
+    String unsupported; // why the model cannot be copied structurally, null if it can
+
+    private ModelCopier(Solver source) {
+        this.name = source.getName();
+        this.environment = Environments.of(source.getEnvironment());
+        this.vars = new ArrayList<Variable>();
+        this.id2idx = new TIntIntHashMap(16, 0.5f, -1, -1);
+        Variable[] svars = source.getVars();
+        for (int i = 0; i < svars.length; i++) {
+            register(svars[i]);
+        }
+        Constraint[] cstrs = source.getCstrs();
+        recipes = new ConstraintRecipe[cstrs.length];
+        for (int c = 0; c < cstrs.length && unsupported == null; c++) {
+            recipes[c] = cstrs[c].getRecipe();
+            if (recipes[c] == null) {
+                unsupported = cstrs[c].getClass().getSimpleName() + ": no recipe";
+            } else {
+                IntVar[] cvars = recipes[c].getVars();
+                for (int i = 0; i < cvars.length; i++) {
+                    register(cvars[i]); // constants are not declared in the solver
+                }
+            }
+        }
+    }
+
+    private void register(Variable var) {
+        if (id2idx.containsKey(var.getId())) {
+            return;
+        }
+        int type = var.getTypeAndKind();
+        if ((type & Variable.VIEW) != 0) {
+            if (!(var instanceof IView)) {
+                unsupported = var.getName() + ": unsupported view";
+                return;
+            }
+            register(((IView) var).getVariable());
+        } else if ((type & Variable.CSTE) == 0 && (type & Variable.KIND) != Variable.BOOL && (type & Variable.KIND) != Variable.INT) {
+            unsupported = var.getName() + ": unsupported kind";
+            return;
+        }
+        id2idx.put(var.getId(), vars.size());
+        vars.add(var);
+    }
+
+    /**
+     * Return the kind of <code>var</code>, and fill <code>data</code> with the information required to build it.
+     */
+    private byte describe(Variable var, ArrayList<int[]> data) {
+        int type = var.getTypeAndKind();
+        if ((type & Variable.CSTE) != 0) {
+            data.add(new int[]{((IntVar) var).getValue()});
+            return CSTE;
+        }
+        if ((type & Variable.VIEW) != 0) {
+            int base = id2idx.get(((IView) var).getVariable().getId());
+            if (var instanceof OffsetView) {
+                data.add(new int[]{base, ((OffsetView) var).cste});
+                return OFFSET;
+            } else if (var instanceof ScaleView) {
+                data.add(new int[]{base, ((ScaleView) var).cste});
+                return SCALE;
+            }
+            data.add(new int[]{base});
+            if (var instanceof MinusView) {
+                return MINUS;
+            } else if (var instanceof EqView) {
+                return EQ;
+            } else if (var instanceof BoolEqView) {
+                return BOOL_EQ;
+            } else if (var instanceof BoolNotView) {
+                return NOT;
+            } else if (var instanceof AbsView) {
+                return ABS;
+            } else if (var instanceof SqrView) {
+                return SQR;
+            }
+        } else if ((type & Variable.KIND) == Variable.BOOL) {
+            IntVar ivar = (IntVar) var;
+            data.add(new int[]{ivar.getLB(), ivar.getUB()});
+            return BOOL;
+        } else if ((type & Variable.KIND) == Variable.INT) {
+            IntVar ivar = (IntVar) var;
+            if (ivar.hasEnumeratedDomain()) {
+                int[] values = new int[ivar.getDomainSize()];
+                int k = 0;
+                int ub = ivar.getUB();
+                for (int v = ivar.getLB(); v <= ub; v = ivar.nextValue(v)) {
+                    values[k++] = v;
+                }
+                data.add(values);
+                return ENUM;
+            }
+            data.add(new int[]{ivar.getLB(), ivar.getUB()});
+            return BOUND;
+        }
+        throw new SolverException("Cannot copy variable " + var.getName() + ": unsupported kind");
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private static Variable make(byte kind, String name, int[] data, Variable[] made, Solver solver) {
+        switch (kind) {
+            case BOOL:
+                BoolVar b = VariableFactory.bool(name, solver);
+                if (data[0] == data[1]) {
+                    try {
+                        b.instantiateTo(data[0], Cause.Null);
+                    } catch (ContradictionException e) {
+                        throw new SolverException("Cannot copy variable " + name);
+                    }
+                }
+                return b;
+            case ENUM:
+                return VariableFactory.enumerated(name, data, solver);
+            case BOUND:
+                return VariableFactory.bounded(name, data[0], data[1], solver);
+            case CSTE:
+                return VariableFactory.fixed(name, data[0], solver);
+            case OFFSET:
+                return new OffsetView((IntVar) made[data[0]], data[1], solver);
+            case MINUS:
+                return new MinusView((IntVar) made[data[0]], solver);
+            case SCALE:
+                return new ScaleView((IntVar) made[data[0]], data[1], solver);
+            case EQ:
+                return new EqView((IntVar) made[data[0]], solver);
+            case BOOL_EQ:
+                return new BoolEqView((BoolVar) made[data[0]], solver);
+            case NOT:
+                return new BoolNotView((BoolVar) made[data[0]], solver);
+            case ABS:
+                return new AbsView((IntVar) made[data[0]], solver);
+            case SQR:
+                return new SqrView((IntVar) made[data[0]], solver);
+            default:
+                throw new SolverException("Unknown kind of variable: " + kind);
+        }
+    }
+
+    private int[] indices(IntVar[] cvars) {
+        int[] idx = new int[cvars.length];
+        for (int i = 0; i < cvars.length; i++) {
+            idx[i] = id2idx.get(cvars[i].getId());
+        }
+        return idx;
+    }
+
+    private static void post(ConstraintRecipe.Kind kind, int[] vidx, int[] params, Variable[] made, Solver solver) {
+        IntVar[] cvars = new IntVar[vidx.length];
+        for (int i = 0; i < vidx.length; i++) {
+            cvars[i] = (IntVar) made[vidx[i]];
+        }
+        solver.post(kind.build(cvars, params, solver));
+    }
+
+    private void checkStructural() {
+        if (unsupported != null) {
+            throw new SolverException("Cannot copy " + unsupported);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check whether <code>source</code> can be copied structurally, that is, without serialization:
+     * every constraint provides a recipe and every variable is an integer or boolean variable, a constant or a view.
+     *
+     * @param source a solver
+     * @return <code>true</code> if the model of <code>source</code> can be copied structurally
+     */
+    public static boolean isStructural(Solver source) {
+        return new ModelCopier(source).unsupported == null;
+    }
+
+    /**
+     * Copy the variables and constraints of <code>source</code> into a new solver, with the same kind of environment.
+     *
+     * @param source the solver to copy
+     * @return a new solver
+     * @throws SolverException if the model cannot be copied structurally (see {@link #isStructural(solver.Solver)})
+     */
+    public static Solver copy(Solver source) {
+        ModelCopier copier = new ModelCopier(source);
+        copier.checkStructural();
+        return copier.copyInto(newSolver(copier.name, copier.environment));
+    }
+
+    /**
+     * Copy the variables and constraints of <code>source</code> into <code>target</code>, which is expected to be empty.
+     * The model of <code>source</code> must be structural (see {@link #isStructural(solver.Solver)}).
+     *
+     * @param source the solver to copy
+     * @param target the solver to fill
+     * @return <code>target</code>
+     * @throws SolverException if the model cannot be copied structurally
+     */
+    public static Solver copy(Solver source, Solver target) {
+        ModelCopier copier = new ModelCopier(source);
+        copier.checkStructural();
+        return copier.copyInto(target);
+    }
+
+    private static Solver newSolver(String name, Environments environment) {
+        return new Solver(environment.make(), name, SolverProperties.DEFAULT);
+    }
+
+    private Solver copyInto(Solver target) {
+        Variable[] made = new Variable[vars.size()];
+        ArrayList<int[]> data = new ArrayList<int[]>(1);
+        for (int i = 0; i < made.length; i++) {
+            Variable var = vars.get(i);
+            data.clear();
+            byte kind = describe(var, data);
+            made[i] = make(kind, var.getName(), data.get(0), made, target);
+        }
+        for (int c = 0; c < recipes.length; c++) {
+            ConstraintRecipe recipe = recipes[c];
+            post(recipe.getKind(), indices(recipe.getVars()), recipe.getParams(), made, target);
+        }
+        return target;
+    }
+
+    /**
+     * Write the variables and constraints of <code>source</code>, and the kind of its environment,
+     * in a compact binary format.
+     *
+     * @param source the solver to write
+     * @param os     output stream
+     * @throws IOException     if an I/O exception occurs.
+     * @throws SolverException if the model cannot be copied structurally (see {@link #isStructural(solver.Solver)})
+     */
+    public static void write(Solver source, OutputStream os) throws IOException {
+        ModelCopier copier = new ModelCopier(source);
+        copier.checkStructural();
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(copier.name);
+        out.writeByte(copier.environment.ordinal());
+        out.writeInt(copier.vars.size());
+        ArrayList<int[]> data = new ArrayList<int[]>(1);
+        for (int i = 0; i < copier.vars.size(); i++) {
+            Variable var = copier.vars.get(i);
+            data.clear();
+            out.writeByte(copier.describe(var, data));
+            out.writeUTF(var.getName());
+            writeInts(out, data.get(0));
+        }
+        out.writeInt(copier.recipes.length);
+        for (int c = 0; c < copier.recipes.length; c++) {
+            ConstraintRecipe recipe = copier.recipes[c];
+            out.writeByte(recipe.getKind().ordinal());
+            writeInts(out, copier.indices(recipe.getVars()));
+            writeInts(out, recipe.getParams());
+        }
+        out.flush();
+    }
+
+    /**
+     * Read a model written by {@link #write(solver.Solver, java.io.OutputStream)} into a new solver.
+     *
+     * @param is input stream
+     * @return a new solver
+     * @throws IOException if an I/O exception occurs, or if the format is not recognized.
+     */
+    public static Solver read(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Unknown model format");
+        }
+        Solver target = newSolver(in.readUTF(), Environments.values()[in.readByte()]);
+        Variable[] made = new Variable[in.readInt()];
+        for (int i = 0; i < made.length; i++) {
+            byte kind = in.readByte();
+            String name = in.readUTF();
+            made[i] = make(kind, name, readInts(in), made, target);
+        }
+        int nbc = in.readInt();
+        ConstraintRecipe.Kind[] kinds = ConstraintRecipe.Kind.values();
+        for (int c = 0; c < nbc; c++) {
+            ConstraintRecipe.Kind kind = kinds[in.readByte()];
+            int[] vidx = readInts(in);
+            post(kind, vidx, readInts(in), made, target);
+        }
+        return target;
+    }
+
+    /**
+     * Write the model of <code>source</code> into <code>file</code>.
+     *
+     * @param source the solver to write
+     * @param file   scope file
+     * @throws IOException if an I/O exception occurs.
+     */
+    public static void writeInFile(Solver source, File file) throws IOException {
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+            write(source, fos);
+        } finally {
+            fos.close();
+        }
+    }
+
+    /**
+     * Read a model from <code>file</code>.
+     *
+     * @param file input file
+     * @return a new solver
+     * @throws IOException if an I/O exception occurs.
+     */
+    public static Solver readFromFile(File file) throws IOException {
+        FileInputStream fis = new FileInputStream(file);
+        try {
+            return read(fis);
+        } finally {
+            fis.close();
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int i = 0; i < values.length; i++) {
+            out.writeInt(values[i]);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+}
@@ -56,4 +56,15 @@ public class SolverException extends RuntimeException {
 //		super(message);
         LoggerFactory.getLogger("solver").error(message);
     }
+
+    /**
+     * Constructs a new solver exception with the specified detailed message and cause.
+     *
+     * @param message message to print
+     * @param cause   the cause of this exception
+     */
+    public SolverException(String message, Throwable cause) {
+        super(message, cause);
+        LoggerFactory.getLogger("solver").error(message, cause);
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.explanations.strategies;
+
+import gnu.trove.list.array.TIntArrayList;
+import solver.Solver;
+import solver.constraints.propagators.nary.cnf.PropSat;
+import solver.exception.ContradictionException;
+import solver.exception.SolverException;
+import solver.explanations.*;
+import solver.search.loop.monitors.IMonitorContradiction;
+import solver.search.strategy.assignments.DecisionOperator;
+import solver.search.strategy.decision.Decision;
+import solver.search.strategy.decision.fast.FastDecision;
+import solver.variables.BoolVar;
+import solver.variables.Variable;
+
+/**
+ * This class learns a clause on each contradiction, and stores it into a clause store.
+ * <br/>
+ * The contradiction is explained by a set of decisions, thanks to the explanation engine.
+ * When all those decisions are <i>b = v</i> or <i>b != v</i> over boolean variables declared in the clause store,
+ * the disjunction of their negations is learnt.
+ * Otherwise, nothing is learnt.
+ * <br/>
+ * It requires a recorder explanation engine (see {@link ExplanationFactory}).
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class ClauseLearning implements IMonitorContradiction {
+
+    protected ExplanationEngine mExplanationEngine;
+    protected Solver mSolver;
+    protected PropSat sat;
+    final TIntArrayList lits;
+
+    public ClauseLearning(ExplanationEngine mExplanationEngine, PropSat sat) {
+        if (!(mExplanationEngine instanceof RecorderExplanationEngine)) {
+            throw new SolverException("Clause learning requires a recorder explanation engine");
+        }
+        this.mExplanationEngine = mExplanationEngine;
+        this.mSolver = mExplanationEngine.getSolver();
+        this.sat = sat;
+        this.lits = new TIntArrayList();
+        mSolver.getSearchLoop().plugSearchMonitor(this);
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        if ((cex.v != null) || (cex.c != null)) {
+            Explanation expl = new Explanation();
+            if (cex.v != null) {
+                cex.v.explain(VariableState.DOM, expl);
+            } else {
+                cex.c.explain(null, expl);
+            }
+            Explanation complete = mExplanationEngine.flatten(expl);
+            lits.resetQuick();
+            for (int i = 0; i < complete.nbDeductions(); i++) {
+                Deduction d = complete.getDeduction(i);
+                if (d.getmType() == Deduction.Type.DecLeft || d.getmType() == Deduction.Type.DecRight) {
+                    int lit = toLiteral(((BranchingDecision) d).getDecision(), d.getmType() == Deduction.Type.DecLeft);
+                    if (lit == -1) {
+                        return; // the explanation cannot be expressed as a clause
+                    }
+                    lits.add(lit);
+                }
+            }
+            if (lits.size() > 0) {
+                sat.addLearnt(lits.toArray());
+            }
+        }
+    }
+
+    /**
+     * Return the literal negating the <code>decision</code>, -1 if it cannot be expressed.
+     */
+    private int toLiteral(Decision decision, boolean left) {
+        if (!(decision instanceof FastDecision)) {
+            return -1;
+        }
+        FastDecision fd = (FastDecision) decision;
+        Variable var = fd.getDecisionVariable();
+        if (fd.getDecOp() != DecisionOperator.int_eq || (var.getTypeAndKind() & Variable.KIND) != Variable.BOOL) {
+            return -1;
+        }
+        int idx = sat.indexOf((BoolVar) var);
+        if (idx == -1) {
+            return -1;
+        }
+        int value = fd.getDecisionValue();
+        // b = 1 (or b != 0) is negated by b = 0
+        return PropSat.lit(idx, (value == 1) != left);
+    }
+}
@@ -31,6 +31,7 @@ import solver.ICause;
 import solver.ResolutionPolicy;
 import solver.Solver;
 import solver.exception.ContradictionException;
+import solver.exception.SolverException;
 import solver.explanations.Deduction;
 import solver.explanations.Explanation;
 import solver.explanations.VariableState;
@@ -54,6 +55,9 @@ public class ObjectiveManager implements ICause, IMonitorInitPropagation {
 
     IMeasures measures;
 
+    // best bound shared with concurrent solvers, null if none
+    private SharedBound sharedBound;
+
     /**
      * Creates an optimization manager
      * Enables to cut "worse" solutions
@@ -99,6 +103,26 @@ public class ObjectiveManager implements ICause, IMonitorInitPropagation {
         return bestKnownUpperBound;
     }
 
+    /**
+     * Plug a bound shared with other solvers optimizing the same objective concurrently:
+     * new solutions are published to it, and the dynamic cut takes its value into account.
+     *
+     * @param sharedBound a shared bound, with the same policy as <code>this</code>
+     */
+    public void setSharedBound(SharedBound sharedBound) {
+        if (sharedBound != null && sharedBound.getPolicy() != policy) {
+            throw new SolverException("The shared bound and the objective manager do not have the same policy");
+        }
+        this.sharedBound = sharedBound;
+    }
+
+    /**
+     * @return the bound shared with concurrent solvers, <code>null</code> if none
+     */
+    public SharedBound getSharedBound() {
+        return sharedBound;
+    }
+
     /**
      * Updates the lower (or upper) bound of the objective variable, considering its best know value.
      *
@@ -120,6 +144,9 @@ public class ObjectiveManager implements ICause, IMonitorInitPropagation {
             this.bestKnownLowerBound = objective.getValue();
             this.measures.setObjectiveValue(this.bestKnownLowerBound);
         }
+        if (sharedBound != null) {
+            sharedBound.offer(objective.getValue());
+        }
     }
 
     /**
@@ -141,7 +168,8 @@ public class ObjectiveManager implements ICause, IMonitorInitPropagation {
     }
 
     /**
-     * Prevent the solver from computing worse quality solutions
+     * Prevent the solver from computing worse quality solutions.
+     * If a shared bound is plugged, solutions found by the other solvers are also cut off.
      *
      * @throws ContradictionException
      */
@@ -151,11 +179,19 @@ public class ObjectiveManager implements ICause, IMonitorInitPropagation {
             offset = 1;
         }
         if (policy == ResolutionPolicy.MINIMIZE) {
-            this.objective.updateUpperBound(bestKnownUpperBound - offset, this);
+            int ub = bestKnownUpperBound - offset;
+            if (sharedBound != null && sharedBound.isSet()) {
+                ub = Math.min(ub, sharedBound.get() - 1);
+            }
+            this.objective.updateUpperBound(ub, this);
             this.objective.updateLowerBound(bestKnownLowerBound, this);
         } else if (policy == ResolutionPolicy.MAXIMIZE) {
+            int lb = bestKnownLowerBound + offset;
+            if (sharedBound != null && sharedBound.isSet()) {
+                lb = Math.max(lb, sharedBound.get() + 1);
+            }
             this.objective.updateUpperBound(bestKnownUpperBound, this);
-            this.objective.updateLowerBound(bestKnownLowerBound + offset, this);
+            this.objective.updateLowerBound(lb, this);
         }
     }
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.objective;
+
+import solver.ResolutionPolicy;
+import solver.exception.SolverException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free cell storing the best objective value found so far by several solvers optimizing
+ * the same objective concurrently.
+ * <br/>
+ * Each {@link ObjectiveManager} plugged to it publishes the value of its new solutions,
+ * and reads the shared value back when posting its dynamic cut, at each node.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class SharedBound {
+
+    final ResolutionPolicy policy;
+
+    private final AtomicInteger best;
+
+    public SharedBound(ResolutionPolicy policy) {
+        if (policy == ResolutionPolicy.SATISFACTION) {
+            throw new SolverException("SharedBound can not be used with ResolutionPolicy.SATISFACTION.");
+        }
+        this.policy = policy;
+        this.best = new AtomicInteger(policy == ResolutionPolicy.MINIMIZE ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+    }
+
+    /**
+     * @return the best objective value published so far,
+     *         <code>Integer.MAX_VALUE</code> (resp. <code>Integer.MIN_VALUE</code>) when minimizing (resp. maximizing)
+     *         and no solution has been published yet.
+     */
+    public int get() {
+        return best.get();
+    }
+
+    /**
+     * @return <code>true</code> iff a value has been published.
+     */
+    public boolean isSet() {
+        return best.get() != (policy == ResolutionPolicy.MINIMIZE ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+    }
+
+    /**
+     * Publish the objective value of a new solution.
+     *
+     * @param value objective value of a solution
+     * @return <code>true</code> if <code>value</code> improves the shared bound
+     */
+    public boolean offer(int value) {
+        int current;
+        do {
+            current = best.get();
+            if (policy == ResolutionPolicy.MINIMIZE ? value >= current : value <= current) {
+                return false;
+            }
+        } while (!best.compareAndSet(current, value));
+        return true;
+    }
+
+    public ResolutionPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Shared %s bound: %d", policy, best.get());
+    }
+}
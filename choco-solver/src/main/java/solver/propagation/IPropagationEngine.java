@@ -113,5 +113,19 @@ public interface IPropagationEngine extends Serializable {
      */
     void desactivatePropagator(Propagator propagator);
 
+    /**
+     * Add a constraint to the engine, once it has been initialized.
+     *
+     * @param c   the new constraint
+     * @param cut is it a cut -- a permanent constraint to propagate on each backtrack--
+     */
     void dynamicAddition(Constraint c, boolean cut);
+
+    /**
+     * Remove a constraint from the engine, once it has been initialized.
+     * Its propagators are forgotten, their pending events are flushed and they are unlinked from their variables.
+     *
+     * @param c the constraint to remove
+     */
+    void dynamicDeletion(Constraint c);
 }
@@ -33,6 +33,7 @@ import solver.Configuration;
 import solver.Solver;
 import solver.constraints.propagators.Propagator;
 import solver.exception.ContradictionException;
+import solver.search.limits.CancellationToken;
 import solver.variables.EventType;
 
 import java.io.Serializable;
@@ -50,6 +51,7 @@ public class PropagationTrigger implements Serializable {
 
     IPropagationEngine engine; // wrapped engine
     IEnvironment environment;
+    CancellationToken cancellation; // checked between two initial propagations
 
     // stores the static propagators
     ArrayList<Propagator> sta_propagators = new ArrayList<Propagator>();
@@ -62,6 +64,7 @@ public class PropagationTrigger implements Serializable {
     public PropagationTrigger(IPropagationEngine engine, Solver solver) {
         this.engine = engine;
         this.environment = solver.getEnvironment();
+        this.cancellation = solver.getCancellationToken();
         size = 0;
     }
 
@@ -82,6 +85,22 @@ public class PropagationTrigger implements Serializable {
         size++;
     }
 
+    /**
+     * Remove a propagator, if it has not been initially propagated yet, or if it is a cut.
+     *
+     * @param propagator propagator to remove
+     */
+    public void remove(Propagator propagator) {
+        int idx = dyn_propagators.indexOf(propagator);
+        if (idx > -1) {
+            dyn_propagators.remove(idx);
+            dyn_world.removeAt(idx);
+            size--;
+        } else if (sta_propagators.remove(propagator)) {
+            size--;
+        }
+    }
+
     public boolean needToRun() {
         return size > 0;
     }
@@ -106,6 +125,7 @@ public class PropagationTrigger implements Serializable {
         }
         if (sta_propagators.size() > 0) {
             for (int p = 0; p < sta_propagators.size(); p++) {
+                cancellation.check(engine);
                 execute(sta_propagators.get(p));
             }
             size -= sta_propagators.size();
@@ -92,6 +92,10 @@ class FakeEngine implements IPropagationEngine {
     public void dynamicAddition(Constraint c, boolean cut) {
     }
 
+    @Override
+    public void dynamicDeletion(Constraint c) {
+    }
+
     public static void checkIdempotency(Propagator lastProp) throws ContradictionException {
         if (Configuration.PRINT_PROPAGATION) {
             IPropagationEngine.Trace.printPropagation(null, lastProp);
@@ -39,11 +39,12 @@ import solver.propagation.PropagationTrigger;
 import solver.propagation.hardcoded.util.AId2AbId;
 import solver.propagation.hardcoded.util.IId2AbId;
 import solver.propagation.queues.CircularQueue;
+import solver.search.limits.CancellationToken;
 import solver.variables.EventType;
 import solver.variables.Variable;
 
 import java.util.ArrayList;
-import java.util.BitSet;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -53,6 +54,12 @@ import java.util.List;
  * second queue for delayed propagation.
  * <br/>On a call to {@code propagate} a propagator is removed from the queue and propagated.
  * <br/>The queue of propagators for fine-grained events is always emptied before treating one element of the coarse-grained one.
+ * <br/>Pending events are stored in a shared arena of int: each propagator owns a segment of it, as large as its number
+ * of variables, in which the indices of the modified variables are stacked.
+ * Segments left over by dynamic additions and deletions are reclaimed by compacting the arena when it is full,
+ * so its size is bounded by the number of variables of the propagators actually present.
+ * <br/>Pending events of a propagator are revised in LIFO order, that is, the most recently modified variable first
+ * (they used to be revised by increasing index of variable in the propagator).
  * <br/>
  *
  * @author Charles Prud'homme
@@ -64,21 +71,28 @@ public class PropagatorEngine implements IPropagationEngine {
     protected final IEnvironment environment; // environment of backtrackable objects
     protected final Variable[] variables;
     protected Propagator[] propagators;
+    protected int nbProp; // number of propagators, the capacity of the arrays can be greater
 
     protected final CircularQueue<Propagator> pro_queue_f;
     protected Propagator lastProp;
     protected final IId2AbId p2i; // mapping between propagator ID and its absolute index
     protected boolean[] schedule;
-    protected BitSet[] eventsets;
+    protected int[] evtStore; // shared arena of pending variable indices
+    protected int evtTop; // first free cell of the arena
+    protected int[] evtFirst; // first cell of the segment of a propagator
+    protected int[] evtSize; // number of pending variable indices of a propagator
+    protected int[] evtCapa; // capacity of the segment of a propagator
 
     private boolean init; // is ready to propagate?
 
     final PropagationTrigger trigger; // an object that starts the propagation
+    final CancellationToken cancellation; // checked before each revision
 
     public PropagatorEngine(Solver solver) {
         this.exception = new ContradictionException();
         this.environment = solver.getEnvironment();
         this.trigger = new PropagationTrigger(this, solver);
+        this.cancellation = solver.getCancellationToken();
 
         variables = solver.getVars();
         List<Propagator> _propagators = new ArrayList<Propagator>();
@@ -95,6 +109,7 @@ public class PropagatorEngine implements IPropagationEngine {
             }
         }
         propagators = _propagators.toArray(new Propagator[_propagators.size()]);
+        this.nbProp = nbProp;
         p2i = new AId2AbId(m, M, -1);
         for (int j = 0; j < propagators.length; j++) {
             p2i.set(propagators[j].getId(), j);
@@ -104,10 +119,17 @@ public class PropagatorEngine implements IPropagationEngine {
         pro_queue_f = new CircularQueue<Propagator>(propagators.length / 2 + 1);
 
         schedule = new boolean[nbProp];
-        eventsets = new BitSet[nbProp];
+        evtFirst = new int[nbProp];
+        evtSize = new int[nbProp];
+        evtCapa = new int[nbProp];
+        int nbv = 0;
         for (int i = 0; i < nbProp; i++) {
-            int nbv = propagators[i].getNbVars();
-            eventsets[i] = new BitSet(nbv);
+            nbv += propagators[i].getNbVars();
+        }
+        evtStore = new int[nbv];
+        evtTop = 0;
+        for (int i = 0; i < nbProp; i++) {
+            allocate(i, propagators[i].getNbVars());
         }
         init = true;
     }
@@ -130,24 +152,23 @@ public class PropagatorEngine implements IPropagationEngine {
     @SuppressWarnings({"NullableProblems"})
     @Override
     public void propagate() throws ContradictionException {
-        int mask, aid;
-        BitSet evtset;
+        int mask, aid, v;
         if (trigger.needToRun()) {
             trigger.propagate();
         }
         while (!pro_queue_f.isEmpty()) {
+            cancellation.check(this);
             lastProp = pro_queue_f.pollFirst();
             // revision of the variable
             aid = p2i.get(lastProp.getId());
             schedule[aid] = false;
-            evtset = eventsets[aid];
-            for (int v = evtset.nextSetBit(0); v >= 0; v = evtset.nextSetBit(v + 1)) {
+            while (evtSize[aid] > 0) {
                 assert lastProp.isActive() : "propagator is not active";
+                // clear event, the last recorded one first
+                v = evtStore[evtFirst[aid] + --evtSize[aid]];
                 if (Configuration.PRINT_PROPAGATION) {
                     IPropagationEngine.Trace.printPropagation(lastProp.getVar(v), lastProp);
                 }
-                // clear event
-                evtset.clear(v);
                 mask = lastProp.getMask(v);
                 lastProp.clearMask(v);
                 lastProp.decNbPendingEvt();
@@ -165,31 +186,46 @@ public class PropagatorEngine implements IPropagationEngine {
     @Override
     public void flush() {
         int aid;
-        BitSet evtset;
         if (lastProp != null) {
             aid = p2i.get(lastProp.getId());
-            evtset = eventsets[aid];
-            for (int p = evtset.nextSetBit(0); p >= 0; p = evtset.nextSetBit(p + 1)) {
-                lastProp.clearMask(p);
-            }
-            evtset.clear();
+            clearEvents(lastProp, aid);
             schedule[aid] = false;
-            lastProp.flushPendingEvt();
         }
         while (!pro_queue_f.isEmpty()) {
             lastProp = pro_queue_f.pollFirst();
             // revision of the variable
             aid = p2i.get(lastProp.getId());
-            evtset = eventsets[aid];
-            for (int p = evtset.nextSetBit(0); p >= 0; p = evtset.nextSetBit(p + 1)) {
-                lastProp.clearMask(p);
-            }
-            evtset.clear();
+            clearEvents(lastProp, aid);
             schedule[aid] = false;
-            lastProp.flushPendingEvt();
         }
     }
 
+    /**
+     * Clear the pending events of <code>propagator</code>, whose absolute index is <code>aid</code>.
+     */
+    private void clearEvents(Propagator propagator, int aid) {
+        int first = evtFirst[aid];
+        for (int i = first + evtSize[aid] - 1; i >= first; i--) {
+            propagator.clearMask(evtStore[i]);
+        }
+        evtSize[aid] = 0;
+        propagator.flushPendingEvt();
+    }
+
+    /**
+     * Check whether the variable at <code>idx</code> in the propagator whose absolute index is <code>aid</code>
+     * has a pending event (only for assertions).
+     */
+    private boolean isPending(int aid, int idx) {
+        int first = evtFirst[aid];
+        for (int i = first + evtSize[aid] - 1; i >= first; i--) {
+            if (evtStore[i] == idx) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void onVariableUpdate(Variable variable, EventType type, ICause cause) throws ContradictionException {
         if (Configuration.PRINT_VAR_EVENT) {
@@ -202,12 +238,13 @@ public class PropagatorEngine implements IPropagationEngine {
             if (cause != prop && prop.isActive() && prop.advise(pindice, type.mask)) {
                 int aid = p2i.get(prop.getId());
                 if (prop.updateMask(pindice, type)) { // not scheduled yet
-                    assert !eventsets[aid].get(pindice);
+                    assert !isPending(aid, pindice);
                     if (Configuration.PRINT_SCHEDULE) {
                         IPropagationEngine.Trace.printSchedule(prop);
                     }
                     prop.incNbPendingEvt();
-                    eventsets[aid].set(pindice);
+                    assert evtSize[aid] < evtCapa[aid];
+                    evtStore[evtFirst[aid] + evtSize[aid]++] = pindice;
                 } else if (Configuration.PRINT_SCHEDULE) {
                     IPropagationEngine.Trace.printAlreadySchedule(prop);
                 }
@@ -232,12 +269,7 @@ public class PropagatorEngine implements IPropagationEngine {
         //if (aid > -1) {
         assert aid > -1 : "try to desactivate an unknown constraint";
         // we don't remove the element from its master to avoid costly operations
-        BitSet evtset = eventsets[aid];
-        for (int p = evtset.nextSetBit(0); p >= 0; p = evtset.nextSetBit(p + 1)) {
-            propagator.clearMask(p);
-        }
-        evtset.clear();
-        propagator.flushPendingEvt();
+        clearEvents(propagator, aid);
     }
 
     @Override
@@ -247,28 +279,121 @@ public class PropagatorEngine implements IPropagationEngine {
 
     @Override
     public void dynamicAddition(Constraint c, boolean cut) {
-        int osize = propagators.length;
-        int nbp = c.getPropagators().length;
-        int nsize = osize + nbp;
-        Propagator[] _propagators = propagators;
-        propagators = new Propagator[nsize];
-        System.arraycopy(_propagators, 0, propagators, 0, osize);
-        System.arraycopy(c.getPropagators(), 0, propagators, osize, nbp);
-        for (int j = osize; j < nsize; j++) {
-            p2i.set(propagators[j].getId(), j);
-            trigger.add(propagators[j], cut);
+        Propagator[] cprops = c.getPropagators();
+        ensureCapacity(nbProp + cprops.length);
+        for (int j = 0; j < cprops.length; j++, nbProp++) {
+            propagators[nbProp] = cprops[j];
+            p2i.set(cprops[j].getId(), nbProp);
+            trigger.add(cprops[j], cut);
+            schedule[nbProp] = false;
+            evtSize[nbProp] = 0;
+            if (evtCapa[nbProp] < cprops[j].getNbVars()) {
+                allocate(nbProp, cprops[j].getNbVars());
+            }
         }
+    }
 
-        boolean[] _schedule = schedule;
-        schedule = new boolean[nsize];
-        System.arraycopy(_schedule, 0, schedule, 0, osize);
+    @Override
+    public void dynamicDeletion(Constraint c) {
+        Propagator[] cprops = c.getPropagators();
+        for (int j = 0; j < cprops.length; j++) {
+            Propagator toRemove = cprops[j];
+            int aid = p2i.get(toRemove.getId());
+            assert aid > -1 : "try to remove an unknown constraint";
+            // flush its pending events
+            clearEvents(toRemove, aid);
+            if (schedule[aid]) {
+                pro_queue_f.remove(toRemove);
+            }
+            if (lastProp == toRemove) {
+                lastProp = null;
+            }
+            trigger.remove(toRemove);
+            // the last propagator takes the place of the removed one, the segments are swapped to be reused
+            nbProp--;
+            if (aid < nbProp) {
+                Propagator last = propagators[nbProp];
+                propagators[aid] = last;
+                p2i.set(last.getId(), aid);
+                schedule[aid] = schedule[nbProp];
+                int first = evtFirst[aid], capa = evtCapa[aid];
+                evtFirst[aid] = evtFirst[nbProp];
+                evtSize[aid] = evtSize[nbProp];
+                evtCapa[aid] = evtCapa[nbProp];
+                evtFirst[nbProp] = first;
+                evtSize[nbProp] = 0;
+                evtCapa[nbProp] = capa;
+            }
+            propagators[nbProp] = null;
+            schedule[nbProp] = false;
+            p2i.set(toRemove.getId(), -1);
+            toRemove.unlinkVariables();
+        }
+    }
+
+    /**
+     * Grows the internal structures, if needed, so that they can store <code>size</code> propagators.
+     * Structures grow geometrically, to make additions at any node cheap in amortized time.
+     */
+    private void ensureCapacity(int size) {
+        if (size > propagators.length) {
+            int nsize = Math.max(size, propagators.length * 3 / 2 + 1);
+            Propagator[] _propagators = propagators;
+            propagators = new Propagator[nsize];
+            System.arraycopy(_propagators, 0, propagators, 0, nbProp);
+
+            boolean[] _schedule = schedule;
+            schedule = new boolean[nsize];
+            System.arraycopy(_schedule, 0, schedule, 0, nbProp);
+
+            // segments beyond nbProp are kept, they may be reused
+            evtFirst = Arrays.copyOf(evtFirst, nsize);
+            evtSize = Arrays.copyOf(evtSize, nsize);
+            evtCapa = Arrays.copyOf(evtCapa, nsize);
+        }
+    }
 
-        BitSet[] _eventsets = eventsets;
-        eventsets = new BitSet[nsize];
-        System.arraycopy(_eventsets, 0, eventsets, 0, osize);
-        for (int i = osize; i < nsize; i++) {
-            int nbv = propagators[i].getNbVars();
-            eventsets[i] = new BitSet(nbv);
+    /**
+     * Reserve a new segment of <code>nbv</code> cells at the end of the arena for the propagator at <code>aid</code>.
+     * The previous segment of <code>aid</code>, if any, is abandoned and reclaimed on the next compaction.
+     */
+    private void allocate(int aid, int nbv) {
+        if (evtTop + nbv > evtStore.length) {
+            compact(aid, nbv);
+        }
+        evtFirst[aid] = evtTop;
+        evtSize[aid] = 0;
+        evtCapa[aid] = nbv;
+        evtTop += nbv;
+    }
+
+    /**
+     * Rebuild the arena with the segments of the current propagators only, the one at <code>aid</code> excepted,
+     * and make room for <code>nbv</code> more cells.
+     * Segments abandoned by {@link #allocate(int, int)} and the ones kept after a deletion are reclaimed.
+     * The arena grows only if the current propagators require it.
+     */
+    private void compact(int aid, int nbv) {
+        int need = nbv;
+        for (int i = 0; i < nbProp; i++) {
+            if (i != aid) {
+                need += evtCapa[i];
+            }
+        }
+        int[] store = new int[Math.max(evtStore.length, need * 3 / 2 + 1)];
+        int top = 0;
+        for (int i = 0; i < nbProp; i++) {
+            if (i != aid) {
+                System.arraycopy(evtStore, evtFirst[i], store, top, evtSize[i]);
+                evtFirst[i] = top;
+                top += evtCapa[i];
+            }
+        }
+        // released segments are not kept anymore
+        for (int i = nbProp; i < evtCapa.length; i++) {
+            evtFirst[i] = evtSize[i] = evtCapa[i] = 0;
         }
+        evtStore = store;
+        evtTop = top;
     }
 }
@@ -38,6 +38,7 @@ import solver.propagation.PropagationTrigger;
 import solver.propagation.hardcoded.util.AId2AbId;
 import solver.propagation.hardcoded.util.IId2AbId;
 import solver.propagation.queues.CircularQueue;
+import solver.search.limits.CancellationToken;
 import solver.variables.EventType;
 import solver.variables.Variable;
 
@@ -64,6 +65,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
     protected final IEnvironment environment; // environment of backtrackable objects
     protected final Variable[] variables;
     protected Propagator[] propagators;
+    protected int nbProp; // number of propagators, the capacity of the arrays can be greater
 
     protected final CircularQueue<Propagator>[] pro_queue;
     protected Propagator lastProp;
@@ -74,12 +76,14 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
     private boolean init;
 
     final PropagationTrigger trigger; // an object that starts the propagation
+    final CancellationToken cancellation; // checked before each revision
 
 
     public SevenQueuesPropagatorEngine(Solver solver) {
         this.exception = new ContradictionException();
         this.environment = solver.getEnvironment();
         this.trigger = new PropagationTrigger(this, solver);
+        this.cancellation = solver.getCancellationToken();
 
         variables = solver.getVars();
         List<Propagator> _propagators = new ArrayList<Propagator>();
@@ -96,6 +100,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
             }
         }
         propagators = _propagators.toArray(new Propagator[_propagators.size()]);
+        this.nbProp = nbProp;
         trigger.addAll(propagators);
 
         p2i = new AId2AbId(m, M, -1);
@@ -142,6 +147,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
         }
         for (int i = notEmpty.nextSetBit(0); i > -1; i = notEmpty.nextSetBit(0)) {
             while (!pro_queue[i].isEmpty()) {
+                cancellation.check(this);
                 lastProp = pro_queue[i].pollFirst();
                 // revision of the variable
                 aid = p2i.get(lastProp.getId());
@@ -258,29 +264,72 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
 
     @Override
     public void dynamicAddition(Constraint c, boolean cut) {
-        int osize = propagators.length;
-        int nbp = c.getPropagators().length;
-        int nsize = osize + nbp;
-        Propagator[] _propagators = propagators;
-        propagators = new Propagator[nsize];
-        System.arraycopy(_propagators, 0, propagators, 0, osize);
-        System.arraycopy(c.getPropagators(), 0, propagators, osize, nbp);
-        for (int j = osize; j < nsize; j++) {
-            p2i.set(propagators[j].getId(), j);
-            trigger.add(propagators[j], cut);
+        Propagator[] cprops = c.getPropagators();
+        ensureCapacity(nbProp + cprops.length);
+        for (int j = 0; j < cprops.length; j++, nbProp++) {
+            propagators[nbProp] = cprops[j];
+            p2i.set(cprops[j].getId(), nbProp);
+            trigger.add(cprops[j], cut);
+            scheduled[nbProp] = 0;
+            if (eventsets[nbProp] == null) {
+                eventsets[nbProp] = new BitSet(cprops[j].getNbVars());
+            }
+        }
+    }
+
+    @Override
+    public void dynamicDeletion(Constraint c) {
+        Propagator[] cprops = c.getPropagators();
+        for (int j = 0; j < cprops.length; j++) {
+            Propagator toRemove = cprops[j];
+            int aid = p2i.get(toRemove.getId());
+            assert aid > -1 : "try to remove an unknown constraint";
+            // flush its pending events
+            desactivatePropagator(toRemove);
+            if (scheduled[aid] > 0) {
+                pro_queue[scheduled[aid] - 1].remove(toRemove);
+            }
+            if (lastProp == toRemove) {
+                lastProp = null;
+            }
+            trigger.remove(toRemove);
+            // the last propagator takes the place of the removed one, the event sets are swapped to be reused
+            nbProp--;
+            if (aid < nbProp) {
+                Propagator last = propagators[nbProp];
+                propagators[aid] = last;
+                p2i.set(last.getId(), aid);
+                scheduled[aid] = scheduled[nbProp];
+                BitSet evtset = eventsets[aid];
+                eventsets[aid] = eventsets[nbProp];
+                eventsets[nbProp] = evtset;
+            }
+            propagators[nbProp] = null;
+            scheduled[nbProp] = 0;
+            p2i.set(toRemove.getId(), -1);
+            toRemove.unlinkVariables();
         }
+    }
 
-        short[] _scheduled = scheduled;
-        scheduled = new short[nsize];
-        System.arraycopy(_scheduled, 0, scheduled, 0, osize);
+    /**
+     * Grows the internal structures, if needed, so that they can store <code>size</code> propagators.
+     * Structures grow geometrically, to make additions at any node cheap in amortized time.
+     */
+    private void ensureCapacity(int size) {
+        if (size > propagators.length) {
+            int nsize = Math.max(size, propagators.length * 3 / 2 + 1);
+            Propagator[] _propagators = propagators;
+            propagators = new Propagator[nsize];
+            System.arraycopy(_propagators, 0, propagators, 0, nbProp);
 
+            short[] _scheduled = scheduled;
+            scheduled = new short[nsize];
+            System.arraycopy(_scheduled, 0, scheduled, 0, nbProp);
 
-        BitSet[] _eventsets = eventsets;
-        eventsets = new BitSet[nsize];
-        System.arraycopy(_eventsets, 0, eventsets, 0, osize);
-        for (int i = osize; i < nsize; i++) {
-            int nbv = propagators[i].getNbVars();
-            eventsets[i] = new BitSet(nbv);
+            // event sets beyond nbProp are kept, they may be reused
+            BitSet[] _eventsets = eventsets;
+            eventsets = new BitSet[nsize];
+            System.arraycopy(_eventsets, 0, eventsets, 0, _eventsets.length);
         }
     }
 }
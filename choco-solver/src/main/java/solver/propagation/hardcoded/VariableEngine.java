@@ -38,6 +38,7 @@ import solver.propagation.PropagationTrigger;
 import solver.propagation.hardcoded.util.AId2AbId;
 import solver.propagation.hardcoded.util.IId2AbId;
 import solver.propagation.queues.CircularQueue;
+import solver.search.limits.CancellationToken;
 import solver.variables.EventType;
 import solver.variables.Variable;
 
@@ -64,6 +65,7 @@ public class VariableEngine implements IPropagationEngine {
     protected final IEnvironment environment; // environment of backtrackable objects
     protected final Variable[] variables;
     protected Propagator[] propagators;
+    protected int nbProp; // number of propagators, the capacity of the array can be greater
 
     protected final CircularQueue<Variable> var_queue;
     protected Variable lastVar;
@@ -76,12 +78,14 @@ public class VariableEngine implements IPropagationEngine {
     private boolean init;
 
     final PropagationTrigger trigger; // an object that starts the propagation
+    final CancellationToken cancellation; // checked before each revision
 
 
     public VariableEngine(Solver solver) {
         this.exception = new ContradictionException();
         this.environment = solver.getEnvironment();
         this.trigger = new PropagationTrigger(this, solver);
+        this.cancellation = solver.getCancellationToken();
 
         variables = solver.getVars();
         int maxID = 0;
@@ -97,6 +101,7 @@ public class VariableEngine implements IPropagationEngine {
             _propagators.addAll(Arrays.asList(constraints[c].getPropagators()));
         }
         propagators = _propagators.toArray(new Propagator[_propagators.size()]);
+        nbProp = propagators.length;
         trigger.addAll(propagators);
 
         var_queue = new CircularQueue<Variable>(variables.length / 2);
@@ -139,6 +144,7 @@ public class VariableEngine implements IPropagationEngine {
             trigger.propagate();
         }
         while (!var_queue.isEmpty()) {
+            cancellation.check(this);
             lastVar = var_queue.pollFirst();
             // revision of the variable
             id = v2i.get(lastVar.getId());
@@ -255,23 +261,50 @@ public class VariableEngine implements IPropagationEngine {
 
     @Override
     public void dynamicAddition(Constraint c, boolean cut) {
-        int osize = propagators.length;
-        int nbp = c.getPropagators().length;
-        int nsize = osize + nbp;
-        Propagator[] _propagators = propagators;
-        propagators = new Propagator[nsize];
-        System.arraycopy(_propagators, 0, propagators, 0, osize);
-        System.arraycopy(c.getPropagators(), 0, propagators, osize, nbp);
-        for (int j = osize; j < nsize; j++) {
-            trigger.add(propagators[j], cut);
-            Variable[] vars = propagators[j].getVars();
-            for (int k = 0; k < vars.length; k++) {
-                nbp = vars[k].getNbProps();
-                int i = v2i.get(vars[k].getId());
-                eventsets[i] = new BitSet(nbp);
+        Propagator[] cprops = c.getPropagators();
+        if (nbProp + cprops.length > propagators.length) {
+            // grows geometrically, to make additions at any node cheap in amortized time
+            propagators = Arrays.copyOf(propagators, Math.max(nbProp + cprops.length, propagators.length * 3 / 2 + 1));
+        }
+        // the event sets of the variables grow on demand, so their pending events are kept
+        for (int j = 0; j < cprops.length; j++, nbProp++) {
+            propagators[nbProp] = cprops[j];
+            trigger.add(cprops[j], cut);
+        }
+    }
 
+    @Override
+    public void dynamicDeletion(Constraint c) {
+        Propagator[] cprops = c.getPropagators();
+        for (int j = 0; j < cprops.length; j++) {
+            Propagator toRemove = cprops[j];
+            Variable[] pvars = toRemove.getVars();
+            int[] vindices = toRemove.getVIndices();
+            for (int i = 0; i < pvars.length; i++) {
+                int vi = vindices[i];
+                int vid = v2i.get(pvars[i].getId());
+                if (vi > -1 && vid > -1) {
+                    // the last propagator of the variable takes the place of the removed one, so does its event
+                    BitSet evtset = eventsets[vid];
+                    int last = pvars[i].getNbProps() - 1;
+                    evtset.set(vi, evtset.get(last));
+                    evtset.clear(last);
+                }
+                toRemove.clearMask(i);
+                pvars[i].unlink(toRemove, vi);
+            }
+            toRemove.flushPendingEvt();
+            if (lastProp == toRemove) {
+                lastProp = null;
             }
+            trigger.remove(toRemove);
+            // the last propagator takes the place of the removed one, the capacity is kept
+            int aid = 0;
+            while (propagators[aid] != toRemove) {
+                aid++;
+            }
+            propagators[aid] = propagators[--nbProp];
+            propagators[nbProp] = null;
         }
-
     }
 }
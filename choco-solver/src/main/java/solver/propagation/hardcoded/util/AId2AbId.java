@@ -46,7 +46,7 @@ public class AId2AbId implements IId2AbId {
     @Override
     public int get(int key) {
         key -= offset;
-        if (key < 0 || key > size) return noValue;
+        if (key < 0 || key >= size) return noValue;
         return map[key];
     }
 
@@ -55,8 +55,9 @@ public class AId2AbId implements IId2AbId {
         int idx = key - offset;
         if (idx >= size) {
             int[] tmp = map;
-            map = new int[idx + 1];
+            map = new int[Math.max(idx + 1, size * 3 / 2 + 1)];
             System.arraycopy(tmp, 0, map, 0, size);
+            Arrays.fill(map, size, map.length, noValue);
             size = map.length;
         }
         map[idx] = value;
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.search.limits;
+
+import solver.Cause;
+import solver.exception.ContradictionException;
+import solver.propagation.IPropagationEngine;
+import util.tools.TimeCacheThread;
+
+/**
+ * A cooperative cancellation token, shared by a solver, its search loop and its propagation engine.
+ * It can be cancelled at any time, from any thread, with {@link #cancel()}, or be given a deadline with
+ * {@link #setDeadline(long)}.
+ * <p/>
+ * The propagation engines check it before each propagator execution, and heavy propagators may check it inside
+ * their own loops (see {@link #check(solver.propagation.IPropagationEngine)}): the current propagation is then
+ * aborted with a contradiction, and, as the token is also a limit of the search loop, the resolution stops right
+ * after the backtrack.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class CancellationToken implements ILimit {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private volatile boolean cancelled;
+
+    private volatile long deadline = NO_DEADLINE;
+
+    // duration of the resolution, the deadline is set from it on init
+    private long timeLimit = NO_DEADLINE;
+
+    /**
+     * Cancel the resolution as soon as possible.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Cancel the resolution when <code>duration</code> ms will have elapsed from now.
+     *
+     * @param duration delay before cancellation, in millisecond
+     */
+    public void setDeadline(long duration) {
+        // the cached clock lags behind: it is only read to check the deadline, which is passed strictly,
+        // so that it is never reached too early, whatever the truncation of the starting time to the millisecond
+        deadline = System.currentTimeMillis() + duration;
+    }
+
+    /**
+     * Cancel the resolution when <code>limit</code> ms will have elapsed from the start of the search,
+     * that is, from the same origin as {@link TimeLimit}.
+     *
+     * @param limit maximal resolution time, in millisecond
+     */
+    public void setTimeLimit(long limit) {
+        timeLimit = limit;
+    }
+
+    /**
+     * Clear the cancellation, the deadline and the time limit, if any.
+     */
+    public void reset() {
+        cancelled = false;
+        deadline = NO_DEADLINE;
+        timeLimit = NO_DEADLINE;
+    }
+
+    /**
+     * @return <code>true</code> if the token has been cancelled or if its deadline has passed
+     */
+    public boolean isCancelled() {
+        if (cancelled) {
+            return true;
+        }
+        if (deadline != NO_DEADLINE && TimeCacheThread.currentTimeMillis > deadline) {
+            cancelled = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Abort the current propagation if the token is cancelled.
+     *
+     * @param engine the propagation engine to fail
+     * @throws ContradictionException if the token is cancelled
+     */
+    public void check(IPropagationEngine engine) throws ContradictionException {
+        if (isCancelled()) {
+            engine.fails(Cause.Null, null, "cancelled");
+        }
+    }
+
+    @Override
+    public void init() {
+        if (timeLimit != NO_DEADLINE) {
+            setDeadline(timeLimit);
+        }
+    }
+
+    @Override
+    public boolean isReached() {
+        return isCancelled();
+    }
+
+    @Override
+    public void update() {
+    }
+
+    @Override
+    public long getLimitValue() {
+        return deadline;
+    }
+
+    @Override
+    public void overrideLimit(long newLimit) {
+        setDeadline(newLimit);
+    }
+
+    @Override
+    public String toString() {
+        return "Cancellation";
+    }
+}
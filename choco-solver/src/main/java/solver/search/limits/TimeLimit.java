@@ -28,36 +28,44 @@
 package solver.search.limits;
 
 import solver.Solver;
-import solver.search.loop.monitors.IMonitorOpenNode;
+import util.tools.TimeCacheThread;
 
 /**
  * A limit over run time.
- * It acts as a monitor, to be up-to-date when the search loop asks for limit reaching.
+ * The elapsed time is read from the shared {@link TimeCacheThread} clock, so checking the limit at each node
+ * does not require a system call.
  * <br/>
  *
  * @author Charles Prud'homme
  * @since 19/04/11
  */
-public class TimeLimit extends ALimit implements IMonitorOpenNode {
+public class TimeLimit extends ALimit {
 
     private long timeLimit;
 
+    private long startingTime;
+
     public TimeLimit(Solver solver, long timeLimit) {
         super(solver.getSearchLoop().getMeasures());
         this.timeLimit = timeLimit;
-        solver.getSearchLoop().plugSearchMonitor(this);
+        this.startingTime = System.currentTimeMillis();
     }
 
+    @Override
+    public void init() {
+        // the cached clock lags behind: it is only read to check the limit, which is passed strictly,
+        // so that it is never reached too early, whatever the truncation of the starting time to the millisecond
+        startingTime = System.currentTimeMillis();
+    }
 
     @Override
     public boolean isReached() {
-        final float diff = timeLimit - measures.getTimeCount();
-        return diff <= 0.0;
+        return TimeCacheThread.currentTimeMillis - startingTime > timeLimit;
     }
 
     @Override
     public String toString() {
-        return String.format("Time: %.3f >= %d", measures.getTimeCount(), timeLimit);
+        return String.format("Time: %d >= %d", TimeCacheThread.currentTimeMillis - startingTime, timeLimit);
     }
 
     @Override
@@ -70,13 +78,4 @@ public class TimeLimit extends ALimit implements IMonitorOpenNode {
         timeLimit = newLimit;
     }
 
-    @Override
-    public void beforeOpenNode() {
-        this.measures.updateTimeCount();
-    }
-
-    @Override
-    public void afterOpenNode() {
-    }
-
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.search.loop.monitors;
+
+import gnu.trove.list.array.TIntArrayList;
+import solver.Solver;
+import solver.constraints.Constraint;
+import solver.constraints.propagators.nary.PropNogoods;
+import solver.search.strategy.assignments.DecisionOperator;
+import solver.search.strategy.decision.Decision;
+import solver.search.strategy.decision.RootDecision;
+import solver.search.strategy.decision.fast.FastDecision;
+import solver.variables.IntVar;
+
+import java.util.ArrayList;
+
+/**
+ * A search monitor which records nogoods on restarts.
+ * <br/>
+ * Before a restart, the path from the root node to the current node is read: for each refuted decision,
+ * the positive decisions applied above it, together with the refuted decision itself, form a nogood
+ * (<i>reduced nld-nogoods</i>, see Lecoutre et al., "Recording and minimizing nogoods from restarts", JSAT 2007).
+ * <br/>
+ * Nogoods are stored in a {@link PropNogoods}, posted as a cut on the first restart.
+ * Only decisions <i>x = v</i> (see {@link DecisionOperator#int_eq}) over the given variables are supported:
+ * the reading of the path stops at the first other decision.
+ * <br/>
+ * Beware: nogoods are valid only if the explored subtrees are not restricted by anything else than the decisions
+ * and the objective cut, so it must not be combined with LNS.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class NogoodFromRestarts implements IMonitorRestart {
+
+    final Solver solver;
+    final IntVar[] vars;
+    PropNogoods png; // created on the first restart
+    final ArrayList<Decision> path;
+    final TIntArrayList ps_vars, ps_vals; // the positive decisions
+
+    public NogoodFromRestarts(Solver solver, IntVar[] vars) {
+        this.solver = solver;
+        this.vars = vars;
+        this.path = new ArrayList<Decision>();
+        this.ps_vars = new TIntArrayList();
+        this.ps_vals = new TIntArrayList();
+    }
+
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public void beforeRestart() {
+        if (png == null) {
+            png = new PropNogoods(solver, vars);
+            Constraint cstr = new Constraint(vars, solver);
+            cstr.setPropagators(png);
+            solver.postCut(cstr);
+        }
+        extractNogoods();
+    }
+
+    @Override
+    public void afterRestart() {
+    }
+
+    private void extractNogoods() {
+        path.clear();
+        Decision decision = solver.getSearchLoop().decision;
+        while (decision != RootDecision.ROOT) {
+            path.add(decision);
+            decision = decision.getPrevious();
+        }
+        ps_vars.resetQuick();
+        ps_vals.resetQuick();
+        for (int i = path.size() - 1; i >= 0; i--) {
+            decision = path.get(i);
+            if (!(decision instanceof FastDecision)
+                    || ((FastDecision) decision).getDecOp() != DecisionOperator.int_eq) {
+                break;
+            }
+            int idx = png.indexOf((IntVar) decision.getDecisionVariable());
+            if (idx == -1) {
+                break;
+            }
+            int val = (Integer) decision.getDecisionValue();
+            if (decision.hasNext()) {
+                // positive decision
+                ps_vars.add(idx);
+                ps_vals.add(val);
+            } else {
+                // refuted decision: the positive decisions above it and itself form a nogood
+                ps_vars.add(idx);
+                ps_vals.add(val);
+                png.addNogood(ps_vars.toArray(), ps_vals.toArray());
+                ps_vars.removeAt(ps_vars.size() - 1);
+                ps_vals.removeAt(ps_vals.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * @return the number of nogoods recorded so far
+     */
+    public int getNbNogoods() {
+        return png == null ? 0 : png.getNbNogoods();
+    }
+}
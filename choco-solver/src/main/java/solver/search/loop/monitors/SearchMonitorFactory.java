@@ -31,6 +31,7 @@ import solver.search.limits.*;
 import solver.search.loop.AbstractSearchLoop;
 import solver.search.restart.GeometricalRestartStrategy;
 import solver.search.restart.LubyRestartStrategy;
+import solver.variables.IntVar;
 import solver.variables.Variable;
 
 /**
@@ -251,6 +252,18 @@ public enum SearchMonitorFactory {
         ));
     }
 
+    /**
+     * Record nogoods from the refuted decisions of the current branch on each restart.
+     * Only decisions <i>x = v</i> over <code>vars</code> are considered.
+     * It should be combined with a restart strategy.
+     *
+     * @param solver the solver
+     * @param vars   the decision variables
+     */
+    public static void nogoodRecordingOnRestart(Solver solver, IntVar[] vars) {
+        solver.getSearchLoop().plugSearchMonitor(new NogoodFromRestarts(solver, vars));
+    }
+
     /**
      * Print the total number of propagation count per propagator
      *
@@ -293,6 +306,8 @@ public enum SearchMonitorFactory {
     /**
      * Defines a limit over the run time.
      * When the limit is reached, the resolution is stopped.
+     * The limit is also set on the cancellation token of the solver, counted from the start of the search: a
+     * propagation running when the limit is reached is aborted, instead of being completed up to the next node.
      * <br/>
      * <br/>
      * <b>One must consider also LimitChecker.setThreadTimeLimit(long), that runs the limit in a separated thread.</b>
@@ -302,17 +317,20 @@ public enum SearchMonitorFactory {
      */
     public static void limitTime(Solver solver, long limit) {
         solver.getSearchLoop().getLimits().add(new TimeLimit(solver, limit));
+        solver.getCancellationToken().setTimeLimit(limit);
     }
 
 
     /**
      * Defines a limit over the run time, set in a thread.
      * When the limit is reached, the resolution is stopped.
+     * As with {@link #limitTime(solver.Solver, long)}, the limit is also set on the cancellation token of the solver.
      *
      * @param limit maximal resolution time in millisecond
      */
     public static void limitThreadTime(Solver solver, long limit) {
         solver.getSearchLoop().getLimits().add(new ThreadTimeLimit(limit));
+        solver.getCancellationToken().setTimeLimit(limit);
     }
 
     /**
@@ -73,6 +73,15 @@ public class FastDecision extends Decision<IntVar> {
         this.setWorldIndex(var.getSolver().getEnvironment().getWorldIndex());
     }
 
+    /**
+     * Return the decision operator of <code>this</code>
+     *
+     * @return a decision operator
+     */
+    public DecisionOperator<IntVar> getDecOp() {
+        return assignment;
+    }
+
     @Override
     public void reverse() {
         this.assignment = assignment.opposite();
@@ -50,6 +50,7 @@ import solver.variables.IVariableMonitor;
 import solver.variables.IntVar;
 import util.PoolManager;
 import util.iterators.DisposableValueIterator;
+import util.objects.StoredIndexedBipartiteSet;
 
 import java.util.Arrays;
 import java.util.BitSet;
@@ -128,6 +129,8 @@ public class ActivityBased extends AbstractStrategy<IntVar> implements IMonitorD
 
     final BitSet affected; // store affected variables
 
+    final StoredIndexedBipartiteSet free; // indices of the variables not known to be instantiated
+
     final double g, d; // g for aging, d for interval size estimation
     final int a; // forget parameter
     final double r;
@@ -155,6 +158,7 @@ public class ActivityBased extends AbstractStrategy<IntVar> implements IMonitorD
         sA = new double[vars.length];
         vAct = new IVal[vars.length];
         affected = new BitSet(vars.length);
+        free = new StoredIndexedBipartiteSet(solver.getEnvironment(), vars.length);
 
         this.v2i = new TIntIntHashMap(vars.length);
         for (int i = 0; i < vars.length; i++) {
@@ -253,10 +257,12 @@ public class ActivityBased extends AbstractStrategy<IntVar> implements IMonitorD
         IntVar best = null;
         bests.clear();
         double bestVal = -1.0d;
-        for (int i = 0; i < vars.length; i++) {
+        // iterating downward is safe: a removal swaps with an already visited index
+        for (int k = free.size() - 1; k >= 0; k--) {
+            int i = free.get(k);
             int ds = vars[i].getDomainSize();
             if (ds > 1) {
-                double a = A[v2i.get(vars[i].getId())] / ds;
+                double a = A[i] / ds;
                 if (a > bestVal) {
                     bests.clear();
                     bests.add(i);
@@ -264,9 +270,12 @@ public class ActivityBased extends AbstractStrategy<IntVar> implements IMonitorD
                 } else if (a == bestVal) {
                     bests.add(i);
                 }
+            } else {
+                free.remove(i);
             }
         }
         if (bests.size() > 0) {
+            bests.sort(); // ties are given in the order of the variables
             currentVar = bests.get(random.nextInt(bests.size()));
             best = vars[currentVar];
         }
@@ -322,14 +331,17 @@ public class ActivityBased extends AbstractStrategy<IntVar> implements IMonitorD
     }
 
     private void afterDownBranch() {
-        for (int i = 0; i < A.length; i++) {
-            if (vars[i].getDomainSize() > 1) {
-                A[i] *= sampling ? ONE : g;
-            }
-            if (affected.get(i)) {
-                A[i] += 1;
+        if (!sampling) { // ageing
+            for (int k = free.size() - 1; k >= 0; k--) {
+                int i = free.get(k);
+                if (vars[i].getDomainSize() > 1) {
+                    A[i] *= g;
+                }
             }
         }
+        for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1)) {
+            A[i] += 1;
+        }
 
     }
 
@@ -27,36 +27,61 @@
 package solver.search.strategy.selectors.variables;
 
 import gnu.trove.map.hash.TIntIntHashMap;
-import gnu.trove.map.hash.TIntObjectHashMap;
+import memory.IEnvironment;
 import memory.IStateInt;
 import solver.Solver;
 import solver.constraints.propagators.Propagator;
+import solver.exception.ContradictionException;
 import solver.exception.SolverException;
 import solver.explanations.Deduction;
 import solver.explanations.Explanation;
-import solver.search.loop.monitors.FailPerPropagator;
+import solver.search.loop.monitors.IMonitorContradiction;
 import solver.search.strategy.selectors.VariableSelector;
 import solver.variables.EventType;
 import solver.variables.IVariableMonitor;
 import solver.variables.IntVar;
+import solver.variables.Variable;
+import util.objects.StoredIndexedBipartiteSet;
 
 import java.util.Random;
 
 /**
  * <br/>
+ * The weight of a variable is 1 plus the number of failures of its propagators
+ * with at least two not instantiated variables.
+ * <br/>
+ * Everything is maintained on events: failures are counted on contradictions,
+ * each variable records the propagators which have already failed (usually a few),
+ * and the arities are updated on instantiations.
+ * Instantiated variables are removed, on the fly, from a reversible set of indices:
+ * only not instantiated variables are visited.
  *
  * @author Charles Prud'homme
  * @since 12/07/12
  */
-public class DomOverWDeg implements VariableSelector<IntVar>, IVariableMonitor<IntVar> {
+public class DomOverWDeg implements VariableSelector<IntVar>, IVariableMonitor<IntVar>, IMonitorContradiction {
 
     /* list of variables */
     IntVar[] variables;
 
-    FailPerPropagator counter;
+    /* map from variable id to index, and from propagator id to index */
+    TIntIntHashMap v2i, p2i;
+
+    /* propagators of the variables */
+    Propagator[] props;
+    /* number of not instantiated variables of each propagator */
+    IStateInt[] ari;
+    /* number of failures of each propagator */
+    int[] fails;
+    /* indices of the propagators of each variable */
+    int[][] v2p;
+    /* indices of the propagators which have already failed, for each variable, and their number */
+    int[][] failed;
+    int[] nbFailed;
+
+    /* indices of the variables not known to be instantiated */
+    StoredIndexedBipartiteSet free;
 
-    TIntObjectHashMap<IStateInt> pid2ari;
-    TIntIntHashMap pid2arity;
     Random random;
 
     /* index of the smallest domain variable */
@@ -66,17 +91,47 @@ public class DomOverWDeg implements VariableSelector<IntVar>, IVariableMonitor<I
         this.variables = variables.clone();
         small_idx = 0;
         Solver solver = variables[0].getSolver();
-        counter = new FailPerPropagator(solver.getCstrs(), solver);
-        pid2ari = new TIntObjectHashMap<IStateInt>();
-        pid2arity = new TIntIntHashMap(10, 0.5F, -1, -1);
-        for (int i = 0; i < variables.length; i++) {
+        IEnvironment environment = solver.getEnvironment();
+        int n = variables.length;
+        v2i = new TIntIntHashMap(n, 0.5F, -1, -1);
+        p2i = new TIntIntHashMap(n, 0.5F, -1, -1);
+        v2p = new int[n][];
+        failed = new int[n][];
+        nbFailed = new int[n];
+        int nbP = 0;
+        Propagator[] _props = new Propagator[16];
+        for (int i = 0; i < n; i++) {
             variables[i].addMonitor(this);
-            Propagator[] props = variables[i].getPropagators();
-            for (int j = 0; j < props.length; j++) {
-                pid2ari.putIfAbsent(props[j].getId(), solver.getEnvironment().makeInt(props[j].arity()));
+            v2i.put(variables[i].getId(), i);
+            Propagator[] vprops = variables[i].getPropagators();
+            v2p[i] = new int[vprops.length];
+            failed[i] = new int[2];
+            for (int j = 0; j < vprops.length; j++) {
+                int pid = vprops[j].getId();
+                int k = p2i.get(pid);
+                if (k == -1) {
+                    if (nbP == _props.length) {
+                        Propagator[] tmp = new Propagator[nbP * 3 / 2 + 1];
+                        System.arraycopy(_props, 0, tmp, 0, nbP);
+                        _props = tmp;
+                    }
+                    _props[nbP] = vprops[j];
+                    k = nbP++;
+                    p2i.put(pid, k);
+                }
+                v2p[i][j] = k;
             }
         }
+        props = new Propagator[nbP];
+        System.arraycopy(_props, 0, props, 0, nbP);
+        ari = new IStateInt[nbP];
+        fails = new int[nbP];
+        for (int k = 0; k < nbP; k++) {
+            ari[k] = environment.makeInt(props[k].arity());
+        }
+        free = new StoredIndexedBipartiteSet(environment, n);
         random = new Random(seed);
+        solver.getSearchLoop().plugSearchMonitor(this);
     }
 
     @Override
@@ -86,23 +141,29 @@ public class DomOverWDeg implements VariableSelector<IntVar>, IVariableMonitor<I
 
     @Override
     public boolean hasNext() {
-        int idx = 0;
-        for (; idx < variables.length && variables[idx].getDomainSize() == 1; idx++) {
+        for (int k = free.size() - 1; k >= 0; k--) {
+            int idx = free.get(k);
+            if (variables[idx].instantiated()) {
+                free.remove(idx);
+            } else {
+                return true;
+            }
         }
-        return idx < variables.length;
+        return false;
     }
 
     @Override
     public void advance() {
-        pid2arity.clear();
         small_idx = -1;
         long _d1 = Integer.MAX_VALUE;
         long _d2 = 0;
-        for (int idx = 0; idx < variables.length; idx++) {
+        // iterating downward is safe: a removal swaps with an already visited index
+        for (int k = free.size() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             int dsize = variables[idx].getDomainSize();
             if (dsize > 1) {
                 int degree = variables[idx].getNbProps();
-                int weight = weight(variables[idx]);
+                int weight = weight(idx);
                 long c1 = dsize * _d2;
                 long c2 = _d1 * degree * weight;
                 if (c1 < c2 || (c1 == c2 && random.nextBoolean())) {
@@ -110,25 +171,19 @@ public class DomOverWDeg implements VariableSelector<IntVar>, IVariableMonitor<I
                     _d2 = degree * weight;
                     small_idx = idx;
                 }
+            } else {
+                free.remove(idx);
             }
         }
-        // swap with the last index
     }
 
-    private int weight(IntVar v) {
+    private int weight(int idx) {
         int w = 1;
-        Propagator[] propagators = v.getPropagators();
-        for (int p = 0; p < propagators.length; p++) {
-            Propagator prop = propagators[p];
-            int pid = prop.getId();
-            if (pid2arity.get(pid) > 1) {
-                w += counter.getFails(prop);
-            } else {
-                int a = pid2ari.get(pid).get();
-                pid2arity.put(pid, a);
-                if (a > 1) {
-                    w += counter.getFails(prop);
-                }
+        int[] fps = failed[idx];
+        for (int f = nbFailed[idx] - 1; f >= 0; f--) {
+            int k = fps[f];
+            if (ari[k].get() > 1) {
+                w += fails[k];
             }
         }
         return w;
@@ -142,10 +197,31 @@ public class DomOverWDeg implements VariableSelector<IntVar>, IVariableMonitor<I
     @Override
     public void onUpdate(IntVar var, EventType evt) {
         if (evt == EventType.INSTANTIATE) {
-            Propagator[] props = var.getPropagators();
-            for (int i = 0; i < props.length; i++) {
-                int pid = props[i].getId();
-                pid2ari.get(pid).add(-1);
+            int[] ps = v2p[v2i.get(var.getId())];
+            for (int j = 0; j < ps.length; j++) {
+                ari[ps[j]].add(-1);
+            }
+        }
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        if (cex.c != null && cex.c instanceof Propagator) {
+            int k = p2i.get(((Propagator) cex.c).getId());
+            if (k > -1 && fails[k]++ == 0) {
+                // first failure: the propagator is recorded by its variables
+                Variable[] pvars = props[k].getVars();
+                for (int j = 0; j < pvars.length; j++) {
+                    int idx = v2i.get(pvars[j].getId());
+                    if (idx > -1) {
+                        if (nbFailed[idx] == failed[idx].length) {
+                            int[] tmp = new int[nbFailed[idx] * 3 / 2 + 1];
+                            System.arraycopy(failed[idx], 0, tmp, 0, nbFailed[idx]);
+                            failed[idx] = tmp;
+                        }
+                        failed[idx][nbFailed[idx]++] = k;
+                    }
+                }
             }
         }
     }
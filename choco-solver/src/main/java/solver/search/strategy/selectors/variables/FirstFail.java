@@ -29,10 +29,15 @@ package solver.search.strategy.selectors.variables;
 
 import solver.search.strategy.selectors.VariableSelector;
 import solver.variables.IntVar;
+import util.objects.StoredIndexedBipartiteSet;
 
 /**
  * <b>First fail</b> variable selector.
  * It chooses the variable with the smallest domain (instantiated variables are ignored).
+ * Ties are broken by the smallest index.
+ * <br/>
+ * Instantiated variables are removed, on the fly, from a reversible set of indices:
+ * only not instantiated variables are visited.
  * <br/>
  *
  * @author Charles Prud'homme
@@ -46,10 +51,14 @@ public class FirstFail implements VariableSelector<IntVar> {
     /* index of the smallest domain variable */
     int small_idx;
 
+    /* indices of the variables not known to be instantiated */
+    final StoredIndexedBipartiteSet free;
+
     public FirstFail(IntVar[] variables) {
         this.variables = variables.clone();
         small_idx = 0;
-
+        free = variables.length > 0 ?
+                new StoredIndexedBipartiteSet(variables[0].getSolver().getEnvironment(), variables.length) : null;
     }
 
     @Override
@@ -59,19 +68,31 @@ public class FirstFail implements VariableSelector<IntVar> {
 
     @Override
     public boolean hasNext() {
-        int idx = 0;
-        for (; idx < variables.length && variables[idx].getDomainSize() == 1; idx++) {
+        if (free == null) {
+            return false;
+        }
+        for (int k = free.size() - 1; k >= 0; k--) {
+            int idx = free.get(k);
+            if (variables[idx].instantiated()) {
+                free.remove(idx);
+            } else {
+                return true;
+            }
         }
-        return idx < variables.length;
+        return false;
     }
 
     @Override
     public void advance() {
         small_idx = 0;
         int small_dsize = Integer.MAX_VALUE;
-        for (int idx = 0; idx < variables.length; idx++) {
+        // iterating downward is safe: a removal swaps with an already visited index
+        for (int k = free.size() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             int dsize = variables[idx].getDomainSize();
-            if (dsize > 1 && dsize < small_dsize) {
+            if (dsize == 1) {
+                free.remove(idx);
+            } else if (dsize < small_dsize || (dsize == small_dsize && idx < small_idx)) {
                 small_dsize = dsize;
                 small_idx = idx;
             }
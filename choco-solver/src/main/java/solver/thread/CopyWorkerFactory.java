@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.thread;
+
+import solver.Solver;
+import solver.copy.ModelCopier;
+
+/**
+ * A factory of workers built by copying a single model, see {@link ModelCopier#copy(solver.Solver)}.
+ * A model which cannot be copied structurally is cloned through serialization
+ * (see {@link Solver#serializeClone(solver.Solver)}).
+ * <br/>
+ * The model is stated once; each worker receives its own copy, on which {@link #configure(solver.Solver, int)}
+ * declares the search strategy and, if any, the objective.
+ * The variables of a copy are declared in the same order as the ones of the model,
+ * so they can be retrieved by position in {@link solver.Solver#getVars()}.
+ * The model itself must not be solved while the portfolio builds its workers.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public abstract class CopyWorkerFactory implements IWorkerFactory {
+
+    protected final Solver model;
+
+    protected CopyWorkerFactory(Solver model) {
+        this.model = model;
+    }
+
+    @Override
+    public final Solver make(int worker) {
+        Solver copy = ModelCopier.isStructural(model) ? ModelCopier.copy(model) : Solver.serializeClone(model);
+        configure(copy, worker);
+        return copy;
+    }
+
+    /**
+     * Declare the search strategy, and the objective if any, of the <code>worker</code>-th worker.
+     *
+     * @param copy   a copy of the model, for this worker only
+     * @param worker index of the worker, in [0, nbWorkers[
+     */
+    protected abstract void configure(Solver copy, int worker);
+}
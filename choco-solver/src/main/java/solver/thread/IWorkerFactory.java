@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.thread;
+
+import solver.Solver;
+
+/**
+ * A factory of diversified copies of a model, used by a {@link Portfolio} to build its workers.
+ * <br/>
+ * Each call must return a brand new <code>Solver</code>, sharing nothing with the previous ones
+ * (variables, constraints, environment), since workers are run concurrently.
+ * The search strategy, the seed, the restart policy and, if any, the objective
+ * (see {@link solver.search.loop.AbstractSearchLoop#setObjectivemanager(solver.objective.ObjectiveManager)})
+ * are expected to be declared here.
+ *
+ * @author Charles Prud'homme
+ * @see Portfolio#diversify(solver.Solver, solver.variables.IntVar[], int)
+ * @since 17/10/26
+ */
+public interface IWorkerFactory {
+
+    /**
+     * Build the model to solve by the <code>worker</code>-th worker.
+     *
+     * @param worker index of the worker, in [0, nbWorkers[
+     * @return a new solver
+     */
+    Solver make(int worker);
+}
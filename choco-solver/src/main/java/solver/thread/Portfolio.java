@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.thread;
+
+import solver.ResolutionPolicy;
+import solver.Solver;
+import solver.exception.SolverException;
+import solver.objective.ObjectiveManager;
+import solver.objective.SharedBound;
+import solver.propagation.NoPropagationEngine;
+import solver.propagation.hardcoded.PropagatorEngine;
+import solver.search.limits.FailLimit;
+import solver.search.loop.monitors.SearchMonitorFactory;
+import solver.search.measure.IMeasures;
+import solver.search.strategy.IntStrategyFactory;
+import solver.variables.IntVar;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A portfolio of solvers racing on the same problem.
+ * <br/>
+ * <code>nbWorkers</code> diversified copies of a model are built through a {@link IWorkerFactory}
+ * (see {@link CopyWorkerFactory} to copy a model stated once),
+ * then solved concurrently on a fixed-size thread pool.
+ * As soon as one worker completes its resolution -- it finds a solution of a satisfaction problem,
+ * or proves the optimality of its best solution -- every other worker is stopped at its next node,
+ * and its {@link solver.search.limits.CancellationToken} is cancelled, so that a worker stuck in a long propagation
+ * stops too. The same happens when the optional time limit of the portfolio is reached.
+ * <br/>
+ * A worker solves an optimization problem when an optimizing {@link ObjectiveManager} has been
+ * declared by the factory, otherwise it looks for the first solution.
+ * Optimizing workers share their best objective value through a {@link SharedBound}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class Portfolio {
+
+    // maximum time to wait for the cancelled workers to terminate, in ms
+    private static final long TERMINATION_TIMEOUT = 10000;
+
+    final IWorkerFactory factory;
+
+    final int nbWorkers;
+
+    final int nbThreads;
+
+    // shared by all workers, set to true to stop them
+    final AtomicBoolean stop;
+
+    // index of the worker which completed its search first, -1 if none
+    final AtomicInteger winner;
+
+    Solver[] workers;
+
+    // best objective value shared by the optimizing workers, null for satisfaction problems
+    SharedBound sharedBound;
+
+    // time limit of the whole resolution, in ms, -1 if none
+    long timeLimit = -1;
+
+    /**
+     * Create a portfolio of <code>nbWorkers</code> workers, each of them run in its own thread.
+     *
+     * @param factory   builds the worker models
+     * @param nbWorkers number of workers
+     */
+    public Portfolio(IWorkerFactory factory, int nbWorkers) {
+        this(factory, nbWorkers, nbWorkers);
+    }
+
+    /**
+     * Create a portfolio of <code>nbWorkers</code> workers, run on a pool of <code>nbThreads</code> threads.
+     *
+     * @param factory   builds the worker models
+     * @param nbWorkers number of workers
+     * @param nbThreads size of the thread pool
+     */
+    public Portfolio(IWorkerFactory factory, int nbWorkers, int nbThreads) {
+        if (nbWorkers < 1 || nbThreads < 1) {
+            throw new SolverException("A portfolio requires at least one worker and one thread");
+        }
+        this.factory = factory;
+        this.nbWorkers = nbWorkers;
+        this.nbThreads = nbThreads;
+        this.stop = new AtomicBoolean(false);
+        this.winner = new AtomicInteger(-1);
+    }
+
+    /**
+     * Limit the duration of the whole resolution: once <code>timeLimit</code> ms have elapsed, every worker is cancelled.
+     *
+     * @param timeLimit time limit in ms, -1 for no limit
+     */
+    public void setTimeLimit(long timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    /**
+     * Build the workers, run them concurrently and wait for the resolution to stop.
+     * <p/>
+     * The resolution stops when one worker completes its search, when the time limit of the portfolio is reached,
+     * or when every worker reaches one of its own limits.
+     *
+     * @return the solver of the best worker -- the one which completed its search first, or,
+     *         if every worker reached a limit, the one with the best solution--,
+     *         <code>null</code> if no worker has found a solution.
+     */
+    public Solver solve() {
+        stop.set(false);
+        winner.set(-1);
+        workers = new Solver[nbWorkers];
+        sharedBound = null;
+        for (int w = 0; w < nbWorkers; w++) {
+            workers[w] = factory.make(w);
+            workers[w].getSearchLoop().getLimits().add(new PortfolioLimit(stop));
+            ObjectiveManager om = workers[w].getSearchLoop().getObjectivemanager();
+            if (om.isOptimization()) {
+                if (sharedBound == null) {
+                    sharedBound = new SharedBound(om.getPolicy());
+                }
+                om.setSharedBound(sharedBound);
+            }
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+        Future[] futures = new Future[nbWorkers];
+        for (int w = 0; w < nbWorkers; w++) {
+            futures[w] = pool.submit(new Worker(w));
+        }
+        pool.shutdown();
+        long deadline = timeLimit < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + timeLimit;
+        try {
+            for (int w = 0; w < nbWorkers; w++) {
+                if (deadline == Long.MAX_VALUE) {
+                    futures[w].get();
+                } else {
+                    futures[w].get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                }
+            }
+        } catch (TimeoutException e) {
+            cancel(-1);
+            awaitTermination(pool);
+        } catch (InterruptedException e) {
+            cancel(-1);
+            pool.shutdownNow();
+            awaitTermination(pool);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            cancel(-1);
+            pool.shutdownNow();
+            awaitTermination(pool);
+            throw new SolverException("Portfolio: a worker failed", e.getCause());
+        }
+        return getBestSolver();
+    }
+
+    /**
+     * Stop every worker but <code>except</code>: at its next node through the stop flag,
+     * or during its current propagation through its cancellation token.
+     */
+    private void cancel(int except) {
+        stop.set(true);
+        for (int w = 0; w < nbWorkers; w++) {
+            if (w != except) {
+                workers[w].getCancellationToken().cancel();
+            }
+        }
+    }
+
+    /**
+     * Wait, at most {@link #TERMINATION_TIMEOUT} ms, for the cancelled workers to leave their search loop,
+     * so that their results can be read safely.
+     */
+    private static void awaitTermination(ExecutorService pool) {
+        long deadline = System.currentTimeMillis() + TERMINATION_TIMEOUT;
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+            try {
+                if (pool.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException ie) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Return the solver of the best worker, <code>null</code> if no solution has been found.
+     * <p/>
+     * On a satisfaction problem, this is the worker which completed the resolution, if any.
+     * On an optimization problem, the incumbents of all workers are compared: under a shared bound,
+     * the worker proving the optimality may only hold an early, worse, solution.
+     */
+    public Solver getBestSolver() {
+        int w = winner.get();
+        if (sharedBound == null && w > -1 && workers[w].getMeasures().getSolutionCount() > 0) {
+            return workers[w];
+        }
+        Solver best = null;
+        for (int i = 0; i < nbWorkers; i++) {
+            if (workers[i].getMeasures().getSolutionCount() > 0) {
+                if (best == null || isBetter(workers[i], best)) {
+                    best = workers[i];
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Return <code>true</code> if the resolution has been completed by a worker:
+     * a solution has been found (satisfaction), the optimality has been proven (optimization)
+     * or the problem has been proven to be unsatisfiable.
+     */
+    public boolean isCompleteSearch() {
+        return winner.get() > -1;
+    }
+
+    /**
+     * Return the index of the worker which completed the resolution, -1 if none.
+     */
+    public int getWinner() {
+        return winner.get();
+    }
+
+    /**
+     * Return the bound shared by the workers during the last resolution, <code>null</code> for satisfaction problems.
+     */
+    public SharedBound getSharedBound() {
+        return sharedBound;
+    }
+
+    /**
+     * Return the workers built during the last resolution.
+     */
+    public Solver[] getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Return the measures of each worker of the last resolution.
+     */
+    public IMeasures[] getMeasures() {
+        IMeasures[] measures = new IMeasures[nbWorkers];
+        for (int w = 0; w < nbWorkers; w++) {
+            measures[w] = workers[w].getMeasures();
+        }
+        return measures;
+    }
+
+    private static boolean isBetter(Solver s1, Solver s2) {
+        ObjectiveManager om = s1.getSearchLoop().getObjectivemanager();
+        if (om.isOptimization()) {
+            int v1 = s1.getMeasures().getObjectiveValue();
+            int v2 = s2.getMeasures().getObjectiveValue();
+            return om.getPolicy() == ResolutionPolicy.MINIMIZE ? v1 < v2 : v1 > v2;
+        }
+        return false;
+    }
+
+    /**
+     * Declare on <code>solver</code> a search strategy over <code>vars</code> which depends on the <code>worker</code> index,
+     * in order to diversify the workers of a portfolio.
+     * Strategies are picked in a round-robin fashion among first-fail, dom/wdeg, activity-based, impact-based,
+     * dom/wdeg with Luby restarts and random with geometrical restarts, the seed being the worker index.
+     *
+     * @param solver the solver of the worker
+     * @param vars   decision variables
+     * @param worker index of the worker
+     */
+    public static void diversify(Solver solver, IntVar[] vars, int worker) {
+        long seed = worker;
+        switch (worker % 6) {
+            case 0:
+                solver.set(IntStrategyFactory.firstFail_InDomainMin(vars));
+                break;
+            case 1:
+                solver.set(IntStrategyFactory.domOverWDeg_InDomainMin(vars, seed));
+                break;
+            case 2:
+                solver.set(IntStrategyFactory.ActivityBased(vars, solver, 0.999d, 0.2d, 8, 1.1d, 1, seed));
+                break;
+            case 3:
+                solver.set(IntStrategyFactory.ImpactBased(vars, 2, 3, 10, seed, false));
+                break;
+            case 4:
+                solver.set(IntStrategyFactory.domOverWDeg_InDomainMin(vars, seed));
+                SearchMonitorFactory.luby(solver, 2, 2, new FailLimit(solver, 2), 25000);
+                break;
+            default:
+                solver.set(IntStrategyFactory.random(vars, seed));
+                SearchMonitorFactory.geometrical(solver, 200, 1.2, new FailLimit(solver, 100), 100);
+                break;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private class Worker implements Callable<Boolean> {
+
+        final int idx;
+
+        Worker(int idx) {
+            this.idx = idx;
+        }
+
+        @Override
+        public Boolean call() throws Exception {
+            Solver solver = workers[idx];
+            if (solver.getEngine() == NoPropagationEngine.SINGLETON) {
+                solver.set(new PropagatorEngine(solver));
+            }
+            boolean stopAtFirst = !solver.getSearchLoop().getObjectivemanager().isOptimization();
+            solver.getSearchLoop().launch(stopAtFirst);
+            // a worker stopped by a limit, or by another worker, has not completed its search
+            if (solver.isCompleteSearch() && winner.compareAndSet(-1, idx)) {
+                cancel(idx);
+            }
+            return solver.getMeasures().getSolutionCount() > 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.thread;
+
+import solver.search.limits.ILimit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A limit shared by all the workers of a {@link Portfolio}.
+ * It is reached as soon as one worker has completed its resolution (proved optimality or found the first solution),
+ * the other workers are then interrupted at their next node.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PortfolioLimit implements ILimit {
+
+    private final AtomicBoolean stop;
+
+    public PortfolioLimit(AtomicBoolean stop) {
+        this.stop = stop;
+    }
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public boolean isReached() {
+        return stop.get();
+    }
+
+    @Override
+    public void update() {
+    }
+
+    @Override
+    public long getLimitValue() {
+        return 0;
+    }
+
+    @Override
+    public void overrideLimit(long newLimit) {
+    }
+
+    @Override
+    public String toString() {
+        return "Portfolio: " + (stop.get() ? "stopped" : "running");
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.variables;
+
+import solver.ICause;
+import solver.Solver;
+import solver.exception.ContradictionException;
+import solver.variables.delta.SetDelta;
+import util.objects.setDataStructures.Set_Std_BitSet;
+
+/**
+ * Set variable over [0, size-1] whose envelope and kernel are stored bitsets.
+ * <p/>
+ * In addition to the element-wise operations of {@link SetVar}, it offers operations over 64 elements at a time,
+ * designated by a word index and a mask, and over intervals of elements.
+ * Each of these operations notifies the propagators once, and records the modified elements in the delta as
+ * intervals, one per run of consecutive elements.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class BitsetSetVarImpl extends SetVarImpl {
+
+    private final Set_Std_BitSet env, ker;
+
+    /**
+     * Set variable with an empty domain, able to hold elements in [0, size-1]
+     *
+     * @param name   name of the variable
+     * @param size   size of the universe
+     * @param solver solver involving the variable
+     */
+    public BitsetSetVarImpl(String name, int size, Solver solver) {
+        super(name, new Set_Std_BitSet(solver.getEnvironment(), size),
+                new Set_Std_BitSet(solver.getEnvironment(), size), solver);
+        this.env = (Set_Std_BitSet) envelope;
+        this.ker = (Set_Std_BitSet) kernel;
+    }
+
+    /**
+     * Checks whether all the variables in <code>vars</code> are bitset-based, that is, whether propagators can
+     * rely on word-level operations.
+     *
+     * @param vars set variables
+     * @return <code>true</code> if each variable is a <code>BitsetSetVarImpl</code>
+     */
+    public static boolean all(SetVar[] vars) {
+        for (int i = 0; i < vars.length; i++) {
+            if (!(vars[i] instanceof BitsetSetVarImpl)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //***********************************************************************************
+    // WORD-LEVEL METHODS
+    //***********************************************************************************
+
+    /**
+     * @return the number of words needed to store the domain
+     */
+    public int getNbWords() {
+        return Math.max(env.getNbWords(), ker.getNbWords());
+    }
+
+    /**
+     * @param wordIndex index of a word
+     * @return the elements of the envelope in [64*wordIndex, 64*wordIndex+63]
+     */
+    public long getEnvelopeWord(int wordIndex) {
+        return env.getWord(wordIndex);
+    }
+
+    /**
+     * @param wordIndex index of a word
+     * @return the elements of the kernel in [64*wordIndex, 64*wordIndex+63]
+     */
+    public long getKernelWord(int wordIndex) {
+        return ker.getWord(wordIndex);
+    }
+
+    /**
+     * Removes the elements of <code>mask</code>, in word <code>wordIndex</code>, from the envelope.
+     *
+     * @param wordIndex index of a word
+     * @param mask      elements to remove
+     * @param cause     the cause of the modification
+     * @return <code>true</code> if the envelope has been modified
+     * @throws ContradictionException if one of the elements belongs to the kernel
+     */
+    public boolean removeFromEnvelope(int wordIndex, long mask, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (doRemove(wordIndex, mask, cause)) {
+            notifyPropagators(EventType.REMOVE_FROM_ENVELOPE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the elements of <code>mask</code>, in word <code>wordIndex</code>, to the kernel.
+     *
+     * @param wordIndex index of a word
+     * @param mask      elements to add
+     * @param cause     the cause of the modification
+     * @return <code>true</code> if the kernel has been modified
+     * @throws ContradictionException if one of the elements does not belong to the envelope
+     */
+    public boolean addToKernel(int wordIndex, long mask, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (doAdd(wordIndex, mask, cause)) {
+            notifyPropagators(EventType.ADD_TO_KER, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the elements in [from, to] from the envelope.
+     *
+     * @return <code>true</code> if the envelope has been modified
+     * @throws ContradictionException if one of the elements belongs to the kernel
+     */
+    public boolean removeIntervalFromEnvelope(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean change = false;
+        int last = Math.min(to >> 6, env.getNbWords() - 1);
+        for (int w = from >> 6; w <= last; w++) {
+            change |= doRemove(w, mask(w, from, to), cause);
+        }
+        if (change) {
+            notifyPropagators(EventType.REMOVE_FROM_ENVELOPE, cause);
+        }
+        return change;
+    }
+
+    /**
+     * Adds the elements in [from, to] to the kernel.
+     *
+     * @return <code>true</code> if the kernel has been modified
+     * @throws ContradictionException if one of the elements does not belong to the envelope
+     */
+    public boolean addIntervalToKernel(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean change = false;
+        for (int w = from >> 6; w <= to >> 6; w++) {
+            change |= doAdd(w, mask(w, from, to), cause);
+        }
+        if (change) {
+            notifyPropagators(EventType.ADD_TO_KER, cause);
+        }
+        return change;
+    }
+
+    /**
+     * @return the mask of the elements of [from, to] in word <code>w</code>
+     */
+    private static long mask(int w, int from, int to) {
+        int lo = Math.max(from, w << 6) & 63;
+        int hi = Math.min(to, (w << 6) + 63) & 63;
+        return (-1L << lo) & (-1L >>> (63 - hi));
+    }
+
+    private boolean doRemove(int w, long mask, ICause cause) throws ContradictionException {
+        long removed = env.getWord(w) & mask;
+        if (removed == 0) {
+            return false;
+        }
+        if ((removed & ker.getWord(w)) != 0) {
+            contradiction(cause, EventType.REMOVE_FROM_ENVELOPE, "");
+        }
+        env.removeWord(w, removed);
+        if (reactOnModification) {
+            record(w, removed, SetDelta.ENVELOP, cause);
+        }
+        return true;
+    }
+
+    private boolean doAdd(int w, long mask, ICause cause) throws ContradictionException {
+        long added = mask & ~ker.getWord(w);
+        if (added == 0) {
+            return false;
+        }
+        if ((added & ~env.getWord(w)) != 0) {
+            contradiction(cause, null, "");
+        }
+        ker.addWord(w, added);
+        if (reactOnModification) {
+            record(w, added, SetDelta.KERNEL, cause);
+        }
+        return true;
+    }
+
+    /**
+     * Records the elements of <code>bits</code> in the delta, one interval per run of consecutive elements
+     */
+    private void record(int w, long bits, int kerOrEnv, ICause cause) {
+        int base = w << 6;
+        while (bits != 0) {
+            int lo = Long.numberOfTrailingZeros(bits);
+            int len = Long.numberOfTrailingZeros(~(bits >>> lo));
+            delta.add(base + lo, base + lo + len - 1, kerOrEnv, cause);
+            bits = lo + len == 64 ? 0 : bits & (-1L << (lo + len));
+        }
+    }
+}
@@ -89,6 +89,22 @@ public class SetVarImpl extends AbstractVariable<SetDelta, SetVar> implements Se
         kernel = SetFactory.makeStoredSet(kerType, maximalSize, environment);
     }
 
+    /**
+     * Set variable based on given stored sets
+     *
+     * @param name
+     * @param envelope stored set of the envelope
+     * @param kernel   stored set of the kernel
+     * @param solver
+     */
+    protected SetVarImpl(String name, ISet envelope, ISet kernel, Solver solver) {
+        super(name, solver);
+        solver.associates(this);
+        this.environment = solver.getEnvironment();
+        this.envelope = envelope;
+        this.kernel = kernel;
+    }
+
     //***********************************************************************************
     // METHODS
     //***********************************************************************************
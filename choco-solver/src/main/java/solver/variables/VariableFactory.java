@@ -360,6 +360,20 @@ public enum VariableFactory {
         return new SetVarImpl(NAME, SOLVER);
     }
 
+    /**
+     * Builds a set variable with an empty domain, able to hold integers in [0, SIZE-1].
+     * The envelope and the kernel are stored as bitsets, which enables set propagators to filter
+     * 64 elements at a time.
+     *
+     * @param NAME   name of the variable
+     * @param SIZE   size of the universe
+     * @param SOLVER solver involving the variable
+     * @return a bitset-based set variable with an empty domain
+     */
+    public static SetVar set(String NAME, int SIZE, Solver SOLVER) {
+        return new BitsetSetVarImpl(NAME, SIZE, SOLVER);
+    }
+
     /**
      * Builds a set variable with an initial domain given by ENVELOP and KERNEL.
      * BEWARE elements must be positive or null
@@ -34,31 +34,37 @@ import solver.search.loop.AbstractSearchLoop;
 /**
  * A class to store the removed value of an integer variable.
  * <p/>
- * It defines methods to <code>add</code> a value, <code>clear</code> the structure
+ * It defines methods to <code>add</code> a value or an interval of values, <code>clear</code> the structure
  * and execute a <code>Procedure</code> for each value stored.
+ * Values are stored as intervals, each of them with a single cause.
  */
 public final class EnumDelta implements IEnumDelta {
     private static final int SIZE = 32;
 
-    int[] rem;
+    int[] from;
+    int[] to;
     ICause[] causes;
     int last;
     int timestamp = -1;
     final AbstractSearchLoop loop;
 
     public EnumDelta(AbstractSearchLoop loop) {
-        rem = new int[SIZE];
+        from = new int[SIZE];
+        to = new int[SIZE];
         causes = new ICause[SIZE];
         this.loop = loop;
     }
 
     private void ensureCapacity() {
-        if (last >= rem.length) {
+        if (last >= from.length) {
             int[] tmp = new int[last * 3 / 2 + 1];
+            System.arraycopy(from, 0, tmp, 0, last);
+            from = tmp;
+            tmp = new int[last * 3 / 2 + 1];
+            System.arraycopy(to, 0, tmp, 0, last);
+            to = tmp;
             ICause[] tmpc = new ICause[last * 3 / 2 + 1];
-            System.arraycopy(rem, 0, tmp, 0, last);
             System.arraycopy(causes, 0, tmpc, 0, last);
-            rem = tmp;
             causes = tmpc;
         }
     }
@@ -77,17 +83,35 @@ public final class EnumDelta implements IEnumDelta {
      */
     @Override
     public void add(int value, ICause cause) {
+        add(value, value, cause);
+    }
+
+    /**
+     * Adds a new interval of values to the delta
+     *
+     * @param lb    lower bound of removed interval
+     * @param ub    upper bound of removed interval
+     * @param cause of the removal
+     */
+    @Override
+    public void add(int lb, int ub, ICause cause) {
         if (Configuration.LAZY_UPDATE) {
             lazyClear();
         }
         ensureCapacity();
         causes[last] = cause;
-        rem[last++] = value;
+        from[last] = lb;
+        to[last++] = ub;
+    }
+
+    @Override
+    public int getLB(int idx) {
+        return from[idx];
     }
 
     @Override
-    public int get(int idx) {
-        return rem[idx];
+    public int getUB(int idx) {
+        return to[idx];
     }
 
     @Override
@@ -96,7 +96,7 @@ public class GraphDelta implements IGraphDelta {
 
     @Override
     public int get(int index, int type) {
-        return deltaOfType[type].get(index);
+        return deltaOfType[type].getLB(index);
     }
 
     @Override
@@ -29,13 +29,16 @@ package solver.variables.delta;
 import solver.ICause;
 
 /**
- * Interface for delta enumerated dedicated to integer variable
+ * Interface for delta enumerated dedicated to integer variable.
+ * <br/>
+ * Removed values are stored as intervals, each of them with a single cause: a bulk removal
+ * (bound update, instantiation) costs one entry per interval of removed values, not one per value.
  * <br/>
  *
  * @author Charles Prud'homme
  * @since 11/01/13
  */
-public interface IEnumDelta extends IntDelta {
+public interface IEnumDelta extends IIntervalDelta {
     /**
      * Adds a new value to the delta
      *
@@ -43,22 +46,4 @@ public interface IEnumDelta extends IntDelta {
      * @param cause of the removal
      */
     void add(int value, ICause cause);
-
-    /**
-     * Return the idx^th value stored in the delta, if any
-     *
-     * @param idx rank of the value
-     * @return idx^th value
-     * @throws IndexOutOfBoundsException if idx is out of the bounds
-     */
-    int get(int idx) throws IndexOutOfBoundsException;
-
-    /**
-     * Return the cause of the idx^th value stored in the delta, if any
-     *
-     * @param idx rank of the value
-     * @return cause of the removal
-     * @throws IndexOutOfBoundsException if idx is out of the bounds
-     */
-    ICause getCause(int idx) throws IndexOutOfBoundsException;
 }
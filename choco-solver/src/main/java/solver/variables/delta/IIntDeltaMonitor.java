@@ -30,6 +30,7 @@ import solver.exception.ContradictionException;
 import solver.variables.EventType;
 import util.procedure.IntProcedure;
 import util.procedure.SafeIntProcedure;
+import util.procedure.SafeIntervalProcedure;
 
 /**
  * <br/>
@@ -43,6 +44,15 @@ public interface IIntDeltaMonitor extends IDeltaMonitor {
 
     void forEach(IntProcedure proc, EventType eventType) throws ContradictionException;
 
+    /**
+     * Execute <code>proc</code> on each interval of removed values, without enumerating them.
+     * Intervals are disjoint, but consecutive intervals may be contiguous.
+     *
+     * @param proc      a procedure
+     * @param eventType the event type, only removals are supported
+     */
+    void forEachInterval(SafeIntervalProcedure proc, EventType eventType);
+
     public static enum Default implements IIntDeltaMonitor {
         NONE() {
             @Override
@@ -64,6 +74,10 @@ public interface IIntDeltaMonitor extends IDeltaMonitor {
             @Override
             public void forEach(IntProcedure proc, EventType eventType) throws ContradictionException {
             }
+
+            @Override
+            public void forEachInterval(SafeIntervalProcedure proc, EventType eventType) {
+            }
         }
     }
 }
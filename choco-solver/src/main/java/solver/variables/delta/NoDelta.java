@@ -77,11 +77,6 @@ public enum NoDelta implements IEnumDelta, IIntervalDelta {
     }
 
 
-    @Override
-    public int get(int idx) {
-        throw new IndexOutOfBoundsException("NoDelta#get(): fordidden call, size must be checked before!");
-    }
-
     @Override
     public ICause getCause(int idx) {
         throw new IndexOutOfBoundsException("NoDelta#get(): fordidden call, size must be checked before!");
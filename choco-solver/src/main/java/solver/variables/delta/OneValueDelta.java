@@ -68,14 +68,27 @@ public final class OneValueDelta implements IEnumDelta {
     }
 
     @Override
-    public int get(int idx) {
+    public void add(int lb, int ub, ICause cause) {
+        if (lb != ub) {
+            throw new UnsupportedOperationException("OneValueDelta#add(): only one value can be stored");
+        }
+        add(lb, cause);
+    }
+
+    @Override
+    public int getLB(int idx) {
         if (idx < 1) {
             return value;
         } else {
-            throw new IndexOutOfBoundsException("OneValueDelta#get(): size must be checked before!");
+            throw new IndexOutOfBoundsException("OneValueDelta#getLB(): size must be checked before!");
         }
     }
 
+    @Override
+    public int getUB(int idx) {
+        return getLB(idx);
+    }
+
     @Override
     public ICause getCause(int idx) {
         if (idx < 1) {
@@ -90,6 +90,16 @@ public class SetDelta implements IDelta {
         delta[kerOrEnv].add(element, cause);
     }
 
+    /**
+     * Records the elements from <code>from</code> to <code>to</code> (inclusive) at once
+     */
+    public void add(int from, int to, int kerOrEnv, ICause cause) {
+        if (Configuration.LAZY_UPDATE) {
+            lazyClear();
+        }
+        delta[kerOrEnv].add(from, to, cause);
+    }
+
     public void lazyClear() {
         if (timestamp != loop.timeStamp) {
             clear();
@@ -97,7 +107,11 @@ public class SetDelta implements IDelta {
     }
 
     public int get(int index, int kerOrEnv) {
-        return delta[kerOrEnv].get(index);
+        return delta[kerOrEnv].getLB(index);
+    }
+
+    public int getUB(int index, int kerOrEnv) {
+        return delta[kerOrEnv].getUB(index);
     }
 
     public ICause getCause(int index, int kerOrEnv) {
@@ -35,6 +35,7 @@ import solver.variables.delta.IEnumDelta;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.procedure.IntProcedure;
 import util.procedure.SafeIntProcedure;
+import util.procedure.SafeIntervalProcedure;
 
 /**
  * <br/>
@@ -94,7 +95,11 @@ public class EnumDeltaMonitor implements IIntDeltaMonitor {
         if (EventType.isRemove(eventType.mask)) {
             for (int i = frozenFirst; i < frozenLast; i++) {
                 if (propagator == Cause.Null || propagator != delta.getCause(i)) {
-                    proc.execute(delta.get(i));
+                    int lb = delta.getLB(i);
+                    int ub = delta.getUB(i);
+                    for (; lb <= ub; lb++) {
+                        proc.execute(lb);
+                    }
                 }
             }
         } else {
@@ -107,7 +112,24 @@ public class EnumDeltaMonitor implements IIntDeltaMonitor {
         if (EventType.isRemove(eventType.mask)) {
             for (int i = frozenFirst; i < frozenLast; i++) {
                 if (propagator == Cause.Null || propagator != delta.getCause(i)) {
-                    proc.execute(delta.get(i));
+                    int lb = delta.getLB(i);
+                    int ub = delta.getUB(i);
+                    for (; lb <= ub; lb++) {
+                        proc.execute(lb);
+                    }
+                }
+            }
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public void forEachInterval(SafeIntervalProcedure proc, EventType eventType) {
+        if (EventType.isRemove(eventType.mask)) {
+            for (int i = frozenFirst; i < frozenLast; i++) {
+                if (propagator == Cause.Null || propagator != delta.getCause(i)) {
+                    proc.execute(delta.getLB(i), delta.getUB(i));
                 }
             }
         } else {
@@ -35,6 +35,7 @@ import solver.variables.delta.IIntDeltaMonitor;
 import solver.variables.delta.IIntervalDelta;
 import util.procedure.IntProcedure;
 import util.procedure.SafeIntProcedure;
+import util.procedure.SafeIntervalProcedure;
 
 /**
  * <br/>
@@ -123,6 +124,19 @@ public class IntervalDeltaMonitor implements IIntDeltaMonitor {
         }
     }
 
+    @Override
+    public void forEachInterval(SafeIntervalProcedure proc, EventType eventType) {
+        if (EventType.isRemove(eventType.mask)) {
+            for (int i = frozenFirst; i < frozenLast; i++) {
+                if (propagator == Cause.Null || propagator != delta.getCause(i)) {
+                    proc.execute(delta.getLB(i), delta.getUB(i));
+                }
+            }
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("(%d,%d) => (%d,%d) :: %d", first, last, frozenFirst, frozenLast, delta.size());
@@ -33,6 +33,7 @@ import solver.variables.delta.IEnumDelta;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.procedure.IntProcedure;
 import util.procedure.SafeIntProcedure;
+import util.procedure.SafeIntervalProcedure;
 
 /**
  * A monitor for OneValueDelta
@@ -73,7 +74,7 @@ public class OneValueDeltaMonitor implements IIntDeltaMonitor {
     public void forEach(SafeIntProcedure proc, EventType eventType) {
         if (EventType.isRemove(eventType.mask)) {
             if (used && propagator != delta.getCause(0))
-                proc.execute(delta.get(0));
+                proc.execute(delta.getLB(0));
         }
     }
 
@@ -81,8 +82,15 @@ public class OneValueDeltaMonitor implements IIntDeltaMonitor {
     public void forEach(IntProcedure proc, EventType eventType) throws ContradictionException {
         if (EventType.isRemove(eventType.mask)) {
             if (used && propagator != delta.getCause(0))
-                proc.execute(delta.get(0));
+                proc.execute(delta.getLB(0));
         }
     }
 
+    @Override
+    public void forEachInterval(SafeIntervalProcedure proc, EventType eventType) {
+        if (EventType.isRemove(eventType.mask)) {
+            if (used && propagator != delta.getCause(0))
+                proc.execute(delta.getLB(0), delta.getUB(0));
+        }
+    }
 }
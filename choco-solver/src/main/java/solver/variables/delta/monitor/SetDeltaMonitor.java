@@ -33,6 +33,7 @@ import solver.variables.EventType;
 import solver.variables.delta.IDeltaMonitor;
 import solver.variables.delta.SetDelta;
 import util.procedure.IntProcedure;
+import util.procedure.PairProcedure;
 
 /**
  * @author Jean-Guillaume Fages
@@ -106,7 +107,29 @@ public class SetDeltaMonitor implements IDeltaMonitor {
         }
         for (int i = frozenFirst[x]; i < frozenLast[x]; i++) {
             if (delta.getCause(i, x) != propagator) {
-                proc.execute(delta.get(i, x));
+                for (int e = delta.get(i, x), u = delta.getUB(i, x); e <= u; e++) {
+                    proc.execute(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #forEach(util.procedure.IntProcedure, solver.variables.EventType)}, but gives the recorded
+     * elements as intervals [lb,ub].
+     */
+    public void forEachInterval(PairProcedure proc, EventType evt) throws ContradictionException {
+        int x;
+        if (evt == EventType.ADD_TO_KER) {
+            x = SetDelta.KERNEL;
+        } else if (evt == EventType.REMOVE_FROM_ENVELOPE) {
+            x = SetDelta.ENVELOP;
+        } else {
+            throw new UnsupportedOperationException("The event in parameter should be ADD_TO_KER or REMOVE_FROM_ENVELOPE");
+        }
+        for (int i = frozenFirst[x]; i < frozenLast[x]; i++) {
+            if (delta.getCause(i, x) != propagator) {
+                proc.execute(delta.get(i, x), delta.getUB(i, x));
             }
         }
     }
@@ -202,12 +202,33 @@ public final class BitsetIntVarImpl extends AbstractVariable<IEnumDelta, IntVar<
             return updateLowerBound(to + 1, cause);
         else if (getUB() <= to)
             return updateUpperBound(from - 1, cause);
-        else {     // TODO: really ugly .........
-            boolean anyChange = false;
-            for (int v = this.nextValue(from - 1); v <= to; v = nextValue(v)) {
-                anyChange |= removeValue(v, cause);
+        else {
+            // both bounds are kept: the domain cannot be instantiated nor emptied
+            int afrom = from - OFFSET;
+            int ato = to - OFFSET;
+            int nbRemoved = 0;
+            // count the removed values run by run, rather than the whole domain
+            for (int i = VALUES.nextSetBit(afrom); i >= 0 && i <= ato; ) {
+                int j = Math.min(VALUES.nextClearBit(i + 1) - 1, ato);
+                nbRemoved += j - i + 1;
+                if (Configuration.PLUG_EXPLANATION) {
+                    // the explainer is informed of each removal, with the single cause of the interval
+                    for (int v = i; v <= j; v++) {
+                        solver.getExplainer().removeValue(this, v + OFFSET, cause);
+                    }
+                }
+                i = VALUES.nextSetBit(j + 1);
+            }
+            if (nbRemoved == 0) {
+                return false;
+            }
+            if (reactOnRemoval) {
+                addToDelta(afrom, ato, cause);
             }
-            return anyChange;
+            VALUES.clear(afrom, ato + 1);
+            SIZE.add(-nbRemoved);
+            this.notifyPropagators(EventType.REMOVE, cause);
+            return true;
         }
     }
 
@@ -241,14 +262,8 @@ public final class BitsetIntVarImpl extends AbstractVariable<IEnumDelta, IntVar<
         } else if (contains(value)) {
             int aValue = value - OFFSET;
             if (reactOnRemoval) {
-                int i = VALUES.nextSetBit(this.LB.get());
-                for (; i < aValue; i = VALUES.nextSetBit(i + 1)) {
-                    delta.add(i + OFFSET, cause);
-                }
-                i = VALUES.nextSetBit(aValue + 1);
-                for (; i >= 0; i = VALUES.nextSetBit(i + 1)) {
-                    delta.add(i + OFFSET, cause);
-                }
+                addToDelta(this.LB.get(), aValue - 1, cause);
+                addToDelta(aValue + 1, this.UB.get(), cause);
             }
             this.VALUES.clear();
             this.VALUES.set(aValue);
@@ -299,10 +314,7 @@ public final class BitsetIntVarImpl extends AbstractVariable<IEnumDelta, IntVar<
 
                 int aValue = value - OFFSET;
                 if (reactOnRemoval) {
-                    //BEWARE: this loop significantly decreases performances
-                    for (int i = old - OFFSET; i < aValue; i = VALUES.nextSetBit(i + 1)) {
-                        delta.add(i + OFFSET, cause);
-                    }
+                    addToDelta(old - OFFSET, aValue - 1, cause);
                 }
                 VALUES.clear(old - OFFSET, aValue);
                 LB.set(VALUES.nextSetBit(aValue));
@@ -358,10 +370,7 @@ public final class BitsetIntVarImpl extends AbstractVariable<IEnumDelta, IntVar<
                 EventType e = EventType.DECUPP;
                 int aValue = value - OFFSET;
                 if (reactOnRemoval) {
-                    //BEWARE: this loop significantly decreases performances
-                    for (int i = old - OFFSET; i > aValue; i = VALUES.prevSetBit(i - 1)) {
-                        delta.add(i + OFFSET, cause);
-                    }
+                    addToDelta(aValue + 1, old - OFFSET, cause);
                 }
                 VALUES.clear(aValue + 1, old - OFFSET + 1);
                 UB.set(VALUES.prevSetBit(aValue));
@@ -385,6 +394,26 @@ public final class BitsetIntVarImpl extends AbstractVariable<IEnumDelta, IntVar<
         return false;
     }
 
+    /**
+     * Stores in the delta the values of the domain within [<code>from</code>, <code>to</code>],
+     * (both are expressed without the offset), one interval per run of consecutive values.
+     *
+     * @param from first value, included
+     * @param to   last value, included
+     * @param cause removal releaser
+     */
+    private void addToDelta(int from, int to, ICause cause) {
+        int i = VALUES.nextSetBit(from);
+        while (i >= 0 && i <= to) {
+            int j = VALUES.nextClearBit(i + 1) - 1;
+            if (j > to) {
+                j = to;
+            }
+            delta.add(i + OFFSET, j + OFFSET, cause);
+            i = VALUES.nextSetBit(j + 1);
+        }
+    }
+
     @Override
     public void wipeOut(ICause cause) throws ContradictionException {
         assert cause != null;
@@ -33,6 +33,7 @@ import solver.variables.EventType;
 import solver.variables.delta.IIntDeltaMonitor;
 import util.procedure.IntProcedure;
 import util.procedure.SafeIntProcedure;
+import util.procedure.SafeIntervalProcedure;
 
 import java.util.ArrayList;
 
@@ -89,7 +90,7 @@ public abstract class ViewDeltaMonitor implements IIntDeltaMonitor {
         deltamonitor.forEach(filler, eventType);
         filter();
         for (int v = 0; v < values.size(); v++) {
-            proc.execute(transform(values.toArray()[v]));
+            proc.execute(transform(values.get(v)));
         }
     }
 
@@ -99,7 +100,19 @@ public abstract class ViewDeltaMonitor implements IIntDeltaMonitor {
         deltamonitor.forEach(filler, eventType);
         filter();
         for (int v = 0; v < values.size(); v++) {
-            proc.execute(transform(values.toArray()[v]));
+            proc.execute(transform(values.get(v)));
+        }
+    }
+
+    @Override
+    public void forEachInterval(SafeIntervalProcedure proc, EventType eventType) {
+        // the transformation may not preserve intervals: values are given one by one
+        values.clear();
+        deltamonitor.forEach(filler, eventType);
+        filter();
+        for (int v = 0; v < values.size(); v++) {
+            int value = transform(values.get(v));
+            proc.execute(value, value);
         }
     }
 
@@ -27,6 +27,9 @@
 
 package util.objects.setDataStructures;
 
+import solver.exception.ContradictionException;
+import util.procedure.IntProcedure;
+
 import java.io.Serializable;
 
 /**
@@ -93,9 +96,31 @@ public interface ISet extends Serializable {
      * <p/>
      * The use of getFirstElement() is necessary to ensure a complete iteration
      * <p/>
-     * WARNING cannot encapsulate two for loops (copy the set for that)
+     * WARNING cannot encapsulate two for loops (use {@link #forEach(util.procedure.IntProcedure)}
+     * or {@link #toArray(int[])} for that)
      *
      * @return the next element of the set
      */
     int getNextElement();
+
+    /**
+     * Executes <code>procedure</code> on each element of the set.
+     * <p/>
+     * Unlike getFirstElement()/getNextElement(), this does not rely on the internal iteration state of the set,
+     * so it can be nested within another iteration over the same set, and does not allocate anything.
+     * The current element may be removed from the set by <code>procedure</code>.
+     *
+     * @param procedure action to execute on each element
+     * @throws ContradictionException if <code>procedure</code> throws one
+     */
+    void forEach(IntProcedure procedure) throws ContradictionException;
+
+    /**
+     * Copies the elements of the set into <code>array</code>, from index 0.
+     * It does not rely on the internal iteration state of the set.
+     *
+     * @param array an array whose length is at least getSize()
+     * @return the number of elements copied, that is, getSize()
+     */
+    int toArray(int[] array);
 }
@@ -30,6 +30,8 @@ package util.objects.setDataStructures;
 import memory.copy.EnvironmentCopying;
 import memory.copy.RcObject;
 import memory.copy.RecomputableElement;
+import solver.exception.ContradictionException;
+import util.procedure.IntProcedure;
 
 /**
  * Backtrable set
@@ -49,10 +51,7 @@ public class Set_Copy extends RcObject implements ISet {
 
     public Object deepCopy() {
         int[] vals = new int[set.getSize()];
-        int k = 0;
-        for (int i = set.getFirstElement(); i >= 0; i = set.getNextElement()) {
-            vals[k++] = i;
-        }
+        set.toArray(vals);
         return vals;
     }
 
@@ -106,6 +105,16 @@ public class Set_Copy extends RcObject implements ISet {
         set.clear();
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        set.forEach(procedure);
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        return set.toArray(array);
+    }
+
     @Override
     public int getFirstElement() {
         return set.getFirstElement();
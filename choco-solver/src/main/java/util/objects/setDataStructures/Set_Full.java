@@ -27,6 +27,9 @@
 
 package util.objects.setDataStructures;
 
+import solver.exception.ContradictionException;
+import util.procedure.IntProcedure;
+
 /**
  * Fixed Set which ALWAYS contains all integers in range [0,n-1]
  * cannot add or remove elements
@@ -86,6 +89,21 @@ public class Set_Full implements ISet {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        for (int i = 0; i < n; i++) {
+            procedure.execute(i);
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        for (int i = 0; i < n; i++) {
+            array[i] = i;
+        }
+        return n;
+    }
+
     @Override
     public int getFirstElement() {
         current = 0;
@@ -30,6 +30,8 @@ package util.objects.setDataStructures;
 import memory.IEnvironment;
 import memory.IStateInt;
 import memory.structure.S64BitSet;
+import solver.exception.ContradictionException;
+import util.procedure.IntProcedure;
 
 /**
  * Created by IntelliJ IDEA.
@@ -77,6 +79,26 @@ public class Set_Std_BitSet extends S64BitSet implements ISet {
         return this.card.get();
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            procedure.execute(i);
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        int k = 0;
+        for (int w = 0; w < wordsInUse.get(); w++) {
+            long word = words[w].get();
+            while (word != 0) {
+                array[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return k;
+    }
+
     @Override
     public int getFirstElement() {
         current = nextSetBit(0);
@@ -94,4 +116,59 @@ public class Set_Std_BitSet extends S64BitSet implements ISet {
         super.clear();
         card.set(0);
     }
+
+    //***********************************************************************************
+    // WORD-LEVEL OPERATIONS
+    //***********************************************************************************
+
+    /**
+     * @return the number of 64-bit words allocated
+     */
+    public int getNbWords() {
+        return words.length;
+    }
+
+    /**
+     * @param wordIndex index of a word
+     * @return the elements from <code>64*wordIndex</code> to <code>64*wordIndex+63</code>, as a word
+     */
+    public long getWord(int wordIndex) {
+        return wordIndex < wordsInUse.get() ? words[wordIndex].get() : 0L;
+    }
+
+    /**
+     * Adds the elements of <code>mask</code> to the word <code>wordIndex</code>
+     *
+     * @param wordIndex index of a word, smaller than {@link #getNbWords()}
+     * @param mask      elements to add
+     * @return the elements actually added
+     */
+    public long addWord(int wordIndex, long mask) {
+        long word = getWord(wordIndex);
+        long added = mask & ~word;
+        if (added != 0) {
+            expandTo(wordIndex);
+            words[wordIndex].set(word | added);
+            card.add(Long.bitCount(added));
+        }
+        return added;
+    }
+
+    /**
+     * Removes the elements of <code>mask</code> from the word <code>wordIndex</code>
+     *
+     * @param wordIndex index of a word
+     * @param mask      elements to remove
+     * @return the elements actually removed
+     */
+    public long removeWord(int wordIndex, long mask) {
+        long word = getWord(wordIndex);
+        long removed = mask & word;
+        if (removed != 0) {
+            words[wordIndex].set(word & ~removed);
+            card.add(-Long.bitCount(removed));
+            recalculateWordsInUse();
+        }
+        return removed;
+    }
 }
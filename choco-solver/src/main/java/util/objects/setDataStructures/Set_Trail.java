@@ -29,7 +29,9 @@ package util.objects.setDataStructures;
 
 import memory.structure.Operation;
 import memory.trailing.EnvironmentTrailing;
+import solver.exception.ContradictionException;
 import util.PoolManager;
+import util.procedure.IntProcedure;
 
 /**
  * Backtrable set
@@ -110,6 +112,16 @@ public class Set_Trail implements ISet {
         set.clear();
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        set.forEach(procedure);
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        return set.toArray(array);
+    }
+
     @Override
     public int getFirstElement() {
         return set.getFirstElement();
@@ -27,7 +27,9 @@
 
 package util.objects.setDataStructures.linkedlist;
 
+import solver.exception.ContradictionException;
 import util.objects.setDataStructures.ISet;
+import util.procedure.IntProcedure;
 
 /**
  * Linked list of m elements with double link (predecessor and successor)
@@ -199,6 +201,26 @@ public class Set_2LinkedList implements ISet {
         size = 0;
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        DoubleIntCell current = first;
+        while (current != null) {
+            // the next cell is read first, as the current one may be removed and recycled
+            DoubleIntCell next = current.next;
+            procedure.execute(current.element);
+            current = next;
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        int k = 0;
+        for (DoubleIntCell current = first; current != null; current = current.next) {
+            array[k++] = current.element;
+        }
+        return k;
+    }
+
     // --- Iterations
     @Override
     public int getFirstElement() {
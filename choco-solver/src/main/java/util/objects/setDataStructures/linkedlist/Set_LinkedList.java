@@ -27,7 +27,9 @@
 
 package util.objects.setDataStructures.linkedlist;
 
+import solver.exception.ContradictionException;
 import util.objects.setDataStructures.ISet;
+import util.procedure.IntProcedure;
 
 /**
  * LinkedList of m elements
@@ -167,6 +169,26 @@ public class Set_LinkedList implements ISet {
         size = 0;
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        IntCell current = first;
+        while (current != null) {
+            // the next cell is read first, as the current one may be removed and recycled
+            IntCell next = current.next;
+            procedure.execute(current.element);
+            current = next;
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        int k = 0;
+        for (IntCell current = first; current != null; current = current.next) {
+            array[k++] = current.element;
+        }
+        return k;
+    }
+
     // --- Iterations
     @Override
     public int getFirstElement() {
@@ -34,7 +34,9 @@
 
 package util.objects.setDataStructures.matrix;
 
+import solver.exception.ContradictionException;
 import util.objects.setDataStructures.ISet;
+import util.procedure.IntProcedure;
 
 /**
  * Set represented by an array of booleans
@@ -115,6 +117,26 @@ public class Set_Array implements ISet {
         }
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        for (int i = 0; i < n; i++) {
+            if (elements[i]) {
+                procedure.execute(i);
+            }
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        int k = 0;
+        for (int i = 0; i < n && k < size; i++) {
+            if (elements[i]) {
+                array[k++] = i;
+            }
+        }
+        return k;
+    }
+
     @Override
     public int getFirstElement() {
         current = 0;
@@ -27,7 +27,9 @@
 
 package util.objects.setDataStructures.matrix;
 
+import solver.exception.ContradictionException;
 import util.objects.setDataStructures.ISet;
+import util.procedure.IntProcedure;
 
 import java.util.BitSet;
 
@@ -82,6 +84,22 @@ public class Set_BitSet extends BitSet implements ISet {
         return this.card;
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            procedure.execute(i);
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        int k = 0;
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            array[k++] = i;
+        }
+        return k;
+    }
+
     @Override
     public int getFirstElement() {
         current = nextSetBit(0);
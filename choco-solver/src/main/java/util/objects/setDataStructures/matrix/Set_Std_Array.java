@@ -37,7 +37,9 @@ package util.objects.setDataStructures.matrix;
 import memory.IEnvironment;
 import memory.IStateBool;
 import memory.IStateInt;
+import solver.exception.ContradictionException;
 import util.objects.setDataStructures.ISet;
+import util.procedure.IntProcedure;
 
 /**
  * Set represented by an array of backtrable booleans
@@ -123,6 +125,27 @@ public class Set_Std_Array implements ISet {
         }
     }
 
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        for (int i = 0; i < n; i++) {
+            if (elements[i].get()) {
+                procedure.execute(i);
+            }
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        int k = 0;
+        int s = size.get();
+        for (int i = 0; i < n && k < s; i++) {
+            if (elements[i].get()) {
+                array[k++] = i;
+            }
+        }
+        return k;
+    }
+
     @Override
     public int getFirstElement() {
         current = 0;
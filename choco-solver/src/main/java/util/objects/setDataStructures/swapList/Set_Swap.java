@@ -27,7 +27,9 @@
 
 package util.objects.setDataStructures.swapList;
 
+import solver.exception.ContradictionException;
 import util.objects.setDataStructures.ISet;
+import util.procedure.IntProcedure;
 
 /**
  * List of m elements based on Array int_swaping
@@ -88,6 +90,24 @@ public abstract class Set_Swap implements ISet {
         setSize(0);
     }
 
+    /**
+     * Iterates from the last position down to the first one,
+     * so that removing the current element (which swaps it with the last one) is safe.
+     */
+    @Override
+    public void forEach(IntProcedure procedure) throws ContradictionException {
+        for (int i = getSize() - 1; i >= 0; i--) {
+            procedure.execute(array[i]);
+        }
+    }
+
+    @Override
+    public int toArray(int[] array) {
+        int size = getSize();
+        System.arraycopy(this.array, 0, array, 0, size);
+        return size;
+    }
+
     // --- Iterations
     @Override
     public int getFirstElement() {
@@ -38,10 +38,14 @@ import solver.constraints.IntConstraintFactory;
 import solver.constraints.nary.cnf.ALogicTree;
 import solver.constraints.nary.cnf.Literal;
 import solver.constraints.nary.cnf.Node;
+import solver.constraints.nary.cnf.SatConstraint;
 import solver.exception.ContradictionException;
+import solver.explanations.ExplanationFactory;
+import solver.explanations.strategies.ClauseLearning;
 import solver.search.strategy.IntStrategyFactory;
 import solver.variables.BoolVar;
 import solver.variables.VariableFactory;
+import util.ESat;
 
 import java.util.Random;
 
@@ -296,5 +300,102 @@ public class ClauseTest {
 
     }
 
+    @Test(groups = "1s")
+    public void testSat1() {
+        int nSol = 1;
+        for (int n = 1; n < 12; n++) {
+            for (int i = 0; i <= n; i++) {
+                Solver s = new Solver();
+                BoolVar[] bs = new BoolVar[n];
+                Literal[] lits = new Literal[n];
+                for (int j = 0; j < n; j++) {
+                    bs[j] = VariableFactory.bool("b" + j, s);
+                    if (j < i) {
+                        lits[j] = Literal.pos(bs[j]);
+                    } else {
+                        lits[j] = Literal.neg(bs[j]);
+                    }
+                }
+                s.post(IntConstraintFactory.sat(Node.or(lits), s));
+                s.set(IntStrategyFactory.presetI(bs));
+                s.findAllSolutions();
+                Assert.assertEquals(s.getMeasures().getSolutionCount(), nSol);
+            }
+            nSol = nSol * 2 + 1;
+        }
+    }
 
+    private static ALogicTree random3CNF(BoolVar[] bs, int nbClauses, Random rand) {
+        ALogicTree[] clauses = new ALogicTree[nbClauses];
+        for (int c = 0; c < nbClauses; c++) {
+            Literal[] lits = new Literal[3];
+            for (int l = 0; l < 3; l++) {
+                BoolVar b = bs[rand.nextInt(bs.length)];
+                lits[l] = rand.nextBoolean() ? Literal.pos(b) : Literal.neg(b);
+            }
+            clauses[c] = Node.or(lits);
+        }
+        return Node.and(clauses);
+    }
+
+    @Test(groups = "1s")
+    public void testSatRandom() {
+        for (int seed = 0; seed < 50; seed++) {
+            long[] n = new long[3];
+            for (int k = 0; k < 3; k++) {
+                Solver s = new Solver();
+                BoolVar[] bs = VariableFactory.boolArray("b", 12, s);
+                ALogicTree tree = random3CNF(bs, 40, new Random(seed));
+                if (k == 0) {
+                    s.post(IntConstraintFactory.clauses(tree, s));
+                } else {
+                    SatConstraint sat = IntConstraintFactory.sat(tree, s);
+                    s.post(sat);
+                    if (k == 2) {
+                        ExplanationFactory.SILENT.plugin(s, false);
+                        new ClauseLearning(s.getExplainer(), sat.getPropSat());
+                    }
+                }
+                s.set(IntStrategyFactory.random(bs, seed));
+                s.findAllSolutions();
+                n[k] = s.getMeasures().getSolutionCount();
+            }
+            Assert.assertEquals(n[1], n[0], String.format("seed: %d", seed));
+            Assert.assertEquals(n[2], n[0], String.format("seed: %d", seed));
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testSatLongChain() {
+        // b0 -> b1 -> ... -> bn : instantiating b0 to true propagates along the whole chain
+        int n = 20000;
+        Solver s = new Solver();
+        BoolVar[] bs = VariableFactory.boolArray("b", n, s);
+        ALogicTree[] clauses = new ALogicTree[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            clauses[i] = Node.or(Literal.neg(bs[i]), Literal.pos(bs[i + 1]));
+        }
+        s.post(IntConstraintFactory.sat(Node.and(clauses), s));
+        try {
+            s.propagate();
+            bs[0].instantiateTo(1, Cause.Null);
+            s.propagate();
+        } catch (ContradictionException e) {
+            Assert.fail();
+        }
+        Assert.assertTrue(bs[n - 1].instantiatedTo(1));
+    }
+
+    @Test(groups = "1s")
+    public void testSatIsSatisfied() {
+        Solver s = new Solver();
+        BoolVar[] bs = VariableFactory.boolArray("b", 3, s);
+        ALogicTree tree = Node.and(Node.or(Literal.pos(bs[0]), Literal.neg(bs[1])), Literal.pos(bs[2]));
+        SatConstraint sat = new SatConstraint(bs, s);
+        sat.addClauses(tree);
+        Assert.assertEquals(sat.isSatisfied(new int[]{1, 1, 1}), ESat.TRUE);
+        Assert.assertEquals(sat.isSatisfied(new int[]{0, 0, 1}), ESat.TRUE);
+        Assert.assertEquals(sat.isSatisfied(new int[]{0, 1, 1}), ESat.FALSE);
+        Assert.assertEquals(sat.isSatisfied(new int[]{1, 0, 0}), ESat.FALSE);
+    }
 }
@@ -42,6 +42,7 @@ import solver.search.strategy.IntStrategyFactory;
 import solver.variables.BoolVar;
 import solver.variables.IntVar;
 import solver.variables.VariableFactory;
+import util.tools.ArrayUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -480,4 +481,74 @@ public class ReifiedTest {
 
     }
 
+    @Test(groups = "1s")
+    public void testArithmReif() {
+        String[] ops = {"=", "!=", "<", "<=", ">", ">="};
+        for (int seed = 0; seed < 60; seed++) {
+            Random r = new Random(seed);
+            double d = r.nextDouble() / 2 + 0.5;
+            Solver s = new Solver();
+
+            BoolVar b = VariableFactory.bool("b", s);
+            int[][] values = DomainBuilder.buildFullDomains(2, 0, 15, r, d, false);
+            IntVar x = VariableFactory.enumerated("x", values[0], s);
+            IntVar y = VariableFactory.enumerated("y", values[1], s);
+            IntVar[] vars = new IntVar[]{b, x, y};
+
+            s.post(IntConstraintFactory.arithm_reif(x, ops[seed % ops.length], y, b));
+            s.set(IntStrategyFactory.presetI(vars));
+            s.findAllSolutions();
+            long sol = s.getMeasures().getSolutionCount();
+            Assert.assertEquals(sol, x.getDomainSize() * y.getDomainSize(), "nb sol incorrect");
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testScalarReif() {
+        String[] ops = {"=", "!=", "<", "<=", ">", ">="};
+        for (int seed = 0; seed < 120; seed++) {
+            Random r = new Random(seed);
+            Solver s = new Solver();
+            int n = 1 + r.nextInt(3);
+            IntVar[] xs = new IntVar[n];
+            int[] coeffs = new int[n];
+            for (int i = 0; i < n; i++) {
+                int lb = r.nextInt(7) - 3;
+                xs[i] = r.nextBoolean() ? VariableFactory.enumerated("x" + i, lb, lb + r.nextInt(5), s)
+                        : VariableFactory.bounded("x" + i, lb, lb + r.nextInt(5), s);
+                coeffs[i] = r.nextInt(7) - 3;
+            }
+            int cste = r.nextInt(9) - 4;
+            String op = ops[r.nextInt(ops.length)];
+            boolean half = r.nextBoolean();
+            BoolVar b = VariableFactory.bool("b", s);
+            s.post(half ? IntConstraintFactory.scalar_imp(xs, coeffs, op, cste, b)
+                    : IntConstraintFactory.scalar_reif(xs, coeffs, op, cste, b));
+
+            // count the solutions by enumeration
+            long size = 1, nbSat = 0;
+            for (int i = 0; i < n; i++) {
+                size *= xs[i].getDomainSize();
+            }
+            int[] tuple = new int[n];
+            for (long t = 0; t < size; t++) {
+                long k = t;
+                int sum = 0;
+                for (int i = 0; i < n; i++) {
+                    tuple[i] = xs[i].getLB() + (int) (k % xs[i].getDomainSize());
+                    k /= xs[i].getDomainSize();
+                    sum += coeffs[i] * tuple[i];
+                }
+                if (op.equals("=") ? sum == cste : op.equals("!=") ? sum != cste : op.equals("<") ? sum < cste
+                        : op.equals("<=") ? sum <= cste : op.equals(">") ? sum > cste : sum >= cste) {
+                    nbSat++;
+                }
+            }
+            long expected = half ? nbSat + size : size;
+
+            s.set(IntStrategyFactory.random(ArrayUtils.append(xs, new IntVar[]{b}), seed));
+            s.findAllSolutions();
+            Assert.assertEquals(s.getMeasures().getSolutionCount(), expected, "seed " + seed);
+        }
+    }
 }
@@ -35,7 +35,11 @@ import solver.constraints.IntConstraintFactory;
 import solver.exception.ContradictionException;
 import solver.variables.IntVar;
 import solver.variables.VariableFactory;
+import solver.variables.EventType;
 import solver.variables.delta.EnumDelta;
+import solver.variables.delta.IIntDeltaMonitor;
+import util.procedure.SafeIntProcedure;
+import util.procedure.SafeIntervalProcedure;
 
 /**
  * <br/>
@@ -73,4 +77,38 @@ public class DeltaTest {
 
     }
 
+    @Test(groups = "1s")
+    public void testBulkRemoval() throws ContradictionException {
+        Solver solver = new Solver();
+        IntVar x = VariableFactory.enumerated("X", 0, 200, solver);
+        IIntDeltaMonitor monitor = x.monitorDelta(Cause.Null);
+        monitor.freeze();
+        monitor.unfreeze();
+
+        x.removeValue(20, Cause.Null);
+        x.updateLowerBound(50, Cause.Null);
+        x.updateUpperBound(150, Cause.Null);
+        x.removeInterval(70, 79, Cause.Null);
+
+        final int[] count = new int[2];
+        monitor.freeze();
+        monitor.forEachInterval(new SafeIntervalProcedure() {
+            @Override
+            public void execute(int lb, int ub) {
+                count[0]++;
+            }
+        }, EventType.REMOVE);
+        monitor.forEach(new SafeIntProcedure() {
+            @Override
+            public void execute(int i) {
+                count[1]++;
+            }
+        }, EventType.REMOVE);
+        monitor.unfreeze();
+        // 20, [0,19], [21,49], [151,200], [70,79]
+        Assert.assertEquals(count[0], 5);
+        Assert.assertEquals(count[1], 201 - 101 + 10);
+        Assert.assertEquals(x.getDomainSize(), 91);
+    }
+
 }
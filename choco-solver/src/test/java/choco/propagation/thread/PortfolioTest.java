@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package choco.propagation.thread;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.ResolutionPolicy;
+import solver.Solver;
+import solver.constraints.Constraint;
+import solver.constraints.IntConstraintFactory;
+import solver.constraints.propagators.Propagator;
+import solver.constraints.propagators.PropagatorPriority;
+import solver.exception.ContradictionException;
+import solver.objective.ObjectiveManager;
+import solver.objective.SharedBound;
+import solver.search.measure.IMeasures;
+import solver.thread.CopyWorkerFactory;
+import solver.thread.IWorkerFactory;
+import solver.thread.Portfolio;
+import solver.variables.EventType;
+import solver.variables.IntVar;
+import solver.variables.Variable;
+import solver.variables.VariableFactory;
+import util.ESat;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class PortfolioTest {
+
+    private static IntVar[] queens(int n, Solver solver) {
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < vars.length; i++) {
+            vars[i] = VariableFactory.enumerated("Q_" + i, 1, n, solver);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                solver.post(IntConstraintFactory.arithm(vars[i], "!=", vars[j]));
+                solver.post(IntConstraintFactory.arithm(vars[i], "!=", vars[j], "+", -k));
+                solver.post(IntConstraintFactory.arithm(vars[i], "!=", vars[j], "+", k));
+            }
+        }
+        return vars;
+    }
+
+    @Test(groups = "1s")
+    public void testSatisfaction() {
+        final int n = 12;
+        Portfolio portfolio = new Portfolio(new IWorkerFactory() {
+            @Override
+            public Solver make(int worker) {
+                Solver solver = new Solver("worker " + worker);
+                Portfolio.diversify(solver, queens(n, solver), worker);
+                return solver;
+            }
+        }, 6, 3);
+        Solver best = portfolio.solve();
+        Assert.assertNotNull(best);
+        Assert.assertTrue(portfolio.isCompleteSearch());
+        Assert.assertEquals(best, portfolio.getWorkers()[portfolio.getWinner()]);
+        Assert.assertEquals(best.isFeasible(), ESat.TRUE);
+        Assert.assertEquals(portfolio.getMeasures().length, 6);
+        Assert.assertNull(portfolio.getSharedBound());
+    }
+
+    @Test(groups = "1s")
+    public void testCopyWorkerFactory() {
+        final int n = 10;
+        Solver model = new Solver("queens");
+        queens(n, model);
+        Portfolio portfolio = new Portfolio(new CopyWorkerFactory(model) {
+            @Override
+            protected void configure(Solver copy, int worker) {
+                Variable[] vars = copy.getVars();
+                IntVar[] qs = new IntVar[n];
+                for (int i = 0; i < n; i++) {
+                    qs[i] = (IntVar) vars[i];
+                }
+                Portfolio.diversify(copy, qs, worker);
+            }
+        }, 4);
+        Solver best = portfolio.solve();
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.isFeasible(), ESat.TRUE);
+        Assert.assertNotSame(best, model);
+        Assert.assertEquals(model.getMeasures().getSolutionCount(), 0);
+    }
+
+    @Test(groups = "1s")
+    public void testUnsatisfiable() {
+        final int n = 3;
+        Portfolio portfolio = new Portfolio(new IWorkerFactory() {
+            @Override
+            public Solver make(int worker) {
+                Solver solver = new Solver("worker " + worker);
+                Portfolio.diversify(solver, queens(n, solver), worker);
+                return solver;
+            }
+        }, 4);
+        Assert.assertNull(portfolio.solve());
+        Assert.assertTrue(portfolio.isCompleteSearch());
+    }
+
+    @Test(groups = "1s")
+    public void testOptimization() {
+        final int n = 8;
+        Solver ref = new Solver();
+        IntVar[] rvars = queens(n, ref);
+        IntVar robj = VariableFactory.bounded("obj", 0, n * n, ref);
+        ref.post(IntConstraintFactory.sum(new IntVar[]{rvars[2], rvars[5]}, robj));
+        ref.findOptimalSolution(ResolutionPolicy.MAXIMIZE, robj);
+
+        Portfolio portfolio = new Portfolio(new IWorkerFactory() {
+            @Override
+            public Solver make(int worker) {
+                Solver solver = new Solver("worker " + worker);
+                IntVar[] vars = queens(n, solver);
+                IntVar obj = VariableFactory.bounded("obj", 0, n * n, solver);
+                solver.post(IntConstraintFactory.sum(new IntVar[]{vars[2], vars[5]}, obj));
+                Portfolio.diversify(solver, vars, worker);
+                solver.getSearchLoop().setObjectivemanager(new ObjectiveManager(obj, ResolutionPolicy.MAXIMIZE, solver));
+                return solver;
+            }
+        }, 4);
+        Solver best = portfolio.solve();
+        Assert.assertNotNull(best);
+        Assert.assertTrue(portfolio.isCompleteSearch());
+        Assert.assertEquals(best.getMeasures().getObjectiveValue(), ref.getMeasures().getObjectiveValue());
+        Assert.assertEquals(portfolio.getSharedBound().get(), ref.getMeasures().getObjectiveValue());
+        for (IMeasures m : portfolio.getMeasures()) {
+            Assert.assertNotNull(m);
+        }
+    }
+
+    /**
+     * A propagator which never ends, unless the resolution is cancelled.
+     */
+    private static class PropEndless extends Propagator<IntVar> {
+
+        PropEndless(IntVar[] vars) {
+            super(vars, PropagatorPriority.UNARY, false);
+        }
+
+        @Override
+        public int getPropagationConditions(int vIdx) {
+            return EventType.INT_ALL_MASK();
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            while (true) {
+                checkCancellation();
+            }
+        }
+
+        @Override
+        public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+            propagate(0);
+        }
+
+        @Override
+        public ESat isEntailed() {
+            return ESat.UNDEFINED;
+        }
+    }
+
+    private static Solver endless(int worker) {
+        Solver solver = new Solver("worker " + worker);
+        IntVar[] vars = queens(4, solver);
+        Constraint<IntVar, Propagator<IntVar>> c = new Constraint<IntVar, Propagator<IntVar>>(vars, solver);
+        c.setPropagators(new PropEndless(vars));
+        solver.post(c);
+        Portfolio.diversify(solver, vars, worker);
+        return solver;
+    }
+
+    @Test(groups = "1s")
+    public void testCancelStuckWorker() {
+        Portfolio portfolio = new Portfolio(new IWorkerFactory() {
+            @Override
+            public Solver make(int worker) {
+                if (worker == 0) {
+                    Solver solver = new Solver("worker " + worker);
+                    Portfolio.diversify(solver, queens(8, solver), worker);
+                    return solver;
+                }
+                return endless(worker);
+            }
+        }, 2);
+        long t = System.currentTimeMillis();
+        Solver best = portfolio.solve();
+        Assert.assertTrue(System.currentTimeMillis() - t < 5000);
+        Assert.assertEquals(portfolio.getWinner(), 0);
+        Assert.assertEquals(best, portfolio.getWorkers()[0]);
+        Assert.assertFalse(portfolio.getWorkers()[1].isCompleteSearch());
+    }
+
+    @Test(groups = "1s")
+    public void testTimeLimit() {
+        Portfolio portfolio = new Portfolio(new IWorkerFactory() {
+            @Override
+            public Solver make(int worker) {
+                return endless(worker);
+            }
+        }, 2);
+        portfolio.setTimeLimit(100);
+        long t = System.currentTimeMillis();
+        Assert.assertNull(portfolio.solve());
+        Assert.assertTrue(System.currentTimeMillis() - t < 5000);
+        Assert.assertFalse(portfolio.isCompleteSearch());
+    }
+
+    @Test(groups = "1s")
+    public void testSharedBound() {
+        SharedBound bound = new SharedBound(ResolutionPolicy.MINIMIZE);
+        Assert.assertFalse(bound.isSet());
+        Assert.assertTrue(bound.offer(10));
+        Assert.assertFalse(bound.offer(12));
+        Assert.assertTrue(bound.offer(7));
+        Assert.assertEquals(bound.get(), 7);
+        Assert.assertTrue(bound.isSet());
+    }
+}
@@ -27,9 +27,11 @@
 
 package choco.propagation.thread;
 
+import memory.Environments;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import solver.Solver;
+import solver.SolverProperties;
 import solver.constraints.Constraint;
 import solver.constraints.IntConstraintFactory;
 import solver.thread.ThreadSolver;
@@ -117,4 +119,37 @@ public class ThreadSolverTest {
         }
     }
 
+    @Test(groups = "1m")
+    public void testCopying() throws InterruptedException {
+        int n = 10;
+        Solver sref = modeler(n);
+        sref.findAllSolutions();
+
+        ThreadSolver[] solvers = new ThreadSolver[4];
+        for (int i = 0; i < solvers.length; i++) {
+            Solver solver = new Solver(Environments.COPY.make(), "copy " + i, SolverProperties.DEFAULT);
+            IntVar[] vars = new IntVar[n];
+            for (int j = 0; j < vars.length; j++) {
+                vars[j] = VariableFactory.enumerated("Q_" + j, 1, n, solver);
+            }
+            for (int j = 0; j < n - 1; j++) {
+                for (int k = j + 1; k < n; k++) {
+                    solver.post(IntConstraintFactory.arithm(vars[j], "!=", vars[k]));
+                    solver.post(IntConstraintFactory.arithm(vars[j], "!=", vars[k], "+", j - k));
+                    solver.post(IntConstraintFactory.arithm(vars[j], "!=", vars[k], "+", k - j));
+                }
+            }
+            solvers[i] = new ThreadSolver(solver);
+        }
+        for (int i = 0; i < solvers.length; i++) {
+            solvers[i].findAllSolutions();
+        }
+        for (int i = 0; i < solvers.length; i++) {
+            solvers[i].join();
+        }
+        for (int i = 0; i < solvers.length; i++) {
+            Assert.assertEquals(solvers[i].solver.getMeasures().getSolutionCount(), sref.getMeasures().getSolutionCount());
+        }
+    }
+
 }
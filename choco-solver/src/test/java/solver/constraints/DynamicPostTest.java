@@ -111,4 +111,51 @@ public class DynamicPostTest {
         solver.findAllSolutions();
         Assert.assertEquals(2, solver.getMeasures().getSolutionCount());
     }
+
+    @Test(groups = "1s")
+    public void test3() {
+        final Solver solver = new Solver();
+        final IntVar X = VariableFactory.enumerated("X", 1, 2, solver);
+        final IntVar Y = VariableFactory.enumerated("Y", 1, 2, solver);
+        final IntVar Z = VariableFactory.enumerated("Z", 1, 2, solver);
+        final Constraint c1 = IntConstraintFactory.arithm(X, "=", Y);
+        final Constraint c2 = IntConstraintFactory.arithm(Y, "=", Z);
+        solver.post(c1);
+        solver.post(c2);
+        solver.unpost(c2);
+        solver.set(engine.make(solver));
+        solver.findAllSolutions();
+        Assert.assertEquals(4, solver.getMeasures().getSolutionCount());
+        Assert.assertEquals(1, solver.getNbCstrs());
+    }
+
+    @Test(groups = "1s")
+    public void test4() {
+        final Solver solver = new Solver();
+        final IntVar[] X = VariableFactory.enumeratedArray("X", 12, 0, 1, solver);
+        solver.getSearchLoop().plugSearchMonitor(new IMonitorOpenNode() {
+            @Override
+            public void beforeOpenNode() {
+            }
+
+            @Override
+            public void afterOpenNode() {
+                if (solver.getMeasures().getNodeCount() == 1) {
+                    // many additions in a row, then removal of half of them
+                    Constraint[] cs = new Constraint[X.length - 1];
+                    for (int i = 0; i < X.length - 1; i++) {
+                        cs[i] = IntConstraintFactory.arithm(X[i], "<=", X[i + 1]);
+                        solver.postCut(cs[i]);
+                    }
+                    for (int i = 0; i < X.length - 1; i += 2) {
+                        solver.unpost(cs[i]);
+                    }
+                }
+            }
+        });
+        solver.set(PropagationEngineFactory.PROPAGATORDRIVEN.make(solver));
+        solver.findAllSolutions();
+        // 5 independent pairs X[2k+1] <= X[2k+2], plus X[0] and X[11] free
+        Assert.assertEquals(243 * 4, solver.getMeasures().getSolutionCount());
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.nary;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Cause;
+import solver.Solver;
+import solver.constraints.IntConstraintFactory;
+import solver.exception.ContradictionException;
+import solver.search.strategy.IntStrategyFactory;
+import solver.variables.IntVar;
+import solver.variables.Task;
+import solver.variables.VariableFactory;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class CumulativeTest {
+
+    private static long solve(int[] durations, int[] heights, int capacity, int horizon, long seed) {
+        int n = durations.length;
+        Solver solver = new Solver();
+        IntVar[] starts = VariableFactory.enumeratedArray("s", n, 0, horizon, solver);
+        IntVar[] ends = new IntVar[n];
+        IntVar[] hs = new IntVar[n];
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            ends[i] = VariableFactory.bounded("e_" + i, 0, horizon + durations[i], solver);
+            hs[i] = VariableFactory.fixed(heights[i], solver);
+            tasks[i] = VariableFactory.task(starts[i], VariableFactory.fixed(durations[i], solver), ends[i]);
+        }
+        solver.post(IntConstraintFactory.cumulative(tasks, hs, VariableFactory.fixed(capacity, solver)));
+        solver.set(IntStrategyFactory.random(starts, seed));
+        solver.findAllSolutions();
+        return solver.getMeasures().getSolutionCount();
+    }
+
+    private static long bruteForce(int[] durations, int[] heights, int capacity, int horizon) {
+        int n = durations.length;
+        int[] starts = new int[n];
+        long count = 0;
+        while (true) {
+            boolean ok = true;
+            for (int t = 0; t < horizon + 3 && ok; t++) {
+                int load = 0;
+                for (int i = 0; i < n; i++) {
+                    if (starts[i] <= t && t < starts[i] + durations[i]) {
+                        load += heights[i];
+                    }
+                }
+                ok = load <= capacity;
+            }
+            if (ok) {
+                count++;
+            }
+            int i = 0;
+            while (i < n && starts[i] == horizon) {
+                starts[i++] = 0;
+            }
+            if (i == n) {
+                return count;
+            }
+            starts[i]++;
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testCumulative() {
+        Random rand = new Random();
+        for (int seed = 0; seed < 30; seed++) {
+            rand.setSeed(seed);
+            int n = 2 + rand.nextInt(4);
+            int[] durations = new int[n];
+            int[] heights = new int[n];
+            for (int i = 0; i < n; i++) {
+                durations[i] = 1 + rand.nextInt(3);
+                heights[i] = 1 + rand.nextInt(3);
+            }
+            int capacity = 1 + rand.nextInt(4);
+            int horizon = 2 + rand.nextInt(4);
+            Assert.assertEquals(solve(durations, heights, capacity, horizon, seed),
+                    bruteForce(durations, heights, capacity, horizon));
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testTimeTable() throws ContradictionException {
+        Solver solver = new Solver();
+        IntVar s1 = VariableFactory.bounded("s1", 0, 1, solver);
+        IntVar s2 = VariableFactory.bounded("s2", 0, 5, solver);
+        IntVar d1 = VariableFactory.fixed(3, solver);
+        IntVar d2 = VariableFactory.fixed(2, solver);
+        Task[] tasks = {
+                VariableFactory.task(s1, d1, VariableFactory.bounded("e1", 0, 10, solver)),
+                VariableFactory.task(s2, d2, VariableFactory.bounded("e2", 0, 10, solver))
+        };
+        IntVar one = VariableFactory.fixed(1, solver);
+        solver.post(IntConstraintFactory.cumulative(tasks, new IntVar[]{one, one}, one));
+        solver.propagate();
+        // the compulsory part of the first task is [1,3[
+        Assert.assertEquals(s2.getLB(), 3);
+    }
+
+    @Test(groups = "1s")
+    public void testEdgeFinding() throws ContradictionException {
+        Solver solver = new Solver();
+        IntVar s1 = VariableFactory.bounded("s1", 0, 2, solver);
+        IntVar s2 = VariableFactory.bounded("s2", 0, 2, solver);
+        IntVar s3 = VariableFactory.bounded("s3", 0, 10, solver);
+        Task[] tasks = {
+                VariableFactory.task(s1, VariableFactory.fixed(3, solver), VariableFactory.bounded("e1", 0, 5, solver)),
+                VariableFactory.task(s2, VariableFactory.fixed(2, solver), VariableFactory.bounded("e2", 0, 4, solver)),
+                VariableFactory.task(s3, VariableFactory.fixed(2, solver), VariableFactory.bounded("e3", 0, 12, solver))
+        };
+        IntVar one = VariableFactory.fixed(1, solver);
+        solver.post(IntConstraintFactory.cumulative(tasks, new IntVar[]{one, one, one}, one));
+        solver.propagate();
+        // the first two tasks fill [0,5[, time-tabling alone cannot deduce it
+        Assert.assertEquals(s3.getLB(), 5);
+    }
+
+    @Test(groups = "1s")
+    public void testTimeTableBacktrack() throws ContradictionException {
+        Solver solver = new Solver();
+        IntVar s1 = VariableFactory.bounded("s1", 0, 4, solver);
+        IntVar s2 = VariableFactory.bounded("s2", 0, 5, solver);
+        Task[] tasks = {
+                VariableFactory.task(s1, VariableFactory.fixed(3, solver), VariableFactory.bounded("e1", 0, 10, solver)),
+                VariableFactory.task(s2, VariableFactory.fixed(2, solver), VariableFactory.bounded("e2", 0, 10, solver))
+        };
+        IntVar one = VariableFactory.fixed(1, solver);
+        solver.post(IntConstraintFactory.cumulative(tasks, new IntVar[]{one, one}, one));
+        solver.propagate();
+        Assert.assertEquals(s2.getLB(), 0);
+        Assert.assertEquals(s2.getUB(), 5);
+        solver.getEnvironment().worldPush();
+        s1.instantiateTo(1, Cause.Null);
+        solver.propagate();
+        // the compulsory part of the first task is [1,4[
+        Assert.assertEquals(s2.getLB(), 4);
+        Assert.assertEquals(s2.getUB(), 5);
+        solver.getEnvironment().worldPop();
+        solver.getEnvironment().worldPush();
+        s1.instantiateTo(3, Cause.Null);
+        solver.propagate();
+        // the profile must not be the one of the previous branch: the compulsory part is now [3,6[
+        Assert.assertEquals(s2.getLB(), 0);
+        Assert.assertEquals(s2.getUB(), 1);
+        solver.getEnvironment().worldPop();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.nary;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Solver;
+import solver.constraints.IntConstraintFactory;
+import solver.exception.ContradictionException;
+import solver.search.strategy.IntStrategyFactory;
+import solver.variables.IntVar;
+import solver.variables.Task;
+import solver.variables.VariableFactory;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class DisjunctiveTest {
+
+    private static long solve(int[] durations, int horizon, long seed) {
+        int n = durations.length;
+        Solver solver = new Solver();
+        IntVar[] starts = VariableFactory.enumeratedArray("s", n, 0, horizon, solver);
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            tasks[i] = VariableFactory.task(starts[i], VariableFactory.fixed(durations[i], solver),
+                    VariableFactory.bounded("e_" + i, 0, horizon + durations[i], solver));
+        }
+        solver.post(IntConstraintFactory.disjunctive(tasks));
+        solver.set(IntStrategyFactory.random(starts, seed));
+        solver.findAllSolutions();
+        return solver.getMeasures().getSolutionCount();
+    }
+
+    private static long bruteForce(int[] durations, int horizon) {
+        int n = durations.length;
+        int[] starts = new int[n];
+        long count = 0;
+        while (true) {
+            boolean ok = true;
+            for (int i = 0; i < n && ok; i++) {
+                for (int j = i + 1; j < n && ok; j++) {
+                    ok = starts[i] + durations[i] <= starts[j] || starts[j] + durations[j] <= starts[i];
+                }
+            }
+            if (ok) {
+                count++;
+            }
+            int i = 0;
+            while (i < n && starts[i] == horizon) {
+                starts[i++] = 0;
+            }
+            if (i == n) {
+                return count;
+            }
+            starts[i]++;
+        }
+    }
+
+    private static Task task(IntVar start, int duration, int lct, Solver solver) {
+        return VariableFactory.task(start, VariableFactory.fixed(duration, solver),
+                VariableFactory.bounded("e_" + start.getName(), 0, lct, solver));
+    }
+
+    @Test(groups = "1s")
+    public void testDisjunctive() {
+        Random rand = new Random();
+        for (int seed = 0; seed < 30; seed++) {
+            rand.setSeed(seed);
+            int n = 2 + rand.nextInt(4);
+            int[] durations = new int[n];
+            for (int i = 0; i < n; i++) {
+                durations[i] = 1 + rand.nextInt(3);
+            }
+            int horizon = 3 + rand.nextInt(5);
+            Assert.assertEquals(solve(durations, horizon, seed), bruteForce(durations, horizon));
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testDetectablePrecedences() throws ContradictionException {
+        Solver solver = new Solver();
+        // no compulsory part: time-tabling cannot filter anything
+        IntVar a = VariableFactory.bounded("a", 0, 4, solver);
+        IntVar b = VariableFactory.bounded("b", 0, 7, solver);
+        solver.post(IntConstraintFactory.disjunctive(new Task[]{task(a, 3, 7, solver), task(b, 5, 12, solver)}));
+        solver.propagate();
+        // ect(b) = 5 > lst(a) = 4: a precedes b
+        Assert.assertEquals(b.getLB(), 3);
+        Assert.assertEquals(b.getUB(), 7);
+        Assert.assertEquals(a.getLB(), 0);
+        Assert.assertEquals(a.getUB(), 4);
+    }
+
+    @Test(groups = "1s")
+    public void testNotLast() throws ContradictionException {
+        Solver solver = new Solver();
+        IntVar a = VariableFactory.bounded("a", 0, 5, solver);
+        IntVar b = VariableFactory.bounded("b", 0, 6, solver);
+        IntVar c = VariableFactory.bounded("c", 0, 6, solver);
+        Task ta = task(a, 2, 7, solver);
+        solver.post(IntConstraintFactory.disjunctive(new Task[]{ta, task(b, 3, 9, solver), task(c, 3, 9, solver)}));
+        solver.propagate();
+        // ect({b,c}) = 6 > lst(a) = 5: a cannot be last, and ends before max(lst(b), lst(c)) = 6
+        Assert.assertEquals(ta.getEnd().getUB(), 6);
+        Assert.assertEquals(a.getUB(), 4);
+        // a may still be processed first or between b and c
+        Assert.assertEquals(a.getLB(), 0);
+        Assert.assertEquals(b.getLB(), 0);
+        Assert.assertEquals(b.getUB(), 6);
+        Assert.assertEquals(c.getLB(), 0);
+        Assert.assertEquals(c.getUB(), 6);
+    }
+
+    @Test(groups = "1s")
+    public void testEdgeFinding() throws ContradictionException {
+        Solver solver = new Solver();
+        IntVar a = VariableFactory.bounded("a", 0, 2, solver);
+        IntVar b = VariableFactory.bounded("b", 0, 2, solver);
+        IntVar c = VariableFactory.bounded("c", 0, 10, solver);
+        solver.post(IntConstraintFactory.disjunctive(new Task[]{
+                task(a, 3, 5, solver), task(b, 2, 4, solver), task(c, 2, 100, solver)}));
+        solver.propagate();
+        // a and b fill [0,5[, c comes after them
+        Assert.assertEquals(c.getLB(), 5);
+        Assert.assertEquals(c.getUB(), 10);
+        // b ends before lst(a) = 2, which is then detected as preceding a
+        Assert.assertTrue(a.instantiatedTo(2));
+        Assert.assertTrue(b.instantiatedTo(0));
+    }
+
+    @Test(groups = "1s")
+    public void testOverload() {
+        Solver solver = new Solver();
+        IntVar a = VariableFactory.bounded("a", 0, 2, solver);
+        IntVar b = VariableFactory.bounded("b", 0, 2, solver);
+        IntVar d = VariableFactory.fixed(3, solver);
+        solver.post(IntConstraintFactory.disjunctive(new Task[]{
+                VariableFactory.task(a, d, VariableFactory.bounded("ea", 0, 5, solver)),
+                VariableFactory.task(b, d, VariableFactory.bounded("eb", 0, 5, solver))}));
+        // 6 units of time are needed within [0,5[
+        Assert.assertFalse(solver.findSolution());
+    }
+}
@@ -32,6 +32,9 @@ import org.testng.annotations.Test;
 import solver.Solver;
 import solver.constraints.Constraint;
 import solver.constraints.IntConstraintFactory;
+import solver.constraints.propagators.nary.sum.PropScalarEq;
+import solver.constraints.propagators.nary.sum.PropSumEq;
+import solver.exception.ContradictionException;
 import solver.search.strategy.IntStrategyFactory;
 import solver.variables.IntVar;
 import solver.variables.VariableFactory;
@@ -54,12 +57,8 @@ public class SumTests {
         for (int seed = 0; seed < 20; seed++) {
             random.setSeed(seed);
             int[][] dom = DomainBuilder.buildFullDomains(random.nextInt(m) + 2, -random.nextInt(b), random.nextInt(b) + 1);
-            Sum.BIG_SUM_SIZE = 100;
-            Sum.BIG_SUM_GROUP = 100;
-            Solver view = sum(dom, seed, 0);
-            Sum.BIG_SUM_SIZE = 1;
-            Sum.BIG_SUM_GROUP = 2;
-            Solver cons = sum(dom, seed, 0);
+            Solver view = sum(dom, seed, 0, false);
+            Solver cons = sum(dom, seed, 0, true);
             view.findAllSolutions();
             cons.findAllSolutions();
             Assert.assertEquals(view.getMeasures().getSolutionCount(), cons.getMeasures().getSolutionCount(), "S - seed:" + seed);
@@ -69,7 +68,7 @@ public class SumTests {
         }
     }
 
-    private Solver sum(int[][] dom, int seed, int inc) {
+    private Solver sum(int[][] dom, int seed, int inc, boolean incremental) {
         Random rand = new Random(seed);
         Solver solver = new Solver();
         int n = dom[0].length - 1;
@@ -84,7 +83,7 @@ public class SumTests {
         for (int i = 1; i < dom.length; i++) {
             coeffs[i - 1] /= (fact);
         }
-        Constraint c = IntConstraintFactory.scalar(x, coeffs, r);
+        Constraint c = incremental ? IntConstraintFactory.scalar(x, coeffs, r) : sumEq(x, coeffs, r, solver);
         solver.post(c);
 //        System.out.printf("%s\n", solver);
 
@@ -93,4 +92,55 @@ public class SumTests {
         return solver;
     }
 
+    /**
+     * SUM(coeffs[i].x[i]) = r, propagated by {@link PropSumEq}, the non-incremental propagator.
+     */
+    private static Constraint sumEq(IntVar[] x, int[] coeffs, IntVar r, Solver solver) {
+        // PropSumEq expects non-null coefficients, the positive ones first
+        int n = 1;
+        for (int i = 0; i < coeffs.length; i++) {
+            if (coeffs[i] != 0) {
+                n++;
+            }
+        }
+        IntVar[] vars = new IntVar[n];
+        int[] cs = new int[n];
+        int b = 0, e = n;
+        for (int i = 0; i < coeffs.length; i++) {
+            if (coeffs[i] > 0) {
+                vars[b] = x[i];
+                cs[b++] = coeffs[i];
+            } else if (coeffs[i] < 0) {
+                vars[--e] = x[i];
+                cs[e] = coeffs[i];
+            }
+        }
+        vars[--e] = r;
+        cs[e] = -1;
+        Constraint c = new Constraint(vars, solver);
+        c.setPropagators(new PropSumEq(vars, cs, b, 0));
+        return c;
+    }
+
+    @Test(groups = "1s")
+    public void testLargeCoefficients() throws ContradictionException {
+        Solver solver = new Solver();
+        IntVar x = VariableFactory.bounded("x", 0, 3000, solver);
+        IntVar y = VariableFactory.bounded("y", 10, 20, solver);
+        // 3000 * 1000000 does not fit in an int
+        solver.post(Sum.build(new IntVar[]{x, y}, new int[]{1000000, -1000000}, 0, solver));
+        solver.propagate();
+        Assert.assertEquals(x.getLB(), 10);
+        Assert.assertEquals(x.getUB(), 20);
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getMeasures().getSolutionCount(), 11);
+    }
+
+    @Test(groups = "1s")
+    public void testSmallSumIsIncremental() {
+        Solver solver = new Solver();
+        IntVar[] x = VariableFactory.boundedArray("x", 3, 0, 5, solver);
+        Sum sum = IntConstraintFactory.sum(x, VariableFactory.bounded("s", 0, 15, solver));
+        Assert.assertTrue(sum.getPropagator(0) instanceof PropScalarEq);
+    }
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.constraints.nary;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Solver;
+import solver.constraints.IntConstraintFactory;
+import solver.constraints.extension.LargeCSP;
+import solver.constraints.propagators.extension.nary.IterTuplesTable;
+import solver.constraints.propagators.extension.nary.LargeRelation;
+import solver.constraints.propagators.extension.nary.MultivaluedDecisionDiagram;
+import solver.constraints.propagators.extension.nary.TuplesRegistry;
+import solver.search.strategy.IntStrategyFactory;
+import solver.variables.IntVar;
+import solver.variables.VariableFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class TableTest {
+
+    private static List<int[]> randomTuples(Random rand, int n, int lb, int ub, int nbTuples) {
+        List<int[]> tuples = new ArrayList<int[]>();
+        for (int t = 0; t < nbTuples; t++) {
+            int[] tuple = new int[n];
+            for (int i = 0; i < n; i++) {
+                tuple[i] = lb + rand.nextInt(ub - lb + 1);
+            }
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
+    private static long solve(List<int[]> tuples, int n, int lb, int ub, boolean enumerated, String algo, long seed) {
+        Solver solver = new Solver();
+        IntVar[] vars = enumerated ?
+                VariableFactory.enumeratedArray("x", n, lb, ub, solver) :
+                VariableFactory.boundedArray("x", n, lb, ub, solver);
+        int[] offsets = new int[n];
+        int[] sizes = new int[n];
+        for (int i = 0; i < n; i++) {
+            offsets[i] = lb;
+            sizes[i] = ub - lb + 1;
+        }
+        LargeRelation relation = new IterTuplesTable(tuples, offsets, sizes);
+        solver.post(IntConstraintFactory.table(vars, relation, algo));
+        // a second constraint to interleave modifications
+        solver.post(IntConstraintFactory.arithm(vars[0], "<=", vars[n - 1]));
+        solver.set(IntStrategyFactory.random(vars, seed));
+        solver.findAllSolutions();
+        return solver.getMeasures().getSolutionCount();
+    }
+
+    @Test(groups = "1s")
+    public void testCompactTable() {
+        Random rand = new Random();
+        for (int seed = 0; seed < 20; seed++) {
+            rand.setSeed(seed);
+            int n = 2 + rand.nextInt(3);
+            List<int[]> tuples = randomTuples(rand, n, -2, 3, 1 + rand.nextInt(150));
+            long expected = solve(tuples, n, -2, 3, true, "AC32", seed);
+            Assert.assertEquals(solve(tuples, n, -2, 3, true, "CT", seed), expected);
+            Assert.assertEquals(solve(tuples, n, -2, 3, false, "CT", seed), expected);
+            Assert.assertEquals(solve(tuples, n, -2, 3, true, "AC2001", seed), expected);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testCompactTableSolutions() {
+        // every solution must be a tuple, even when the last instantiations are made by the propagator itself
+        Random rand = new Random();
+        for (int seed = 0; seed < 100; seed++) {
+            rand.setSeed(seed);
+            int n = 2 + rand.nextInt(3);
+            List<int[]> tuples = randomTuples(rand, n, -2, 3, 1 + rand.nextInt(150));
+            for (int k = 0; k < 2; k++) {
+                Solver solver = new Solver();
+                IntVar[] vars = k == 0 ?
+                        VariableFactory.enumeratedArray("x", n, -2, 3, solver) :
+                        VariableFactory.boundedArray("x", n, -2, 3, solver);
+                int[] offsets = new int[n];
+                int[] sizes = new int[n];
+                for (int i = 0; i < n; i++) {
+                    offsets[i] = -2;
+                    sizes[i] = 6;
+                }
+                solver.post(IntConstraintFactory.table(vars, new IterTuplesTable(tuples, offsets, sizes), "CT"));
+                solver.post(IntConstraintFactory.arithm(vars[0], "<=", vars[n - 1]));
+                solver.set(IntStrategyFactory.random(vars, seed));
+                if (solver.findSolution()) {
+                    do {
+                        int[] solution = new int[n];
+                        for (int i = 0; i < n; i++) {
+                            solution[i] = vars[i].getValue();
+                        }
+                        boolean found = false;
+                        for (int t = 0; t < tuples.size() && !found; t++) {
+                            found = Arrays.equals(tuples.get(t), solution);
+                        }
+                        Assert.assertTrue(found, "seed " + seed + ": " + Arrays.toString(solution));
+                    } while (solver.nextSolution());
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testCompactTableLarge() {
+        Random rand = new Random(0);
+        // more than 64 tuples per value, to span several words
+        List<int[]> tuples = randomTuples(rand, 3, 0, 9, 700);
+        long expected = solve(tuples, 3, 0, 9, true, "AC32", 0);
+        Assert.assertEquals(solve(tuples, 3, 0, 9, true, "CT", 0), expected);
+    }
+
+    @Test(groups = "1s")
+    public void testCompactTableEmpty() {
+        Solver solver = new Solver();
+        IntVar[] vars = VariableFactory.enumeratedArray("x", 2, 0, 2, solver);
+        List<int[]> tuples = new ArrayList<int[]>();
+        tuples.add(new int[]{3, 3});
+        solver.post(IntConstraintFactory.table(vars, new IterTuplesTable(tuples, new int[]{0, 0}, new int[]{4, 4}), "CT"));
+        Assert.assertFalse(solver.findSolution());
+    }
+
+    @Test(groups = "1s")
+    public void testSharedRelation() {
+        Random rand = new Random(0);
+        List<int[]> tuples = randomTuples(rand, 3, 0, 4, 60);
+        List<int[]> copy = new ArrayList<int[]>();
+        for (int[] tuple : tuples) {
+            copy.add(tuple.clone());
+        }
+        TuplesRegistry registry = new TuplesRegistry();
+        IterTuplesTable r1 = registry.get(tuples, new int[]{0, 0, 0}, new int[]{5, 5, 5});
+        IterTuplesTable r2 = registry.get(copy, new int[]{0, 0, 0}, new int[]{5, 5, 5});
+        IterTuplesTable r3 = registry.get(copy, new int[]{0, 0, 0}, new int[]{5, 5, 6});
+        Assert.assertSame(r2, r1);
+        Assert.assertNotSame(r3, r1);
+        Assert.assertEquals(registry.size(), 2);
+        // the registry does not depend on the tuples given
+        tuples.get(0)[0] = 4 - tuples.get(0)[0];
+        Assert.assertSame(registry.get(copy, new int[]{0, 0, 0}, new int[]{5, 5, 5}), r1);
+    }
+
+    @Test(groups = "1s")
+    public void testSharedCompactTable() {
+        Random rand = new Random(1);
+        List<int[]> tuples = randomTuples(rand, 3, 0, 4, 60);
+        Solver solver = new Solver();
+        IntVar[] x = VariableFactory.enumeratedArray("x", 3, 0, 4, solver);
+        IntVar[] y = VariableFactory.enumeratedArray("y", 3, 0, 4, solver);
+        LargeCSP c1 = IntConstraintFactory.table(x, tuples, "CT");
+        LargeCSP c2 = IntConstraintFactory.table(y, tuples, "CT");
+        Assert.assertSame(c2.getRelation(), c1.getRelation());
+        solver.post(c1, c2);
+        solver.post(IntConstraintFactory.arithm(x[0], "!=", y[0]));
+        solver.findAllSolutions();
+
+        Solver solver2 = new Solver();
+        x = VariableFactory.enumeratedArray("x", 3, 0, 4, solver2);
+        y = VariableFactory.enumeratedArray("y", 3, 0, 4, solver2);
+        int[] o = new int[]{0, 0, 0}, d = new int[]{5, 5, 5};
+        solver2.post(IntConstraintFactory.table(x, new IterTuplesTable(tuples, o, d), "AC32"));
+        solver2.post(IntConstraintFactory.table(y, new IterTuplesTable(tuples, o, d), "AC32"));
+        solver2.post(IntConstraintFactory.arithm(x[0], "!=", y[0]));
+        solver2.findAllSolutions();
+        Assert.assertEquals(solver.getMeasures().getSolutionCount(), solver2.getMeasures().getSolutionCount());
+    }
+
+    @Test(groups = "1s")
+    public void testMDD() {
+        Random rand = new Random();
+        for (int seed = 0; seed < 20; seed++) {
+            rand.setSeed(seed);
+            int n = 2 + rand.nextInt(3);
+            List<int[]> tuples = randomTuples(rand, n, -2, 3, 1 + rand.nextInt(150));
+            long expected = solve(tuples, n, -2, 3, true, "AC32", seed);
+            for (int k = 0; k < 2; k++) {
+                Solver solver = new Solver();
+                IntVar[] vars = k == 0 ?
+                        VariableFactory.enumeratedArray("x", n, -2, 3, solver) :
+                        VariableFactory.boundedArray("x", n, -2, 3, solver);
+                solver.post(IntConstraintFactory.mdd(vars, tuples));
+                solver.post(IntConstraintFactory.arithm(vars[0], "<=", vars[n - 1]));
+                solver.set(IntStrategyFactory.random(vars, seed));
+                solver.findAllSolutions();
+                Assert.assertEquals(solver.getMeasures().getSolutionCount(), expected);
+            }
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testMDDCompression() {
+        // all the tuples of {0..9}^5 whose sum is even: 50000 tuples
+        List<int[]> tuples = new ArrayList<int[]>();
+        int[] t = new int[5];
+        for (int k = 0; k < 100000; k++) {
+            int sum = 0;
+            for (int i = 0, r = k; i < 5; i++, r /= 10) {
+                t[i] = r % 10;
+                sum += t[i];
+            }
+            if (sum % 2 == 0) {
+                tuples.add(t.clone());
+            }
+        }
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(5, tuples);
+        // one node for each parity of each layer
+        Assert.assertTrue(mdd.getNbNodes() <= 2 * 5 + 1);
+        Assert.assertTrue(mdd.contains(new int[]{1, 1, 0, 0, 0}));
+        Assert.assertFalse(mdd.contains(new int[]{1, 0, 0, 0, 0}));
+
+        Solver solver = new Solver();
+        IntVar[] vars = VariableFactory.enumeratedArray("x", 5, 0, 9, solver);
+        solver.post(IntConstraintFactory.mdd(vars, mdd));
+        solver.post(IntConstraintFactory.arithm(vars[0], "=", 3));
+        solver.post(IntConstraintFactory.arithm(vars[1], "=", 4));
+        solver.post(IntConstraintFactory.arithm(vars[2], "=", 5));
+        solver.post(IntConstraintFactory.arithm(vars[3], "=", 6));
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getMeasures().getSolutionCount(), 5);
+    }
+
+    @Test(groups = "1s")
+    public void testMDDEmpty() {
+        Solver solver = new Solver();
+        IntVar[] vars = VariableFactory.enumeratedArray("x", 2, 0, 2, solver);
+        solver.post(IntConstraintFactory.mdd(vars, new ArrayList<int[]>()));
+        Assert.assertFalse(solver.findSolution());
+    }
+}
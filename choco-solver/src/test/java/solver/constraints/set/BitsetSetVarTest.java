@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.constraints.set;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Cause;
+import solver.Solver;
+import solver.exception.ContradictionException;
+import solver.search.strategy.SetStrategyFactory;
+import solver.variables.BitsetSetVarImpl;
+import solver.variables.SetVar;
+import solver.variables.VariableFactory;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class BitsetSetVarTest {
+
+    private static SetVar make(String name, int size, boolean bitset, Solver solver) {
+        SetVar s = bitset ? VariableFactory.set(name, size, solver) : VariableFactory.set(name, solver);
+        for (int i = 0; i < size; i++) {
+            s.getEnvelope().add(i);
+        }
+        return s;
+    }
+
+    private static long partition(int n, int k, boolean bitset) {
+        Solver solver = new Solver();
+        SetVar[] sets = new SetVar[k];
+        for (int i = 0; i < k; i++) {
+            sets[i] = make("s" + i, n, bitset, solver);
+        }
+        SetVar universe = make("u", n, bitset, solver);
+        for (int i = 0; i < n; i++) {
+            universe.getKernel().add(i);
+        }
+        solver.post(SetConstraintsFactory.partition(sets, universe));
+        solver.set(SetStrategyFactory.setLex(sets));
+        solver.findAllSolutions();
+        return solver.getMeasures().getSolutionCount();
+    }
+
+    private static long intersection(int n, boolean bitset) {
+        Solver solver = new Solver();
+        SetVar[] sets = new SetVar[]{make("a", n, bitset, solver), make("b", n, bitset, solver)};
+        SetVar inter = make("i", n, bitset, solver);
+        solver.post(SetConstraintsFactory.intersection(sets, inter));
+        solver.post(SetConstraintsFactory.subsetEq(new SetVar[]{inter, sets[0]}));
+        solver.set(SetStrategyFactory.setLex(new SetVar[]{sets[0], sets[1], inter}));
+        solver.findAllSolutions();
+        return solver.getMeasures().getSolutionCount();
+    }
+
+    @Test(groups = "1s")
+    public void testPartition() {
+        Assert.assertEquals(partition(5, 3, false), 243);
+        Assert.assertEquals(partition(5, 3, true), 243);
+    }
+
+    @Test(groups = "1s")
+    public void testIntersection() {
+        Assert.assertEquals(intersection(4, false), 256);
+        Assert.assertEquals(intersection(4, true), 256);
+    }
+
+    @Test(groups = "1s")
+    public void testWordLevelFiltering() throws ContradictionException {
+        Solver solver = new Solver();
+        int n = 200;
+        SetVar[] sets = new SetVar[]{make("a", n, true, solver), make("b", n, true, solver)};
+        for (int i = 10; i < 150; i++) {
+            sets[0].getKernel().add(i);
+        }
+        solver.post(SetConstraintsFactory.all_disjoint(sets));
+        solver.propagate();
+        Assert.assertEquals(sets[1].getEnvelope().getSize(), n - 140);
+        Assert.assertTrue(sets[1].getEnvelope().contain(9));
+        Assert.assertFalse(sets[1].getEnvelope().contain(64));
+        Assert.assertTrue(sets[1].getEnvelope().contain(150));
+        BitsetSetVarImpl b = (BitsetSetVarImpl) sets[1];
+        Assert.assertEquals(b.getEnvelopeWord(1), 0L);
+        Assert.assertTrue(b.removeIntervalFromEnvelope(150, 199, Cause.Null));
+        Assert.assertEquals(sets[1].getEnvelope().getSize(), 10);
+    }
+}
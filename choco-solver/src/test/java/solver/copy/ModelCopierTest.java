@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.copy;
+
+import memory.Environments;
+import memory.copy.EnvironmentCopying;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Solver;
+import solver.SolverProperties;
+import solver.constraints.IntConstraintFactory;
+import solver.constraints.nary.cnf.Literal;
+import solver.constraints.nary.cnf.Node;
+import solver.exception.SolverException;
+import solver.search.strategy.IntStrategyFactory;
+import solver.variables.BoolVar;
+import solver.variables.IntVar;
+import solver.variables.Variable;
+import solver.variables.VariableFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class ModelCopierTest {
+
+    private static Solver queens(int n) {
+        Solver solver = new Solver("queens");
+        IntVar[] vars = VariableFactory.enumeratedArray("Q", n, 1, n, solver);
+        IntVar[] diag1 = new IntVar[n];
+        IntVar[] diag2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            diag1[i] = VariableFactory.offset(vars[i], i);
+            diag2[i] = VariableFactory.offset(vars[i], -i);
+        }
+        solver.post(IntConstraintFactory.alldifferent(vars, "BC"));
+        solver.post(IntConstraintFactory.alldifferent(diag1, "BC"));
+        solver.post(IntConstraintFactory.alldifferent(diag2, "BC"));
+        return solver;
+    }
+
+    private static Solver misc() {
+        Solver solver = new Solver("misc");
+        IntVar x = VariableFactory.enumerated("x", -3, 3, solver);
+        IntVar y = VariableFactory.bounded("y", 0, 9, solver);
+        IntVar z = VariableFactory.enumerated("z", new int[]{0, 2, 4, 6, 9}, solver);
+        IntVar i = VariableFactory.enumerated("i", 0, 3, solver);
+        BoolVar b = VariableFactory.bool("b", solver);
+        solver.post(IntConstraintFactory.absolute(y, x));
+        solver.post(IntConstraintFactory.times(x, VariableFactory.minus(x), VariableFactory.minus(y)));
+        solver.post(IntConstraintFactory.scalar(new IntVar[]{y, z, b}, new int[]{1, -1, 2}, VariableFactory.fixed(1, solver)));
+        solver.post(IntConstraintFactory.element(z, new int[]{0, 2, 4, 6}, i, 0, "detect"));
+        solver.post(IntConstraintFactory.member(x, new int[]{-3, -1, 0, 1, 3}));
+        solver.post(IntConstraintFactory.not_member(y, 5, 7));
+        solver.post(IntConstraintFactory.arithm(i, "<=", VariableFactory.scale(b, 3)));
+        return solver;
+    }
+
+    private static void assertSameSolutionCount(Solver ref, Solver copy) {
+        Assert.assertEquals(copy.getVars().length, ref.getVars().length);
+        Assert.assertEquals(copy.getCstrs().length, ref.getCstrs().length);
+        ref.findAllSolutions();
+        copy.findAllSolutions();
+        Assert.assertEquals(copy.getMeasures().getSolutionCount(), ref.getMeasures().getSolutionCount());
+    }
+
+    @Test(groups = "1s")
+    public void testCopyQueens() {
+        for (int n = 4; n < 9; n++) {
+            assertSameSolutionCount(queens(n), ModelCopier.copy(queens(n)));
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testCopyMisc() {
+        Solver copy = ModelCopier.copy(misc());
+        Assert.assertEquals(copy.getName(), "misc");
+        assertSameSolutionCount(misc(), copy);
+    }
+
+    @Test(groups = "1s")
+    public void testWriteRead() throws IOException {
+        Solver[] refs = {queens(8), misc()};
+        Solver[] srcs = {queens(8), misc()};
+        for (int k = 0; k < refs.length; k++) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ModelCopier.write(srcs[k], bos);
+            Solver copy = ModelCopier.read(new ByteArrayInputStream(bos.toByteArray()));
+            Assert.assertEquals(copy.getName(), refs[k].getName());
+            assertSameSolutionCount(refs[k], copy);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testCopyIsIndependent() {
+        Solver source = queens(6);
+        Solver copy = ModelCopier.copy(source);
+        copy.findAllSolutions();
+        Assert.assertEquals(copy.getMeasures().getSolutionCount(), 4);
+        Assert.assertEquals(source.getMeasures().getSolutionCount(), 0);
+    }
+
+    private static Solver clauses() {
+        Solver solver = new Solver("clauses");
+        BoolVar[] bs = VariableFactory.boolArray("b", 3, solver);
+        solver.post(IntConstraintFactory.clauses(Node.and(
+                Node.or(Literal.pos(bs[0]), Literal.neg(bs[1]), Literal.pos(bs[2])),
+                Node.or(Literal.neg(bs[0]), Literal.pos(bs[1]))), solver));
+        return solver;
+    }
+
+    private static Solver squares() {
+        Solver solver = new Solver("squares");
+        IntVar x = VariableFactory.enumerated("x", -3, 3, solver);
+        IntVar y = VariableFactory.enumerated("y", 0, 9, solver);
+        solver.post(IntConstraintFactory.square(y, x));
+        return solver;
+    }
+
+    @Test(groups = "1s")
+    public void testCopyClauses() throws IOException {
+        Assert.assertTrue(ModelCopier.isStructural(clauses()));
+        assertSameSolutionCount(clauses(), ModelCopier.copy(clauses()));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ModelCopier.write(clauses(), bos);
+        assertSameSolutionCount(clauses(), ModelCopier.read(new ByteArrayInputStream(bos.toByteArray())));
+    }
+
+    @Test(groups = "1s")
+    public void testCopyEnvironment() throws IOException {
+        Solver source = new Solver(Environments.COPY.make(), "copying", SolverProperties.DEFAULT);
+        VariableFactory.enumeratedArray("v", 3, 0, 2, source);
+        Assert.assertTrue(ModelCopier.copy(source).getEnvironment() instanceof EnvironmentCopying);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ModelCopier.write(source, bos);
+        Solver copy = ModelCopier.read(new ByteArrayInputStream(bos.toByteArray()));
+        Assert.assertTrue(copy.getEnvironment() instanceof EnvironmentCopying);
+    }
+
+    @Test(groups = "1s", expectedExceptions = IOException.class)
+    public void testReadSerializedSolver() throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bos);
+        out.writeObject(misc());
+        out.close();
+        ModelCopier.read(new ByteArrayInputStream(bos.toByteArray()));
+    }
+
+    @Test(groups = "1s")
+    public void testUnsupported() throws IOException {
+        Assert.assertTrue(ModelCopier.isStructural(misc()));
+        Assert.assertFalse(ModelCopier.isStructural(squares()));
+        try {
+            ModelCopier.copy(squares());
+            Assert.fail();
+        } catch (SolverException ignored) {
+        }
+        try {
+            ModelCopier.copy(squares(), new Solver());
+            Assert.fail();
+        } catch (SolverException ignored) {
+        }
+        try {
+            ModelCopier.write(squares(), new ByteArrayOutputStream());
+            Assert.fail();
+        } catch (SolverException ignored) {
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testSerializeCloneKeepsSearch() {
+        Solver source = queens(6);
+        Variable[] vars = source.getVars();
+        IntVar[] qs = new IntVar[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            qs[i] = (IntVar) vars[i];
+        }
+        source.set(IntStrategyFactory.inputOrder_InDomainMax(qs));
+        Solver clone = Solver.serializeClone(source);
+        Assert.assertNotNull(clone.getSearchLoop().getStrategy());
+        clone.findSolution();
+        source.findSolution();
+        for (int i = 0; i < vars.length; i++) {
+            Assert.assertEquals(((IntVar) clone.getVars()[i]).getValue(), qs[i].getValue());
+        }
+    }
+}
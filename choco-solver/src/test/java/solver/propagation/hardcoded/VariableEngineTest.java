@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package solver.propagation.hardcoded;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Solver;
+import solver.constraints.Constraint;
+import solver.constraints.IntConstraintFactory;
+import solver.search.loop.monitors.IMonitorOpenNode;
+import solver.variables.IntVar;
+import solver.variables.VariableFactory;
+
+/**
+ * Dynamic additions and deletions of propagators in {@link VariableEngine}.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class VariableEngineTest {
+
+    @Test(groups = "1s")
+    public void testAddRemoveThenSolve() {
+        Solver solver = new Solver();
+        IntVar[] X = VariableFactory.enumeratedArray("X", 4, 0, 2, solver);
+        solver.post(IntConstraintFactory.arithm(X[0], "<", X[1]));
+        VariableEngine engine = new VariableEngine(solver);
+        solver.set(engine);
+        Constraint[] cs = new Constraint[X.length - 1];
+        for (int r = 0; r < 50; r++) {
+            for (int i = 0; i < cs.length; i++) {
+                cs[i] = IntConstraintFactory.arithm(X[i], "<=", X[i + 1]);
+                solver.post(cs[i]);
+            }
+            // the middle one first, so that the last propagator takes its place
+            solver.unpost(cs[1]);
+            solver.unpost(cs[0]);
+            solver.unpost(cs[2]);
+        }
+        Assert.assertEquals(engine.nbProp, 1);
+        // the capacity is kept for the next additions
+        Assert.assertTrue(engine.propagators.length >= 4);
+        Assert.assertEquals(X[1].getNbProps(), 1);
+        // X[0] < X[1], X[2] and X[3] free
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getMeasures().getSolutionCount(), 3 * 9);
+    }
+
+    @Test(groups = "1s")
+    public void testAddRemoveDuringSearch() {
+        final Solver solver = new Solver();
+        final IntVar[] X = VariableFactory.enumeratedArray("X", 6, 0, 1, solver);
+        final IntVar S = VariableFactory.bounded("S", 0, X.length, solver);
+        solver.post(IntConstraintFactory.sum(X, S));
+        solver.getSearchLoop().plugSearchMonitor(new IMonitorOpenNode() {
+            Constraint previous;
+
+            @Override
+            public void beforeOpenNode() {
+            }
+
+            @Override
+            public void afterOpenNode() {
+                // a cut which never removes a solution replaces the previous one, as in LNS
+                if (previous != null) {
+                    solver.unpost(previous);
+                }
+                previous = IntConstraintFactory.arithm(S, "<=", X.length);
+                solver.postCut(previous);
+            }
+        });
+        solver.set(new VariableEngine(solver));
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getMeasures().getSolutionCount(), 1 << X.length);
+        Assert.assertEquals(S.getNbProps(), 2);
+    }
+}
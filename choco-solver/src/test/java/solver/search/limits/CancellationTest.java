@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.search.limits;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Solver;
+import solver.constraints.IntConstraintFactory;
+import solver.search.loop.monitors.SearchMonitorFactory;
+import solver.search.strategy.IntStrategyFactory;
+import solver.variables.IntVar;
+import solver.variables.VariableFactory;
+import util.ESat;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class CancellationTest {
+
+    /**
+     * Pigeon hole problem, with binary difference constraints: hard to prove infeasible.
+     */
+    private static Solver pigeons(int n) {
+        Solver solver = new Solver();
+        IntVar[] p = VariableFactory.enumeratedArray("p", n, 1, n - 1, solver);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                solver.post(IntConstraintFactory.arithm(p[i], "!=", p[j]));
+            }
+        }
+        solver.set(IntStrategyFactory.inputOrder_InDomainMin(p));
+        return solver;
+    }
+
+    @Test(groups = "1s")
+    public void testCancelBeforeSolve() {
+        Solver solver = pigeons(5);
+        solver.getCancellationToken().cancel();
+        Assert.assertFalse(solver.findSolution());
+        Assert.assertEquals(solver.isFeasible(), ESat.UNDEFINED);
+        Assert.assertEquals(solver.getMeasures().getNodeCount(), 0);
+    }
+
+    @Test(groups = "1s")
+    public void testDeadline() {
+        Solver solver = pigeons(14);
+        solver.getCancellationToken().setDeadline(100);
+        long t = System.currentTimeMillis();
+        solver.findAllSolutions();
+        Assert.assertTrue(System.currentTimeMillis() - t < 1000);
+        Assert.assertEquals(solver.isFeasible(), ESat.UNDEFINED);
+    }
+
+    @Test(groups = "1s")
+    public void testCancelFromAnotherThread() throws InterruptedException {
+        final Solver solver = pigeons(14);
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                solver.findAllSolutions();
+            }
+        };
+        t.start();
+        Thread.sleep(50);
+        solver.getCancellationToken().cancel();
+        t.join(1000);
+        Assert.assertFalse(t.isAlive());
+        Assert.assertEquals(solver.isFeasible(), ESat.UNDEFINED);
+    }
+
+    @Test(groups = "1s")
+    public void testTimeLimit() {
+        Solver solver = pigeons(14);
+        SearchMonitorFactory.limitTime(solver, 100);
+        long t = System.currentTimeMillis();
+        solver.findAllSolutions();
+        Assert.assertTrue(System.currentTimeMillis() - t < 1000);
+        Assert.assertEquals(solver.isFeasible(), ESat.UNDEFINED);
+    }
+
+    @Test(groups = "1s")
+    public void testTimeLimitDuringPropagation() {
+        // x < y and y < x over large bounded domains: the initial propagation shaves the bounds one by one
+        Solver solver = new Solver();
+        IntVar x = VariableFactory.bounded("x", 0, 100000000, solver);
+        IntVar y = VariableFactory.bounded("y", 0, 100000000, solver);
+        solver.post(IntConstraintFactory.arithm(x, "<", y));
+        solver.post(IntConstraintFactory.arithm(y, "<", x));
+        SearchMonitorFactory.limitTime(solver, 100);
+        long t = System.currentTimeMillis();
+        Assert.assertFalse(solver.findSolution());
+        Assert.assertTrue(System.currentTimeMillis() - t < 1000);
+        Assert.assertEquals(solver.isFeasible(), ESat.UNDEFINED);
+    }
+}
@@ -31,10 +31,13 @@ import org.testng.annotations.Test;
 import solver.Solver;
 import solver.constraints.Constraint;
 import solver.constraints.IntConstraintFactory;
+import solver.search.limits.FailLimit;
 import solver.search.limits.NodeLimit;
+import solver.search.loop.monitors.NogoodFromRestarts;
 import solver.search.loop.monitors.SearchMonitorFactory;
 import solver.variables.IntVar;
 import solver.variables.VariableFactory;
+import util.ESat;
 
 /**
  * <br/>
@@ -88,6 +91,35 @@ public class RestartTest {
         Assert.assertEquals(solver.getMeasures().getNodeCount(), 11);
     }
 
+    @Test(groups = "1s")
+    public void testNogoodOnRestart1() {
+        for (int n = 4; n < 9; n++) {
+            Solver solver = buildQ(n);
+            SearchMonitorFactory.luby(solver, 2, 2, new FailLimit(solver, 2), 1000);
+            SearchMonitorFactory.nogoodRecordingOnRestart(solver, VariableFactory.castToIntVar(solver.getVars()));
+            Assert.assertTrue(solver.findSolution());
+            Assert.assertEquals(solver.isSatisfied(), ESat.TRUE);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testNogoodOnRestart2() {
+        // pigeon hole: 6 pigeons, 5 holes
+        Solver solver = new Solver();
+        IntVar[] vars = VariableFactory.enumeratedArray("p", 6, 1, 5, solver);
+        for (int i = 0; i < vars.length - 1; i++) {
+            for (int j = i + 1; j < vars.length; j++) {
+                solver.post(IntConstraintFactory.arithm(vars[i], "!=", vars[j]));
+            }
+        }
+        NogoodFromRestarts ngr = new NogoodFromRestarts(solver, vars);
+        solver.getSearchLoop().plugSearchMonitor(ngr);
+        SearchMonitorFactory.luby(solver, 2, 2, new FailLimit(solver, 2), 1000);
+        Assert.assertFalse(solver.findSolution());
+        Assert.assertTrue(solver.getMeasures().getRestartCount() > 0);
+        Assert.assertTrue(ngr.getNbNogoods() > 0);
+    }
+
 
     public final static int[] LUBY_2 = {1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, 1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, 16};
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package solver.search.strategy;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.Solver;
+import solver.constraints.IntConstraintFactory;
+import solver.search.strategy.strategy.AbstractStrategy;
+import solver.variables.IntVar;
+import solver.variables.VariableFactory;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class VariableSelectorTest {
+
+    private static IntVar[] queens(int n, Solver solver) {
+        IntVar[] q = VariableFactory.enumeratedArray("q", n, 1, n, solver);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                solver.post(IntConstraintFactory.arithm(q[i], "!=", q[j]));
+                solver.post(IntConstraintFactory.arithm(q[i], "!=", VariableFactory.offset(q[j], j - i)));
+                solver.post(IntConstraintFactory.arithm(q[i], "!=", VariableFactory.offset(q[j], i - j)));
+            }
+        }
+        return q;
+    }
+
+    private static long countQueens(int n, int strategy) {
+        Solver solver = new Solver();
+        IntVar[] q = queens(n, solver);
+        AbstractStrategy<IntVar> s;
+        switch (strategy) {
+            case 0:
+                s = IntStrategyFactory.inputOrder_InDomainMin(q);
+                break;
+            case 1:
+                s = IntStrategyFactory.firstFail_InDomainMin(q);
+                break;
+            default:
+                s = IntStrategyFactory.domOverWDeg_InDomainMin(q, 0);
+                break;
+        }
+        solver.set(s);
+        solver.findAllSolutions();
+        return solver.getMeasures().getSolutionCount();
+    }
+
+    @Test(groups = "1s")
+    public void testQueens() {
+        for (int n = 4; n < 9; n++) {
+            long expected = countQueens(n, 0);
+            Assert.assertEquals(countQueens(n, 1), expected);
+            Assert.assertEquals(countQueens(n, 2), expected);
+        }
+        Assert.assertEquals(countQueens(8, 1), 92);
+    }
+
+    @Test(groups = "1s")
+    public void testFirstFailOrder() {
+        Solver solver = new Solver();
+        IntVar[] x = new IntVar[]{
+                VariableFactory.enumerated("x0", 0, 5, solver),
+                VariableFactory.enumerated("x1", 0, 2, solver),
+                VariableFactory.enumerated("x2", 0, 2, solver),
+                VariableFactory.enumerated("x3", 0, 3, solver)};
+        solver.set(IntStrategyFactory.firstFail_InDomainMin(x));
+        solver.findSolution();
+        Assert.assertEquals(solver.getMeasures().getSolutionCount(), 1);
+        for (int i = 0; i < x.length; i++) {
+            Assert.assertEquals(x[i].getValue(), 0);
+        }
+    }
+}
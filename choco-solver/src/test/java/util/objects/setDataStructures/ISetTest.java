@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 1999-2012, Ecole des Mines de Nantes
+ * All rights reserved.
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of the Ecole des Mines de Nantes nor the
+ *       names of its contributors may be used to endorse or promote products
+ *       derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE REGENTS AND CONTRIBUTORS ``AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE REGENTS AND CONTRIBUTORS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package util.objects.setDataStructures;
+
+import memory.Environments;
+import memory.IEnvironment;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import solver.exception.ContradictionException;
+import util.procedure.IntProcedure;
+
+import java.util.Arrays;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/26
+ */
+public class ISetTest {
+
+    private static final int N = 150;
+
+    private static ISet[] sets() {
+        IEnvironment environment = Environments.DEFAULT.make();
+        SetType[] types = SetType.values();
+        ISet[] sets = new ISet[types.length * 2];
+        for (int i = 0; i < types.length; i++) {
+            sets[2 * i] = SetFactory.makeSet(types[i], N);
+            sets[2 * i + 1] = SetFactory.makeStoredSet(types[i], N, environment);
+        }
+        return sets;
+    }
+
+    private static int[] content(ISet set) {
+        int[] values = new int[set.getSize()];
+        int k = 0;
+        for (int i = set.getFirstElement(); i >= 0; i = set.getNextElement()) {
+            values[k++] = i;
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    @Test(groups = "1s")
+    public void testToArray() {
+        for (ISet set : sets()) {
+            for (int i = 0; i < N; i += 3) {
+                set.add(i);
+            }
+            int[] buffer = new int[N];
+            int size = set.toArray(buffer);
+            Assert.assertEquals(size, set.getSize(), set.getClass().getSimpleName());
+            int[] values = Arrays.copyOf(buffer, size);
+            Arrays.sort(values);
+            Assert.assertEquals(values, content(set), set.getClass().getSimpleName());
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testNestedForEach() throws ContradictionException {
+        for (final ISet set : sets()) {
+            for (int i = 0; i < N; i += 7) {
+                set.add(i);
+            }
+            final int[] count = new int[1];
+            set.forEach(new IntProcedure() {
+                @Override
+                public void execute(int i) throws ContradictionException {
+                    set.forEach(new IntProcedure() {
+                        @Override
+                        public void execute(int j) throws ContradictionException {
+                            count[0]++;
+                        }
+                    });
+                }
+            });
+            Assert.assertEquals(count[0], set.getSize() * set.getSize(), set.getClass().getSimpleName());
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testRemoveWithinForEach() throws ContradictionException {
+        for (final ISet set : sets()) {
+            for (int i = 0; i < N; i++) {
+                set.add(i);
+            }
+            final int[] count = new int[1];
+            set.forEach(new IntProcedure() {
+                @Override
+                public void execute(int i) throws ContradictionException {
+                    count[0]++;
+                    if (i % 2 == 0) {
+                        set.remove(i);
+                    }
+                }
+            });
+            Assert.assertEquals(count[0], N, set.getClass().getSimpleName());
+            Assert.assertEquals(set.getSize(), N / 2, set.getClass().getSimpleName());
+            for (int i = set.getFirstElement(); i >= 0; i = set.getNextElement()) {
+                Assert.assertTrue(i % 2 == 1);
+            }
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testStoredBitSet() {
+        IEnvironment environment = Environments.DEFAULT.make();
+        ISet set = SetFactory.makeStoredSet(SetType.BITSET, N, environment);
+        Assert.assertTrue(set instanceof Set_Std_BitSet, set.getClass().getSimpleName());
+        set.add(3);
+        environment.worldPush();
+        set.add(5);
+        set.remove(3);
+        environment.worldPop();
+        Assert.assertEquals(content(set), new int[]{3});
+    }
+}